@@ -0,0 +1,139 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.AstromCache;
+import be.angelcorp.sofa.AstromContext;
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.iauASTROM;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/Astrometry functions of sofa.h, with the arguments of TestSofa: the one-shot *13 functions, the star
+ * independent parameters and the quick (star dependent) functions. The quick functions are also measured through
+ * {@link AstromContext} and the one-shot iauAtco13 through {@link AstromCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AstrometryBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private static final double RC = 2.71, DC = 0.174, PR = 1e-5, PD = 5e-6, PX = 0.1, RV = 55.0;
+    private static final double UTC1 = 2456384.5, UTC2 = 0.969254051, DUT1 = 0.1550675;
+    private static final double ELONG = -0.527800806, PHI = -1.2345856, HM = 2738.0;
+    private static final double XP = 2.47230737e-7, YP = 1.82640464e-6;
+    private static final double PHPA = 731.0, TC = 12.8, RH = 0.59, WL = 0.55;
+
+    private Pointer<iauASTROM> astrom;
+    private Pointer<Double> aob, zob, hob, dob, rob, eo, ri, di, rc, dc, refa, refb;
+    private Pointer<Byte> type;
+
+    private AstromContext context;
+    private AstromCache cache;
+    private final double[] observed = new double[6];
+
+    @Setup
+    public void setup() {
+        astrom = Pointer.allocate(iauASTROM.class);
+        aob  = Pointer.allocateDouble();
+        zob  = Pointer.allocateDouble();
+        hob  = Pointer.allocateDouble();
+        dob  = Pointer.allocateDouble();
+        rob  = Pointer.allocateDouble();
+        eo   = Pointer.allocateDouble();
+        ri   = Pointer.allocateDouble();
+        di   = Pointer.allocateDouble();
+        rc   = Pointer.allocateDouble();
+        dc   = Pointer.allocateDouble();
+        refa = Pointer.allocateDouble();
+        refb = Pointer.allocateDouble();
+        type = Pointer.pointerToCString("R");
+
+        iauApco13(UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP, PHPA, TC, RH, WL, astrom, eo);
+
+        context = AstromContext.acquire();
+        context.apco13(UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP, PHPA, TC, RH, WL);
+        cache = new AstromCache(16);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        Pointer.release(astrom, aob, zob, hob, dob, rob, eo, ri, di, rc, dc, refa, refb, type);
+    }
+
+    @Benchmark
+    public int atco13() {
+        return iauAtco13(RC, DC, PR, PD, PX, RV, UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP, PHPA, TC, RH, WL,
+                aob, zob, hob, dob, rob, eo);
+    }
+
+    @Benchmark
+    public int atco13Cached() {
+        return cache.atco13(RC, DC, PR, PD, PX, RV, UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP, PHPA, TC, RH, WL, observed);
+    }
+
+    @Benchmark
+    public int atoc13() {
+        return iauAtoc13(type, 2.710085107986886201, 0.1717653435758265198, UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP,
+                PHPA, TC, RH, WL, rc, dc);
+    }
+
+    @Benchmark
+    public void atci13() {
+        iauAtci13(RC, DC, PR, PD, PX, RV, 2456165.5, 0.401182685, ri, di, eo);
+    }
+
+    @Benchmark
+    public int apco13() {
+        return iauApco13(UTC1, UTC2, DUT1, ELONG, PHI, HM, XP, YP, PHPA, TC, RH, WL, astrom, eo);
+    }
+
+    @Benchmark
+    public void apci13() {
+        iauApci13(2456165.5, 0.401182685, astrom, eo);
+    }
+
+    @Benchmark
+    public void aper13() {
+        iauAper13(UTC1, UTC2, astrom);
+    }
+
+    @Benchmark
+    public void refco() {
+        iauRefco(PHPA, TC, RH, WL, refa, refb);
+    }
+
+    @Benchmark
+    public void atciq() {
+        iauAtciq(RC, DC, PR, PD, PX, RV, astrom, ri, di);
+    }
+
+    @Benchmark
+    public void atioq() {
+        iauAtioq(2.710121572969038991, 0.1729371367218230438, astrom, aob, zob, hob, dob, rob);
+    }
+
+    @Benchmark
+    public void aticq() {
+        iauAticq(2.710121572969038991, 0.1729371367218230438, astrom, rc, dc);
+    }
+
+    @Benchmark
+    public double contextAtciqAtioq() {
+        context.atciq(RC, DC, PR, PD, PX, RV);
+        context.atioq(context.ri(), context.di());
+        return context.zob();
+    }
+
+}
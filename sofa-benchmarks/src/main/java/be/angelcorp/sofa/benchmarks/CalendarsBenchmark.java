@@ -0,0 +1,84 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.InstrumentedSofaLibrary;
+import be.angelcorp.sofa.NativeVariant;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/Calendars functions of sofa.h, with the arguments of TestSofa. iauCal2jd is also called through
+ * {@link InstrumentedSofaLibrary}, with the metrics disabled (the default) and enabled, to measure the overhead of the
+ * instrumentation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarsBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private Pointer<Double> djm0, djm, fd;
+    private Pointer<Integer> iy, im, id, iydmf;
+
+    @Setup
+    public void setup() {
+        djm0  = Pointer.allocateDouble();
+        djm   = Pointer.allocateDouble();
+        fd    = Pointer.allocateDouble();
+        iy    = Pointer.allocateInt();
+        im    = Pointer.allocateInt();
+        id    = Pointer.allocateInt();
+        iydmf = Pointer.allocateInts(4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(djm0, djm, fd, iy, im, id, iydmf);
+    }
+
+    @Benchmark
+    public int cal2jd() {
+        return iauCal2jd(2003, 6, 1, djm0, djm);
+    }
+
+    @Benchmark
+    public int cal2jdInstrumented() {
+        return InstrumentedSofaLibrary.iauCal2jd(2003, 6, 1, djm0, djm);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsPrepend = "-Dsofa.metrics=true")
+    public int cal2jdInstrumentedEnabled() {
+        return InstrumentedSofaLibrary.iauCal2jd(2003, 6, 1, djm0, djm);
+    }
+
+    @Benchmark
+    public int jd2cal() {
+        return iauJd2cal(2400000.5, 50123.9999, iy, im, id, fd);
+    }
+
+    @Benchmark
+    public int jdcalf() {
+        return iauJdcalf(4, 2400000.5, 50123.4, iydmf);
+    }
+
+    @Benchmark
+    public double epb() {
+        return iauEpb(2415019.8135, 30103.18648);
+    }
+
+    @Benchmark
+    public void epj2jd() {
+        iauEpj2jd(1996.8, djm0, djm);
+    }
+
+}
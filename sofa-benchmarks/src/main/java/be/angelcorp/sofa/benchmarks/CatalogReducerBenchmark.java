@@ -0,0 +1,96 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.AstromContext;
+import be.angelcorp.sofa.CatalogReducer;
+import be.angelcorp.sofa.SofaArrays;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ICRS to observed reduction of a catalog of {@value #STARS} stars with {@link CatalogReducer}, for several pool sizes,
+ * against one {@link AstromContext} call pair (atciq and atioq) per star.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CatalogReducerBenchmark {
+
+    private static final int STARS = 100000;
+
+    /** Pool and reducer, only for the reducer benchmark */
+    @State(Scope.Thread)
+    public static class Reducer {
+
+        @Param({ "1", "2", "4", "8" })
+        public int parallelism;
+
+        private ForkJoinPool pool;
+        private CatalogReducer reducer;
+
+        @Setup
+        public void setup(CatalogReducerBenchmark benchmark) {
+            pool    = new ForkJoinPool(parallelism);
+            reducer = new CatalogReducer(benchmark.astrom, 0, pool, CatalogReducer.CHUNK);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+    }
+
+    private final double[] rc = new double[STARS], dc = new double[STARS], pr = new double[STARS];
+    private final double[] pd = new double[STARS], px = new double[STARS], rv = new double[STARS];
+    private final double[] aob = new double[STARS], zob = new double[STARS];
+
+    private final double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+    private AstromContext context;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < STARS; i++) {
+            rc[i] = 2 * Math.PI * random.nextDouble();
+            dc[i] = Math.asin(2 * random.nextDouble() - 1);
+            pr[i] = 1e-5 * random.nextGaussian();
+            pd[i] = 1e-5 * random.nextGaussian();
+            px[i] = 0.1 * random.nextDouble();
+            rv[i] = 50.0 * random.nextGaussian();
+        }
+        SofaArrays.iauApco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, astrom, new double[1]);
+
+        context = AstromContext.acquire();
+        context.set(astrom, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public double[] reducer(Reducer state) {
+        state.reducer.atcoq(rc, dc, pr, pd, px, rv, aob, zob, null, null, null);
+        return zob;
+    }
+
+    @Benchmark
+    public double[] perStar() {
+        for (int i = 0; i < STARS; i++) {
+            context.atciq(rc[i], dc[i], pr[i], pd[i], px[i], rv[i]);
+            context.atioq(context.ri(), context.di());
+            aob[i] = context.aob();
+            zob[i] = context.zob();
+        }
+        return zob;
+    }
+
+}
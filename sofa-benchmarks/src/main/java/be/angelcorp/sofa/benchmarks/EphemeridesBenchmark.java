@@ -0,0 +1,106 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.EarthEphemeris;
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.PlanetEphemeris;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/Ephemerides functions of sofa.h, with the arguments of TestSofa. iauEpv00 is also measured through the
+ * Chebyshev fit of {@link EarthEphemeris}, and iauPlan94 for all planets at once (per epoch, and for a year of
+ * hourly epochs) through {@link PlanetEphemeris}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EphemeridesBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private Pointer<Double> pvh, pvb, pv;
+
+    private EarthEphemeris earth;
+    private final double[] arrayPvh = new double[6];
+    private final double[] arrayPvb = new double[6];
+
+    private final double[] planets = new double[PlanetEphemeris.PV];
+    private final double[] hours = new double[24 * 365];
+    private final double[] planetsHourly = new double[PlanetEphemeris.PV * hours.length];
+
+    @Setup
+    public void setup() {
+        pvh = Pointer.allocateDoubles(6);
+        pvb = Pointer.allocateDoubles(6);
+        pv  = Pointer.allocateDoubles(6);
+        earth = EarthEphemeris.fit(2400000.5 + 53400.0, 2400000.5 + 53420.0, 8.0, 13);
+        for (int i = 0; i < hours.length; i++)
+            hours[i] = 53400.0 + i / 24.0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(pvh, pvb, pv);
+    }
+
+    @Benchmark
+    public int epv00() {
+        return iauEpv00(2400000.5, 53411.52501161, pvh, pvb);
+    }
+
+    @Benchmark
+    public double[] epv00Chebyshev() {
+        earth.pv(2400000.5, 53411.52501161, arrayPvh, arrayPvb);
+        return arrayPvb;
+    }
+
+    @Benchmark
+    public int plan94(Planet planet) {
+        return iauPlan94(2400000.5, 43999.9, planet.np, pv);
+    }
+
+    @State(Scope.Thread)
+    public static class Planet {
+        /** Planet number of iauPlan94 (1 = Mercury ... 8 = Neptune) */
+        @Param({ "1", "8" })
+        public int np;
+    }
+
+    @Benchmark
+    public int plan94AllPlanets() {
+        int j = 0;
+        for (int np = 1; np <= PlanetEphemeris.PLANETS; np++)
+            j |= iauPlan94(2400000.5, 43999.9, np, pv);
+        return j;
+    }
+
+    @Benchmark
+    public double[] plan94AllPlanetsJava() {
+        PlanetEphemeris.pv(2400000.5, 43999.9, planets);
+        return planets;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double[] plan94YearJava() {
+        PlanetEphemeris.pv(2400000.5, hours, planetsHourly, null);
+        return planetsHourly;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double[] plan94YearJavaParallel() {
+        PlanetEphemeris.pvParallel(2400000.5, hours, planetsHourly, null);
+        return planetsHourly;
+    }
+
+}
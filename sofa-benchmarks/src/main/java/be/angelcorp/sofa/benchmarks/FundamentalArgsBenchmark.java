@@ -0,0 +1,68 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/FundamentalArgs functions of sofa.h. These are a few floating point operations each, so the results show
+ * the cost of a native call through BridJ.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FundamentalArgsBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    public double t = 0.80;
+
+    @Benchmark
+    public double fal03() {
+        return iauFal03(t);
+    }
+
+    @Benchmark
+    public double falp03() {
+        return iauFalp03(t);
+    }
+
+    @Benchmark
+    public double faf03() {
+        return iauFaf03(t);
+    }
+
+    @Benchmark
+    public double fad03() {
+        return iauFad03(t);
+    }
+
+    @Benchmark
+    public double faom03() {
+        return iauFaom03(t);
+    }
+
+    @Benchmark
+    public double fapa03() {
+        return iauFapa03(t);
+    }
+
+    @Benchmark
+    public double fame03() {
+        return iauFame03(t);
+    }
+
+    @Benchmark
+    public double fane03() {
+        return iauFane03(t);
+    }
+
+}
@@ -0,0 +1,134 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.BulkLibrary;
+import be.angelcorp.sofa.Geodetic;
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.SofaArrays;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/GeodeticGeocentric functions of sofa.h, with the arguments of TestSofa, and the conversion of
+ * {@link #POSITIONS} positions one by one, in bulk and in Java.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeodeticBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    /** Number of positions converted by the batch benchmarks */
+    public static final int POSITIONS = 1000;
+
+    private Pointer<Double> xyz, out, elong, phi, height, a, f, pv;
+
+    private double[] px, py, pz, pxyz, pelong, pphi, pheight;
+    private int[] status;
+
+    @Setup
+    public void setup() {
+        xyz    = Pointer.pointerToDoubles(2e6, 3e6, 5.244e6);
+        out    = Pointer.allocateDoubles(3);
+        elong  = Pointer.allocateDouble();
+        phi    = Pointer.allocateDouble();
+        height = Pointer.allocateDouble();
+        a      = Pointer.allocateDouble();
+        f      = Pointer.allocateDouble();
+        pv     = Pointer.allocateDoubles(6);
+
+        px = new double[POSITIONS];
+        py = new double[POSITIONS];
+        pz = new double[POSITIONS];
+        pxyz    = new double[3 * POSITIONS];
+        pelong  = new double[POSITIONS];
+        pphi    = new double[POSITIONS];
+        pheight = new double[POSITIONS];
+        status  = new int[POSITIONS];
+        for (int i = 0; i < POSITIONS; i++) {
+            double lat = Math.asin(2.0 * i / POSITIONS - 1.0);
+            px[i] = 6.4e6 * Math.cos(lat) * Math.cos(i);
+            py[i] = 6.4e6 * Math.cos(lat) * Math.sin(i);
+            pz[i] = 6.4e6 * Math.sin(lat);
+            pxyz[3 * i]     = px[i];
+            pxyz[3 * i + 1] = py[i];
+            pxyz[3 * i + 2] = pz[i];
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(xyz, out, elong, phi, height, a, f, pv);
+    }
+
+    @Benchmark
+    public int eform() {
+        return iauEform(1, a, f);
+    }
+
+    @Benchmark
+    public int gc2gd() {
+        return iauGc2gd(1, xyz, elong, phi, height);
+    }
+
+    @Benchmark
+    public int gc2gdPositions() {
+        double[] e = new double[1], p = new double[1], h = new double[1];
+        int bad = 0;
+        for (int i = 0; i < POSITIONS; i++) {
+            bad += SofaArrays.iauGc2gd(1, pxyz, 3 * i, e, 0, p, 0, h, 0);
+            pheight[i] = h[0];
+        }
+        return bad;
+    }
+
+    @Benchmark
+    public int gc2gdPositionsBulk() {
+        return BulkLibrary.bulkGc2gd(1, pxyz, pelong, pphi, pheight, status);
+    }
+
+    @Benchmark
+    public int gc2gdPositionsJava() {
+        return Geodetic.gc2gd(1, px, py, pz, pelong, pphi, pheight);
+    }
+
+    @Benchmark
+    public int gc2gdPositionsJavaInterleaved() {
+        return Geodetic.gc2gd(1, pxyz, pelong, pphi, pheight);
+    }
+
+    @Benchmark
+    public int gc2gde() {
+        return iauGc2gde(6378136.0, 0.0033528, xyz, elong, phi, height);
+    }
+
+    @Benchmark
+    public int gd2gc() {
+        return iauGd2gc(1, 3.1, -0.5, 2500.0, out);
+    }
+
+    @Benchmark
+    public int gd2gcPositionsBulk() {
+        return BulkLibrary.bulkGd2gc(1, pelong, pphi, pheight, pxyz, status);
+    }
+
+    @Benchmark
+    public int gd2gcPositionsJava() {
+        return Geodetic.gd2gc(1, pelong, pphi, pheight, px, py, pz);
+    }
+
+    @Benchmark
+    public void pvtob() {
+        iauPvtob(2.0, 0.5, 3000.0, 1e-6, -0.5e-6, 1e-8, 5.0, pv);
+    }
+
+}
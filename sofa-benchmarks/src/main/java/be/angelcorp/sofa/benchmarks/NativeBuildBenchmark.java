@@ -0,0 +1,91 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.SofaLibrary;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of a few heavy native routines (iauPnm06a, iauEpv00 and iauAtco13), to compare builds of the native
+ * library (Debug, Release, the x86-64-v3 variant).
+ *
+ * The library that is measured is the one on the classpath (a Debug or a Release build of sofa-platform, or a directory
+ * with lib/linux_x64/libsofa.so in front of it), and the variant can be forced with -Dsofa.native.variant=baseline or
+ * -Dsofa.native.variant=x86-64-v3 (see {@link NativeVariant}). Run with:
+ * <pre>
+ * mvn -pl sofa-benchmarks compile exec:exec -Dbenchmarks.include=NativeBuildBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NativeBuildBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    public double date1 = 2400000.5;
+    public double date2 = 50123.9999;
+
+    private Pointer<Double> rnpb, pvh, pvb;
+    private Pointer<Double> aob, zob, hob, dob, rob, eo;
+
+    @Setup
+    public void setup() {
+        rnpb = Pointer.allocateDoubles(9);
+        pvh  = Pointer.allocateDoubles(6);
+        pvb  = Pointer.allocateDoubles(6);
+        aob  = Pointer.allocateDouble();
+        zob  = Pointer.allocateDouble();
+        hob  = Pointer.allocateDouble();
+        dob  = Pointer.allocateDouble();
+        rob  = Pointer.allocateDouble();
+        eo   = Pointer.allocateDouble();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(rnpb, pvh, pvb, aob, zob, hob, dob, rob, eo);
+    }
+
+    @Benchmark
+    public Pointer<Double> pnm06a() {
+        SofaLibrary.iauPnm06a(date1, date2, rnpb);
+        return rnpb;
+    }
+
+    @Benchmark
+    public int epv00() {
+        return SofaLibrary.iauEpv00(date1, date2, pvh, pvb);
+    }
+
+    @Benchmark
+    public int atco13() {
+        // Reference values of TestSofa.t_atco13
+        return SofaLibrary.iauAtco13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0,
+                2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55,
+                aob, zob, hob, dob, rob, eo);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        // Pass the variant selection on to the forked benchmark jvm
+        String variant = System.getProperty(NativeVariant.PROPERTY, "auto");
+        Options options = new OptionsBuilder()
+                .include(NativeBuildBenchmark.class.getSimpleName())
+                .jvmArgsAppend("-D" + NativeVariant.PROPERTY + "=" + variant)
+                .build();
+        new Runner(options).run();
+    }
+
+}
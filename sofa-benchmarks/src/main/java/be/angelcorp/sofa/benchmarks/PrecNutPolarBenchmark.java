@@ -0,0 +1,164 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.CipTable;
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.Nutation2000A;
+import be.angelcorp.sofa.PnMatrixCache;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/PrecNutPolar functions of sofa.h, with the arguments of TestSofa: the nutation series, the full
+ * precession-nutation matrices of each model, the CIP and CIO locator, and the celestial to terrestrial matrix. The
+ * IAU 2000A nutation is also measured in pure Java ({@link Nutation2000A}), and X, Y, s and the celestial to
+ * intermediate matrix through the interpolation tables of {@link CipTable}. The matrices are also read from a
+ * {@link PnMatrixCache}, for the same epoch and interpolated between hourly nodes for an epoch advancing by a second
+ * per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrecNutPolarBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    public double date1 = 2400000.5;
+    public double date2 = 53736.0;
+
+    private Pointer<Double> dpsi, deps, x, y, s, rnpb, rc2i, rc2t;
+    private final double[] dpsiDeps = new double[2];
+
+    private CipTable cip;
+    private final double[] xys = new double[3];
+    private final double[] arrayRc2i = new double[9];
+
+    private PnMatrixCache pnm06aCache, c2i06aCache;
+    private final double[] arrayRnpb = new double[9];
+    private double seconds;
+
+    @Setup
+    public void setup() {
+        dpsi = Pointer.allocateDouble();
+        deps = Pointer.allocateDouble();
+        x    = Pointer.allocateDouble();
+        y    = Pointer.allocateDouble();
+        s    = Pointer.allocateDouble();
+        rnpb = Pointer.allocateDoubles(9);
+        rc2i = Pointer.allocateDoubles(9);
+        rc2t = Pointer.allocateDoubles(9);
+        cip  = CipTable.standard();
+        pnm06aCache = new PnMatrixCache(PnMatrixCache.Model.IAU_2006_2000A, 16);
+        c2i06aCache = new PnMatrixCache(PnMatrixCache.Model.C2I_2006_2000A, 64, 3600.0, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(dpsi, deps, x, y, s, rnpb, rc2i, rc2t);
+    }
+
+    @Benchmark
+    public void nut80() {
+        iauNut80(date1, date2, dpsi, deps);
+    }
+
+    @Benchmark
+    public void nut00b() {
+        iauNut00b(date1, date2, dpsi, deps);
+    }
+
+    @Benchmark
+    public void nut00a() {
+        iauNut00a(date1, date2, dpsi, deps);
+    }
+
+    @Benchmark
+    public double[] nut00aJava() {
+        Nutation2000A.nutation(date1, date2, dpsiDeps);
+        return dpsiDeps;
+    }
+
+    @Benchmark
+    public void nut06a() {
+        iauNut06a(date1, date2, dpsi, deps);
+    }
+
+    @Benchmark
+    public void pnm80() {
+        iauPnm80(date1, date2, rnpb);
+    }
+
+    @Benchmark
+    public void pnm00b() {
+        iauPnm00b(date1, date2, rnpb);
+    }
+
+    @Benchmark
+    public void pnm00a() {
+        iauPnm00a(date1, date2, rnpb);
+    }
+
+    @Benchmark
+    public void pnm06a() {
+        iauPnm06a(date1, date2, rnpb);
+    }
+
+    @Benchmark
+    public void xy06() {
+        iauXy06(date1, date2, x, y);
+    }
+
+    @Benchmark
+    public double s06() {
+        return iauS06(date1, date2, 0.5791308486706011000e-3, 0.4020579816732961219e-4);
+    }
+
+    @Benchmark
+    public void xys06a() {
+        iauXys06a(date1, date2, x, y, s);
+    }
+
+    @Benchmark
+    public double[] xys06Table() {
+        cip.xys(date1, date2, xys);
+        return xys;
+    }
+
+    @Benchmark
+    public void c2i06a() {
+        iauC2i06a(date1, date2, rc2i);
+    }
+
+    @Benchmark
+    public double[] c2i06Table() {
+        cip.c2i(date1, date2, arrayRc2i);
+        return arrayRc2i;
+    }
+
+    @Benchmark
+    public double[] pnm06aCached() {
+        pnm06aCache.matrix(date1, date2, arrayRnpb);
+        return arrayRnpb;
+    }
+
+    @Benchmark
+    public double[] c2i06aInterpolated() {
+        seconds = (seconds + 1.0) % 864000.0;
+        c2i06aCache.matrix(date1, date2 + seconds / 86400.0, arrayRc2i);
+        return arrayRc2i;
+    }
+
+    @Benchmark
+    public void c2t06a() {
+        iauC2t06a(date1, date2, date1, date2, 2.55060238e-7, 1.860359247e-6, rc2t);
+    }
+
+}
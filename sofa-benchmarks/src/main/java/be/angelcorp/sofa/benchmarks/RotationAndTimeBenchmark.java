@@ -0,0 +1,106 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.SiderealTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/RotationAndTime functions of sofa.h (Earth rotation angle, sidereal time and equation of the equinoxes),
+ * with the arguments of TestSofa, and {@link SiderealTime} over a day of UT1 minutes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationAndTimeBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    public double uta = 2400000.5;
+    public double utb = 53736.0;
+    public double tta = 2400000.5;
+    public double ttb = 53736.0;
+
+    private final double[] minutes = new double[1440];
+    private SiderealTime exact, hourly;
+
+    @Setup
+    public void setup() {
+        exact  = new SiderealTime(SiderealTime.Model.IAU_2006_2000A, 64, 0.0);
+        hourly = new SiderealTime(SiderealTime.Model.IAU_2006_2000A, 64, 3600.0);
+    }
+
+    @Benchmark
+    public double era00() {
+        return iauEra00(uta, utb);
+    }
+
+    @Benchmark
+    public double gmst82() {
+        return iauGmst82(uta, utb);
+    }
+
+    @Benchmark
+    public double gmst06() {
+        return iauGmst06(uta, utb, tta, ttb);
+    }
+
+    @Benchmark
+    public double gst94() {
+        return iauGst94(uta, utb);
+    }
+
+    @Benchmark
+    public double gst00b() {
+        return iauGst00b(uta, utb);
+    }
+
+    @Benchmark
+    public double gst06a() {
+        return iauGst06a(uta, utb, tta, ttb);
+    }
+
+    @Benchmark
+    public double eraJava() {
+        return SiderealTime.era(uta, utb);
+    }
+
+    @Benchmark
+    public double gst06aCached() {
+        return exact.gst(uta, utb, tta, ttb);
+    }
+
+    @Benchmark
+    public double[] gst06aDay() {
+        for (int i = 0; i < minutes.length; i++) {
+            double ut = utb + i / 1440.0;
+            minutes[i] = iauGst06a(uta, ut, tta, ut + 65.0 / 86400.0);
+        }
+        return minutes;
+    }
+
+    @Benchmark
+    public double[] gst06aDayInterpolated() {
+        hourly.gst(uta, utb, 1.0 / 1440.0, 65.0, minutes);
+        return minutes;
+    }
+
+    @Benchmark
+    public double ee06a() {
+        return iauEe06a(tta, ttb);
+    }
+
+    @Benchmark
+    public double eect00() {
+        return iauEect00(tta, ttb);
+    }
+
+}
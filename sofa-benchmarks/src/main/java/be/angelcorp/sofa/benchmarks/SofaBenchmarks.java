@@ -0,0 +1,46 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module, one class per function group of sofa.h, with the JMH gc profiler (allocation
+ * rate, gc.alloc.rate.norm is the number of bytes allocated per call) and writes the results as JSON.<br>
+ * <br>
+ * Arguments: regular expressions of the benchmarks to run (all by default). The JSON file is given by the system
+ * property benchmarks.result (jmh-result.json by default), and the native library variant is passed on to the forked
+ * jvms (see {@link NativeVariant}). From maven:
+ * <pre>
+ * mvn -pl sofa-benchmarks compile exec:exec -Dbenchmarks.include=PrecNutPolar
+ * </pre>
+ * Two result files can be compared with any JMH result viewer, or with the json tool of your choice, to find
+ * regressions between builds of the bindings or of the native library.
+ */
+public final class SofaBenchmarks {
+
+    private SofaBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String result  = System.getProperty("benchmarks.result", "jmh-result.json");
+        String variant = System.getProperty(NativeVariant.PROPERTY, "auto");
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .jvmArgsAppend("-D" + NativeVariant.PROPERTY + "=" + variant);
+        if (args.length == 0)
+            options.include(SofaBenchmarks.class.getPackage().getName() + ".*");
+        for (String include : args)
+            options.include(include);
+
+        new Runner(options.build()).run();
+    }
+
+}
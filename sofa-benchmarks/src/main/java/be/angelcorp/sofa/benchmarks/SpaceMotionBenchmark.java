@@ -0,0 +1,61 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/SpaceMotion functions of sofa.h, with the arguments of TestSofa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpaceMotionBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private Pointer<Double> pv, ra, dec, pmr, pmd, px, rv;
+
+    @Setup
+    public void setup() {
+        pv  = Pointer.pointerToDoubles(126668.5912743160601, 2136.792716839935195, -245251.2339876830091,
+                -0.4051854035740712739e-2, -0.6253919754866173866e-2, 0.1189353719774107189e-1);
+        ra  = Pointer.allocateDouble();
+        dec = Pointer.allocateDouble();
+        pmr = Pointer.allocateDouble();
+        pmd = Pointer.allocateDouble();
+        px  = Pointer.allocateDouble();
+        rv  = Pointer.allocateDouble();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(pv, ra, dec, pmr, pmd, px, rv);
+    }
+
+    @Benchmark
+    public int pvstar() {
+        return iauPvstar(pv, ra, dec, pmr, pmd, px, rv);
+    }
+
+    @Benchmark
+    public int starpv() {
+        return iauStarpv(0.01686756, -1.093989828, -1.78323516e-5, 2.336024047e-6, 0.74723, -21.6, pv);
+    }
+
+    @Benchmark
+    public int pmsafe() {
+        return iauPmsafe(1.234, 0.789, 1e-5, -2e-5, 1e-2, 10.0, 2400000.5, 48348.5625, 2400000.5, 51544.5,
+                ra, dec, pmr, pmd, px, rv);
+    }
+
+}
@@ -0,0 +1,64 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/StarCatalogs functions of sofa.h, with the arguments of TestSofa.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StarCatalogsBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private Pointer<Double> r, d, dr, dd, px, rv;
+
+    @Setup
+    public void setup() {
+        r  = Pointer.allocateDouble();
+        d  = Pointer.allocateDouble();
+        dr = Pointer.allocateDouble();
+        dd = Pointer.allocateDouble();
+        px = Pointer.allocateDouble();
+        rv = Pointer.allocateDouble();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(r, d, dr, dd, px, rv);
+    }
+
+    @Benchmark
+    public void fk52h() {
+        iauFk52h(1.76779433, -0.2917517103, -1.91851572e-7, -5.8468475e-6, 0.379210, -7.6, r, d, dr, dd, px, rv);
+    }
+
+    @Benchmark
+    public void h2fk5() {
+        iauH2fk5(1.767794352, -0.2917512594, -2.76413026e-6, -5.92994449e-6, 0.379210, -7.6, r, d, dr, dd, px, rv);
+    }
+
+    @Benchmark
+    public void fk5hz() {
+        iauFk5hz(1.76779433, -0.2917517103, 2400000.5, 54479.0, r, d);
+    }
+
+    @Benchmark
+    public int starpm() {
+        return iauStarpm(0.01686756, -1.093989828, -1.78323516e-5, 2.336024047e-6, 0.74723, -21.6,
+                2400000.5, 50083.0, 2400000.5, 53736.0, r, d, dr, dd, px, rv);
+    }
+
+}
@@ -0,0 +1,210 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.BulkLibrary;
+import be.angelcorp.sofa.Dtdb;
+import be.angelcorp.sofa.JulianDate;
+import be.angelcorp.sofa.LeapSeconds;
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.SofaBuffer;
+import be.angelcorp.sofa.TimeScale;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * Astronomy/Timescales functions of sofa.h, with the arguments of TestSofa. Delta(AT) is also measured with the
+ * constant time lookup of {@link LeapSeconds}, and the UTC to TDB chain with {@link TimeScale}. The fused bulk UTC
+ * to TDB conversion of {@link BulkLibrary} is compared with the SOFA chain over a day of epochs, one per minute.
+ * TDB-TT is also measured in Java with the truncation levels of {@link Dtdb}, per epoch and over that day. Bulk UTC
+ * to TAI over the day compares the array variant (copied through native scratch memory) with the dates kept in a
+ * {@link SofaBuffer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimescalesBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private Pointer<Double> d1, d2, deltat;
+    private Pointer<Integer> iy, im, id, ihmsf;
+    private Pointer<Byte> utc;
+    private final double[] deltatArray = new double[1];
+    private double utc1 = 2453750.5, utc2 = 0.892100694;
+    private final double[] minutes1 = new double[1440], minutes2 = new double[1440];
+    private final double[] tdb1 = new double[1440], tdb2 = new double[1440];
+    private final int[] status = new int[1440];
+    private final double[] dtdbMinutes = new double[1440];
+    private SofaBuffer arena;
+    private SofaBuffer.Dates arenaUtc, arenaTai;
+    private SofaBuffer.Ints arenaStatus;
+
+    @Setup
+    public void setup() {
+        d1     = Pointer.allocateDouble();
+        d2     = Pointer.allocateDouble();
+        deltat = Pointer.allocateDouble();
+        iy     = Pointer.allocateInt();
+        im     = Pointer.allocateInt();
+        id     = Pointer.allocateInt();
+        ihmsf  = Pointer.allocateInts(4);
+        utc    = Pointer.pointerToCString("UTC");
+        for (int i = 0; i < minutes1.length; i++) {
+            minutes1[i] = 2453750.5;
+            minutes2[i] = i / 1440.0;
+        }
+        arena       = new SofaBuffer(2 * SofaBuffer.datesBytes(1440) + SofaBuffer.intsBytes(1440));
+        arenaUtc    = arena.dates(1440);
+        arenaTai    = arena.dates(1440);
+        arenaStatus = arena.ints(1440);
+        arenaUtc.date1().put(minutes1);
+        arenaUtc.date2().put(minutes2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(d1, d2, deltat, iy, im, id, ihmsf, utc);
+        arena.close();
+    }
+
+    @Benchmark
+    public int dat() {
+        return iauDat(2003, 6, 1, 0.0, deltat);
+    }
+
+    @Benchmark
+    public int datJava() {
+        return LeapSeconds.dat(2003, 6, 1, 0.0, deltatArray);
+    }
+
+    @Benchmark
+    public double dtdb() {
+        return iauDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0);
+    }
+
+    @Benchmark
+    public double dtdbFast() {
+        return BulkLibrary.fastDtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0, 1e-6);
+    }
+
+    @Benchmark
+    public double dtdbJava(DtdbLevel level) {
+        return level.series.dtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public double[] dtdbDayJava(DtdbLevel level) {
+        level.series.dtdb(2453750.5, minutes2, minutes2, 5.0123, 5525.242, 3190.0, dtdbMinutes);
+        return dtdbMinutes;
+    }
+
+    @State(Scope.Benchmark)
+    public static class DtdbLevel {
+        @Param({ "FULL", "NANOSECONDS_10", "MICROSECOND" })
+        public String level;
+        Dtdb series;
+
+        @Setup
+        public void setup() {
+            series = level.equals("FULL") ? Dtdb.FULL : level.equals("MICROSECOND") ? Dtdb.MICROSECOND : Dtdb.NANOSECONDS_10;
+        }
+    }
+
+    @Benchmark
+    public int d2dtf() {
+        return iauD2dtf(utc, 5, 2400000.5, 49533.99999, iy, im, id, ihmsf);
+    }
+
+    @Benchmark
+    public int dtf2d() {
+        return iauDtf2d(utc, 1994, 6, 30, 23, 59, 60.13599, d1, d2);
+    }
+
+    @Benchmark
+    public int taitt() {
+        return iauTaitt(2453750.5, 0.892482639, d1, d2);
+    }
+
+    @Benchmark
+    public int tttdb() {
+        return iauTttdb(2453750.5, 0.892855139, -0.000201, d1, d2);
+    }
+
+    @Benchmark
+    public int utctai() {
+        return iauUtctai(2453750.5, 0.892100694, d1, d2);
+    }
+
+    @Benchmark
+    public int utcut1() {
+        return iauUtcut1(2453750.5, 0.892100694, 0.3341, d1, d2);
+    }
+
+    @Benchmark
+    public double utctt() {
+        iauUtctai(utc1, utc2, d1, d2);
+        iauTaitt(d1.get(), d2.get(), d1, d2);
+        return d2.get();
+    }
+
+    @Benchmark
+    public double utcttJava() {
+        return TimeScale.UTC.convert(JulianDate.of(utc1, utc2), TimeScale.TT).jd2();
+    }
+
+    @Benchmark
+    public double utctdb() {
+        iauUtctai(utc1, utc2, d1, d2);
+        iauTaitt(d1.get(), d2.get(), d1, d2);
+        double dtr = iauDtdb(d1.get(), d2.get(), 0.0, 0.0, 0.0, 0.0);
+        iauTttdb(d1.get(), d2.get(), dtr, d1, d2);
+        return d2.get();
+    }
+
+    @Benchmark
+    public double utctdbJava() {
+        return TimeScale.UTC.convert(JulianDate.of(utc1, utc2), TimeScale.TDB).jd2();
+    }
+
+    @Benchmark
+    public double utctdbDay() {
+        for (int i = 0; i < minutes1.length; i++) {
+            iauUtctai(minutes1[i], minutes2[i], d1, d2);
+            iauTaitt(d1.get(), d2.get(), d1, d2);
+            double dtr = iauDtdb(d1.get(), d2.get(), 0.0, 0.0, 0.0, 0.0);
+            iauTttdb(d1.get(), d2.get(), dtr, d1, d2);
+            tdb2[i] = d2.get();
+        }
+        return tdb2[0];
+    }
+
+    @Benchmark
+    public int utctdbDayBulk() {
+        return BulkLibrary.bulkUtctdb(minutes1, minutes2, 0.0, 0.0, 0.0, 0.0, tdb1, tdb2, status);
+    }
+
+    @Benchmark
+    public int utctdbDayBulkFast() {
+        return BulkLibrary.bulkUtctdb(minutes1, minutes2, 0.0, 0.0, 0.0, 1e-6, tdb1, tdb2, status);
+    }
+
+    @Benchmark
+    public int utctaiDayBulk() {
+        return BulkLibrary.bulkUtctai(minutes1, minutes2, tdb1, tdb2, status);
+    }
+
+    @Benchmark
+    public int utctaiDayBuffer() {
+        return BulkLibrary.bulkUtctai(arenaUtc, arenaTai, arenaStatus);
+    }
+
+}
@@ -0,0 +1,151 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.NativeVariant;
+import be.angelcorp.sofa.SofaArrays;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static be.angelcorp.sofa.SofaLibrary.*;
+
+/**
+ * VectorMatrix functions of sofa.h (angle operations, rotations, products, spherical/cartesian conversions and vector
+ * operations), with the arguments of TestSofa. These do very little work, so the results mostly show the cost of the
+ * native call. iauRxp is also measured with the primitive-array overloads of {@link SofaArrays}, see
+ * {@link VmlBenchmark} for the same functions in pure Java.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorMatrixBenchmark {
+
+    static {
+        NativeVariant.select();
+    }
+
+    private static final double[] R = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+    private static final double[] P = { 0.2, 1.5, 0.1 };
+
+    private Pointer<Double> r, r2, rr, p, p2, pp, pv, upv, w, theta, phi, mod;
+    private Pointer<Integer> idmsf;
+    private Pointer<Byte> sign;
+
+    private final double[] arrayR  = R.clone();
+    private final double[] arrayP  = P.clone();
+    private final double[] arrayRp = new double[3];
+
+    @Setup
+    public void setup() {
+        r     = Pointer.pointerToDoubles(R);
+        r2    = Pointer.pointerToDoubles(R);
+        rr    = Pointer.allocateDoubles(9);
+        p     = Pointer.pointerToDoubles(P);
+        p2    = Pointer.pointerToDoubles(0.9, 1.2, -0.3);
+        pp    = Pointer.allocateDoubles(3);
+        pv    = Pointer.pointerToDoubles(126668.5912743160734, 2136.792716839935565, -245251.2339876830229,
+                -0.4051854035740713039e-2, -0.6253919754866175788e-2, 0.1189353719774107615e-1);
+        upv   = Pointer.allocateDoubles(6);
+        w     = Pointer.allocateDoubles(3);
+        theta = Pointer.allocateDouble();
+        phi   = Pointer.allocateDouble();
+        mod   = Pointer.allocateDouble();
+        idmsf = Pointer.allocateInts(4);
+        sign  = Pointer.allocateBytes(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(r, r2, rr, p, p2, pp, pv, upv, w, theta, phi, mod, idmsf, sign);
+    }
+
+    @Benchmark
+    public double anp() {
+        return iauAnp(-0.1);
+    }
+
+    @Benchmark
+    public void a2af() {
+        iauA2af(4, 2.345, sign, idmsf);
+    }
+
+    @Benchmark
+    public void rx() {
+        iauRx(0.3456789, rr);
+    }
+
+    @Benchmark
+    public void rxr() {
+        iauRxr(r, r2, rr);
+    }
+
+    @Benchmark
+    public void rz() {
+        iauRz(0.3456789, rr);
+    }
+
+    @Benchmark
+    public void tr() {
+        iauTr(r, rr);
+    }
+
+    @Benchmark
+    public void rxp() {
+        iauRxp(r, p, pp);
+    }
+
+    @Benchmark
+    public double[] rxpArrays() {
+        SofaArrays.iauRxp(arrayR, arrayP, arrayRp);
+        return arrayRp;
+    }
+
+    @Benchmark
+    public void trxp() {
+        iauTrxp(r, p, pp);
+    }
+
+    @Benchmark
+    public void rm2v() {
+        iauRm2v(r, w);
+    }
+
+    @Benchmark
+    public double seps() {
+        return iauSeps(1.0, 0.1, 0.2, -3.0);
+    }
+
+    @Benchmark
+    public void c2s() {
+        iauC2s(p2, theta, phi);
+    }
+
+    @Benchmark
+    public void s2c() {
+        iauS2c(3.0123, -0.999, pp);
+    }
+
+    @Benchmark
+    public double pdp() {
+        return iauPdp(p, p2);
+    }
+
+    @Benchmark
+    public void pn() {
+        iauPn(p2, mod, pp);
+    }
+
+    @Benchmark
+    public void pxp() {
+        iauPxp(p, p2, pp);
+    }
+
+    @Benchmark
+    public void pvu() {
+        iauPvu(2920.0, pv, upv);
+    }
+
+}
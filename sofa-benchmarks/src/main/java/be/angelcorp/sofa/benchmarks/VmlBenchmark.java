@@ -0,0 +1,112 @@
+package be.angelcorp.sofa.benchmarks;
+
+import be.angelcorp.sofa.SofaArrays;
+import be.angelcorp.sofa.Vml;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pure-Java vector/matrix routines of {@link Vml}, with the same arguments as the native calls of the same name in
+ * {@link VectorMatrixBenchmark}. The rotate benchmarks multiply {@value #VECTORS} vectors by a matrix in a loop, once
+ * with Vml (inlined into the loop) and once with the native iauRxp through {@link SofaArrays}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VmlBenchmark {
+
+    private static final int VECTORS = 1000;
+
+    private final double[] r   = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+    private final double[] r2  = r.clone();
+    private final double[] rr  = new double[9];
+    private final double[] p   = { 0.2, 1.5, 0.1 };
+    private final double[] p2  = { 0.9, 1.2, -0.3 };
+    private final double[] pp  = new double[3];
+    private final double[] mod = new double[1];
+    private final double[] theta = new double[1];
+    private final double[] phi   = new double[1];
+
+    private final double[] vectors = new double[3 * VECTORS];
+    private final double[] rotated = new double[3 * VECTORS];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < vectors.length; i++)
+            vectors[i] = random.nextGaussian();
+    }
+
+    @Benchmark
+    public double[] rz() {
+        Vml.rz(0.3456789, rr);
+        return rr;
+    }
+
+    @Benchmark
+    public double[] rxr() {
+        Vml.rxr(r, r2, rr);
+        return rr;
+    }
+
+    @Benchmark
+    public double[] rxp() {
+        Vml.rxp(r, p, pp);
+        return pp;
+    }
+
+    @Benchmark
+    public double[] trxp() {
+        Vml.trxp(r, p, pp);
+        return pp;
+    }
+
+    @Benchmark
+    public double pdp() {
+        return Vml.pdp(p, p2);
+    }
+
+    @Benchmark
+    public double[] pn() {
+        Vml.pn(p2, mod, pp);
+        return pp;
+    }
+
+    @Benchmark
+    public double[] pxp() {
+        Vml.pxp(p, p2, pp);
+        return pp;
+    }
+
+    @Benchmark
+    public double[] c2s() {
+        Vml.c2s(p2, theta, phi);
+        return phi;
+    }
+
+    @Benchmark
+    public double[] s2c() {
+        Vml.s2c(3.0123, -0.999, pp);
+        return pp;
+    }
+
+    @Benchmark
+    public double[] rotateVml() {
+        for (int i = 0; i < 3 * VECTORS; i += 3)
+            Vml.rxp(r, 0, vectors, i, rotated, i);
+        return rotated;
+    }
+
+    @Benchmark
+    public double[] rotateNative() {
+        for (int i = 0; i < 3 * VECTORS; i += 3)
+            SofaArrays.iauRxp(r, 0, vectors, i, rotated, i);
+        return rotated;
+    }
+
+}
@@ -0,0 +1,199 @@
+#!/bin/bash
+# Generates the java.lang.foreign (Panama FFM) bindings for the sofa library.
+#
+# The bindings are generated from the same sofa.h header that JNAerator uses
+#   for the BridJ bindings (see sofa/src/main/jnaerator/config.jnaerator).
+#   Every exported iau* prototype results in one static downcall handle and a
+#   static method with the same name, where all pointer/array arguments are
+#   passed as a MemorySegment.
+#
+# Short functions are bound as critical downcalls, which accept heap segments
+#   but hold off the garbage collector for the duration of the call. The
+#   functions that sum a full series (IAU 2000A nutation, CIP and CIO locator,
+#   ephemerides, TDB-TT) or build on them run for microseconds to tens of
+#   microseconds; they are listed in $regular and bound as regular downcalls.
+#
+# Usage (from the sofa-panama directory):
+#   ./src/main/generator/genBindings.sh
+
+header="../sofa-platform/src/main/cpp/src/sofa.h"
+output="src/main/java/be/angelcorp/sofa/panama/SofaForeignLibrary.java"
+regular="^iau(Apc[gios]13|Atc[io]13|Atic13|Epv00|Plan94|C2[it]0[06]a|Eo06a|Num0[06]a|Nut0[06]a|Pnm?0[06]a|S0[06]a|Xy06|Xys0[06]a|Ee0[06]a|Gst0[06]a|Dtdb)$"
+
+if [[ ! -f "$header" ]]; then
+    echo "Cannot find the sofa header: $header"
+    exit 1
+fi
+
+awk -v script="$0" -v regular="$regular" '
+function javaType(param) {
+    if (param ~ /\*/ || param ~ /\[/) return "MemorySegment"
+    if (param ~ /^double/)            return "double"
+    if (param ~ /^int/)               return "int"
+    if (param ~ /^char/)              return "byte"
+    print "Unknown parameter type: " param > "/dev/stderr"
+    exit 1
+}
+function layout(type) {
+    if (type == "MemorySegment") return "ADDRESS"
+    if (type == "double")        return "JAVA_DOUBLE"
+    if (type == "int")           return "JAVA_INT"
+    if (type == "byte")          return "JAVA_BYTE"
+}
+function paramName(param) {
+    sub(/\[.*$/, "", param)
+    gsub(/[ *]+$/, "", param)
+    n = split(param, tokens, /[ *]+/)
+    return tokens[n]
+}
+
+BEGIN {
+    print "package be.angelcorp.sofa.panama;"
+    print ""
+    print "import java.lang.foreign.Linker;"
+    print "import java.lang.foreign.FunctionDescriptor;"
+    print "import java.lang.foreign.MemoryLayout;"
+    print "import java.lang.foreign.MemorySegment;"
+    print "import java.lang.foreign.StructLayout;"
+    print "import java.lang.invoke.MethodHandle;"
+    print ""
+    print "import static java.lang.foreign.ValueLayout.*;"
+    print ""
+    print "/**"
+    print " * java.lang.foreign (Panama FFM) bindings for library <b>sofa</b><br>"
+    print " * This file was autogenerated by " script " from sofa-platform/src/main/cpp/src/sofa.h.<br>"
+    print " * The short functions are bound as critical downcalls, so heap segments (for example"
+    print " * {@link MemorySegment#ofArray(double[])}) can be passed directly without copying to native memory first. A critical"
+    print " * call holds off the garbage collector until it returns, so the functions that sum a full series (IAU 2000A nutation,"
+    print " * CIP and CIO locator, ephemerides, TDB-TT), or build on one, are bound as regular downcalls: their pointer arguments"
+    print " * must be native segments (for example from an {@link java.lang.foreign.Arena}). Their documentation says so.<br>"
+    print " * Matrices and pv-vectors are flat, row-major double arrays: 9 doubles for double[3][3], 6 doubles for double[2][3]."
+    print " */"
+    print "public final class SofaForeignLibrary {"
+    print ""
+    print "    private SofaForeignLibrary() {"
+    print "    }"
+    print ""
+    print "    /** Layout of the <code>iauASTROM</code> struct, star-independent astrometry parameters (31 doubles). */"
+    print "    public static final StructLayout IAU_ASTROM = MemoryLayout.structLayout("
+    print "            JAVA_DOUBLE.withName(\"pmt\"),"
+    print "            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName(\"eb\"),"
+    print "            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName(\"eh\"),"
+    print "            JAVA_DOUBLE.withName(\"em\"),"
+    print "            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName(\"v\"),"
+    print "            JAVA_DOUBLE.withName(\"bm1\"),"
+    print "            MemoryLayout.sequenceLayout(9, JAVA_DOUBLE).withName(\"bpn\"),"
+    print "            JAVA_DOUBLE.withName(\"along\"),"
+    print "            JAVA_DOUBLE.withName(\"phi\"),"
+    print "            JAVA_DOUBLE.withName(\"xpl\"),"
+    print "            JAVA_DOUBLE.withName(\"ypl\"),"
+    print "            JAVA_DOUBLE.withName(\"sphi\"),"
+    print "            JAVA_DOUBLE.withName(\"cphi\"),"
+    print "            JAVA_DOUBLE.withName(\"diurab\"),"
+    print "            JAVA_DOUBLE.withName(\"eral\"),"
+    print "            JAVA_DOUBLE.withName(\"refa\"),"
+    print "            JAVA_DOUBLE.withName(\"refb\")"
+    print "    ).withName(\"iauASTROM\");"
+    print ""
+    print "    /** Layout of the <code>iauLDBODY</code> struct, body parameters for light deflection (8 doubles). */"
+    print "    public static final StructLayout IAU_LDBODY = MemoryLayout.structLayout("
+    print "            JAVA_DOUBLE.withName(\"bm\"),"
+    print "            JAVA_DOUBLE.withName(\"dl\"),"
+    print "            MemoryLayout.sequenceLayout(6, JAVA_DOUBLE).withName(\"pv\")"
+    print "    ).withName(\"iauLDBODY\");"
+    print ""
+    print "    private static MethodHandle downcall(String name, FunctionDescriptor descriptor, boolean critical) {"
+    print "        MemorySegment symbol = SofaNativeLibrary.lookup().find(name)"
+    print "                .orElseThrow(() -> new UnsatisfiedLinkError(\"Missing symbol in the sofa library: \" + name));"
+    print "        return critical ? Linker.nativeLinker().downcallHandle(symbol, descriptor, Linker.Option.critical(true))"
+    print "                        : Linker.nativeLinker().downcallHandle(symbol, descriptor);"
+    print "    }"
+    print ""
+    print "    private static RuntimeException rethrow(Throwable t) {"
+    print "        if (t instanceof RuntimeException) return (RuntimeException) t;"
+    print "        if (t instanceof Error) throw (Error) t;"
+    print "        return new IllegalStateException(t);"
+    print "    }"
+}
+
+# Collect the summary line(s) of the source comment
+/^\/\*\*/        { inComment = 1; dashes = 0; summary = ""; inSummary = 0; next }
+inComment && /^ \*  - -/ { dashes++; if (dashes == 2) inSummary = 1; next }
+inComment && inSummary {
+    line = $0
+    sub(/^ \*[ \t]*/, "", line)
+    if (line == "" && summary != "") inSummary = 0
+    else if (line != "") summary = (summary == "" || summary ~ /-$/ ? summary line : summary " " line)
+    next
+}
+/^\*\// { inComment = 0; next }
+
+/^SOFAExport / {
+    signature = $0
+    sub(/^SOFAExport /, "", signature)
+    sub(/;[ \t]*$/, "", signature)
+    sub(/[ \t]+$/, "", signature)
+
+    returnType = signature
+    sub(/ .*$/, "", returnType)
+    name = signature
+    sub(/^[a-z]+ /, "", name)
+    sub(/[ \t]*\(.*$/, "", name)
+    if (name in seen) next
+    seen[name] = 1
+
+    paramList = signature
+    sub(/^[^(]*\(/, "", paramList)
+    sub(/\)$/, "", paramList)
+    nParams = split(paramList, params, /,[ \t]*/)
+
+    javaParams = ""; invokeArgs = ""; layouts = ""; cTypes = ""
+    for (i = 1; i <= nParams; i++) {
+        p = params[i]
+        gsub(/^[ \t]+|[ \t]+$/, "", p)
+        t = javaType(p)
+        pn = paramName(p)
+        javaParams = javaParams (i > 1 ? ", " : "") t " " pn
+        invokeArgs = invokeArgs (i > 1 ? ", " : "") pn
+        layouts    = layouts ", " layout(t)
+        cType = p
+        sub(/[a-z0-9]+(\[[^]]*\])*$/, "", cType)
+        gsub(/[ \t]+$/, "", cType)
+        if (p ~ /\[/) cType = cType "*"
+        gsub(/ \*/, "*", cType)
+        cTypes = cTypes (i > 1 ? ", " : "") cType
+    }
+
+    if (returnType == "void") {
+        descriptor = "FunctionDescriptor.ofVoid(" substr(layouts, 3) ")"
+        javaReturn = "void"
+    } else {
+        javaReturn = javaType(returnType)
+        descriptor = "FunctionDescriptor.of(" layout(javaReturn) layouts ")"
+    }
+
+    critical = (name ~ regular ? "false" : "true")
+    print ""
+    print "    private static final MethodHandle " name "$MH = downcall(\"" name "\", " descriptor ", " critical ");"
+    print "    /**"
+    if (summary != "") print "     * " summary "<br>"
+    if (critical == "false") print "     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>"
+    print "     * Original signature : <code>" returnType " " name "(" cTypes ")</code>"
+    print "     */"
+    print "    public static " javaReturn " " name "(" javaParams ") {"
+    print "        try {"
+    if (javaReturn == "void")
+        print "            " name "$MH.invokeExact(" invokeArgs ");"
+    else
+        print "            return (" javaReturn ") " name "$MH.invokeExact(" invokeArgs ");"
+    print "        } catch (Throwable throwable) {"
+    print "            throw rethrow(throwable);"
+    print "        }"
+    print "    }"
+    summary = ""
+}
+
+END {
+    print ""
+    print "}"
+}' "$header" > "$output"
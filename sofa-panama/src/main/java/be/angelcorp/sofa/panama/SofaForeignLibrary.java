@@ -0,0 +1,2947 @@
+package be.angelcorp.sofa.panama;
+
+import java.lang.foreign.Linker;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import java.lang.invoke.MethodHandle;
+
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * java.lang.foreign (Panama FFM) bindings for library <b>sofa</b><br>
+ * This file was autogenerated by ./src/main/generator/genBindings.sh from sofa-platform/src/main/cpp/src/sofa.h.<br>
+ * The short functions are bound as critical downcalls, so heap segments (for example
+ * {@link MemorySegment#ofArray(double[])}) can be passed directly without copying to native memory first. A critical
+ * call holds off the garbage collector until it returns, so the functions that sum a full series (IAU 2000A nutation,
+ * CIP and CIO locator, ephemerides, TDB-TT), or build on one, are bound as regular downcalls: their pointer arguments
+ * must be native segments (for example from an {@link java.lang.foreign.Arena}). Their documentation says so.<br>
+ * Matrices and pv-vectors are flat, row-major double arrays: 9 doubles for double[3][3], 6 doubles for double[2][3].
+ */
+public final class SofaForeignLibrary {
+
+    private SofaForeignLibrary() {
+    }
+
+    /** Layout of the <code>iauASTROM</code> struct, star-independent astrometry parameters (31 doubles). */
+    public static final StructLayout IAU_ASTROM = MemoryLayout.structLayout(
+            JAVA_DOUBLE.withName("pmt"),
+            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName("eb"),
+            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName("eh"),
+            JAVA_DOUBLE.withName("em"),
+            MemoryLayout.sequenceLayout(3, JAVA_DOUBLE).withName("v"),
+            JAVA_DOUBLE.withName("bm1"),
+            MemoryLayout.sequenceLayout(9, JAVA_DOUBLE).withName("bpn"),
+            JAVA_DOUBLE.withName("along"),
+            JAVA_DOUBLE.withName("phi"),
+            JAVA_DOUBLE.withName("xpl"),
+            JAVA_DOUBLE.withName("ypl"),
+            JAVA_DOUBLE.withName("sphi"),
+            JAVA_DOUBLE.withName("cphi"),
+            JAVA_DOUBLE.withName("diurab"),
+            JAVA_DOUBLE.withName("eral"),
+            JAVA_DOUBLE.withName("refa"),
+            JAVA_DOUBLE.withName("refb")
+    ).withName("iauASTROM");
+
+    /** Layout of the <code>iauLDBODY</code> struct, body parameters for light deflection (8 doubles). */
+    public static final StructLayout IAU_LDBODY = MemoryLayout.structLayout(
+            JAVA_DOUBLE.withName("bm"),
+            JAVA_DOUBLE.withName("dl"),
+            MemoryLayout.sequenceLayout(6, JAVA_DOUBLE).withName("pv")
+    ).withName("iauLDBODY");
+
+    private static MethodHandle downcall(String name, FunctionDescriptor descriptor, boolean critical) {
+        MemorySegment symbol = SofaNativeLibrary.lookup().find(name)
+                .orElseThrow(() -> new UnsatisfiedLinkError("Missing symbol in the sofa library: " + name));
+        return critical ? Linker.nativeLinker().downcallHandle(symbol, descriptor, Linker.Option.critical(true))
+                        : Linker.nativeLinker().downcallHandle(symbol, descriptor);
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) return (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        return new IllegalStateException(t);
+    }
+
+    private static final MethodHandle iauCal2jd$MH = downcall("iauCal2jd", FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, ADDRESS, ADDRESS), true);
+    /**
+     * Gregorian Calendar to Julian Date.<br>
+     * Original signature : <code>int iauCal2jd(int, int, int, double*, double*)</code>
+     */
+    public static int iauCal2jd(int iy, int im, int id, MemorySegment djm0, MemorySegment djm) {
+        try {
+            return (int) iauCal2jd$MH.invokeExact(iy, im, id, djm0, djm);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEpb$MH = downcall("iauEpb", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Julian Date to Besselian Epoch.<br>
+     * Original signature : <code>double iauEpb(double, double)</code>
+     */
+    public static double iauEpb(double dj1, double dj2) {
+        try {
+            return (double) iauEpb$MH.invokeExact(dj1, dj2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEpb2jd$MH = downcall("iauEpb2jd", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Besselian Epoch to Julian Date.<br>
+     * Original signature : <code>void iauEpb2jd(double, double*, double*)</code>
+     */
+    public static void iauEpb2jd(double epb, MemorySegment djm0, MemorySegment djm) {
+        try {
+            iauEpb2jd$MH.invokeExact(epb, djm0, djm);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEpj$MH = downcall("iauEpj", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Julian Date to Julian Epoch.<br>
+     * Original signature : <code>double iauEpj(double, double)</code>
+     */
+    public static double iauEpj(double dj1, double dj2) {
+        try {
+            return (double) iauEpj$MH.invokeExact(dj1, dj2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEpj2jd$MH = downcall("iauEpj2jd", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Julian Epoch to Julian Date.<br>
+     * Original signature : <code>void iauEpj2jd(double, double*, double*)</code>
+     */
+    public static void iauEpj2jd(double epj, MemorySegment djm0, MemorySegment djm) {
+        try {
+            iauEpj2jd$MH.invokeExact(epj, djm0, djm);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauJd2cal$MH = downcall("iauJd2cal", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Julian Date to Gregorian year, month, day, and fraction of a day.<br>
+     * Original signature : <code>int iauJd2cal(double, double, int*, int*, int*, double*)</code>
+     */
+    public static int iauJd2cal(double dj1, double dj2, MemorySegment iy, MemorySegment im, MemorySegment id, MemorySegment fd) {
+        try {
+            return (int) iauJd2cal$MH.invokeExact(dj1, dj2, iy, im, id, fd);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauJdcalf$MH = downcall("iauJdcalf", FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Julian Date to Gregorian Calendar, expressed in a form convenient for formatting messages:  rounded to a specified precision.<br>
+     * Original signature : <code>int iauJdcalf(int, double, double, int*)</code>
+     */
+    public static int iauJdcalf(int ndp, double dj1, double dj2, MemorySegment iymdf) {
+        try {
+            return (int) iauJdcalf$MH.invokeExact(ndp, dj1, dj2, iymdf);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAb$MH = downcall("iauAb", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Apply aberration to transform natural direction into proper direction.<br>
+     * Original signature : <code>void iauAb(double*, double*, double, double, double*)</code>
+     */
+    public static void iauAb(MemorySegment pnat, MemorySegment v, double s, double bm1, MemorySegment ppr) {
+        try {
+            iauAb$MH.invokeExact(pnat, v, s, bm1, ppr);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApcg$MH = downcall("iauApcg", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * For a geocentric observer, prepare star-independent astrometry parameters for transformations between ICRS and GCRS coordinates. The Earth ephemeris is supplied by the caller.<br>
+     * Original signature : <code>void iauApcg(double, double, double*, double*, iauASTROM*)</code>
+     */
+    public static void iauApcg(double date1, double date2, MemorySegment ebpv, MemorySegment ehp, MemorySegment astrom) {
+        try {
+            iauApcg$MH.invokeExact(date1, date2, ebpv, ehp, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApcg13$MH = downcall("iauApcg13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * For a geocentric observer, prepare star-independent astrometry parameters for transformations between ICRS and GCRS coordinates. The caller supplies the date, and SOFA models are used to predict the Earth ephemeris.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauApcg13(double, double, iauASTROM*)</code>
+     */
+    public static void iauApcg13(double date1, double date2, MemorySegment astrom) {
+        try {
+            iauApcg13$MH.invokeExact(date1, date2, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApci$MH = downcall("iauApci", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and geocentric CIRS coordinates.  The Earth ephemeris and CIP/CIO are supplied by the caller.<br>
+     * Original signature : <code>void iauApci(double, double, double*, double*, double, double, double, iauASTROM*)</code>
+     */
+    public static void iauApci(double date1, double date2, MemorySegment ebpv, MemorySegment ehp, double x, double y, double s, MemorySegment astrom) {
+        try {
+            iauApci$MH.invokeExact(date1, date2, ebpv, ehp, x, y, s, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApci13$MH = downcall("iauApci13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and geocentric CIRS coordinates.  The caller supplies the date, and SOFA models are used to predict the Earth ephemeris and CIP/CIO.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauApci13(double, double, iauASTROM*, double*)</code>
+     */
+    public static void iauApci13(double date1, double date2, MemorySegment astrom, MemorySegment eo) {
+        try {
+            iauApci13$MH.invokeExact(date1, date2, astrom, eo);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApco$MH = downcall("iauApco", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and observed coordinates.  The caller supplies the Earth ephemeris, the Earth rotation information and the refraction constants as well as the site coordinates.<br>
+     * Original signature : <code>void iauApco(double, double, double*, double*, double, double, double, double, double, double, double, double, double, double, double, double, iauASTROM*)</code>
+     */
+    public static void iauApco(double date1, double date2, MemorySegment ebpv, MemorySegment ehp, double x, double y, double s, double theta, double elong, double phi, double hm, double xp, double yp, double sp, double refa, double refb, MemorySegment astrom) {
+        try {
+            iauApco$MH.invokeExact(date1, date2, ebpv, ehp, x, y, s, theta, elong, phi, hm, xp, yp, sp, refa, refb, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApco13$MH = downcall("iauApco13", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and observed coordinates.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength, and SOFA models are used to obtain the Earth ephemeris, CIP/CIO and refraction constants.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>int iauApco13(double, double, double, double, double, double, double, double, double, double, double, double, iauASTROM*, double*)</code>
+     */
+    public static int iauApco13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment astrom, MemorySegment eo) {
+        try {
+            return (int) iauApco13$MH.invokeExact(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, eo);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApcs$MH = downcall("iauApcs", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * For an observer whose geocentric position and velocity are known, prepare star-independent astrometry parameters for transformations between ICRS and GCRS.  The Earth ephemeris is supplied by the caller.<br>
+     * Original signature : <code>void iauApcs(double, double, double*, double*, double*, iauASTROM*)</code>
+     */
+    public static void iauApcs(double date1, double date2, MemorySegment pv, MemorySegment ebpv, MemorySegment ehp, MemorySegment astrom) {
+        try {
+            iauApcs$MH.invokeExact(date1, date2, pv, ebpv, ehp, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApcs13$MH = downcall("iauApcs13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * For an observer whose geocentric position and velocity are known, prepare star-independent astrometry parameters for transformations between ICRS and GCRS.  The Earth ephemeris is from SOFA models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauApcs13(double, double, double*, iauASTROM*)</code>
+     */
+    public static void iauApcs13(double date1, double date2, MemorySegment pv, MemorySegment astrom) {
+        try {
+            iauApcs13$MH.invokeExact(date1, date2, pv, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAper$MH = downcall("iauAper", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * In the star-independent astrometry parameters, update only the Earth rotation angle, supplied by the caller explicitly.<br>
+     * Original signature : <code>void iauAper(double, iauASTROM*)</code>
+     */
+    public static void iauAper(double theta, MemorySegment astrom) {
+        try {
+            iauAper$MH.invokeExact(theta, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAper13$MH = downcall("iauAper13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * In the star-independent astrometry parameters, update only the Earth rotation angle.  The caller provides UT1, (n.b. not UTC).<br>
+     * Original signature : <code>void iauAper13(double, double, iauASTROM*)</code>
+     */
+    public static void iauAper13(double ut11, double ut12, MemorySegment astrom) {
+        try {
+            iauAper13$MH.invokeExact(ut11, ut12, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApio$MH = downcall("iauApio", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between CIRS and observed coordinates.  The caller supplies the Earth orientation information and the refraction constants as well as the site coordinates.<br>
+     * Original signature : <code>void iauApio(double, double, double, double, double, double, double, double, double, iauASTROM*)</code>
+     */
+    public static void iauApio(double sp, double theta, double elong, double phi, double hm, double xp, double yp, double refa, double refb, MemorySegment astrom) {
+        try {
+            iauApio$MH.invokeExact(sp, theta, elong, phi, hm, xp, yp, refa, refb, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauApio13$MH = downcall("iauApio13", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between CIRS and observed coordinates.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Original signature : <code>int iauApio13(double, double, double, double, double, double, double, double, double, double, double, double, iauASTROM*)</code>
+     */
+    public static int iauApio13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment astrom) {
+        try {
+            return (int) iauApio13$MH.invokeExact(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtci13$MH = downcall("iauAtci13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * Transform ICRS star data, epoch J2000.0, to CIRS.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauAtci13(double, double, double, double, double, double, double, double, double*, double*, double*)</code>
+     */
+    public static void iauAtci13(double rc, double dc, double pr, double pd, double px, double rv, double date1, double date2, MemorySegment ri, MemorySegment di, MemorySegment eo) {
+        try {
+            iauAtci13$MH.invokeExact(rc, dc, pr, pd, px, rv, date1, date2, ri, di, eo);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtciq$MH = downcall("iauAtciq", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick ICRS, epoch J2000.0, to CIRS transformation, given precomputed star-independent astrometry parameters.<br>
+     * Original signature : <code>void iauAtciq(double, double, double, double, double, double, iauASTROM*, double*, double*)</code>
+     */
+    public static void iauAtciq(double rc, double dc, double pr, double pd, double px, double rv, MemorySegment astrom, MemorySegment ri, MemorySegment di) {
+        try {
+            iauAtciq$MH.invokeExact(rc, dc, pr, pd, px, rv, astrom, ri, di);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtciqn$MH = downcall("iauAtciqn", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick ICRS, epoch J2000.0, to CIRS transformation, given precomputed star-independent astrometry parameters plus a list of light-deflecting bodies.<br>
+     * Original signature : <code>void iauAtciqn(double, double, double, double, double, double, iauASTROM*, int, iauLDBODY*, double*, double*)</code>
+     */
+    public static void iauAtciqn(double rc, double dc, double pr, double pd, double px, double rv, MemorySegment astrom, int n, MemorySegment b, MemorySegment ri, MemorySegment di) {
+        try {
+            iauAtciqn$MH.invokeExact(rc, dc, pr, pd, px, rv, astrom, n, b, ri, di);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtciqz$MH = downcall("iauAtciqz", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick ICRS to CIRS transformation, given precomputed star-independent astrometry parameters, and assuming zero parallax and proper motion.<br>
+     * Original signature : <code>void iauAtciqz(double, double, iauASTROM*, double*, double*)</code>
+     */
+    public static void iauAtciqz(double rc, double dc, MemorySegment astrom, MemorySegment ri, MemorySegment di) {
+        try {
+            iauAtciqz$MH.invokeExact(rc, dc, astrom, ri, di);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtco13$MH = downcall("iauAtco13", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * ICRS RA,Dec to observed place.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>int iauAtco13(double, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static int iauAtco13(double rc, double dc, double pr, double pd, double px, double rv, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment aob, MemorySegment zob, MemorySegment hob, MemorySegment dob, MemorySegment rob, MemorySegment eo) {
+        try {
+            return (int) iauAtco13$MH.invokeExact(rc, dc, pr, pd, px, rv, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob, eo);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtic13$MH = downcall("iauAtic13", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * Transform star RA,Dec from geocentric CIRS to ICRS astrometric.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauAtic13(double, double, double, double, double*, double*, double*)</code>
+     */
+    public static void iauAtic13(double ri, double di, double date1, double date2, MemorySegment rc, MemorySegment dc, MemorySegment eo) {
+        try {
+            iauAtic13$MH.invokeExact(ri, di, date1, date2, rc, dc, eo);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAticq$MH = downcall("iauAticq", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick CIRS RA,Dec to ICRS astrometric place, given the star-independent astrometry parameters.<br>
+     * Original signature : <code>void iauAticq(double, double, iauASTROM*, double*, double*)</code>
+     */
+    public static void iauAticq(double ri, double di, MemorySegment astrom, MemorySegment rc, MemorySegment dc) {
+        try {
+            iauAticq$MH.invokeExact(ri, di, astrom, rc, dc);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAticqn$MH = downcall("iauAticqn", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, JAVA_INT, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick CIRS to ICRS astrometric place transformation, given the star-independent astrometry parameters plus a list of light-deflecting bodies.<br>
+     * Original signature : <code>void iauAticqn(double, double, iauASTROM*, int, iauLDBODY*, double*, double*)</code>
+     */
+    public static void iauAticqn(double ri, double di, MemorySegment astrom, int n, MemorySegment b, MemorySegment rc, MemorySegment dc) {
+        try {
+            iauAticqn$MH.invokeExact(ri, di, astrom, n, b, rc, dc);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtio13$MH = downcall("iauAtio13", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * CIRS RA,Dec to observed place.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Original signature : <code>int iauAtio13(double, double, double, double, double, double, double, double, double, double, double, double, double, double, double*, double*, double*, double*, double*)</code>
+     */
+    public static int iauAtio13(double ri, double di, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment aob, MemorySegment zob, MemorySegment hob, MemorySegment dob, MemorySegment rob) {
+        try {
+            return (int) iauAtio13$MH.invokeExact(ri, di, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtioq$MH = downcall("iauAtioq", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick CIRS to observed place transformation.<br>
+     * Original signature : <code>void iauAtioq(double, double, iauASTROM*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauAtioq(double ri, double di, MemorySegment astrom, MemorySegment aob, MemorySegment zob, MemorySegment hob, MemorySegment dob, MemorySegment rob) {
+        try {
+            iauAtioq$MH.invokeExact(ri, di, astrom, aob, zob, hob, dob, rob);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtoc13$MH = downcall("iauAtoc13", FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Observed place at a groundbased site to to ICRS astrometric RA,Dec. The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Original signature : <code>int iauAtoc13(const char*, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double*, double*)</code>
+     */
+    public static int iauAtoc13(MemorySegment type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment rc, MemorySegment dc) {
+        try {
+            return (int) iauAtoc13$MH.invokeExact(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, rc, dc);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtoi13$MH = downcall("iauAtoi13", FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Observed place to CIRS.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Original signature : <code>int iauAtoi13(const char*, double, double, double, double, double, double, double, double, double, double, double, double, double, double, double*, double*)</code>
+     */
+    public static int iauAtoi13(MemorySegment type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, MemorySegment ri, MemorySegment di) {
+        try {
+            return (int) iauAtoi13$MH.invokeExact(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, ri, di);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAtoiq$MH = downcall("iauAtoiq", FunctionDescriptor.ofVoid(ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Quick observed place to CIRS, given the star-independent astrometry parameters.<br>
+     * Original signature : <code>void iauAtoiq(const char*, double, double, iauASTROM*, double*, double*)</code>
+     */
+    public static void iauAtoiq(MemorySegment type, double ob1, double ob2, MemorySegment astrom, MemorySegment ri, MemorySegment di) {
+        try {
+            iauAtoiq$MH.invokeExact(type, ob1, ob2, astrom, ri, di);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauLd$MH = downcall("iauLd", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Apply light deflection by a solar-system body, as part of transforming coordinate direction into natural direction.<br>
+     * Original signature : <code>void iauLd(double, double*, double*, double*, double, double, double*)</code>
+     */
+    public static void iauLd(double bm, MemorySegment p, MemorySegment q, MemorySegment e, double em, double dlim, MemorySegment p1) {
+        try {
+            iauLd$MH.invokeExact(bm, p, q, e, em, dlim, p1);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauLdn$MH = downcall("iauLdn", FunctionDescriptor.ofVoid(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * For a star, apply light deflection by multiple solar-system bodies, as part of transforming coordinate direction into natural direction.<br>
+     * Original signature : <code>void iauLdn(int, iauLDBODY*, double*, double*, double*)</code>
+     */
+    public static void iauLdn(int n, MemorySegment b, MemorySegment ob, MemorySegment sc, MemorySegment sn) {
+        try {
+            iauLdn$MH.invokeExact(n, b, ob, sc, sn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauLdsun$MH = downcall("iauLdsun", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Light deflection by the Sun.<br>
+     * Original signature : <code>void iauLdsun(double*, double*, double, double*)</code>
+     */
+    public static void iauLdsun(MemorySegment p, MemorySegment e, double em, MemorySegment p1) {
+        try {
+            iauLdsun$MH.invokeExact(p, e, em, p1);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmpx$MH = downcall("iauPmpx", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Proper motion and parallax.<br>
+     * Original signature : <code>void iauPmpx(double, double, double, double, double, double, double, double*, double*)</code>
+     */
+    public static void iauPmpx(double rc, double dc, double pr, double pd, double px, double rv, double pmt, MemorySegment pob, MemorySegment pco) {
+        try {
+            iauPmpx$MH.invokeExact(rc, dc, pr, pd, px, rv, pmt, pob, pco);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmsafe$MH = downcall("iauPmsafe", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Star proper motion:  update star catalog data for space motion, with special handling to handle the zero parallax case.<br>
+     * Original signature : <code>int iauPmsafe(double, double, double, double, double, double, double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static int iauPmsafe(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, MemorySegment ra2, MemorySegment dec2, MemorySegment pmr2, MemorySegment pmd2, MemorySegment px2, MemorySegment rv2) {
+        try {
+            return (int) iauPmsafe$MH.invokeExact(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvtob$MH = downcall("iauPvtob", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Position and velocity of a terrestrial observing station.<br>
+     * Original signature : <code>void iauPvtob(double, double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauPvtob(double elong, double phi, double hm, double xp, double yp, double sp, double theta, MemorySegment pv) {
+        try {
+            iauPvtob$MH.invokeExact(elong, phi, hm, xp, yp, sp, theta, pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRefco$MH = downcall("iauRefco", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Determine the constants A and B in the atmospheric refraction model dZ = A tan Z + B tan^3 Z.<br>
+     * Original signature : <code>void iauRefco(double, double, double, double, double*, double*)</code>
+     */
+    public static void iauRefco(double phpa, double tc, double rh, double wl, MemorySegment refa, MemorySegment refb) {
+        try {
+            iauRefco$MH.invokeExact(phpa, tc, rh, wl, refa, refb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEpv00$MH = downcall("iauEpv00", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * Earth position and velocity, heliocentric and barycentric, with respect to the Barycentric Celestial Reference System.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>int iauEpv00(double, double, double*, double*)</code>
+     */
+    public static int iauEpv00(double date1, double date2, MemorySegment pvh, MemorySegment pvb) {
+        try {
+            return (int) iauEpv00$MH.invokeExact(date1, date2, pvh, pvb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPlan94$MH = downcall("iauPlan94", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_INT, ADDRESS), false);
+    /**
+     * This function is part of the International Astronomical Union's SOFA (Standards Of Fundamental Astronomy) software collection.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>int iauPlan94(double, double, int, double*)</code>
+     */
+    public static int iauPlan94(double date1, double date2, int np, MemorySegment pv) {
+        try {
+            return (int) iauPlan94$MH.invokeExact(date1, date2, np, pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFad03$MH = downcall("iauFad03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean elongation of the Moon from the Sun.<br>
+     * Original signature : <code>double iauFad03(double)</code>
+     */
+    public static double iauFad03(double t) {
+        try {
+            return (double) iauFad03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFae03$MH = downcall("iauFae03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Earth.<br>
+     * Original signature : <code>double iauFae03(double)</code>
+     */
+    public static double iauFae03(double t) {
+        try {
+            return (double) iauFae03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFaf03$MH = downcall("iauFaf03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of the Moon minus mean longitude of the ascending node.<br>
+     * Original signature : <code>double iauFaf03(double)</code>
+     */
+    public static double iauFaf03(double t) {
+        try {
+            return (double) iauFaf03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFaju03$MH = downcall("iauFaju03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Jupiter.<br>
+     * Original signature : <code>double iauFaju03(double)</code>
+     */
+    public static double iauFaju03(double t) {
+        try {
+            return (double) iauFaju03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFal03$MH = downcall("iauFal03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean anomaly of the Moon.<br>
+     * Original signature : <code>double iauFal03(double)</code>
+     */
+    public static double iauFal03(double t) {
+        try {
+            return (double) iauFal03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFalp03$MH = downcall("iauFalp03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean anomaly of the Sun.<br>
+     * Original signature : <code>double iauFalp03(double)</code>
+     */
+    public static double iauFalp03(double t) {
+        try {
+            return (double) iauFalp03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFama03$MH = downcall("iauFama03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Mars.<br>
+     * Original signature : <code>double iauFama03(double)</code>
+     */
+    public static double iauFama03(double t) {
+        try {
+            return (double) iauFama03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFame03$MH = downcall("iauFame03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Mercury.<br>
+     * Original signature : <code>double iauFame03(double)</code>
+     */
+    public static double iauFame03(double t) {
+        try {
+            return (double) iauFame03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFane03$MH = downcall("iauFane03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Neptune.<br>
+     * Original signature : <code>double iauFane03(double)</code>
+     */
+    public static double iauFane03(double t) {
+        try {
+            return (double) iauFane03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFaom03$MH = downcall("iauFaom03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of the Moon's ascending node.<br>
+     * Original signature : <code>double iauFaom03(double)</code>
+     */
+    public static double iauFaom03(double t) {
+        try {
+            return (double) iauFaom03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFapa03$MH = downcall("iauFapa03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): general accumulated precession in longitude.<br>
+     * Original signature : <code>double iauFapa03(double)</code>
+     */
+    public static double iauFapa03(double t) {
+        try {
+            return (double) iauFapa03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFasa03$MH = downcall("iauFasa03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Saturn.<br>
+     * Original signature : <code>double iauFasa03(double)</code>
+     */
+    public static double iauFasa03(double t) {
+        try {
+            return (double) iauFasa03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFaur03$MH = downcall("iauFaur03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Uranus.<br>
+     * Original signature : <code>double iauFaur03(double)</code>
+     */
+    public static double iauFaur03(double t) {
+        try {
+            return (double) iauFaur03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFave03$MH = downcall("iauFave03", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Fundamental argument, IERS Conventions (2003): mean longitude of Venus.<br>
+     * Original signature : <code>double iauFave03(double)</code>
+     */
+    public static double iauFave03(double t) {
+        try {
+            return (double) iauFave03$MH.invokeExact(t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauBi00$MH = downcall("iauBi00", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Frame bias components of IAU 2000 precession-nutation models (part of MHB2000 with additions).<br>
+     * Original signature : <code>void iauBi00(double*, double*, double*)</code>
+     */
+    public static void iauBi00(MemorySegment dpsibi, MemorySegment depsbi, MemorySegment dra) {
+        try {
+            iauBi00$MH.invokeExact(dpsibi, depsbi, dra);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauBp00$MH = downcall("iauBp00", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Frame bias and precession, IAU 2000.<br>
+     * Original signature : <code>void iauBp00(double, double, double*, double*, double*)</code>
+     */
+    public static void iauBp00(double date1, double date2, MemorySegment rb, MemorySegment rp, MemorySegment rbp) {
+        try {
+            iauBp00$MH.invokeExact(date1, date2, rb, rp, rbp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauBp06$MH = downcall("iauBp06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Frame bias and precession, IAU 2006.<br>
+     * Original signature : <code>void iauBp06(double, double, double*, double*, double*)</code>
+     */
+    public static void iauBp06(double date1, double date2, MemorySegment rb, MemorySegment rp, MemorySegment rbp) {
+        try {
+            iauBp06$MH.invokeExact(date1, date2, rb, rp, rbp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauBpn2xy$MH = downcall("iauBpn2xy", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Extract from the bias-precession-nutation matrix the X,Y coordinates of the Celestial Intermediate Pole.<br>
+     * Original signature : <code>void iauBpn2xy(double*, double*, double*)</code>
+     */
+    public static void iauBpn2xy(MemorySegment rbpn, MemorySegment x, MemorySegment y) {
+        try {
+            iauBpn2xy$MH.invokeExact(rbpn, x, y);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2i00a$MH = downcall("iauC2i00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2000A precession-nutation model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauC2i00a(double, double, double*)</code>
+     */
+    public static void iauC2i00a(double date1, double date2, MemorySegment rc2i) {
+        try {
+            iauC2i00a$MH.invokeExact(date1, date2, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2i00b$MH = downcall("iauC2i00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2000B precession-nutation model.<br>
+     * Original signature : <code>void iauC2i00b(double, double, double*)</code>
+     */
+    public static void iauC2i00b(double date1, double date2, MemorySegment rc2i) {
+        try {
+            iauC2i00b$MH.invokeExact(date1, date2, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2i06a$MH = downcall("iauC2i06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauC2i06a(double, double, double*)</code>
+     */
+    public static void iauC2i06a(double date1, double date2, MemorySegment rc2i) {
+        try {
+            iauC2i06a$MH.invokeExact(date1, date2, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2ibpn$MH = downcall("iauC2ibpn", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Form the celestial-to-intermediate matrix for a given date given the bias-precession-nutation matrix.  IAU 2000.<br>
+     * Original signature : <code>void iauC2ibpn(double, double, double*, double*)</code>
+     */
+    public static void iauC2ibpn(double date1, double date2, MemorySegment rbpn, MemorySegment rc2i) {
+        try {
+            iauC2ibpn$MH.invokeExact(date1, date2, rbpn, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2ixy$MH = downcall("iauC2ixy", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial to intermediate-frame-of-date matrix for a given date when the CIP X,Y coordinates are known.  IAU 2000.<br>
+     * Original signature : <code>void iauC2ixy(double, double, double, double, double*)</code>
+     */
+    public static void iauC2ixy(double date1, double date2, double x, double y, MemorySegment rc2i) {
+        try {
+            iauC2ixy$MH.invokeExact(date1, date2, x, y, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2ixys$MH = downcall("iauC2ixys", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial to intermediate-frame-of-date matrix given the CIP X,Y and the CIO locator s.<br>
+     * Original signature : <code>void iauC2ixys(double, double, double, double*)</code>
+     */
+    public static void iauC2ixys(double x, double y, double s, MemorySegment rc2i) {
+        try {
+            iauC2ixys$MH.invokeExact(x, y, s, rc2i);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2t00a$MH = downcall("iauC2t00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2000A nutation model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauC2t00a(double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauC2t00a(double tta, double ttb, double uta, double utb, double xp, double yp, MemorySegment rc2t) {
+        try {
+            iauC2t00a$MH.invokeExact(tta, ttb, uta, utb, xp, yp, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2t00b$MH = downcall("iauC2t00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2000B nutation model.<br>
+     * Original signature : <code>void iauC2t00b(double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauC2t00b(double tta, double ttb, double uta, double utb, double xp, double yp, MemorySegment rc2t) {
+        try {
+            iauC2t00b$MH.invokeExact(tta, ttb, uta, utb, xp, yp, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2t06a$MH = downcall("iauC2t06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauC2t06a(double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauC2t06a(double tta, double ttb, double uta, double utb, double xp, double yp, MemorySegment rc2t) {
+        try {
+            iauC2t06a$MH.invokeExact(tta, ttb, uta, utb, xp, yp, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2tcio$MH = downcall("iauC2tcio", FunctionDescriptor.ofVoid(ADDRESS, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Assemble the celestial to terrestrial matrix from CIO-based components (the celestial-to-intermediate matrix, the Earth Rotation Angle and the polar motion matrix).<br>
+     * Original signature : <code>void iauC2tcio(double*, double, double*, double*)</code>
+     */
+    public static void iauC2tcio(MemorySegment rc2i, double era, MemorySegment rpom, MemorySegment rc2t) {
+        try {
+            iauC2tcio$MH.invokeExact(rc2i, era, rpom, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2teqx$MH = downcall("iauC2teqx", FunctionDescriptor.ofVoid(ADDRESS, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Assemble the celestial to terrestrial matrix from equinox-based components (the celestial-to-true matrix, the Greenwich Apparent Sidereal Time and the polar motion matrix).<br>
+     * Original signature : <code>void iauC2teqx(double*, double, double*, double*)</code>
+     */
+    public static void iauC2teqx(MemorySegment rbpn, double gst, MemorySegment rpom, MemorySegment rc2t) {
+        try {
+            iauC2teqx$MH.invokeExact(rbpn, gst, rpom, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2tpe$MH = downcall("iauC2tpe", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1, the nutation and the polar motion.  IAU 2000.<br>
+     * Original signature : <code>void iauC2tpe(double, double, double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauC2tpe(double tta, double ttb, double uta, double utb, double dpsi, double deps, double xp, double yp, MemorySegment rc2t) {
+        try {
+            iauC2tpe$MH.invokeExact(tta, ttb, uta, utb, dpsi, deps, xp, yp, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2txy$MH = downcall("iauC2txy", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1, the CIP coordinates and the polar motion.  IAU 2000.<br>
+     * Original signature : <code>void iauC2txy(double, double, double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauC2txy(double tta, double ttb, double uta, double utb, double x, double y, double xp, double yp, MemorySegment rc2t) {
+        try {
+            iauC2txy$MH.invokeExact(tta, ttb, uta, utb, x, y, xp, yp, rc2t);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEo06a$MH = downcall("iauEo06a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * Equation of the origins, IAU 2006 precession and IAU 2000A nutation.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauEo06a(double, double)</code>
+     */
+    public static double iauEo06a(double date1, double date2) {
+        try {
+            return (double) iauEo06a$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEors$MH = downcall("iauEors", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS, JAVA_DOUBLE), true);
+    /**
+     * Equation of the origins, given the classical NPB matrix and the quantity s.<br>
+     * Original signature : <code>double iauEors(double*, double)</code>
+     */
+    public static double iauEors(MemorySegment rnpb, double s) {
+        try {
+            return (double) iauEors$MH.invokeExact(rnpb, s);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFw2m$MH = downcall("iauFw2m", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form rotation matrix given the Fukushima-Williams angles.<br>
+     * Original signature : <code>void iauFw2m(double, double, double, double, double*)</code>
+     */
+    public static void iauFw2m(double gamb, double phib, double psi, double eps, MemorySegment r) {
+        try {
+            iauFw2m$MH.invokeExact(gamb, phib, psi, eps, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFw2xy$MH = downcall("iauFw2xy", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * CIP X,Y given Fukushima-Williams bias-precession-nutation angles.<br>
+     * Original signature : <code>void iauFw2xy(double, double, double, double, double*, double*)</code>
+     */
+    public static void iauFw2xy(double gamb, double phib, double psi, double eps, MemorySegment x, MemorySegment y) {
+        try {
+            iauFw2xy$MH.invokeExact(gamb, phib, psi, eps, x, y);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNum00a$MH = downcall("iauNum00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the matrix of nutation for a given date, IAU 2000A model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauNum00a(double, double, double*)</code>
+     */
+    public static void iauNum00a(double date1, double date2, MemorySegment rmatn) {
+        try {
+            iauNum00a$MH.invokeExact(date1, date2, rmatn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNum00b$MH = downcall("iauNum00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of nutation for a given date, IAU 2000B model.<br>
+     * Original signature : <code>void iauNum00b(double, double, double*)</code>
+     */
+    public static void iauNum00b(double date1, double date2, MemorySegment rmatn) {
+        try {
+            iauNum00b$MH.invokeExact(date1, date2, rmatn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNum06a$MH = downcall("iauNum06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the matrix of nutation for a given date, IAU 2006/2000A model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauNum06a(double, double, double*)</code>
+     */
+    public static void iauNum06a(double date1, double date2, MemorySegment rmatn) {
+        try {
+            iauNum06a$MH.invokeExact(date1, date2, rmatn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNumat$MH = downcall("iauNumat", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of nutation.<br>
+     * Original signature : <code>void iauNumat(double, double, double, double*)</code>
+     */
+    public static void iauNumat(double epsa, double dpsi, double deps, MemorySegment rmatn) {
+        try {
+            iauNumat$MH.invokeExact(epsa, dpsi, deps, rmatn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNut00a$MH = downcall("iauNut00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * Nutation, IAU 2000A model (MHB2000 luni-solar and planetary nutation with free core nutation omitted).<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauNut00a(double, double, double*, double*)</code>
+     */
+    public static void iauNut00a(double date1, double date2, MemorySegment dpsi, MemorySegment deps) {
+        try {
+            iauNut00a$MH.invokeExact(date1, date2, dpsi, deps);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNut00b$MH = downcall("iauNut00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Nutation, IAU 2000B model.<br>
+     * Original signature : <code>void iauNut00b(double, double, double*, double*)</code>
+     */
+    public static void iauNut00b(double date1, double date2, MemorySegment dpsi, MemorySegment deps) {
+        try {
+            iauNut00b$MH.invokeExact(date1, date2, dpsi, deps);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNut06a$MH = downcall("iauNut06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * IAU 2000A nutation with adjustments to match the IAU 2006 precession.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauNut06a(double, double, double*, double*)</code>
+     */
+    public static void iauNut06a(double date1, double date2, MemorySegment dpsi, MemorySegment deps) {
+        try {
+            iauNut06a$MH.invokeExact(date1, date2, dpsi, deps);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNut80$MH = downcall("iauNut80", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Nutation, IAU 1980 model.<br>
+     * Original signature : <code>void iauNut80(double, double, double*, double*)</code>
+     */
+    public static void iauNut80(double date1, double date2, MemorySegment dpsi, MemorySegment deps) {
+        try {
+            iauNut80$MH.invokeExact(date1, date2, dpsi, deps);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauNutm80$MH = downcall("iauNutm80", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of nutation for a given date, IAU 1980 model.<br>
+     * Original signature : <code>void iauNutm80(double, double, double*)</code>
+     */
+    public static void iauNutm80(double date1, double date2, MemorySegment rmatn) {
+        try {
+            iauNutm80$MH.invokeExact(date1, date2, rmatn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauObl06$MH = downcall("iauObl06", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Mean obliquity of the ecliptic, IAU 2006 precession model.<br>
+     * Original signature : <code>double iauObl06(double, double)</code>
+     */
+    public static double iauObl06(double date1, double date2) {
+        try {
+            return (double) iauObl06$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauObl80$MH = downcall("iauObl80", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Mean obliquity of the ecliptic, IAU 1980 model.<br>
+     * Original signature : <code>double iauObl80(double, double)</code>
+     */
+    public static double iauObl80(double date1, double date2) {
+        try {
+            return (double) iauObl80$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauP06e$MH = downcall("iauP06e", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Precession angles, IAU 2006, equinox based.<br>
+     * Original signature : <code>void iauP06e(double, double, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauP06e(double date1, double date2, MemorySegment eps0, MemorySegment psia, MemorySegment oma, MemorySegment bpa, MemorySegment bqa, MemorySegment pia, MemorySegment bpia, MemorySegment epsa, MemorySegment chia, MemorySegment za, MemorySegment zetaa, MemorySegment thetaa, MemorySegment pa, MemorySegment gam, MemorySegment phi, MemorySegment psi) {
+        try {
+            iauP06e$MH.invokeExact(date1, date2, eps0, psia, oma, bpa, bqa, pia, bpia, epsa, chia, za, zetaa, thetaa, pa, gam, phi, psi);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPb06$MH = downcall("iauPb06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * This function forms three Euler angles which implement general precession from epoch J2000.0, using the IAU 2006 model.  Frame bias (the offset between ICRS and mean J2000.0) is included.<br>
+     * Original signature : <code>void iauPb06(double, double, double*, double*, double*)</code>
+     */
+    public static void iauPb06(double date1, double date2, MemorySegment bzeta, MemorySegment bz, MemorySegment btheta) {
+        try {
+            iauPb06$MH.invokeExact(date1, date2, bzeta, bz, btheta);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPfw06$MH = downcall("iauPfw06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Precession angles, IAU 2006 (Fukushima-Williams 4-angle formulation).<br>
+     * Original signature : <code>void iauPfw06(double, double, double*, double*, double*, double*)</code>
+     */
+    public static void iauPfw06(double date1, double date2, MemorySegment gamb, MemorySegment phib, MemorySegment psib, MemorySegment epsa) {
+        try {
+            iauPfw06$MH.invokeExact(date1, date2, gamb, phib, psib, epsa);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmat00$MH = downcall("iauPmat00", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Precession matrix (including frame bias) from GCRS to a specified date, IAU 2000 model.<br>
+     * Original signature : <code>void iauPmat00(double, double, double*)</code>
+     */
+    public static void iauPmat00(double date1, double date2, MemorySegment rbp) {
+        try {
+            iauPmat00$MH.invokeExact(date1, date2, rbp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmat06$MH = downcall("iauPmat06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Precession matrix (including frame bias) from GCRS to a specified date, IAU 2006 model.<br>
+     * Original signature : <code>void iauPmat06(double, double, double*)</code>
+     */
+    public static void iauPmat06(double date1, double date2, MemorySegment rbp) {
+        try {
+            iauPmat06$MH.invokeExact(date1, date2, rbp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmat76$MH = downcall("iauPmat76", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Precession matrix from J2000.0 to a specified date, IAU 1976 model.<br>
+     * Original signature : <code>void iauPmat76(double, double, double*)</code>
+     */
+    public static void iauPmat76(double date1, double date2, MemorySegment rmatp) {
+        try {
+            iauPmat76$MH.invokeExact(date1, date2, rmatp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn00$MH = downcall("iauPn00", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Precession-nutation, IAU 2000 model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Original signature : <code>void iauPn00(double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPn00(double date1, double date2, double dpsi, double deps, MemorySegment epsa, MemorySegment rb, MemorySegment rp, MemorySegment rbp, MemorySegment rn, MemorySegment rbpn) {
+        try {
+            iauPn00$MH.invokeExact(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn00a$MH = downcall("iauPn00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * Precession-nutation, IAU 2000A model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauPn00a(double, double, double*, double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPn00a(double date1, double date2, MemorySegment dpsi, MemorySegment deps, MemorySegment epsa, MemorySegment rb, MemorySegment rp, MemorySegment rbp, MemorySegment rn, MemorySegment rbpn) {
+        try {
+            iauPn00a$MH.invokeExact(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn00b$MH = downcall("iauPn00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Precession-nutation, IAU 2000B model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Original signature : <code>void iauPn00b(double, double, double*, double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPn00b(double date1, double date2, MemorySegment dpsi, MemorySegment deps, MemorySegment epsa, MemorySegment rb, MemorySegment rp, MemorySegment rbp, MemorySegment rn, MemorySegment rbpn) {
+        try {
+            iauPn00b$MH.invokeExact(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn06$MH = downcall("iauPn06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Precession-nutation, IAU 2006 model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Original signature : <code>void iauPn06(double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPn06(double date1, double date2, double dpsi, double deps, MemorySegment epsa, MemorySegment rb, MemorySegment rp, MemorySegment rbp, MemorySegment rn, MemorySegment rbpn) {
+        try {
+            iauPn06$MH.invokeExact(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn06a$MH = downcall("iauPn06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * Precession-nutation, IAU 2006/2000A models:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauPn06a(double, double, double*, double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPn06a(double date1, double date2, MemorySegment dpsi, MemorySegment deps, MemorySegment epsa, MemorySegment rb, MemorySegment rp, MemorySegment rbp, MemorySegment rn, MemorySegment rbpn) {
+        try {
+            iauPn06a$MH.invokeExact(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPnm00a$MH = downcall("iauPnm00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), equinox-based, IAU 2000A model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauPnm00a(double, double, double*)</code>
+     */
+    public static void iauPnm00a(double date1, double date2, MemorySegment rbpn) {
+        try {
+            iauPnm00a$MH.invokeExact(date1, date2, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPnm00b$MH = downcall("iauPnm00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), equinox-based, IAU 2000B model.<br>
+     * Original signature : <code>void iauPnm00b(double, double, double*)</code>
+     */
+    public static void iauPnm00b(double date1, double date2, MemorySegment rbpn) {
+        try {
+            iauPnm00b$MH.invokeExact(date1, date2, rbpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPnm06a$MH = downcall("iauPnm06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), false);
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauPnm06a(double, double, double*)</code>
+     */
+    public static void iauPnm06a(double date1, double date2, MemorySegment rnpb) {
+        try {
+            iauPnm06a$MH.invokeExact(date1, date2, rnpb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPnm80$MH = downcall("iauPnm80", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of precession/nutation for a given date, IAU 1976 precession model, IAU 1980 nutation model.<br>
+     * Original signature : <code>void iauPnm80(double, double, double*)</code>
+     */
+    public static void iauPnm80(double date1, double date2, MemorySegment rmatpn) {
+        try {
+            iauPnm80$MH.invokeExact(date1, date2, rmatpn);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPom00$MH = downcall("iauPom00", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Form the matrix of polar motion for a given date, IAU 2000.<br>
+     * Original signature : <code>void iauPom00(double, double, double, double*)</code>
+     */
+    public static void iauPom00(double xp, double yp, double sp, MemorySegment rpom) {
+        try {
+            iauPom00$MH.invokeExact(xp, yp, sp, rpom);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPr00$MH = downcall("iauPr00", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Precession-rate part of the IAU 2000 precession-nutation models (part of MHB2000).<br>
+     * Original signature : <code>void iauPr00(double, double, double*, double*)</code>
+     */
+    public static void iauPr00(double date1, double date2, MemorySegment dpsipr, MemorySegment depspr) {
+        try {
+            iauPr00$MH.invokeExact(date1, date2, dpsipr, depspr);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPrec76$MH = downcall("iauPrec76", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * IAU 1976 precession model.<br>
+     * Original signature : <code>void iauPrec76(double, double, double, double, double*, double*, double*)</code>
+     */
+    public static void iauPrec76(double date01, double date02, double date11, double date12, MemorySegment zeta, MemorySegment z, MemorySegment theta) {
+        try {
+            iauPrec76$MH.invokeExact(date01, date02, date11, date12, zeta, z, theta);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS00$MH = downcall("iauS00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * The CIO locator s, positioning the Celestial Intermediate Origin on the equator of the Celestial Intermediate Pole, given the CIP's X,Y coordinates.  Compatible with IAU 2000A precession-nutation.<br>
+     * Original signature : <code>double iauS00(double, double, double, double)</code>
+     */
+    public static double iauS00(double date1, double date2, double x, double y) {
+        try {
+            return (double) iauS00$MH.invokeExact(date1, date2, x, y);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS00a$MH = downcall("iauS00a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * The CIO locator s, positioning the Celestial Intermediate Origin on the equator of the Celestial Intermediate Pole, using the IAU 2000A precession-nutation model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauS00a(double, double)</code>
+     */
+    public static double iauS00a(double date1, double date2) {
+        try {
+            return (double) iauS00a$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS00b$MH = downcall("iauS00b", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * The CIO locator s, positioning the Celestial Intermediate Origin on the equator of the Celestial Intermediate Pole, using the IAU 2000B precession-nutation model.<br>
+     * Original signature : <code>double iauS00b(double, double)</code>
+     */
+    public static double iauS00b(double date1, double date2) {
+        try {
+            return (double) iauS00b$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS06$MH = downcall("iauS06", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * The CIO locator s, positioning the Celestial Intermediate Origin on the equator of the Celestial Intermediate Pole, given the CIP's X,Y coordinates.  Compatible with IAU 2006/2000A precession-nutation.<br>
+     * Original signature : <code>double iauS06(double, double, double, double)</code>
+     */
+    public static double iauS06(double date1, double date2, double x, double y) {
+        try {
+            return (double) iauS06$MH.invokeExact(date1, date2, x, y);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS06a$MH = downcall("iauS06a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * The CIO locator s, positioning the Celestial Intermediate Origin on the equator of the Celestial Intermediate Pole, using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauS06a(double, double)</code>
+     */
+    public static double iauS06a(double date1, double date2) {
+        try {
+            return (double) iauS06a$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauSp00$MH = downcall("iauSp00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * The TIO locator s', positioning the Terrestrial Intermediate Origin on the equator of the Celestial Intermediate Pole.<br>
+     * Original signature : <code>double iauSp00(double, double)</code>
+     */
+    public static double iauSp00(double date1, double date2) {
+        try {
+            return (double) iauSp00$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauXy06$MH = downcall("iauXy06", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), false);
+    /**
+     * X,Y coordinates of celestial intermediate pole from series based on IAU 2006 precession and IAU 2000A nutation.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauXy06(double, double, double*, double*)</code>
+     */
+    public static void iauXy06(double date1, double date2, MemorySegment x, MemorySegment y) {
+        try {
+            iauXy06$MH.invokeExact(date1, date2, x, y);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauXys00a$MH = downcall("iauXys00a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2000A precession-nutation model.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauXys00a(double, double, double*, double*, double*)</code>
+     */
+    public static void iauXys00a(double date1, double date2, MemorySegment x, MemorySegment y, MemorySegment s) {
+        try {
+            iauXys00a$MH.invokeExact(date1, date2, x, y, s);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauXys00b$MH = downcall("iauXys00b", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2000B precession-nutation model.<br>
+     * Original signature : <code>void iauXys00b(double, double, double*, double*, double*)</code>
+     */
+    public static void iauXys00b(double date1, double date2, MemorySegment x, MemorySegment y, MemorySegment s) {
+        try {
+            iauXys00b$MH.invokeExact(date1, date2, x, y, s);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauXys06a$MH = downcall("iauXys06a", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS), false);
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>void iauXys06a(double, double, double*, double*, double*)</code>
+     */
+    public static void iauXys06a(double date1, double date2, MemorySegment x, MemorySegment y, MemorySegment s) {
+        try {
+            iauXys06a$MH.invokeExact(date1, date2, x, y, s);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEe00$MH = downcall("iauEe00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * The equation of the equinoxes, compatible with IAU 2000 resolutions, given the nutation in longitude and the mean obliquity.<br>
+     * Original signature : <code>double iauEe00(double, double, double, double)</code>
+     */
+    public static double iauEe00(double date1, double date2, double epsa, double dpsi) {
+        try {
+            return (double) iauEe00$MH.invokeExact(date1, date2, epsa, dpsi);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEe00a$MH = downcall("iauEe00a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * Equation of the equinoxes, compatible with IAU 2000 resolutions.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauEe00a(double, double)</code>
+     */
+    public static double iauEe00a(double date1, double date2) {
+        try {
+            return (double) iauEe00a$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEe00b$MH = downcall("iauEe00b", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Equation of the equinoxes, compatible with IAU 2000 resolutions but using the truncated nutation model IAU 2000B.<br>
+     * Original signature : <code>double iauEe00b(double, double)</code>
+     */
+    public static double iauEe00b(double date1, double date2) {
+        try {
+            return (double) iauEe00b$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEe06a$MH = downcall("iauEe06a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * Equation of the equinoxes, compatible with IAU 2000 resolutions and IAU 2006/2000A precession-nutation.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauEe06a(double, double)</code>
+     */
+    public static double iauEe06a(double date1, double date2) {
+        try {
+            return (double) iauEe06a$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEect00$MH = downcall("iauEect00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Equation of the equinoxes complementary terms, consistent with IAU 2000 resolutions.<br>
+     * Original signature : <code>double iauEect00(double, double)</code>
+     */
+    public static double iauEect00(double date1, double date2) {
+        try {
+            return (double) iauEect00$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEqeq94$MH = downcall("iauEqeq94", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Equation of the equinoxes, IAU 1994 model.<br>
+     * Original signature : <code>double iauEqeq94(double, double)</code>
+     */
+    public static double iauEqeq94(double date1, double date2) {
+        try {
+            return (double) iauEqeq94$MH.invokeExact(date1, date2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEra00$MH = downcall("iauEra00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Earth rotation angle (IAU 2000 model).<br>
+     * Original signature : <code>double iauEra00(double, double)</code>
+     */
+    public static double iauEra00(double dj1, double dj2) {
+        try {
+            return (double) iauEra00$MH.invokeExact(dj1, dj2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGmst00$MH = downcall("iauGmst00", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Greenwich mean sidereal time (model consistent with IAU 2000 resolutions).<br>
+     * Original signature : <code>double iauGmst00(double, double, double, double)</code>
+     */
+    public static double iauGmst00(double uta, double utb, double tta, double ttb) {
+        try {
+            return (double) iauGmst00$MH.invokeExact(uta, utb, tta, ttb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGmst06$MH = downcall("iauGmst06", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Greenwich mean sidereal time (consistent with IAU 2006 precession).<br>
+     * Original signature : <code>double iauGmst06(double, double, double, double)</code>
+     */
+    public static double iauGmst06(double uta, double utb, double tta, double ttb) {
+        try {
+            return (double) iauGmst06$MH.invokeExact(uta, utb, tta, ttb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGmst82$MH = downcall("iauGmst82", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Universal Time to Greenwich mean sidereal time (IAU 1982 model).<br>
+     * Original signature : <code>double iauGmst82(double, double)</code>
+     */
+    public static double iauGmst82(double dj1, double dj2) {
+        try {
+            return (double) iauGmst82$MH.invokeExact(dj1, dj2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGst00a$MH = downcall("iauGst00a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * Greenwich apparent sidereal time (consistent with IAU 2000 resolutions).<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauGst00a(double, double, double, double)</code>
+     */
+    public static double iauGst00a(double uta, double utb, double tta, double ttb) {
+        try {
+            return (double) iauGst00a$MH.invokeExact(uta, utb, tta, ttb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGst00b$MH = downcall("iauGst00b", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Greenwich apparent sidereal time (consistent with IAU 2000 resolutions but using the truncated nutation model IAU 2000B).<br>
+     * Original signature : <code>double iauGst00b(double, double)</code>
+     */
+    public static double iauGst00b(double uta, double utb) {
+        try {
+            return (double) iauGst00b$MH.invokeExact(uta, utb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGst06$MH = downcall("iauGst06", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Greenwich apparent sidereal time, IAU 2006, given the NPB matrix.<br>
+     * Original signature : <code>double iauGst06(double, double, double, double, double*)</code>
+     */
+    public static double iauGst06(double uta, double utb, double tta, double ttb, MemorySegment rnpb) {
+        try {
+            return (double) iauGst06$MH.invokeExact(uta, utb, tta, ttb, rnpb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGst06a$MH = downcall("iauGst06a", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * Greenwich apparent sidereal time (consistent with IAU 2000 and 2006 resolutions).<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauGst06a(double, double, double, double)</code>
+     */
+    public static double iauGst06a(double uta, double utb, double tta, double ttb) {
+        try {
+            return (double) iauGst06a$MH.invokeExact(uta, utb, tta, ttb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGst94$MH = downcall("iauGst94", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Greenwich apparent sidereal time (consistent with IAU 1982/94 resolutions).<br>
+     * Original signature : <code>double iauGst94(double, double)</code>
+     */
+    public static double iauGst94(double uta, double utb) {
+        try {
+            return (double) iauGst94$MH.invokeExact(uta, utb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvstar$MH = downcall("iauPvstar", FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Convert star position+velocity vector to catalog coordinates.<br>
+     * Original signature : <code>int iauPvstar(double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static int iauPvstar(MemorySegment pv, MemorySegment ra, MemorySegment dec, MemorySegment pmr, MemorySegment pmd, MemorySegment px, MemorySegment rv) {
+        try {
+            return (int) iauPvstar$MH.invokeExact(pv, ra, dec, pmr, pmd, px, rv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauStarpv$MH = downcall("iauStarpv", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert star catalog coordinates to position+velocity vector.<br>
+     * Original signature : <code>int iauStarpv(double, double, double, double, double, double, double*)</code>
+     */
+    public static int iauStarpv(double ra, double dec, double pmr, double pmd, double px, double rv, MemorySegment pv) {
+        try {
+            return (int) iauStarpv$MH.invokeExact(ra, dec, pmr, pmd, px, rv, pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFk52h$MH = downcall("iauFk52h", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Transform FK5 (J2000.0) star data into the Hipparcos system.<br>
+     * Original signature : <code>void iauFk52h(double, double, double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauFk52h(double r5, double d5, double dr5, double dd5, double px5, double rv5, MemorySegment rh, MemorySegment dh, MemorySegment drh, MemorySegment ddh, MemorySegment pxh, MemorySegment rvh) {
+        try {
+            iauFk52h$MH.invokeExact(r5, d5, dr5, dd5, px5, rv5, rh, dh, drh, ddh, pxh, rvh);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFk5hip$MH = downcall("iauFk5hip", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * FK5 to Hipparcos rotation and spin.<br>
+     * Original signature : <code>void iauFk5hip(double*, double*)</code>
+     */
+    public static void iauFk5hip(MemorySegment r5h, MemorySegment s5h) {
+        try {
+            iauFk5hip$MH.invokeExact(r5h, s5h);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauFk5hz$MH = downcall("iauFk5hz", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Transform an FK5 (J2000.0) star position into the system of the Hipparcos catalogue, assuming zero Hipparcos proper motion.<br>
+     * Original signature : <code>void iauFk5hz(double, double, double, double, double*, double*)</code>
+     */
+    public static void iauFk5hz(double r5, double d5, double date1, double date2, MemorySegment rh, MemorySegment dh) {
+        try {
+            iauFk5hz$MH.invokeExact(r5, d5, date1, date2, rh, dh);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauH2fk5$MH = downcall("iauH2fk5", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Transform Hipparcos star data into the FK5 (J2000.0) system.<br>
+     * Original signature : <code>void iauH2fk5(double, double, double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauH2fk5(double rh, double dh, double drh, double ddh, double pxh, double rvh, MemorySegment r5, MemorySegment d5, MemorySegment dr5, MemorySegment dd5, MemorySegment px5, MemorySegment rv5) {
+        try {
+            iauH2fk5$MH.invokeExact(rh, dh, drh, ddh, pxh, rvh, r5, d5, dr5, dd5, px5, rv5);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauHfk5z$MH = downcall("iauHfk5z", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Transform a Hipparcos star position into FK5 J2000.0, assuming zero Hipparcos proper motion.<br>
+     * Original signature : <code>void iauHfk5z(double, double, double, double, double*, double*, double*, double*)</code>
+     */
+    public static void iauHfk5z(double rh, double dh, double date1, double date2, MemorySegment r5, MemorySegment d5, MemorySegment dr5, MemorySegment dd5) {
+        try {
+            iauHfk5z$MH.invokeExact(rh, dh, date1, date2, r5, d5, dr5, dd5);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauStarpm$MH = downcall("iauStarpm", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Star proper motion:  update star catalog data for space motion.<br>
+     * Original signature : <code>int iauStarpm(double, double, double, double, double, double, double, double, double, double, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static int iauStarpm(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, MemorySegment ra2, MemorySegment dec2, MemorySegment pmr2, MemorySegment pmd2, MemorySegment px2, MemorySegment rv2) {
+        try {
+            return (int) iauStarpm$MH.invokeExact(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauEform$MH = downcall("iauEform", FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS, ADDRESS), true);
+    /**
+     * Earth reference ellipsoids.<br>
+     * Original signature : <code>int iauEform(int, double*, double*)</code>
+     */
+    public static int iauEform(int n, MemorySegment a, MemorySegment f) {
+        try {
+            return (int) iauEform$MH.invokeExact(n, a, f);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGc2gd$MH = downcall("iauGc2gd", FunctionDescriptor.of(JAVA_INT, JAVA_INT, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Transform geocentric coordinates to geodetic using the specified reference ellipsoid.<br>
+     * Original signature : <code>int iauGc2gd(int, double*, double*, double*, double*)</code>
+     */
+    public static int iauGc2gd(int n, MemorySegment xyz, MemorySegment elong, MemorySegment phi, MemorySegment height) {
+        try {
+            return (int) iauGc2gd$MH.invokeExact(n, xyz, elong, phi, height);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGc2gde$MH = downcall("iauGc2gde", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Transform geocentric coordinates to geodetic for a reference ellipsoid of specified form.<br>
+     * Original signature : <code>int iauGc2gde(double, double, double*, double*, double*, double*)</code>
+     */
+    public static int iauGc2gde(double a, double f, MemorySegment xyz, MemorySegment elong, MemorySegment phi, MemorySegment height) {
+        try {
+            return (int) iauGc2gde$MH.invokeExact(a, f, xyz, elong, phi, height);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGd2gc$MH = downcall("iauGd2gc", FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Transform geodetic coordinates to geocentric using the specified reference ellipsoid.<br>
+     * Original signature : <code>int iauGd2gc(int, double, double, double, double*)</code>
+     */
+    public static int iauGd2gc(int n, double elong, double phi, double height, MemorySegment xyz) {
+        try {
+            return (int) iauGd2gc$MH.invokeExact(n, elong, phi, height, xyz);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauGd2gce$MH = downcall("iauGd2gce", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Transform geodetic coordinates to geocentric for a reference ellipsoid of specified form.<br>
+     * Original signature : <code>int iauGd2gce(double, double, double, double, double, double*)</code>
+     */
+    public static int iauGd2gce(double a, double f, double elong, double phi, double height, MemorySegment xyz) {
+        try {
+            return (int) iauGd2gce$MH.invokeExact(a, f, elong, phi, height, xyz);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauD2dtf$MH = downcall("iauD2dtf", FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Format for output a 2-part Julian Date (or in the case of UTC a quasi-JD form that includes special provision for leap seconds).<br>
+     * Original signature : <code>int iauD2dtf(const char*, int, double, double, int*, int*, int*, int*)</code>
+     */
+    public static int iauD2dtf(MemorySegment scale, int ndp, double d1, double d2, MemorySegment iy, MemorySegment im, MemorySegment id, MemorySegment ihmsf) {
+        try {
+            return (int) iauD2dtf$MH.invokeExact(scale, ndp, d1, d2, iy, im, id, ihmsf);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauDat$MH = downcall("iauDat", FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * For a given UTC date, calculate delta(AT) = TAI-UTC.<br>
+     * Original signature : <code>int iauDat(int, int, int, double, double*)</code>
+     */
+    public static int iauDat(int iy, int im, int id, double fd, MemorySegment deltat) {
+        try {
+            return (int) iauDat$MH.invokeExact(iy, im, id, fd, deltat);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauDtdb$MH = downcall("iauDtdb", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), false);
+    /**
+     * An approximation to TDB-TT, the difference between barycentric dynamical time and terrestrial time, for an observer on the Earth.<br>
+     * Regular (non-critical) downcall: pointer arguments must be native segments.<br>
+     * Original signature : <code>double iauDtdb(double, double, double, double, double, double)</code>
+     */
+    public static double iauDtdb(double date1, double date2, double ut, double elong, double u, double v) {
+        try {
+            return (double) iauDtdb$MH.invokeExact(date1, date2, ut, elong, u, v);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauDtf2d$MH = downcall("iauDtf2d", FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_INT, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Encode date and time fields into 2-part Julian Date (or in the case of UTC a quasi-JD form that includes special provision for leap seconds).<br>
+     * Original signature : <code>int iauDtf2d(const char*, int, int, int, int, int, double, double*, double*)</code>
+     */
+    public static int iauDtf2d(MemorySegment scale, int iy, int im, int id, int ihr, int imn, double sec, MemorySegment d1, MemorySegment d2) {
+        try {
+            return (int) iauDtf2d$MH.invokeExact(scale, iy, im, id, ihr, imn, sec, d1, d2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTaitt$MH = downcall("iauTaitt", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Terrestrial Time, TT.<br>
+     * Original signature : <code>int iauTaitt(double, double, double*, double*)</code>
+     */
+    public static int iauTaitt(double tai1, double tai2, MemorySegment tt1, MemorySegment tt2) {
+        try {
+            return (int) iauTaitt$MH.invokeExact(tai1, tai2, tt1, tt2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTaiut1$MH = downcall("iauTaiut1", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Universal Time, UT1.<br>
+     * Original signature : <code>int iauTaiut1(double, double, double, double*, double*)</code>
+     */
+    public static int iauTaiut1(double tai1, double tai2, double dta, MemorySegment ut11, MemorySegment ut12) {
+        try {
+            return (int) iauTaiut1$MH.invokeExact(tai1, tai2, dta, ut11, ut12);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTaiutc$MH = downcall("iauTaiutc", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Coordinated Universal Time, UTC.<br>
+     * Original signature : <code>int iauTaiutc(double, double, double*, double*)</code>
+     */
+    public static int iauTaiutc(double tai1, double tai2, MemorySegment utc1, MemorySegment utc2) {
+        try {
+            return (int) iauTaiutc$MH.invokeExact(tai1, tai2, utc1, utc2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTcbtdb$MH = downcall("iauTcbtdb", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Barycentric Coordinate Time, TCB, to Barycentric Dynamical Time, TDB.<br>
+     * Original signature : <code>int iauTcbtdb(double, double, double*, double*)</code>
+     */
+    public static int iauTcbtdb(double tcb1, double tcb2, MemorySegment tdb1, MemorySegment tdb2) {
+        try {
+            return (int) iauTcbtdb$MH.invokeExact(tcb1, tcb2, tdb1, tdb2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTcgtt$MH = downcall("iauTcgtt", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Geocentric Coordinate Time, TCG, to Terrestrial Time, TT.<br>
+     * Original signature : <code>int iauTcgtt(double, double, double*, double*)</code>
+     */
+    public static int iauTcgtt(double tcg1, double tcg2, MemorySegment tt1, MemorySegment tt2) {
+        try {
+            return (int) iauTcgtt$MH.invokeExact(tcg1, tcg2, tt1, tt2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTdbtcb$MH = downcall("iauTdbtcb", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Barycentric Dynamical Time, TDB, to Barycentric Coordinate Time, TCB.<br>
+     * Original signature : <code>int iauTdbtcb(double, double, double*, double*)</code>
+     */
+    public static int iauTdbtcb(double tdb1, double tdb2, MemorySegment tcb1, MemorySegment tcb2) {
+        try {
+            return (int) iauTdbtcb$MH.invokeExact(tdb1, tdb2, tcb1, tcb2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTdbtt$MH = downcall("iauTdbtt", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Barycentric Dynamical Time, TDB, to Terrestrial Time, TT.<br>
+     * Original signature : <code>int iauTdbtt(double, double, double, double*, double*)</code>
+     */
+    public static int iauTdbtt(double tdb1, double tdb2, double dtr, MemorySegment tt1, MemorySegment tt2) {
+        try {
+            return (int) iauTdbtt$MH.invokeExact(tdb1, tdb2, dtr, tt1, tt2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTttai$MH = downcall("iauTttai", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to International Atomic Time, TAI.<br>
+     * Original signature : <code>int iauTttai(double, double, double*, double*)</code>
+     */
+    public static int iauTttai(double tt1, double tt2, MemorySegment tai1, MemorySegment tai2) {
+        try {
+            return (int) iauTttai$MH.invokeExact(tt1, tt2, tai1, tai2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTttcg$MH = downcall("iauTttcg", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Geocentric Coordinate Time, TCG.<br>
+     * Original signature : <code>int iauTttcg(double, double, double*, double*)</code>
+     */
+    public static int iauTttcg(double tt1, double tt2, MemorySegment tcg1, MemorySegment tcg2) {
+        try {
+            return (int) iauTttcg$MH.invokeExact(tt1, tt2, tcg1, tcg2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTttdb$MH = downcall("iauTttdb", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Barycentric Dynamical Time, TDB.<br>
+     * Original signature : <code>int iauTttdb(double, double, double, double*, double*)</code>
+     */
+    public static int iauTttdb(double tt1, double tt2, double dtr, MemorySegment tdb1, MemorySegment tdb2) {
+        try {
+            return (int) iauTttdb$MH.invokeExact(tt1, tt2, dtr, tdb1, tdb2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTtut1$MH = downcall("iauTtut1", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Universal Time, UT1.<br>
+     * Original signature : <code>int iauTtut1(double, double, double, double*, double*)</code>
+     */
+    public static int iauTtut1(double tt1, double tt2, double dt, MemorySegment ut11, MemorySegment ut12) {
+        try {
+            return (int) iauTtut1$MH.invokeExact(tt1, tt2, dt, ut11, ut12);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauUt1tai$MH = downcall("iauUt1tai", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Universal Time, UT1, to International Atomic Time, TAI.<br>
+     * Original signature : <code>int iauUt1tai(double, double, double, double*, double*)</code>
+     */
+    public static int iauUt1tai(double ut11, double ut12, double dta, MemorySegment tai1, MemorySegment tai2) {
+        try {
+            return (int) iauUt1tai$MH.invokeExact(ut11, ut12, dta, tai1, tai2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauUt1tt$MH = downcall("iauUt1tt", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Universal Time, UT1, to Terrestrial Time, TT.<br>
+     * Original signature : <code>int iauUt1tt(double, double, double, double*, double*)</code>
+     */
+    public static int iauUt1tt(double ut11, double ut12, double dt, MemorySegment tt1, MemorySegment tt2) {
+        try {
+            return (int) iauUt1tt$MH.invokeExact(ut11, ut12, dt, tt1, tt2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauUt1utc$MH = downcall("iauUt1utc", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Universal Time, UT1, to Coordinated Universal Time, UTC.<br>
+     * Original signature : <code>int iauUt1utc(double, double, double, double*, double*)</code>
+     */
+    public static int iauUt1utc(double ut11, double ut12, double dut1, MemorySegment utc1, MemorySegment utc2) {
+        try {
+            return (int) iauUt1utc$MH.invokeExact(ut11, ut12, dut1, utc1, utc2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauUtctai$MH = downcall("iauUtctai", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Coordinated Universal Time, UTC, to International Atomic Time, TAI.<br>
+     * Original signature : <code>int iauUtctai(double, double, double*, double*)</code>
+     */
+    public static int iauUtctai(double utc1, double utc2, MemorySegment tai1, MemorySegment tai2) {
+        try {
+            return (int) iauUtctai$MH.invokeExact(utc1, utc2, tai1, tai2);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauUtcut1$MH = downcall("iauUtcut1", FunctionDescriptor.of(JAVA_INT, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Time scale transformation:  Coordinated Universal Time, UTC, to Universal Time, UT1.<br>
+     * Original signature : <code>int iauUtcut1(double, double, double, double*, double*)</code>
+     */
+    public static int iauUtcut1(double utc1, double utc2, double dut1, MemorySegment ut11, MemorySegment ut12) {
+        try {
+            return (int) iauUtcut1$MH.invokeExact(utc1, utc2, dut1, ut11, ut12);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauA2af$MH = downcall("iauA2af", FunctionDescriptor.ofVoid(JAVA_INT, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Decompose radians into degrees, arcminutes, arcseconds, fraction.<br>
+     * Original signature : <code>void iauA2af(int, double, char*, int*)</code>
+     */
+    public static void iauA2af(int ndp, double angle, MemorySegment sign, MemorySegment idmsf) {
+        try {
+            iauA2af$MH.invokeExact(ndp, angle, sign, idmsf);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauA2tf$MH = downcall("iauA2tf", FunctionDescriptor.ofVoid(JAVA_INT, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Decompose radians into hours, minutes, seconds, fraction.<br>
+     * Original signature : <code>void iauA2tf(int, double, char*, int*)</code>
+     */
+    public static void iauA2tf(int ndp, double angle, MemorySegment sign, MemorySegment ihmsf) {
+        try {
+            iauA2tf$MH.invokeExact(ndp, angle, sign, ihmsf);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAf2a$MH = downcall("iauAf2a", FunctionDescriptor.of(JAVA_INT, JAVA_BYTE, JAVA_INT, JAVA_INT, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert degrees, arcminutes, arcseconds to radians.<br>
+     * Original signature : <code>int iauAf2a(char, int, int, double, double*)</code>
+     */
+    public static int iauAf2a(byte s, int ideg, int iamin, double asec, MemorySegment rad) {
+        try {
+            return (int) iauAf2a$MH.invokeExact(s, ideg, iamin, asec, rad);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAnp$MH = downcall("iauAnp", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Normalize angle into the range 0 <= a < 2pi.<br>
+     * Original signature : <code>double iauAnp(double)</code>
+     */
+    public static double iauAnp(double a) {
+        try {
+            return (double) iauAnp$MH.invokeExact(a);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauAnpm$MH = downcall("iauAnpm", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Normalize angle into the range -pi <= a < +pi.<br>
+     * Original signature : <code>double iauAnpm(double)</code>
+     */
+    public static double iauAnpm(double a) {
+        try {
+            return (double) iauAnpm$MH.invokeExact(a);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauD2tf$MH = downcall("iauD2tf", FunctionDescriptor.ofVoid(JAVA_INT, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Decompose days to hours, minutes, seconds, fraction.<br>
+     * Original signature : <code>void iauD2tf(int, double, char*, int*)</code>
+     */
+    public static void iauD2tf(int ndp, double days, MemorySegment sign, MemorySegment ihmsf) {
+        try {
+            iauD2tf$MH.invokeExact(ndp, days, sign, ihmsf);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTf2a$MH = downcall("iauTf2a", FunctionDescriptor.of(JAVA_INT, JAVA_BYTE, JAVA_INT, JAVA_INT, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert hours, minutes, seconds to radians.<br>
+     * Original signature : <code>int iauTf2a(char, int, int, double, double*)</code>
+     */
+    public static int iauTf2a(byte s, int ihour, int imin, double sec, MemorySegment rad) {
+        try {
+            return (int) iauTf2a$MH.invokeExact(s, ihour, imin, sec, rad);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTf2d$MH = downcall("iauTf2d", FunctionDescriptor.of(JAVA_INT, JAVA_BYTE, JAVA_INT, JAVA_INT, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert hours, minutes, seconds to days.<br>
+     * Original signature : <code>int iauTf2d(char, int, int, double, double*)</code>
+     */
+    public static int iauTf2d(byte s, int ihour, int imin, double sec, MemorySegment days) {
+        try {
+            return (int) iauTf2d$MH.invokeExact(s, ihour, imin, sec, days);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRx$MH = downcall("iauRx", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Rotate an r-matrix about the x-axis.<br>
+     * Original signature : <code>void iauRx(double, double*)</code>
+     */
+    public static void iauRx(double phi, MemorySegment r) {
+        try {
+            iauRx$MH.invokeExact(phi, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRy$MH = downcall("iauRy", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Rotate an r-matrix about the y-axis.<br>
+     * Original signature : <code>void iauRy(double, double*)</code>
+     */
+    public static void iauRy(double theta, MemorySegment r) {
+        try {
+            iauRy$MH.invokeExact(theta, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRz$MH = downcall("iauRz", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Rotate an r-matrix about the z-axis.<br>
+     * Original signature : <code>void iauRz(double, double*)</code>
+     */
+    public static void iauRz(double psi, MemorySegment r) {
+        try {
+            iauRz$MH.invokeExact(psi, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauCp$MH = downcall("iauCp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Copy a p-vector.<br>
+     * Original signature : <code>void iauCp(double*, double*)</code>
+     */
+    public static void iauCp(MemorySegment p, MemorySegment c) {
+        try {
+            iauCp$MH.invokeExact(p, c);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauCpv$MH = downcall("iauCpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Copy a position/velocity vector.<br>
+     * Original signature : <code>void iauCpv(double*, double*)</code>
+     */
+    public static void iauCpv(MemorySegment pv, MemorySegment c) {
+        try {
+            iauCpv$MH.invokeExact(pv, c);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauCr$MH = downcall("iauCr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Copy an r-matrix.<br>
+     * Original signature : <code>void iauCr(double*, double*)</code>
+     */
+    public static void iauCr(MemorySegment r, MemorySegment c) {
+        try {
+            iauCr$MH.invokeExact(r, c);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauP2pv$MH = downcall("iauP2pv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Extend a p-vector to a pv-vector by appending a zero velocity.<br>
+     * Original signature : <code>void iauP2pv(double*, double*)</code>
+     */
+    public static void iauP2pv(MemorySegment p, MemorySegment pv) {
+        try {
+            iauP2pv$MH.invokeExact(p, pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPv2p$MH = downcall("iauPv2p", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Discard velocity component of a pv-vector.<br>
+     * Original signature : <code>void iauPv2p(double*, double*)</code>
+     */
+    public static void iauPv2p(MemorySegment pv, MemorySegment p) {
+        try {
+            iauPv2p$MH.invokeExact(pv, p);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauIr$MH = downcall("iauIr", FunctionDescriptor.ofVoid(ADDRESS), true);
+    /**
+     * Initialize an r-matrix to the identity matrix.<br>
+     * Original signature : <code>void iauIr(double*)</code>
+     */
+    public static void iauIr(MemorySegment r) {
+        try {
+            iauIr$MH.invokeExact(r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauZp$MH = downcall("iauZp", FunctionDescriptor.ofVoid(ADDRESS), true);
+    /**
+     * Zero a p-vector.<br>
+     * Original signature : <code>void iauZp(double*)</code>
+     */
+    public static void iauZp(MemorySegment p) {
+        try {
+            iauZp$MH.invokeExact(p);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauZpv$MH = downcall("iauZpv", FunctionDescriptor.ofVoid(ADDRESS), true);
+    /**
+     * Zero a pv-vector.<br>
+     * Original signature : <code>void iauZpv(double*)</code>
+     */
+    public static void iauZpv(MemorySegment pv) {
+        try {
+            iauZpv$MH.invokeExact(pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauZr$MH = downcall("iauZr", FunctionDescriptor.ofVoid(ADDRESS), true);
+    /**
+     * Initialize an r-matrix to the null matrix.<br>
+     * Original signature : <code>void iauZr(double*)</code>
+     */
+    public static void iauZr(MemorySegment r) {
+        try {
+            iauZr$MH.invokeExact(r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRxr$MH = downcall("iauRxr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply two r-matrices.<br>
+     * Original signature : <code>void iauRxr(double*, double*, double*)</code>
+     */
+    public static void iauRxr(MemorySegment a, MemorySegment b, MemorySegment atb) {
+        try {
+            iauRxr$MH.invokeExact(a, b, atb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTr$MH = downcall("iauTr", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Transpose an r-matrix.<br>
+     * Original signature : <code>void iauTr(double*, double*)</code>
+     */
+    public static void iauTr(MemorySegment r, MemorySegment rt) {
+        try {
+            iauTr$MH.invokeExact(r, rt);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRxp$MH = downcall("iauRxp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a p-vector by an r-matrix.<br>
+     * Original signature : <code>void iauRxp(double*, double*, double*)</code>
+     */
+    public static void iauRxp(MemorySegment r, MemorySegment p, MemorySegment rp) {
+        try {
+            iauRxp$MH.invokeExact(r, p, rp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRxpv$MH = downcall("iauRxpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a pv-vector by an r-matrix.<br>
+     * Original signature : <code>void iauRxpv(double*, double*, double*)</code>
+     */
+    public static void iauRxpv(MemorySegment r, MemorySegment pv, MemorySegment rpv) {
+        try {
+            iauRxpv$MH.invokeExact(r, pv, rpv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTrxp$MH = downcall("iauTrxp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a p-vector by the transpose of an r-matrix.<br>
+     * Original signature : <code>void iauTrxp(double*, double*, double*)</code>
+     */
+    public static void iauTrxp(MemorySegment r, MemorySegment p, MemorySegment trp) {
+        try {
+            iauTrxp$MH.invokeExact(r, p, trp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauTrxpv$MH = downcall("iauTrxpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a pv-vector by the transpose of an r-matrix.<br>
+     * Original signature : <code>void iauTrxpv(double*, double*, double*)</code>
+     */
+    public static void iauTrxpv(MemorySegment r, MemorySegment pv, MemorySegment trpv) {
+        try {
+            iauTrxpv$MH.invokeExact(r, pv, trpv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRm2v$MH = downcall("iauRm2v", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Express an r-matrix as an r-vector.<br>
+     * Original signature : <code>void iauRm2v(double*, double*)</code>
+     */
+    public static void iauRm2v(MemorySegment r, MemorySegment w) {
+        try {
+            iauRm2v$MH.invokeExact(r, w);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauRv2m$MH = downcall("iauRv2m", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS), true);
+    /**
+     * Form the r-matrix corresponding to a given r-vector.<br>
+     * Original signature : <code>void iauRv2m(double*, double*)</code>
+     */
+    public static void iauRv2m(MemorySegment w, MemorySegment r) {
+        try {
+            iauRv2m$MH.invokeExact(w, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPap$MH = downcall("iauPap", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Position-angle from two p-vectors.<br>
+     * Original signature : <code>double iauPap(double*, double*)</code>
+     */
+    public static double iauPap(MemorySegment a, MemorySegment b) {
+        try {
+            return (double) iauPap$MH.invokeExact(a, b);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPas$MH = downcall("iauPas", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Position-angle from spherical coordinates.<br>
+     * Original signature : <code>double iauPas(double, double, double, double)</code>
+     */
+    public static double iauPas(double al, double ap, double bl, double bp) {
+        try {
+            return (double) iauPas$MH.invokeExact(al, ap, bl, bp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauSepp$MH = downcall("iauSepp", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Angular separation between two p-vectors.<br>
+     * Original signature : <code>double iauSepp(double*, double*)</code>
+     */
+    public static double iauSepp(MemorySegment a, MemorySegment b) {
+        try {
+            return (double) iauSepp$MH.invokeExact(a, b);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauSeps$MH = downcall("iauSeps", FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE), true);
+    /**
+     * Angular separation between two sets of spherical coordinates.<br>
+     * Original signature : <code>double iauSeps(double, double, double, double)</code>
+     */
+    public static double iauSeps(double al, double ap, double bl, double bp) {
+        try {
+            return (double) iauSeps$MH.invokeExact(al, ap, bl, bp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauC2s$MH = downcall("iauC2s", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * P-vector to spherical coordinates.<br>
+     * Original signature : <code>void iauC2s(double*, double*, double*)</code>
+     */
+    public static void iauC2s(MemorySegment p, MemorySegment theta, MemorySegment phi) {
+        try {
+            iauC2s$MH.invokeExact(p, theta, phi);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauP2s$MH = downcall("iauP2s", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * P-vector to spherical polar coordinates.<br>
+     * Original signature : <code>void iauP2s(double*, double*, double*, double*)</code>
+     */
+    public static void iauP2s(MemorySegment p, MemorySegment theta, MemorySegment phi, MemorySegment r) {
+        try {
+            iauP2s$MH.invokeExact(p, theta, phi, r);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPv2s$MH = downcall("iauPv2s", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Convert position/velocity from Cartesian to spherical coordinates.<br>
+     * Original signature : <code>void iauPv2s(double*, double*, double*, double*, double*, double*, double*)</code>
+     */
+    public static void iauPv2s(MemorySegment pv, MemorySegment theta, MemorySegment phi, MemorySegment r, MemorySegment td, MemorySegment pd, MemorySegment rd) {
+        try {
+            iauPv2s$MH.invokeExact(pv, theta, phi, r, td, pd, rd);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS2c$MH = downcall("iauS2c", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert spherical coordinates to Cartesian.<br>
+     * Original signature : <code>void iauS2c(double, double, double*)</code>
+     */
+    public static void iauS2c(double theta, double phi, MemorySegment c) {
+        try {
+            iauS2c$MH.invokeExact(theta, phi, c);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS2p$MH = downcall("iauS2p", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert spherical polar coordinates to p-vector.<br>
+     * Original signature : <code>void iauS2p(double, double, double, double*)</code>
+     */
+    public static void iauS2p(double theta, double phi, double r, MemorySegment p) {
+        try {
+            iauS2p$MH.invokeExact(theta, phi, r, p);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS2pv$MH = downcall("iauS2pv", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Convert position/velocity from spherical to Cartesian coordinates.<br>
+     * Original signature : <code>void iauS2pv(double, double, double, double, double, double, double*)</code>
+     */
+    public static void iauS2pv(double theta, double phi, double r, double td, double pd, double rd, MemorySegment pv) {
+        try {
+            iauS2pv$MH.invokeExact(theta, phi, r, td, pd, rd, pv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPdp$MH = downcall("iauPdp", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * p-vector inner (=scalar=dot) product.<br>
+     * Original signature : <code>double iauPdp(double*, double*)</code>
+     */
+    public static double iauPdp(MemorySegment a, MemorySegment b) {
+        try {
+            return (double) iauPdp$MH.invokeExact(a, b);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPm$MH = downcall("iauPm", FunctionDescriptor.of(JAVA_DOUBLE, ADDRESS), true);
+    /**
+     * Modulus of p-vector.<br>
+     * Original signature : <code>double iauPm(double*)</code>
+     */
+    public static double iauPm(MemorySegment p) {
+        try {
+            return (double) iauPm$MH.invokeExact(p);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPmp$MH = downcall("iauPmp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * P-vector subtraction.<br>
+     * Original signature : <code>void iauPmp(double*, double*, double*)</code>
+     */
+    public static void iauPmp(MemorySegment a, MemorySegment b, MemorySegment amb) {
+        try {
+            iauPmp$MH.invokeExact(a, b, amb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPn$MH = downcall("iauPn", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Convert a p-vector into modulus and unit vector.<br>
+     * Original signature : <code>void iauPn(double*, double*, double*)</code>
+     */
+    public static void iauPn(MemorySegment p, MemorySegment r, MemorySegment u) {
+        try {
+            iauPn$MH.invokeExact(p, r, u);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPpp$MH = downcall("iauPpp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * P-vector addition.<br>
+     * Original signature : <code>void iauPpp(double*, double*, double*)</code>
+     */
+    public static void iauPpp(MemorySegment a, MemorySegment b, MemorySegment apb) {
+        try {
+            iauPpp$MH.invokeExact(a, b, apb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPpsp$MH = downcall("iauPpsp", FunctionDescriptor.ofVoid(ADDRESS, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * P-vector plus scaled p-vector.<br>
+     * Original signature : <code>void iauPpsp(double*, double, double*, double*)</code>
+     */
+    public static void iauPpsp(MemorySegment a, double s, MemorySegment b, MemorySegment apsb) {
+        try {
+            iauPpsp$MH.invokeExact(a, s, b, apsb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvdpv$MH = downcall("iauPvdpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Inner (=scalar=dot) product of two pv-vectors.<br>
+     * Original signature : <code>void iauPvdpv(double*, double*, double*)</code>
+     */
+    public static void iauPvdpv(MemorySegment a, MemorySegment b, MemorySegment adb) {
+        try {
+            iauPvdpv$MH.invokeExact(a, b, adb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvm$MH = downcall("iauPvm", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Modulus of pv-vector.<br>
+     * Original signature : <code>void iauPvm(double*, double*, double*)</code>
+     */
+    public static void iauPvm(MemorySegment pv, MemorySegment r, MemorySegment s) {
+        try {
+            iauPvm$MH.invokeExact(pv, r, s);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvmpv$MH = downcall("iauPvmpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Subtract one pv-vector from another.<br>
+     * Original signature : <code>void iauPvmpv(double*, double*, double*)</code>
+     */
+    public static void iauPvmpv(MemorySegment a, MemorySegment b, MemorySegment amb) {
+        try {
+            iauPvmpv$MH.invokeExact(a, b, amb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvppv$MH = downcall("iauPvppv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Add one pv-vector to another.<br>
+     * Original signature : <code>void iauPvppv(double*, double*, double*)</code>
+     */
+    public static void iauPvppv(MemorySegment a, MemorySegment b, MemorySegment apb) {
+        try {
+            iauPvppv$MH.invokeExact(a, b, apb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvu$MH = downcall("iauPvu", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Update a pv-vector.<br>
+     * Original signature : <code>void iauPvu(double, double*, double*)</code>
+     */
+    public static void iauPvu(double dt, MemorySegment pv, MemorySegment upv) {
+        try {
+            iauPvu$MH.invokeExact(dt, pv, upv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvup$MH = downcall("iauPvup", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Update a pv-vector, discarding the velocity component.<br>
+     * Original signature : <code>void iauPvup(double, double*, double*)</code>
+     */
+    public static void iauPvup(double dt, MemorySegment pv, MemorySegment p) {
+        try {
+            iauPvup$MH.invokeExact(dt, pv, p);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPvxpv$MH = downcall("iauPvxpv", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * Outer (=vector=cross) product of two pv-vectors.<br>
+     * Original signature : <code>void iauPvxpv(double*, double*, double*)</code>
+     */
+    public static void iauPvxpv(MemorySegment a, MemorySegment b, MemorySegment axb) {
+        try {
+            iauPvxpv$MH.invokeExact(a, b, axb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauPxp$MH = downcall("iauPxp", FunctionDescriptor.ofVoid(ADDRESS, ADDRESS, ADDRESS), true);
+    /**
+     * p-vector outer (=vector=cross) product.<br>
+     * Original signature : <code>void iauPxp(double*, double*, double*)</code>
+     */
+    public static void iauPxp(MemorySegment a, MemorySegment b, MemorySegment axb) {
+        try {
+            iauPxp$MH.invokeExact(a, b, axb);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauS2xpv$MH = downcall("iauS2xpv", FunctionDescriptor.ofVoid(JAVA_DOUBLE, JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a pv-vector by two scalars.<br>
+     * Original signature : <code>void iauS2xpv(double, double, double*, double*)</code>
+     */
+    public static void iauS2xpv(double s1, double s2, MemorySegment pv, MemorySegment spv) {
+        try {
+            iauS2xpv$MH.invokeExact(s1, s2, pv, spv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauSxp$MH = downcall("iauSxp", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a p-vector by a scalar.<br>
+     * Original signature : <code>void iauSxp(double, double*, double*)</code>
+     */
+    public static void iauSxp(double s, MemorySegment p, MemorySegment sp) {
+        try {
+            iauSxp$MH.invokeExact(s, p, sp);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+    private static final MethodHandle iauSxpv$MH = downcall("iauSxpv", FunctionDescriptor.ofVoid(JAVA_DOUBLE, ADDRESS, ADDRESS), true);
+    /**
+     * Multiply a pv-vector by a scalar.<br>
+     * Original signature : <code>void iauSxpv(double, double*, double*)</code>
+     */
+    public static void iauSxpv(double s, MemorySegment pv, MemorySegment spv) {
+        try {
+            iauSxpv$MH.invokeExact(s, pv, spv);
+        } catch (Throwable throwable) {
+            throw rethrow(throwable);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package be.angelcorp.sofa.panama;
+
+import be.angelcorp.sofa.NativeVariant;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.SymbolLookup;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+
+/**
+ * Locates and loads the native sofa library for the {@link SofaForeignLibrary} bindings.
+ *
+ * The library is resolved in the same way as BridJ does for the {@link be.angelcorp.sofa.SofaLibrary} bindings; the
+ * variant chosen by {@link NativeVariant#select()} (the baseline libsofa, or libsofa_x86_64_v3 on cpus that support
+ * it) is extracted from the sofa-platform jar (<code>lib/&lt;platform&gt;/</code>) to a temporary file and loaded in
+ * the global arena, so it stays loaded for the lifetime of the JVM. Set the system property <code>sofa.library</code>
+ * to the path of a sofa shared library to bypass the classpath lookup.
+ */
+public final class SofaNativeLibrary {
+
+    /** System property that overrides the location of the native sofa library. */
+    public static final String LIBRARY_PROPERTY = "sofa.library";
+
+    private SofaNativeLibrary() {
+    }
+
+    private static final class Holder {
+        static final SymbolLookup LOOKUP = SymbolLookup.libraryLookup(libraryPath(), Arena.global());
+    }
+
+    /**
+     * Symbol lookup for the loaded sofa library.
+     */
+    public static SymbolLookup lookup() {
+        return Holder.LOOKUP;
+    }
+
+    static Path libraryPath() {
+        String override = System.getProperty(LIBRARY_PROPERTY);
+        if (override != null)
+            return Paths.get(override);
+
+        String libraryName = System.mapLibraryName(NativeVariant.select());
+        String resource = "lib/" + platform() + "/" + libraryName;
+        try (InputStream in = SofaNativeLibrary.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null)
+                throw new UnsatisfiedLinkError("Native sofa library not found on the classpath: " + resource);
+            Path file = Files.createTempFile("sofa", "-" + libraryName);
+            file.toFile().deleteOnExit();
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not extract the native sofa library " + resource, e);
+        }
+    }
+
+    /**
+     * BridJ platform directory name of the running JVM (win32, win64, linux_x86, linux_x64, darwin_universal, ...).
+     */
+    static String platform() {
+        String os   = System.getProperty("os.name").toLowerCase(Locale.ROOT);
+        String arch = System.getProperty("os.arch").toLowerCase(Locale.ROOT);
+        boolean is64 = arch.contains("64");
+        if (os.startsWith("windows"))
+            return is64 ? "win64" : "win32";
+        if (os.startsWith("mac") || os.startsWith("darwin"))
+            return "darwin_universal";
+        if (os.startsWith("linux"))
+            return is64 ? "linux_x64" : "linux_x86";
+        if (os.startsWith("freebsd"))
+            return is64 ? "freebsd_x64" : "freebsd_x86";
+        throw new UnsatisfiedLinkError("Unsupported platform for the sofa library: " + os + " (" + arch + ")");
+    }
+
+}
@@ -0,0 +1,117 @@
+package be.angelcorp.sofa.panama;
+
+import be.angelcorp.sofa.SofaLibrary;
+import org.bridj.Pointer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+
+/**
+ * JMH comparison of the BridJ ({@link SofaLibrary}) and Panama ({@link SofaForeignLibrary}) backends, for a few
+ * routines where the call overhead dominates the actual work: iauAnp, iauPdp and iauRxp.
+ *
+ * The Panama variants are measured both with native segments and with heap segments wrapping plain Java arrays.
+ * Run with:
+ * <pre>
+ * mvn -pl sofa-panama test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=be.angelcorp.sofa.panama.BackendBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-native-access=ALL-UNNAMED")
+@State(Scope.Thread)
+public class BackendBenchmark {
+
+    private static final double[] R = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+    private static final double[] P = { 0.2, 1.5, 0.1 };
+
+    public double angle = -0.1;
+
+    private Pointer<Double> bridjR, bridjP, bridjRp;
+
+    private Arena arena;
+    private MemorySegment nativeR, nativeP, nativeRp;
+
+    private final double[] heapR  = R.clone();
+    private final double[] heapP  = P.clone();
+    private final double[] heapRp = new double[3];
+
+    @Setup
+    public void setup() {
+        bridjR  = Pointer.pointerToDoubles(R);
+        bridjP  = Pointer.pointerToDoubles(P);
+        bridjRp = Pointer.allocateDoubles(3);
+
+        arena    = Arena.ofConfined();
+        nativeR  = arena.allocateFrom(JAVA_DOUBLE, R);
+        nativeP  = arena.allocateFrom(JAVA_DOUBLE, P);
+        nativeRp = arena.allocate(JAVA_DOUBLE, 3);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Pointer.release(bridjR, bridjP, bridjRp);
+        arena.close();
+    }
+
+    @Benchmark
+    public double anp_bridj() {
+        return SofaLibrary.iauAnp(angle);
+    }
+
+    @Benchmark
+    public double anp_panama() {
+        return SofaForeignLibrary.iauAnp(angle);
+    }
+
+    @Benchmark
+    public double pdp_bridj() {
+        return SofaLibrary.iauPdp(bridjP, bridjP);
+    }
+
+    @Benchmark
+    public double pdp_panama() {
+        return SofaForeignLibrary.iauPdp(nativeP, nativeP);
+    }
+
+    @Benchmark
+    public double pdp_panamaHeap() {
+        return SofaForeignLibrary.iauPdp(MemorySegment.ofArray(heapP), MemorySegment.ofArray(heapP));
+    }
+
+    @Benchmark
+    public Pointer<Double> rxp_bridj() {
+        SofaLibrary.iauRxp(bridjR, bridjP, bridjRp);
+        return bridjRp;
+    }
+
+    @Benchmark
+    public MemorySegment rxp_panama() {
+        SofaForeignLibrary.iauRxp(nativeR, nativeP, nativeRp);
+        return nativeRp;
+    }
+
+    @Benchmark
+    public double[] rxp_panamaHeap() {
+        SofaForeignLibrary.iauRxp(MemorySegment.ofArray(heapR), MemorySegment.ofArray(heapP), MemorySegment.ofArray(heapRp));
+        return heapRp;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BackendBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,90 @@
+package be.angelcorp.sofa.panama;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemoryLayout.PathElement;
+import java.lang.foreign.MemorySegment;
+
+import static be.angelcorp.sofa.panama.SofaForeignLibrary.*;
+import static java.lang.foreign.ValueLayout.*;
+
+/**
+ * Spot checks of the Panama bindings, using the same reference values as TestSofa (t_sofa_c.c).
+ */
+public class TestSofaForeignLibrary {
+
+    @Test public void t_anp() {
+        Assert.assertEquals(6.183185307179586477, iauAnp(-0.1), 1e-12);
+    }
+
+    @Test public void t_cal2jd() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment djm0 = arena.allocate(JAVA_DOUBLE);
+            MemorySegment djm  = arena.allocate(JAVA_DOUBLE);
+
+            int j = iauCal2jd(2003, 6, 1, djm0, djm);
+
+            Assert.assertEquals(2400000.5, djm0.get(JAVA_DOUBLE, 0), 0.0);
+            Assert.assertEquals(52791.0,   djm.get(JAVA_DOUBLE, 0),  0.0);
+            Assert.assertEquals(0, j);
+        }
+    }
+
+    @Test public void t_rxp_heap() {
+        double[] r = {
+                2.0, 3.0, 2.0,
+                3.0, 2.0, 3.0,
+                3.0, 4.0, 5.0 };
+        double[] p  = { 0.2, 1.5, 0.1 };
+        double[] rp = new double[3];
+
+        iauRxp(MemorySegment.ofArray(r), MemorySegment.ofArray(p), MemorySegment.ofArray(rp));
+
+        Assert.assertEquals(5.1, rp[0], 1e-12);
+        Assert.assertEquals(3.9, rp[1], 1e-12);
+        Assert.assertEquals(7.1, rp[2], 1e-12);
+    }
+
+    @Test public void t_af2a() {
+        double[] a = new double[1];
+
+        int j = iauAf2a((byte) '-', 45, 13, 27.2, MemorySegment.ofArray(a));
+
+        Assert.assertEquals(-0.7893115794313644842, a[0], 1e-12);
+        Assert.assertEquals(0, j);
+    }
+
+    @Test public void t_d2dtf() {
+        try (Arena arena = Arena.ofConfined()) {
+            int[] iy = new int[1], im = new int[1], id = new int[1], ihmsf = new int[4];
+
+            int j = iauD2dtf(arena.allocateFrom("UTC"), 5, 2400000.5, 49533.99999,
+                    MemorySegment.ofArray(iy), MemorySegment.ofArray(im), MemorySegment.ofArray(id), MemorySegment.ofArray(ihmsf));
+
+            Assert.assertEquals(1994, iy[0]);
+            Assert.assertEquals(6,    im[0]);
+            Assert.assertEquals(30,   id[0]);
+            Assert.assertArrayEquals(new int[]{23, 59, 60, 13599}, ihmsf);
+            Assert.assertEquals(0, j);
+        }
+    }
+
+    @Test public void t_apci13() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment astrom = arena.allocate(IAU_ASTROM);
+            // iauApci13 is a regular downcall, so all of its arguments are native segments
+            MemorySegment eo = arena.allocate(JAVA_DOUBLE);
+
+            iauApci13(2456165.5, 0.401182685, astrom, eo);
+
+            long pmt = IAU_ASTROM.byteOffset(PathElement.groupElement("pmt"));
+            long em  = IAU_ASTROM.byteOffset(PathElement.groupElement("em"));
+            Assert.assertEquals(12.65133794027378508,   astrom.get(JAVA_DOUBLE, pmt), 1e-11);
+            Assert.assertEquals(1.010465295964664178,   astrom.get(JAVA_DOUBLE, em),  1e-12);
+            Assert.assertEquals(-0.2900618712657375647e-2, eo.get(JAVA_DOUBLE, 0), 1e-12);
+        }
+    }
+
+}
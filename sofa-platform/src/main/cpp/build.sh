@@ -3,6 +3,9 @@
 #
 # This script initiates the actual build process for both x86 and x64. 
 # Note, this build process is different for windows and unix.
+#
+# Any arguments are passed on to cmake, for example:
+#   build.sh -DCMAKE_BUILD_TYPE=Release -DBUILD_X86_64_V3=ON
 
 set -x
 
@@ -116,18 +119,18 @@ if [[ $platform == "macos" ]]; then
     # Build the universal version of the library
     mkdir -p universal
     cd universal
-    buildLibrary universal "-DCMAKE_OSX_ARCHITECTURES=x86_64;i386"
+    buildLibrary universal "-DCMAKE_OSX_ARCHITECTURES=x86_64;i386" "$@"
     cd ..
 else
     # Build the X86 version of the library
     mkdir -p x86
     cd x86
-    buildLibrary x86
+    buildLibrary x86 "$@"
     cd ..
 
     # Build the X64 version of the library
     mkdir -p  x64
     cd x64
-    buildLibrary x64
+    buildLibrary x64 "$@"
     cd ..
 fi
\ No newline at end of file
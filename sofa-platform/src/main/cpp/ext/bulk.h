@@ -0,0 +1,104 @@
+#ifndef BULK_HDEF
+#define BULK_HDEF
+
+/*
+**  - - - - - - -
+**   b u l k . h
+**  - - - - - - -
+**
+**  Prototype function declarations for the bulk (array) extensions to
+**  the SOFA library.
+**
+**  These functions are not part of SOFA.  They call the SOFA routines
+**  in a loop over arrays of arguments, so that a caller in another
+**  language (Java via BridJ) can convert a whole array with a single
+**  foreign function call.  They use routines and computations derived
+**  from software provided by SOFA under license, and do not themselves
+**  constitute software provided by and/or endorsed by SOFA.
+**
+**  All arrays are structure-of-arrays: element i of every argument
+**  array belongs to the same conversion.  The status array receives
+**  the value the single-element SOFA routine would have returned for
+**  that element, and the function returns the number of elements with
+**  a non-zero status.  Functions wrapping SOFA routines without a
+**  status have no status array and return nothing.
+**
+**  The geodetic functions take a stride for the geocentric vectors,
+**  element i being x[i*stride], y[i*stride], z[i*stride]: a stride of
+**  1 for three separate arrays, or of 3 for one interleaved xyz array
+**  (with x = xyz, y = xyz+1 and z = xyz+2).
+*/
+
+#include "sofa.h"
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+/* Time scales */
+SOFAExport int bulkTaitt(int n, const double *tai1, const double *tai2,
+                         double *tt1, double *tt2, int *status);
+SOFAExport int bulkTttdb(int n, const double *tt1, const double *tt2,
+                         const double *dtr, double *tdb1, double *tdb2,
+                         int *status);
+SOFAExport int bulkUt1utc(int n, const double *ut11, const double *ut12,
+                          const double *dut1, double *utc1, double *utc2,
+                          int *status);
+SOFAExport int bulkUtctai(int n, const double *utc1, const double *utc2,
+                          double *tai1, double *tai2, int *status);
+SOFAExport int bulkUtcut1(int n, const double *utc1, const double *utc2,
+                          const double *dut1, double *ut11, double *ut12,
+                          int *status);
+SOFAExport int bulkUtctdb(int n, const double *utc1, const double *utc2,
+                          double elong, double u, double v, double tol,
+                          double *tdb1, double *tdb2, int *status);
+
+/* Astrometry (quick, star-independent parameters in one iauASTROM) */
+SOFAExport void bulkAtciq(int n, const double *rc, const double *dc,
+                          const double *pr, const double *pd,
+                          const double *px, const double *rv,
+                          iauASTROM *astrom, double *ri, double *di);
+SOFAExport void bulkAtciqz(int n, const double *rc, const double *dc,
+                           iauASTROM *astrom, double *ri, double *di);
+SOFAExport void bulkAticq(int n, const double *ri, const double *di,
+                          iauASTROM *astrom, double *rc, double *dc);
+SOFAExport void bulkAtioq(int n, const double *ri, const double *di,
+                          iauASTROM *astrom, double *aob, double *zob,
+                          double *hob, double *dob, double *rob);
+SOFAExport void bulkAtcoq(int n, const double *rc, const double *dc,
+                          const double *pr, const double *pd,
+                          const double *px, const double *rv,
+                          iauASTROM *astrom, double *aob, double *zob,
+                          double *hob, double *dob, double *rob);
+
+/* Space motion (all stars between the same two epochs) */
+SOFAExport int bulkPmsafe(int n, const double *ra1, const double *dec1,
+                          const double *pmr1, const double *pmd1,
+                          const double *px1, const double *rv1,
+                          double ep1a, double ep1b, double ep2a, double ep2b,
+                          double *ra2, double *dec2, double *pmr2,
+                          double *pmd2, double *px2, double *rv2,
+                          int *status);
+
+/* Geodetic (all positions on the same ellipsoid) */
+SOFAExport int bulkGc2gd(int n, int el, const double *x, const double *y,
+                         const double *z, int stride, double *elong,
+                         double *phi, double *height, int *status);
+SOFAExport int bulkGc2gde(int n, double a, double f, const double *x,
+                          const double *y, const double *z, int stride,
+                          double *elong, double *phi, double *height,
+                          int *status);
+SOFAExport int bulkGd2gc(int n, int el, const double *elong,
+                         const double *phi, const double *height,
+                         double *x, double *y, double *z, int stride,
+                         int *status);
+SOFAExport int bulkGd2gce(int n, double a, double f, const double *elong,
+                          const double *phi, const double *height,
+                          double *x, double *y, double *z, int stride,
+                          int *status);
+
+#ifdef __cplusplus
+}
+#endif
+
+#endif
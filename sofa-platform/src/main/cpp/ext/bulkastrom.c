@@ -0,0 +1,88 @@
+#include "bulk.h"
+
+/*
+**  - - - - - - - - - - - - -
+**   b u l k a s t r o m . c
+**  - - - - - - - - - - - - -
+**
+**  Bulk quick astrometry transformations, see bulk.h.
+**
+**  bulkAtciq, bulkAtciqz, bulkAticq and bulkAtioq apply the SOFA
+**  routine of the same name (iauAtciq, iauAtciqz, iauAticq and
+**  iauAtioq) to the n elements of their argument arrays, all with the
+**  same star-independent astrometry parameters.  bulkAtcoq is ICRS to
+**  observed: iauAtciq followed by iauAtioq, without storing the CIRS
+**  coordinates.  Given and returned arguments are exactly as for the
+**  SOFA routines, with one array element per call.  The astrom
+**  structure is only read, so it can be shared between threads.
+**
+**  In bulkAtioq and bulkAtcoq, the hob, dob and rob arrays may be null
+**  (NULL) when these results are not needed.  The returned arrays may
+**  be the same as the given ones (in place conversion).
+*/
+
+void bulkAtciq(int n, const double *rc, const double *dc,
+               const double *pr, const double *pd,
+               const double *px, const double *rv,
+               iauASTROM *astrom, double *ri, double *di)
+{
+   int i;
+
+   for ( i = 0; i < n; i++ ) {
+      iauAtciq(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom,
+               &ri[i], &di[i]);
+   }
+}
+
+void bulkAtciqz(int n, const double *rc, const double *dc,
+                iauASTROM *astrom, double *ri, double *di)
+{
+   int i;
+
+   for ( i = 0; i < n; i++ ) {
+      iauAtciqz(rc[i], dc[i], astrom, &ri[i], &di[i]);
+   }
+}
+
+void bulkAticq(int n, const double *ri, const double *di,
+               iauASTROM *astrom, double *rc, double *dc)
+{
+   int i;
+
+   for ( i = 0; i < n; i++ ) {
+      iauAticq(ri[i], di[i], astrom, &rc[i], &dc[i]);
+   }
+}
+
+void bulkAtioq(int n, const double *ri, const double *di,
+               iauASTROM *astrom, double *aob, double *zob,
+               double *hob, double *dob, double *rob)
+{
+   int i;
+   double h, d, r;
+
+   for ( i = 0; i < n; i++ ) {
+      iauAtioq(ri[i], di[i], astrom, &aob[i], &zob[i], &h, &d, &r);
+      if ( hob ) hob[i] = h;
+      if ( dob ) dob[i] = d;
+      if ( rob ) rob[i] = r;
+   }
+}
+
+void bulkAtcoq(int n, const double *rc, const double *dc,
+               const double *pr, const double *pd,
+               const double *px, const double *rv,
+               iauASTROM *astrom, double *aob, double *zob,
+               double *hob, double *dob, double *rob)
+{
+   int i;
+   double ri, di, h, d, r;
+
+   for ( i = 0; i < n; i++ ) {
+      iauAtciq(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom, &ri, &di);
+      iauAtioq(ri, di, astrom, &aob[i], &zob[i], &h, &d, &r);
+      if ( hob ) hob[i] = h;
+      if ( dob ) dob[i] = d;
+      if ( rob ) rob[i] = r;
+   }
+}
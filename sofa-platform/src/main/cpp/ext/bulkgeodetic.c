@@ -0,0 +1,247 @@
+#include "bulk.h"
+#include "sofam.h"
+
+/*
+**  - - - - - - - - - - - - - - -
+**   b u l k g e o d e t i c . c
+**  - - - - - - - - - - - - - - -
+**
+**  Bulk geocentric <-> geodetic transformations, see bulk.h.
+**
+**  The geocentric vectors are read from (or written to) x[i*stride],
+**  y[i*stride] and z[i*stride]: with stride 1 and three arrays they
+**  are structure-of-arrays, with stride 3 and x = xyz, y = xyz+1,
+**  z = xyz+2 they are interleaved xyz triplets.  The geodetic
+**  coordinates are always structure-of-arrays.  The status arrays
+**  receive the value returned by the single-element SOFA routine, and
+**  may be null (NULL) if only the number of non-zero statuses is
+**  needed.
+**
+**  The ellipsoid (and the functions of its parameters) is resolved
+**  once per call rather than once per element; the transformation of
+**  each element is otherwise that of iauGc2gde or iauGd2gce, with the
+**  same results.
+**
+**  This is not part of SOFA.  It uses routines and computations derived
+**  from software provided by SOFA under license (iauGc2gd, iauGc2gde,
+**  iauGd2gc and iauGd2gce, SOFA release 2013-12-02), and does not
+**  itself constitute software provided by and/or endorsed by SOFA.
+**
+**  Returned (function value):
+**               int      number of elements with a non-zero status
+*/
+
+static int fill(int n, int j, int *status)
+/*
+**  Give every element the same status j, returning the number of
+**  non-zero statuses.
+*/
+{
+   int i;
+
+   if ( status ) {
+      for ( i = 0; i < n; i++ ) status[i] = j;
+   }
+   return j ? n : 0;
+}
+
+int bulkGc2gde(int n, double a, double f,
+               const double *x, const double *y, const double *z,
+               int stride, double *elong, double *phi, double *height,
+               int *status)
+{
+   int i;
+   double aeps2, e2, e4t, ec2, ec, b, xi, yi, zi, p2, absz, p, s0, pn,
+          zc, c0, c02, c03, s02, s03, a02, a0, a03, d0, f0, b0, s1, cc,
+          s12, cc2;
+
+/* Validate ellipsoid parameters. */
+   if ( f < 0.0 || f >= 1.0 ) return fill(n, -1, status);
+   if ( a <= 0.0 ) return fill(n, -2, status);
+
+/* Functions of ellipsoid parameters (with further validation of f). */
+   aeps2 = a*a * 1e-32;
+   e2 = (2.0 - f) * f;
+   e4t = e2*e2 * 1.5;
+   ec2 = 1.0 - e2;
+   if ( ec2 <= 0.0 ) return fill(n, -1, status);
+   ec = sqrt(ec2);
+   b = a * ec;
+
+   for ( i = 0; i < n; i++ ) {
+
+   /* Cartesian components. */
+      xi = x[i*stride];
+      yi = y[i*stride];
+      zi = z[i*stride];
+
+   /* Distance from polar axis squared. */
+      p2 = xi*xi + yi*yi;
+
+   /* Longitude. */
+      elong[i] = p2 != 0.0 ? atan2(yi, xi) : 0.0;
+
+   /* Unsigned z-coordinate. */
+      absz = fabs(zi);
+
+   /* Proceed unless polar case. */
+      if ( p2 > aeps2 ) {
+
+      /* Distance from polar axis. */
+         p = sqrt(p2);
+
+      /* Normalization. */
+         s0 = absz / a;
+         pn = p / a;
+         zc = ec * s0;
+
+      /* Prepare Newton correction factors. */
+         c0 = ec * pn;
+         c02 = c0 * c0;
+         c03 = c02 * c0;
+         s02 = s0 * s0;
+         s03 = s02 * s0;
+         a02 = c02 + s02;
+         a0 = sqrt(a02);
+         a03 = a02 * a0;
+         d0 = zc*a03 + e2*s03;
+         f0 = pn*a03 - e2*c03;
+
+      /* Prepare Halley correction factor. */
+         b0 = e4t * s02 * c02 * pn * (a0 - ec);
+         s1 = d0*f0 - b0*s0;
+         cc = ec * (f0*f0 - b0*c0);
+
+      /* Evaluate latitude and height. */
+         phi[i] = atan(s1/cc);
+         s12 = s1 * s1;
+         cc2 = cc * cc;
+         height[i] = (p*cc + absz*s1 - a * sqrt(ec2*s12 + cc2)) /
+                                                        sqrt(s12 + cc2);
+      } else {
+
+      /* Exception: pole. */
+         phi[i] = DPI / 2.0;
+         height[i] = absz - b;
+      }
+
+   /* Restore sign of latitude. */
+      if ( zi < 0 ) phi[i] = -phi[i];
+   }
+   return fill(n, 0, status);
+}
+
+int bulkGc2gd(int n, int el,
+              const double *x, const double *y, const double *z,
+              int stride, double *elong, double *phi, double *height,
+              int *status)
+{
+   int i, j;
+   double a, f;
+
+/* Obtain reference ellipsoid parameters. */
+   j = iauEform(el, &a, &f);
+
+/* If OK, transform x,y,z to longitude, geodetic latitude, height. */
+   if ( j == 0 ) {
+      if ( bulkGc2gde(n, a, f, x, y, z, stride, elong, phi, height,
+                      status) == 0 ) return 0;
+      j = -2;
+   }
+
+/* Deal with any errors. */
+   for ( i = 0; i < n; i++ ) {
+      elong[i] = -1e9;
+      phi[i] = -1e9;
+      height[i] = -1e9;
+   }
+   return fill(n, j, status);
+}
+
+static int gd2gce(double a, double w, double elong, double phi,
+                  double height, double *x, double *y, double *z)
+/*
+**  One element of iauGd2gce, with w = (1-f)^2; x,y,z are not changed
+**  in the illegal case (status -1).
+*/
+{
+   double sp, cp, d, ac, as, r;
+
+/* Functions of geodetic latitude. */
+   sp = sin(phi);
+   cp = cos(phi);
+   d = cp*cp + w*sp*sp;
+   if ( d <= 0.0 ) return -1;
+   ac = a / sqrt(d);
+   as = w * ac;
+
+/* Geocentric vector. */
+   r = (ac + height) * cp;
+   *x = r * cos(elong);
+   *y = r * sin(elong);
+   *z = (as + height) * sp;
+
+/* Success. */
+   return 0;
+}
+
+int bulkGd2gce(int n, double a, double f,
+               const double *elong, const double *phi,
+               const double *height, double *x, double *y, double *z,
+               int stride, int *status)
+{
+   int i, j, nbad = 0;
+   double w;
+
+/* Functions of ellipsoid parameters. */
+   w = 1.0 - f;
+   w = w * w;
+
+   for ( i = 0; i < n; i++ ) {
+      j = gd2gce(a, w, elong[i], phi[i], height[i],
+                 x + i*stride, y + i*stride, z + i*stride);
+      if ( status ) status[i] = j;
+      if ( j ) nbad++;
+   }
+   return nbad;
+}
+
+int bulkGd2gc(int n, int el,
+              const double *elong, const double *phi,
+              const double *height, double *x, double *y, double *z,
+              int stride, int *status)
+{
+   int i, j, nbad = 0;
+   double a, f, w;
+
+/* Obtain reference ellipsoid parameters. */
+   j = iauEform(el, &a, &f);
+   w = 1.0 - f;
+   w = w * w;
+
+   for ( i = 0; i < n; i++ ) {
+
+   /* If OK, transform longitude, geodetic latitude, height to x,y,z. */
+      if ( j == 0 ) {
+         if ( gd2gce(a, w, elong[i], phi[i], height[i],
+                     x + i*stride, y + i*stride, z + i*stride) ) {
+            if ( status ) status[i] = -2;
+            nbad++;
+            x[i*stride] = 0.0;
+            y[i*stride] = 0.0;
+            z[i*stride] = 0.0;
+         } else {
+            if ( status ) status[i] = 0;
+         }
+
+   /* Deal with any errors. */
+      } else {
+         if ( status ) status[i] = j;
+         nbad++;
+         x[i*stride] = 0.0;
+         y[i*stride] = 0.0;
+         z[i*stride] = 0.0;
+      }
+   }
+   return nbad;
+}
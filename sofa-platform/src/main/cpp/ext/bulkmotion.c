@@ -0,0 +1,40 @@
+#include "bulk.h"
+
+/*
+**  - - - - - - - - - - - - -
+**   b u l k m o t i o n . c
+**  - - - - - - - - - - - - -
+**
+**  Bulk space motion, see bulk.h.
+**
+**  bulkPmsafe applies iauPmsafe to the n elements of its argument
+**  arrays, propagating every star from the same epoch ep1a+ep1b to the
+**  same epoch ep2a+ep2b.  Given and returned arguments are exactly as
+**  for iauPmsafe, with one array element per star; the status array
+**  receives the value returned by iauPmsafe, and may be null (NULL)
+**  if only the number of non-zero statuses is needed.  The returned
+**  arrays may be the same as the given ones (in place propagation).
+**
+**  Returned (function value):
+**               int      number of elements with a non-zero status
+*/
+
+int bulkPmsafe(int n, const double *ra1, const double *dec1,
+               const double *pmr1, const double *pmd1,
+               const double *px1, const double *rv1,
+               double ep1a, double ep1b, double ep2a, double ep2b,
+               double *ra2, double *dec2, double *pmr2,
+               double *pmd2, double *px2, double *rv2,
+               int *status)
+{
+   int i, j, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      j = iauPmsafe(ra1[i], dec1[i], pmr1[i], pmd1[i], px1[i], rv1[i],
+                    ep1a, ep1b, ep2a, ep2b,
+                    &ra2[i], &dec2[i], &pmr2[i], &pmd2[i], &px2[i], &rv2[i]);
+      if ( status ) status[i] = j;
+      if ( j ) nbad++;
+   }
+   return nbad;
+}
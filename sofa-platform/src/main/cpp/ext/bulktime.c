@@ -0,0 +1,79 @@
+#include "bulk.h"
+
+/*
+**  - - - - - - - - - - -
+**   b u l k t i m e . c
+**  - - - - - - - - - - -
+**
+**  Bulk time scale transformations, see bulk.h.
+**
+**  Each function applies the SOFA routine of the same name (iauTaitt,
+**  iauTttdb, iauUt1utc, iauUtctai and iauUtcut1) to the n elements of
+**  its argument arrays.  Given and returned arguments are exactly as
+**  for the SOFA routine, with one array element per call; the status
+**  array receives the value returned by the SOFA routine.  The returned
+**  arrays may be the same as the given ones (in place conversion).
+**
+**  Returned (function value):
+**               int      number of elements with a non-zero status
+*/
+
+int bulkTaitt(int n, const double *tai1, const double *tai2,
+              double *tt1, double *tt2, int *status)
+{
+   int i, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      status[i] = iauTaitt(tai1[i], tai2[i], &tt1[i], &tt2[i]);
+      if ( status[i] ) nbad++;
+   }
+   return nbad;
+}
+
+int bulkTttdb(int n, const double *tt1, const double *tt2,
+              const double *dtr, double *tdb1, double *tdb2, int *status)
+{
+   int i, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      status[i] = iauTttdb(tt1[i], tt2[i], dtr[i], &tdb1[i], &tdb2[i]);
+      if ( status[i] ) nbad++;
+   }
+   return nbad;
+}
+
+int bulkUt1utc(int n, const double *ut11, const double *ut12,
+               const double *dut1, double *utc1, double *utc2, int *status)
+{
+   int i, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      status[i] = iauUt1utc(ut11[i], ut12[i], dut1[i], &utc1[i], &utc2[i]);
+      if ( status[i] ) nbad++;
+   }
+   return nbad;
+}
+
+int bulkUtctai(int n, const double *utc1, const double *utc2,
+               double *tai1, double *tai2, int *status)
+{
+   int i, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      status[i] = iauUtctai(utc1[i], utc2[i], &tai1[i], &tai2[i]);
+      if ( status[i] ) nbad++;
+   }
+   return nbad;
+}
+
+int bulkUtcut1(int n, const double *utc1, const double *utc2,
+               const double *dut1, double *ut11, double *ut12, int *status)
+{
+   int i, nbad = 0;
+
+   for ( i = 0; i < n; i++ ) {
+      status[i] = iauUtcut1(utc1[i], utc2[i], dut1[i], &ut11[i], &ut12[i]);
+      if ( status[i] ) nbad++;
+   }
+   return nbad;
+}
@@ -0,0 +1,179 @@
+#include "bulk.h"
+#include "fastdtdb.h"
+#include "leap.h"
+#include "sofam.h"
+
+/*
+**  - - - - - - - - - - - - -
+**   b u l k u t c t d b . c
+**  - - - - - - - - - - - - -
+**
+**  Fused UTC to TDB transformation, see bulk.h.
+**
+**  This is not part of SOFA.  It uses routines and computations derived
+**  from software provided by SOFA under license (iauUtctai, SOFA release
+**  2013-12-02), and does not itself constitute software provided by
+**  and/or endorsed by SOFA.
+*/
+
+/* Delta(AT) values of one UTC day, as used by iauUtctai */
+typedef struct {
+   int iy, im, id;          /* calendar date (month 0 if none) */
+   int j;                   /* status */
+   double dat0, dat12;      /* TAI-UTC at 0h and 12h */
+   double dat24;            /* TAI-UTC at 0h the next day */
+   double z1, z2;           /* 2-part JD at 0h */
+} leapDay;
+
+static int utcDay(double u1, double u2, double fd,
+                  int iy, int im, int id, leapDay *day)
+/*
+**  Fill in the Delta(AT) values of a UTC day, as iauUtctai, with the
+**  status that iauUtctai returns for the dates of that day.
+*/
+{
+   int j, iyt, imt, idt;
+   double w;
+
+   day->iy = iy;
+   day->im = im;
+   day->id = id;
+
+/* Get TAI-UTC at 0h today. */
+   j = leapDat(iy, im, id, 0.0, &day->dat0);
+   if ( j < 0 ) return j;
+
+/* Get TAI-UTC at 12h today (to detect drift). */
+   j = leapDat(iy, im, id, 0.5, &day->dat12);
+   if ( j < 0 ) return j;
+
+/* Get TAI-UTC at 0h tomorrow (to detect jumps). */
+   j = iauJd2cal(u1+1.5, u2-fd, &iyt, &imt, &idt, &w);
+   if ( j ) return j;
+   j = leapDat(iyt, imt, idt, 0.0, &day->dat24);
+   if ( j < 0 ) return j;
+
+/* Today's calendar date to 2-part JD. */
+   if ( iauCal2jd(iy, im, id, &day->z1, &day->z2) ) return -1;
+
+   return j;
+}
+
+int bulkUtctdb(int n, const double *utc1, const double *utc2,
+               double elong, double u, double v, double tol,
+               double *tdb1, double *tdb2, int *status)
+/*
+**  - - - - - - - - - - -
+**   b u l k U t c t d b
+**  - - - - - - - - - - -
+**
+**  UTC to TDB for n epochs, as iauUtctai, iauTaitt and iauTttdb in
+**  sequence, with TDB-TT from fastDtdb.
+**
+**  Given:
+**     n           int      number of epochs
+**     utc1,utc2   double*  UTC as a 2-part quasi Julian Date
+**     elong       double   longitude (east positive, radians)
+**     u           double   distance from Earth spin axis (km)
+**     v           double   distance north of equatorial plane (km)
+**     tol         double   error bound of TDB-TT (seconds, see fastDtdb)
+**
+**  Returned:
+**     tdb1,tdb2   double*  TDB as a 2-part Julian Date
+**     status      int*     status of iauUtctai for each epoch
+**
+**  Returned (function value):
+**                 int      number of elements with a non-zero status
+**
+**  Notes:
+**
+**  1) The site (elong, u, v) is the same for all epochs, u = v = 0 for
+**     the geocentric TDB-TT.  The UT of the topocentric terms is taken
+**     as the UTC fraction of day, well within their precision.
+**
+**  2) Delta(AT) is looked up (with leapDat) once per UTC day rather
+**     than three times per epoch, and the terms of the TDB-TT series
+**     are selected once, for the epoch farthest from J2000.0.
+**
+**  3) With tol = 0 the results are those of iauUtctai, iauTaitt,
+**     iauDtdb and iauTttdb.  Where iauUtctai fails (status < 0) the
+**     returned TDB of that epoch is left unchanged.
+**
+**  Called:
+**     iauJd2cal      JD to Gregorian calendar
+**     iauCal2jd      Gregorian calendar to JD
+**     leapDat        delta(AT) = TAI-UTC
+**     iauTaitt       TAI to TT
+**     fastDtdbTerms  number of TDB-TT terms for an error bound
+**     fastDtdbSeries truncated TDB-TT
+**     iauTttdb       TT to TDB
+*/
+{
+   int i, j, big1, iy, im, id, nterms[5], nbad = 0;
+   double t, tmax, u1, u2, fd, ut, dlod, dleap, a2, tai1, tai2, tt1, tt2,
+          dtr;
+   leapDay day;
+
+/* TDB-TT terms for the largest |T|, with a margin for TT-UTC. */
+   tmax = 0.0;
+   for ( i = 0; i < n; i++ ) {
+      t = fabs(((utc1[i] - DJ00) + utc2[i]) / DJM);
+      if ( t > tmax ) tmax = t;
+   }
+   fastDtdbTerms(tmax + 1e-6, tol, nterms);
+
+   day.iy = day.im = day.id = 0;
+   for ( i = 0; i < n; i++ ) {
+
+   /* Put the two parts of the UTC into big-first order. */
+      big1 = ( utc1[i] >= utc2[i] );
+      if ( big1 ) {
+         u1 = utc1[i];
+         u2 = utc2[i];
+      } else {
+         u1 = utc2[i];
+         u2 = utc1[i];
+      }
+
+   /* TAI-UTC of the day, computed when the day changes. */
+      j = iauJd2cal(u1, u2, &iy, &im, &id, &fd);
+      if ( !j ) {
+         if ( iy != day.iy || im != day.im || id != day.id ) {
+            day.j = utcDay(u1, u2, fd, iy, im, id, &day);
+         }
+         j = day.j;
+      }
+      status[i] = j;
+      if ( j ) nbad++;
+      if ( j < 0 ) continue;
+      ut = fd;
+
+   /* Separate TAI-UTC change into per-day (DLOD) and any jump (DLEAP). */
+      dlod = 2.0 * (day.dat12 - day.dat0);
+      dleap = day.dat24 - (day.dat0 + dlod);
+
+   /* Remove any scaling applied to spread leap into preceding day. */
+      fd *= (DAYSEC+dleap)/DAYSEC;
+
+   /* Scale from (pre-1972) UTC seconds to SI seconds. */
+      fd *= (DAYSEC+dlod)/DAYSEC;
+
+   /* Assemble the TAI result, preserving the UTC split and order. */
+      a2 = day.z1 - u1;
+      a2 += day.z2;
+      a2 += fd + day.dat0/DAYSEC;
+      if ( big1 ) {
+         tai1 = u1;
+         tai2 = a2;
+      } else {
+         tai1 = a2;
+         tai2 = u1;
+      }
+
+   /* TAI to TT to TDB. */
+      iauTaitt(tai1, tai2, &tt1, &tt2);
+      dtr = fastDtdbSeries(tt1, tt2, ut, elong, u, v, nterms);
+      iauTttdb(tt1, tt2, dtr, &tdb1[i], &tdb2[i]);
+   }
+   return nbad;
+}
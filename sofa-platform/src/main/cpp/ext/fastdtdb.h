@@ -0,0 +1,35 @@
+#ifndef FASTDTDB_HDEF
+#define FASTDTDB_HDEF
+
+/*
+**  - - - - - - - - - - -
+**   f a s t d t d b . h
+**  - - - - - - - - - - -
+**
+**  Prototype function declarations for the truncated TDB-TT model, an
+**  extension to the SOFA library.
+**
+**  These functions are not part of SOFA.  They use routines and
+**  computations derived from software provided by SOFA under license,
+**  and do not themselves constitute software provided by and/or
+**  endorsed by SOFA.
+*/
+
+#include "sofa.h"
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+SOFAExport double fastDtdb(double date1, double date2, double ut,
+                           double elong, double u, double v, double tol);
+SOFAExport void fastDtdbTerms(double t, double tol, int nterms[5]);
+SOFAExport double fastDtdbSeries(double date1, double date2, double ut,
+                                 double elong, double u, double v,
+                                 const int nterms[5]);
+
+#ifdef __cplusplus
+}
+#endif
+
+#endif
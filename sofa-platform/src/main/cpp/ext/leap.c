@@ -0,0 +1,206 @@
+#include "leap.h"
+
+int leapDat(int iy, int im, int id, double fd, double *deltat)
+/*
+**  - - - - - - - -
+**   l e a p D a t
+**  - - - - - - - -
+**
+**  For a given UTC date, calculate delta(AT) = TAI-UTC.
+**
+**  This is iauDat with the linear scan of the Delta(AT) table replaced
+**  by a constant time lookup.  Given, returned and status values are
+**  identical to iauDat (see sofa.h), for every date.
+**
+**  Derived from iauDat, SOFA release 2013-12-02 (not part of SOFA):
+**
+**  1) Dates from the last Delta(AT) change onwards (the current era)
+**     are recognized by a single comparison.
+**
+**  2) Earlier dates use an index with the table entry in effect for
+**     every month since 1960 January.  All changes are on the first of
+**     a month, so the month is a complete key.
+**
+**  When a leap second is announced, the changes[] table, the index and
+**  the release year must be updated together with dat.c.
+**
+**  Called:
+**     iauCal2jd    Gregorian calendar to JD
+*/
+{
+/* Release year of the iauDat this function is derived from */
+   enum { IYV = 2013};
+
+/* Reference dates (MJD) and drift rates (s/day), pre leap seconds */
+   static const double drift[][2] = {
+      { 37300.0, 0.0012960 },
+      { 37300.0, 0.0012960 },
+      { 37300.0, 0.0012960 },
+      { 37665.0, 0.0011232 },
+      { 37665.0, 0.0011232 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 38761.0, 0.0012960 },
+      { 39126.0, 0.0025920 },
+      { 39126.0, 0.0025920 }
+   };
+
+/* Number of Delta(AT) expressions before leap seconds were introduced */
+   enum { NERA1 = (int) (sizeof drift / sizeof (double) / 2) };
+
+/* Dates and Delta(AT)s */
+   static const struct {
+      int iyear, month;
+      double delat;
+   } changes[] = {
+      { 1960,  1,  1.4178180 },
+      { 1961,  1,  1.4228180 },
+      { 1961,  8,  1.3728180 },
+      { 1962,  1,  1.8458580 },
+      { 1963, 11,  1.9458580 },
+      { 1964,  1,  3.2401300 },
+      { 1964,  4,  3.3401300 },
+      { 1964,  9,  3.4401300 },
+      { 1965,  1,  3.5401300 },
+      { 1965,  3,  3.6401300 },
+      { 1965,  7,  3.7401300 },
+      { 1965,  9,  3.8401300 },
+      { 1966,  1,  4.3131700 },
+      { 1968,  2,  4.2131700 },
+      { 1972,  1, 10.0       },
+      { 1972,  7, 11.0       },
+      { 1973,  1, 12.0       },
+      { 1974,  1, 13.0       },
+      { 1975,  1, 14.0       },
+      { 1976,  1, 15.0       },
+      { 1977,  1, 16.0       },
+      { 1978,  1, 17.0       },
+      { 1979,  1, 18.0       },
+      { 1980,  1, 19.0       },
+      { 1981,  7, 20.0       },
+      { 1982,  7, 21.0       },
+      { 1983,  7, 22.0       },
+      { 1985,  7, 23.0       },
+      { 1988,  1, 24.0       },
+      { 1990,  1, 25.0       },
+      { 1991,  1, 26.0       },
+      { 1992,  7, 27.0       },
+      { 1993,  7, 28.0       },
+      { 1994,  7, 29.0       },
+      { 1996,  1, 30.0       },
+      { 1997,  7, 31.0       },
+      { 1999,  1, 32.0       },
+      { 2006,  1, 33.0       },
+      { 2009,  1, 34.0       },
+      { 2012,  7, 35.0       }
+   };
+
+/* Number of Delta(AT) changes */
+   enum { NDAT = (int) (sizeof changes / sizeof changes[0]) };
+
+/* Entry of changes[] in effect, for every month from 1960 January */
+/* up to (not including) the last change */
+   static const unsigned char index[] = {
+      /* 1960 */  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,  0,
+      /* 1961 */  1,  1,  1,  1,  1,  1,  1,  2,  2,  2,  2,  2,
+      /* 1962 */  3,  3,  3,  3,  3,  3,  3,  3,  3,  3,  3,  3,
+      /* 1963 */  3,  3,  3,  3,  3,  3,  3,  3,  3,  3,  4,  4,
+      /* 1964 */  5,  5,  5,  6,  6,  6,  6,  6,  7,  7,  7,  7,
+      /* 1965 */  8,  8,  9,  9,  9,  9, 10, 10, 11, 11, 11, 11,
+      /* 1966 */ 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12,
+      /* 1967 */ 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12, 12,
+      /* 1968 */ 12, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13,
+      /* 1969 */ 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13,
+      /* 1970 */ 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13,
+      /* 1971 */ 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13, 13,
+      /* 1972 */ 14, 14, 14, 14, 14, 14, 15, 15, 15, 15, 15, 15,
+      /* 1973 */ 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16, 16,
+      /* 1974 */ 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17, 17,
+      /* 1975 */ 18, 18, 18, 18, 18, 18, 18, 18, 18, 18, 18, 18,
+      /* 1976 */ 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19, 19,
+      /* 1977 */ 20, 20, 20, 20, 20, 20, 20, 20, 20, 20, 20, 20,
+      /* 1978 */ 21, 21, 21, 21, 21, 21, 21, 21, 21, 21, 21, 21,
+      /* 1979 */ 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22, 22,
+      /* 1980 */ 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23, 23,
+      /* 1981 */ 23, 23, 23, 23, 23, 23, 24, 24, 24, 24, 24, 24,
+      /* 1982 */ 24, 24, 24, 24, 24, 24, 25, 25, 25, 25, 25, 25,
+      /* 1983 */ 25, 25, 25, 25, 25, 25, 26, 26, 26, 26, 26, 26,
+      /* 1984 */ 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26, 26,
+      /* 1985 */ 26, 26, 26, 26, 26, 26, 27, 27, 27, 27, 27, 27,
+      /* 1986 */ 27, 27, 27, 27, 27, 27, 27, 27, 27, 27, 27, 27,
+      /* 1987 */ 27, 27, 27, 27, 27, 27, 27, 27, 27, 27, 27, 27,
+      /* 1988 */ 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28,
+      /* 1989 */ 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28,
+      /* 1990 */ 29, 29, 29, 29, 29, 29, 29, 29, 29, 29, 29, 29,
+      /* 1991 */ 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30, 30,
+      /* 1992 */ 30, 30, 30, 30, 30, 30, 31, 31, 31, 31, 31, 31,
+      /* 1993 */ 31, 31, 31, 31, 31, 31, 32, 32, 32, 32, 32, 32,
+      /* 1994 */ 32, 32, 32, 32, 32, 32, 33, 33, 33, 33, 33, 33,
+      /* 1995 */ 33, 33, 33, 33, 33, 33, 33, 33, 33, 33, 33, 33,
+      /* 1996 */ 34, 34, 34, 34, 34, 34, 34, 34, 34, 34, 34, 34,
+      /* 1997 */ 34, 34, 34, 34, 34, 34, 35, 35, 35, 35, 35, 35,
+      /* 1998 */ 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35, 35,
+      /* 1999 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2000 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2001 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2002 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2003 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2004 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2005 */ 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36, 36,
+      /* 2006 */ 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37,
+      /* 2007 */ 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37,
+      /* 2008 */ 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37, 37,
+      /* 2009 */ 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38,
+      /* 2010 */ 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38,
+      /* 2011 */ 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38, 38,
+      /* 2012 */ 38, 38, 38, 38, 38, 38
+   };
+
+/* Miscellaneous local variables */
+   int j, i, m, m0, mlast;
+   double da, djm0, djm;
+
+
+/* Initialize the result to zero. */
+   *deltat = da = 0.0;
+
+/* If invalid fraction of a day, set error status and give up. */
+   if (fd < 0.0 || fd > 1.0) return -4;
+
+/* Convert the date into an MJD. */
+   j = iauCal2jd(iy, im, id, &djm0, &djm);
+
+/* If invalid year, month, or day, give up. */
+   if (j < 0) return j;
+
+/* If pre-UTC year, set warning status and give up. */
+   if (iy < changes[0].iyear) return 1;
+
+/* If suspiciously late year, set warning status but proceed. */
+   if (iy > IYV + 5) j = 1;
+
+/* Combine year and month to form a date-ordered integer... */
+   m = 12*iy + im;
+   m0 = 12*changes[0].iyear + changes[0].month;
+   mlast = 12*changes[NDAT-1].iyear + changes[NDAT-1].month;
+
+/* ...and use it to find the preceding table entry. */
+   i = ( m >= mlast ) ? NDAT-1 : index[m - m0];
+
+/* Get the Delta(AT). */
+   da = changes[i].delat;
+
+/* If pre-1972, adjust for drift. */
+   if (i < NERA1) da += (djm + fd - drift[i][0]) * drift[i][1];
+
+/* Return the Delta(AT) value. */
+   *deltat = da;
+
+/* Return the status. */
+   return j;
+
+}
@@ -0,0 +1,30 @@
+#ifndef LEAP_HDEF
+#define LEAP_HDEF
+
+/*
+**  - - - - - - -
+**   l e a p . h
+**  - - - - - - -
+**
+**  Prototype function declarations for the indexed leap second table,
+**  an extension to the SOFA library.
+**
+**  This function is not part of SOFA.  It uses routines and
+**  computations derived from software provided by SOFA under license,
+**  and does not itself constitute software provided by and/or endorsed
+**  by SOFA.
+*/
+
+#include "sofa.h"
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+SOFAExport int leapDat(int iy, int im, int id, double fd, double *deltat);
+
+#ifdef __cplusplus
+}
+#endif
+
+#endif
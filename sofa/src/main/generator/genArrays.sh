@@ -0,0 +1,242 @@
+#!/bin/bash
+# Generates SofaArrays, the primitive-array overloads of the SofaLibrary functions.
+#
+# Every iau* function with pointer or array arguments in sofa.h gets two overloads
+#   where these arguments are replaced by Java arrays: one with an offset for every
+#   array, and one without (all offsets zero). The arrays are copied into a
+#   thread-local native scratch block (NativeScratch), the protected @Ptr long
+#   variant of the SofaLibrary function is called, and only the arguments that
+#   the SOFA documentation lists as "Returned" are copied back. The returned
+#   arguments of functions with a status are also copied in, so that those the
+#   function leaves unset on an error keep the values of the caller.
+#
+# Usage (from the sofa directory):
+#   ./src/main/generator/genArrays.sh
+
+header="../sofa-platform/src/main/cpp/src/sofa.h"
+output="src/main/java/be/angelcorp/sofa/SofaArrays.java"
+
+if [[ ! -f "$header" ]]; then
+    echo "Cannot find the sofa header: $header"
+    exit 1
+fi
+
+awk -v script="$0" '
+function paramName(param,    n, tokens) {
+    sub(/\[.*$/, "", param)
+    gsub(/[ *]+$/, "", param)
+    n = split(param, tokens, /[ *]+/)
+    return tokens[n]
+}
+# Number of elements behind a pointer or array argument
+function elements(param) {
+    if (param ~ /^iauASTROM/)       return "ASTROM_SIZE"
+    if (param ~ /^iauLDBODY/)       return "LDBODY_SIZE * n"
+    if (param ~ /\[3\]\[3\]/)       return "9"
+    if (param ~ /\[2\]\[3\]/)       return "6"
+    if (match(param, /\[[0-9]+\]/)) return substr(param, RSTART + 1, RLENGTH - 2)
+    return "1"
+}
+# Kind of argument: double, int, byte (values), or a pointer: doubles, ints, bytes or string
+function kind(param) {
+    if (param ~ /^const char \*/)          return "string"
+    if (param ~ /^char *\*/)               return "bytes"
+    if (param ~ /^char /)                  return "byte"
+    if (param ~ /^int *(\*|[a-z0-9]+\[)/)  return "ints"
+    if (param ~ /^int /)                   return "int"
+    if (param ~ /^(iauASTROM|iauLDBODY)/)  return "doubles"
+    if (param ~ /^double *(\*|[a-z0-9]+\[)/) return "doubles"
+    if (param ~ /^double /)                return "double"
+    print "Unknown parameter type: " param > "/dev/stderr"
+    exit 1
+}
+function capitalize(s) {
+    return toupper(substr(s, 1, 1)) substr(s, 2)
+}
+function javaArray(k) {
+    if (k == "doubles") return "double[]"
+    if (k == "ints")    return "int[]"
+    if (k == "bytes")   return "byte[]"
+}
+# Size of the (8-byte aligned) scratch slot of an argument, only called for a numeric number of elements
+function slotBytes(k, len) {
+    if (k == "doubles") return 8 * len
+    if (k == "ints")    return 8 * int((len + 1) / 2)
+    if (k == "bytes")   return 8 * int((len + 7) / 8)
+}
+
+BEGIN {
+    print "package be.angelcorp.sofa;"
+    print ""
+    print "/**"
+    print " * Primitive-array overloads of the {@link SofaLibrary} functions.<br>"
+    print " * This file was autogenerated by " script " from sofa-platform/src/main/cpp/src/sofa.h.<br>"
+    print " * <br>"
+    print " * All pointer and array arguments of the SOFA functions are replaced by Java arrays (and an optional offset into"
+    print " * that array). Matrices and pv-vectors are flat, row-major arrays: 9 doubles for double[3][3], 6 doubles for"
+    print " * double[2][3]. An iauASTROM struct is passed as {@value #ASTROM_SIZE} doubles in field order, an iauLDBODY"
+    print " * array as {@value #LDBODY_SIZE} doubles per body.<br>"
+    print " * <br>"
+    print " * The arguments are copied through a thread-local native scratch block, so no native memory or BridJ pointers"
+    print " * are allocated per call. Only the arguments that are documented as returned by SOFA are copied back, so the"
+    print " * same array may be passed as an input and an output wherever the C function allows it. The functions that return"
+    print " * a status leave the returned arrays as they were given wherever SOFA does not set them (e.g. on an error)."
+    print " */"
+    print "public final class SofaArrays {"
+    print ""
+    print "    /** Number of doubles in an iauASTROM struct. */"
+    print "    public static final int ASTROM_SIZE = 31;"
+    print "    /** Number of doubles in an iauLDBODY struct. */"
+    print "    public static final int LDBODY_SIZE = 8;"
+    print ""
+    print "    static {"
+    print "        NativeVariant.select();"
+    print "    }"
+    print ""
+    print "    private SofaArrays() {"
+    print "    }"
+}
+
+/^\/\*\*/ { delete given; delete returned; section = ""; summary = ""; dashes = 0; inSummary = 0; next }
+
+# Summary line of the function documentation
+/^ \*  - -/ { dashes++; if (dashes == 2) inSummary = 1; next }
+inSummary {
+    line = $0
+    sub(/^ \*[ \t]*/, "", line)
+    if (line == "" && summary != "") inSummary = 0
+    else if (line != "") summary = (summary == "" || summary ~ /-$/ ? summary line : summary " " line)
+    next
+}
+
+# Given/Returned sections of the function documentation, and the arguments listed in them
+/^ \*  [A-Z]/ && /:[ \t]*$/ {
+    if ($0 ~ /Given and returned/)         section = "io"
+    else if ($0 ~ /Returned.*function value/) section = ""
+    else if ($0 ~ /Given/)                 section = "in"
+    else if ($0 ~ /Returned/)              section = "out"
+    else                                   section = ""
+    indent = -1
+    next
+}
+section != "" && /^ \*  +[a-zA-Z]/ {
+    match($0, /^ \* +/)
+    if (indent < 0) indent = RLENGTH
+    if (RLENGTH != indent) next
+    n = split($2, names, ",")
+    for (i = 1; i <= n; i++) {
+        if (names[i] == "") continue
+        if (section != "out") given[names[i]] = 1
+        if (section != "in")  returned[names[i]] = 1
+    }
+    next
+}
+
+/^SOFAExport / {
+    signature = $0
+    sub(/^SOFAExport /, "", signature)
+    sub(/;[ \t]*$/, "", signature)
+    returnType = signature
+    sub(/ .*$/, "", returnType)
+    name = signature
+    sub(/^[a-z]+ /, "", name)
+    sub(/[ \t]*\(.*$/, "", name)
+    if (name in seen) next
+    seen[name] = 1
+
+    # Irregular SOFA documentation: b is not listed at the argument indentation, c is listed as "char[]"
+    if (name == "iauAtciqn" || name == "iauAticqn") given["b"] = 1
+    if (name == "iauCr") returned["c"] = 1
+
+    paramList = signature
+    sub(/^[^(]*\(/, "", paramList)
+    sub(/\)[ \t]*$/, "", paramList)
+    nParams = split(paramList, params, /,[ \t]*/)
+
+    pointers = 0
+    for (i = 1; i <= nParams; i++) {
+        p = params[i]
+        gsub(/^[ \t]+|[ \t]+$/, "", p)
+        pk[i] = kind(p)
+        pn[i] = paramName(p)
+        pl[i] = elements(p)
+        if (pk[i] == "doubles" || pk[i] == "ints" || pk[i] == "bytes") {
+            pointers++
+            po[i] = (pn[i] in returned)
+            pi[i] = !po[i] || (pn[i] in given)
+        }
+    }
+    if (pointers == 0) next
+
+    # Overload with offsets
+    javaParams = ""; shortParams = ""; shortArgs = ""; bytes = ""; constBytes = 0; puts = ""; args = ""; gets = ""; outputs = ""
+    for (i = 1; i <= nParams; i++) {
+        sep = (i > 1 ? ", " : "")
+        k = pk[i]; v = pn[i]
+        if (k == "double" || k == "int" || k == "byte") {
+            javaParams  = javaParams sep k " " v
+            shortParams = shortParams sep k " " v
+            shortArgs   = shortArgs sep v
+            args        = args sep v
+        } else if (k == "string") {
+            javaParams  = javaParams sep "String " v
+            shortParams = shortParams sep "String " v
+            shortArgs   = shortArgs sep v
+            bytes       = bytes " + NativeScratch.stringBytes(" v ")"
+            puts        = puts "        long " v "$ = scratch.putString(" v ");\n"
+            args        = args sep v "$"
+        } else {
+            javaParams  = javaParams sep javaArray(k) " " v ", int " v "Offset"
+            shortParams = shortParams sep javaArray(k) " " v
+            shortArgs   = shortArgs sep v ", 0"
+            if (pl[i] ~ /^[0-9]+$/) constBytes += slotBytes(k, pl[i])
+            else                    bytes = bytes " + 8 * " pl[i]
+            # Pure outputs are reserved, except for the functions with a status: these may return early on an
+            # error, so their outputs are seeded with the given values rather than return what was left in the block
+            if (pi[i] || returnType == "int")
+                puts = puts "        long " v "$ = scratch.put" capitalize(k) "(" v ", " v "Offset, " pl[i] ");\n"
+            else
+                puts = puts "        long " v "$ = scratch.reserve" capitalize(k) "(" pl[i] ");\n"
+            args = args sep v "$"
+            if (po[i]) {
+                gets    = gets "        scratch.get" capitalize(k) "(" v "$, " v ", " v "Offset, " pl[i] ");\n"
+                outputs = outputs (outputs == "" ? "" : ", ") v
+            }
+        }
+    }
+
+    print ""
+    print "    /**"
+    if (summary != "") print "     * " summary "<br>"
+    print "     * Array variant of {@link SofaLibrary#" name "}" (outputs == "" ? "." : ", returns " outputs ".")
+    print "     */"
+    print "    public static " returnType " " name "(" javaParams ") {"
+    if (constBytes > 0) bytes = bytes " + " constBytes
+    print "        NativeScratch scratch = NativeScratch.get(" substr(bytes, 4) ");"
+    printf "%s", puts
+    if (returnType == "void") {
+        print "        SofaLibrary." name "(" args ");"
+        printf "%s", gets
+    } else if (gets == "") {
+        print "        return SofaLibrary." name "(" args ");"
+    } else {
+        print "        " returnType " result = SofaLibrary." name "(" args ");"
+        printf "%s", gets
+        print "        return result;"
+    }
+    print "    }"
+
+    # Overload without offsets
+    print ""
+    print "    /**"
+    print "     * Array variant of {@link SofaLibrary#" name "}" (outputs == "" ? "." : ", returns " outputs ".")
+    print "     */"
+    print "    public static " returnType " " name "(" shortParams ") {"
+    print "        " (returnType == "void" ? "" : "return ") name "(" shortArgs ");"
+    print "    }"
+}
+
+END {
+    print ""
+    print "}"
+}' "$header" > "$output"
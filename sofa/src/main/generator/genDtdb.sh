@@ -0,0 +1,40 @@
+#!/bin/bash
+# Extracts the Fairhead & Bretagnon TDB-TT series from dtdb.c, for the pure-Java Dtdb.
+#
+# The fairhd table is written one term per line (amplitude, frequency, phase), preceded
+# by the index of the first term of each power of T, from the comment above the table.
+#
+# Usage (from the sofa directory):
+#   ./src/main/generator/genDtdb.sh
+
+source="../sofa-platform/src/main/cpp/src/dtdb.c"
+output="src/main/resources/be/angelcorp/sofa/dtdb.txt"
+
+if [[ ! -f "$source" ]]; then
+    echo "Cannot find the sofa source: $source"
+    exit 1
+fi
+
+awk -v script="$0" '
+BEGIN {
+    print "# Fairhead & Bretagnon TDB-TT series, extracted by " script " from sofa-platform/src/main/cpp/src/dtdb.c."
+    print "# first: index of the first term of T**0 ... T**4, and the number of terms."
+    print "# fairhd: terms (amplitude (s), frequency (rad/Julian millennium), phase (rad))."
+}
+/^\*\*.*[0-9]+-[0-9]+.*T\*\*[0-4]/ {
+    match($0, /[0-9]+-[0-9]+/)
+    split(substr($0, RSTART, RLENGTH), range, "-")
+    first = first " " (range[1] - 1)
+    last = range[2]
+    next
+}
+/fairhd\[787\]\[3\] = \{/ { table = 1; next }
+table && /^ *};/ { print "first" first " " last; print "fairhd " rows; printf "%s", body; table = 0; next }
+table && /\{.*\}/ {
+    line = $0
+    gsub(/[{}, \t]+/, " ", line)
+    sub(/^ /, "", line)
+    sub(/ $/, "", line)
+    body = body line "\n"
+    rows++
+}' "$source" > "$output"
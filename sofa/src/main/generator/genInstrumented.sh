@@ -0,0 +1,109 @@
+#!/bin/bash
+# Generates InstrumentedSofaLibrary, the instrumented facade of the SofaLibrary functions.
+#
+# Every public iau* function of SofaLibrary gets a static method with the same
+#   signature, which calls the SofaLibrary function and, when SofaMetrics.ENABLED,
+#   records its latency (and the returned status, for functions returning an int)
+#   in the SofaMetrics.Function of that function.
+#
+# Usage (from the sofa directory, after JNAerator generated SofaLibrary):
+#   ./src/main/generator/genInstrumented.sh
+
+library="src/main/java/be/angelcorp/sofa/SofaLibrary.java"
+output="src/main/java/be/angelcorp/sofa/InstrumentedSofaLibrary.java"
+
+if [[ ! -f "$library" ]]; then
+    echo "Cannot find the generated bindings: $library"
+    exit 1
+fi
+
+awk -v script="$0" '
+BEGIN {
+    print "package be.angelcorp.sofa;"
+    print ""
+    print "import org.bridj.Pointer;"
+    print ""
+    print "/**"
+    print " * Instrumented facade of the {@link SofaLibrary} functions.<br>"
+    print " * This file was autogenerated by " script " from SofaLibrary.java.<br>"
+    print " * <br>"
+    print " * Every function has the signature of the SofaLibrary function with the same name, and calls it. When the metrics"
+    print " * are enabled (system property {@value SofaMetrics#PROPERTY}), each call is timed and counted in {@link SofaMetrics},"
+    print " * as is every non-zero status returned by the functions that return an int. Otherwise the facade only adds a test of"
+    print " * the static final {@link SofaMetrics#ENABLED}, which the JIT compiler removes."
+    print " */"
+    print "public final class InstrumentedSofaLibrary {"
+    print ""
+}
+
+/^\t(native )?public static (native )?[a-z]+ iau[A-Za-z0-9]+\(/ {
+    signature = $0
+    sub(/^\t/, "", signature)
+    sub(/^native /, "", signature)
+    sub(/^public static (native )?/, "", signature)
+    sub(/\)( \{|;)[ \t]*$/, "", signature)
+    gsub(/ >/, ">", signature)
+
+    returnType = signature
+    sub(/ .*$/, "", returnType)
+    name = signature
+    sub(/^[a-z]+ /, "", name)
+    sub(/\(.*$/, "", name)
+    if (name in seen) next
+    seen[name] = 1
+
+    params = signature
+    sub(/^[^(]*\(/, "", params)
+    args = ""
+    n = split(params, list, /, /)
+    for (i = 1; i <= n; i++) {
+        if (list[i] == "") continue
+        k = split(list[i], tokens, " ")
+        args = args (args == "" ? "" : ", ") tokens[k]
+    }
+
+    constant = toupper(substr(name, 4))
+    if (constant in constants) {
+        print "Duplicate constant " constant " of " name > "/dev/stderr"
+        exit 1
+    }
+    constants[constant] = 1
+    fields = fields "    private static final SofaMetrics.Function " constant " = SofaMetrics.function(\"" name "\");\n"
+
+    body = body "\n"
+    body = body "    /**\n"
+    body = body "     * Instrumented {@link SofaLibrary#" name "}.\n"
+    body = body "     */\n"
+    body = body "    public static " returnType " " name "(" params ") {\n"
+    if (returnType == "void") {
+        body = body "        if (!SofaMetrics.ENABLED) {\n"
+        body = body "            SofaLibrary." name "(" args ");\n"
+        body = body "            return;\n"
+        body = body "        }\n"
+        body = body "        long start = System.nanoTime();\n"
+        body = body "        SofaLibrary." name "(" args ");\n"
+        body = body "        " constant ".record(start, 0);\n"
+    } else {
+        body = body "        if (!SofaMetrics.ENABLED)\n"
+        body = body "            return SofaLibrary." name "(" args ");\n"
+        body = body "        long start = System.nanoTime();\n"
+        body = body "        " returnType " result = SofaLibrary." name "(" args ");\n"
+        body = body "        " constant ".record(start, " (returnType == "int" ? "result" : "0") ");\n"
+        body = body "        return result;\n"
+    }
+    body = body "    }\n"
+}
+
+END {
+    printf "%s", fields
+    print ""
+    print "    static {"
+    print "        NativeVariant.select();"
+    print "    }"
+    print ""
+    print "    private InstrumentedSofaLibrary() {"
+    print "    }"
+    printf "%s", body
+    print ""
+    print "}"
+}' "$library" > "$output"
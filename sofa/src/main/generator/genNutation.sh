@@ -0,0 +1,39 @@
+#!/bin/bash
+# Extracts the IAU 2000A nutation series from nut00a.c, for the pure-Java Nutation2000A.
+#
+# The luni-solar (xls) and planetary (xpl) tables are written one term per line, with
+# the numbers in the same order as the fields of the C structs.
+#
+# Usage (from the sofa directory):
+#   ./src/main/generator/genNutation.sh
+
+source="../sofa-platform/src/main/cpp/src/nut00a.c"
+output="src/main/resources/be/angelcorp/sofa/nut00a.txt"
+
+if [[ ! -f "$source" ]]; then
+    echo "Cannot find the sofa source: $source"
+    exit 1
+fi
+
+awk -v script="$0" '
+BEGIN {
+    print "# IAU 2000A nutation series, extracted by " script " from sofa-platform/src/main/cpp/src/nut00a.c."
+    print "# xls: luni-solar terms (nl nlp nf nd nom sp spt cp ce cet se), units of 0.1 microarcsecond."
+    print "# xpl: planetary terms (nl nf nd nom nme nve nea nma nju nsa nur nne npa sp cp se ce), units of 0.1 microarcsecond."
+}
+/} (xls|xpl)\[\] = \{/ { table = ($0 ~ /xls/ ? "xls" : "xpl"); row = ""; next }
+table != "" && /^ *};/ { print table " " rows; printf "%s", body; table = ""; rows = 0; body = ""; next }
+table != "" {
+    line = $0
+    gsub(/\/\*.*\*\//, "", line)
+    gsub(/[{ \t]/, "", line)
+    if (line == "") next
+    row = row line
+    if (row ~ /}/) {
+        sub(/},?$/, "", row)
+        gsub(/,/, " ", row)
+        body = body row "\n"
+        rows++
+        row = ""
+    }
+}' "$source" > "$output"
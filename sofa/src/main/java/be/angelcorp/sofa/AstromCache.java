@@ -0,0 +1,337 @@
+package be.angelcorp.sofa;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used cache of the star-independent astrometry parameters computed by {@link SofaLibrary#iauApco13},
+ * {@link SofaLibrary#iauApio13} and {@link SofaLibrary#iauApci13}.<br>
+ * <br>
+ * The one-shot functions (iauAtco13, iauAtio13, iauAtoc13 and iauAtci13) compute the full iauASTROM context (Earth
+ * ephemeris, precession-nutation, refraction constants) on every call, even when many targets share the same epoch.
+ * This cache keeps the contexts, keyed by the epoch, the observer site and the Earth orientation (and weather)
+ * parameters, so that a batch of reductions for one frame computes the context only once:
+ * <pre>
+ * AstromCache cache = new AstromCache(64, 1.0);
+ * try (AstromContext context = AstromContext.acquire()) {
+ *     cache.apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+ *     ... context.atciq(...), context.atioq(...) ...
+ * }
+ * </pre>
+ * With a tolerance of zero, only calls with exactly the same arguments share a context, and the results are identical
+ * to those of the uncached functions. With a positive tolerance, the epochs are quantized into buckets of the given
+ * length, and the context of the start of the bucket is used for every epoch in it. For {@link #apco13} and
+ * {@link #apio13} the Earth rotation angle (which changes by 15 arcseconds per second) is then refreshed for the
+ * exact epoch with {@link SofaLibrary#iauAper13}; the other quantities change slowly enough for a tolerance of a few
+ * seconds to be negligible at the milliarcsecond level.<br>
+ * <br>
+ * The cache is thread-safe. A context missing from the cache is computed outside the lock, so concurrent misses on the
+ * same key may each compute it.
+ */
+public final class AstromCache {
+
+    /** Reference epoch (J2000.0), Julian Date */
+    private static final double DJ00 = 2451545.0;
+    /** Seconds per day */
+    private static final double DAYSEC = 86400.0;
+
+    /** Entry kinds */
+    private static final int APCO13 = 0;
+    private static final int APCI13 = 1;
+    private static final int APIO13 = 2;
+
+    private final int capacity;
+    private final double tolerance;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Create a cache that only shares contexts between calls with exactly the same arguments.
+     *
+     * @param capacity Maximum number of contexts kept.
+     */
+    public AstromCache(int capacity) {
+        this(capacity, 0.0);
+    }
+
+    /**
+     * @param capacity  Maximum number of contexts kept.
+     * @param tolerance Length of the epoch buckets in seconds, or zero to key on the exact epoch.
+     */
+    public AstromCache(int capacity, double tolerance) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity must be at least 1, not " + capacity);
+        if (!(tolerance >= 0.0))
+            throw new IllegalArgumentException("The tolerance must be zero or positive, not " + tolerance);
+        this.capacity  = capacity;
+        this.tolerance = tolerance / DAYSEC;
+        this.entries   = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > AstromCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Load the context of {@link SofaLibrary#iauApco13} into the given context, computing it only if it is not cached.
+     * The equation of the origins is available as {@link AstromContext#eo()}.
+     *
+     * @return Status, as iauApco13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int apco13(double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl, AstromContext context) {
+        return observer(APCO13, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+    }
+
+    /**
+     * Load the context of {@link SofaLibrary#iauApio13} (CIRS - observed only) into the given context, computing it
+     * only if it is not cached.
+     *
+     * @return Status, as iauApio13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int apio13(double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl, AstromContext context) {
+        return observer(APIO13, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+    }
+
+    /**
+     * Load the context of {@link SofaLibrary#iauApci13} (geocentric observer) into the given context, computing it
+     * only if it is not cached. The equation of the origins is available as {@link AstromContext#eo()}.
+     */
+    public void apci13(double date1, double date2, AstromContext context) {
+        long bucket = 0;
+        if (tolerance > 0.0) {
+            bucket = bucket(date1, date2);
+            double start = bucket * tolerance;
+            date1 = DJ00 + midnight(start);
+            date2 = start - midnight(start);
+        }
+
+        Key key = new Key(APCI13, bucket, date1, date2, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        Entry entry = lookup(key);
+        if (entry == null) {
+            context.apci13(date1, date2);
+            store(key, context, 0);
+        } else {
+            context.load(entry.astromEo);
+        }
+    }
+
+    /**
+     * ICRS RA,Dec to observed place, as {@link SofaLibrary#iauAtco13} but with a cached context.
+     *
+     * @param observed Returned aob, zob, hob, dob, rob and eo (6 elements), see iauAtco13.
+     * @return Status, as iauAtco13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int atco13(double rc, double dc, double pr, double pd, double px, double rv,
+                      double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl, double[] observed) {
+        try (AstromContext context = AstromContext.acquire()) {
+            int j = apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+            if (j >= 0) {
+                context.atciq(rc, dc, pr, pd, px, rv);
+                context.atioq(context.ri(), context.di());
+                observed(context, observed);
+                observed[5] = context.eo();
+            }
+            return j;
+        }
+    }
+
+    /**
+     * CIRS RA,Dec to observed place, as {@link SofaLibrary#iauAtio13} but with a cached context.
+     *
+     * @param observed Returned aob, zob, hob, dob and rob (5 elements), see iauAtio13.
+     * @return Status, as iauAtio13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int atio13(double ri, double di, double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl, double[] observed) {
+        try (AstromContext context = AstromContext.acquire()) {
+            int j = apio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+            if (j >= 0) {
+                context.atioq(ri, di);
+                observed(context, observed);
+            }
+            return j;
+        }
+    }
+
+    /**
+     * Observed place to ICRS astrometric RA,Dec, as {@link SofaLibrary#iauAtoc13} but with a cached context.
+     *
+     * @param type  Type of coordinates, "R", "H" or "A", see iauAtoc13.
+     * @param rcdc  Returned ICRS astrometric RA and Dec (2 elements).
+     * @return Status, as iauAtoc13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int atoc13(String type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong,
+                      double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl,
+                      double[] rcdc) {
+        try (AstromContext context = AstromContext.acquire()) {
+            int j = apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, context);
+            if (j >= 0) {
+                context.atoiq(type, ob1, ob2);
+                context.aticq(context.ri(), context.di());
+                rcdc[0] = context.rc();
+                rcdc[1] = context.dc();
+            }
+            return j;
+        }
+    }
+
+    /**
+     * ICRS RA,Dec to CIRS RA,Dec (geocentric), as {@link SofaLibrary#iauAtci13} but with a cached context.
+     *
+     * @param cirs Returned ri, di and eo (3 elements), see iauAtci13.
+     */
+    public void atci13(double rc, double dc, double pr, double pd, double px, double rv,
+                       double date1, double date2, double[] cirs) {
+        try (AstromContext context = AstromContext.acquire()) {
+            apci13(date1, date2, context);
+            context.atciq(rc, dc, pr, pd, px, rv);
+            cirs[0] = context.ri();
+            cirs[1] = context.di();
+            cirs[2] = context.eo();
+        }
+    }
+
+    /**
+     * Cached iauApco13 or iauApio13, with the Earth rotation angle refreshed for the exact epoch when the epochs are
+     * quantized.
+     */
+    private int observer(int kind, double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                         double xp, double yp, double phpa, double tc, double rh, double wl, AstromContext context) {
+        double date1 = utc1;
+        double date2 = utc2;
+        long bucket = 0;
+        if (tolerance > 0.0) {
+            bucket = bucket(utc1, utc2);
+            double start = bucket * tolerance;
+            date1 = DJ00 + midnight(start);
+            date2 = start - midnight(start);
+        }
+
+        Key key = new Key(kind, bucket, date1, date2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+        Entry entry = lookup(key);
+        if (entry == null) {
+            int status = (kind == APCO13)
+                    ? context.apco13(date1, date2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl)
+                    : context.apio13(date1, date2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+            entry = store(key, context, status);
+        } else {
+            context.load(entry.astromEo);
+        }
+
+        if (tolerance > 0.0 && entry.status >= 0) {
+            int j = context.aper13(utc1, utc2, dut1);
+            if (j < 0)
+                return j;
+        }
+        return entry.status;
+    }
+
+    /** Number of lookups that found a cached context. */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /** Number of lookups that had to compute the context. */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /** Number of contexts currently cached. */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Remove all cached contexts (the hit and miss counts are kept). */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized Entry lookup(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null)
+            misses++;
+        else
+            hits++;
+        return entry;
+    }
+
+    private Entry store(Key key, AstromContext context, int status) {
+        double[] astromEo = new double[SofaArrays.ASTROM_SIZE + 1];
+        context.store(astromEo);
+        Entry entry = new Entry(astromEo, status);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    private static void observed(AstromContext context, double[] observed) {
+        observed[0] = context.aob();
+        observed[1] = context.zob();
+        observed[2] = context.hob();
+        observed[3] = context.dob();
+        observed[4] = context.rob();
+    }
+
+    /**
+     * Index of the epoch bucket that contains a 2-part (quasi) Julian Date, counted from J2000.0.
+     */
+    private long bucket(double date1, double date2) {
+        return (long) Math.floor(((date1 - DJ00) + date2) / tolerance);
+    }
+
+    /**
+     * The last midnight (a Julian Date ending in .5) at or before a date in days since J2000.0, also in days since
+     * J2000.0.
+     */
+    private static double midnight(double days) {
+        return Math.floor(days - 0.5) + 0.5;
+    }
+
+    /** Cached context: iauASTROM followed by the equation of the origins, and the status of its computation. */
+    private static final class Entry {
+        final double[] astromEo;
+        final int status;
+
+        Entry(double[] astromEo, int status) {
+            this.astromEo = astromEo;
+            this.status   = status;
+        }
+    }
+
+    /** Arguments of the cached function, with the epoch either exact (date1, date2) or as a bucket index. */
+    private static final class Key {
+        final int kind;
+        final long bucket;
+        final double[] arguments;
+        final int hash;
+
+        Key(int kind, long bucket, double... arguments) {
+            this.kind      = kind;
+            this.bucket    = bucket;
+            this.arguments = arguments;
+            this.hash      = 31 * (31 * kind + Long.hashCode(bucket)) + Arrays.hashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return kind == key.kind && bucket == key.bucket && Arrays.equals(arguments, key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
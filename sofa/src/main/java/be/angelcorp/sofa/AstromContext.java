@@ -0,0 +1,264 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+
+/**
+ * Reusable star-independent astrometry context: one native {@link iauASTROM} plus native scratch space for the
+ * outputs of the quick astrometry functions (ri, di, rc, dc, aob, zob, hob, dob, rob and eo).<br>
+ * <br>
+ * Contexts are pooled per thread and are confined to the thread that acquired them:
+ * <pre>
+ * try (AstromContext context = AstromContext.acquire()) {
+ *     context.apco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl);
+ *     for (...) {
+ *         context.atciq(rc, dc, pr, pd, px, rv);
+ *         context.atioq(context.ri(), context.di());
+ *         ... context.aob(), context.zob() ...
+ *     }
+ * }
+ * </pre>
+ * None of the calls allocate: the native functions are called directly with the addresses inside the context, and
+ * the results are read back through a direct buffer. Between observations of the same site, {@link #aper13} refreshes
+ * only the Earth rotation angle, which is much cheaper than a new {@link #apco13}.
+ */
+public final class AstromContext implements AutoCloseable {
+
+    static {
+        NativeVariant.select();
+    }
+
+    /** Idle contexts of each thread */
+    private static final ThreadLocal<ArrayDeque<AstromContext>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /* Byte offsets of the scratch outputs, after the iauASTROM struct */
+    private static final int EO  = 8 * SofaArrays.ASTROM_SIZE;
+    private static final int RI  = EO + 8;
+    private static final int DI  = RI + 8;
+    private static final int AOB = DI + 8;
+    private static final int ZOB = AOB + 8;
+    private static final int HOB = ZOB + 8;
+    private static final int DOB = HOB + 8;
+    private static final int ROB = DOB + 8;
+    private static final int RC  = ROB + 8;
+    private static final int DC  = RC + 8;
+    private static final int UT1 = DC + 8;
+    private static final int TYPE = UT1 + 16;
+    private static final int SIZE = TYPE + 8;
+
+    /** Byte offset of the Earth rotation angle (eral) in iauASTROM */
+    private static final int ERAL = 8 * 28;
+
+    private final Thread owner;
+    private final Pointer<Byte> memory;
+    private final ByteBuffer buffer;
+    private final long peer;
+    private iauASTROM astrom;
+    private boolean inUse;
+
+    private AstromContext(Thread owner) {
+        this.owner  = owner;
+        this.memory = Pointer.allocateBytes(SIZE);
+        this.buffer = memory.getByteBuffer().order(ByteOrder.nativeOrder());
+        this.peer   = memory.getPeer();
+    }
+
+    /**
+     * Take a context from the pool of the current thread (a new one if the pool is empty). The context must be
+     * {@link #close() closed} by the same thread to return it to the pool.
+     */
+    public static AstromContext acquire() {
+        AstromContext context = POOL.get().pollLast();
+        if (context == null)
+            context = new AstromContext(Thread.currentThread());
+        context.inUse = true;
+        return context;
+    }
+
+    /**
+     * Return this context to the pool of its thread. The context (and any view returned by {@link #astrom()}) must not
+     * be used afterwards.
+     */
+    @Override
+    public void close() {
+        checkOwner();
+        if (inUse) {
+            inUse = false;
+            POOL.get().addLast(this);
+        }
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner)
+            throw new IllegalStateException("AstromContext used outside of the thread that acquired it (" + owner.getName() + ")");
+    }
+
+    /**
+     * Prepare the context for ICRS - observed transformations, see {@link SofaLibrary#iauApco13}. The equation of the
+     * origins is available as {@link #eo()}.
+     *
+     * @return Status, as iauApco13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int apco13(double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl) {
+        return SofaLibrary.iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, peer, peer + EO);
+    }
+
+    /**
+     * Prepare the context for CIRS - observed transformations (the ICRS - CIRS part is left unset), see
+     * {@link SofaLibrary#iauApio13}.
+     *
+     * @return Status, as iauApio13: +1 = dubious year, 0 = OK, -1 = unacceptable date.
+     */
+    public int apio13(double utc1, double utc2, double dut1, double elong, double phi, double hm,
+                      double xp, double yp, double phpa, double tc, double rh, double wl) {
+        return SofaLibrary.iauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, peer);
+    }
+
+    /**
+     * Prepare the context for ICRS - CIRS transformations (geocentric observer), see {@link SofaLibrary#iauApci13}.
+     * The equation of the origins is available as {@link #eo()}.
+     */
+    public void apci13(double date1, double date2) {
+        SofaLibrary.iauApci13(date1, date2, peer, peer + EO);
+    }
+
+    /**
+     * Refresh only the Earth rotation angle of the context for a new UT1, see {@link SofaLibrary#iauAper13}. All other
+     * (slowly changing) parts of the context are kept.
+     */
+    public void aper13(double ut11, double ut12) {
+        SofaLibrary.iauAper13(ut11, ut12, peer);
+    }
+
+    /**
+     * Quick ICRS to CIRS, results in {@link #ri()} and {@link #di()}, see {@link SofaLibrary#iauAtciq}.
+     */
+    public void atciq(double rc, double dc, double pr, double pd, double px, double rv) {
+        SofaLibrary.iauAtciq(rc, dc, pr, pd, px, rv, peer, peer + RI, peer + DI);
+    }
+
+    /**
+     * Quick ICRS to CIRS for a star with zero parallax and proper motion, results in {@link #ri()} and {@link #di()},
+     * see {@link SofaLibrary#iauAtciqz}.
+     */
+    public void atciqz(double rc, double dc) {
+        SofaLibrary.iauAtciqz(rc, dc, peer, peer + RI, peer + DI);
+    }
+
+    /**
+     * Quick CIRS to observed, results in {@link #aob()}, {@link #zob()}, {@link #hob()}, {@link #dob()} and
+     * {@link #rob()}, see {@link SofaLibrary#iauAtioq}.
+     */
+    public void atioq(double ri, double di) {
+        SofaLibrary.iauAtioq(ri, di, peer, peer + AOB, peer + ZOB, peer + HOB, peer + DOB, peer + ROB);
+    }
+
+    /**
+     * Quick observed to CIRS, results in {@link #ri()} and {@link #di()}, see {@link SofaLibrary#iauAtoiq}.
+     *
+     * @param type Type of coordinates, only the first character is used: "R", "H" or "A" (upper or lower case).
+     */
+    public void atoiq(String type, double ob1, double ob2) {
+        buffer.put(TYPE, (byte) type.charAt(0));
+        buffer.put(TYPE + 1, (byte) 0);
+        SofaLibrary.iauAtoiq(peer + TYPE, ob1, ob2, peer, peer + RI, peer + DI);
+    }
+
+    /**
+     * Quick CIRS to ICRS astrometric, results in {@link #rc()} and {@link #dc()}, see {@link SofaLibrary#iauAticq}.
+     */
+    public void aticq(double ri, double di) {
+        SofaLibrary.iauAticq(ri, di, peer, peer + RC, peer + DC);
+    }
+
+    /** Equation of the origins (ERA-GST) of the last {@link #apco13} or {@link #apci13}. */
+    public double eo()  { return buffer.getDouble(EO); }
+    /** CIRS right ascension of the last {@link #atciq}, {@link #atciqz} or {@link #atoiq}. */
+    public double ri()  { return buffer.getDouble(RI); }
+    /** CIRS declination of the last {@link #atciq}, {@link #atciqz} or {@link #atoiq}. */
+    public double di()  { return buffer.getDouble(DI); }
+    /** ICRS astrometric right ascension of the last {@link #aticq}. */
+    public double rc()  { return buffer.getDouble(RC); }
+    /** ICRS astrometric declination of the last {@link #aticq}. */
+    public double dc()  { return buffer.getDouble(DC); }
+    /** Observed azimuth (N=0,E=90) of the last {@link #atioq}. */
+    public double aob() { return buffer.getDouble(AOB); }
+    /** Observed zenith distance of the last {@link #atioq}. */
+    public double zob() { return buffer.getDouble(ZOB); }
+    /** Observed hour angle of the last {@link #atioq}. */
+    public double hob() { return buffer.getDouble(HOB); }
+    /** Observed declination of the last {@link #atioq}. */
+    public double dob() { return buffer.getDouble(DOB); }
+    /** Observed right ascension (CIO-based) of the last {@link #atioq}. */
+    public double rob() { return buffer.getDouble(ROB); }
+
+    /** Earth rotation angle (eral) currently in the context. */
+    public double eral() { return buffer.getDouble(ERAL); }
+
+    /**
+     * Copy the iauASTROM struct of this context into an array, in the layout of {@link SofaArrays}.
+     */
+    public void get(double[] astrom, int offset) {
+        for (int i = 0; i < SofaArrays.ASTROM_SIZE; i++)
+            astrom[offset + i] = buffer.getDouble(8 * i);
+    }
+
+    /**
+     * Overwrite the iauASTROM struct of this context with an array, in the layout of {@link SofaArrays}.
+     */
+    public void set(double[] astrom, int offset) {
+        for (int i = 0; i < SofaArrays.ASTROM_SIZE; i++)
+            buffer.putDouble(8 * i, astrom[offset + i]);
+    }
+
+    /**
+     * The iauASTROM struct of this context, for use with the {@link SofaLibrary} functions. This is a view on the
+     * memory of the context, not a copy.
+     */
+    public iauASTROM astrom() {
+        if (astrom == null)
+            astrom = new iauASTROM(memory);
+        return astrom;
+    }
+
+    /**
+     * Refresh the Earth rotation angle for a UTC epoch, as {@link #aper13} after {@link SofaLibrary#iauUtcut1}.
+     *
+     * @return Status of iauUtcut1.
+     */
+    int aper13(double utc1, double utc2, double dut1) {
+        int j = SofaLibrary.iauUtcut1(utc1, utc2, dut1, peer + UT1, peer + UT1 + 8);
+        if (j >= 0)
+            SofaLibrary.iauAper13(buffer.getDouble(UT1), buffer.getDouble(UT1 + 8), peer);
+        return j;
+    }
+
+    /**
+     * Copy the iauASTROM struct followed by the equation of the origins into an array of
+     * {@link SofaArrays#ASTROM_SIZE} + 1 elements.
+     */
+    void store(double[] astromEo) {
+        get(astromEo, 0);
+        astromEo[SofaArrays.ASTROM_SIZE] = eo();
+    }
+
+    /**
+     * Overwrite the iauASTROM struct and the equation of the origins with an array written by {@link #store}.
+     */
+    void load(double[] astromEo) {
+        set(astromEo, 0);
+        buffer.putDouble(EO, astromEo[SofaArrays.ASTROM_SIZE]);
+    }
+
+    /**
+     * Native address of the iauASTROM struct of this context.
+     */
+    long peer() {
+        return peer;
+    }
+
+}
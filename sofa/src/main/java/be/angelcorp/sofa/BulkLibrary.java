@@ -0,0 +1,526 @@
+package be.angelcorp.sofa;
+
+import org.bridj.BridJ;
+import org.bridj.CRuntime;
+import org.bridj.Pointer;
+import org.bridj.ann.Library;
+import org.bridj.ann.Ptr;
+import org.bridj.ann.Runtime;
+
+/**
+ * Bindings to the extensions of the sofa library in sofa-platform/src/main/cpp/ext, which are not part of SOFA: the
+ * bulk (array) functions of bulk.h, the indexed leap second table of leap.h and the truncated TDB-TT model of
+ * fastdtdb.h.<br>
+ * <br>
+ * Each bulk function applies a SOFA routine to every element of its (structure-of-arrays) arguments in a single
+ * native call: element i of every array belongs to the same conversion. The status array receives the value that the
+ * single-element SOFA routine returns for that element, with the same meaning, and the functions return the number
+ * of elements with a non-zero status. The returned arrays may be the same as the given ones.<br>
+ * <br>
+ * The geodetic functions resolve the ellipsoid once for all elements, and take the geocentric vectors either as
+ * three arrays (x, y and z) or as one interleaved array (x, y, z of element 0, then of element 1, ...); the Pointer
+ * variants take a stride for this (1 or 3).<br>
+ * <br>
+ * The functions are available with {@link Pointer} arguments (n elements in native memory, one native call), and
+ * with Java arrays. The array variants copy the arrays through a thread-local native scratch block in chunks of
+ * {@link #CHUNK} elements, one native call per chunk. UTC to TAI, TAI to TT, UTC to TDB and geocentric to geodetic
+ * (on the positions of any fixed-stride records, e.g. pv-vectors) also take the views of a {@link SofaBuffer}, whose
+ * off-heap memory is passed to the native call as it is (views of a buffer that was reset or closed since are
+ * rejected with an {@link IllegalStateException}). The bulk astrometry and space motion functions only have
+ * {@link Pointer} variants here, see {@link CatalogReducer} for Java arrays and {@link StarCatalog} for memory-mapped
+ * files.
+ */
+@Library("sofa")
+@Runtime(CRuntime.class)
+public class BulkLibrary {
+
+    static {
+        NativeVariant.select();
+        BridJ.register();
+    }
+
+    /** Number of elements converted per native call by the array variants. */
+    public static final int CHUNK = 8192;
+
+    /** Native bulk function with two or three given and two returned arrays. */
+    private interface Kernel {
+        int call(int n, long in1, long in2, long in3, long out1, long out2, long status);
+    }
+
+    /** Native bulk geodetic function, geocentric vectors with a stride. */
+    private interface GeodeticKernel {
+        int call(int n, long x, long y, long z, int stride, long elong, long phi, long height, long status);
+    }
+
+    /**
+     * TAI to TT for n epochs, see {@link SofaLibrary#iauTaitt}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkTaitt(int n, Pointer<Double> tai1, Pointer<Double> tai2, Pointer<Double> tt1, Pointer<Double> tt2, Pointer<Integer> status) {
+        return bulkTaitt(n, Pointer.getPeer(tai1), Pointer.getPeer(tai2), Pointer.getPeer(tt1), Pointer.getPeer(tt2), Pointer.getPeer(status));
+    }
+    protected native static int bulkTaitt(int n, @Ptr long tai1, @Ptr long tai2, @Ptr long tt1, @Ptr long tt2, @Ptr long status);
+
+    /**
+     * TAI to TT for every element of the given arrays, see {@link SofaLibrary#iauTaitt}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkTaitt(double[] tai1, double[] tai2, double[] tt1, double[] tt2, int[] status) {
+        return bulk((n, in1, in2, in3, out1, out2, s) -> bulkTaitt(n, in1, in2, out1, out2, s), tai1, tai2, null, tt1, tt2, status);
+    }
+
+    /**
+     * TAI to TT for every date of a {@link SofaBuffer}, without copies, see {@link SofaLibrary#iauTaitt}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkTaitt(SofaBuffer.Dates tai, SofaBuffer.Dates tt, SofaBuffer.Ints status) {
+        int n = length(tai.length(), tt.length(), status.length());
+        return bulkTaitt(n, tai.date1().address(), tai.date2().address(), tt.date1().address(), tt.date2().address(), status.address());
+    }
+
+    /**
+     * TT to TDB for n epochs, see {@link SofaLibrary#iauTttdb}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkTttdb(int n, Pointer<Double> tt1, Pointer<Double> tt2, Pointer<Double> dtr, Pointer<Double> tdb1, Pointer<Double> tdb2, Pointer<Integer> status) {
+        return bulkTttdb(n, Pointer.getPeer(tt1), Pointer.getPeer(tt2), Pointer.getPeer(dtr), Pointer.getPeer(tdb1), Pointer.getPeer(tdb2), Pointer.getPeer(status));
+    }
+    protected native static int bulkTttdb(int n, @Ptr long tt1, @Ptr long tt2, @Ptr long dtr, @Ptr long tdb1, @Ptr long tdb2, @Ptr long status);
+
+    /**
+     * TT to TDB for every element of the given arrays, see {@link SofaLibrary#iauTttdb}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkTttdb(double[] tt1, double[] tt2, double[] dtr, double[] tdb1, double[] tdb2, int[] status) {
+        return bulk(BulkLibrary::bulkTttdb, tt1, tt2, dtr, tdb1, tdb2, status);
+    }
+
+    /**
+     * UT1 to UTC for n epochs, see {@link SofaLibrary#iauUt1utc}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUt1utc(int n, Pointer<Double> ut11, Pointer<Double> ut12, Pointer<Double> dut1, Pointer<Double> utc1, Pointer<Double> utc2, Pointer<Integer> status) {
+        return bulkUt1utc(n, Pointer.getPeer(ut11), Pointer.getPeer(ut12), Pointer.getPeer(dut1), Pointer.getPeer(utc1), Pointer.getPeer(utc2), Pointer.getPeer(status));
+    }
+    protected native static int bulkUt1utc(int n, @Ptr long ut11, @Ptr long ut12, @Ptr long dut1, @Ptr long utc1, @Ptr long utc2, @Ptr long status);
+
+    /**
+     * UT1 to UTC for every element of the given arrays, see {@link SofaLibrary#iauUt1utc}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUt1utc(double[] ut11, double[] ut12, double[] dut1, double[] utc1, double[] utc2, int[] status) {
+        return bulk(BulkLibrary::bulkUt1utc, ut11, ut12, dut1, utc1, utc2, status);
+    }
+
+    /**
+     * UTC to TAI for n epochs, see {@link SofaLibrary#iauUtctai}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctai(int n, Pointer<Double> utc1, Pointer<Double> utc2, Pointer<Double> tai1, Pointer<Double> tai2, Pointer<Integer> status) {
+        return bulkUtctai(n, Pointer.getPeer(utc1), Pointer.getPeer(utc2), Pointer.getPeer(tai1), Pointer.getPeer(tai2), Pointer.getPeer(status));
+    }
+    protected native static int bulkUtctai(int n, @Ptr long utc1, @Ptr long utc2, @Ptr long tai1, @Ptr long tai2, @Ptr long status);
+
+    /**
+     * UTC to TAI for every element of the given arrays, see {@link SofaLibrary#iauUtctai}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctai(double[] utc1, double[] utc2, double[] tai1, double[] tai2, int[] status) {
+        return bulk((n, in1, in2, in3, out1, out2, s) -> bulkUtctai(n, in1, in2, out1, out2, s), utc1, utc2, null, tai1, tai2, status);
+    }
+
+    /**
+     * UTC to TAI for every date of a {@link SofaBuffer}, without copies, see {@link SofaLibrary#iauUtctai}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctai(SofaBuffer.Dates utc, SofaBuffer.Dates tai, SofaBuffer.Ints status) {
+        int n = length(utc.length(), tai.length(), status.length());
+        return bulkUtctai(n, utc.date1().address(), utc.date2().address(), tai.date1().address(), tai.date2().address(), status.address());
+    }
+
+    /**
+     * UTC to TDB for n epochs in a single pass, as {@link SofaLibrary#iauUtctai}, {@link SofaLibrary#iauTaitt} and
+     * {@link SofaLibrary#iauTttdb} with TDB-TT from {@link #fastDtdb}. Delta(AT) is looked up once per UTC day, and the
+     * terms of the TDB-TT series are selected once per call.
+     *
+     * @param elong Longitude of the site (east positive, radians), the same for all epochs.
+     * @param u     Distance from the Earth spin axis (km), zero for the geocentric TDB-TT.
+     * @param v     Distance north of the equatorial plane (km), zero for the geocentric TDB-TT.
+     * @param tol   Error bound of TDB-TT (seconds), see {@link #fastDtdb}. Zero gives the result of iauDtdb.
+     * @param status Status of iauUtctai for each epoch; where it is negative the TDB is left unchanged.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctdb(int n, Pointer<Double> utc1, Pointer<Double> utc2, double elong, double u, double v, double tol, Pointer<Double> tdb1, Pointer<Double> tdb2, Pointer<Integer> status) {
+        return bulkUtctdb(n, Pointer.getPeer(utc1), Pointer.getPeer(utc2), elong, u, v, tol, Pointer.getPeer(tdb1), Pointer.getPeer(tdb2), Pointer.getPeer(status));
+    }
+    protected native static int bulkUtctdb(int n, @Ptr long utc1, @Ptr long utc2, double elong, double u, double v, double tol, @Ptr long tdb1, @Ptr long tdb2, @Ptr long status);
+
+    /**
+     * UTC to TDB for every element of the given arrays, see {@link #bulkUtctdb(int, Pointer, Pointer, double, double, double, double, Pointer, Pointer, Pointer)}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctdb(double[] utc1, double[] utc2, double elong, double u, double v, double tol, double[] tdb1, double[] tdb2, int[] status) {
+        return bulk((n, in1, in2, in3, out1, out2, s) -> bulkUtctdb(n, in1, in2, elong, u, v, tol, out1, out2, s), utc1, utc2, null, tdb1, tdb2, status);
+    }
+
+    /**
+     * UTC to TDB for every date of a {@link SofaBuffer}, without copies, see
+     * {@link #bulkUtctdb(int, Pointer, Pointer, double, double, double, double, Pointer, Pointer, Pointer)}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtctdb(SofaBuffer.Dates utc, double elong, double u, double v, double tol, SofaBuffer.Dates tdb, SofaBuffer.Ints status) {
+        int n = length(utc.length(), tdb.length(), status.length());
+        return bulkUtctdb(n, utc.date1().address(), utc.date2().address(), elong, u, v, tol, tdb.date1().address(), tdb.date2().address(), status.address());
+    }
+
+    /**
+     * UTC to UT1 for n epochs, see {@link SofaLibrary#iauUtcut1}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtcut1(int n, Pointer<Double> utc1, Pointer<Double> utc2, Pointer<Double> dut1, Pointer<Double> ut11, Pointer<Double> ut12, Pointer<Integer> status) {
+        return bulkUtcut1(n, Pointer.getPeer(utc1), Pointer.getPeer(utc2), Pointer.getPeer(dut1), Pointer.getPeer(ut11), Pointer.getPeer(ut12), Pointer.getPeer(status));
+    }
+    protected native static int bulkUtcut1(int n, @Ptr long utc1, @Ptr long utc2, @Ptr long dut1, @Ptr long ut11, @Ptr long ut12, @Ptr long status);
+
+    /**
+     * UTC to UT1 for every element of the given arrays, see {@link SofaLibrary#iauUtcut1}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkUtcut1(double[] utc1, double[] utc2, double[] dut1, double[] ut11, double[] ut12, int[] status) {
+        return bulk(BulkLibrary::bulkUtcut1, utc1, utc2, dut1, ut11, ut12, status);
+    }
+
+    /**
+     * Quick ICRS to CIRS for n stars, see {@link SofaLibrary#iauAtciq}.
+     */
+    public static void bulkAtciq(int n, Pointer<Double> rc, Pointer<Double> dc, Pointer<Double> pr, Pointer<Double> pd, Pointer<Double> px, Pointer<Double> rv, Pointer<iauASTROM> astrom, Pointer<Double> ri, Pointer<Double> di) {
+        bulkAtciq(n, Pointer.getPeer(rc), Pointer.getPeer(dc), Pointer.getPeer(pr), Pointer.getPeer(pd), Pointer.getPeer(px), Pointer.getPeer(rv), Pointer.getPeer(astrom), Pointer.getPeer(ri), Pointer.getPeer(di));
+    }
+    protected native static void bulkAtciq(int n, @Ptr long rc, @Ptr long dc, @Ptr long pr, @Ptr long pd, @Ptr long px, @Ptr long rv, @Ptr long astrom, @Ptr long ri, @Ptr long di);
+
+    /**
+     * Quick ICRS to CIRS for n stars with zero parallax and proper motion, see {@link SofaLibrary#iauAtciqz}.
+     */
+    public static void bulkAtciqz(int n, Pointer<Double> rc, Pointer<Double> dc, Pointer<iauASTROM> astrom, Pointer<Double> ri, Pointer<Double> di) {
+        bulkAtciqz(n, Pointer.getPeer(rc), Pointer.getPeer(dc), Pointer.getPeer(astrom), Pointer.getPeer(ri), Pointer.getPeer(di));
+    }
+    protected native static void bulkAtciqz(int n, @Ptr long rc, @Ptr long dc, @Ptr long astrom, @Ptr long ri, @Ptr long di);
+
+    /**
+     * Quick CIRS to ICRS astrometric for n stars, see {@link SofaLibrary#iauAticq}.
+     */
+    public static void bulkAticq(int n, Pointer<Double> ri, Pointer<Double> di, Pointer<iauASTROM> astrom, Pointer<Double> rc, Pointer<Double> dc) {
+        bulkAticq(n, Pointer.getPeer(ri), Pointer.getPeer(di), Pointer.getPeer(astrom), Pointer.getPeer(rc), Pointer.getPeer(dc));
+    }
+    protected native static void bulkAticq(int n, @Ptr long ri, @Ptr long di, @Ptr long astrom, @Ptr long rc, @Ptr long dc);
+
+    /**
+     * Quick CIRS to observed for n stars, see {@link SofaLibrary#iauAtioq}. hob, dob and rob may be null.
+     */
+    public static void bulkAtioq(int n, Pointer<Double> ri, Pointer<Double> di, Pointer<iauASTROM> astrom, Pointer<Double> aob, Pointer<Double> zob, Pointer<Double> hob, Pointer<Double> dob, Pointer<Double> rob) {
+        bulkAtioq(n, Pointer.getPeer(ri), Pointer.getPeer(di), Pointer.getPeer(astrom), Pointer.getPeer(aob), Pointer.getPeer(zob), Pointer.getPeer(hob), Pointer.getPeer(dob), Pointer.getPeer(rob));
+    }
+    protected native static void bulkAtioq(int n, @Ptr long ri, @Ptr long di, @Ptr long astrom, @Ptr long aob, @Ptr long zob, @Ptr long hob, @Ptr long dob, @Ptr long rob);
+
+    /**
+     * Quick ICRS to observed for n stars: {@link SofaLibrary#iauAtciq} followed by {@link SofaLibrary#iauAtioq}.
+     * hob, dob and rob may be null.
+     */
+    public static void bulkAtcoq(int n, Pointer<Double> rc, Pointer<Double> dc, Pointer<Double> pr, Pointer<Double> pd, Pointer<Double> px, Pointer<Double> rv, Pointer<iauASTROM> astrom, Pointer<Double> aob, Pointer<Double> zob, Pointer<Double> hob, Pointer<Double> dob, Pointer<Double> rob) {
+        bulkAtcoq(n, Pointer.getPeer(rc), Pointer.getPeer(dc), Pointer.getPeer(pr), Pointer.getPeer(pd), Pointer.getPeer(px), Pointer.getPeer(rv), Pointer.getPeer(astrom), Pointer.getPeer(aob), Pointer.getPeer(zob), Pointer.getPeer(hob), Pointer.getPeer(dob), Pointer.getPeer(rob));
+    }
+    protected native static void bulkAtcoq(int n, @Ptr long rc, @Ptr long dc, @Ptr long pr, @Ptr long pd, @Ptr long px, @Ptr long rv, @Ptr long astrom, @Ptr long aob, @Ptr long zob, @Ptr long hob, @Ptr long dob, @Ptr long rob);
+
+    /**
+     * Star proper motion for n stars, all from epoch ep1a+ep1b to ep2a+ep2b, see {@link SofaLibrary#iauPmsafe}. The
+     * status may be null.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkPmsafe(int n, Pointer<Double> ra1, Pointer<Double> dec1, Pointer<Double> pmr1, Pointer<Double> pmd1, Pointer<Double> px1, Pointer<Double> rv1, double ep1a, double ep1b, double ep2a, double ep2b, Pointer<Double> ra2, Pointer<Double> dec2, Pointer<Double> pmr2, Pointer<Double> pmd2, Pointer<Double> px2, Pointer<Double> rv2, Pointer<Integer> status) {
+        return bulkPmsafe(n, Pointer.getPeer(ra1), Pointer.getPeer(dec1), Pointer.getPeer(pmr1), Pointer.getPeer(pmd1), Pointer.getPeer(px1), Pointer.getPeer(rv1), ep1a, ep1b, ep2a, ep2b, Pointer.getPeer(ra2), Pointer.getPeer(dec2), Pointer.getPeer(pmr2), Pointer.getPeer(pmd2), Pointer.getPeer(px2), Pointer.getPeer(rv2), Pointer.getPeer(status));
+    }
+    protected native static int bulkPmsafe(int n, @Ptr long ra1, @Ptr long dec1, @Ptr long pmr1, @Ptr long pmd1, @Ptr long px1, @Ptr long rv1, double ep1a, double ep1b, double ep2a, double ep2b, @Ptr long ra2, @Ptr long dec2, @Ptr long pmr2, @Ptr long pmd2, @Ptr long px2, @Ptr long rv2, @Ptr long status);
+
+    /**
+     * Geocentric to geodetic for n positions on a reference ellipsoid, see {@link SofaLibrary#iauGc2gd}. Element i of
+     * the geocentric vectors is x[i*stride], y[i*stride], z[i*stride]. The status may be null.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gd(int n, int el, Pointer<Double> x, Pointer<Double> y, Pointer<Double> z, int stride, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height, Pointer<Integer> status) {
+        return bulkGc2gd(n, el, Pointer.getPeer(x), Pointer.getPeer(y), Pointer.getPeer(z), stride, Pointer.getPeer(elong), Pointer.getPeer(phi), Pointer.getPeer(height), Pointer.getPeer(status));
+    }
+    protected native static int bulkGc2gd(int n, int el, @Ptr long x, @Ptr long y, @Ptr long z, int stride, @Ptr long elong, @Ptr long phi, @Ptr long height, @Ptr long status);
+
+    /**
+     * Geocentric to geodetic for every element of the given arrays, see {@link SofaLibrary#iauGc2gd}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gd(int el, double[] x, double[] y, double[] z, double[] elong, double[] phi, double[] height, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGc2gd(n, el, px, py, pz, stride, e, p, h, s), false, x, y, z, elong, phi, height, status);
+    }
+
+    /**
+     * Geocentric to geodetic for every position of an interleaved array (x, y, z of each position), see
+     * {@link SofaLibrary#iauGc2gd}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gd(int el, double[] xyz, double[] elong, double[] phi, double[] height, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGc2gd(n, el, px, py, pz, stride, e, p, h, s), false, xyz, null, null, elong, phi, height, status);
+    }
+
+    /**
+     * Geocentric to geodetic for the first three elements (x, y, z) of every record of a {@link SofaBuffer}, such as
+     * the positions of {@link SofaBuffer#pvs pv-vectors}, without copies, see {@link SofaLibrary#iauGc2gd}. The status
+     * may be null.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gd(int el, SofaBuffer.Records xyz, SofaBuffer.Doubles elong, SofaBuffer.Doubles phi, SofaBuffer.Doubles height, SofaBuffer.Ints status) {
+        if (xyz.stride() < 3)
+            throw new IllegalArgumentException("The records must hold at least x, y and z, not " + xyz.stride() + " elements");
+        int n = length(xyz.length(), elong.length(), phi.length(), height.length(), (status == null ? xyz.length() : status.length()));
+        long x = xyz.address();
+        return bulkGc2gd(n, el, x, x + 8, x + 16, xyz.stride(), elong.address(), phi.address(), height.address(), (status == null ? 0 : status.address()));
+    }
+
+    /**
+     * Geocentric to geodetic for n positions on a general ellipsoid, see {@link SofaLibrary#iauGc2gde} and
+     * {@link #bulkGc2gd(int, int, Pointer, Pointer, Pointer, int, Pointer, Pointer, Pointer, Pointer)}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gde(int n, double a, double f, Pointer<Double> x, Pointer<Double> y, Pointer<Double> z, int stride, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height, Pointer<Integer> status) {
+        return bulkGc2gde(n, a, f, Pointer.getPeer(x), Pointer.getPeer(y), Pointer.getPeer(z), stride, Pointer.getPeer(elong), Pointer.getPeer(phi), Pointer.getPeer(height), Pointer.getPeer(status));
+    }
+    protected native static int bulkGc2gde(int n, double a, double f, @Ptr long x, @Ptr long y, @Ptr long z, int stride, @Ptr long elong, @Ptr long phi, @Ptr long height, @Ptr long status);
+
+    /**
+     * Geocentric to geodetic for every element of the given arrays, see {@link SofaLibrary#iauGc2gde}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gde(double a, double f, double[] x, double[] y, double[] z, double[] elong, double[] phi, double[] height, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGc2gde(n, a, f, px, py, pz, stride, e, p, h, s), false, x, y, z, elong, phi, height, status);
+    }
+
+    /**
+     * Geocentric to geodetic for every position of an interleaved array (x, y, z of each position), see
+     * {@link SofaLibrary#iauGc2gde}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGc2gde(double a, double f, double[] xyz, double[] elong, double[] phi, double[] height, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGc2gde(n, a, f, px, py, pz, stride, e, p, h, s), false, xyz, null, null, elong, phi, height, status);
+    }
+
+    /**
+     * Geodetic to geocentric for n positions on a reference ellipsoid, see {@link SofaLibrary#iauGd2gc}. Element i of
+     * the geocentric vectors is x[i*stride], y[i*stride], z[i*stride]. The status may be null.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gc(int n, int el, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height, Pointer<Double> x, Pointer<Double> y, Pointer<Double> z, int stride, Pointer<Integer> status) {
+        return bulkGd2gc(n, el, Pointer.getPeer(elong), Pointer.getPeer(phi), Pointer.getPeer(height), Pointer.getPeer(x), Pointer.getPeer(y), Pointer.getPeer(z), stride, Pointer.getPeer(status));
+    }
+    protected native static int bulkGd2gc(int n, int el, @Ptr long elong, @Ptr long phi, @Ptr long height, @Ptr long x, @Ptr long y, @Ptr long z, int stride, @Ptr long status);
+
+    /**
+     * Geodetic to geocentric for every element of the given arrays, see {@link SofaLibrary#iauGd2gc}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gc(int el, double[] elong, double[] phi, double[] height, double[] x, double[] y, double[] z, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGd2gc(n, el, e, p, h, px, py, pz, stride, s), true, x, y, z, elong, phi, height, status);
+    }
+
+    /**
+     * Geodetic to geocentric for every element of the given arrays, into an interleaved array (x, y, z of each
+     * position), see {@link SofaLibrary#iauGd2gc}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gc(int el, double[] elong, double[] phi, double[] height, double[] xyz, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGd2gc(n, el, e, p, h, px, py, pz, stride, s), true, xyz, null, null, elong, phi, height, status);
+    }
+
+    /**
+     * Geodetic to geocentric for n positions on a general ellipsoid, see {@link SofaLibrary#iauGd2gce} and
+     * {@link #bulkGd2gc(int, int, Pointer, Pointer, Pointer, Pointer, Pointer, Pointer, int, Pointer)}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gce(int n, double a, double f, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height, Pointer<Double> x, Pointer<Double> y, Pointer<Double> z, int stride, Pointer<Integer> status) {
+        return bulkGd2gce(n, a, f, Pointer.getPeer(elong), Pointer.getPeer(phi), Pointer.getPeer(height), Pointer.getPeer(x), Pointer.getPeer(y), Pointer.getPeer(z), stride, Pointer.getPeer(status));
+    }
+    protected native static int bulkGd2gce(int n, double a, double f, @Ptr long elong, @Ptr long phi, @Ptr long height, @Ptr long x, @Ptr long y, @Ptr long z, int stride, @Ptr long status);
+
+    /**
+     * Geodetic to geocentric for every element of the given arrays, see {@link SofaLibrary#iauGd2gce}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gce(double a, double f, double[] elong, double[] phi, double[] height, double[] x, double[] y, double[] z, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGd2gce(n, a, f, e, p, h, px, py, pz, stride, s), true, x, y, z, elong, phi, height, status);
+    }
+
+    /**
+     * Geodetic to geocentric for every element of the given arrays, into an interleaved array (x, y, z of each
+     * position), see {@link SofaLibrary#iauGd2gce}.
+     * @return Number of elements with a non-zero status.
+     */
+    public static int bulkGd2gce(double a, double f, double[] elong, double[] phi, double[] height, double[] xyz, int[] status) {
+        return geodetic((n, px, py, pz, stride, e, p, h, s) -> bulkGd2gce(n, a, f, e, p, h, px, py, pz, stride, s), true, xyz, null, null, elong, phi, height, status);
+    }
+
+    /**
+     * An approximation to TDB-TT, as {@link SofaLibrary#iauDtdb}, but evaluating only the leading terms of the
+     * Fairhead &amp; Bretagnon series that are needed for the given error bound. The omitted terms add up to at most tol
+     * (their absolute amplitudes; the actual error is typically an order of magnitude smaller). With tol = 0 the result
+     * is that of iauDtdb, with all 787 terms; for dates within a century of J2000.0, 1e-9 s needs about 650 terms,
+     * 1e-8 s about 550, 1e-7 s about 370 and 1e-6 s about 150 (see {@link #fastDtdbTerms}). {@link Dtdb#truncated}
+     * selects the same terms in Java.
+     *
+     * @param date1 TDB date (Notes 1-3 of iauDtdb).
+     * @param date2 TDB date.
+     * @param ut    Universal time (UT1, fraction of one day).
+     * @param elong Longitude (east positive, radians).
+     * @param u     Distance from Earth spin axis (km).
+     * @param v     Distance north of equatorial plane (km).
+     * @param tol   Error bound of the truncation (seconds).
+     * @return TDB-TT (seconds).
+     */
+    public native static double fastDtdb(double date1, double date2, double ut, double elong, double u, double v, double tol);
+
+    /**
+     * The number of leading terms of each power of T (T^0 to T^4) that {@link #fastDtdb} evaluates for an error bound:
+     * within each power the trailing terms are left out for as long as their absolute amplitudes, times |T|^k, add up
+     * to at most tol / 5.
+     *
+     * @param t   Largest |T| to be evaluated (Julian millennia since J2000.0).
+     * @param tol Error bound of the truncation (seconds).
+     * @return The number of terms of T^0 to T^4.
+     */
+    public static int[] fastDtdbTerms(double t, double tol) {
+        Pointer<Integer> nterms = Pointer.allocateInts(5);
+        try {
+            fastDtdbTerms(t, tol, nterms.getPeer());
+            return nterms.getInts();
+        } finally {
+            nterms.release();
+        }
+    }
+    protected native static void fastDtdbTerms(double t, double tol, @Ptr long nterms);
+
+    /**
+     * For a given UTC date, calculate delta(AT) = TAI-UTC, same as {@link SofaLibrary#iauDat} but with a constant time
+     * table lookup (see {@link LeapSeconds}).
+     * @return Status, as iauDat.
+     */
+    public static int leapDat(int iy, int im, int id, double fd, Pointer<Double> deltat) {
+        return leapDat(iy, im, id, fd, Pointer.getPeer(deltat));
+    }
+    protected native static int leapDat(int iy, int im, int id, double fd, @Ptr long deltat);
+
+    /**
+     * Run a geodetic kernel over Java arrays, chunk by chunk through the native scratch block of this thread.
+     *
+     * @param toGeocentric True if the geodetic coordinates are given and x, y, z returned, false for the reverse.
+     * @param x            Geocentric x, or all interleaved coordinates when y and z are null.
+     */
+    private static int geodetic(GeodeticKernel kernel, boolean toGeocentric, double[] x, double[] y, double[] z, double[] elong, double[] phi, double[] height, int[] status) {
+        boolean interleaved = (y == null);
+        int n = toGeocentric ? elong.length : (interleaved ? x.length / 3 : x.length);
+        if ((interleaved ? x.length < 3 * n : (x.length < n || y.length < n || z.length < n))
+                || elong.length < n || phi.length < n || height.length < n || status.length < n)
+            throw new IllegalArgumentException("All arrays must hold at least " + n + " elements (" + 3 * n + " interleaved coordinates)");
+
+        int bad = 0;
+        for (int start = 0; start < n; start += CHUNK) {
+            int count = Math.min(CHUNK, n - start);
+            NativeScratch scratch = NativeScratch.get(6L * 8 * count + 4L * count + 8);
+
+            long e, p, h, px, py, pz;
+            if (toGeocentric) {
+                e = scratch.putDoubles(elong, start, count);
+                p = scratch.putDoubles(phi, start, count);
+                h = scratch.putDoubles(height, start, count);
+                // Seeded with the given values, which an invalid ellipsoid leaves unchanged (see bulk)
+                if (interleaved) {
+                    px = scratch.putDoubles(x, 3 * start, 3 * count);
+                    py = px + 8;
+                    pz = px + 16;
+                } else {
+                    px = scratch.putDoubles(x, start, count);
+                    py = scratch.putDoubles(y, start, count);
+                    pz = scratch.putDoubles(z, start, count);
+                }
+            } else {
+                if (interleaved) {
+                    px = scratch.putDoubles(x, 3 * start, 3 * count);
+                    py = px + 8;
+                    pz = px + 16;
+                } else {
+                    px = scratch.putDoubles(x, start, count);
+                    py = scratch.putDoubles(y, start, count);
+                    pz = scratch.putDoubles(z, start, count);
+                }
+                e = scratch.putDoubles(elong, start, count);
+                p = scratch.putDoubles(phi, start, count);
+                h = scratch.putDoubles(height, start, count);
+            }
+            long s = scratch.reserveInts(count);
+
+            bad += kernel.call(count, px, py, pz, interleaved ? 3 : 1, e, p, h, s);
+
+            if (toGeocentric) {
+                if (interleaved) {
+                    scratch.getDoubles(px, x, 3 * start, 3 * count);
+                } else {
+                    scratch.getDoubles(px, x, start, count);
+                    scratch.getDoubles(py, y, start, count);
+                    scratch.getDoubles(pz, z, start, count);
+                }
+            } else {
+                scratch.getDoubles(e, elong, start, count);
+                scratch.getDoubles(p, phi, start, count);
+                scratch.getDoubles(h, height, start, count);
+            }
+            scratch.getInts(s, status, start, count);
+        }
+        return bad;
+    }
+
+    /** Common length of the views of a {@link SofaBuffer} call. */
+    private static int length(int n, int... others) {
+        for (int other : others)
+            if (other != n)
+                throw new IllegalArgumentException("All views must hold " + n + " elements, not " + other);
+        return n;
+    }
+
+    /**
+     * Run a bulk kernel over Java arrays, chunk by chunk through the native scratch block of this thread.
+     *
+     * @param in3 Third given array, or null for kernels with only two given arrays.
+     */
+    private static int bulk(Kernel kernel, double[] in1, double[] in2, double[] in3, double[] out1, double[] out2, int[] status) {
+        int n = in1.length;
+        if (in2.length < n || (in3 != null && in3.length < n) || out1.length < n || out2.length < n || status.length < n)
+            throw new IllegalArgumentException("All arrays must hold at least " + n + " elements");
+
+        int doubles = (in3 == null ? 4 : 5);
+        int bad = 0;
+        for (int start = 0; start < n; start += CHUNK) {
+            int count = Math.min(CHUNK, n - start);
+            NativeScratch scratch = NativeScratch.get((8L * doubles + 4L) * count + 8);
+
+            long i1 = scratch.putDoubles(in1, start, count);
+            long i2 = scratch.putDoubles(in2, start, count);
+            long i3 = (in3 == null ? 0 : scratch.putDoubles(in3, start, count));
+            // Where a routine fails it returns early, so the outputs are seeded with the given values to leave them
+            // unchanged (as the Pointer variants do) rather than return what a previous call left in the scratch block
+            long o1 = scratch.putDoubles(out1, start, count);
+            long o2 = scratch.putDoubles(out2, start, count);
+            long s  = scratch.reserveInts(count);
+
+            bad += kernel.call(count, i1, i2, i3, o1, o2, s);
+
+            scratch.getDoubles(o1, out1, start, count);
+            scratch.getDoubles(o2, out2, start, count);
+            scratch.getInts(s, status, start, count);
+        }
+        return bad;
+    }
+
+}
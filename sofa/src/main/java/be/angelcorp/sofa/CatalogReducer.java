@@ -0,0 +1,244 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reduction of whole star catalogs with one set of star-independent astrometry parameters (iauASTROM).<br>
+ * <br>
+ * The catalog is given column by column, as one array per coordinate (structure of arrays), and the results are
+ * written into preallocated arrays of the same length:
+ * <pre>
+ * double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+ * SofaArrays.iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, eo);
+ * CatalogReducer reducer = new CatalogReducer(astrom);
+ * reducer.atcoq(ra, dec, pmr, pmd, px, rv, azimuth, zenith, null, null, null);
+ * </pre>
+ * The columns are split into chunks of {@link #chunk()} stars which are reduced in parallel on a
+ * {@link ForkJoinPool}. Each chunk is copied into the native scratch block of its worker thread and converted with a
+ * single native call of the bulk functions of {@link BulkLibrary}, so the cost per star is that of the SOFA routine
+ * itself. The astrometry parameters are copied once into native memory, which all workers only read.<br>
+ * <br>
+ * The results are identical to calling the single-star SOFA routine for every star. The returned arrays may be the
+ * same as the given ones, and the methods can be called concurrently from several threads.
+ */
+public final class CatalogReducer {
+
+    /** Default number of stars per native call (and per parallel task). */
+    public static final int CHUNK = BulkLibrary.CHUNK;
+
+    /** Native bulk function, with the native addresses of the given and returned columns of one chunk. */
+    private interface Kernel {
+        void call(int n, long[] in, long[] out);
+    }
+
+    private final Pointer<Byte> memory;
+    private final long astrom;
+    private final ForkJoinPool pool;
+    private final int chunk;
+
+    /**
+     * Reducer for the given astrometry parameters (in the layout of {@link SofaArrays}), running on the common
+     * ForkJoinPool.
+     */
+    public CatalogReducer(double[] astrom) {
+        this(astrom, 0, ForkJoinPool.commonPool(), CHUNK);
+    }
+
+    /**
+     * Reducer for the astrometry parameters currently in the context, running on the common ForkJoinPool. Later
+     * changes to the context do not affect the reducer.
+     */
+    public CatalogReducer(AstromContext context) {
+        this(astromOf(context), 0, ForkJoinPool.commonPool(), CHUNK);
+    }
+
+    /**
+     * @param astrom       Star-independent astrometry parameters, {@link SofaArrays#ASTROM_SIZE} doubles in the layout
+     *                     of {@link SofaArrays} (copied).
+     * @param astromOffset Index in astrom of the first parameter.
+     * @param pool         Pool that runs the chunks in parallel.
+     * @param chunk        Number of stars per native call and parallel task.
+     */
+    public CatalogReducer(double[] astrom, int astromOffset, ForkJoinPool pool, int chunk) {
+        if (chunk < 1)
+            throw new IllegalArgumentException("The chunk size must be positive, not " + chunk);
+        this.memory = Pointer.allocateBytes(8 * SofaArrays.ASTROM_SIZE);
+        this.astrom = memory.getPeer();
+        this.pool   = pool;
+        this.chunk  = chunk;
+
+        ByteBuffer buffer = memory.getByteBuffer().order(ByteOrder.nativeOrder());
+        for (int i = 0; i < SofaArrays.ASTROM_SIZE; i++)
+            buffer.putDouble(8 * i, astrom[astromOffset + i]);
+    }
+
+    private static double[] astromOf(AstromContext context) {
+        double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+        context.get(astrom, 0);
+        return astrom;
+    }
+
+    /**
+     * Quick ICRS to CIRS for every star, see {@link SofaLibrary#iauAtciq}.
+     *
+     * @param rc ICRS right ascension at J2000.0 (radians).
+     * @param dc ICRS declination at J2000.0 (radians).
+     * @param pr RA proper motion (radians/year; Note 3 of iauAtciq).
+     * @param pd Dec proper motion (radians/year).
+     * @param px Parallax (arcsec).
+     * @param rv Radial velocity (km/s, +ve if receding).
+     * @param ri Returned CIRS right ascension (radians).
+     * @param di Returned CIRS declination (radians).
+     */
+    public void atciq(double[] rc, double[] dc, double[] pr, double[] pd, double[] px, double[] rv, double[] ri, double[] di) {
+        run((n, in, out) -> BulkLibrary.bulkAtciq(n, in[0], in[1], in[2], in[3], in[4], in[5], astrom, out[0], out[1]),
+                new double[][]{ rc, dc, pr, pd, px, rv }, new double[][]{ ri, di }, 2);
+    }
+
+    /**
+     * Quick ICRS to CIRS for every star, assuming zero parallax and proper motion, see {@link SofaLibrary#iauAtciqz}.
+     */
+    public void atciqz(double[] rc, double[] dc, double[] ri, double[] di) {
+        run((n, in, out) -> BulkLibrary.bulkAtciqz(n, in[0], in[1], astrom, out[0], out[1]),
+                new double[][]{ rc, dc }, new double[][]{ ri, di }, 2);
+    }
+
+    /**
+     * Quick CIRS to ICRS astrometric for every star, see {@link SofaLibrary#iauAticq}.
+     */
+    public void aticq(double[] ri, double[] di, double[] rc, double[] dc) {
+        run((n, in, out) -> BulkLibrary.bulkAticq(n, in[0], in[1], astrom, out[0], out[1]),
+                new double[][]{ ri, di }, new double[][]{ rc, dc }, 2);
+    }
+
+    /**
+     * Quick CIRS to observed for every star, see {@link SofaLibrary#iauAtioq}.
+     *
+     * @param aob Returned observed azimuth (radians: N=0,E=90).
+     * @param zob Returned observed zenith distance (radians).
+     * @param hob Returned observed hour angle (radians), or null if not needed.
+     * @param dob Returned observed declination (radians), or null if not needed.
+     * @param rob Returned observed right ascension (CIO-based, radians), or null if not needed.
+     */
+    public void atioq(double[] ri, double[] di, double[] aob, double[] zob, double[] hob, double[] dob, double[] rob) {
+        run((n, in, out) -> BulkLibrary.bulkAtioq(n, in[0], in[1], astrom, out[0], out[1], out[2], out[3], out[4]),
+                new double[][]{ ri, di }, new double[][]{ aob, zob, hob, dob, rob }, 2);
+    }
+
+    /**
+     * Quick ICRS to observed for every star, as {@link #atciq} followed by {@link #atioq} but in a single pass,
+     * without the intermediate CIRS columns.
+     *
+     * @param hob Returned observed hour angle (radians), or null if not needed.
+     * @param dob Returned observed declination (radians), or null if not needed.
+     * @param rob Returned observed right ascension (CIO-based, radians), or null if not needed.
+     */
+    public void atcoq(double[] rc, double[] dc, double[] pr, double[] pd, double[] px, double[] rv,
+                      double[] aob, double[] zob, double[] hob, double[] dob, double[] rob) {
+        run((n, in, out) -> BulkLibrary.bulkAtcoq(n, in[0], in[1], in[2], in[3], in[4], in[5], astrom, out[0], out[1], out[2], out[3], out[4]),
+                new double[][]{ rc, dc, pr, pd, px, rv }, new double[][]{ aob, zob, hob, dob, rob }, 2);
+    }
+
+    /** Number of stars per native call (and per parallel task). */
+    public int chunk() {
+        return chunk;
+    }
+
+    /**
+     * Copy of the astrometry parameters of this reducer, in the layout of {@link SofaArrays}.
+     */
+    public double[] astrom() {
+        ByteBuffer buffer = memory.getByteBuffer().order(ByteOrder.nativeOrder());
+        double[] copy = new double[SofaArrays.ASTROM_SIZE];
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = buffer.getDouble(8 * i);
+        return copy;
+    }
+
+    /**
+     * Run a kernel over all stars, in parallel chunks.
+     *
+     * @param required Number of leading outputs that must not be null.
+     */
+    private void run(Kernel kernel, double[][] inputs, double[][] outputs, int required) {
+        int n = inputs[0].length;
+        for (double[] input : inputs)
+            if (input.length != n)
+                throw new IllegalArgumentException("All catalog columns must have " + n + " elements");
+        for (int i = 0; i < outputs.length; i++) {
+            if (outputs[i] == null && i < required)
+                throw new IllegalArgumentException("Output column " + i + " is required");
+            if (outputs[i] != null && outputs[i].length < n)
+                throw new IllegalArgumentException("All output columns must hold at least " + n + " elements");
+        }
+
+        if (n <= chunk)
+            reduce(kernel, inputs, outputs, 0, n);
+        else
+            pool.invoke(new Task(kernel, inputs, outputs, chunk, 0, n));
+    }
+
+    /**
+     * Reduce the stars [from, to) with a single native call, through the scratch block of the current thread.
+     */
+    private static void reduce(Kernel kernel, double[][] inputs, double[][] outputs, int from, int to) {
+        int count = to - from;
+        if (count == 0)
+            return;
+        NativeScratch scratch = NativeScratch.get(8L * (inputs.length + outputs.length) * count);
+
+        long[] in  = new long[inputs.length];
+        long[] out = new long[outputs.length];
+        for (int i = 0; i < inputs.length; i++)
+            in[i] = scratch.putDoubles(inputs[i], from, count);
+        for (int i = 0; i < outputs.length; i++)
+            out[i] = (outputs[i] == null ? 0 : scratch.reserveDoubles(count));
+
+        kernel.call(count, in, out);
+
+        for (int i = 0; i < outputs.length; i++)
+            if (outputs[i] != null)
+                scratch.getDoubles(out[i], outputs[i], from, count);
+    }
+
+    /** Reduces a range of stars, split in halves (on chunk boundaries) down to a single chunk. */
+    private static final class Task extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Kernel kernel;
+        private final double[][] inputs;
+        private final double[][] outputs;
+        private final int chunk;
+        private final int from;
+        private final int to;
+
+        Task(Kernel kernel, double[][] inputs, double[][] outputs, int chunk, int from, int to) {
+            this.kernel  = kernel;
+            this.inputs  = inputs;
+            this.outputs = outputs;
+            this.chunk   = chunk;
+            this.from    = from;
+            this.to      = to;
+        }
+
+        @Override
+        protected void compute() {
+            int chunks = (to - from + chunk - 1) / chunk;
+            if (chunks <= 1) {
+                reduce(kernel, inputs, outputs, from, to);
+            } else {
+                int middle = from + (chunks / 2) * chunk;
+                invokeAll(new Task(kernel, inputs, outputs, chunk, from, middle),
+                          new Task(kernel, inputs, outputs, chunk, middle, to));
+            }
+        }
+
+    }
+
+}
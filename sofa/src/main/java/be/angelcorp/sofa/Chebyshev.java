@@ -0,0 +1,95 @@
+package be.angelcorp.sofa;
+
+/**
+ * Chebyshev interpolation of functions of time on consecutive spans of equal length, shared by the fitted models
+ * ({@link EarthEphemeris}, {@link CipTable}).<br>
+ * <br>
+ * On every span, mapped to [-1, 1], a function is interpolated at the n Chebyshev nodes of the first kind; the
+ * coefficients follow from the discrete orthogonality of the Chebyshev polynomials at these nodes. The interpolants
+ * are evaluated with the Clenshaw recurrence.
+ */
+final class Chebyshev {
+
+    private Chebyshev() {
+    }
+
+    /**
+     * The n Chebyshev nodes of the first kind on [-1, 1], x_k = cos(pi (k + 1/2) / n), in decreasing order.
+     */
+    static double[] nodes(int n) {
+        double[] nodes = new double[n];
+        for (int k = 0; k < n; k++)
+            nodes[k] = Math.cos(Math.PI * (k + 0.5) / n);
+        return nodes;
+    }
+
+    /**
+     * Coefficients of the polynomial of degree n - 1 through the values at the nodes.
+     *
+     * @param values       Function values at {@link #nodes}(n), from values[valuesOffset].
+     * @param n            Number of nodes (degree + 1).
+     * @param coefficients Returned coefficients, from coefficients[offset].
+     */
+    static void fit(double[] values, int valuesOffset, int n, double[] coefficients, int offset) {
+        for (int j = 0; j < n; j++) {
+            /* T_j(x_k) = cos(j pi (k + 1/2) / n) */
+            double sum = 0.0;
+            for (int k = 0; k < n; k++)
+                sum += values[valuesOffset + k] * Math.cos(Math.PI * j * (k + 0.5) / n);
+            coefficients[offset + j] = (j == 0 ? 1.0 : 2.0) * sum / n;
+        }
+    }
+
+    /**
+     * Value of the Chebyshev series c[base] ... c[base + degree] at x in [-1, 1].
+     */
+    static double value(double[] c, int base, int degree, double x) {
+        /* b_k = c_k + 2x b_k+1 - b_k+2 */
+        double b1 = 0.0, b2 = 0.0;
+        double x2 = 2.0 * x;
+        for (int j = degree; j >= 1; j--) {
+            double b = c[base + j] + x2 * b1 - b2;
+            b2 = b1;
+            b1 = b;
+        }
+        return c[base] + x * b1 - b2;
+    }
+
+    /**
+     * Value and derivative of the Chebyshev series c[base] ... c[base + degree] at x in [-1, 1], writing the value to
+     * result[index] and the derivative, multiplied by scale, to result[index + 3].
+     */
+    static void valueAndDerivative(double[] c, int base, int degree, double x, double scale, double[] result, int index) {
+        /* Value: b_k = c_k + 2x b_k+1 - b_k+2; derivative: d_k = 2 b_k+1 + 2x d_k+1 - d_k+2 */
+        double b1 = 0.0, b2 = 0.0;
+        double d1 = 0.0, d2 = 0.0;
+        double x2 = 2.0 * x;
+        for (int j = degree; j >= 1; j--) {
+            double d = 2.0 * b1 + x2 * d1 - d2;
+            double b = c[base + j] + x2 * b1 - b2;
+            d2 = d1;
+            d1 = d;
+            b2 = b1;
+            b1 = b;
+        }
+        result[index]     = c[base] + x * b1 - b2;
+        result[index + 3] = (b1 + x * d1 - d2) * scale;
+    }
+
+    /**
+     * Index of the span that contains the given time since the start (the end of the last span belongs to the last
+     * span).
+     *
+     * @throws IllegalArgumentException If the time is outside of all spans.
+     */
+    static int span(double offset, double span, int spans, double start) {
+        int s = (int) Math.floor(offset / span);
+        if (s == spans && offset <= spans * span)
+            s--;
+        if (s < 0 || s >= spans)
+            throw new IllegalArgumentException("Epoch " + (start + offset) + " is outside of the table ["
+                    + start + ", " + (start + spans * span) + "]");
+        return s;
+    }
+
+}
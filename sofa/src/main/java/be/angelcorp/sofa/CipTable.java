@@ -0,0 +1,373 @@
+package be.angelcorp.sofa;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Interpolation tables of the CIP coordinates X, Y ({@link SofaLibrary#iauXy06}) and the CIO locator s
+ * ({@link SofaLibrary#iauS06}), IAU 2006/2000A, evaluated in pure Java.<br>
+ * <br>
+ * iauXy06 and iauS06 sum long series on every call, and dominate the CIO based transformations (iauC2i06a,
+ * iauC2t06a, iauXys06a). This class samples them at the Chebyshev nodes of consecutive spans and answers queries from
+ * the Chebyshev coefficients, with a few dozen floating point operations:
+ * <pre>
+ * CipTable table = CipTable.standard();
+ * table.xys(2400000.5, 53736.0, xys);
+ * table.c2i(2400000.5, 53736.0, rc2i);
+ * </pre>
+ * The accuracy is chosen when the table is fitted ({@link #fit(double, double, double)}), and the worst-case
+ * difference with iauXy06 and iauS06, sampled between the interpolation nodes, is reported by {@link #error()}.<br>
+ * <br>
+ * Tables are stored in a binary format ({@link #write}, {@link #read}). The sofa build generates the
+ * {@link #standard()} table once, with {@link #main}, so that it is loaded and not fitted at runtime.<br>
+ * <br>
+ * The matrix of {@link #c2i} uses computations derived from the iauC2ixys routine of the IAU SOFA software collection
+ * (release 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from
+ * the original in that the matrix is formed directly from X, Y and s, without the spherical angles E and d (which are
+ * eliminated with the angle addition formulas), instead of by three successive rotations.
+ */
+public final class CipTable {
+
+    static {
+        NativeVariant.select();
+    }
+
+    /** Name of the resource with the standard table, next to this class. */
+    public static final String RESOURCE = "cip06.bin";
+
+    /** Identification of the binary format, "CIP" followed by the format version */
+    private static final int MAGIC = 0x43495001;
+
+    /** Interpolated components per span: X, Y, s */
+    private static final int COMPONENTS = 3;
+
+    /** Degree of the polynomials of {@link #fit(double, double, double)} */
+    private static final int DEGREE = 16;
+
+    /** Span lengths (days) tried by {@link #fit(double, double, double)}, longest first */
+    private static final double[] SPANS = { 32.0, 24.0, 20.0, 16.0, 14.0, 12.0, 10.0, 8.0, 6.0, 4.0, 2.0, 1.0 };
+
+    /** Interpolation checks per span and per polynomial coefficient */
+    private static final int CHECKS = 4;
+
+    private final double start;
+    private final double span;
+    private final int degree;
+    private final int spans;
+    private final double[] coefficients;
+    private final double error;
+
+    private CipTable(double start, double span, int degree, double[] coefficients, double error) {
+        if (!(span > 0.0))
+            throw new IllegalArgumentException("The span must be positive, not " + span);
+        if (degree < 1)
+            throw new IllegalArgumentException("The degree must be at least 1, not " + degree);
+        int perSpan = COMPONENTS * (degree + 1);
+        if (coefficients.length == 0 || coefficients.length % perSpan != 0)
+            throw new IllegalArgumentException("Expected a multiple of " + perSpan + " coefficients, not " + coefficients.length);
+
+        this.start        = start;
+        this.span         = span;
+        this.degree       = degree;
+        this.spans        = coefficients.length / perSpan;
+        this.coefficients = coefficients;
+        this.error        = error;
+    }
+
+    /**
+     * The table of the {@link #RESOURCE} resource, generated by the build (see {@link #main}).
+     *
+     * @throws IllegalStateException If the resource is missing or invalid.
+     */
+    public static CipTable standard() {
+        return Standard.TABLE;
+    }
+
+    /** Lazily loaded standard table */
+    private static final class Standard {
+        static final CipTable TABLE;
+
+        static {
+            try (InputStream stream = CipTable.class.getResourceAsStream(RESOURCE)) {
+                if (stream == null)
+                    throw new IllegalStateException("Cannot find the CIP table resource " + RESOURCE);
+                TABLE = read(stream);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read the CIP table resource " + RESOURCE, e);
+            }
+        }
+    }
+
+    /**
+     * Fit a table over [start, end] with a worst-case error of at most the given tolerance: the longest span of
+     * {@value #DEGREE} degree polynomials that reaches the tolerance is used.
+     *
+     * @param start     First epoch, TT Julian Date.
+     * @param end       Last epoch, TT Julian Date (rounded up to a whole number of spans).
+     * @param tolerance Maximum interpolation error of X, Y and s, radians (1 microarcsecond is 4.848e-12).
+     * @throws IllegalArgumentException If even the shortest span does not reach the tolerance.
+     */
+    public static CipTable fit(double start, double end, double tolerance) {
+        for (double span : SPANS) {
+            /* Try the span on the first year before fitting the whole interval */
+            CipTable trial = fit(start, Math.min(end, start + 366.0), span, DEGREE);
+            if (trial.error > tolerance)
+                continue;
+
+            CipTable table = fit(start, end, span, DEGREE);
+            if (table.error <= tolerance)
+                return table;
+        }
+        throw new IllegalArgumentException("Cannot reach a tolerance of " + tolerance + " rad with spans of "
+                + SPANS[SPANS.length - 1] + " days and degree " + DEGREE);
+    }
+
+    /**
+     * Fit a table over [start, end], and check it against iauXy06 and iauS06 at 4 * (degree + 1) points per span.
+     *
+     * @param start  First epoch, TT Julian Date.
+     * @param end    Last epoch, TT Julian Date (rounded up to a whole number of spans).
+     * @param span   Length of each span, days.
+     * @param degree Degree of the polynomials.
+     */
+    public static CipTable fit(double start, double end, double span, int degree) {
+        if (!(end > start))
+            throw new IllegalArgumentException("The end (" + end + ") must be after the start (" + start + ")");
+        if (!(span > 0.0))
+            throw new IllegalArgumentException("The span must be positive, not " + span);
+        if (degree < 1)
+            throw new IllegalArgumentException("The degree must be at least 1, not " + degree);
+
+        int n = degree + 1;
+        int spans = (int) Math.ceil((end - start) / span);
+        double[] coefficients = new double[spans * COMPONENTS * n];
+
+        double[] nodes = Chebyshev.nodes(n);
+        double[] xys = new double[COMPONENTS];
+        double[] values = new double[COMPONENTS * n];
+        for (int s = 0; s < spans; s++) {
+            double offset = s * span;
+            for (int k = 0; k < n; k++) {
+                sofa(start, offset + 0.5 * span * (nodes[k] + 1.0), xys);
+                for (int c = 0; c < COMPONENTS; c++)
+                    values[c * n + k] = xys[c];
+            }
+            for (int c = 0; c < COMPONENTS; c++)
+                Chebyshev.fit(values, c * n, n, coefficients, (s * COMPONENTS + c) * n);
+        }
+
+        return new CipTable(start, span, degree, coefficients, Double.NaN).check(CHECKS * n);
+    }
+
+    /**
+     * Compare this table with iauXy06 and iauS06 at the given number of (equally spaced, between the nodes) points
+     * per span.
+     *
+     * @return A copy of this table with the worst-case error at these points.
+     */
+    public CipTable check(int samplesPerSpan) {
+        double[] expected = new double[COMPONENTS];
+        double[] actual   = new double[COMPONENTS];
+        double max = 0.0;
+        for (int s = 0; s < spans; s++) {
+            for (int i = 0; i < samplesPerSpan; i++) {
+                double offset = s * span + span * (i + 0.5) / samplesPerSpan;
+                sofa(start, offset, expected);
+                xys(start, offset, actual, 0);
+                for (int c = 0; c < COMPONENTS; c++)
+                    max = Math.max(max, Math.abs(expected[c] - actual[c]));
+            }
+        }
+        return new CipTable(start, span, degree, coefficients, max);
+    }
+
+    /** X, Y and s from iauXy06 and iauS06. */
+    private static void sofa(double date1, double date2, double[] xys) {
+        SofaArrays.iauXy06(date1, date2, xys, 0, xys, 1);
+        xys[2] = SofaLibrary.iauS06(date1, date2, xys[0], xys[1]);
+    }
+
+    /**
+     * The CIP X, Y coordinates and the CIO locator s, see {@link SofaLibrary#iauXys06a}.
+     *
+     * @param date1  TT as a 2-part Julian Date.
+     * @param date2  TT as a 2-part Julian Date.
+     * @param xys    Returned X, Y and s (radians).
+     * @param offset Index in xys where X is written, Y and s follow.
+     * @throws IllegalArgumentException If the epoch is outside of the table.
+     */
+    public void xys(double date1, double date2, double[] xys, int offset) {
+        double t = (date1 - start) + date2;
+        int s = Chebyshev.span(t, span, spans, start);
+        double x = 2.0 * (t - s * span) / span - 1.0;
+
+        int n = degree + 1;
+        int base = s * COMPONENTS * n;
+        xys[offset]     = Chebyshev.value(coefficients, base, degree, x);
+        xys[offset + 1] = Chebyshev.value(coefficients, base + n, degree, x);
+        xys[offset + 2] = Chebyshev.value(coefficients, base + 2 * n, degree, x);
+    }
+
+    /**
+     * The CIP X, Y coordinates and the CIO locator s, see {@link #xys(double, double, double[], int)}.
+     *
+     * @param xys Returned X, Y and s (radians) in xys[0], xys[1] and xys[2].
+     */
+    public void xys(double date1, double date2, double[] xys) {
+        xys(date1, date2, xys, 0);
+    }
+
+    /**
+     * Celestial-to-intermediate matrix, IAU 2006/2000A, see {@link SofaLibrary#iauC2i06a}.
+     *
+     * @param date1  TT as a 2-part Julian Date.
+     * @param date2  TT as a 2-part Julian Date.
+     * @param rc2i   Returned celestial-to-intermediate matrix (row major, 9 elements).
+     * @param offset Index in rc2i of the first element.
+     * @throws IllegalArgumentException If the epoch is outside of the table.
+     */
+    public void c2i(double date1, double date2, double[] rc2i, int offset) {
+        double t = (date1 - start) + date2;
+        int span = Chebyshev.span(t, this.span, spans, start);
+        double u = 2.0 * (t - span * this.span) / this.span - 1.0;
+
+        int n = degree + 1;
+        int base = span * COMPONENTS * n;
+        double x = Chebyshev.value(coefficients, base, degree, u);
+        double y = Chebyshev.value(coefficients, base + n, degree, u);
+        double s = Chebyshev.value(coefficients, base + 2 * n, degree, u);
+
+        /* iauC2ixys forms Rz(-(E+s)) Ry(d) Rz(E), with tan E = Y/X and sin d = sqrt(X^2 + Y^2). */
+        double r2 = x * x + y * y;
+        double r  = Math.sqrt(r2);
+        double ce = (r2 != 0.0) ? x / r : 1.0;
+        double se = (r2 != 0.0) ? y / r : 0.0;
+        double sd = r;
+        double cd = Math.sqrt(1.0 - r2);
+
+        /* Ry(d) Rz(E) */
+        double b00 = cd * ce, b01 = cd * se, b02 = -sd;
+        double b10 = -se,     b11 = ce;
+        double b20 = sd * ce, b21 = sd * se, b22 = cd;
+
+        /* Rz(-(E+s)), with cos(E+s) and sin(E+s) from the angle addition formulas */
+        double cs = Math.cos(s);
+        double ss = Math.sin(s);
+        double cf = ce * cs - se * ss;
+        double sf = -(se * cs + ce * ss);
+
+        rc2i[offset]     = cf * b00 + sf * b10;
+        rc2i[offset + 1] = cf * b01 + sf * b11;
+        rc2i[offset + 2] = cf * b02;
+        rc2i[offset + 3] = -sf * b00 + cf * b10;
+        rc2i[offset + 4] = -sf * b01 + cf * b11;
+        rc2i[offset + 5] = -sf * b02;
+        rc2i[offset + 6] = b20;
+        rc2i[offset + 7] = b21;
+        rc2i[offset + 8] = b22;
+    }
+
+    /**
+     * Celestial-to-intermediate matrix, see {@link #c2i(double, double, double[], int)}.
+     *
+     * @param rc2i Returned celestial-to-intermediate matrix (row major, 9 elements).
+     */
+    public void c2i(double date1, double date2, double[] rc2i) {
+        c2i(date1, date2, rc2i, 0);
+    }
+
+    /**
+     * Write this table in the binary format of {@link #read}: a header (format, start, span, degree, number of spans
+     * and error) followed by the coefficients, all big-endian.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeDouble(start);
+        out.writeDouble(span);
+        out.writeInt(degree);
+        out.writeInt(spans);
+        out.writeDouble(error);
+        for (double coefficient : coefficients)
+            out.writeDouble(coefficient);
+        out.flush();
+    }
+
+    /**
+     * Read a table written by {@link #write}.
+     *
+     * @throws IOException If the stream cannot be read or does not contain a table.
+     */
+    public static CipTable read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        int magic = in.readInt();
+        if (magic != MAGIC)
+            throw new IOException("Not a CIP table (format " + Integer.toHexString(magic) + ")");
+        double start = in.readDouble();
+        double span  = in.readDouble();
+        int degree   = in.readInt();
+        int spans    = in.readInt();
+        double error = in.readDouble();
+        if (degree < 1 || spans < 1)
+            throw new IOException("Invalid CIP table of " + spans + " spans of degree " + degree);
+
+        double[] coefficients = new double[spans * COMPONENTS * (degree + 1)];
+        for (int i = 0; i < coefficients.length; i++)
+            coefficients[i] = in.readDouble();
+        return new CipTable(start, span, degree, coefficients, error);
+    }
+
+    /** First epoch of the table, TT Julian Date. */
+    public double start() {
+        return start;
+    }
+
+    /** Last epoch of the table, TT Julian Date. */
+    public double end() {
+        return start + spans * span;
+    }
+
+    /** Length of each span, days. */
+    public double span() {
+        return span;
+    }
+
+    /** Degree of the polynomials. */
+    public int degree() {
+        return degree;
+    }
+
+    /** Worst-case difference of X, Y or s with iauXy06 and iauS06, radians. */
+    public double error() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "CipTable[" + start + ", " + end() + "], " + spans + " spans of " + span + " days, degree " + degree
+                + ", max error " + error + " rad";
+    }
+
+    /**
+     * Fit a table and write it to a file, used by the build to generate the {@link #standard()} table.
+     *
+     * @param args Output file, first and last epoch (TT Julian Date) and tolerance (microarcseconds).
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4)
+            throw new IllegalArgumentException("Usage: CipTable <output file> <start JD> <end JD> <tolerance uas>");
+        double tolerance = Double.parseDouble(args[3]) * 4.848136811095359935899141e-12;
+        CipTable table = fit(Double.parseDouble(args[1]), Double.parseDouble(args[2]), tolerance);
+        try (OutputStream out = new FileOutputStream(args[0])) {
+            table.write(out);
+        }
+        System.out.println("Wrote " + table + " to " + args[0]);
+    }
+
+}
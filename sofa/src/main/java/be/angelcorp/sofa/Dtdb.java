@@ -0,0 +1,326 @@
+package be.angelcorp.sofa;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pure-Java evaluation of TDB-TT (the Fairhead &amp; Bretagnon series with the topocentric terms), equivalent to
+ * {@link SofaLibrary#iauDtdb}, optionally with a truncated series:
+ * <pre>
+ * double tdbTt = Dtdb.MICROSECOND.dtdb(tdb1, tdb2, ut, elong, u, v);
+ * Dtdb.NANOSECONDS_10.dtdb(2400000.5, mjds, uts, elong, u, v, tdbTts);    // many epochs
+ * </pre>
+ * The truncations follow the rule of {@link BulkLibrary#fastDtdb}, so that a tolerance means the same in Java and in
+ * native code: within each power of T, the trailing (smallest) terms are left out for as long as their absolute
+ * amplitudes, times |T|<sup>k</sup> at the ends of the range of epochs, add up to at most a fifth of the tolerance. The
+ * tolerance is thus a guaranteed bound of the truncation error, and a series truncated for |T| = m evaluates the same
+ * terms as fastDtdb for an epoch at |T| = m (see {@link BulkLibrary#fastDtdbTerms}). The topocentric terms and the
+ * adjustments to the JPL masses are always evaluated. For the epochs 1900-2100 the presets are:
+ * <table summary="Truncation levels">
+ *     <tr><th>Preset</th><th>Terms</th><th>Maximum deviation from iauDtdb</th></tr>
+ *     <tr><td>{@link #FULL}</td><td>787</td><td>1e-15 s (rounding)</td></tr>
+ *     <tr><td>{@link #NANOSECONDS_10}</td><td>571</td><td>1.3 ns</td></tr>
+ *     <tr><td>{@link #MICROSECOND}</td><td>151</td><td>0.1 &micro;s</td></tr>
+ * </table>
+ * The maximum deviations are measured on a dense grid of epochs; the guaranteed (but pessimistic) bound, the sum of
+ * the omitted amplitudes, is given by {@link #bound()}. Outside of the range of epochs, the T<sup>k</sup> terms grow
+ * and the truncation error may exceed the tolerance.<br>
+ * <br>
+ * The array variant loops over the terms, and for every term over a block of epochs, so that the coefficients stay in
+ * registers and the inner loop is a stride-1 loop that the JIT compiler can unroll (and vectorize, except for the
+ * sine itself). Every epoch is summed in the same order as the single-epoch variant, with identical results.<br>
+ * <br>
+ * This class uses computations derived from the iauDtdb routine of the IAU SOFA software collection (release
+ * 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the
+ * original in the optional truncation of the series and the block-wise evaluation of the array variant only: the
+ * coefficients are read from the dtdb.txt resource that is extracted verbatim from dtdb.c by
+ * src/main/generator/genDtdb.sh, and without truncation the terms are summed in the order of iauDtdb, so the results
+ * agree to the last few bits.<br>
+ * <br>
+ * See iauDtdb (sofa.h) for the description of the model, its arguments and its accuracy.
+ */
+public final class Dtdb {
+
+    /* Constants of sofam.h */
+    private static final double D2PI = 6.283185307179586476925287;
+    private static final double DD2R = 1.745329251994329576923691e-2;
+    private static final double DJ00 = 2451545.0;
+    private static final double DJM = 365250.0;
+
+    /** Julian millennia from J2000.0 to 1900 and 2100, the range of the presets */
+    private static final double PRESET_MILLENNIA = 0.1;
+    /** Epochs per block of the array variant */
+    private static final int BLOCK = 256;
+
+    /** The series of dtdb.c: amplitude (s), frequency (rad/millennium) and phase (rad), and the first term of each power of T */
+    private static final double[] AMPLITUDE, FREQUENCY, PHASE;
+    private static final int[] FIRST;
+
+    static {
+        double[][] fairhd = new double[3][];
+        int[][] first = new int[1][];
+        table(fairhd, first);
+        AMPLITUDE = fairhd[0];
+        FREQUENCY = fairhd[1];
+        PHASE     = fairhd[2];
+        FIRST     = first[0];
+    }
+
+    /** All 787 terms, as iauDtdb */
+    public static final Dtdb FULL = truncated(0.0, PRESET_MILLENNIA);
+    /** Truncated to within 10 nanoseconds of iauDtdb for 1900-2100 */
+    public static final Dtdb NANOSECONDS_10 = truncated(1e-8, PRESET_MILLENNIA);
+    /** Truncated to within 1 microsecond of iauDtdb for 1900-2100 */
+    public static final Dtdb MICROSECOND = truncated(1e-6, PRESET_MILLENNIA);
+
+    private final double tolerance;
+    private final double millennia;
+    private final double bound;
+    /* The retained terms, in the order of dtdb.c, and the first retained term of each power of T */
+    private final double[] amplitude;
+    private final double[] frequency;
+    private final double[] phase;
+    private final int[] first;
+
+    private Dtdb(double tolerance, double millennia, double bound, double[] amplitude, double[] frequency, double[] phase, int[] first) {
+        this.tolerance = tolerance;
+        this.millennia = millennia;
+        this.bound     = bound;
+        this.amplitude = amplitude;
+        this.frequency = frequency;
+        this.phase     = phase;
+        this.first     = first;
+    }
+
+    /**
+     * A series truncated for a tolerance over a range of epochs.
+     *
+     * @param tolerance Tolerance (seconds): the omitted terms add up to at most a fifth of it in each power of T, at
+     *                  the ends of the range, as for {@link BulkLibrary#fastDtdb}. With 0, every term is evaluated.
+     * @param millennia Half the range of the epochs, centered on J2000.0 (Julian millennia, 0.1 for 1900-2100).
+     */
+    public static Dtdb truncated(double tolerance, double millennia) {
+        if (!(tolerance >= 0.0))
+            throw new IllegalArgumentException("The tolerance must be positive or zero, not " + tolerance);
+        if (!(millennia > 0.0))
+            throw new IllegalArgumentException("The range of epochs must be positive, not " + millennia);
+
+        // Within each power of T, leave out the trailing terms for as long as their amplitudes add up to tolerance / 5
+        int n = AMPLITUDE.length;
+        boolean[] omitted = new boolean[n];
+        double budget = tolerance / 5.0, tk = 1.0, bound = 0.0;
+        for (int k = 0; k < 5; k++) {
+            double dropped = 0.0;
+            for (int j = FIRST[k + 1] - 1; j >= FIRST[k]; j--) {
+                dropped += Math.abs(AMPLITUDE[j]) * tk;
+                if (dropped > budget)
+                    break;
+                omitted[j] = true;
+                bound += Math.abs(AMPLITUDE[j]) * tk;
+            }
+            tk *= millennia;
+        }
+
+        // The remaining terms, in their original order
+        double[] amplitude = new double[n], frequency = new double[n], phase = new double[n];
+        int[] first = new int[6];
+        int m = 0;
+        for (int k = 0; k < 5; k++) {
+            first[k] = m;
+            for (int j = FIRST[k]; j < FIRST[k + 1]; j++) {
+                if (omitted[j])
+                    continue;
+                amplitude[m] = AMPLITUDE[j];
+                frequency[m] = FREQUENCY[j];
+                phase[m]     = PHASE[j];
+                m++;
+            }
+        }
+        first[5] = m;
+        return new Dtdb(tolerance, millennia, bound,
+                Arrays.copyOf(amplitude, m), Arrays.copyOf(frequency, m), Arrays.copyOf(phase, m), first);
+    }
+
+    /**
+     * TDB-TT, see {@link SofaLibrary#iauDtdb}.
+     *
+     * @param date1 Date, TDB as a 2-part Julian Date (TT may be used).
+     * @param date2 Date, TDB as a 2-part Julian Date (TT may be used).
+     * @param ut    Universal time (UT1, fraction of one day).
+     * @param elong Longitude (east positive, radians).
+     * @param u     Distance from Earth spin axis (km).
+     * @param v     Distance north of equatorial plane (km).
+     * @return TDB-TT (seconds).
+     */
+    public double dtdb(double date1, double date2, double ut, double elong, double u, double v) {
+        /* Time since J2000.0 in Julian millennia. */
+        double t = ((date1 - DJ00) + date2) / DJM;
+
+        /* Fairhead et al. model, multiplied by powers of T and combined. */
+        double wf = 0.0;
+        for (int k = 4; k >= 0; k--) {
+            double w = 0.0;
+            for (int j = first[k + 1] - 1; j >= first[k]; j--)
+                w += amplitude[j] * Math.sin(frequency[j] * t + phase[j]);
+            wf = wf * t + w;
+        }
+
+        return topocentric(t, ut, elong, u, v) + wf + jpl(t);
+    }
+
+    /**
+     * TDB-TT of many epochs, see {@link #dtdb(double, double, double, double, double, double)}.
+     *
+     * @param date1 Dates, TDB as 2-part Julian Dates: part common to all epochs.
+     * @param date2 Dates, TDB as 2-part Julian Dates: part of every epoch.
+     * @param ut    Universal time of every epoch (UT1, fraction of one day).
+     * @param elong Longitude (east positive, radians).
+     * @param u     Distance from Earth spin axis (km).
+     * @param v     Distance north of equatorial plane (km).
+     * @param dtdb  Returned TDB-TT of every epoch (seconds).
+     */
+    public void dtdb(double date1, double[] date2, double[] ut, double elong, double u, double v, double[] dtdb) {
+        int n = date2.length;
+        if (ut.length < n || dtdb.length < n)
+            throw new IllegalArgumentException("Expected " + n + " universal times and results");
+
+        double[] t  = new double[Math.min(n, BLOCK)];
+        double[] w  = new double[t.length];
+        double[] wf = new double[t.length];
+        for (int from = 0; from < n; from += BLOCK) {
+            int count = Math.min(BLOCK, n - from);
+            for (int i = 0; i < count; i++) {
+                t[i] = ((date1 - DJ00) + date2[from + i]) / DJM;
+                wf[i] = 0.0;
+            }
+            for (int k = 4; k >= 0; k--) {
+                Arrays.fill(w, 0, count, 0.0);
+                for (int j = first[k + 1] - 1; j >= first[k]; j--) {
+                    double a = amplitude[j], f = frequency[j], p = phase[j];
+                    for (int i = 0; i < count; i++)
+                        w[i] += a * Math.sin(f * t[i] + p);
+                }
+                for (int i = 0; i < count; i++)
+                    wf[i] = wf[i] * t[i] + w[i];
+            }
+            for (int i = 0; i < count; i++)
+                dtdb[from + i] = topocentric(t[i], ut[from + i], elong, u, v) + wf[i] + jpl(t[i]);
+        }
+    }
+
+    /** The topocentric terms (Moyer 1981 and Murray 1983), zero for the geocenter */
+    private static double topocentric(double t, double ut, double elong, double u, double v) {
+        if (u == 0.0 && v == 0.0)
+            return 0.0;
+
+        /* Convert UT to local solar time in radians. */
+        double tsol = (ut % 1.0) * D2PI + elong;
+
+        /* FUNDAMENTAL ARGUMENTS:  Simon et al. 1994. */
+
+        /* Combine time argument (millennia) with deg/arcsec factor. */
+        double w = t / 3600.0;
+
+        /* Sun Mean Longitude. */
+        double elsun = ((280.46645683 + 1296027711.03429 * w) % 360.0) * DD2R;
+
+        /* Sun Mean Anomaly. */
+        double emsun = ((357.52910918 + 1295965810.481 * w) % 360.0) * DD2R;
+
+        /* Mean Elongation of Moon from Sun. */
+        double d = ((297.85019547 + 16029616012.090 * w) % 360.0) * DD2R;
+
+        /* Mean Longitude of Jupiter. */
+        double elj = ((34.35151874 + 109306899.89453 * w) % 360.0) * DD2R;
+
+        /* Mean Longitude of Saturn. */
+        double els = ((50.07744430 + 44046398.47038 * w) % 360.0) * DD2R;
+
+        /* TOPOCENTRIC TERMS:  Moyer 1981 and Murray 1983. */
+        return +  0.00029e-10 * u * Math.sin(tsol + elsun - els)
+               +  0.00100e-10 * u * Math.sin(tsol - 2.0 * emsun)
+               +  0.00133e-10 * u * Math.sin(tsol - d)
+               +  0.00133e-10 * u * Math.sin(tsol + elsun - elj)
+               -  0.00229e-10 * u * Math.sin(tsol + 2.0 * elsun + emsun)
+               -  0.02200e-10 * v * Math.cos(elsun + emsun)
+               +  0.05312e-10 * u * Math.sin(tsol - emsun)
+               -  0.13677e-10 * u * Math.sin(tsol + 2.0 * elsun)
+               -  1.31840e-10 * v * Math.cos(elsun)
+               +  3.17679e-10 * u * Math.sin(tsol);
+    }
+
+    /** Adjustments to use JPL planetary masses instead of IAU */
+    private static double jpl(double t) {
+        return    0.00065e-6 * Math.sin(6069.776754 * t + 4.021194) +
+                  0.00033e-6 * Math.sin( 213.299095 * t + 5.543132) +
+                (-0.00196e-6 * Math.sin(6208.294251 * t + 5.696701)) +
+                (-0.00173e-6 * Math.sin(  74.781599 * t + 2.435900)) +
+                  0.03638e-6 * t * t;
+    }
+
+    /** Tolerance of the truncation (seconds), 0 for the full series. */
+    public double tolerance() {
+        return tolerance;
+    }
+
+    /** Half the range of epochs of the truncation, centered on J2000.0 (Julian millennia). */
+    public double millennia() {
+        return millennia;
+    }
+
+    /** Upper bound of the truncation error within the range of epochs: the sum of the omitted amplitudes (seconds). */
+    public double bound() {
+        return bound;
+    }
+
+    /** Number of terms of the Fairhead &amp; Bretagnon series that are evaluated. */
+    public int terms() {
+        return amplitude.length;
+    }
+
+    @Override
+    public String toString() {
+        return "Dtdb{" + terms() + " terms, tolerance " + tolerance + " s for |T| <= " + millennia + " millennia}";
+    }
+
+    /**
+     * Read the series from the dtdb.txt resource.
+     */
+    private static void table(double[][] fairhd, int[][] first) {
+        try (InputStream stream = Dtdb.class.getResourceAsStream("dtdb.txt")) {
+            if (stream == null)
+                throw new IllegalStateException("Cannot find the TDB-TT series resource dtdb.txt");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.US_ASCII));
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] header = line.trim().split("\\s+");
+                if (header[0].equals("first")) {
+                    first[0] = new int[header.length - 1];
+                    for (int k = 1; k < header.length; k++)
+                        first[0][k - 1] = Integer.parseInt(header[k]);
+                } else if (header[0].equals("fairhd")) {
+                    int rows = Integer.parseInt(header[1]);
+                    for (int column = 0; column < 3; column++)
+                        fairhd[column] = new double[rows];
+                    for (int row = 0; row < rows; row++) {
+                        String[] values = reader.readLine().trim().split("\\s+");
+                        if (values.length != 3)
+                            throw new IllegalStateException("Invalid term " + row + " in the TDB-TT series: " + String.join(" ", values));
+                        for (int column = 0; column < 3; column++)
+                            fairhd[column][row] = Double.parseDouble(values[column]);
+                    }
+                }
+            }
+            if (first[0] == null || first[0].length != 6 || fairhd[0] == null || first[0][5] != fairhd[0].length)
+                throw new IllegalStateException("Invalid TDB-TT series resource dtdb.txt");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read the TDB-TT series resource dtdb.txt", e);
+        }
+    }
+
+}
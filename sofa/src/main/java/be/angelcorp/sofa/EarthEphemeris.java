@@ -0,0 +1,251 @@
+package be.angelcorp.sofa;
+
+/**
+ * Heliocentric and barycentric position and velocity of the Earth from piecewise Chebyshev polynomials fitted to
+ * {@link SofaLibrary#iauEpv00}, evaluated in pure Java.<br>
+ * <br>
+ * iauEpv00 sums long Poisson series on every call. For many (closely spaced) epochs, this class fits the positions
+ * once, span by span, and evaluates the polynomials and their derivatives instead:
+ * <pre>
+ * EarthEphemeris earth = EarthEphemeris.fit(2451545.0, 2451545.0 + 3650.0, 8.0, 13);
+ * earth.pv(2451545.0, 123.456, pvh, pvb);
+ * System.out.println(earth.positionError() + " au, " + earth.velocityError() + " au/d");
+ * </pre>
+ * In every span, the x, y and z components of the heliocentric and barycentric positions are interpolated at the
+ * Chebyshev nodes of the span (a near-minimax fit). The velocities are the derivatives of these polynomials, so
+ * position and velocity are consistent. The coefficients are kept in one compact array, see {@link #coefficients()},
+ * which can be stored and reused with {@link #EarthEphemeris(double, double, int, double[])}.<br>
+ * <br>
+ * The fit reports its worst-case difference with iauEpv00 (in position and in velocity), sampled at points between
+ * the interpolation nodes, see {@link #positionError()} and {@link #velocityError()}. This is only the interpolation
+ * error: the accuracy of iauEpv00 itself (a few km for the heliocentric position) still applies. With spans of 8 days
+ * and degree 13 the interpolation error is below 1 cm and 1 mm/s.
+ */
+public final class EarthEphemeris {
+
+    /** Interpolated components per span: heliocentric x, y, z, then barycentric x, y, z */
+    private static final int COMPONENTS = 6;
+
+    private final double start;
+    private final double span;
+    private final int degree;
+    private final int spans;
+    private final double[] coefficients;
+
+    private final double positionError;
+    private final double velocityError;
+    private final double worstEpoch;
+
+    /**
+     * Create an ephemeris from previously fitted coefficients (see {@link #coefficients()}). The error estimates are
+     * not known and reported as NaN, use {@link #fit} or {@link #check} to compute them.
+     *
+     * @param start        First epoch of the first span, TDB Julian Date.
+     * @param span         Length of each span, days.
+     * @param degree       Degree of the polynomials.
+     * @param coefficients Coefficients, (degree + 1) per component, 6 components per span.
+     */
+    public EarthEphemeris(double start, double span, int degree, double[] coefficients) {
+        this(start, span, degree, coefficients.clone(), Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private EarthEphemeris(double start, double span, int degree, double[] coefficients,
+                           double positionError, double velocityError, double worstEpoch) {
+        if (!(span > 0.0))
+            throw new IllegalArgumentException("The span must be positive, not " + span);
+        if (degree < 1)
+            throw new IllegalArgumentException("The degree must be at least 1, not " + degree);
+        int perSpan = COMPONENTS * (degree + 1);
+        if (coefficients.length == 0 || coefficients.length % perSpan != 0)
+            throw new IllegalArgumentException("Expected a multiple of " + perSpan + " coefficients, not " + coefficients.length);
+
+        this.start         = start;
+        this.span          = span;
+        this.degree        = degree;
+        this.spans         = coefficients.length / perSpan;
+        this.coefficients  = coefficients;
+        this.positionError = positionError;
+        this.velocityError = velocityError;
+        this.worstEpoch    = worstEpoch;
+    }
+
+    /**
+     * Fit the ephemeris to iauEpv00 over [start, end], and check it against iauEpv00 at 4 * (degree + 1) points per
+     * span.
+     *
+     * @param start  First epoch, TDB Julian Date.
+     * @param end    Last epoch, TDB Julian Date (rounded up to a whole number of spans).
+     * @param span   Length of each span, days.
+     * @param degree Degree of the polynomials.
+     */
+    public static EarthEphemeris fit(double start, double end, double span, int degree) {
+        if (!(end > start))
+            throw new IllegalArgumentException("The end (" + end + ") must be after the start (" + start + ")");
+        if (!(span > 0.0))
+            throw new IllegalArgumentException("The span must be positive, not " + span);
+        if (degree < 1)
+            throw new IllegalArgumentException("The degree must be at least 1, not " + degree);
+
+        int n = degree + 1;
+        int spans = (int) Math.ceil((end - start) / span);
+        double[] coefficients = new double[spans * COMPONENTS * n];
+
+        double[] nodes = Chebyshev.nodes(n);
+        double[] pvh = new double[6];
+        double[] pvb = new double[6];
+        double[] values = new double[COMPONENTS * n];
+        for (int s = 0; s < spans; s++) {
+            double offset = s * span;
+            for (int k = 0; k < n; k++) {
+                SofaArrays.iauEpv00(start, offset + 0.5 * span * (nodes[k] + 1.0), pvh, pvb);
+                for (int c = 0; c < 3; c++) {
+                    values[c * n + k]       = pvh[c];
+                    values[(c + 3) * n + k] = pvb[c];
+                }
+            }
+            for (int c = 0; c < COMPONENTS; c++)
+                Chebyshev.fit(values, c * n, n, coefficients, (s * COMPONENTS + c) * n);
+        }
+
+        EarthEphemeris fitted = new EarthEphemeris(start, span, degree, coefficients, Double.NaN, Double.NaN, Double.NaN);
+        return fitted.check(4 * n);
+    }
+
+    /**
+     * Compare this ephemeris with iauEpv00 at the given number of (equally spaced, between the nodes) points per span.
+     *
+     * @return A copy of this ephemeris with the worst-case errors at these points.
+     */
+    public EarthEphemeris check(int samplesPerSpan) {
+        double[] pvh = new double[6];
+        double[] pvb = new double[6];
+        double[] fh  = new double[6];
+        double[] fb  = new double[6];
+
+        double maxPosition = 0.0;
+        double maxVelocity = 0.0;
+        double worst = start;
+        for (int s = 0; s < spans; s++) {
+            for (int i = 0; i < samplesPerSpan; i++) {
+                double offset = s * span + span * (i + 0.5) / samplesPerSpan;
+                SofaArrays.iauEpv00(start, offset, pvh, pvb);
+                pv(start, offset, fh, fb);
+
+                double position = Math.max(distance(pvh, fh, 0), distance(pvb, fb, 0));
+                double velocity = Math.max(distance(pvh, fh, 3), distance(pvb, fb, 3));
+                if (position > maxPosition) {
+                    maxPosition = position;
+                    worst = start + offset;
+                }
+                maxVelocity = Math.max(maxVelocity, velocity);
+            }
+        }
+        return new EarthEphemeris(start, span, degree, coefficients, maxPosition, maxVelocity, worst);
+    }
+
+    /**
+     * Earth position and velocity, heliocentric and barycentric, with respect to the BCRS, see
+     * {@link SofaLibrary#iauEpv00}.
+     *
+     * @param date1 TDB as a 2-part Julian Date.
+     * @param date2 TDB as a 2-part Julian Date.
+     * @param pvh   Returned heliocentric position (au) and velocity (au/day), 6 elements.
+     * @param pvb   Returned barycentric position (au) and velocity (au/day), 6 elements.
+     * @throws IllegalArgumentException If the epoch is outside of the fitted spans.
+     */
+    public void pv(double date1, double date2, double[] pvh, double[] pvb) {
+        pv(date1, date2, pvh, 0, pvb, 0);
+    }
+
+    /**
+     * Earth position and velocity, heliocentric and barycentric, see {@link #pv(double, double, double[], double[])}.
+     *
+     * @param pvhOffset Index in pvh of the first returned element.
+     * @param pvbOffset Index in pvb of the first returned element.
+     */
+    public void pv(double date1, double date2, double[] pvh, int pvhOffset, double[] pvb, int pvbOffset) {
+        double offset = (date1 - start) + date2;
+        int s = Chebyshev.span(offset, span, spans, start);
+
+        double x = 2.0 * (offset - s * span) / span - 1.0;
+        double scale = 2.0 / span;
+        int n = degree + 1;
+        int base = s * COMPONENTS * n;
+        for (int c = 0; c < 3; c++) {
+            Chebyshev.valueAndDerivative(coefficients, base + c * n, degree, x, scale, pvh, pvhOffset + c);
+            Chebyshev.valueAndDerivative(coefficients, base + (c + 3) * n, degree, x, scale, pvb, pvbOffset + c);
+        }
+    }
+
+    /**
+     * Earth position and velocity for many epochs, see {@link #pv(double, double, double[], double[])}.
+     *
+     * @param date1 First part of all TDB epochs.
+     * @param date2 Second part of the TDB epochs.
+     * @param pvh   Returned heliocentric position and velocity, 6 elements per epoch.
+     * @param pvb   Returned barycentric position and velocity, 6 elements per epoch.
+     */
+    public void pv(double date1, double[] date2, double[] pvh, double[] pvb) {
+        if (pvh.length < 6 * date2.length || pvb.length < 6 * date2.length)
+            throw new IllegalArgumentException("pvh and pvb must hold 6 elements per epoch");
+        for (int i = 0; i < date2.length; i++)
+            pv(date1, date2[i], pvh, 6 * i, pvb, 6 * i);
+    }
+
+    private static double distance(double[] a, double[] b, int offset) {
+        double dx = a[offset] - b[offset];
+        double dy = a[offset + 1] - b[offset + 1];
+        double dz = a[offset + 2] - b[offset + 2];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /** First epoch of the ephemeris, TDB Julian Date. */
+    public double start() {
+        return start;
+    }
+
+    /** Last epoch of the ephemeris, TDB Julian Date. */
+    public double end() {
+        return start + spans * span;
+    }
+
+    /** Length of each span, days. */
+    public double span() {
+        return span;
+    }
+
+    /** Degree of the polynomials. */
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * Copy of the coefficients: for every span, for the heliocentric x, y, z and the barycentric x, y, z positions,
+     * the degree + 1 Chebyshev coefficients (au) over the span mapped to [-1, 1].
+     */
+    public double[] coefficients() {
+        return coefficients.clone();
+    }
+
+    /** Worst-case difference in position (heliocentric or barycentric) with iauEpv00, au, or NaN if not checked. */
+    public double positionError() {
+        return positionError;
+    }
+
+    /** Worst-case difference in velocity (heliocentric or barycentric) with iauEpv00, au/day, or NaN if not checked. */
+    public double velocityError() {
+        return velocityError;
+    }
+
+    /** TDB Julian Date of the worst-case position difference, or NaN if not checked. */
+    public double worstEpoch() {
+        return worstEpoch;
+    }
+
+    @Override
+    public String toString() {
+        return "EarthEphemeris[" + start + ", " + end() + "], " + spans + " spans of " + span + " days, degree " + degree
+                + ", max error " + positionError + " au, " + velocityError + " au/d";
+    }
+
+}
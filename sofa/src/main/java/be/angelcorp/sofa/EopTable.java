@@ -0,0 +1,263 @@
+package be.angelcorp.sofa;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Daily Earth orientation parameters (polar motion, UT1-UTC and the celestial pole offsets dX, dY), read from an IERS
+ * finals2000A file ({@link #readFinals2000A}) or an EOP C04 series ({@link #readC04}) into primitive arrays, and
+ * interpolated at any UTC epoch in the table:
+ * <pre>
+ * EopTable eop = EopTable.readFinals2000A(Paths.get("finals2000A.all"));
+ * double[] values = new double[EopTable.VALUES];
+ * eop.interpolate(53736.25, values, null);
+ * SofaArrays.iauPom00(values[EopTable.XP], values[EopTable.YP], sp, rpom);
+ * </pre>
+ * The values are interpolated with the 4-point Lagrange polynomial through the days around the epoch, as in the
+ * IERS interpolation routines (without the tidal corrections of the IERS Conventions). Since the days are
+ * consecutive, the nodes are found with a subtraction, and an interpolation takes a few dozen floating point
+ * operations. UT1-UTC jumps at the leap seconds, so the table holds UT1-TAI, which is continuous, and adds TAI-UTC
+ * ({@link LeapSeconds}) of the epoch back.<br>
+ * <br>
+ * A table is immutable, and can be shared by any number of threads.
+ */
+public final class EopTable {
+
+    /** Index of the x coordinate of the pole (radians) in the interpolated values. */
+    public static final int XP = 0;
+    /** Index of the y coordinate of the pole (radians) in the interpolated values. */
+    public static final int YP = 1;
+    /** Index of UT1-UTC (seconds) in the interpolated values. */
+    public static final int DUT1 = 2;
+    /** Index of the celestial pole offset dX (radians, wrt IAU 2006/2000A) in the interpolated values. */
+    public static final int DX = 3;
+    /** Index of the celestial pole offset dY (radians, wrt IAU 2006/2000A) in the interpolated values. */
+    public static final int DY = 4;
+    /** Index of UT1-TAI (seconds) in the interpolated values. */
+    public static final int UT1_TAI = 5;
+    /** Number of interpolated values. */
+    public static final int VALUES = 6;
+
+    /** Arcseconds to radians */
+    private static final double DAS2R = 4.848136811095359935899141e-6;
+    /** Seconds per day */
+    private static final double DAYSEC = 86400.0;
+    /** Julian Day Number of MJD 0 */
+    private static final long MJD_JDN = 2400001L;
+
+    private final double first;
+    private final double[] xp;
+    private final double[] yp;
+    private final double[] ut1tai;
+    private final double[] dx;
+    private final double[] dy;
+
+    /**
+     * @param first MJD (UTC) of the first day, an integer.
+     * @param xp    x coordinate of the pole of each consecutive day (radians).
+     * @param yp    y coordinate of the pole (radians).
+     * @param dut1  UT1-UTC (seconds).
+     * @param dx    Celestial pole offset dX wrt IAU 2006/2000A (radians).
+     * @param dy    Celestial pole offset dY wrt IAU 2006/2000A (radians).
+     */
+    public EopTable(double first, double[] xp, double[] yp, double[] dut1, double[] dx, double[] dy) {
+        int n = xp.length;
+        if (n < 4)
+            throw new IllegalArgumentException("The table must hold at least 4 days, not " + n);
+        if (yp.length != n || dut1.length != n || dx.length != n || dy.length != n)
+            throw new IllegalArgumentException("All arrays must hold " + n + " days");
+        if (first != Math.floor(first))
+            throw new IllegalArgumentException("The first day must be an integer MJD, not " + first);
+
+        this.first  = first;
+        this.xp     = xp.clone();
+        this.yp     = yp.clone();
+        this.ut1tai = new double[n];
+        this.dx     = dx.clone();
+        this.dy     = dy.clone();
+        for (int i = 0; i < n; i++)
+            ut1tai[i] = dut1[i] - TimeScale.dat((long) first + i + MJD_JDN, 0.0);
+    }
+
+    /**
+     * Read the Bulletin A values of an IERS finals2000A file (finals2000A.all, .data or .daily, with the fixed columns
+     * of readme.finals2000A). The table ends at the last day with both polar motion and UT1-UTC; days without the
+     * celestial pole offsets (at the end of the predictions) get zero offsets.
+     *
+     * @throws IOException If the file cannot be read, or does not contain consecutive days.
+     */
+    public static EopTable readFinals2000A(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            Columns columns = new Columns();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty())
+                    continue;
+                String x = field(line, 18, 27), ut1 = field(line, 58, 68);
+                if (x.isEmpty() || ut1.isEmpty())
+                    break;
+                String dx = field(line, 97, 106), dy = field(line, 116, 125);
+                columns.add(file, parse(file, field(line, 7, 15)),
+                        parse(file, x) * DAS2R,
+                        parse(file, field(line, 37, 46)) * DAS2R,
+                        parse(file, ut1),
+                        dx.isEmpty() ? 0.0 : parse(file, dx) * DAS2R / 1000.0,
+                        dy.isEmpty() ? 0.0 : parse(file, dy) * DAS2R / 1000.0);
+            }
+            return columns.table(file);
+        }
+    }
+
+    /**
+     * Read an IERS EOP C04 series (EOP 14 C04 or EOP 20 C04, whitespace separated columns starting with the date).
+     * Header and comment lines, which do not start with a digit, are skipped.
+     *
+     * @throws IOException If the file cannot be read, or does not contain consecutive days.
+     */
+    public static EopTable readC04(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            Columns columns = new Columns();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || !Character.isDigit(trimmed.charAt(0)))
+                    continue;
+                String[] tokens = trimmed.split("\\s+");
+                if (tokens.length < 10)
+                    throw new IOException("Expected at least 10 columns in " + file + ": " + line);
+                // EOP 20 C04 has the hour after the day, EOP 14 C04 the MJD
+                int o = (tokens.length > 10 && parse(file, tokens[3]) < 24.0) ? 1 : 0;
+                columns.add(file, parse(file, tokens[3 + o]),
+                        parse(file, tokens[4 + o]) * DAS2R,
+                        parse(file, tokens[5 + o]) * DAS2R,
+                        parse(file, tokens[6 + o]),
+                        parse(file, tokens[8]) * DAS2R,
+                        parse(file, tokens[9]) * DAS2R);
+            }
+            return columns.table(file);
+        }
+    }
+
+    /**
+     * Interpolate the Earth orientation parameters at a UTC epoch.
+     *
+     * @param mjd    UTC epoch as a Modified Julian Date.
+     * @param values Returned values, at the indices {@link #XP}, {@link #YP}, {@link #DUT1}, {@link #DX}, {@link #DY}
+     *               and {@link #UT1_TAI} ({@value #VALUES} elements).
+     * @param rates  Returned rates of change of the values (per SI second), or null.
+     * @throws IllegalArgumentException If the epoch is outside of the table.
+     */
+    public void interpolate(double mjd, double[] values, double[] rates) {
+        double u = mjd - first;
+        int n = xp.length;
+        if (!(u >= 0.0 && u <= n - 1))
+            throw new IllegalArgumentException("MJD " + mjd + " is outside of the EOP table [" + first + ", " + lastMjd() + "]");
+
+        // Nodes i .. i+3, with the epoch between the middle two where possible
+        int day = Math.min((int) u, n - 1);
+        int i = Math.max(0, Math.min(day - 1, n - 4));
+        double p  = u - i;
+        double p0 = p, p1 = p - 1.0, p2 = p - 2.0, p3 = p - 3.0;
+        double w0 = -p1 * p2 * p3 / 6.0;
+        double w1 =  p0 * p2 * p3 / 2.0;
+        double w2 = -p0 * p1 * p3 / 2.0;
+        double w3 =  p0 * p1 * p2 / 6.0;
+
+        values[XP]      = w0 * xp[i]     + w1 * xp[i + 1]     + w2 * xp[i + 2]     + w3 * xp[i + 3];
+        values[YP]      = w0 * yp[i]     + w1 * yp[i + 1]     + w2 * yp[i + 2]     + w3 * yp[i + 3];
+        values[DX]      = w0 * dx[i]     + w1 * dx[i + 1]     + w2 * dx[i + 2]     + w3 * dx[i + 3];
+        values[DY]      = w0 * dy[i]     + w1 * dy[i + 1]     + w2 * dy[i + 2]     + w3 * dy[i + 3];
+        values[UT1_TAI] = w0 * ut1tai[i] + w1 * ut1tai[i + 1] + w2 * ut1tai[i + 2] + w3 * ut1tai[i + 3];
+        values[DUT1]    = values[UT1_TAI] + TimeScale.dat((long) first + day + MJD_JDN, u - day);
+
+        if (rates != null) {
+            // Derivatives of the weights, per day (of 86401 seconds on the day of a positive leap second)
+            long jdn = (long) first + day + MJD_JDN;
+            double seconds = DAYSEC + TimeScale.dat(jdn + 1, 0.0) - TimeScale.dat(jdn, 0.0);
+            double d0 = -(p2 * p3 + p1 * p3 + p1 * p2) / 6.0;
+            double d1 =  (p2 * p3 + p0 * p3 + p0 * p2) / 2.0;
+            double d2 = -(p1 * p3 + p0 * p3 + p0 * p1) / 2.0;
+            double d3 =  (p1 * p2 + p0 * p2 + p0 * p1) / 6.0;
+            rates[XP]      = (d0 * xp[i]     + d1 * xp[i + 1]     + d2 * xp[i + 2]     + d3 * xp[i + 3])     / seconds;
+            rates[YP]      = (d0 * yp[i]     + d1 * yp[i + 1]     + d2 * yp[i + 2]     + d3 * yp[i + 3])     / seconds;
+            rates[DX]      = (d0 * dx[i]     + d1 * dx[i + 1]     + d2 * dx[i + 2]     + d3 * dx[i + 3])     / seconds;
+            rates[DY]      = (d0 * dy[i]     + d1 * dy[i + 1]     + d2 * dy[i + 2]     + d3 * dy[i + 3])     / seconds;
+            rates[UT1_TAI] = (d0 * ut1tai[i] + d1 * ut1tai[i + 1] + d2 * ut1tai[i + 2] + d3 * ut1tai[i + 3]) / seconds;
+            rates[DUT1]    = rates[UT1_TAI];
+        }
+    }
+
+    /** MJD (UTC) of the first day of the table. */
+    public double firstMjd() {
+        return first;
+    }
+
+    /** MJD (UTC) of the last day of the table. */
+    public double lastMjd() {
+        return first + xp.length - 1;
+    }
+
+    /** Number of days in the table. */
+    public int days() {
+        return xp.length;
+    }
+
+    @Override
+    public String toString() {
+        return "EopTable[MJD " + first + " - " + lastMjd() + "]";
+    }
+
+    /** Columns from + 1 to 'to' (1-based, as in readme.finals2000A) of a fixed format line, trimmed */
+    private static String field(String line, int from, int to) {
+        if (from >= line.length())
+            return "";
+        return line.substring(from, Math.min(to, line.length())).trim();
+    }
+
+    private static double parse(Path file, String value) throws IOException {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number '" + value + "' in " + file, e);
+        }
+    }
+
+    /** Growing columns of consecutive days */
+    private static final class Columns {
+        int n;
+        double first;
+        double[] xp = new double[1024], yp = new double[1024], dut1 = new double[1024], dx = new double[1024], dy = new double[1024];
+
+        void add(Path file, double mjd, double xp, double yp, double dut1, double dx, double dy) throws IOException {
+            if (n == 0)
+                first = mjd;
+            else if (mjd != first + n)
+                throw new IOException("Expected MJD " + (first + n) + " after MJD " + (first + n - 1) + " in " + file + ", not " + mjd);
+            if (n == this.xp.length) {
+                this.xp   = Arrays.copyOf(this.xp, 2 * n);
+                this.yp   = Arrays.copyOf(this.yp, 2 * n);
+                this.dut1 = Arrays.copyOf(this.dut1, 2 * n);
+                this.dx   = Arrays.copyOf(this.dx, 2 * n);
+                this.dy   = Arrays.copyOf(this.dy, 2 * n);
+            }
+            this.xp[n]   = xp;
+            this.yp[n]   = yp;
+            this.dut1[n] = dut1;
+            this.dx[n]   = dx;
+            this.dy[n]   = dy;
+            n++;
+        }
+
+        EopTable table(Path file) throws IOException {
+            if (n < 4)
+                throw new IOException("Expected at least 4 days of EOP in " + file + ", not " + n);
+            return new EopTable(first, Arrays.copyOf(xp, n), Arrays.copyOf(yp, n), Arrays.copyOf(dut1, n),
+                    Arrays.copyOf(dx, n), Arrays.copyOf(dy, n));
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package be.angelcorp.sofa;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of values computed from an epoch, used by {@link PnMatrixCache}, {@link SiderealTime} and
+ * {@link TerrestrialFrameService}.<br>
+ * <br>
+ * The values are keyed either by the exact 2-part epoch ({@link #exact}), or by the index of an epoch bucket
+ * ({@link #bucket}), whose value is that of the start of the bucket. The cache is a direct-mapped table of immutable
+ * entries: consecutive buckets occupy consecutive slots, exact epochs are hashed to a slot, and a new entry replaces
+ * the one in its slot. Lookups and updates are lock-free (one volatile read, or write, per lookup), so the cache can
+ * be shared by any number of threads; concurrent misses on the same key may each compute the value. The values must
+ * not be modified once computed.
+ *
+ * @param <V> Type of the cached values.
+ */
+final class EpochCache<V> {
+
+    /** Computation of the value of an epoch. */
+    interface Computation<V> {
+        V compute(double date1, double date2);
+    }
+
+    /** Reference epoch (J2000.0), Julian Date */
+    private static final double DJ00 = 2451545.0;
+
+    private final Computation<V> computation;
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int mask;
+
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity    Maximum number of values kept (rounded up to a power of two).
+     * @param computation Computation of the value of an epoch.
+     */
+    EpochCache(int capacity, Computation<V> computation) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30, not " + capacity);
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity)
+            slots <<= 1;
+        this.computation = computation;
+        this.entries     = new AtomicReferenceArray<>(slots);
+        this.mask        = slots - 1;
+    }
+
+    /** The value of an exact epoch. */
+    V exact(double date1, double date2) {
+        long bits = 31 * Double.doubleToLongBits(date1) + Double.doubleToLongBits(date2);
+        int slot = (int) (bits ^ (bits >>> 32) ^ (bits >>> 17)) & mask;
+        Entry<V> entry = entries.get(slot);
+        if (entry != null && entry.date1 == date1 && entry.date2 == date2) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        entry = new Entry<>(0, date1, date2, computation.compute(date1, date2));
+        entries.set(slot, entry);
+        return entry.value;
+    }
+
+    /**
+     * The value of the start of an epoch bucket.
+     *
+     * @param bucket  Index of the bucket, the number of quanta since J2000.0.
+     * @param quantum Length of the buckets (days), the same for every call.
+     */
+    V bucket(long bucket, double quantum) {
+        int slot = (int) bucket & mask;
+        Entry<V> entry = entries.get(slot);
+        if (entry != null && entry.bucket == bucket) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        double days = bucket * quantum;
+        double midnight = Math.floor(days - 0.5) + 0.5;
+        double date1 = DJ00 + midnight, date2 = days - midnight;
+        entry = new Entry<>(bucket, date1, date2, computation.compute(date1, date2));
+        entries.set(slot, entry);
+        return entry.value;
+    }
+
+    /** Number of lookups that found a cached value. */
+    long hits() {
+        return hits.sum();
+    }
+
+    /** Number of lookups that had to compute the value. */
+    long misses() {
+        return misses.sum();
+    }
+
+    /** Number of values currently cached. */
+    int size() {
+        int size = 0;
+        for (int i = 0; i < entries.length(); i++)
+            if (entries.get(i) != null)
+                size++;
+        return size;
+    }
+
+    /** Maximum number of values kept. */
+    int capacity() {
+        return entries.length();
+    }
+
+    /** Remove all cached values (the hit and miss counts are kept). */
+    void clear() {
+        for (int i = 0; i < entries.length(); i++)
+            entries.set(i, null);
+    }
+
+    /** Cached value of an epoch (and of its bucket, when quantized); immutable once published */
+    private static final class Entry<V> {
+        final long bucket;
+        final double date1;
+        final double date2;
+        final V value;
+
+        Entry(long bucket, double date1, double date2, V value) {
+            this.bucket = bucket;
+            this.date1  = date1;
+            this.date2  = date2;
+            this.value  = value;
+        }
+    }
+
+}
@@ -0,0 +1,325 @@
+package be.angelcorp.sofa;
+
+/**
+ * Pure-Java transformations between geocentric and geodetic coordinates, for arrays of positions on the same
+ * ellipsoid: {@link SofaLibrary#iauGc2gd}, {@link SofaLibrary#iauGc2gde}, {@link SofaLibrary#iauGd2gc} and
+ * {@link SofaLibrary#iauGd2gce}.<br>
+ * <br>
+ * The geodetic coordinates (longitude, latitude and height) are always separate arrays. The geocentric vectors are
+ * either three arrays (x, y and z) or one interleaved array (x, y, z of position 0, then of position 1, ...); the
+ * number of positions is the length of the given arrays. The ellipsoid is resolved once per call, and the closed-form
+ * geocentric to geodetic algorithm of Fukushima (2006), as implemented by iauGc2gde, is split into a loop with only
+ * arithmetic and square roots, which the JIT compiler can vectorize for separate arrays, and a loop with the
+ * arctangents. See {@link BulkLibrary#bulkGc2gd(int, double[], double[], double[], double[], double[], double[], int[])}
+ * for the same transformations in the native library.<br>
+ * <br>
+ * The arithmetic is that of the C code, in the same order; the arctangents, sines and cosines use {@link Math}, which
+ * may differ from the C library by an ulp.<br>
+ * <br>
+ * This class uses computations derived from the GeodeticGeocentric routines of the IAU SOFA software collection
+ * (release 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from
+ * the original in that it operates on arrays of positions, and evaluates the latitude in a separate pass.
+ */
+public final class Geodetic {
+
+    /** Reference ellipsoid WGS84, see {@link SofaLibrary#iauEform}. */
+    public static final int WGS84 = 1;
+    /** Reference ellipsoid GRS80, see {@link SofaLibrary#iauEform}. */
+    public static final int GRS80 = 2;
+    /** Reference ellipsoid WGS72, see {@link SofaLibrary#iauEform}. */
+    public static final int WGS72 = 3;
+
+    /* Pi, as in sofam.h */
+    private static final double DPI = 3.141592653589793238462643;
+
+    private Geodetic() {
+    }
+
+    /**
+     * Equatorial radius of a reference ellipsoid, see {@link SofaLibrary#iauEform}.
+     *
+     * @param n Ellipsoid identifier ({@link #WGS84}, {@link #GRS80} or {@link #WGS72}).
+     * @return Equatorial radius (meters), or 0 for an illegal identifier.
+     */
+    public static double equatorialRadius(int n) {
+        switch (n) {
+            case WGS84: return 6378137.0;
+            case GRS80: return 6378137.0;
+            case WGS72: return 6378135.0;
+            default:    return 0.0;
+        }
+    }
+
+    /**
+     * Flattening of a reference ellipsoid, see {@link SofaLibrary#iauEform}.
+     *
+     * @param n Ellipsoid identifier ({@link #WGS84}, {@link #GRS80} or {@link #WGS72}).
+     * @return Flattening, or 0 for an illegal identifier.
+     */
+    public static double flattening(int n) {
+        switch (n) {
+            case WGS84: return 1.0 / 298.257223563;
+            case GRS80: return 1.0 / 298.257222101;
+            case WGS72: return 1.0 / 298.26;
+            default:    return 0.0;
+        }
+    }
+
+    /**
+     * Geocentric to geodetic on a reference ellipsoid, see {@link SofaLibrary#iauGc2gd}. When the status is not 0, all
+     * returned coordinates are -1e9.
+     *
+     * @param n      Ellipsoid identifier.
+     * @param x      Geocentric x (meters) of every position.
+     * @param y      Geocentric y (meters).
+     * @param z      Geocentric z (meters).
+     * @param elong  Returned longitude (radians, east +ve).
+     * @param phi    Returned geodetic latitude (radians).
+     * @param height Returned geodetic height above ellipsoid (meters).
+     * @return Status (for all positions): 0 = OK, -1 = illegal identifier, -2 = internal error.
+     */
+    public static int gc2gd(int n, double[] x, double[] y, double[] z, double[] elong, double[] phi, double[] height) {
+        return gc2gd(n, x, 0, y, 0, z, 0, 1, x.length, elong, phi, height);
+    }
+
+    /**
+     * Geocentric to geodetic on a reference ellipsoid, for interleaved geocentric vectors, see
+     * {@link #gc2gd(int, double[], double[], double[], double[], double[], double[])}.
+     *
+     * @param xyz Geocentric x, y, z (meters) of every position.
+     */
+    public static int gc2gd(int n, double[] xyz, double[] elong, double[] phi, double[] height) {
+        return gc2gd(n, xyz, 0, xyz, 1, xyz, 2, 3, xyz.length / 3, elong, phi, height);
+    }
+
+    /**
+     * Geocentric to geodetic on a general ellipsoid, see {@link SofaLibrary#iauGc2gde}. When the status is not 0, the
+     * returned arrays are not changed.
+     *
+     * @param a      Equatorial radius (meters).
+     * @param f      Flattening.
+     * @param x      Geocentric x (meters) of every position.
+     * @param y      Geocentric y (meters).
+     * @param z      Geocentric z (meters).
+     * @param elong  Returned longitude (radians, east +ve).
+     * @param phi    Returned geodetic latitude (radians).
+     * @param height Returned geodetic height above ellipsoid (meters).
+     * @return Status (for all positions): 0 = OK, -1 = illegal f, -2 = illegal a.
+     */
+    public static int gc2gde(double a, double f, double[] x, double[] y, double[] z, double[] elong, double[] phi, double[] height) {
+        return gc2gde(a, f, x, 0, y, 0, z, 0, 1, x.length, elong, phi, height);
+    }
+
+    /**
+     * Geocentric to geodetic on a general ellipsoid, for interleaved geocentric vectors, see
+     * {@link #gc2gde(double, double, double[], double[], double[], double[], double[], double[])}.
+     *
+     * @param xyz Geocentric x, y, z (meters) of every position.
+     */
+    public static int gc2gde(double a, double f, double[] xyz, double[] elong, double[] phi, double[] height) {
+        return gc2gde(a, f, xyz, 0, xyz, 1, xyz, 2, 3, xyz.length / 3, elong, phi, height);
+    }
+
+    /**
+     * Geodetic to geocentric on a reference ellipsoid, see {@link SofaLibrary#iauGd2gc}. The geocentric vector of an
+     * illegal position (or of every position, for an illegal identifier) is zero.
+     *
+     * @param n      Ellipsoid identifier.
+     * @param elong  Longitude (radians, east +ve) of every position.
+     * @param phi    Latitude (geodetic, radians).
+     * @param height Height above ellipsoid (geodetic, meters).
+     * @param x      Returned geocentric x (meters).
+     * @param y      Returned geocentric y (meters).
+     * @param z      Returned geocentric z (meters).
+     * @return Number of positions with a non-zero status of iauGd2gc (all of them for an illegal identifier).
+     */
+    public static int gd2gc(int n, double[] elong, double[] phi, double[] height, double[] x, double[] y, double[] z) {
+        return gd2gc(n, elong, phi, height, x, 0, y, 0, z, 0, 1);
+    }
+
+    /**
+     * Geodetic to geocentric on a reference ellipsoid, into interleaved geocentric vectors, see
+     * {@link #gd2gc(int, double[], double[], double[], double[], double[], double[])}.
+     *
+     * @param xyz Returned geocentric x, y, z (meters) of every position.
+     */
+    public static int gd2gc(int n, double[] elong, double[] phi, double[] height, double[] xyz) {
+        return gd2gc(n, elong, phi, height, xyz, 0, xyz, 1, xyz, 2, 3);
+    }
+
+    /**
+     * Geodetic to geocentric on a general ellipsoid, see {@link SofaLibrary#iauGd2gce}. The geocentric vector of an
+     * illegal position is not changed.
+     *
+     * @param a      Equatorial radius (meters).
+     * @param f      Flattening.
+     * @param elong  Longitude (radians, east +ve) of every position.
+     * @param phi    Latitude (geodetic, radians).
+     * @param height Height above ellipsoid (geodetic, meters).
+     * @param x      Returned geocentric x (meters).
+     * @param y      Returned geocentric y (meters).
+     * @param z      Returned geocentric z (meters).
+     * @return Number of positions with a non-zero status of iauGd2gce (the illegal case).
+     */
+    public static int gd2gce(double a, double f, double[] elong, double[] phi, double[] height, double[] x, double[] y, double[] z) {
+        return gd2gce(a, f, elong, phi, height, x, 0, y, 0, z, 0, 1, false);
+    }
+
+    /**
+     * Geodetic to geocentric on a general ellipsoid, into interleaved geocentric vectors, see
+     * {@link #gd2gce(double, double, double[], double[], double[], double[], double[], double[])}.
+     *
+     * @param xyz Returned geocentric x, y, z (meters) of every position.
+     */
+    public static int gd2gce(double a, double f, double[] elong, double[] phi, double[] height, double[] xyz) {
+        return gd2gce(a, f, elong, phi, height, xyz, 0, xyz, 1, xyz, 2, 3, false);
+    }
+
+    /* The loops, element i of the geocentric vectors at x[xo + i*stride], y[yo + i*stride], z[zo + i*stride] */
+
+    private static int gc2gd(int n, double[] x, int xo, double[] y, int yo, double[] z, int zo, int stride, int count,
+                             double[] elong, double[] phi, double[] height) {
+        // Obtain reference ellipsoid parameters
+        double a = equatorialRadius(n);
+        int j = -1;
+
+        // If OK, transform x,y,z to longitude, geodetic latitude, height
+        if (a != 0.0) {
+            j = gc2gde(a, flattening(n), x, xo, y, yo, z, zo, stride, count, elong, phi, height);
+            if (j < 0) j = -2;
+        }
+
+        // Deal with any errors
+        if (j != 0) {
+            for (int i = 0; i < count; i++) {
+                elong[i]  = -1e9;
+                phi[i]    = -1e9;
+                height[i] = -1e9;
+            }
+        }
+        return j;
+    }
+
+    private static int gc2gde(double a, double f, double[] x, int xo, double[] y, int yo, double[] z, int zo, int stride,
+                              int count, double[] elong, double[] phi, double[] height) {
+        // Validate ellipsoid parameters
+        if (f < 0.0 || f >= 1.0) return -1;
+        if (a <= 0.0) return -2;
+
+        // Functions of ellipsoid parameters (with further validation of f)
+        double aeps2 = a * a * 1e-32;
+        double e2    = (2.0 - f) * f;
+        double e4t   = e2 * e2 * 1.5;
+        double ec2   = 1.0 - e2;
+        if (ec2 <= 0.0) return -1;
+        double ec    = Math.sqrt(ec2);
+        double b     = a * ec;
+
+        if (x.length < xo + (count - 1) * stride + 1 || y.length < yo + (count - 1) * stride + 1
+                || z.length < zo + (count - 1) * stride + 1
+                || elong.length < count || phi.length < count || height.length < count)
+            throw new IllegalArgumentException("All arrays must hold at least " + count + " positions");
+
+        // Newton and Halley corrections, tan(phi) in phi (the polar case is dealt with below)
+        for (int i = 0; i < count; i++) {
+            double xi = x[xo + i * stride];
+            double yi = y[yo + i * stride];
+            double absz = Math.abs(z[zo + i * stride]);
+
+            double p   = Math.sqrt(xi * xi + yi * yi);
+            double s0  = absz / a;
+            double pn  = p / a;
+            double zc  = ec * s0;
+            double c0  = ec * pn;
+            double c02 = c0 * c0;
+            double c03 = c02 * c0;
+            double s02 = s0 * s0;
+            double s03 = s02 * s0;
+            double a02 = c02 + s02;
+            double a0  = Math.sqrt(a02);
+            double a03 = a02 * a0;
+            double d0  = zc * a03 + e2 * s03;
+            double f0  = pn * a03 - e2 * c03;
+            double b0  = e4t * s02 * c02 * pn * (a0 - ec);
+            double s1  = d0 * f0 - b0 * s0;
+            double cc  = ec * (f0 * f0 - b0 * c0);
+            double s12 = s1 * s1;
+            double cc2 = cc * cc;
+            phi[i]    = s1 / cc;
+            height[i] = (p * cc + absz * s1 - a * Math.sqrt(ec2 * s12 + cc2)) / Math.sqrt(s12 + cc2);
+        }
+
+        // Longitude and latitude
+        for (int i = 0; i < count; i++) {
+            double xi = x[xo + i * stride];
+            double yi = y[yo + i * stride];
+            double zi = z[zo + i * stride];
+            double p2 = xi * xi + yi * yi;
+            elong[i] = p2 != 0.0 ? Math.atan2(yi, xi) : 0.0;
+            double latitude;
+            if (p2 > aeps2) {
+                latitude = Math.atan(phi[i]);
+            } else {
+                // Exception: pole
+                latitude  = DPI / 2.0;
+                height[i] = Math.abs(zi) - b;
+            }
+            phi[i] = zi < 0 ? -latitude : latitude;
+        }
+        return 0;
+    }
+
+    private static int gd2gc(int n, double[] elong, double[] phi, double[] height,
+                             double[] x, int xo, double[] y, int yo, double[] z, int zo, int stride) {
+        double a = equatorialRadius(n);
+        int count = elong.length;
+        if (a == 0.0) {
+            for (int i = 0; i < count; i++) {
+                x[xo + i * stride] = 0.0;
+                y[yo + i * stride] = 0.0;
+                z[zo + i * stride] = 0.0;
+            }
+            return count;
+        }
+        return gd2gce(a, flattening(n), elong, phi, height, x, xo, y, yo, z, zo, stride, true);
+    }
+
+    private static int gd2gce(double a, double f, double[] elong, double[] phi, double[] height,
+                              double[] x, int xo, double[] y, int yo, double[] z, int zo, int stride, boolean zero) {
+        int count = elong.length;
+        if (phi.length < count || height.length < count || x.length < xo + (count - 1) * stride + 1
+                || y.length < yo + (count - 1) * stride + 1 || z.length < zo + (count - 1) * stride + 1)
+            throw new IllegalArgumentException("All arrays must hold at least " + count + " positions");
+
+        // Functions of ellipsoid parameters
+        double w = 1.0 - f;
+        w = w * w;
+
+        int bad = 0;
+        for (int i = 0; i < count; i++) {
+            // Functions of geodetic latitude
+            double sp = Math.sin(phi[i]);
+            double cp = Math.cos(phi[i]);
+            double d  = cp * cp + w * sp * sp;
+            if (d <= 0.0) {
+                bad++;
+                if (zero) {
+                    x[xo + i * stride] = 0.0;
+                    y[yo + i * stride] = 0.0;
+                    z[zo + i * stride] = 0.0;
+                }
+                continue;
+            }
+            double ac = a / Math.sqrt(d);
+            double as = w * ac;
+
+            // Geocentric vector
+            double r = (ac + height[i]) * cp;
+            x[xo + i * stride] = r * Math.cos(elong[i]);
+            y[yo + i * stride] = r * Math.sin(elong[i]);
+            z[zo + i * stride] = (as + height[i]) * sp;
+        }
+        return bad;
+    }
+
+}
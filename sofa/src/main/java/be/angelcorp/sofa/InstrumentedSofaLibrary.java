@@ -0,0 +1,2998 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+
+/**
+ * Instrumented facade of the {@link SofaLibrary} functions.<br>
+ * This file was autogenerated by ./src/main/generator/genInstrumented.sh from SofaLibrary.java.<br>
+ * <br>
+ * Every function has the signature of the SofaLibrary function with the same name, and calls it. When the metrics
+ * are enabled (system property {@value SofaMetrics#PROPERTY}), each call is timed and counted in {@link SofaMetrics},
+ * as is every non-zero status returned by the functions that return an int. Otherwise the facade only adds a test of
+ * the static final {@link SofaMetrics#ENABLED}, which the JIT compiler removes.
+ */
+public final class InstrumentedSofaLibrary {
+
+    private static final SofaMetrics.Function CAL2JD = SofaMetrics.function("iauCal2jd");
+    private static final SofaMetrics.Function EPB = SofaMetrics.function("iauEpb");
+    private static final SofaMetrics.Function EPB2JD = SofaMetrics.function("iauEpb2jd");
+    private static final SofaMetrics.Function EPJ = SofaMetrics.function("iauEpj");
+    private static final SofaMetrics.Function EPJ2JD = SofaMetrics.function("iauEpj2jd");
+    private static final SofaMetrics.Function JD2CAL = SofaMetrics.function("iauJd2cal");
+    private static final SofaMetrics.Function JDCALF = SofaMetrics.function("iauJdcalf");
+    private static final SofaMetrics.Function AB = SofaMetrics.function("iauAb");
+    private static final SofaMetrics.Function APCG = SofaMetrics.function("iauApcg");
+    private static final SofaMetrics.Function APCG13 = SofaMetrics.function("iauApcg13");
+    private static final SofaMetrics.Function APCI = SofaMetrics.function("iauApci");
+    private static final SofaMetrics.Function APCI13 = SofaMetrics.function("iauApci13");
+    private static final SofaMetrics.Function APCO = SofaMetrics.function("iauApco");
+    private static final SofaMetrics.Function APCO13 = SofaMetrics.function("iauApco13");
+    private static final SofaMetrics.Function APCS = SofaMetrics.function("iauApcs");
+    private static final SofaMetrics.Function APCS13 = SofaMetrics.function("iauApcs13");
+    private static final SofaMetrics.Function APER = SofaMetrics.function("iauAper");
+    private static final SofaMetrics.Function APER13 = SofaMetrics.function("iauAper13");
+    private static final SofaMetrics.Function APIO = SofaMetrics.function("iauApio");
+    private static final SofaMetrics.Function APIO13 = SofaMetrics.function("iauApio13");
+    private static final SofaMetrics.Function ATCI13 = SofaMetrics.function("iauAtci13");
+    private static final SofaMetrics.Function ATCIQ = SofaMetrics.function("iauAtciq");
+    private static final SofaMetrics.Function ATCIQN = SofaMetrics.function("iauAtciqn");
+    private static final SofaMetrics.Function ATCIQZ = SofaMetrics.function("iauAtciqz");
+    private static final SofaMetrics.Function ATCO13 = SofaMetrics.function("iauAtco13");
+    private static final SofaMetrics.Function ATIC13 = SofaMetrics.function("iauAtic13");
+    private static final SofaMetrics.Function ATICQ = SofaMetrics.function("iauAticq");
+    private static final SofaMetrics.Function ATICQN = SofaMetrics.function("iauAticqn");
+    private static final SofaMetrics.Function ATIO13 = SofaMetrics.function("iauAtio13");
+    private static final SofaMetrics.Function ATIOQ = SofaMetrics.function("iauAtioq");
+    private static final SofaMetrics.Function ATOC13 = SofaMetrics.function("iauAtoc13");
+    private static final SofaMetrics.Function ATOI13 = SofaMetrics.function("iauAtoi13");
+    private static final SofaMetrics.Function ATOIQ = SofaMetrics.function("iauAtoiq");
+    private static final SofaMetrics.Function LD = SofaMetrics.function("iauLd");
+    private static final SofaMetrics.Function LDN = SofaMetrics.function("iauLdn");
+    private static final SofaMetrics.Function LDSUN = SofaMetrics.function("iauLdsun");
+    private static final SofaMetrics.Function PMPX = SofaMetrics.function("iauPmpx");
+    private static final SofaMetrics.Function PMSAFE = SofaMetrics.function("iauPmsafe");
+    private static final SofaMetrics.Function PVTOB = SofaMetrics.function("iauPvtob");
+    private static final SofaMetrics.Function REFCO = SofaMetrics.function("iauRefco");
+    private static final SofaMetrics.Function EPV00 = SofaMetrics.function("iauEpv00");
+    private static final SofaMetrics.Function PLAN94 = SofaMetrics.function("iauPlan94");
+    private static final SofaMetrics.Function FAD03 = SofaMetrics.function("iauFad03");
+    private static final SofaMetrics.Function FAE03 = SofaMetrics.function("iauFae03");
+    private static final SofaMetrics.Function FAF03 = SofaMetrics.function("iauFaf03");
+    private static final SofaMetrics.Function FAJU03 = SofaMetrics.function("iauFaju03");
+    private static final SofaMetrics.Function FAL03 = SofaMetrics.function("iauFal03");
+    private static final SofaMetrics.Function FALP03 = SofaMetrics.function("iauFalp03");
+    private static final SofaMetrics.Function FAMA03 = SofaMetrics.function("iauFama03");
+    private static final SofaMetrics.Function FAME03 = SofaMetrics.function("iauFame03");
+    private static final SofaMetrics.Function FANE03 = SofaMetrics.function("iauFane03");
+    private static final SofaMetrics.Function FAOM03 = SofaMetrics.function("iauFaom03");
+    private static final SofaMetrics.Function FAPA03 = SofaMetrics.function("iauFapa03");
+    private static final SofaMetrics.Function FASA03 = SofaMetrics.function("iauFasa03");
+    private static final SofaMetrics.Function FAUR03 = SofaMetrics.function("iauFaur03");
+    private static final SofaMetrics.Function FAVE03 = SofaMetrics.function("iauFave03");
+    private static final SofaMetrics.Function BI00 = SofaMetrics.function("iauBi00");
+    private static final SofaMetrics.Function BP00 = SofaMetrics.function("iauBp00");
+    private static final SofaMetrics.Function BP06 = SofaMetrics.function("iauBp06");
+    private static final SofaMetrics.Function BPN2XY = SofaMetrics.function("iauBpn2xy");
+    private static final SofaMetrics.Function C2I00A = SofaMetrics.function("iauC2i00a");
+    private static final SofaMetrics.Function C2I00B = SofaMetrics.function("iauC2i00b");
+    private static final SofaMetrics.Function C2I06A = SofaMetrics.function("iauC2i06a");
+    private static final SofaMetrics.Function C2IBPN = SofaMetrics.function("iauC2ibpn");
+    private static final SofaMetrics.Function C2IXY = SofaMetrics.function("iauC2ixy");
+    private static final SofaMetrics.Function C2IXYS = SofaMetrics.function("iauC2ixys");
+    private static final SofaMetrics.Function C2T00A = SofaMetrics.function("iauC2t00a");
+    private static final SofaMetrics.Function C2T00B = SofaMetrics.function("iauC2t00b");
+    private static final SofaMetrics.Function C2T06A = SofaMetrics.function("iauC2t06a");
+    private static final SofaMetrics.Function C2TCIO = SofaMetrics.function("iauC2tcio");
+    private static final SofaMetrics.Function C2TEQX = SofaMetrics.function("iauC2teqx");
+    private static final SofaMetrics.Function C2TPE = SofaMetrics.function("iauC2tpe");
+    private static final SofaMetrics.Function C2TXY = SofaMetrics.function("iauC2txy");
+    private static final SofaMetrics.Function EO06A = SofaMetrics.function("iauEo06a");
+    private static final SofaMetrics.Function EORS = SofaMetrics.function("iauEors");
+    private static final SofaMetrics.Function FW2M = SofaMetrics.function("iauFw2m");
+    private static final SofaMetrics.Function FW2XY = SofaMetrics.function("iauFw2xy");
+    private static final SofaMetrics.Function NUM00A = SofaMetrics.function("iauNum00a");
+    private static final SofaMetrics.Function NUM00B = SofaMetrics.function("iauNum00b");
+    private static final SofaMetrics.Function NUM06A = SofaMetrics.function("iauNum06a");
+    private static final SofaMetrics.Function NUMAT = SofaMetrics.function("iauNumat");
+    private static final SofaMetrics.Function NUT00A = SofaMetrics.function("iauNut00a");
+    private static final SofaMetrics.Function NUT00B = SofaMetrics.function("iauNut00b");
+    private static final SofaMetrics.Function NUT06A = SofaMetrics.function("iauNut06a");
+    private static final SofaMetrics.Function NUT80 = SofaMetrics.function("iauNut80");
+    private static final SofaMetrics.Function NUTM80 = SofaMetrics.function("iauNutm80");
+    private static final SofaMetrics.Function OBL06 = SofaMetrics.function("iauObl06");
+    private static final SofaMetrics.Function OBL80 = SofaMetrics.function("iauObl80");
+    private static final SofaMetrics.Function P06E = SofaMetrics.function("iauP06e");
+    private static final SofaMetrics.Function PB06 = SofaMetrics.function("iauPb06");
+    private static final SofaMetrics.Function PFW06 = SofaMetrics.function("iauPfw06");
+    private static final SofaMetrics.Function PMAT00 = SofaMetrics.function("iauPmat00");
+    private static final SofaMetrics.Function PMAT06 = SofaMetrics.function("iauPmat06");
+    private static final SofaMetrics.Function PMAT76 = SofaMetrics.function("iauPmat76");
+    private static final SofaMetrics.Function PN00 = SofaMetrics.function("iauPn00");
+    private static final SofaMetrics.Function PN00A = SofaMetrics.function("iauPn00a");
+    private static final SofaMetrics.Function PN00B = SofaMetrics.function("iauPn00b");
+    private static final SofaMetrics.Function PN06 = SofaMetrics.function("iauPn06");
+    private static final SofaMetrics.Function PN06A = SofaMetrics.function("iauPn06a");
+    private static final SofaMetrics.Function PNM00A = SofaMetrics.function("iauPnm00a");
+    private static final SofaMetrics.Function PNM00B = SofaMetrics.function("iauPnm00b");
+    private static final SofaMetrics.Function PNM06A = SofaMetrics.function("iauPnm06a");
+    private static final SofaMetrics.Function PNM80 = SofaMetrics.function("iauPnm80");
+    private static final SofaMetrics.Function POM00 = SofaMetrics.function("iauPom00");
+    private static final SofaMetrics.Function PR00 = SofaMetrics.function("iauPr00");
+    private static final SofaMetrics.Function PREC76 = SofaMetrics.function("iauPrec76");
+    private static final SofaMetrics.Function S00 = SofaMetrics.function("iauS00");
+    private static final SofaMetrics.Function S00A = SofaMetrics.function("iauS00a");
+    private static final SofaMetrics.Function S00B = SofaMetrics.function("iauS00b");
+    private static final SofaMetrics.Function S06 = SofaMetrics.function("iauS06");
+    private static final SofaMetrics.Function S06A = SofaMetrics.function("iauS06a");
+    private static final SofaMetrics.Function SP00 = SofaMetrics.function("iauSp00");
+    private static final SofaMetrics.Function XY06 = SofaMetrics.function("iauXy06");
+    private static final SofaMetrics.Function XYS00A = SofaMetrics.function("iauXys00a");
+    private static final SofaMetrics.Function XYS00B = SofaMetrics.function("iauXys00b");
+    private static final SofaMetrics.Function XYS06A = SofaMetrics.function("iauXys06a");
+    private static final SofaMetrics.Function EE00 = SofaMetrics.function("iauEe00");
+    private static final SofaMetrics.Function EE00A = SofaMetrics.function("iauEe00a");
+    private static final SofaMetrics.Function EE00B = SofaMetrics.function("iauEe00b");
+    private static final SofaMetrics.Function EE06A = SofaMetrics.function("iauEe06a");
+    private static final SofaMetrics.Function EECT00 = SofaMetrics.function("iauEect00");
+    private static final SofaMetrics.Function EQEQ94 = SofaMetrics.function("iauEqeq94");
+    private static final SofaMetrics.Function ERA00 = SofaMetrics.function("iauEra00");
+    private static final SofaMetrics.Function GMST00 = SofaMetrics.function("iauGmst00");
+    private static final SofaMetrics.Function GMST06 = SofaMetrics.function("iauGmst06");
+    private static final SofaMetrics.Function GMST82 = SofaMetrics.function("iauGmst82");
+    private static final SofaMetrics.Function GST00A = SofaMetrics.function("iauGst00a");
+    private static final SofaMetrics.Function GST00B = SofaMetrics.function("iauGst00b");
+    private static final SofaMetrics.Function GST06 = SofaMetrics.function("iauGst06");
+    private static final SofaMetrics.Function GST06A = SofaMetrics.function("iauGst06a");
+    private static final SofaMetrics.Function GST94 = SofaMetrics.function("iauGst94");
+    private static final SofaMetrics.Function PVSTAR = SofaMetrics.function("iauPvstar");
+    private static final SofaMetrics.Function STARPV = SofaMetrics.function("iauStarpv");
+    private static final SofaMetrics.Function FK52H = SofaMetrics.function("iauFk52h");
+    private static final SofaMetrics.Function FK5HIP = SofaMetrics.function("iauFk5hip");
+    private static final SofaMetrics.Function FK5HZ = SofaMetrics.function("iauFk5hz");
+    private static final SofaMetrics.Function H2FK5 = SofaMetrics.function("iauH2fk5");
+    private static final SofaMetrics.Function HFK5Z = SofaMetrics.function("iauHfk5z");
+    private static final SofaMetrics.Function STARPM = SofaMetrics.function("iauStarpm");
+    private static final SofaMetrics.Function EFORM = SofaMetrics.function("iauEform");
+    private static final SofaMetrics.Function GC2GD = SofaMetrics.function("iauGc2gd");
+    private static final SofaMetrics.Function GC2GDE = SofaMetrics.function("iauGc2gde");
+    private static final SofaMetrics.Function GD2GC = SofaMetrics.function("iauGd2gc");
+    private static final SofaMetrics.Function GD2GCE = SofaMetrics.function("iauGd2gce");
+    private static final SofaMetrics.Function D2DTF = SofaMetrics.function("iauD2dtf");
+    private static final SofaMetrics.Function DAT = SofaMetrics.function("iauDat");
+    private static final SofaMetrics.Function DTDB = SofaMetrics.function("iauDtdb");
+    private static final SofaMetrics.Function DTF2D = SofaMetrics.function("iauDtf2d");
+    private static final SofaMetrics.Function TAITT = SofaMetrics.function("iauTaitt");
+    private static final SofaMetrics.Function TAIUT1 = SofaMetrics.function("iauTaiut1");
+    private static final SofaMetrics.Function TAIUTC = SofaMetrics.function("iauTaiutc");
+    private static final SofaMetrics.Function TCBTDB = SofaMetrics.function("iauTcbtdb");
+    private static final SofaMetrics.Function TCGTT = SofaMetrics.function("iauTcgtt");
+    private static final SofaMetrics.Function TDBTCB = SofaMetrics.function("iauTdbtcb");
+    private static final SofaMetrics.Function TDBTT = SofaMetrics.function("iauTdbtt");
+    private static final SofaMetrics.Function TTTAI = SofaMetrics.function("iauTttai");
+    private static final SofaMetrics.Function TTTCG = SofaMetrics.function("iauTttcg");
+    private static final SofaMetrics.Function TTTDB = SofaMetrics.function("iauTttdb");
+    private static final SofaMetrics.Function TTUT1 = SofaMetrics.function("iauTtut1");
+    private static final SofaMetrics.Function UT1TAI = SofaMetrics.function("iauUt1tai");
+    private static final SofaMetrics.Function UT1TT = SofaMetrics.function("iauUt1tt");
+    private static final SofaMetrics.Function UT1UTC = SofaMetrics.function("iauUt1utc");
+    private static final SofaMetrics.Function UTCTAI = SofaMetrics.function("iauUtctai");
+    private static final SofaMetrics.Function UTCUT1 = SofaMetrics.function("iauUtcut1");
+    private static final SofaMetrics.Function A2AF = SofaMetrics.function("iauA2af");
+    private static final SofaMetrics.Function A2TF = SofaMetrics.function("iauA2tf");
+    private static final SofaMetrics.Function AF2A = SofaMetrics.function("iauAf2a");
+    private static final SofaMetrics.Function ANP = SofaMetrics.function("iauAnp");
+    private static final SofaMetrics.Function ANPM = SofaMetrics.function("iauAnpm");
+    private static final SofaMetrics.Function D2TF = SofaMetrics.function("iauD2tf");
+    private static final SofaMetrics.Function TF2A = SofaMetrics.function("iauTf2a");
+    private static final SofaMetrics.Function TF2D = SofaMetrics.function("iauTf2d");
+    private static final SofaMetrics.Function RX = SofaMetrics.function("iauRx");
+    private static final SofaMetrics.Function RY = SofaMetrics.function("iauRy");
+    private static final SofaMetrics.Function RZ = SofaMetrics.function("iauRz");
+    private static final SofaMetrics.Function CP = SofaMetrics.function("iauCp");
+    private static final SofaMetrics.Function CPV = SofaMetrics.function("iauCpv");
+    private static final SofaMetrics.Function CR = SofaMetrics.function("iauCr");
+    private static final SofaMetrics.Function P2PV = SofaMetrics.function("iauP2pv");
+    private static final SofaMetrics.Function PV2P = SofaMetrics.function("iauPv2p");
+    private static final SofaMetrics.Function IR = SofaMetrics.function("iauIr");
+    private static final SofaMetrics.Function ZP = SofaMetrics.function("iauZp");
+    private static final SofaMetrics.Function ZPV = SofaMetrics.function("iauZpv");
+    private static final SofaMetrics.Function ZR = SofaMetrics.function("iauZr");
+    private static final SofaMetrics.Function RXR = SofaMetrics.function("iauRxr");
+    private static final SofaMetrics.Function TR = SofaMetrics.function("iauTr");
+    private static final SofaMetrics.Function RXP = SofaMetrics.function("iauRxp");
+    private static final SofaMetrics.Function RXPV = SofaMetrics.function("iauRxpv");
+    private static final SofaMetrics.Function TRXP = SofaMetrics.function("iauTrxp");
+    private static final SofaMetrics.Function TRXPV = SofaMetrics.function("iauTrxpv");
+    private static final SofaMetrics.Function RM2V = SofaMetrics.function("iauRm2v");
+    private static final SofaMetrics.Function RV2M = SofaMetrics.function("iauRv2m");
+    private static final SofaMetrics.Function PAP = SofaMetrics.function("iauPap");
+    private static final SofaMetrics.Function PAS = SofaMetrics.function("iauPas");
+    private static final SofaMetrics.Function SEPP = SofaMetrics.function("iauSepp");
+    private static final SofaMetrics.Function SEPS = SofaMetrics.function("iauSeps");
+    private static final SofaMetrics.Function C2S = SofaMetrics.function("iauC2s");
+    private static final SofaMetrics.Function P2S = SofaMetrics.function("iauP2s");
+    private static final SofaMetrics.Function PV2S = SofaMetrics.function("iauPv2s");
+    private static final SofaMetrics.Function S2C = SofaMetrics.function("iauS2c");
+    private static final SofaMetrics.Function S2P = SofaMetrics.function("iauS2p");
+    private static final SofaMetrics.Function S2PV = SofaMetrics.function("iauS2pv");
+    private static final SofaMetrics.Function PDP = SofaMetrics.function("iauPdp");
+    private static final SofaMetrics.Function PM = SofaMetrics.function("iauPm");
+    private static final SofaMetrics.Function PMP = SofaMetrics.function("iauPmp");
+    private static final SofaMetrics.Function PN = SofaMetrics.function("iauPn");
+    private static final SofaMetrics.Function PPP = SofaMetrics.function("iauPpp");
+    private static final SofaMetrics.Function PPSP = SofaMetrics.function("iauPpsp");
+    private static final SofaMetrics.Function PVDPV = SofaMetrics.function("iauPvdpv");
+    private static final SofaMetrics.Function PVM = SofaMetrics.function("iauPvm");
+    private static final SofaMetrics.Function PVMPV = SofaMetrics.function("iauPvmpv");
+    private static final SofaMetrics.Function PVPPV = SofaMetrics.function("iauPvppv");
+    private static final SofaMetrics.Function PVU = SofaMetrics.function("iauPvu");
+    private static final SofaMetrics.Function PVUP = SofaMetrics.function("iauPvup");
+    private static final SofaMetrics.Function PVXPV = SofaMetrics.function("iauPvxpv");
+    private static final SofaMetrics.Function PXP = SofaMetrics.function("iauPxp");
+    private static final SofaMetrics.Function S2XPV = SofaMetrics.function("iauS2xpv");
+    private static final SofaMetrics.Function SXP = SofaMetrics.function("iauSxp");
+    private static final SofaMetrics.Function SXPV = SofaMetrics.function("iauSxpv");
+
+    static {
+        NativeVariant.select();
+    }
+
+    private InstrumentedSofaLibrary() {
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauCal2jd}.
+     */
+    public static int iauCal2jd(int iy, int im, int id, Pointer<Double> djm0, Pointer<Double> djm) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauCal2jd(iy, im, id, djm0, djm);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauCal2jd(iy, im, id, djm0, djm);
+        CAL2JD.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEpb}.
+     */
+    public static double iauEpb(double dj1, double dj2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEpb(dj1, dj2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEpb(dj1, dj2);
+        EPB.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEpb2jd}.
+     */
+    public static void iauEpb2jd(double epb, Pointer<Double> djm0, Pointer<Double> djm) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauEpb2jd(epb, djm0, djm);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauEpb2jd(epb, djm0, djm);
+        EPB2JD.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEpj}.
+     */
+    public static double iauEpj(double dj1, double dj2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEpj(dj1, dj2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEpj(dj1, dj2);
+        EPJ.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEpj2jd}.
+     */
+    public static void iauEpj2jd(double epj, Pointer<Double> djm0, Pointer<Double> djm) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauEpj2jd(epj, djm0, djm);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauEpj2jd(epj, djm0, djm);
+        EPJ2JD.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauJd2cal}.
+     */
+    public static int iauJd2cal(double dj1, double dj2, Pointer<Integer> iy, Pointer<Integer> im, Pointer<Integer> id, Pointer<Double> fd) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauJd2cal(dj1, dj2, iy, im, id, fd);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauJd2cal(dj1, dj2, iy, im, id, fd);
+        JD2CAL.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauJdcalf}.
+     */
+    public static int iauJdcalf(int ndp, double dj1, double dj2, Pointer<Integer> iymdf) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauJdcalf(ndp, dj1, dj2, iymdf);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauJdcalf(ndp, dj1, dj2, iymdf);
+        JDCALF.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAb}.
+     */
+    public static void iauAb(Pointer<Double> pnat, Pointer<Double> v, double s, double bm1, Pointer<Double> ppr) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAb(pnat, v, s, bm1, ppr);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAb(pnat, v, s, bm1, ppr);
+        AB.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApcg}.
+     */
+    public static void iauApcg(double date1, double date2, Pointer<Double> ebpv, Pointer<Double> ehp, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApcg(date1, date2, ebpv, ehp, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApcg(date1, date2, ebpv, ehp, astrom);
+        APCG.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApcg13}.
+     */
+    public static void iauApcg13(double date1, double date2, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApcg13(date1, date2, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApcg13(date1, date2, astrom);
+        APCG13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApci}.
+     */
+    public static void iauApci(double date1, double date2, Pointer<Double> ebpv, Pointer<Double> ehp, double x, double y, double s, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApci(date1, date2, ebpv, ehp, x, y, s, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApci(date1, date2, ebpv, ehp, x, y, s, astrom);
+        APCI.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApci13}.
+     */
+    public static void iauApci13(double date1, double date2, Pointer<iauASTROM> astrom, Pointer<Double> eo) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApci13(date1, date2, astrom, eo);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApci13(date1, date2, astrom, eo);
+        APCI13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApco}.
+     */
+    public static void iauApco(double date1, double date2, Pointer<Double> ebpv, Pointer<Double> ehp, double x, double y, double s, double theta, double elong, double phi, double hm, double xp, double yp, double sp, double refa, double refb, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApco(date1, date2, ebpv, ehp, x, y, s, theta, elong, phi, hm, xp, yp, sp, refa, refb, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApco(date1, date2, ebpv, ehp, x, y, s, theta, elong, phi, hm, xp, yp, sp, refa, refb, astrom);
+        APCO.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApco13}.
+     */
+    public static int iauApco13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<iauASTROM> astrom, Pointer<Double> eo) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, eo);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, eo);
+        APCO13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApcs}.
+     */
+    public static void iauApcs(double date1, double date2, Pointer<Double> pv, Pointer<Double> ebpv, Pointer<Double> ehp, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApcs(date1, date2, pv, ebpv, ehp, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApcs(date1, date2, pv, ebpv, ehp, astrom);
+        APCS.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApcs13}.
+     */
+    public static void iauApcs13(double date1, double date2, Pointer<Double> pv, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApcs13(date1, date2, pv, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApcs13(date1, date2, pv, astrom);
+        APCS13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAper}.
+     */
+    public static void iauAper(double theta, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAper(theta, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAper(theta, astrom);
+        APER.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAper13}.
+     */
+    public static void iauAper13(double ut11, double ut12, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAper13(ut11, ut12, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAper13(ut11, ut12, astrom);
+        APER13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApio}.
+     */
+    public static void iauApio(double sp, double theta, double elong, double phi, double hm, double xp, double yp, double refa, double refb, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauApio(sp, theta, elong, phi, hm, xp, yp, refa, refb, astrom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauApio(sp, theta, elong, phi, hm, xp, yp, refa, refb, astrom);
+        APIO.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauApio13}.
+     */
+    public static int iauApio13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<iauASTROM> astrom) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom);
+        APIO13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtci13}.
+     */
+    public static void iauAtci13(double rc, double dc, double pr, double pd, double px, double rv, double date1, double date2, Pointer<Double> ri, Pointer<Double> di, Pointer<Double> eo) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtci13(rc, dc, pr, pd, px, rv, date1, date2, ri, di, eo);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtci13(rc, dc, pr, pd, px, rv, date1, date2, ri, di, eo);
+        ATCI13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtciq}.
+     */
+    public static void iauAtciq(double rc, double dc, double pr, double pd, double px, double rv, Pointer<iauASTROM> astrom, Pointer<Double> ri, Pointer<Double> di) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtciq(rc, dc, pr, pd, px, rv, astrom, ri, di);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtciq(rc, dc, pr, pd, px, rv, astrom, ri, di);
+        ATCIQ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtciqn}.
+     */
+    public static void iauAtciqn(double rc, double dc, double pr, double pd, double px, double rv, Pointer<iauASTROM> astrom, int n, Pointer<iauLDBODY> b, Pointer<Double> ri, Pointer<Double> di) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtciqn(rc, dc, pr, pd, px, rv, astrom, n, b, ri, di);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtciqn(rc, dc, pr, pd, px, rv, astrom, n, b, ri, di);
+        ATCIQN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtciqz}.
+     */
+    public static void iauAtciqz(double rc, double dc, Pointer<iauASTROM> astrom, Pointer<Double> ri, Pointer<Double> di) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtciqz(rc, dc, astrom, ri, di);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtciqz(rc, dc, astrom, ri, di);
+        ATCIQZ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtco13}.
+     */
+    public static int iauAtco13(double rc, double dc, double pr, double pd, double px, double rv, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<Double> aob, Pointer<Double> zob, Pointer<Double> hob, Pointer<Double> dob, Pointer<Double> rob, Pointer<Double> eo) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob, eo);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob, eo);
+        ATCO13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtic13}.
+     */
+    public static void iauAtic13(double ri, double di, double date1, double date2, Pointer<Double> rc, Pointer<Double> dc, Pointer<Double> eo) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtic13(ri, di, date1, date2, rc, dc, eo);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtic13(ri, di, date1, date2, rc, dc, eo);
+        ATIC13.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAticq}.
+     */
+    public static void iauAticq(double ri, double di, Pointer<iauASTROM> astrom, Pointer<Double> rc, Pointer<Double> dc) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAticq(ri, di, astrom, rc, dc);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAticq(ri, di, astrom, rc, dc);
+        ATICQ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAticqn}.
+     */
+    public static void iauAticqn(double ri, double di, Pointer<iauASTROM> astrom, int n, Pointer<iauLDBODY> b, Pointer<Double> rc, Pointer<Double> dc) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAticqn(ri, di, astrom, n, b, rc, dc);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAticqn(ri, di, astrom, n, b, rc, dc);
+        ATICQN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtio13}.
+     */
+    public static int iauAtio13(double ri, double di, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<Double> aob, Pointer<Double> zob, Pointer<Double> hob, Pointer<Double> dob, Pointer<Double> rob) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAtio13(ri, di, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauAtio13(ri, di, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, zob, hob, dob, rob);
+        ATIO13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtioq}.
+     */
+    public static void iauAtioq(double ri, double di, Pointer<iauASTROM> astrom, Pointer<Double> aob, Pointer<Double> zob, Pointer<Double> hob, Pointer<Double> dob, Pointer<Double> rob) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtioq(ri, di, astrom, aob, zob, hob, dob, rob);
+        ATIOQ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtoc13}.
+     */
+    public static int iauAtoc13(Pointer<Byte> type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<Double> rc, Pointer<Double> dc) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAtoc13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, rc, dc);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauAtoc13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, rc, dc);
+        ATOC13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtoi13}.
+     */
+    public static int iauAtoi13(Pointer<Byte> type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, Pointer<Double> ri, Pointer<Double> di) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAtoi13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, ri, di);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauAtoi13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, ri, di);
+        ATOI13.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAtoiq}.
+     */
+    public static void iauAtoiq(Pointer<Byte> type, double ob1, double ob2, Pointer<iauASTROM> astrom, Pointer<Double> ri, Pointer<Double> di) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauAtoiq(type, ob1, ob2, astrom, ri, di);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauAtoiq(type, ob1, ob2, astrom, ri, di);
+        ATOIQ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauLd}.
+     */
+    public static void iauLd(double bm, Pointer<Double> p, Pointer<Double> q, Pointer<Double> e, double em, double dlim, Pointer<Double> p1) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauLd(bm, p, q, e, em, dlim, p1);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauLd(bm, p, q, e, em, dlim, p1);
+        LD.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauLdn}.
+     */
+    public static void iauLdn(int n, Pointer<iauLDBODY> b, Pointer<Double> ob, Pointer<Double> sc, Pointer<Double> sn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauLdn(n, b, ob, sc, sn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauLdn(n, b, ob, sc, sn);
+        LDN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauLdsun}.
+     */
+    public static void iauLdsun(Pointer<Double> p, Pointer<Double> e, double em, Pointer<Double> p1) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauLdsun(p, e, em, p1);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauLdsun(p, e, em, p1);
+        LDSUN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmpx}.
+     */
+    public static void iauPmpx(double rc, double dc, double pr, double pd, double px, double rv, double pmt, Pointer<Double> pob, Pointer<Double> pco) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPmpx(rc, dc, pr, pd, px, rv, pmt, pob, pco);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPmpx(rc, dc, pr, pd, px, rv, pmt, pob, pco);
+        PMPX.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmsafe}.
+     */
+    public static int iauPmsafe(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, Pointer<Double> ra2, Pointer<Double> dec2, Pointer<Double> pmr2, Pointer<Double> pmd2, Pointer<Double> px2, Pointer<Double> rv2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        PMSAFE.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvtob}.
+     */
+    public static void iauPvtob(double elong, double phi, double hm, double xp, double yp, double sp, double theta, Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvtob(elong, phi, hm, xp, yp, sp, theta, pv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvtob(elong, phi, hm, xp, yp, sp, theta, pv);
+        PVTOB.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRefco}.
+     */
+    public static void iauRefco(double phpa, double tc, double rh, double wl, Pointer<Double> refa, Pointer<Double> refb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRefco(phpa, tc, rh, wl, refa, refb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRefco(phpa, tc, rh, wl, refa, refb);
+        REFCO.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEpv00}.
+     */
+    public static int iauEpv00(double date1, double date2, Pointer<Double> pvh, Pointer<Double> pvb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEpv00(date1, date2, pvh, pvb);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauEpv00(date1, date2, pvh, pvb);
+        EPV00.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPlan94}.
+     */
+    public static int iauPlan94(double date1, double date2, int np, Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPlan94(date1, date2, np, pv);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauPlan94(date1, date2, np, pv);
+        PLAN94.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFad03}.
+     */
+    public static double iauFad03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFad03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFad03(t);
+        FAD03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFae03}.
+     */
+    public static double iauFae03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFae03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFae03(t);
+        FAE03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFaf03}.
+     */
+    public static double iauFaf03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFaf03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFaf03(t);
+        FAF03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFaju03}.
+     */
+    public static double iauFaju03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFaju03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFaju03(t);
+        FAJU03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFal03}.
+     */
+    public static double iauFal03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFal03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFal03(t);
+        FAL03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFalp03}.
+     */
+    public static double iauFalp03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFalp03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFalp03(t);
+        FALP03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFama03}.
+     */
+    public static double iauFama03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFama03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFama03(t);
+        FAMA03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFame03}.
+     */
+    public static double iauFame03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFame03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFame03(t);
+        FAME03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFane03}.
+     */
+    public static double iauFane03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFane03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFane03(t);
+        FANE03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFaom03}.
+     */
+    public static double iauFaom03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFaom03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFaom03(t);
+        FAOM03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFapa03}.
+     */
+    public static double iauFapa03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFapa03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFapa03(t);
+        FAPA03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFasa03}.
+     */
+    public static double iauFasa03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFasa03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFasa03(t);
+        FASA03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFaur03}.
+     */
+    public static double iauFaur03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFaur03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFaur03(t);
+        FAUR03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFave03}.
+     */
+    public static double iauFave03(double t) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauFave03(t);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauFave03(t);
+        FAVE03.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauBi00}.
+     */
+    public static void iauBi00(Pointer<Double> dpsibi, Pointer<Double> depsbi, Pointer<Double> dra) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauBi00(dpsibi, depsbi, dra);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauBi00(dpsibi, depsbi, dra);
+        BI00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauBp00}.
+     */
+    public static void iauBp00(double date1, double date2, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauBp00(date1, date2, rb, rp, rbp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauBp00(date1, date2, rb, rp, rbp);
+        BP00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauBp06}.
+     */
+    public static void iauBp06(double date1, double date2, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauBp06(date1, date2, rb, rp, rbp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauBp06(date1, date2, rb, rp, rbp);
+        BP06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauBpn2xy}.
+     */
+    public static void iauBpn2xy(Pointer<Double> rbpn, Pointer<Double> x, Pointer<Double> y) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauBpn2xy(rbpn, x, y);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauBpn2xy(rbpn, x, y);
+        BPN2XY.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2i00a}.
+     */
+    public static void iauC2i00a(double date1, double date2, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2i00a(date1, date2, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2i00a(date1, date2, rc2i);
+        C2I00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2i00b}.
+     */
+    public static void iauC2i00b(double date1, double date2, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2i00b(date1, date2, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2i00b(date1, date2, rc2i);
+        C2I00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2i06a}.
+     */
+    public static void iauC2i06a(double date1, double date2, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2i06a(date1, date2, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2i06a(date1, date2, rc2i);
+        C2I06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2ibpn}.
+     */
+    public static void iauC2ibpn(double date1, double date2, Pointer<Double> rbpn, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2ibpn(date1, date2, rbpn, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2ibpn(date1, date2, rbpn, rc2i);
+        C2IBPN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2ixy}.
+     */
+    public static void iauC2ixy(double date1, double date2, double x, double y, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2ixy(date1, date2, x, y, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2ixy(date1, date2, x, y, rc2i);
+        C2IXY.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2ixys}.
+     */
+    public static void iauC2ixys(double x, double y, double s, Pointer<Double> rc2i) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2ixys(x, y, s, rc2i);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2ixys(x, y, s, rc2i);
+        C2IXYS.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2t00a}.
+     */
+    public static void iauC2t00a(double tta, double ttb, double uta, double utb, double xp, double yp, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2t00a(tta, ttb, uta, utb, xp, yp, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2t00a(tta, ttb, uta, utb, xp, yp, rc2t);
+        C2T00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2t00b}.
+     */
+    public static void iauC2t00b(double tta, double ttb, double uta, double utb, double xp, double yp, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2t00b(tta, ttb, uta, utb, xp, yp, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2t00b(tta, ttb, uta, utb, xp, yp, rc2t);
+        C2T00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2t06a}.
+     */
+    public static void iauC2t06a(double tta, double ttb, double uta, double utb, double xp, double yp, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2t06a(tta, ttb, uta, utb, xp, yp, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2t06a(tta, ttb, uta, utb, xp, yp, rc2t);
+        C2T06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2tcio}.
+     */
+    public static void iauC2tcio(Pointer<Double> rc2i, double era, Pointer<Double> rpom, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2tcio(rc2i, era, rpom, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2tcio(rc2i, era, rpom, rc2t);
+        C2TCIO.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2teqx}.
+     */
+    public static void iauC2teqx(Pointer<Double> rbpn, double gst, Pointer<Double> rpom, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2teqx(rbpn, gst, rpom, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2teqx(rbpn, gst, rpom, rc2t);
+        C2TEQX.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2tpe}.
+     */
+    public static void iauC2tpe(double tta, double ttb, double uta, double utb, double dpsi, double deps, double xp, double yp, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2tpe(tta, ttb, uta, utb, dpsi, deps, xp, yp, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2tpe(tta, ttb, uta, utb, dpsi, deps, xp, yp, rc2t);
+        C2TPE.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2txy}.
+     */
+    public static void iauC2txy(double tta, double ttb, double uta, double utb, double x, double y, double xp, double yp, Pointer<Double> rc2t) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2txy(tta, ttb, uta, utb, x, y, xp, yp, rc2t);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2txy(tta, ttb, uta, utb, x, y, xp, yp, rc2t);
+        C2TXY.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEo06a}.
+     */
+    public static double iauEo06a(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEo06a(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEo06a(date1, date2);
+        EO06A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEors}.
+     */
+    public static double iauEors(Pointer<Double> rnpb, double s) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEors(rnpb, s);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEors(rnpb, s);
+        EORS.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFw2m}.
+     */
+    public static void iauFw2m(double gamb, double phib, double psi, double eps, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauFw2m(gamb, phib, psi, eps, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauFw2m(gamb, phib, psi, eps, r);
+        FW2M.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFw2xy}.
+     */
+    public static void iauFw2xy(double gamb, double phib, double psi, double eps, Pointer<Double> x, Pointer<Double> y) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauFw2xy(gamb, phib, psi, eps, x, y);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauFw2xy(gamb, phib, psi, eps, x, y);
+        FW2XY.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNum00a}.
+     */
+    public static void iauNum00a(double date1, double date2, Pointer<Double> rmatn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNum00a(date1, date2, rmatn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNum00a(date1, date2, rmatn);
+        NUM00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNum00b}.
+     */
+    public static void iauNum00b(double date1, double date2, Pointer<Double> rmatn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNum00b(date1, date2, rmatn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNum00b(date1, date2, rmatn);
+        NUM00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNum06a}.
+     */
+    public static void iauNum06a(double date1, double date2, Pointer<Double> rmatn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNum06a(date1, date2, rmatn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNum06a(date1, date2, rmatn);
+        NUM06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNumat}.
+     */
+    public static void iauNumat(double epsa, double dpsi, double deps, Pointer<Double> rmatn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNumat(epsa, dpsi, deps, rmatn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNumat(epsa, dpsi, deps, rmatn);
+        NUMAT.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNut00a}.
+     */
+    public static void iauNut00a(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNut00a(date1, date2, dpsi, deps);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNut00a(date1, date2, dpsi, deps);
+        NUT00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNut00b}.
+     */
+    public static void iauNut00b(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNut00b(date1, date2, dpsi, deps);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNut00b(date1, date2, dpsi, deps);
+        NUT00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNut06a}.
+     */
+    public static void iauNut06a(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNut06a(date1, date2, dpsi, deps);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNut06a(date1, date2, dpsi, deps);
+        NUT06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNut80}.
+     */
+    public static void iauNut80(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNut80(date1, date2, dpsi, deps);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNut80(date1, date2, dpsi, deps);
+        NUT80.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauNutm80}.
+     */
+    public static void iauNutm80(double date1, double date2, Pointer<Double> rmatn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauNutm80(date1, date2, rmatn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauNutm80(date1, date2, rmatn);
+        NUTM80.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauObl06}.
+     */
+    public static double iauObl06(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauObl06(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauObl06(date1, date2);
+        OBL06.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauObl80}.
+     */
+    public static double iauObl80(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauObl80(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauObl80(date1, date2);
+        OBL80.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauP06e}.
+     */
+    public static void iauP06e(double date1, double date2, Pointer<Double> eps0, Pointer<Double> psia, Pointer<Double> oma, Pointer<Double> bpa, Pointer<Double> bqa, Pointer<Double> pia, Pointer<Double> bpia, Pointer<Double> epsa, Pointer<Double> chia, Pointer<Double> za, Pointer<Double> zetaa, Pointer<Double> thetaa, Pointer<Double> pa, Pointer<Double> gam, Pointer<Double> phi, Pointer<Double> psi) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauP06e(date1, date2, eps0, psia, oma, bpa, bqa, pia, bpia, epsa, chia, za, zetaa, thetaa, pa, gam, phi, psi);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauP06e(date1, date2, eps0, psia, oma, bpa, bqa, pia, bpia, epsa, chia, za, zetaa, thetaa, pa, gam, phi, psi);
+        P06E.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPb06}.
+     */
+    public static void iauPb06(double date1, double date2, Pointer<Double> bzeta, Pointer<Double> bz, Pointer<Double> btheta) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPb06(date1, date2, bzeta, bz, btheta);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPb06(date1, date2, bzeta, bz, btheta);
+        PB06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPfw06}.
+     */
+    public static void iauPfw06(double date1, double date2, Pointer<Double> gamb, Pointer<Double> phib, Pointer<Double> psib, Pointer<Double> epsa) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPfw06(date1, date2, gamb, phib, psib, epsa);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPfw06(date1, date2, gamb, phib, psib, epsa);
+        PFW06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmat00}.
+     */
+    public static void iauPmat00(double date1, double date2, Pointer<Double> rbp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPmat00(date1, date2, rbp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPmat00(date1, date2, rbp);
+        PMAT00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmat06}.
+     */
+    public static void iauPmat06(double date1, double date2, Pointer<Double> rbp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPmat06(date1, date2, rbp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPmat06(date1, date2, rbp);
+        PMAT06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmat76}.
+     */
+    public static void iauPmat76(double date1, double date2, Pointer<Double> rmatp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPmat76(date1, date2, rmatp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPmat76(date1, date2, rmatp);
+        PMAT76.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn00}.
+     */
+    public static void iauPn00(double date1, double date2, double dpsi, double deps, Pointer<Double> epsa, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp, Pointer<Double> rn, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn00(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn00(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        PN00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn00a}.
+     */
+    public static void iauPn00a(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps, Pointer<Double> epsa, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp, Pointer<Double> rn, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn00a(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn00a(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        PN00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn00b}.
+     */
+    public static void iauPn00b(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps, Pointer<Double> epsa, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp, Pointer<Double> rn, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn00b(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn00b(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        PN00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn06}.
+     */
+    public static void iauPn06(double date1, double date2, double dpsi, double deps, Pointer<Double> epsa, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp, Pointer<Double> rn, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn06(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn06(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        PN06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn06a}.
+     */
+    public static void iauPn06a(double date1, double date2, Pointer<Double> dpsi, Pointer<Double> deps, Pointer<Double> epsa, Pointer<Double> rb, Pointer<Double> rp, Pointer<Double> rbp, Pointer<Double> rn, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn06a(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn06a(date1, date2, dpsi, deps, epsa, rb, rp, rbp, rn, rbpn);
+        PN06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPnm00a}.
+     */
+    public static void iauPnm00a(double date1, double date2, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPnm00a(date1, date2, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPnm00a(date1, date2, rbpn);
+        PNM00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPnm00b}.
+     */
+    public static void iauPnm00b(double date1, double date2, Pointer<Double> rbpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPnm00b(date1, date2, rbpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPnm00b(date1, date2, rbpn);
+        PNM00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPnm06a}.
+     */
+    public static void iauPnm06a(double date1, double date2, Pointer<Double> rnpb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPnm06a(date1, date2, rnpb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPnm06a(date1, date2, rnpb);
+        PNM06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPnm80}.
+     */
+    public static void iauPnm80(double date1, double date2, Pointer<Double> rmatpn) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPnm80(date1, date2, rmatpn);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPnm80(date1, date2, rmatpn);
+        PNM80.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPom00}.
+     */
+    public static void iauPom00(double xp, double yp, double sp, Pointer<Double> rpom) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPom00(xp, yp, sp, rpom);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPom00(xp, yp, sp, rpom);
+        POM00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPr00}.
+     */
+    public static void iauPr00(double date1, double date2, Pointer<Double> dpsipr, Pointer<Double> depspr) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPr00(date1, date2, dpsipr, depspr);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPr00(date1, date2, dpsipr, depspr);
+        PR00.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPrec76}.
+     */
+    public static void iauPrec76(double date01, double date02, double date11, double date12, Pointer<Double> zeta, Pointer<Double> z, Pointer<Double> theta) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPrec76(date01, date02, date11, date12, zeta, z, theta);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPrec76(date01, date02, date11, date12, zeta, z, theta);
+        PREC76.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS00}.
+     */
+    public static double iauS00(double date1, double date2, double x, double y) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauS00(date1, date2, x, y);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauS00(date1, date2, x, y);
+        S00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS00a}.
+     */
+    public static double iauS00a(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauS00a(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauS00a(date1, date2);
+        S00A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS00b}.
+     */
+    public static double iauS00b(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauS00b(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauS00b(date1, date2);
+        S00B.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS06}.
+     */
+    public static double iauS06(double date1, double date2, double x, double y) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauS06(date1, date2, x, y);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauS06(date1, date2, x, y);
+        S06.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS06a}.
+     */
+    public static double iauS06a(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauS06a(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauS06a(date1, date2);
+        S06A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauSp00}.
+     */
+    public static double iauSp00(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauSp00(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauSp00(date1, date2);
+        SP00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauXy06}.
+     */
+    public static void iauXy06(double date1, double date2, Pointer<Double> x, Pointer<Double> y) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauXy06(date1, date2, x, y);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauXy06(date1, date2, x, y);
+        XY06.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauXys00a}.
+     */
+    public static void iauXys00a(double date1, double date2, Pointer<Double> x, Pointer<Double> y, Pointer<Double> s) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauXys00a(date1, date2, x, y, s);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauXys00a(date1, date2, x, y, s);
+        XYS00A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauXys00b}.
+     */
+    public static void iauXys00b(double date1, double date2, Pointer<Double> x, Pointer<Double> y, Pointer<Double> s) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauXys00b(date1, date2, x, y, s);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauXys00b(date1, date2, x, y, s);
+        XYS00B.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauXys06a}.
+     */
+    public static void iauXys06a(double date1, double date2, Pointer<Double> x, Pointer<Double> y, Pointer<Double> s) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauXys06a(date1, date2, x, y, s);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauXys06a(date1, date2, x, y, s);
+        XYS06A.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEe00}.
+     */
+    public static double iauEe00(double date1, double date2, double epsa, double dpsi) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEe00(date1, date2, epsa, dpsi);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEe00(date1, date2, epsa, dpsi);
+        EE00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEe00a}.
+     */
+    public static double iauEe00a(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEe00a(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEe00a(date1, date2);
+        EE00A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEe00b}.
+     */
+    public static double iauEe00b(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEe00b(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEe00b(date1, date2);
+        EE00B.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEe06a}.
+     */
+    public static double iauEe06a(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEe06a(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEe06a(date1, date2);
+        EE06A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEect00}.
+     */
+    public static double iauEect00(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEect00(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEect00(date1, date2);
+        EECT00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEqeq94}.
+     */
+    public static double iauEqeq94(double date1, double date2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEqeq94(date1, date2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEqeq94(date1, date2);
+        EQEQ94.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEra00}.
+     */
+    public static double iauEra00(double dj1, double dj2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEra00(dj1, dj2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauEra00(dj1, dj2);
+        ERA00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGmst00}.
+     */
+    public static double iauGmst00(double uta, double utb, double tta, double ttb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGmst00(uta, utb, tta, ttb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGmst00(uta, utb, tta, ttb);
+        GMST00.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGmst06}.
+     */
+    public static double iauGmst06(double uta, double utb, double tta, double ttb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGmst06(uta, utb, tta, ttb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGmst06(uta, utb, tta, ttb);
+        GMST06.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGmst82}.
+     */
+    public static double iauGmst82(double dj1, double dj2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGmst82(dj1, dj2);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGmst82(dj1, dj2);
+        GMST82.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGst00a}.
+     */
+    public static double iauGst00a(double uta, double utb, double tta, double ttb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGst00a(uta, utb, tta, ttb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGst00a(uta, utb, tta, ttb);
+        GST00A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGst00b}.
+     */
+    public static double iauGst00b(double uta, double utb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGst00b(uta, utb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGst00b(uta, utb);
+        GST00B.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGst06}.
+     */
+    public static double iauGst06(double uta, double utb, double tta, double ttb, Pointer<Double> rnpb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGst06(uta, utb, tta, ttb, rnpb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGst06(uta, utb, tta, ttb, rnpb);
+        GST06.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGst06a}.
+     */
+    public static double iauGst06a(double uta, double utb, double tta, double ttb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGst06a(uta, utb, tta, ttb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGst06a(uta, utb, tta, ttb);
+        GST06A.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGst94}.
+     */
+    public static double iauGst94(double uta, double utb) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGst94(uta, utb);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauGst94(uta, utb);
+        GST94.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvstar}.
+     */
+    public static int iauPvstar(Pointer<Double> pv, Pointer<Double> ra, Pointer<Double> dec, Pointer<Double> pmr, Pointer<Double> pmd, Pointer<Double> px, Pointer<Double> rv) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPvstar(pv, ra, dec, pmr, pmd, px, rv);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauPvstar(pv, ra, dec, pmr, pmd, px, rv);
+        PVSTAR.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauStarpv}.
+     */
+    public static int iauStarpv(double ra, double dec, double pmr, double pmd, double px, double rv, Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauStarpv(ra, dec, pmr, pmd, px, rv, pv);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauStarpv(ra, dec, pmr, pmd, px, rv, pv);
+        STARPV.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFk52h}.
+     */
+    public static void iauFk52h(double r5, double d5, double dr5, double dd5, double px5, double rv5, Pointer<Double> rh, Pointer<Double> dh, Pointer<Double> drh, Pointer<Double> ddh, Pointer<Double> pxh, Pointer<Double> rvh) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauFk52h(r5, d5, dr5, dd5, px5, rv5, rh, dh, drh, ddh, pxh, rvh);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauFk52h(r5, d5, dr5, dd5, px5, rv5, rh, dh, drh, ddh, pxh, rvh);
+        FK52H.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFk5hip}.
+     */
+    public static void iauFk5hip(Pointer<Double> r5h, Pointer<Double> s5h) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauFk5hip(r5h, s5h);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauFk5hip(r5h, s5h);
+        FK5HIP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauFk5hz}.
+     */
+    public static void iauFk5hz(double r5, double d5, double date1, double date2, Pointer<Double> rh, Pointer<Double> dh) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauFk5hz(r5, d5, date1, date2, rh, dh);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauFk5hz(r5, d5, date1, date2, rh, dh);
+        FK5HZ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauH2fk5}.
+     */
+    public static void iauH2fk5(double rh, double dh, double drh, double ddh, double pxh, double rvh, Pointer<Double> r5, Pointer<Double> d5, Pointer<Double> dr5, Pointer<Double> dd5, Pointer<Double> px5, Pointer<Double> rv5) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauH2fk5(rh, dh, drh, ddh, pxh, rvh, r5, d5, dr5, dd5, px5, rv5);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauH2fk5(rh, dh, drh, ddh, pxh, rvh, r5, d5, dr5, dd5, px5, rv5);
+        H2FK5.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauHfk5z}.
+     */
+    public static void iauHfk5z(double rh, double dh, double date1, double date2, Pointer<Double> r5, Pointer<Double> d5, Pointer<Double> dr5, Pointer<Double> dd5) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauHfk5z(rh, dh, date1, date2, r5, d5, dr5, dd5);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauHfk5z(rh, dh, date1, date2, r5, d5, dr5, dd5);
+        HFK5Z.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauStarpm}.
+     */
+    public static int iauStarpm(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, Pointer<Double> ra2, Pointer<Double> dec2, Pointer<Double> pmr2, Pointer<Double> pmd2, Pointer<Double> px2, Pointer<Double> rv2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, dec2, pmr2, pmd2, px2, rv2);
+        STARPM.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauEform}.
+     */
+    public static int iauEform(int n, Pointer<Double> a, Pointer<Double> f) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauEform(n, a, f);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauEform(n, a, f);
+        EFORM.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGc2gd}.
+     */
+    public static int iauGc2gd(int n, Pointer<Double> xyz, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGc2gd(n, xyz, elong, phi, height);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauGc2gd(n, xyz, elong, phi, height);
+        GC2GD.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGc2gde}.
+     */
+    public static int iauGc2gde(double a, double f, Pointer<Double> xyz, Pointer<Double> elong, Pointer<Double> phi, Pointer<Double> height) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGc2gde(a, f, xyz, elong, phi, height);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauGc2gde(a, f, xyz, elong, phi, height);
+        GC2GDE.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGd2gc}.
+     */
+    public static int iauGd2gc(int n, double elong, double phi, double height, Pointer<Double> xyz) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGd2gc(n, elong, phi, height, xyz);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauGd2gc(n, elong, phi, height, xyz);
+        GD2GC.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauGd2gce}.
+     */
+    public static int iauGd2gce(double a, double f, double elong, double phi, double height, Pointer<Double> xyz) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauGd2gce(a, f, elong, phi, height, xyz);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauGd2gce(a, f, elong, phi, height, xyz);
+        GD2GCE.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauD2dtf}.
+     */
+    public static int iauD2dtf(Pointer<Byte> scale, int ndp, double d1, double d2, Pointer<Integer> iy, Pointer<Integer> im, Pointer<Integer> id, Pointer<Integer> ihmsf) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauD2dtf(scale, ndp, d1, d2, iy, im, id, ihmsf);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauD2dtf(scale, ndp, d1, d2, iy, im, id, ihmsf);
+        D2DTF.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauDat}.
+     */
+    public static int iauDat(int iy, int im, int id, double fd, Pointer<Double> deltat) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauDat(iy, im, id, fd, deltat);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauDat(iy, im, id, fd, deltat);
+        DAT.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauDtdb}.
+     */
+    public static double iauDtdb(double date1, double date2, double ut, double elong, double u, double v) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauDtdb(date1, date2, ut, elong, u, v);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauDtdb(date1, date2, ut, elong, u, v);
+        DTDB.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauDtf2d}.
+     */
+    public static int iauDtf2d(Pointer<Byte> scale, int iy, int im, int id, int ihr, int imn, double sec, Pointer<Double> d1, Pointer<Double> d2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauDtf2d(scale, iy, im, id, ihr, imn, sec, d1, d2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauDtf2d(scale, iy, im, id, ihr, imn, sec, d1, d2);
+        DTF2D.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTaitt}.
+     */
+    public static int iauTaitt(double tai1, double tai2, Pointer<Double> tt1, Pointer<Double> tt2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTaitt(tai1, tai2, tt1, tt2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTaitt(tai1, tai2, tt1, tt2);
+        TAITT.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTaiut1}.
+     */
+    public static int iauTaiut1(double tai1, double tai2, double dta, Pointer<Double> ut11, Pointer<Double> ut12) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTaiut1(tai1, tai2, dta, ut11, ut12);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTaiut1(tai1, tai2, dta, ut11, ut12);
+        TAIUT1.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTaiutc}.
+     */
+    public static int iauTaiutc(double tai1, double tai2, Pointer<Double> utc1, Pointer<Double> utc2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTaiutc(tai1, tai2, utc1, utc2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTaiutc(tai1, tai2, utc1, utc2);
+        TAIUTC.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTcbtdb}.
+     */
+    public static int iauTcbtdb(double tcb1, double tcb2, Pointer<Double> tdb1, Pointer<Double> tdb2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTcbtdb(tcb1, tcb2, tdb1, tdb2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTcbtdb(tcb1, tcb2, tdb1, tdb2);
+        TCBTDB.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTcgtt}.
+     */
+    public static int iauTcgtt(double tcg1, double tcg2, Pointer<Double> tt1, Pointer<Double> tt2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTcgtt(tcg1, tcg2, tt1, tt2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTcgtt(tcg1, tcg2, tt1, tt2);
+        TCGTT.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTdbtcb}.
+     */
+    public static int iauTdbtcb(double tdb1, double tdb2, Pointer<Double> tcb1, Pointer<Double> tcb2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTdbtcb(tdb1, tdb2, tcb1, tcb2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTdbtcb(tdb1, tdb2, tcb1, tcb2);
+        TDBTCB.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTdbtt}.
+     */
+    public static int iauTdbtt(double tdb1, double tdb2, double dtr, Pointer<Double> tt1, Pointer<Double> tt2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTdbtt(tdb1, tdb2, dtr, tt1, tt2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTdbtt(tdb1, tdb2, dtr, tt1, tt2);
+        TDBTT.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTttai}.
+     */
+    public static int iauTttai(double tt1, double tt2, Pointer<Double> tai1, Pointer<Double> tai2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTttai(tt1, tt2, tai1, tai2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTttai(tt1, tt2, tai1, tai2);
+        TTTAI.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTttcg}.
+     */
+    public static int iauTttcg(double tt1, double tt2, Pointer<Double> tcg1, Pointer<Double> tcg2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTttcg(tt1, tt2, tcg1, tcg2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTttcg(tt1, tt2, tcg1, tcg2);
+        TTTCG.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTttdb}.
+     */
+    public static int iauTttdb(double tt1, double tt2, double dtr, Pointer<Double> tdb1, Pointer<Double> tdb2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTttdb(tt1, tt2, dtr, tdb1, tdb2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTttdb(tt1, tt2, dtr, tdb1, tdb2);
+        TTTDB.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTtut1}.
+     */
+    public static int iauTtut1(double tt1, double tt2, double dt, Pointer<Double> ut11, Pointer<Double> ut12) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTtut1(tt1, tt2, dt, ut11, ut12);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTtut1(tt1, tt2, dt, ut11, ut12);
+        TTUT1.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauUt1tai}.
+     */
+    public static int iauUt1tai(double ut11, double ut12, double dta, Pointer<Double> tai1, Pointer<Double> tai2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauUt1tai(ut11, ut12, dta, tai1, tai2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauUt1tai(ut11, ut12, dta, tai1, tai2);
+        UT1TAI.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauUt1tt}.
+     */
+    public static int iauUt1tt(double ut11, double ut12, double dt, Pointer<Double> tt1, Pointer<Double> tt2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauUt1tt(ut11, ut12, dt, tt1, tt2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauUt1tt(ut11, ut12, dt, tt1, tt2);
+        UT1TT.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauUt1utc}.
+     */
+    public static int iauUt1utc(double ut11, double ut12, double dut1, Pointer<Double> utc1, Pointer<Double> utc2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauUt1utc(ut11, ut12, dut1, utc1, utc2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauUt1utc(ut11, ut12, dut1, utc1, utc2);
+        UT1UTC.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauUtctai}.
+     */
+    public static int iauUtctai(double utc1, double utc2, Pointer<Double> tai1, Pointer<Double> tai2) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauUtctai(utc1, utc2, tai1, tai2);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauUtctai(utc1, utc2, tai1, tai2);
+        UTCTAI.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauUtcut1}.
+     */
+    public static int iauUtcut1(double utc1, double utc2, double dut1, Pointer<Double> ut11, Pointer<Double> ut12) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauUtcut1(utc1, utc2, dut1, ut11, ut12);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauUtcut1(utc1, utc2, dut1, ut11, ut12);
+        UTCUT1.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauA2af}.
+     */
+    public static void iauA2af(int ndp, double angle, Pointer<Byte> sign, Pointer<Integer> idmsf) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauA2af(ndp, angle, sign, idmsf);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauA2af(ndp, angle, sign, idmsf);
+        A2AF.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauA2tf}.
+     */
+    public static void iauA2tf(int ndp, double angle, Pointer<Byte> sign, Pointer<Integer> ihmsf) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauA2tf(ndp, angle, sign, ihmsf);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauA2tf(ndp, angle, sign, ihmsf);
+        A2TF.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAf2a}.
+     */
+    public static int iauAf2a(byte s, int ideg, int iamin, double asec, Pointer<Double> rad) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAf2a(s, ideg, iamin, asec, rad);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauAf2a(s, ideg, iamin, asec, rad);
+        AF2A.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAnp}.
+     */
+    public static double iauAnp(double a) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAnp(a);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauAnp(a);
+        ANP.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauAnpm}.
+     */
+    public static double iauAnpm(double a) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauAnpm(a);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauAnpm(a);
+        ANPM.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauD2tf}.
+     */
+    public static void iauD2tf(int ndp, double days, Pointer<Byte> sign, Pointer<Integer> ihmsf) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauD2tf(ndp, days, sign, ihmsf);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauD2tf(ndp, days, sign, ihmsf);
+        D2TF.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTf2a}.
+     */
+    public static int iauTf2a(byte s, int ihour, int imin, double sec, Pointer<Double> rad) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTf2a(s, ihour, imin, sec, rad);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTf2a(s, ihour, imin, sec, rad);
+        TF2A.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTf2d}.
+     */
+    public static int iauTf2d(byte s, int ihour, int imin, double sec, Pointer<Double> days) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauTf2d(s, ihour, imin, sec, days);
+        long start = System.nanoTime();
+        int result = SofaLibrary.iauTf2d(s, ihour, imin, sec, days);
+        TF2D.record(start, result);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRx}.
+     */
+    public static void iauRx(double phi, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRx(phi, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRx(phi, r);
+        RX.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRy}.
+     */
+    public static void iauRy(double theta, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRy(theta, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRy(theta, r);
+        RY.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRz}.
+     */
+    public static void iauRz(double psi, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRz(psi, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRz(psi, r);
+        RZ.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauCp}.
+     */
+    public static void iauCp(Pointer<Double> p, Pointer<Double> c) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauCp(p, c);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauCp(p, c);
+        CP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauCpv}.
+     */
+    public static void iauCpv(Pointer<Double> pv, Pointer<Double> c) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauCpv(pv, c);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauCpv(pv, c);
+        CPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauCr}.
+     */
+    public static void iauCr(Pointer<Double> r, Pointer<Double> c) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauCr(r, c);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauCr(r, c);
+        CR.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauP2pv}.
+     */
+    public static void iauP2pv(Pointer<Double> p, Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauP2pv(p, pv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauP2pv(p, pv);
+        P2PV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPv2p}.
+     */
+    public static void iauPv2p(Pointer<Double> pv, Pointer<Double> p) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPv2p(pv, p);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPv2p(pv, p);
+        PV2P.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauIr}.
+     */
+    public static void iauIr(Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauIr(r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauIr(r);
+        IR.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauZp}.
+     */
+    public static void iauZp(Pointer<Double> p) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauZp(p);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauZp(p);
+        ZP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauZpv}.
+     */
+    public static void iauZpv(Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauZpv(pv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauZpv(pv);
+        ZPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauZr}.
+     */
+    public static void iauZr(Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauZr(r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauZr(r);
+        ZR.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRxr}.
+     */
+    public static void iauRxr(Pointer<Double> a, Pointer<Double> b, Pointer<Double> atb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRxr(a, b, atb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRxr(a, b, atb);
+        RXR.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTr}.
+     */
+    public static void iauTr(Pointer<Double> r, Pointer<Double> rt) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauTr(r, rt);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauTr(r, rt);
+        TR.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRxp}.
+     */
+    public static void iauRxp(Pointer<Double> r, Pointer<Double> p, Pointer<Double> rp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRxp(r, p, rp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRxp(r, p, rp);
+        RXP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRxpv}.
+     */
+    public static void iauRxpv(Pointer<Double> r, Pointer<Double> pv, Pointer<Double> rpv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRxpv(r, pv, rpv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRxpv(r, pv, rpv);
+        RXPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTrxp}.
+     */
+    public static void iauTrxp(Pointer<Double> r, Pointer<Double> p, Pointer<Double> trp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauTrxp(r, p, trp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauTrxp(r, p, trp);
+        TRXP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauTrxpv}.
+     */
+    public static void iauTrxpv(Pointer<Double> r, Pointer<Double> pv, Pointer<Double> trpv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauTrxpv(r, pv, trpv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauTrxpv(r, pv, trpv);
+        TRXPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRm2v}.
+     */
+    public static void iauRm2v(Pointer<Double> r, Pointer<Double> w) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRm2v(r, w);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRm2v(r, w);
+        RM2V.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauRv2m}.
+     */
+    public static void iauRv2m(Pointer<Double> w, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauRv2m(w, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauRv2m(w, r);
+        RV2M.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPap}.
+     */
+    public static double iauPap(Pointer<Double> a, Pointer<Double> b) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPap(a, b);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauPap(a, b);
+        PAP.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPas}.
+     */
+    public static double iauPas(double al, double ap, double bl, double bp) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPas(al, ap, bl, bp);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauPas(al, ap, bl, bp);
+        PAS.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauSepp}.
+     */
+    public static double iauSepp(Pointer<Double> a, Pointer<Double> b) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauSepp(a, b);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauSepp(a, b);
+        SEPP.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauSeps}.
+     */
+    public static double iauSeps(double al, double ap, double bl, double bp) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauSeps(al, ap, bl, bp);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauSeps(al, ap, bl, bp);
+        SEPS.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauC2s}.
+     */
+    public static void iauC2s(Pointer<Double> p, Pointer<Double> theta, Pointer<Double> phi) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauC2s(p, theta, phi);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauC2s(p, theta, phi);
+        C2S.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauP2s}.
+     */
+    public static void iauP2s(Pointer<Double> p, Pointer<Double> theta, Pointer<Double> phi, Pointer<Double> r) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauP2s(p, theta, phi, r);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauP2s(p, theta, phi, r);
+        P2S.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPv2s}.
+     */
+    public static void iauPv2s(Pointer<Double> pv, Pointer<Double> theta, Pointer<Double> phi, Pointer<Double> r, Pointer<Double> td, Pointer<Double> pd, Pointer<Double> rd) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPv2s(pv, theta, phi, r, td, pd, rd);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPv2s(pv, theta, phi, r, td, pd, rd);
+        PV2S.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS2c}.
+     */
+    public static void iauS2c(double theta, double phi, Pointer<Double> c) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauS2c(theta, phi, c);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauS2c(theta, phi, c);
+        S2C.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS2p}.
+     */
+    public static void iauS2p(double theta, double phi, double r, Pointer<Double> p) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauS2p(theta, phi, r, p);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauS2p(theta, phi, r, p);
+        S2P.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS2pv}.
+     */
+    public static void iauS2pv(double theta, double phi, double r, double td, double pd, double rd, Pointer<Double> pv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauS2pv(theta, phi, r, td, pd, rd, pv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauS2pv(theta, phi, r, td, pd, rd, pv);
+        S2PV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPdp}.
+     */
+    public static double iauPdp(Pointer<Double> a, Pointer<Double> b) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPdp(a, b);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauPdp(a, b);
+        PDP.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPm}.
+     */
+    public static double iauPm(Pointer<Double> p) {
+        if (!SofaMetrics.ENABLED)
+            return SofaLibrary.iauPm(p);
+        long start = System.nanoTime();
+        double result = SofaLibrary.iauPm(p);
+        PM.record(start, 0);
+        return result;
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPmp}.
+     */
+    public static void iauPmp(Pointer<Double> a, Pointer<Double> b, Pointer<Double> amb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPmp(a, b, amb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPmp(a, b, amb);
+        PMP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPn}.
+     */
+    public static void iauPn(Pointer<Double> p, Pointer<Double> r, Pointer<Double> u) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPn(p, r, u);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPn(p, r, u);
+        PN.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPpp}.
+     */
+    public static void iauPpp(Pointer<Double> a, Pointer<Double> b, Pointer<Double> apb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPpp(a, b, apb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPpp(a, b, apb);
+        PPP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPpsp}.
+     */
+    public static void iauPpsp(Pointer<Double> a, double s, Pointer<Double> b, Pointer<Double> apsb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPpsp(a, s, b, apsb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPpsp(a, s, b, apsb);
+        PPSP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvdpv}.
+     */
+    public static void iauPvdpv(Pointer<Double> a, Pointer<Double> b, Pointer<Double> adb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvdpv(a, b, adb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvdpv(a, b, adb);
+        PVDPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvm}.
+     */
+    public static void iauPvm(Pointer<Double> pv, Pointer<Double> r, Pointer<Double> s) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvm(pv, r, s);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvm(pv, r, s);
+        PVM.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvmpv}.
+     */
+    public static void iauPvmpv(Pointer<Double> a, Pointer<Double> b, Pointer<Double> amb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvmpv(a, b, amb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvmpv(a, b, amb);
+        PVMPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvppv}.
+     */
+    public static void iauPvppv(Pointer<Double> a, Pointer<Double> b, Pointer<Double> apb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvppv(a, b, apb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvppv(a, b, apb);
+        PVPPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvu}.
+     */
+    public static void iauPvu(double dt, Pointer<Double> pv, Pointer<Double> upv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvu(dt, pv, upv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvu(dt, pv, upv);
+        PVU.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvup}.
+     */
+    public static void iauPvup(double dt, Pointer<Double> pv, Pointer<Double> p) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvup(dt, pv, p);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvup(dt, pv, p);
+        PVUP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPvxpv}.
+     */
+    public static void iauPvxpv(Pointer<Double> a, Pointer<Double> b, Pointer<Double> axb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPvxpv(a, b, axb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPvxpv(a, b, axb);
+        PVXPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauPxp}.
+     */
+    public static void iauPxp(Pointer<Double> a, Pointer<Double> b, Pointer<Double> axb) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauPxp(a, b, axb);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauPxp(a, b, axb);
+        PXP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauS2xpv}.
+     */
+    public static void iauS2xpv(double s1, double s2, Pointer<Double> pv, Pointer<Double> spv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauS2xpv(s1, s2, pv, spv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauS2xpv(s1, s2, pv, spv);
+        S2XPV.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauSxp}.
+     */
+    public static void iauSxp(double s, Pointer<Double> p, Pointer<Double> sp) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauSxp(s, p, sp);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauSxp(s, p, sp);
+        SXP.record(start, 0);
+    }
+
+    /**
+     * Instrumented {@link SofaLibrary#iauSxpv}.
+     */
+    public static void iauSxpv(double s, Pointer<Double> pv, Pointer<Double> spv) {
+        if (!SofaMetrics.ENABLED) {
+            SofaLibrary.iauSxpv(s, pv, spv);
+            return;
+        }
+        long start = System.nanoTime();
+        SofaLibrary.iauSxpv(s, pv, spv);
+        SXPV.record(start, 0);
+    }
+
+}
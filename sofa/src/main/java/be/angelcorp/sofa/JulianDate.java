@@ -0,0 +1,131 @@
+package be.angelcorp.sofa;
+
+/**
+ * Immutable two-part Julian Date, as the date1 and date2 arguments of the SOFA routines.<br>
+ * <br>
+ * The date is jd1 + jd2, apportioned between the two parts in any convenient way, e.g. the Julian Day Number and
+ * the fraction of day, or J2000.0 and the days since. Like SOFA, the arithmetic keeps the split: amounts are added
+ * to the part with the smaller magnitude, so the precision of a small offset is not lost in a large Julian Date. A
+ * JulianDate does not carry its time scale, see {@link TimeScale} for the conversions.<br>
+ * <br>
+ * The class is a plain value: final, with only final fields, no identity-sensitive behaviour (equality compares the
+ * two parts) and no public constructor, so it can become a value class once the JVM supports them. In the meantime,
+ * short-lived instances in inlined code (such as the intermediate dates of a {@link TimeScale} conversion) are removed
+ * by escape analysis.
+ */
+public final class JulianDate {
+
+    /** Reference epoch (J2000.0), Julian Date */
+    private static final double DJ00 = 2451545.0;
+
+    /** Julian Date of Modified Julian Date zero */
+    private static final double DJM0 = 2400000.5;
+
+    /** Days per Julian century */
+    private static final double DJC = 36525.0;
+
+    /** Seconds per day */
+    private static final double DAYSEC = 86400.0;
+
+    /** The reference epoch J2000.0, 2000 January 1.5 TT. */
+    public static final JulianDate J2000 = new JulianDate(DJ00, 0.0);
+
+    private final double jd1;
+    private final double jd2;
+
+    private JulianDate(double jd1, double jd2) {
+        this.jd1 = jd1;
+        this.jd2 = jd2;
+    }
+
+    /**
+     * Two-part Julian Date jd1 + jd2.
+     */
+    public static JulianDate of(double jd1, double jd2) {
+        return new JulianDate(jd1, jd2);
+    }
+
+    /**
+     * Modified Julian Date, as the parts {@link SofaLibrary#DJM0} and mjd.
+     */
+    public static JulianDate ofMjd(double mjd) {
+        return new JulianDate(DJM0, mjd);
+    }
+
+    /** First part of the date. */
+    public double jd1() {
+        return jd1;
+    }
+
+    /** Second part of the date. */
+    public double jd2() {
+        return jd2;
+    }
+
+    /** Julian Date as a single number (jd1 + jd2, with the precision of one double). */
+    public double jd() {
+        return jd1 + jd2;
+    }
+
+    /** Modified Julian Date (jd - {@link SofaLibrary#DJM0}). */
+    public double mjd() {
+        return (jd1 - DJM0) + jd2;
+    }
+
+    /** Julian centuries since J2000.0, the argument t of many SOFA models. */
+    public double centuriesSinceJ2000() {
+        return ((jd1 - DJ00) + jd2) / DJC;
+    }
+
+    /**
+     * This date plus a number of days, added to the smaller part.
+     */
+    public JulianDate plusDays(double days) {
+        return Math.abs(jd1) >= Math.abs(jd2) ? new JulianDate(jd1, jd2 + days) : new JulianDate(jd1 + days, jd2);
+    }
+
+    /**
+     * This date plus a number of seconds (of 86400 per day), added to the smaller part.
+     */
+    public JulianDate plusSeconds(double seconds) {
+        return plusDays(seconds / DAYSEC);
+    }
+
+    /**
+     * Days from the given date to this date, differencing the parts separately.
+     */
+    public double daysSince(JulianDate other) {
+        return (jd1 - other.jd1) + (jd2 - other.jd2);
+    }
+
+    /**
+     * Seconds (of 86400 per day) from the given date to this date.
+     */
+    public double secondsSince(JulianDate other) {
+        return daysSince(other) * DAYSEC;
+    }
+
+    /**
+     * @return True if both parts are equal, i.e. the same split of the same date. Differently split dates of the
+     *         same instant are not equal, compare {@link #daysSince} with zero instead.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof JulianDate)) return false;
+        JulianDate other = (JulianDate) o;
+        return Double.doubleToLongBits(jd1) == Double.doubleToLongBits(other.jd1)
+            && Double.doubleToLongBits(jd2) == Double.doubleToLongBits(other.jd2);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 31 * Double.doubleToLongBits(jd1) + Double.doubleToLongBits(jd2);
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "JD " + jd1 + " + " + jd2;
+    }
+
+}
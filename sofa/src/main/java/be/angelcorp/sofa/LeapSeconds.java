@@ -0,0 +1,145 @@
+package be.angelcorp.sofa;
+
+/**
+ * Pure-Java Delta(AT) = TAI-UTC with a constant time table lookup, equivalent to {@link SofaLibrary#iauDat}.<br>
+ * <br>
+ * This class uses computations derived from the iauDat routine of the IAU SOFA software collection (release
+ * 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the
+ * original in how the Delta(AT) table is searched: instead of scanning the table backwards, dates from the last change
+ * onwards (the current era) are recognized with one comparison, and earlier dates use an index holding the table entry
+ * in effect for every month since 1960 January (all changes are on the first of a month). The table, the drift
+ * corrections of the pre-1972 era and the status values are those of iauDat.<br>
+ * <br>
+ * The native library contains the same lookup as leapDat, see {@link BulkLibrary#leapDat}.
+ */
+public final class LeapSeconds {
+
+    /** Release year of the iauDat this class is derived from */
+    private static final int IYV = 2013;
+
+    /** Reference dates (MJD) and drift rates (s/day), pre leap seconds */
+    private static final double[] DRIFT_MJD = {
+            37300.0, 37300.0, 37300.0, 37665.0, 37665.0, 38761.0, 38761.0,
+            38761.0, 38761.0, 38761.0, 38761.0, 38761.0, 39126.0, 39126.0 };
+    private static final double[] DRIFT_RATE = {
+            0.0012960, 0.0012960, 0.0012960, 0.0011232, 0.0011232, 0.0012960, 0.0012960,
+            0.0012960, 0.0012960, 0.0012960, 0.0012960, 0.0012960, 0.0025920, 0.0025920 };
+
+    /** Dates (year, month) of the Delta(AT) changes */
+    private static final int[] CHANGE_YEAR = {
+            1960, 1961, 1961, 1962, 1963, 1964, 1964, 1964, 1965, 1965,
+            1965, 1965, 1966, 1968, 1972, 1972, 1973, 1974, 1975, 1976,
+            1977, 1978, 1979, 1980, 1981, 1982, 1983, 1985, 1988, 1990,
+            1991, 1992, 1993, 1994, 1996, 1997, 1999, 2006, 2009, 2012 };
+    private static final int[] CHANGE_MONTH = {
+            1, 1, 8, 1, 11, 1, 4, 9, 1, 3,
+            7, 9, 1, 2, 1, 7, 1, 1, 1, 1,
+            1, 1, 1, 1, 7, 7, 7, 7, 1, 1,
+            1, 7, 7, 7, 1, 7, 1, 1, 1, 7 };
+    /** Delta(AT) from the corresponding change onwards */
+    private static final double[] CHANGE_DELAT = {
+            1.4178180, 1.4228180, 1.3728180, 1.8458580, 1.9458580, 3.2401300, 3.3401300, 3.4401300, 3.5401300, 3.6401300,
+            3.7401300, 3.8401300, 4.3131700, 4.2131700, 10.0,      11.0,      12.0,      13.0,      14.0,      15.0,
+            16.0,      17.0,      18.0,      19.0,      20.0,      21.0,      22.0,      23.0,      24.0,      25.0,
+            26.0,      27.0,      28.0,      29.0,      30.0,      31.0,      32.0,      33.0,      34.0,      35.0 };
+
+    /** Month lengths in days */
+    private static final int[] MTAB = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    /** Month key (12 * year + month) of the first and the last change */
+    private static final int FIRST_KEY = 12 * CHANGE_YEAR[0] + CHANGE_MONTH[0];
+    private static final int LAST_KEY  = 12 * CHANGE_YEAR[CHANGE_YEAR.length - 1] + CHANGE_MONTH[CHANGE_MONTH.length - 1];
+
+    /** Entry of the change tables in effect, for every month from the first up to (not including) the last change */
+    private static final byte[] INDEX = new byte[LAST_KEY - FIRST_KEY];
+
+    static {
+        int i = 0;
+        for (int key = FIRST_KEY; key < LAST_KEY; key++) {
+            while (key >= 12 * CHANGE_YEAR[i + 1] + CHANGE_MONTH[i + 1])
+                i++;
+            INDEX[key - FIRST_KEY] = (byte) i;
+        }
+    }
+
+    private LeapSeconds() {
+    }
+
+    /**
+     * For a given UTC date, calculate delta(AT) = TAI-UTC, see {@link SofaLibrary#iauDat}.
+     *
+     * @param iy     UTC year.
+     * @param im     UTC month.
+     * @param id     UTC day.
+     * @param fd     UTC fraction of day.
+     * @param deltat Returned TAI minus UTC, seconds.
+     * @param offset Index in deltat where the result is written.
+     * @return Status, as iauDat: 1 = dubious year, 0 = OK, -1 = bad year, -2 = bad month, -3 = bad day,
+     *         -4 = bad fraction.
+     */
+    public static int dat(int iy, int im, int id, double fd, double[] deltat, int offset) {
+        /* Initialize the result to zero. */
+        deltat[offset] = 0.0;
+
+        /* If invalid fraction of a day, set error status and give up. */
+        if (fd < 0.0 || fd > 1.0) return -4;
+
+        /* Validate the date as iauCal2jd, if invalid year, month, or day, give up. */
+        if (iy < -4799) return -1;
+        if (im < 1 || im > 12) return -2;
+        int ly = (im == 2 && iy % 4 == 0 && (iy % 100 != 0 || iy % 400 == 0)) ? 1 : 0;
+        if (id < 1 || id > MTAB[im - 1] + ly) return -3;
+
+        /* If pre-UTC year, set warning status and give up. */
+        if (iy < CHANGE_YEAR[0]) return 1;
+
+        /* If suspiciously late year, set warning status but proceed. */
+        int j = (iy > IYV + 5) ? 1 : 0;
+
+        deltat[offset] = delta(iy, im, id, fd);
+        return j;
+    }
+
+    /**
+     * Delta(AT) of a valid calendar date, without status: 0 before 1960, as iauDat.
+     */
+    static double delta(int iy, int im, int id, double fd) {
+        if (iy < CHANGE_YEAR[0]) return 0.0;
+
+        /* Find the preceding table entry, from the month key. */
+        int key = 12 * iy + im;
+        int i = (key >= LAST_KEY) ? CHANGE_DELAT.length - 1 : INDEX[key - FIRST_KEY];
+
+        /* Get the Delta(AT). */
+        double da = CHANGE_DELAT[i];
+
+        /* If pre-1972, adjust for drift. */
+        if (i < DRIFT_MJD.length)
+            da += (mjd(iy, im, id) + fd - DRIFT_MJD[i]) * DRIFT_RATE[i];
+
+        return da;
+    }
+
+    /**
+     * For a given UTC date, calculate delta(AT) = TAI-UTC, see {@link SofaLibrary#iauDat}.
+     *
+     * @param deltat Returned TAI minus UTC in deltat[0], seconds.
+     * @return Status, as iauDat.
+     */
+    public static int dat(int iy, int im, int id, double fd, double[] deltat) {
+        return dat(iy, im, id, fd, deltat, 0);
+    }
+
+    /**
+     * Modified Julian Date at 0h of a (valid) Gregorian calendar date, as iauCal2jd.
+     */
+    private static double mjd(int iy, int im, int id) {
+        int my = (im - 14) / 12;
+        long iypmy = iy + my;
+        return (double) ((1461L * (iypmy + 4800L)) / 4L
+                + (367L * (long) (im - 2 - 12 * my)) / 12L
+                - (3L * ((iypmy + 4900L) / 100L)) / 4L
+                + (long) id - 2432076L);
+    }
+
+}
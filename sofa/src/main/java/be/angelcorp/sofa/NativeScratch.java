@@ -0,0 +1,133 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Thread-confined block of native memory, used to pass Java arrays to the sofa library without allocating native
+ * memory (or BridJ {@link Pointer} objects) on every call.
+ *
+ * Usage is always the same: {@link #get(long)} the scratch block with the total number of bytes required by the
+ * call, copy the inputs in with the put methods (each returns the native address to pass to the library), reserve
+ * space for pure outputs, call the native function, and copy the outputs back. The block is reset on every
+ * {@link #get(long)}, so it must not be held on to across calls.
+ *
+ * The block is accessed through a single direct {@link ByteBuffer} view in native byte order, since the bulk array
+ * accessors of {@link Pointer} allocate a new nio buffer view on every call.
+ */
+final class NativeScratch {
+
+    /** Initial size of the scratch block of each thread, large enough for all single sofa calls. */
+    private static final long INITIAL_CAPACITY = 4096;
+
+    private static final ThreadLocal<NativeScratch> LOCAL = ThreadLocal.withInitial(() -> new NativeScratch(INITIAL_CAPACITY));
+
+    private Pointer<Byte> pointer;
+    private ByteBuffer memory;
+    private long peer;
+    private long capacity;
+    private long position;
+
+    private NativeScratch(long capacity) {
+        allocate(capacity);
+    }
+
+    private void allocate(long capacity) {
+        if (pointer != null)
+            pointer.release();
+        this.pointer  = Pointer.allocateBytes(capacity);
+        this.memory   = pointer.getByteBuffer().order(ByteOrder.nativeOrder());
+        this.peer     = pointer.getPeer();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Scratch block of the current thread, reset and large enough to hold the given number of bytes.
+     */
+    static NativeScratch get(long bytes) {
+        NativeScratch scratch = LOCAL.get();
+        if (bytes > scratch.capacity)
+            scratch.allocate(Math.max(bytes, 2 * scratch.capacity));
+        scratch.position = 0;
+        return scratch;
+    }
+
+    /** Reserve space for the given number of doubles, returns the native address of the reserved space. */
+    long reserveDoubles(int length) {
+        long address = peer + position;
+        position += 8L * length;
+        return address;
+    }
+
+    /** Reserve space for the given number of ints, returns the native address of the reserved space. */
+    long reserveInts(int length) {
+        long address = peer + position;
+        // Keep all slots 8-byte aligned
+        position += 8L * ((length + 1) / 2);
+        return address;
+    }
+
+    /** Reserve space for the given number of bytes, returns the native address of the reserved space. */
+    long reserveBytes(int length) {
+        long address = peer + position;
+        position += 8L * ((length + 7) / 8);
+        return address;
+    }
+
+    long putDoubles(double[] values, int offset, int length) {
+        int index = (int) position;
+        for (int i = 0; i < length; i++)
+            memory.putDouble(index + 8 * i, values[offset + i]);
+        return reserveDoubles(length);
+    }
+
+    long putInts(int[] values, int offset, int length) {
+        int index = (int) position;
+        for (int i = 0; i < length; i++)
+            memory.putInt(index + 4 * i, values[offset + i]);
+        return reserveInts(length);
+    }
+
+    long putBytes(byte[] values, int offset, int length) {
+        int index = (int) position;
+        for (int i = 0; i < length; i++)
+            memory.put(index + i, values[offset + i]);
+        return reserveBytes(length);
+    }
+
+    /** Copy an (ASCII) string as a null terminated C string, returns its native address. */
+    long putString(String value) {
+        int index  = (int) position;
+        int length = value.length();
+        for (int i = 0; i < length; i++)
+            memory.put(index + i, (byte) value.charAt(i));
+        memory.put(index + length, (byte) 0);
+        return reserveBytes(length + 1);
+    }
+
+    void getDoubles(long address, double[] values, int offset, int length) {
+        int index = (int) (address - peer);
+        for (int i = 0; i < length; i++)
+            values[offset + i] = memory.getDouble(index + 8 * i);
+    }
+
+    void getInts(long address, int[] values, int offset, int length) {
+        int index = (int) (address - peer);
+        for (int i = 0; i < length; i++)
+            values[offset + i] = memory.getInt(index + 4 * i);
+    }
+
+    void getBytes(long address, byte[] values, int offset, int length) {
+        int index = (int) (address - peer);
+        for (int i = 0; i < length; i++)
+            values[offset + i] = memory.get(index + i);
+    }
+
+    /** Number of bytes needed in the scratch block for a string argument. */
+    static long stringBytes(String value) {
+        return 8L * ((value.length() + 8) / 8);
+    }
+
+}
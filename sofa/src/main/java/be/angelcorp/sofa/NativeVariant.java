@@ -0,0 +1,100 @@
+package be.angelcorp.sofa;
+
+import org.bridj.BridJ;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Selects the variant of the native sofa library that BridJ loads.<br>
+ * <br>
+ * Release builds of sofa-platform (maven profile 'release') contain two linux_x64 libraries: the baseline libsofa,
+ * which runs on any x86-64 cpu, and libsofa_x86_64_v3, compiled for the x86-64-v3 micro-architecture level (AVX2, FMA,
+ * BMI1/2, F16C, LZCNT, MOVBE). The variant is picked once, before the library is first loaded, based on the features
+ * the cpu reports in /proc/cpuinfo. Other platforms, and builds without the variant, always use the baseline library.<br>
+ * <br>
+ * The choice can be forced with the system property {@value #PROPERTY}: "baseline", "x86-64-v3" or "auto" (the
+ * default).<br>
+ * <br>
+ * The classes of the bindings that call the native library ({@link BulkLibrary}, {@link SofaArrays},
+ * {@link InstrumentedSofaLibrary}, ...) call {@link #select()} from their static initializers. {@link SofaLibrary}
+ * itself is regenerated by JNAerator and does not: code that calls it before any of these classes loads the baseline
+ * library, unless it calls {@link #select()} first.
+ */
+public final class NativeVariant {
+
+    /** System property to force a library variant. */
+    public static final String PROPERTY = "sofa.native.variant";
+
+    /** Library name of the baseline variant. */
+    public static final String BASELINE = "sofa";
+    /** Library name of the x86-64-v3 variant. */
+    public static final String X86_64_V3 = "sofa_x86_64_v3";
+
+    /** Cpu flags (as listed by linux in /proc/cpuinfo) required by the x86-64-v3 variant, "abm" is LZCNT. */
+    private static final List<String> X86_64_V3_FLAGS = Arrays.asList("avx", "avx2", "bmi1", "bmi2", "f16c", "fma", "abm", "movbe", "xsave");
+
+    private static String selected;
+
+    private NativeVariant() {
+    }
+
+    /**
+     * Select the library variant for this machine (only the first call has any effect).
+     *
+     * @return Name of the selected library, {@link #BASELINE} or {@link #X86_64_V3}.
+     */
+    public static synchronized String select() {
+        if (selected == null) {
+            String variant = System.getProperty(PROPERTY, "auto").toLowerCase(Locale.ROOT);
+            boolean v3;
+            if (variant.equals("x86-64-v3"))
+                v3 = true;
+            else if (variant.equals("baseline"))
+                v3 = false;
+            else
+                v3 = isLinuxX64() && hasResource(X86_64_V3) && cpuFlags().containsAll(X86_64_V3_FLAGS);
+
+            selected = v3 ? X86_64_V3 : BASELINE;
+            if (v3)
+                BridJ.setNativeLibraryActualName(BASELINE, X86_64_V3);
+        }
+        return selected;
+    }
+
+    private static boolean isLinuxX64() {
+        String os   = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        String arch = System.getProperty("os.arch", "").toLowerCase(Locale.ROOT);
+        return os.startsWith("linux") && (arch.equals("amd64") || arch.equals("x86_64"));
+    }
+
+    private static boolean hasResource(String library) {
+        return NativeVariant.class.getClassLoader().getResource("lib/linux_x64/lib" + library + ".so") != null;
+    }
+
+    /**
+     * Flags of the first processor in /proc/cpuinfo, or an empty set if they cannot be read.
+     */
+    static Set<String> cpuFlags() {
+        Set<String> flags = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader("/proc/cpuinfo"))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("flags")) {
+                    flags.addAll(Arrays.asList(line.substring(line.indexOf(':') + 1).trim().split("\\s+")));
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Not linux (or no access), use the baseline library
+        }
+        return flags;
+    }
+
+}
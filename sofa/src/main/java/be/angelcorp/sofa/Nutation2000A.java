@@ -0,0 +1,254 @@
+package be.angelcorp.sofa;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pure-Java evaluation of the IAU 2000A nutation model (MHB2000 luni-solar and planetary nutation with free core
+ * nutation omitted), equivalent to {@link SofaLibrary#iauNut00a} but without a native call.<br>
+ * <br>
+ * This class uses computations derived from the iauNut00a routine of the IAU SOFA software collection (release
+ * 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the
+ * original in the layout of the series only: the coefficients are held column-wise in flat arrays (one array per
+ * struct field of nut00a.c) instead of an array of structs, and are read from the nut00a.txt resource that is
+ * extracted verbatim from nut00a.c by src/main/generator/genNutation.sh. The arguments, the order of summation and
+ * all constants are those of iauNut00a, so the results agree to the last few bits.<br>
+ * <br>
+ * See iauNut00a (sofa.h) for the description of the model, its accuracy and references.
+ */
+public final class Nutation2000A {
+
+    /** 2Pi */
+    private static final double D2PI = 6.283185307179586476925287;
+    /** Arcseconds to radians */
+    private static final double DAS2R = 4.848136811095359935899141e-6;
+    /** Arcseconds in a full circle */
+    private static final double TURNAS = 1296000.0;
+    /** Reference epoch (J2000.0), Julian Date */
+    private static final double DJ00 = 2451545.0;
+    /** Days per Julian century */
+    private static final double DJC = 36525.0;
+    /** Units of 0.1 microarcsecond to radians */
+    private static final double U2R = DAS2R / 1e7;
+
+    /* Luni-solar series: multipliers of l, l', F, D, Om and the longitude (sin, t*sin, cos) and obliquity (cos, t*cos, sin) coefficients */
+    private static final int[] LS_L, LS_LP, LS_F, LS_D, LS_OM;
+    private static final double[] LS_SP, LS_SPT, LS_CP, LS_CE, LS_CET, LS_SE;
+
+    /* Planetary series: multipliers of l, F, D, Om, the planetary longitudes and the general precession, and the longitude (sin, cos) and obliquity (sin, cos) coefficients */
+    private static final int[] PL_L, PL_F, PL_D, PL_OM, PL_ME, PL_VE, PL_EA, PL_MA, PL_JU, PL_SA, PL_UR, PL_NE, PL_PA;
+    private static final double[] PL_SP, PL_CP, PL_SE, PL_CE;
+
+    static {
+        double[][] xls = table("xls", 11);
+        LS_L   = ints(xls[0]);
+        LS_LP  = ints(xls[1]);
+        LS_F   = ints(xls[2]);
+        LS_D   = ints(xls[3]);
+        LS_OM  = ints(xls[4]);
+        LS_SP  = xls[5];
+        LS_SPT = xls[6];
+        LS_CP  = xls[7];
+        LS_CE  = xls[8];
+        LS_CET = xls[9];
+        LS_SE  = xls[10];
+
+        double[][] xpl = table("xpl", 17);
+        PL_L  = ints(xpl[0]);
+        PL_F  = ints(xpl[1]);
+        PL_D  = ints(xpl[2]);
+        PL_OM = ints(xpl[3]);
+        PL_ME = ints(xpl[4]);
+        PL_VE = ints(xpl[5]);
+        PL_EA = ints(xpl[6]);
+        PL_MA = ints(xpl[7]);
+        PL_JU = ints(xpl[8]);
+        PL_SA = ints(xpl[9]);
+        PL_UR = ints(xpl[10]);
+        PL_NE = ints(xpl[11]);
+        PL_PA = ints(xpl[12]);
+        PL_SP = xpl[13];
+        PL_CP = xpl[14];
+        PL_SE = xpl[15];
+        PL_CE = xpl[16];
+    }
+
+    private Nutation2000A() {
+    }
+
+    /**
+     * Nutation, IAU 2000A model, see {@link SofaLibrary#iauNut00a}.
+     *
+     * @param date1    TT as a 2-part Julian Date.
+     * @param date2    TT as a 2-part Julian Date.
+     * @param dpsiDeps Returned nutation in longitude (dpsi) and obliquity (deps), in radians.
+     * @param offset   Index in dpsiDeps where dpsi is written, deps is written at offset + 1.
+     */
+    public static void nutation(double date1, double date2, double[] dpsiDeps, int offset) {
+        /* Interval between fundamental date J2000.0 and given date (JC). */
+        double t = ((date1 - DJ00) + date2) / DJC;
+
+        luniSolar(t, dpsiDeps, offset);
+        double dpsils = dpsiDeps[offset];
+        double depsls = dpsiDeps[offset + 1];
+        planetary(t, dpsiDeps, offset);
+
+        /* Add luni-solar and planetary components. */
+        dpsiDeps[offset]     += dpsils;
+        dpsiDeps[offset + 1] += depsls;
+    }
+
+    /**
+     * Nutation, IAU 2000A model, see {@link SofaLibrary#iauNut00a}.
+     *
+     * @param date1    TT as a 2-part Julian Date.
+     * @param date2    TT as a 2-part Julian Date.
+     * @param dpsiDeps Returned nutation in longitude (dpsi, index 0) and obliquity (deps, index 1), in radians.
+     */
+    public static void nutation(double date1, double date2, double[] dpsiDeps) {
+        nutation(date1, date2, dpsiDeps, 0);
+    }
+
+    /**
+     * Luni-solar nutation at t Julian centuries since J2000.0, written to result[offset] and result[offset + 1] (radians).
+     */
+    private static void luniSolar(double t, double[] result, int offset) {
+        /* Fundamental (Delaunay) arguments. */
+
+        /* Mean anomaly of the Moon (IERS 2003). */
+        double el = ((485868.249036 + t * (1717915923.2178 + t * (31.8792 + t * (0.051635 + t * (-0.00024470))))) % TURNAS) * DAS2R;
+
+        /* Mean anomaly of the Sun (MHB2000). */
+        double elp = ((1287104.79305 + t * (129596581.0481 + t * (-0.5532 + t * (0.000136 + t * (-0.00001149))))) % TURNAS) * DAS2R;
+
+        /* Mean longitude of the Moon minus that of the ascending node (IERS 2003). */
+        double f = ((335779.526232 + t * (1739527262.8478 + t * (-12.7512 + t * (-0.001037 + t * (0.00000417))))) % TURNAS) * DAS2R;
+
+        /* Mean elongation of the Moon from the Sun (MHB2000). */
+        double d = ((1072260.70369 + t * (1602961601.2090 + t * (-6.3706 + t * (0.006593 + t * (-0.00003169))))) % TURNAS) * DAS2R;
+
+        /* Mean longitude of the ascending node of the Moon (IERS 2003). */
+        double om = ((450160.398036 + t * (-6962890.5431 + t * (7.4722 + t * (0.007702 + t * (-0.00005939))))) % TURNAS) * DAS2R;
+
+        /* Summation of luni-solar nutation series (in reverse order). */
+        double dp = 0.0;
+        double de = 0.0;
+        for (int i = LS_L.length - 1; i >= 0; i--) {
+            double arg = (LS_L[i] * el + LS_LP[i] * elp + LS_F[i] * f + LS_D[i] * d + LS_OM[i] * om) % D2PI;
+            double sarg = Math.sin(arg);
+            double carg = Math.cos(arg);
+
+            dp += (LS_SP[i] + LS_SPT[i] * t) * sarg + LS_CP[i] * carg;
+            de += (LS_CE[i] + LS_CET[i] * t) * carg + LS_SE[i] * sarg;
+        }
+
+        /* Convert from 0.1 microarcsec units to radians. */
+        result[offset]     = dp * U2R;
+        result[offset + 1] = de * U2R;
+    }
+
+    /**
+     * Planetary nutation at t Julian centuries since J2000.0, written to result[offset] and result[offset + 1] (radians).
+     */
+    private static void planetary(double t, double[] result, int offset) {
+        /* As in iauNut00a, the MHB2000 Delaunay arguments are used here, which differ slightly from the luni-solar ones. */
+
+        /* Mean anomaly of the Moon (MHB2000). */
+        double al = (2.35555598 + 8328.6914269554 * t) % D2PI;
+
+        /* Mean longitude of the Moon minus that of the ascending node (MHB2000). */
+        double af = (1.627905234 + 8433.466158131 * t) % D2PI;
+
+        /* Mean elongation of the Moon from the Sun (MHB2000). */
+        double ad = (5.198466741 + 7771.3771468121 * t) % D2PI;
+
+        /* Mean longitude of the ascending node of the Moon (MHB2000). */
+        double aom = (2.18243920 - 33.757045 * t) % D2PI;
+
+        /* General accumulated precession in longitude (IERS 2003). */
+        double apa = (0.024381750 + 0.00000538691 * t) * t;
+
+        /* Planetary longitudes, Mercury through Uranus (IERS 2003). */
+        double alme = (4.402608842 + 2608.7903141574 * t) % D2PI;
+        double alve = (3.176146697 + 1021.3285546211 * t) % D2PI;
+        double alea = (1.753470314 + 628.3075849991 * t) % D2PI;
+        double alma = (6.203480913 + 334.0612426700 * t) % D2PI;
+        double alju = (0.599546497 + 52.9690962641 * t) % D2PI;
+        double alsa = (0.874016757 + 21.3299104960 * t) % D2PI;
+        double alur = (5.481293872 + 7.4781598567 * t) % D2PI;
+
+        /* Neptune longitude (MHB2000). */
+        double alne = (5.321159000 + 3.8127774000 * t) % D2PI;
+
+        /* Summation of planetary nutation series (in reverse order). */
+        double dp = 0.0;
+        double de = 0.0;
+        for (int i = PL_L.length - 1; i >= 0; i--) {
+            double arg = (PL_L[i]  * al   +
+                          PL_F[i]  * af   +
+                          PL_D[i]  * ad   +
+                          PL_OM[i] * aom  +
+                          PL_ME[i] * alme +
+                          PL_VE[i] * alve +
+                          PL_EA[i] * alea +
+                          PL_MA[i] * alma +
+                          PL_JU[i] * alju +
+                          PL_SA[i] * alsa +
+                          PL_UR[i] * alur +
+                          PL_NE[i] * alne +
+                          PL_PA[i] * apa) % D2PI;
+            double sarg = Math.sin(arg);
+            double carg = Math.cos(arg);
+
+            dp += PL_SP[i] * sarg + PL_CP[i] * carg;
+            de += PL_SE[i] * sarg + PL_CE[i] * carg;
+        }
+
+        /* Convert from 0.1 microarcsec units to radians. */
+        result[offset]     = dp * U2R;
+        result[offset + 1] = de * U2R;
+    }
+
+    /**
+     * Read a series from the nut00a.txt resource, returned column-wise.
+     */
+    private static double[][] table(String name, int columns) {
+        try (InputStream stream = Nutation2000A.class.getResourceAsStream("nut00a.txt")) {
+            if (stream == null)
+                throw new IllegalStateException("Cannot find the nutation series resource nut00a.txt");
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.US_ASCII));
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] header = line.trim().split("\\s+");
+                if (header.length != 2 || !header[0].equals(name))
+                    continue;
+
+                int rows = Integer.parseInt(header[1]);
+                double[][] table = new double[columns][rows];
+                for (int row = 0; row < rows; row++) {
+                    String[] values = reader.readLine().trim().split("\\s+");
+                    if (values.length != columns)
+                        throw new IllegalStateException("Invalid term " + row + " in nutation series " + name + ": " + String.join(" ", values));
+                    for (int column = 0; column < columns; column++)
+                        table[column][row] = Double.parseDouble(values[column]);
+                }
+                return table;
+            }
+            throw new IllegalStateException("Cannot find the nutation series " + name + " in nut00a.txt");
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read the nutation series resource nut00a.txt", e);
+        }
+    }
+
+    private static int[] ints(double[] values) {
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (int) values[i];
+        return result;
+    }
+
+}
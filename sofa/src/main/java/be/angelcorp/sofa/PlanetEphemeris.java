@@ -0,0 +1,411 @@
+package be.angelcorp.sofa;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Approximate heliocentric position and velocity of the major planets (Simon et al. 1994), equivalent to
+ * {@link SofaLibrary#iauPlan94} but evaluated in pure Java, and for all eight planets at once:
+ * <pre>
+ * double[] pv = new double[PlanetEphemeris.PV * dates.length];
+ * PlanetEphemeris.pv(2400000.5, dates, pv, null);                    // or pvParallel, for many epochs
+ * double neptuneVy = pv[PlanetEphemeris.PV * epoch + 6 * (PlanetEphemeris.NEPTUNE - 1) + 4];
+ * </pre>
+ * The results of many epochs are packed as double[epoch][planet][2][3]: the position (au) then the velocity (au/d)
+ * of Mercury, Venus, the Earth-Moon barycenter, ..., Neptune, {@value #PV} values per epoch. The time arguments are
+ * computed once per epoch, and so are the periodic terms of the mean elements: the planets share most of their
+ * frequencies, so each distinct frequency is evaluated once per epoch instead of once per planet.<br>
+ * <br>
+ * This class uses computations derived from the iauPlan94 routine of the IAU SOFA software collection (release
+ * 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the
+ * original in the evaluation of the periodic terms only: their sines and cosines are looked up in a table of the
+ * distinct frequencies of all planets, computed once per epoch. The coefficients, the order of summation and the
+ * solution of Kepler's equation are those of iauPlan94, so the results agree to the last few bits.<br>
+ * <br>
+ * See iauPlan94 (sofa.h) for the description of the model, its accuracy (a few arcseconds over 1000-3000) and the
+ * meaning of the status values.
+ */
+public final class PlanetEphemeris {
+
+    /** Planet numbers of iauPlan94 */
+    public static final int MERCURY = 1, VENUS = 2, EMB = 3, MARS = 4, JUPITER = 5, SATURN = 6, URANUS = 7, NEPTUNE = 8;
+    /** Number of planets */
+    public static final int PLANETS = 8;
+    /** Values per epoch of the packed results (position and velocity of every planet) */
+    public static final int PV = 6 * PLANETS;
+
+    /** Epochs per parallel task */
+    private static final int CHUNK = 64;
+
+    /* Constants of sofam.h */
+    private static final double DAS2R = 4.848136811095359935899141e-6;
+    private static final double D2PI = 6.283185307179586476925287;
+    private static final double DJ00 = 2451545.0;
+    private static final double DJM = 365250.0;
+
+    /** Gaussian constant */
+    private static final double GK = 0.017202098950;
+    /** Sin and cos of J2000.0 mean obliquity (IAU 1976) */
+    private static final double SINEPS = 0.3977771559319137;
+    private static final double COSEPS = 0.9174820620691818;
+    /** Maximum number of iterations allowed to solve Kepler's equation */
+    private static final int KMAX = 10;
+
+    /** Planetary inverse masses */
+    private static final double[] AMAS = { 6023600.0, 408523.5, 328900.5, 3098710.0, 1047.355, 3498.5, 22869.0, 19314.0 };
+
+    /*
+     * Tables giving the mean Keplerian elements, limited to t^2 terms:
+     *
+     *   A      semi-major axis (AU)
+     *   DLM    mean longitude (degree and arcsecond)
+     *   E      eccentricity
+     *   PI     longitude of the perihelion (degree and arcsecond)
+     *   DINC   inclination (degree and arcsecond)
+     *   OMEGA  longitude of the ascending node (degree and arcsecond)
+     */
+
+    private static final double[][] A = {
+            {  0.3870983098,           0.0,     0.0 },
+            {  0.7233298200,           0.0,     0.0 },
+            {  1.0000010178,           0.0,     0.0 },
+            {  1.5236793419,         3e-10,     0.0 },
+            {  5.2026032092,     19132e-10, -39e-10 },
+            {  9.5549091915, -0.0000213896, 444e-10 },
+            { 19.2184460618,     -3716e-10, 979e-10 },
+            { 30.1103868694,    -16635e-10, 686e-10 } };
+
+    private static final double[][] DLM = {
+            { 252.25090552, 5381016286.88982,  -1.92789 },
+            { 181.97980085, 2106641364.33548,   0.59381 },
+            { 100.46645683, 1295977422.83429,  -2.04411 },
+            { 355.43299958,  689050774.93988,   0.94264 },
+            {  34.35151874,  109256603.77991, -30.60378 },
+            {  50.07744430,   43996098.55732,  75.61614 },
+            { 314.05500511,   15424811.93933,  -1.75083 },
+            { 304.34866548,    7865503.20744,   0.21103 } };
+
+    private static final double[][] E = {
+            { 0.2056317526,  0.0002040653,    -28349e-10 },
+            { 0.0067719164, -0.0004776521,     98127e-10 },
+            { 0.0167086342, -0.0004203654, -0.0000126734 },
+            { 0.0934006477,  0.0009048438,    -80641e-10 },
+            { 0.0484979255,  0.0016322542, -0.0000471366 },
+            { 0.0555481426, -0.0034664062, -0.0000643639 },
+            { 0.0463812221, -0.0002729293,  0.0000078913 },
+            { 0.0094557470,  0.0000603263,           0.0 } };
+
+    private static final double[][] PI = {
+            {  77.45611904,  5719.11590,   -4.83016 },
+            { 131.56370300,   175.48640, -498.48184 },
+            { 102.93734808, 11612.35290,   53.27577 },
+            { 336.06023395, 15980.45908,  -62.32800 },
+            {  14.33120687,  7758.75163,  259.95938 },
+            {  93.05723748, 20395.49439,  190.25952 },
+            { 173.00529106,  3215.56238,  -34.09288 },
+            {  48.12027554,  1050.71912,   27.39717 } };
+
+    private static final double[][] DINC = {
+            { 7.00498625, -214.25629,   0.28977 },
+            { 3.39466189,  -30.84437, -11.67836 },
+            {        0.0,  469.97289,  -3.35053 },
+            { 1.84972648, -293.31722,  -8.11830 },
+            { 1.30326698,  -71.55890,  11.95297 },
+            { 2.48887878,   91.85195, -17.66225 },
+            { 0.77319689,  -60.72723,   1.25759 },
+            { 1.76995259,    8.12333,   0.08135 } };
+
+    private static final double[][] OMEGA = {
+            {  48.33089304,  -4515.21727,  -31.79892 },
+            {  76.67992019, -10008.48154,  -51.32614 },
+            { 174.87317577,  -8679.27034,   15.34191 },
+            {  49.55809321, -10620.90088, -230.57416 },
+            { 100.46440702,   6362.03561,  326.52178 },
+            { 113.66550252,  -9240.19942,  -66.23743 },
+            {  74.00595701,   2669.15033,  145.93964 },
+            { 131.78405702,   -221.94322,   -0.78728 } };
+
+    /* Tables for trigonometric terms to be added to the mean elements of the semi-major axes */
+
+    private static final double[][] KP = {
+            {   69613, 75645, 88306, 59899, 15746, 71087, 142173,  3086,    0 },
+            {   21863, 32794, 26934, 10931, 26250, 43725,  53867, 28939,    0 },
+            {   16002, 21863, 32004, 10931, 14529, 16368,  15318, 32794,    0 },
+            {    6345,  7818, 15636,  7077,  8184, 14163,   1107,  4872,    0 },
+            {    1760,  1454,  1167,   880,   287,  2640,     19,  2047, 1454 },
+            {     574,     0,   880,   287,    19,  1760,   1167,   306,  574 },
+            {     204,     0,   177,  1265,     4,   385,    200,   208,  204 },
+            {       0,   102,   106,     4,    98,  1367,    487,   204,    0 } };
+
+    private static final double[][] CA = {
+            {       4,    -13,    11,   -9,    -9,   -3,     -1,     4,     0 },
+            {    -156,     59,   -42,    6,    19,  -20,    -10,   -12,     0 },
+            {      64,   -152,    62,   -8,    32,  -41,     19,   -11,     0 },
+            {     124,    621,  -145,  208,    54,  -57,     30,    15,     0 },
+            {  -23437,  -2634,  6601, 6259, -1507,-1821,   2620, -2115, -1489 },
+            {   62911,-119919, 79336,17814,-24241,12068,   8306, -4893,  8902 },
+            {  389061,-262125,-44088, 8387,-22976,-2093,   -615, -9720,  6633 },
+            { -412235,-157046,-31430,37817, -9740,  -13,  -7449,  9644,     0 } };
+
+    private static final double[][] SA = {
+            {     -29,    -1,     9,     6,    -6,     5,     4,     0,     0 },
+            {     -48,  -125,   -26,   -37,    18,   -13,   -20,    -2,     0 },
+            {    -150,   -46,    68,    54,    14,    24,   -28,    22,     0 },
+            {    -621,   532,  -694,   -20,   192,   -94,    71,   -73,     0 },
+            {  -14614,-19828, -5869,  1881, -4372, -2255,   782,   930,   913 },
+            {  139737,     0, 24667, 51123, -5102,  7429, -4095, -1976, -9566 },
+            { -138081,     0, 37205,-49039,-41901,-33872,-27037,-12474, 18797 },
+            {       0, 28492,133236, 69654, 52322,-49577,-26430, -3593,     0 } };
+
+    /* Tables giving the trigonometric terms to be added to the mean elements of the mean longitudes */
+
+    private static final double[][] KQ = {
+            {   3086,15746,69613,59899,75645,88306, 12661,  2658,    0,     0 },
+            {  21863,32794,10931,   73, 4387,26934,  1473,  2157,    0,     0 },
+            {     10,16002,21863,10931, 1473,32004,  4387,    73,    0,     0 },
+            {     10, 6345, 7818, 1107,15636, 7077,  8184,   532,   10,     0 },
+            {     19, 1760, 1454,  287, 1167,  880,   574,  2640,   19,  1454 },
+            {     19,  574,  287,  306, 1760,   12,    31,    38,   19,   574 },
+            {      4,  204,  177,    8,   31,  200,  1265,   102,    4,   204 },
+            {      4,  102,  106,    8,   98, 1367,   487,   204,    4,   102 } };
+
+    private static final double[][] CL = {
+            {      21,   -95, -157,   41,   -5,   42,  23,  30,      0,     0 },
+            {    -160,  -313, -235,   60,  -74,  -76, -27,  34,      0,     0 },
+            {    -325,  -322,  -79,  232,  -52,   97,  55, -41,      0,     0 },
+            {    2268,  -979,  802,  602, -668,  -33, 345, 201,    -55,     0 },
+            {    7610, -4997,-7689,-5841,-2617, 1115,-748,-607,   6074,   354 },
+            {  -18549, 30125,20012, -730,  824,   23,1289,-352, -14767, -2062 },
+            { -135245,-14594, 4197,-4030,-5630,-2898,2540,-306,   2939,  1986 },
+            {   89948,  2103, 8963, 2695, 3682, 1648, 866,-154,  -1963,  -283 } };
+
+    private static final double[][] SL = {
+            {   -342,   136,  -23,   62,   66,  -52, -33,    17,     0,     0 },
+            {    524,  -149,  -35,  117,  151,  122, -71,   -62,     0,     0 },
+            {   -105,  -137,  258,   35, -116,  -88,-112,   -80,     0,     0 },
+            {    854,  -205, -936, -240,  140, -341, -97,  -232,   536,     0 },
+            { -56980,  8016, 1012, 1448,-3024,-3710, 318,   503,  3767,   577 },
+            { 138606,-13478,-4964, 1441,-1319,-1482, 427,  1236, -9167, -1918 },
+            {  71234,-41116, 5334,-4935,-1848,   66, 434, -1748,  3780,  -701 },
+            { -47645, 11647, 2166, 3194,  679,    0,-244,  -419, -2531,    48 } };
+
+    /** The distinct frequencies of KP and KQ, and the index of every KP and KQ entry in it */
+    private static final double[] FREQUENCIES;
+    private static final int[][] KP_INDEX = new int[PLANETS][9];
+    private static final int[][] KQ_INDEX = new int[PLANETS][10];
+
+    static {
+        double[] frequencies = new double[PLANETS * 19];
+        int n = 0;
+        for (int np = 0; np < PLANETS; np++) {
+            for (int k = 0; k < 9; k++) {
+                KP_INDEX[np][k] = indexOf(frequencies, n, KP[np][k]);
+                if (KP_INDEX[np][k] == n) frequencies[n++] = KP[np][k];
+            }
+            for (int k = 0; k < 10; k++) {
+                KQ_INDEX[np][k] = indexOf(frequencies, n, KQ[np][k]);
+                if (KQ_INDEX[np][k] == n) frequencies[n++] = KQ[np][k];
+            }
+        }
+        FREQUENCIES = Arrays.copyOf(frequencies, n);
+    }
+
+    private PlanetEphemeris() {
+    }
+
+    /** Index of a value in the first n elements of an array, or n */
+    private static int indexOf(double[] values, int n, double value) {
+        for (int i = 0; i < n; i++)
+            if (values[i] == value) return i;
+        return n;
+    }
+
+    /**
+     * Position and velocity of one planet, as {@link SofaLibrary#iauPlan94}.
+     *
+     * @param date1  TDB date as a 2-part Julian Date.
+     * @param date2  TDB date as a 2-part Julian Date.
+     * @param np     Planet (1 = Mercury, 2 = Venus, 3 = EMB, 4 = Mars, 5 = Jupiter, 6 = Saturn, 7 = Uranus, 8 = Neptune).
+     * @param pv     Returned planet position (au) and velocity (au/d), heliocentric, J2000.0 equatorial (6 elements).
+     * @param offset Index of the first element of pv.
+     * @return Status of iauPlan94: -1 illegal planet number (pv is zeroed), 0 OK, 1 remote date (warning), 2 no
+     * convergence of Kepler's equation (warning).
+     */
+    public static int pv(double date1, double date2, int np, double[] pv, int offset) {
+        if (np < 1 || np > PLANETS) {
+            Arrays.fill(pv, offset, offset + 6, 0.0);
+            return -1;
+        }
+        double[] trig = new double[2 * FREQUENCIES.length];
+        double t = arguments(date1, date2, trig);
+        return planet(t, trig, np - 1, pv, offset);
+    }
+
+    /**
+     * Position and velocity of all planets at one epoch.
+     *
+     * @param date1 TDB date as a 2-part Julian Date.
+     * @param date2 TDB date as a 2-part Julian Date.
+     * @param pv    Returned positions and velocities of Mercury ... Neptune, as {@link #pv(double, double, int, double[], int)}
+     *              ({@value #PV} elements).
+     * @return Largest status of the planets (0 OK, 1 remote date, 2 no convergence).
+     */
+    public static int pv(double date1, double date2, double[] pv) {
+        if (pv.length < PV)
+            throw new IllegalArgumentException("Expected " + PV + " elements, not " + pv.length);
+        double[] trig = new double[2 * FREQUENCIES.length];
+        double t = arguments(date1, date2, trig);
+        int status = 0;
+        for (int np = 0; np < PLANETS; np++)
+            status = Math.max(status, planet(t, trig, np, pv, 6 * np));
+        return status;
+    }
+
+    /**
+     * Position and velocity of all planets at many epochs, in the calling thread.
+     *
+     * @param date1  TDB dates as 2-part Julian Dates: part common to all epochs.
+     * @param date2  TDB dates as 2-part Julian Dates: part of every epoch.
+     * @param pv     Returned positions and velocities, packed as double[epoch][planet][2][3] ({@value #PV} elements per
+     *               epoch).
+     * @param status Returned status of every planet at every epoch, packed as int[epoch][planet], or null.
+     * @return Number of (epoch, planet) results with a non-zero (warning) status.
+     */
+    public static int pv(double date1, double[] date2, double[] pv, int[] status) {
+        check(date2.length, pv, status);
+        return range(date1, date2, pv, status, 0, date2.length);
+    }
+
+    /**
+     * Position and velocity of all planets at many epochs, as {@link #pv(double, double[], double[], int[])}, with the
+     * epochs split over the common ForkJoinPool (a parallel stream of chunks of epochs).
+     */
+    public static int pvParallel(double date1, double[] date2, double[] pv, int[] status) {
+        int n = date2.length;
+        check(n, pv, status);
+        if (n <= CHUNK)
+            return range(date1, date2, pv, status, 0, n);
+        AtomicInteger warnings = new AtomicInteger();
+        IntStream.range(0, (n + CHUNK - 1) / CHUNK).parallel().forEach(chunk -> {
+            int from = chunk * CHUNK;
+            int w = range(date1, date2, pv, status, from, Math.min(n, from + CHUNK));
+            if (w != 0) warnings.addAndGet(w);
+        });
+        return warnings.get();
+    }
+
+    private static void check(int n, double[] pv, int[] status) {
+        if (pv.length < PV * n)
+            throw new IllegalArgumentException("Expected " + PV * n + " elements for " + n + " epochs, not " + pv.length);
+        if (status != null && status.length < PLANETS * n)
+            throw new IllegalArgumentException("Expected " + PLANETS * n + " statuses for " + n + " epochs, not " + status.length);
+    }
+
+    /** All planets at the epochs [from, to) */
+    private static int range(double date1, double[] date2, double[] pv, int[] status, int from, int to) {
+        double[] trig = new double[2 * FREQUENCIES.length];
+        int warnings = 0;
+        for (int i = from; i < to; i++) {
+            double t = arguments(date1, date2[i], trig);
+            for (int np = 0; np < PLANETS; np++) {
+                int j = planet(t, trig, np, pv, PV * i + 6 * np);
+                if (status != null) status[PLANETS * i + np] = j;
+                if (j != 0) warnings++;
+            }
+        }
+        return warnings;
+    }
+
+    /**
+     * The time arguments of an epoch: returns the Julian millennia since J2000.0, and puts the cosine and sine of every
+     * distinct frequency times dmu in trig (cos at 2k, sin at 2k + 1).
+     */
+    private static double arguments(double date1, double date2, double[] trig) {
+        double t = ((date1 - DJ00) + date2) / DJM;
+        double dmu = 0.35953620 * t;
+        for (int k = 0; k < FREQUENCIES.length; k++) {
+            double arg = FREQUENCIES[k] * dmu;
+            trig[2 * k]     = Math.cos(arg);
+            trig[2 * k + 1] = Math.sin(arg);
+        }
+        return t;
+    }
+
+    /** iauPlan94 for planet np (from 0), with the time arguments of {@link #arguments} */
+    private static int planet(double t, double[] trig, int np, double[] pv, int offset) {
+        /* OK status unless remote date. */
+        int jstat = Math.abs(t) <= 1.0 ? 0 : 1;
+
+        /* Compute the mean elements. */
+        double da = A[np][0] + (A[np][1] + A[np][2] * t) * t;
+        double dl = (3600.0 * DLM[np][0] + (DLM[np][1] + DLM[np][2] * t) * t) * DAS2R;
+        double de = E[np][0] + (E[np][1] + E[np][2] * t) * t;
+        double dp = Vml.anpm((3600.0 * PI[np][0] + (PI[np][1] + PI[np][2] * t) * t) * DAS2R);
+        double di = (3600.0 * DINC[np][0] + (DINC[np][1] + DINC[np][2] * t) * t) * DAS2R;
+        double dom = Vml.anpm((3600.0 * OMEGA[np][0] + (OMEGA[np][1] + OMEGA[np][2] * t) * t) * DAS2R);
+
+        /* Apply the trigonometric terms. */
+        int[] kp = KP_INDEX[np], kq = KQ_INDEX[np];
+        for (int k = 0; k < 8; k++) {
+            da += (CA[np][k] * trig[2 * kp[k]] + SA[np][k] * trig[2 * kp[k] + 1]) * 1e-7;
+            dl += (CL[np][k] * trig[2 * kq[k]] + SL[np][k] * trig[2 * kq[k] + 1]) * 1e-7;
+        }
+        da += t * (CA[np][8] * trig[2 * kp[8]] + SA[np][8] * trig[2 * kp[8] + 1]) * 1e-7;
+        for (int k = 8; k < 10; k++)
+            dl += t * (CL[np][k] * trig[2 * kq[k]] + SL[np][k] * trig[2 * kq[k] + 1]) * 1e-7;
+        dl = dl % D2PI;
+
+        /* Iterative soln. of Kepler's equation to get eccentric anomaly. */
+        double am = dl - dp;
+        double ae = am + de * Math.sin(am);
+        int k = 0;
+        double dae = 1.0;
+        while (k < KMAX && Math.abs(dae) > 1e-12) {
+            dae = (am - ae + de * Math.sin(ae)) / (1.0 - de * Math.cos(ae));
+            ae += dae;
+            k++;
+            if (k == KMAX - 1) jstat = 2;
+        }
+
+        /* True anomaly. */
+        double ae2 = ae / 2.0;
+        double at = 2.0 * Math.atan2(Math.sqrt((1.0 + de) / (1.0 - de)) * Math.sin(ae2), Math.cos(ae2));
+
+        /* Distance (AU) and speed (radians per day). */
+        double r = da * (1.0 - de * Math.cos(ae));
+        double v = GK * Math.sqrt((1.0 + 1.0 / AMAS[np]) / (da * da * da));
+
+        double si2 = Math.sin(di / 2.0);
+        double xq = si2 * Math.cos(dom);
+        double xp = si2 * Math.sin(dom);
+        double tl = at + dp;
+        double xsw = Math.sin(tl);
+        double xcw = Math.cos(tl);
+        double xm2 = 2.0 * (xp * xcw - xq * xsw);
+        double xf = da / Math.sqrt(1 - de * de);
+        double ci2 = Math.cos(di / 2.0);
+        double xms = (de * Math.sin(dp) + xsw) * xf;
+        double xmc = (de * Math.cos(dp) + xcw) * xf;
+        double xpxq2 = 2 * xp * xq;
+
+        /* Position (J2000.0 ecliptic x,y,z in AU), rotated to equatorial. */
+        double x = r * (xcw - xm2 * xp);
+        double y = r * (xsw + xm2 * xq);
+        double z = r * (-xm2 * ci2);
+        pv[offset]     = x;
+        pv[offset + 1] = y * COSEPS - z * SINEPS;
+        pv[offset + 2] = y * SINEPS + z * COSEPS;
+
+        /* Velocity (J2000.0 ecliptic xdot,ydot,zdot in AU/d), rotated to equatorial. */
+        x = v * ((-1.0 + 2.0 * xp * xp) * xms + xpxq2 * xmc);
+        y = v * (( 1.0 - 2.0 * xq * xq) * xmc - xpxq2 * xms);
+        z = v * (2.0 * ci2 * (xp * xms + xq * xmc));
+        pv[offset + 3] = x;
+        pv[offset + 4] = y * COSEPS - z * SINEPS;
+        pv[offset + 5] = y * SINEPS + z * COSEPS;
+
+        return jstat;
+    }
+
+}
@@ -0,0 +1,208 @@
+package be.angelcorp.sofa;
+
+/**
+ * Bounded cache of precession-nutation(-bias) matrices, keyed by the (quantized) TT epoch.<br>
+ * <br>
+ * The matrix functions of SOFA ({@link SofaLibrary#iauPnm06a}, {@link SofaLibrary#iauPnm00a},
+ * {@link SofaLibrary#iauC2i06a}, ...) sum the full nutation series on every call, while a reduction pipeline often
+ * asks for the matrix of the same epoch (or of epochs a few seconds apart) many times:
+ * <pre>
+ * PnMatrixCache cache = new PnMatrixCache(PnMatrixCache.Model.IAU_2006_2000A, 1024, 1.0);
+ * cache.matrix(2400000.5, 53736.0, rnpb);
+ * cache.xy(2400000.5, 53736.0, xy);
+ * </pre>
+ * With a quantum of zero, only calls with exactly the same epoch share a matrix, and the results are identical to
+ * those of the SOFA function. With a positive quantum, the epochs are quantized into buckets of the given length, and
+ * the matrix of the start of the bucket (the node) is used for every epoch in it. Precession and nutation change the
+ * matrix elements by less than 2e-11 (4 microarcseconds) per second, so a quantum of one second is negligible for
+ * most reductions. Optionally, the matrix is interpolated linearly between the nodes on either side of the epoch,
+ * which keeps a quantum of an hour within 10 microarcseconds; the interpolated matrix is not exactly orthogonal (by
+ * about the same amount).<br>
+ * <br>
+ * The cache is a direct-mapped table of immutable entries ({@link EpochCache}): consecutive buckets occupy consecutive
+ * slots, and a new entry replaces the one in its slot. Lookups and updates are lock-free (one volatile read, or write,
+ * per node), so the cache can be shared by any number of threads; concurrent misses on the same node may each compute
+ * it.
+ */
+public final class PnMatrixCache {
+
+    /** The cached SOFA matrix functions. */
+    public enum Model {
+        /** Precession-nutation matrix, IAU 1976 precession and IAU 1980 nutation, {@link SofaLibrary#iauPnm80}. */
+        IAU_1976_1980,
+        /** Bias-precession-nutation matrix, IAU 2000A, {@link SofaLibrary#iauPnm00a}. */
+        IAU_2000A,
+        /** Bias-precession-nutation matrix, IAU 2000B, {@link SofaLibrary#iauPnm00b}. */
+        IAU_2000B,
+        /** Bias-precession-nutation matrix, IAU 2006 precession and IAU 2000A nutation, {@link SofaLibrary#iauPnm06a}. */
+        IAU_2006_2000A,
+        /** Celestial-to-intermediate matrix (CIO based), IAU 2006/2000A, {@link SofaLibrary#iauC2i06a}. */
+        C2I_2006_2000A;
+
+        /** Compute the matrix of a TT epoch with the SOFA function of this model. */
+        void compute(double date1, double date2, double[] r) {
+            switch (this) {
+                case IAU_1976_1980:  SofaArrays.iauPnm80(date1, date2, r);  break;
+                case IAU_2000A:      SofaArrays.iauPnm00a(date1, date2, r); break;
+                case IAU_2000B:      SofaArrays.iauPnm00b(date1, date2, r); break;
+                case IAU_2006_2000A: SofaArrays.iauPnm06a(date1, date2, r); break;
+                default:             SofaArrays.iauC2i06a(date1, date2, r); break;
+            }
+        }
+    }
+
+    /** Reference epoch (J2000.0), Julian Date */
+    private static final double DJ00 = 2451545.0;
+    /** Seconds per day */
+    private static final double DAYSEC = 86400.0;
+
+    private final Model model;
+    private final double quantum;
+    private final boolean interpolate;
+    /** The matrices (9 elements, row major) of the epochs or nodes */
+    private final EpochCache<double[]> nodes;
+
+    /**
+     * Create a cache that only shares matrices between calls with exactly the same epoch.
+     *
+     * @param model    Matrix function.
+     * @param capacity Maximum number of matrices kept (rounded up to a power of two).
+     */
+    public PnMatrixCache(Model model, int capacity) {
+        this(model, capacity, 0.0, false);
+    }
+
+    /**
+     * Create a cache that uses the matrix of the start of each epoch bucket.
+     *
+     * @param model    Matrix function.
+     * @param capacity Maximum number of matrices kept (rounded up to a power of two).
+     * @param quantum  Length of the epoch buckets in seconds, or zero to key on the exact epoch.
+     */
+    public PnMatrixCache(Model model, int capacity, double quantum) {
+        this(model, capacity, quantum, false);
+    }
+
+    /**
+     * @param model       Matrix function.
+     * @param capacity    Maximum number of matrices kept (rounded up to a power of two).
+     * @param quantum     Length of the epoch buckets in seconds, or zero to key on the exact epoch.
+     * @param interpolate Interpolate linearly between the nodes at the start and end of the bucket (requires a
+     *                    positive quantum).
+     */
+    public PnMatrixCache(Model model, int capacity, double quantum, boolean interpolate) {
+        if (model == null)
+            throw new IllegalArgumentException("The model must not be null");
+        if (!(quantum >= 0.0))
+            throw new IllegalArgumentException("The quantum must be zero or positive, not " + quantum);
+        if (interpolate && quantum == 0.0)
+            throw new IllegalArgumentException("Interpolation requires a positive quantum");
+        this.model       = model;
+        this.quantum     = quantum / DAYSEC;
+        this.interpolate = interpolate;
+        this.nodes       = new EpochCache<>(capacity, (date1, date2) -> {
+            double[] r = new double[9];
+            model.compute(date1, date2, r);
+            return r;
+        });
+    }
+
+    /**
+     * The matrix of the model at a TT epoch, from the cache.
+     *
+     * @param date1  TT as a 2-part Julian Date.
+     * @param date2  TT as a 2-part Julian Date.
+     * @param r      Returned matrix (row major, 9 elements).
+     * @param offset Index in r of the first element.
+     */
+    public void matrix(double date1, double date2, double[] r, int offset) {
+        if (quantum == 0.0) {
+            System.arraycopy(nodes.exact(date1, date2), 0, r, offset, 9);
+            return;
+        }
+
+        double t = ((date1 - DJ00) + date2) / quantum;
+        double floor = Math.floor(t);
+        long bucket = (long) floor;
+        double[] m0 = nodes.bucket(bucket, quantum);
+        if (!interpolate) {
+            System.arraycopy(m0, 0, r, offset, 9);
+            return;
+        }
+
+        double[] m1 = nodes.bucket(bucket + 1, quantum);
+        double f = t - floor;
+        for (int i = 0; i < 9; i++)
+            r[offset + i] = m0[i] + f * (m1[i] - m0[i]);
+    }
+
+    /**
+     * The matrix of the model at a TT epoch, see {@link #matrix(double, double, double[], int)}.
+     *
+     * @param r Returned matrix (row major, 9 elements).
+     */
+    public void matrix(double date1, double date2, double[] r) {
+        matrix(date1, date2, r, 0);
+    }
+
+    /**
+     * The X,Y coordinates of the Celestial Intermediate Pole at a TT epoch, from the third row of the cached matrix,
+     * as {@link SofaLibrary#iauBpn2xy} (the third row of the celestial-to-intermediate matrix is also the CIP).
+     *
+     * @param xy Returned X and Y (radians) in xy[0] and xy[1].
+     */
+    public void xy(double date1, double date2, double[] xy) {
+        if (quantum == 0.0) {
+            double[] m = nodes.exact(date1, date2);
+            xy[0] = m[6];
+            xy[1] = m[7];
+            return;
+        }
+
+        double t = ((date1 - DJ00) + date2) / quantum;
+        double floor = Math.floor(t);
+        long bucket = (long) floor;
+        double[] m0 = nodes.bucket(bucket, quantum);
+        if (!interpolate) {
+            xy[0] = m0[6];
+            xy[1] = m0[7];
+            return;
+        }
+
+        double[] m1 = nodes.bucket(bucket + 1, quantum);
+        double f = t - floor;
+        xy[0] = m0[6] + f * (m1[6] - m0[6]);
+        xy[1] = m0[7] + f * (m1[7] - m0[7]);
+    }
+
+    /** The matrix function of this cache. */
+    public Model model() {
+        return model;
+    }
+
+    /** Number of node lookups that found a cached matrix (two per interpolated matrix). */
+    public long hits() {
+        return nodes.hits();
+    }
+
+    /** Number of node lookups that had to compute the matrix. */
+    public long misses() {
+        return nodes.misses();
+    }
+
+    /** Number of matrices currently cached. */
+    public int size() {
+        return nodes.size();
+    }
+
+    /** Maximum number of matrices kept. */
+    public int capacity() {
+        return nodes.capacity();
+    }
+
+    /** Remove all cached matrices (the hit and miss counts are kept). */
+    public void clear() {
+        nodes.clear();
+    }
+
+}
@@ -0,0 +1,247 @@
+package be.angelcorp.sofa;
+
+/**
+ * Greenwich sidereal time for many UT1 epochs, with the Earth rotation angle evaluated exactly and the slowly varying
+ * precession-nutation part cached (and interpolated) per TT epoch.<br>
+ * <br>
+ * {@link SofaLibrary#iauGst06a} forms the full bias-precession-nutation matrix (iauPnm06a) and the CIO locator (iauS06)
+ * for every epoch, to find the equation of the origins (iauEors); {@link SofaLibrary#iauGst00a} likewise sums the
+ * equation of the equinoxes (iauEe00a). Both change by less than a milliarcsecond per hour, while the Earth rotation
+ * angle changes by 15 degrees. This class evaluates ERA and the GMST polynomials in Java, and takes the slow part from a
+ * table of nodes:
+ * <pre>
+ * SiderealTime gst = new SiderealTime(SiderealTime.Model.IAU_2006_2000A, 64, 3600.0);
+ * double theta = gst.gst(2400000.5, 53736.0, 2400000.5, 53736.0 + 64.8 / 86400);
+ * gst.gst(2400000.5, 53736.0, 1.0 / 1440, 64.8, thetas);   // one per minute
+ * </pre>
+ * With a quantum of zero, the slow part is computed (and cached) for every distinct TT epoch, and the results are those
+ * of the SOFA functions. With a positive quantum, the slow part is interpolated linearly between nodes at multiples of
+ * the quantum. The error of the interpolation grows with the square of the quantum: compared with iauGst06a and
+ * iauGst00a, it stays below 5e-12 radians (1 microarcsecond) with nodes ten minutes apart, 1e-10 radians (20
+ * microarcseconds) with nodes an hour apart, and 5e-8 radians (10 milliarcseconds) with nodes a day apart.<br>
+ * <br>
+ * {@link #era} and the mean sidereal times ({@link #gmst06}, {@link #gmst00}) are static and exact: they perform the
+ * operations of the C code in the same order, and give the same results as the native library. The node table is
+ * direct-mapped and lock-free ({@link EpochCache}, as in {@link PnMatrixCache}), so a SiderealTime can be shared by any number of threads.<br>
+ * <br>
+ * This class uses computations derived from the iauEra00, iauGmst00, iauGmst06, iauGst00a and iauGst06a routines of
+ * the IAU SOFA software collection (release 2013-12-02), and does not itself constitute software provided by and/or
+ * endorsed by SOFA. It differs from the original in that the equation of the origins (or of the equinoxes) may be
+ * interpolated.
+ */
+public final class SiderealTime {
+
+    static {
+        NativeVariant.select();
+    }
+
+    /** The sidereal time models. */
+    public enum Model {
+        /** Greenwich apparent sidereal time, IAU 2006/2000A (CIO based), {@link SofaLibrary#iauGst06a}. */
+        IAU_2006_2000A,
+        /** Greenwich apparent sidereal time, IAU 2000A (equinox based), {@link SofaLibrary#iauGst00a}. */
+        IAU_2000A;
+
+        /**
+         * The slow part of the model at a TT epoch: the equation of the origins (IAU 2006/2000A) or the equation of the
+         * equinoxes (IAU 2000A).
+         */
+        double slow(double tta, double ttb) {
+            if (this == IAU_2000A)
+                return SofaLibrary.iauEe00a(tta, ttb);
+
+            double[] rnpb = new double[9];
+            double[] x = new double[1], y = new double[1];
+            SofaArrays.iauPnm06a(tta, ttb, rnpb);
+            SofaArrays.iauBpn2xy(rnpb, x, y);
+            double s = SofaLibrary.iauS06(tta, ttb, x[0], y[0]);
+            return SofaArrays.iauEors(rnpb, s);
+        }
+    }
+
+    /* Constants of sofam.h */
+    private static final double D2PI   = 6.283185307179586476925287;
+    private static final double DAS2R  = 4.848136811095359935899141e-6;
+    private static final double DJ00   = 2451545.0;
+    private static final double DJC    = 36525.0;
+    private static final double DAYSEC = 86400.0;
+
+    private final Model model;
+    private final double quantum;
+    /** The slow part at the epochs or nodes */
+    private final EpochCache<Double> nodes;
+
+    /**
+     * @param model    Sidereal time model.
+     * @param capacity Maximum number of nodes kept (rounded up to a power of two).
+     * @param quantum  Distance between the nodes of the slow part in seconds, or zero to compute it for every distinct
+     *                 TT epoch.
+     */
+    public SiderealTime(Model model, int capacity, double quantum) {
+        if (model == null)
+            throw new IllegalArgumentException("The model must not be null");
+        if (!(quantum >= 0.0))
+            throw new IllegalArgumentException("The quantum must be zero or positive, not " + quantum);
+        this.model   = model;
+        this.quantum = quantum / DAYSEC;
+        this.nodes   = new EpochCache<>(capacity, model::slow);
+    }
+
+    /**
+     * Earth rotation angle (IAU 2000 model), see {@link SofaLibrary#iauEra00}.
+     *
+     * @param dj1 UT1 as a 2-part Julian Date.
+     * @param dj2 UT1 as a 2-part Julian Date.
+     * @return Earth rotation angle (radians), range 0-2pi.
+     */
+    public static double era(double dj1, double dj2) {
+        double d1, d2;
+
+        // Days since fundamental epoch
+        if (dj1 < dj2) {
+            d1 = dj1;
+            d2 = dj2;
+        } else {
+            d1 = dj2;
+            d2 = dj1;
+        }
+        double t = d1 + (d2 - DJ00);
+
+        // Fractional part of T (days)
+        double f = d1 % 1.0 + d2 % 1.0;
+
+        // Earth rotation angle at this UT1
+        return Vml.anp(D2PI * (f + 0.7790572732640 + 0.00273781191135448 * t));
+    }
+
+    /**
+     * Greenwich mean sidereal time (consistent with IAU 2006 precession), see {@link SofaLibrary#iauGmst06}.
+     *
+     * @param uta UT1 as a 2-part Julian Date.
+     * @param utb UT1 as a 2-part Julian Date.
+     * @param tta TT as a 2-part Julian Date.
+     * @param ttb TT as a 2-part Julian Date.
+     * @return Greenwich mean sidereal time (radians), range 0-2pi.
+     */
+    public static double gmst06(double uta, double utb, double tta, double ttb) {
+        // TT Julian centuries since J2000.0
+        double t = ((tta - DJ00) + ttb) / DJC;
+
+        // Greenwich mean sidereal time, IAU 2006
+        return Vml.anp(era(uta, utb) +
+                (    0.014506     +
+                (  4612.156534    +
+                (     1.3915817   +
+                (    -0.00000044  +
+                (    -0.000029956 +
+                (    -0.0000000368 )
+                * t) * t) * t) * t) * t) * DAS2R);
+    }
+
+    /**
+     * Greenwich mean sidereal time (model consistent with IAU 2000 resolutions), see {@link SofaLibrary#iauGmst00}.
+     *
+     * @param uta UT1 as a 2-part Julian Date.
+     * @param utb UT1 as a 2-part Julian Date.
+     * @param tta TT as a 2-part Julian Date.
+     * @param ttb TT as a 2-part Julian Date.
+     * @return Greenwich mean sidereal time (radians), range 0-2pi.
+     */
+    public static double gmst00(double uta, double utb, double tta, double ttb) {
+        // TT Julian centuries since J2000.0
+        double t = ((tta - DJ00) + ttb) / DJC;
+
+        // Greenwich Mean Sidereal Time, IAU 2000
+        return Vml.anp(era(uta, utb) +
+                (     0.014506   +
+                (  4612.15739966 +
+                (     1.39667721 +
+                (    -0.00009344 +
+                (     0.00001882 )
+                * t) * t) * t) * t) * DAS2R);
+    }
+
+    /**
+     * Greenwich apparent sidereal time of the model, as {@link SofaLibrary#iauGst06a} or {@link SofaLibrary#iauGst00a}.
+     *
+     * @param uta UT1 as a 2-part Julian Date.
+     * @param utb UT1 as a 2-part Julian Date.
+     * @param tta TT as a 2-part Julian Date.
+     * @param ttb TT as a 2-part Julian Date.
+     * @return Greenwich apparent sidereal time (radians), range 0-2pi.
+     */
+    public double gst(double uta, double utb, double tta, double ttb) {
+        double slow = slow(tta, ttb);
+        if (model == Model.IAU_2000A)
+            return Vml.anp(gmst00(uta, utb, tta, ttb) + slow);
+        return Vml.anp(era(uta, utb) - slow);
+    }
+
+    /**
+     * Greenwich apparent sidereal time for every element of the given arrays, see
+     * {@link #gst(double, double, double, double)}.
+     *
+     * @param gst Returned Greenwich apparent sidereal time (radians), range 0-2pi.
+     */
+    public void gst(double[] uta, double[] utb, double[] tta, double[] ttb, double[] gst) {
+        int n = uta.length;
+        if (utb.length < n || tta.length < n || ttb.length < n || gst.length < n)
+            throw new IllegalArgumentException("All arrays must hold at least " + n + " elements");
+        for (int i = 0; i < n; i++)
+            gst[i] = gst(uta[i], utb[i], tta[i], ttb[i]);
+    }
+
+    /**
+     * Greenwich apparent sidereal time on a regular UT1 grid, see {@link #gst(double, double, double, double)}. Epoch
+     * i of the grid is UT1 = uta + (utb + i * step), and TT = UT1 + tt_ut1.
+     *
+     * @param uta    First UT1 of the grid as a 2-part Julian Date.
+     * @param utb    First UT1 of the grid as a 2-part Julian Date.
+     * @param step   Interval between the epochs of the grid (days).
+     * @param tt_ut1 TT-UT1 (seconds), assumed constant over the grid.
+     * @param gst    Returned Greenwich apparent sidereal time (radians) of every epoch of the grid, range 0-2pi.
+     */
+    public void gst(double uta, double utb, double step, double tt_ut1, double[] gst) {
+        double dt = tt_ut1 / DAYSEC;
+        for (int i = 0; i < gst.length; i++) {
+            double ut = utb + i * step;
+            gst[i] = gst(uta, ut, uta, ut + dt);
+        }
+    }
+
+    /**
+     * The slow part of the model at a TT epoch: the equation of the origins (IAU 2006/2000A, subtracted from ERA) or
+     * the equation of the equinoxes (IAU 2000A, added to GMST), from the nodes.
+     *
+     * @param tta TT as a 2-part Julian Date.
+     * @param ttb TT as a 2-part Julian Date.
+     * @return Equation of the origins or of the equinoxes (radians).
+     */
+    public double slow(double tta, double ttb) {
+        if (quantum == 0.0)
+            return nodes.exact(tta, ttb);
+
+        double t = ((tta - DJ00) + ttb) / quantum;
+        double floor = Math.floor(t);
+        long bucket = (long) floor;
+        double v0 = nodes.bucket(bucket, quantum);
+        double v1 = nodes.bucket(bucket + 1, quantum);
+        return v0 + (t - floor) * (v1 - v0);
+    }
+
+    /** The sidereal time model. */
+    public Model model() {
+        return model;
+    }
+
+    /** Number of node lookups that found a cached value (two per interpolated value). */
+    public long hits() {
+        return nodes.hits();
+    }
+
+    /** Number of node lookups that had to compute the slow part. */
+    public long misses() {
+        return nodes.misses();
+    }
+
+}
@@ -0,0 +1,3660 @@
+package be.angelcorp.sofa;
+
+/**
+ * Primitive-array overloads of the {@link SofaLibrary} functions.<br>
+ * This file was autogenerated by ./src/main/generator/genArrays.sh from sofa-platform/src/main/cpp/src/sofa.h.<br>
+ * <br>
+ * All pointer and array arguments of the SOFA functions are replaced by Java arrays (and an optional offset into
+ * that array). Matrices and pv-vectors are flat, row-major arrays: 9 doubles for double[3][3], 6 doubles for
+ * double[2][3]. An iauASTROM struct is passed as {@value #ASTROM_SIZE} doubles in field order, an iauLDBODY
+ * array as {@value #LDBODY_SIZE} doubles per body.<br>
+ * <br>
+ * The arguments are copied through a thread-local native scratch block, so no native memory or BridJ pointers
+ * are allocated per call. Only the arguments that are documented as returned by SOFA are copied back, so the
+ * same array may be passed as an input and an output wherever the C function allows it. The functions that return
+ * a status leave the returned arrays as they were given wherever SOFA does not set them (e.g. on an error).
+ */
+public final class SofaArrays {
+
+    /** Number of doubles in an iauASTROM struct. */
+    public static final int ASTROM_SIZE = 31;
+    /** Number of doubles in an iauLDBODY struct. */
+    public static final int LDBODY_SIZE = 8;
+
+    static {
+        NativeVariant.select();
+    }
+
+    private SofaArrays() {
+    }
+
+    /**
+     * Gregorian Calendar to Julian Date.<br>
+     * Array variant of {@link SofaLibrary#iauCal2jd}, returns djm0, djm.
+     */
+    public static int iauCal2jd(int iy, int im, int id, double[] djm0, int djm0Offset, double[] djm, int djmOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long djm0$ = scratch.putDoubles(djm0, djm0Offset, 1);
+        long djm$ = scratch.putDoubles(djm, djmOffset, 1);
+        int result = SofaLibrary.iauCal2jd(iy, im, id, djm0$, djm$);
+        scratch.getDoubles(djm0$, djm0, djm0Offset, 1);
+        scratch.getDoubles(djm$, djm, djmOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauCal2jd}, returns djm0, djm.
+     */
+    public static int iauCal2jd(int iy, int im, int id, double[] djm0, double[] djm) {
+        return iauCal2jd(iy, im, id, djm0, 0, djm, 0);
+    }
+
+    /**
+     * Besselian Epoch to Julian Date.<br>
+     * Array variant of {@link SofaLibrary#iauEpb2jd}, returns djm0, djm.
+     */
+    public static void iauEpb2jd(double epb, double[] djm0, int djm0Offset, double[] djm, int djmOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long djm0$ = scratch.reserveDoubles(1);
+        long djm$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauEpb2jd(epb, djm0$, djm$);
+        scratch.getDoubles(djm0$, djm0, djm0Offset, 1);
+        scratch.getDoubles(djm$, djm, djmOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauEpb2jd}, returns djm0, djm.
+     */
+    public static void iauEpb2jd(double epb, double[] djm0, double[] djm) {
+        iauEpb2jd(epb, djm0, 0, djm, 0);
+    }
+
+    /**
+     * Julian Epoch to Julian Date.<br>
+     * Array variant of {@link SofaLibrary#iauEpj2jd}, returns djm0, djm.
+     */
+    public static void iauEpj2jd(double epj, double[] djm0, int djm0Offset, double[] djm, int djmOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long djm0$ = scratch.reserveDoubles(1);
+        long djm$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauEpj2jd(epj, djm0$, djm$);
+        scratch.getDoubles(djm0$, djm0, djm0Offset, 1);
+        scratch.getDoubles(djm$, djm, djmOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauEpj2jd}, returns djm0, djm.
+     */
+    public static void iauEpj2jd(double epj, double[] djm0, double[] djm) {
+        iauEpj2jd(epj, djm0, 0, djm, 0);
+    }
+
+    /**
+     * Julian Date to Gregorian year, month, day, and fraction of a day.<br>
+     * Array variant of {@link SofaLibrary#iauJd2cal}, returns iy, im, id, fd.
+     */
+    public static int iauJd2cal(double dj1, double dj2, int[] iy, int iyOffset, int[] im, int imOffset, int[] id, int idOffset, double[] fd, int fdOffset) {
+        NativeScratch scratch = NativeScratch.get(32);
+        long iy$ = scratch.putInts(iy, iyOffset, 1);
+        long im$ = scratch.putInts(im, imOffset, 1);
+        long id$ = scratch.putInts(id, idOffset, 1);
+        long fd$ = scratch.putDoubles(fd, fdOffset, 1);
+        int result = SofaLibrary.iauJd2cal(dj1, dj2, iy$, im$, id$, fd$);
+        scratch.getInts(iy$, iy, iyOffset, 1);
+        scratch.getInts(im$, im, imOffset, 1);
+        scratch.getInts(id$, id, idOffset, 1);
+        scratch.getDoubles(fd$, fd, fdOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauJd2cal}, returns iy, im, id, fd.
+     */
+    public static int iauJd2cal(double dj1, double dj2, int[] iy, int[] im, int[] id, double[] fd) {
+        return iauJd2cal(dj1, dj2, iy, 0, im, 0, id, 0, fd, 0);
+    }
+
+    /**
+     * Julian Date to Gregorian Calendar, expressed in a form convenient for formatting messages:  rounded to a specified precision.<br>
+     * Array variant of {@link SofaLibrary#iauJdcalf}, returns iymdf.
+     */
+    public static int iauJdcalf(int ndp, double dj1, double dj2, int[] iymdf, int iymdfOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long iymdf$ = scratch.putInts(iymdf, iymdfOffset, 4);
+        int result = SofaLibrary.iauJdcalf(ndp, dj1, dj2, iymdf$);
+        scratch.getInts(iymdf$, iymdf, iymdfOffset, 4);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauJdcalf}, returns iymdf.
+     */
+    public static int iauJdcalf(int ndp, double dj1, double dj2, int[] iymdf) {
+        return iauJdcalf(ndp, dj1, dj2, iymdf, 0);
+    }
+
+    /**
+     * Apply aberration to transform natural direction into proper direction.<br>
+     * Array variant of {@link SofaLibrary#iauAb}, returns ppr.
+     */
+    public static void iauAb(double[] pnat, int pnatOffset, double[] v, int vOffset, double s, double bm1, double[] ppr, int pprOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long pnat$ = scratch.putDoubles(pnat, pnatOffset, 3);
+        long v$ = scratch.putDoubles(v, vOffset, 3);
+        long ppr$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauAb(pnat$, v$, s, bm1, ppr$);
+        scratch.getDoubles(ppr$, ppr, pprOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAb}, returns ppr.
+     */
+    public static void iauAb(double[] pnat, double[] v, double s, double bm1, double[] ppr) {
+        iauAb(pnat, 0, v, 0, s, bm1, ppr, 0);
+    }
+
+    /**
+     * For a geocentric observer, prepare star-independent astrometry parameters for transformations between ICRS and GCRS coordinates. The Earth ephemeris is supplied by the caller.<br>
+     * Array variant of {@link SofaLibrary#iauApcg}, returns astrom.
+     */
+    public static void iauApcg(double date1, double date2, double[] ebpv, int ebpvOffset, double[] ehp, int ehpOffset, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 72);
+        long ebpv$ = scratch.putDoubles(ebpv, ebpvOffset, 6);
+        long ehp$ = scratch.putDoubles(ehp, ehpOffset, 3);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApcg(date1, date2, ebpv$, ehp$, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApcg}, returns astrom.
+     */
+    public static void iauApcg(double date1, double date2, double[] ebpv, double[] ehp, double[] astrom) {
+        iauApcg(date1, date2, ebpv, 0, ehp, 0, astrom, 0);
+    }
+
+    /**
+     * For a geocentric observer, prepare star-independent astrometry parameters for transformations between ICRS and GCRS coordinates. The caller supplies the date, and SOFA models are used to predict the Earth ephemeris.<br>
+     * Array variant of {@link SofaLibrary#iauApcg13}, returns astrom.
+     */
+    public static void iauApcg13(double date1, double date2, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApcg13(date1, date2, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApcg13}, returns astrom.
+     */
+    public static void iauApcg13(double date1, double date2, double[] astrom) {
+        iauApcg13(date1, date2, astrom, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and geocentric CIRS coordinates.  The Earth ephemeris and CIP/CIO are supplied by the caller.<br>
+     * Array variant of {@link SofaLibrary#iauApci}, returns astrom.
+     */
+    public static void iauApci(double date1, double date2, double[] ebpv, int ebpvOffset, double[] ehp, int ehpOffset, double x, double y, double s, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 72);
+        long ebpv$ = scratch.putDoubles(ebpv, ebpvOffset, 6);
+        long ehp$ = scratch.putDoubles(ehp, ehpOffset, 3);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApci(date1, date2, ebpv$, ehp$, x, y, s, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApci}, returns astrom.
+     */
+    public static void iauApci(double date1, double date2, double[] ebpv, double[] ehp, double x, double y, double s, double[] astrom) {
+        iauApci(date1, date2, ebpv, 0, ehp, 0, x, y, s, astrom, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and geocentric CIRS coordinates.  The caller supplies the date, and SOFA models are used to predict the Earth ephemeris and CIP/CIO.<br>
+     * Array variant of {@link SofaLibrary#iauApci13}, returns astrom, eo.
+     */
+    public static void iauApci13(double date1, double date2, double[] astrom, int astromOffset, double[] eo, int eoOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 8);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        long eo$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauApci13(date1, date2, astrom$, eo$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+        scratch.getDoubles(eo$, eo, eoOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApci13}, returns astrom, eo.
+     */
+    public static void iauApci13(double date1, double date2, double[] astrom, double[] eo) {
+        iauApci13(date1, date2, astrom, 0, eo, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and observed coordinates.  The caller supplies the Earth ephemeris, the Earth rotation information and the refraction constants as well as the site coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauApco}, returns astrom.
+     */
+    public static void iauApco(double date1, double date2, double[] ebpv, int ebpvOffset, double[] ehp, int ehpOffset, double x, double y, double s, double theta, double elong, double phi, double hm, double xp, double yp, double sp, double refa, double refb, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 72);
+        long ebpv$ = scratch.putDoubles(ebpv, ebpvOffset, 6);
+        long ehp$ = scratch.putDoubles(ehp, ehpOffset, 3);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApco(date1, date2, ebpv$, ehp$, x, y, s, theta, elong, phi, hm, xp, yp, sp, refa, refb, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApco}, returns astrom.
+     */
+    public static void iauApco(double date1, double date2, double[] ebpv, double[] ehp, double x, double y, double s, double theta, double elong, double phi, double hm, double xp, double yp, double sp, double refa, double refb, double[] astrom) {
+        iauApco(date1, date2, ebpv, 0, ehp, 0, x, y, s, theta, elong, phi, hm, xp, yp, sp, refa, refb, astrom, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between ICRS and observed coordinates.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength, and SOFA models are used to obtain the Earth ephemeris, CIP/CIO and refraction constants.<br>
+     * Array variant of {@link SofaLibrary#iauApco13}, returns astrom, eo.
+     */
+    public static int iauApco13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] astrom, int astromOffset, double[] eo, int eoOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 8);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long eo$ = scratch.putDoubles(eo, eoOffset, 1);
+        int result = SofaLibrary.iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom$, eo$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+        scratch.getDoubles(eo$, eo, eoOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApco13}, returns astrom, eo.
+     */
+    public static int iauApco13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] astrom, double[] eo) {
+        return iauApco13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, 0, eo, 0);
+    }
+
+    /**
+     * For an observer whose geocentric position and velocity are known, prepare star-independent astrometry parameters for transformations between ICRS and GCRS.  The Earth ephemeris is supplied by the caller.<br>
+     * Array variant of {@link SofaLibrary#iauApcs}, returns astrom.
+     */
+    public static void iauApcs(double date1, double date2, double[] pv, int pvOffset, double[] ebpv, int ebpvOffset, double[] ehp, int ehpOffset, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 120);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long ebpv$ = scratch.putDoubles(ebpv, ebpvOffset, 6);
+        long ehp$ = scratch.putDoubles(ehp, ehpOffset, 3);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApcs(date1, date2, pv$, ebpv$, ehp$, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApcs}, returns astrom.
+     */
+    public static void iauApcs(double date1, double date2, double[] pv, double[] ebpv, double[] ehp, double[] astrom) {
+        iauApcs(date1, date2, pv, 0, ebpv, 0, ehp, 0, astrom, 0);
+    }
+
+    /**
+     * For an observer whose geocentric position and velocity are known, prepare star-independent astrometry parameters for transformations between ICRS and GCRS.  The Earth ephemeris is from SOFA models.<br>
+     * Array variant of {@link SofaLibrary#iauApcs13}, returns astrom.
+     */
+    public static void iauApcs13(double date1, double date2, double[] pv, int pvOffset, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 48);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApcs13(date1, date2, pv$, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApcs13}, returns astrom.
+     */
+    public static void iauApcs13(double date1, double date2, double[] pv, double[] astrom) {
+        iauApcs13(date1, date2, pv, 0, astrom, 0);
+    }
+
+    /**
+     * In the star-independent astrometry parameters, update only the Earth rotation angle, supplied by the caller explicitly.<br>
+     * Array variant of {@link SofaLibrary#iauAper}, returns astrom.
+     */
+    public static void iauAper(double theta, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        SofaLibrary.iauAper(theta, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAper}, returns astrom.
+     */
+    public static void iauAper(double theta, double[] astrom) {
+        iauAper(theta, astrom, 0);
+    }
+
+    /**
+     * In the star-independent astrometry parameters, update only the Earth rotation angle.  The caller provides UT1, (n.b. not UTC).<br>
+     * Array variant of {@link SofaLibrary#iauAper13}, returns astrom.
+     */
+    public static void iauAper13(double ut11, double ut12, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        SofaLibrary.iauAper13(ut11, ut12, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAper13}, returns astrom.
+     */
+    public static void iauAper13(double ut11, double ut12, double[] astrom) {
+        iauAper13(ut11, ut12, astrom, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between CIRS and observed coordinates.  The caller supplies the Earth orientation information and the refraction constants as well as the site coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauApio}, returns astrom.
+     */
+    public static void iauApio(double sp, double theta, double elong, double phi, double hm, double xp, double yp, double refa, double refb, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE);
+        long astrom$ = scratch.reserveDoubles(ASTROM_SIZE);
+        SofaLibrary.iauApio(sp, theta, elong, phi, hm, xp, yp, refa, refb, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApio}, returns astrom.
+     */
+    public static void iauApio(double sp, double theta, double elong, double phi, double hm, double xp, double yp, double refa, double refb, double[] astrom) {
+        iauApio(sp, theta, elong, phi, hm, xp, yp, refa, refb, astrom, 0);
+    }
+
+    /**
+     * For a terrestrial observer, prepare star-independent astrometry parameters for transformations between CIRS and observed coordinates.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Array variant of {@link SofaLibrary#iauApio13}, returns astrom.
+     */
+    public static int iauApio13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] astrom, int astromOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        int result = SofaLibrary.iauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom$);
+        scratch.getDoubles(astrom$, astrom, astromOffset, ASTROM_SIZE);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauApio13}, returns astrom.
+     */
+    public static int iauApio13(double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] astrom) {
+        return iauApio13(utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, astrom, 0);
+    }
+
+    /**
+     * Transform ICRS star data, epoch J2000.0, to CIRS.<br>
+     * Array variant of {@link SofaLibrary#iauAtci13}, returns ri, di, eo.
+     */
+    public static void iauAtci13(double rc, double dc, double pr, double pd, double px, double rv, double date1, double date2, double[] ri, int riOffset, double[] di, int diOffset, double[] eo, int eoOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long ri$ = scratch.reserveDoubles(1);
+        long di$ = scratch.reserveDoubles(1);
+        long eo$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtci13(rc, dc, pr, pd, px, rv, date1, date2, ri$, di$, eo$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+        scratch.getDoubles(eo$, eo, eoOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtci13}, returns ri, di, eo.
+     */
+    public static void iauAtci13(double rc, double dc, double pr, double pd, double px, double rv, double date1, double date2, double[] ri, double[] di, double[] eo) {
+        iauAtci13(rc, dc, pr, pd, px, rv, date1, date2, ri, 0, di, 0, eo, 0);
+    }
+
+    /**
+     * Quick ICRS, epoch J2000.0, to CIRS transformation, given precomputed star-independent astrometry parameters.<br>
+     * Array variant of {@link SofaLibrary#iauAtciq}, returns ri, di.
+     */
+    public static void iauAtciq(double rc, double dc, double pr, double pd, double px, double rv, double[] astrom, int astromOffset, double[] ri, int riOffset, double[] di, int diOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 16);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long ri$ = scratch.reserveDoubles(1);
+        long di$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtciq(rc, dc, pr, pd, px, rv, astrom$, ri$, di$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtciq}, returns ri, di.
+     */
+    public static void iauAtciq(double rc, double dc, double pr, double pd, double px, double rv, double[] astrom, double[] ri, double[] di) {
+        iauAtciq(rc, dc, pr, pd, px, rv, astrom, 0, ri, 0, di, 0);
+    }
+
+    /**
+     * Quick ICRS, epoch J2000.0, to CIRS transformation, given precomputed star-independent astrometry parameters plus a list of light-deflecting bodies.<br>
+     * Array variant of {@link SofaLibrary#iauAtciqn}, returns ri, di.
+     */
+    public static void iauAtciqn(double rc, double dc, double pr, double pd, double px, double rv, double[] astrom, int astromOffset, int n, double[] b, int bOffset, double[] ri, int riOffset, double[] di, int diOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 8 * LDBODY_SIZE * n + 16);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long b$ = scratch.putDoubles(b, bOffset, LDBODY_SIZE * n);
+        long ri$ = scratch.reserveDoubles(1);
+        long di$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtciqn(rc, dc, pr, pd, px, rv, astrom$, n, b$, ri$, di$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtciqn}, returns ri, di.
+     */
+    public static void iauAtciqn(double rc, double dc, double pr, double pd, double px, double rv, double[] astrom, int n, double[] b, double[] ri, double[] di) {
+        iauAtciqn(rc, dc, pr, pd, px, rv, astrom, 0, n, b, 0, ri, 0, di, 0);
+    }
+
+    /**
+     * Quick ICRS to CIRS transformation, given precomputed star-independent astrometry parameters, and assuming zero parallax and proper motion.<br>
+     * Array variant of {@link SofaLibrary#iauAtciqz}, returns ri, di.
+     */
+    public static void iauAtciqz(double rc, double dc, double[] astrom, int astromOffset, double[] ri, int riOffset, double[] di, int diOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 16);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long ri$ = scratch.reserveDoubles(1);
+        long di$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtciqz(rc, dc, astrom$, ri$, di$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtciqz}, returns ri, di.
+     */
+    public static void iauAtciqz(double rc, double dc, double[] astrom, double[] ri, double[] di) {
+        iauAtciqz(rc, dc, astrom, 0, ri, 0, di, 0);
+    }
+
+    /**
+     * ICRS RA,Dec to observed place.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Array variant of {@link SofaLibrary#iauAtco13}, returns aob, zob, hob, dob, rob, eo.
+     */
+    public static int iauAtco13(double rc, double dc, double pr, double pd, double px, double rv, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] aob, int aobOffset, double[] zob, int zobOffset, double[] hob, int hobOffset, double[] dob, int dobOffset, double[] rob, int robOffset, double[] eo, int eoOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long aob$ = scratch.putDoubles(aob, aobOffset, 1);
+        long zob$ = scratch.putDoubles(zob, zobOffset, 1);
+        long hob$ = scratch.putDoubles(hob, hobOffset, 1);
+        long dob$ = scratch.putDoubles(dob, dobOffset, 1);
+        long rob$ = scratch.putDoubles(rob, robOffset, 1);
+        long eo$ = scratch.putDoubles(eo, eoOffset, 1);
+        int result = SofaLibrary.iauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob$, zob$, hob$, dob$, rob$, eo$);
+        scratch.getDoubles(aob$, aob, aobOffset, 1);
+        scratch.getDoubles(zob$, zob, zobOffset, 1);
+        scratch.getDoubles(hob$, hob, hobOffset, 1);
+        scratch.getDoubles(dob$, dob, dobOffset, 1);
+        scratch.getDoubles(rob$, rob, robOffset, 1);
+        scratch.getDoubles(eo$, eo, eoOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtco13}, returns aob, zob, hob, dob, rob, eo.
+     */
+    public static int iauAtco13(double rc, double dc, double pr, double pd, double px, double rv, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] aob, double[] zob, double[] hob, double[] dob, double[] rob, double[] eo) {
+        return iauAtco13(rc, dc, pr, pd, px, rv, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, 0, zob, 0, hob, 0, dob, 0, rob, 0, eo, 0);
+    }
+
+    /**
+     * Transform star RA,Dec from geocentric CIRS to ICRS astrometric.<br>
+     * Array variant of {@link SofaLibrary#iauAtic13}, returns rc, dc, eo.
+     */
+    public static void iauAtic13(double ri, double di, double date1, double date2, double[] rc, int rcOffset, double[] dc, int dcOffset, double[] eo, int eoOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long rc$ = scratch.reserveDoubles(1);
+        long dc$ = scratch.reserveDoubles(1);
+        long eo$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtic13(ri, di, date1, date2, rc$, dc$, eo$);
+        scratch.getDoubles(rc$, rc, rcOffset, 1);
+        scratch.getDoubles(dc$, dc, dcOffset, 1);
+        scratch.getDoubles(eo$, eo, eoOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtic13}, returns rc, dc, eo.
+     */
+    public static void iauAtic13(double ri, double di, double date1, double date2, double[] rc, double[] dc, double[] eo) {
+        iauAtic13(ri, di, date1, date2, rc, 0, dc, 0, eo, 0);
+    }
+
+    /**
+     * Quick CIRS RA,Dec to ICRS astrometric place, given the star-independent astrometry parameters.<br>
+     * Array variant of {@link SofaLibrary#iauAticq}, returns rc, dc.
+     */
+    public static void iauAticq(double ri, double di, double[] astrom, int astromOffset, double[] rc, int rcOffset, double[] dc, int dcOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 16);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long rc$ = scratch.reserveDoubles(1);
+        long dc$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAticq(ri, di, astrom$, rc$, dc$);
+        scratch.getDoubles(rc$, rc, rcOffset, 1);
+        scratch.getDoubles(dc$, dc, dcOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAticq}, returns rc, dc.
+     */
+    public static void iauAticq(double ri, double di, double[] astrom, double[] rc, double[] dc) {
+        iauAticq(ri, di, astrom, 0, rc, 0, dc, 0);
+    }
+
+    /**
+     * Quick CIRS to ICRS astrometric place transformation, given the star-independent astrometry parameters plus a list of light-deflecting bodies.<br>
+     * Array variant of {@link SofaLibrary#iauAticqn}, returns rc, dc.
+     */
+    public static void iauAticqn(double ri, double di, double[] astrom, int astromOffset, int n, double[] b, int bOffset, double[] rc, int rcOffset, double[] dc, int dcOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 8 * LDBODY_SIZE * n + 16);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long b$ = scratch.putDoubles(b, bOffset, LDBODY_SIZE * n);
+        long rc$ = scratch.reserveDoubles(1);
+        long dc$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAticqn(ri, di, astrom$, n, b$, rc$, dc$);
+        scratch.getDoubles(rc$, rc, rcOffset, 1);
+        scratch.getDoubles(dc$, dc, dcOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAticqn}, returns rc, dc.
+     */
+    public static void iauAticqn(double ri, double di, double[] astrom, int n, double[] b, double[] rc, double[] dc) {
+        iauAticqn(ri, di, astrom, 0, n, b, 0, rc, 0, dc, 0);
+    }
+
+    /**
+     * CIRS RA,Dec to observed place.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Array variant of {@link SofaLibrary#iauAtio13}, returns aob, zob, hob, dob, rob.
+     */
+    public static int iauAtio13(double ri, double di, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] aob, int aobOffset, double[] zob, int zobOffset, double[] hob, int hobOffset, double[] dob, int dobOffset, double[] rob, int robOffset) {
+        NativeScratch scratch = NativeScratch.get(40);
+        long aob$ = scratch.putDoubles(aob, aobOffset, 1);
+        long zob$ = scratch.putDoubles(zob, zobOffset, 1);
+        long hob$ = scratch.putDoubles(hob, hobOffset, 1);
+        long dob$ = scratch.putDoubles(dob, dobOffset, 1);
+        long rob$ = scratch.putDoubles(rob, robOffset, 1);
+        int result = SofaLibrary.iauAtio13(ri, di, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob$, zob$, hob$, dob$, rob$);
+        scratch.getDoubles(aob$, aob, aobOffset, 1);
+        scratch.getDoubles(zob$, zob, zobOffset, 1);
+        scratch.getDoubles(hob$, hob, hobOffset, 1);
+        scratch.getDoubles(dob$, dob, dobOffset, 1);
+        scratch.getDoubles(rob$, rob, robOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtio13}, returns aob, zob, hob, dob, rob.
+     */
+    public static int iauAtio13(double ri, double di, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] aob, double[] zob, double[] hob, double[] dob, double[] rob) {
+        return iauAtio13(ri, di, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, aob, 0, zob, 0, hob, 0, dob, 0, rob, 0);
+    }
+
+    /**
+     * Quick CIRS to observed place transformation.<br>
+     * Array variant of {@link SofaLibrary#iauAtioq}, returns aob, zob, hob, dob, rob.
+     */
+    public static void iauAtioq(double ri, double di, double[] astrom, int astromOffset, double[] aob, int aobOffset, double[] zob, int zobOffset, double[] hob, int hobOffset, double[] dob, int dobOffset, double[] rob, int robOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * ASTROM_SIZE + 40);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long aob$ = scratch.reserveDoubles(1);
+        long zob$ = scratch.reserveDoubles(1);
+        long hob$ = scratch.reserveDoubles(1);
+        long dob$ = scratch.reserveDoubles(1);
+        long rob$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtioq(ri, di, astrom$, aob$, zob$, hob$, dob$, rob$);
+        scratch.getDoubles(aob$, aob, aobOffset, 1);
+        scratch.getDoubles(zob$, zob, zobOffset, 1);
+        scratch.getDoubles(hob$, hob, hobOffset, 1);
+        scratch.getDoubles(dob$, dob, dobOffset, 1);
+        scratch.getDoubles(rob$, rob, robOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtioq}, returns aob, zob, hob, dob, rob.
+     */
+    public static void iauAtioq(double ri, double di, double[] astrom, double[] aob, double[] zob, double[] hob, double[] dob, double[] rob) {
+        iauAtioq(ri, di, astrom, 0, aob, 0, zob, 0, hob, 0, dob, 0, rob, 0);
+    }
+
+    /**
+     * Observed place at a groundbased site to to ICRS astrometric RA,Dec. The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Array variant of {@link SofaLibrary#iauAtoc13}, returns rc, dc.
+     */
+    public static int iauAtoc13(String type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] rc, int rcOffset, double[] dc, int dcOffset) {
+        NativeScratch scratch = NativeScratch.get(NativeScratch.stringBytes(type) + 16);
+        long type$ = scratch.putString(type);
+        long rc$ = scratch.putDoubles(rc, rcOffset, 1);
+        long dc$ = scratch.putDoubles(dc, dcOffset, 1);
+        int result = SofaLibrary.iauAtoc13(type$, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, rc$, dc$);
+        scratch.getDoubles(rc$, rc, rcOffset, 1);
+        scratch.getDoubles(dc$, dc, dcOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtoc13}, returns rc, dc.
+     */
+    public static int iauAtoc13(String type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] rc, double[] dc) {
+        return iauAtoc13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, rc, 0, dc, 0);
+    }
+
+    /**
+     * Observed place to CIRS.  The caller supplies UTC, site coordinates, ambient air conditions and observing wavelength.<br>
+     * Array variant of {@link SofaLibrary#iauAtoi13}, returns ri, di.
+     */
+    public static int iauAtoi13(String type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] ri, int riOffset, double[] di, int diOffset) {
+        NativeScratch scratch = NativeScratch.get(NativeScratch.stringBytes(type) + 16);
+        long type$ = scratch.putString(type);
+        long ri$ = scratch.putDoubles(ri, riOffset, 1);
+        long di$ = scratch.putDoubles(di, diOffset, 1);
+        int result = SofaLibrary.iauAtoi13(type$, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, ri$, di$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtoi13}, returns ri, di.
+     */
+    public static int iauAtoi13(String type, double ob1, double ob2, double utc1, double utc2, double dut1, double elong, double phi, double hm, double xp, double yp, double phpa, double tc, double rh, double wl, double[] ri, double[] di) {
+        return iauAtoi13(type, ob1, ob2, utc1, utc2, dut1, elong, phi, hm, xp, yp, phpa, tc, rh, wl, ri, 0, di, 0);
+    }
+
+    /**
+     * Quick observed place to CIRS, given the star-independent astrometry parameters.<br>
+     * Array variant of {@link SofaLibrary#iauAtoiq}, returns ri, di.
+     */
+    public static void iauAtoiq(String type, double ob1, double ob2, double[] astrom, int astromOffset, double[] ri, int riOffset, double[] di, int diOffset) {
+        NativeScratch scratch = NativeScratch.get(NativeScratch.stringBytes(type) + 8 * ASTROM_SIZE + 16);
+        long type$ = scratch.putString(type);
+        long astrom$ = scratch.putDoubles(astrom, astromOffset, ASTROM_SIZE);
+        long ri$ = scratch.reserveDoubles(1);
+        long di$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauAtoiq(type$, ob1, ob2, astrom$, ri$, di$);
+        scratch.getDoubles(ri$, ri, riOffset, 1);
+        scratch.getDoubles(di$, di, diOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAtoiq}, returns ri, di.
+     */
+    public static void iauAtoiq(String type, double ob1, double ob2, double[] astrom, double[] ri, double[] di) {
+        iauAtoiq(type, ob1, ob2, astrom, 0, ri, 0, di, 0);
+    }
+
+    /**
+     * Apply light deflection by a solar-system body, as part of transforming coordinate direction into natural direction.<br>
+     * Array variant of {@link SofaLibrary#iauLd}, returns p1.
+     */
+    public static void iauLd(double bm, double[] p, int pOffset, double[] q, int qOffset, double[] e, int eOffset, double em, double dlim, double[] p1, int p1Offset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long q$ = scratch.putDoubles(q, qOffset, 3);
+        long e$ = scratch.putDoubles(e, eOffset, 3);
+        long p1$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauLd(bm, p$, q$, e$, em, dlim, p1$);
+        scratch.getDoubles(p1$, p1, p1Offset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauLd}, returns p1.
+     */
+    public static void iauLd(double bm, double[] p, double[] q, double[] e, double em, double dlim, double[] p1) {
+        iauLd(bm, p, 0, q, 0, e, 0, em, dlim, p1, 0);
+    }
+
+    /**
+     * For a star, apply light deflection by multiple solar-system bodies, as part of transforming coordinate direction into natural direction.<br>
+     * Array variant of {@link SofaLibrary#iauLdn}, returns sn.
+     */
+    public static void iauLdn(int n, double[] b, int bOffset, double[] ob, int obOffset, double[] sc, int scOffset, double[] sn, int snOffset) {
+        NativeScratch scratch = NativeScratch.get(8 * LDBODY_SIZE * n + 72);
+        long b$ = scratch.putDoubles(b, bOffset, LDBODY_SIZE * n);
+        long ob$ = scratch.putDoubles(ob, obOffset, 3);
+        long sc$ = scratch.putDoubles(sc, scOffset, 3);
+        long sn$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauLdn(n, b$, ob$, sc$, sn$);
+        scratch.getDoubles(sn$, sn, snOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauLdn}, returns sn.
+     */
+    public static void iauLdn(int n, double[] b, double[] ob, double[] sc, double[] sn) {
+        iauLdn(n, b, 0, ob, 0, sc, 0, sn, 0);
+    }
+
+    /**
+     * Light deflection by the Sun.<br>
+     * Array variant of {@link SofaLibrary#iauLdsun}, returns p1.
+     */
+    public static void iauLdsun(double[] p, int pOffset, double[] e, int eOffset, double em, double[] p1, int p1Offset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long e$ = scratch.putDoubles(e, eOffset, 3);
+        long p1$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauLdsun(p$, e$, em, p1$);
+        scratch.getDoubles(p1$, p1, p1Offset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauLdsun}, returns p1.
+     */
+    public static void iauLdsun(double[] p, double[] e, double em, double[] p1) {
+        iauLdsun(p, 0, e, 0, em, p1, 0);
+    }
+
+    /**
+     * Proper motion and parallax.<br>
+     * Array variant of {@link SofaLibrary#iauPmpx}, returns pco.
+     */
+    public static void iauPmpx(double rc, double dc, double pr, double pd, double px, double rv, double pmt, double[] pob, int pobOffset, double[] pco, int pcoOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pob$ = scratch.putDoubles(pob, pobOffset, 3);
+        long pco$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPmpx(rc, dc, pr, pd, px, rv, pmt, pob$, pco$);
+        scratch.getDoubles(pco$, pco, pcoOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmpx}, returns pco.
+     */
+    public static void iauPmpx(double rc, double dc, double pr, double pd, double px, double rv, double pmt, double[] pob, double[] pco) {
+        iauPmpx(rc, dc, pr, pd, px, rv, pmt, pob, 0, pco, 0);
+    }
+
+    /**
+     * Star proper motion:  update star catalog data for space motion, with special handling to handle the zero parallax case.<br>
+     * Array variant of {@link SofaLibrary#iauPmsafe}, returns ra2, dec2, pmr2, pmd2, px2, rv2.
+     */
+    public static int iauPmsafe(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, double[] ra2, int ra2Offset, double[] dec2, int dec2Offset, double[] pmr2, int pmr2Offset, double[] pmd2, int pmd2Offset, double[] px2, int px2Offset, double[] rv2, int rv2Offset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long ra2$ = scratch.putDoubles(ra2, ra2Offset, 1);
+        long dec2$ = scratch.putDoubles(dec2, dec2Offset, 1);
+        long pmr2$ = scratch.putDoubles(pmr2, pmr2Offset, 1);
+        long pmd2$ = scratch.putDoubles(pmd2, pmd2Offset, 1);
+        long px2$ = scratch.putDoubles(px2, px2Offset, 1);
+        long rv2$ = scratch.putDoubles(rv2, rv2Offset, 1);
+        int result = SofaLibrary.iauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2$, dec2$, pmr2$, pmd2$, px2$, rv2$);
+        scratch.getDoubles(ra2$, ra2, ra2Offset, 1);
+        scratch.getDoubles(dec2$, dec2, dec2Offset, 1);
+        scratch.getDoubles(pmr2$, pmr2, pmr2Offset, 1);
+        scratch.getDoubles(pmd2$, pmd2, pmd2Offset, 1);
+        scratch.getDoubles(px2$, px2, px2Offset, 1);
+        scratch.getDoubles(rv2$, rv2, rv2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmsafe}, returns ra2, dec2, pmr2, pmd2, px2, rv2.
+     */
+    public static int iauPmsafe(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, double[] ra2, double[] dec2, double[] pmr2, double[] pmd2, double[] px2, double[] rv2) {
+        return iauPmsafe(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, 0, dec2, 0, pmr2, 0, pmd2, 0, px2, 0, rv2, 0);
+    }
+
+    /**
+     * Position and velocity of a terrestrial observing station.<br>
+     * Array variant of {@link SofaLibrary#iauPvtob}, returns pv.
+     */
+    public static void iauPvtob(double elong, double phi, double hm, double xp, double yp, double sp, double theta, double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauPvtob(elong, phi, hm, xp, yp, sp, theta, pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvtob}, returns pv.
+     */
+    public static void iauPvtob(double elong, double phi, double hm, double xp, double yp, double sp, double theta, double[] pv) {
+        iauPvtob(elong, phi, hm, xp, yp, sp, theta, pv, 0);
+    }
+
+    /**
+     * Determine the constants A and B in the atmospheric refraction model dZ = A tan Z + B tan^3 Z.<br>
+     * Array variant of {@link SofaLibrary#iauRefco}, returns refa, refb.
+     */
+    public static void iauRefco(double phpa, double tc, double rh, double wl, double[] refa, int refaOffset, double[] refb, int refbOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long refa$ = scratch.reserveDoubles(1);
+        long refb$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauRefco(phpa, tc, rh, wl, refa$, refb$);
+        scratch.getDoubles(refa$, refa, refaOffset, 1);
+        scratch.getDoubles(refb$, refb, refbOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRefco}, returns refa, refb.
+     */
+    public static void iauRefco(double phpa, double tc, double rh, double wl, double[] refa, double[] refb) {
+        iauRefco(phpa, tc, rh, wl, refa, 0, refb, 0);
+    }
+
+    /**
+     * Earth position and velocity, heliocentric and barycentric, with respect to the Barycentric Celestial Reference System.<br>
+     * Array variant of {@link SofaLibrary#iauEpv00}, returns pvh, pvb.
+     */
+    public static int iauEpv00(double date1, double date2, double[] pvh, int pvhOffset, double[] pvb, int pvbOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pvh$ = scratch.putDoubles(pvh, pvhOffset, 6);
+        long pvb$ = scratch.putDoubles(pvb, pvbOffset, 6);
+        int result = SofaLibrary.iauEpv00(date1, date2, pvh$, pvb$);
+        scratch.getDoubles(pvh$, pvh, pvhOffset, 6);
+        scratch.getDoubles(pvb$, pvb, pvbOffset, 6);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauEpv00}, returns pvh, pvb.
+     */
+    public static int iauEpv00(double date1, double date2, double[] pvh, double[] pvb) {
+        return iauEpv00(date1, date2, pvh, 0, pvb, 0);
+    }
+
+    /**
+     * This function is part of the International Astronomical Union's SOFA (Standards Of Fundamental Astronomy) software collection.<br>
+     * Array variant of {@link SofaLibrary#iauPlan94}, returns pv.
+     */
+    public static int iauPlan94(double date1, double date2, int np, double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        int result = SofaLibrary.iauPlan94(date1, date2, np, pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPlan94}, returns pv.
+     */
+    public static int iauPlan94(double date1, double date2, int np, double[] pv) {
+        return iauPlan94(date1, date2, np, pv, 0);
+    }
+
+    /**
+     * Frame bias components of IAU 2000 precession-nutation models (part of MHB2000 with additions).<br>
+     * Array variant of {@link SofaLibrary#iauBi00}, returns dpsibi, depsbi, dra.
+     */
+    public static void iauBi00(double[] dpsibi, int dpsibiOffset, double[] depsbi, int depsbiOffset, double[] dra, int draOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long dpsibi$ = scratch.reserveDoubles(1);
+        long depsbi$ = scratch.reserveDoubles(1);
+        long dra$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauBi00(dpsibi$, depsbi$, dra$);
+        scratch.getDoubles(dpsibi$, dpsibi, dpsibiOffset, 1);
+        scratch.getDoubles(depsbi$, depsbi, depsbiOffset, 1);
+        scratch.getDoubles(dra$, dra, draOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauBi00}, returns dpsibi, depsbi, dra.
+     */
+    public static void iauBi00(double[] dpsibi, double[] depsbi, double[] dra) {
+        iauBi00(dpsibi, 0, depsbi, 0, dra, 0);
+    }
+
+    /**
+     * Frame bias and precession, IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauBp00}, returns rb, rp, rbp.
+     */
+    public static void iauBp00(double date1, double date2, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset) {
+        NativeScratch scratch = NativeScratch.get(216);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauBp00(date1, date2, rb$, rp$, rbp$);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauBp00}, returns rb, rp, rbp.
+     */
+    public static void iauBp00(double date1, double date2, double[] rb, double[] rp, double[] rbp) {
+        iauBp00(date1, date2, rb, 0, rp, 0, rbp, 0);
+    }
+
+    /**
+     * Frame bias and precession, IAU 2006.<br>
+     * Array variant of {@link SofaLibrary#iauBp06}, returns rb, rp, rbp.
+     */
+    public static void iauBp06(double date1, double date2, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset) {
+        NativeScratch scratch = NativeScratch.get(216);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauBp06(date1, date2, rb$, rp$, rbp$);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauBp06}, returns rb, rp, rbp.
+     */
+    public static void iauBp06(double date1, double date2, double[] rb, double[] rp, double[] rbp) {
+        iauBp06(date1, date2, rb, 0, rp, 0, rbp, 0);
+    }
+
+    /**
+     * Extract from the bias-precession-nutation matrix the X,Y coordinates of the Celestial Intermediate Pole.<br>
+     * Array variant of {@link SofaLibrary#iauBpn2xy}, returns x, y.
+     */
+    public static void iauBpn2xy(double[] rbpn, int rbpnOffset, double[] x, int xOffset, double[] y, int yOffset) {
+        NativeScratch scratch = NativeScratch.get(88);
+        long rbpn$ = scratch.putDoubles(rbpn, rbpnOffset, 9);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauBpn2xy(rbpn$, x$, y$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauBpn2xy}, returns x, y.
+     */
+    public static void iauBpn2xy(double[] rbpn, double[] x, double[] y) {
+        iauBpn2xy(rbpn, 0, x, 0, y, 0);
+    }
+
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2000A precession-nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauC2i00a}, returns rc2i.
+     */
+    public static void iauC2i00a(double date1, double date2, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2i00a(date1, date2, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2i00a}, returns rc2i.
+     */
+    public static void iauC2i00a(double date1, double date2, double[] rc2i) {
+        iauC2i00a(date1, date2, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2000B precession-nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauC2i00b}, returns rc2i.
+     */
+    public static void iauC2i00b(double date1, double date2, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2i00b(date1, date2, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2i00b}, returns rc2i.
+     */
+    public static void iauC2i00b(double date1, double date2, double[] rc2i) {
+        iauC2i00b(date1, date2, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial-to-intermediate matrix for a given date using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Array variant of {@link SofaLibrary#iauC2i06a}, returns rc2i.
+     */
+    public static void iauC2i06a(double date1, double date2, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2i06a(date1, date2, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2i06a}, returns rc2i.
+     */
+    public static void iauC2i06a(double date1, double date2, double[] rc2i) {
+        iauC2i06a(date1, date2, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial-to-intermediate matrix for a given date given the bias-precession-nutation matrix.  IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauC2ibpn}, returns rc2i.
+     */
+    public static void iauC2ibpn(double date1, double date2, double[] rbpn, int rbpnOffset, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long rbpn$ = scratch.putDoubles(rbpn, rbpnOffset, 9);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2ibpn(date1, date2, rbpn$, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2ibpn}, returns rc2i.
+     */
+    public static void iauC2ibpn(double date1, double date2, double[] rbpn, double[] rc2i) {
+        iauC2ibpn(date1, date2, rbpn, 0, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial to intermediate-frame-of-date matrix for a given date when the CIP X,Y coordinates are known.  IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauC2ixy}, returns rc2i.
+     */
+    public static void iauC2ixy(double date1, double date2, double x, double y, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2ixy(date1, date2, x, y, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2ixy}, returns rc2i.
+     */
+    public static void iauC2ixy(double date1, double date2, double x, double y, double[] rc2i) {
+        iauC2ixy(date1, date2, x, y, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial to intermediate-frame-of-date matrix given the CIP X,Y and the CIO locator s.<br>
+     * Array variant of {@link SofaLibrary#iauC2ixys}, returns rc2i.
+     */
+    public static void iauC2ixys(double x, double y, double s, double[] rc2i, int rc2iOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2i$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2ixys(x, y, s, rc2i$);
+        scratch.getDoubles(rc2i$, rc2i, rc2iOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2ixys}, returns rc2i.
+     */
+    public static void iauC2ixys(double x, double y, double s, double[] rc2i) {
+        iauC2ixys(x, y, s, rc2i, 0);
+    }
+
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2000A nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauC2t00a}, returns rc2t.
+     */
+    public static void iauC2t00a(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2t00a(tta, ttb, uta, utb, xp, yp, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2t00a}, returns rc2t.
+     */
+    public static void iauC2t00a(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t) {
+        iauC2t00a(tta, ttb, uta, utb, xp, yp, rc2t, 0);
+    }
+
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2000B nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauC2t00b}, returns rc2t.
+     */
+    public static void iauC2t00b(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2t00b(tta, ttb, uta, utb, xp, yp, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2t00b}, returns rc2t.
+     */
+    public static void iauC2t00b(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t) {
+        iauC2t00b(tta, ttb, uta, utb, xp, yp, rc2t, 0);
+    }
+
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1 and the polar motion, using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Array variant of {@link SofaLibrary#iauC2t06a}, returns rc2t.
+     */
+    public static void iauC2t06a(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2t06a(tta, ttb, uta, utb, xp, yp, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2t06a}, returns rc2t.
+     */
+    public static void iauC2t06a(double tta, double ttb, double uta, double utb, double xp, double yp, double[] rc2t) {
+        iauC2t06a(tta, ttb, uta, utb, xp, yp, rc2t, 0);
+    }
+
+    /**
+     * Assemble the celestial to terrestrial matrix from CIO-based components (the celestial-to-intermediate matrix, the Earth Rotation Angle and the polar motion matrix).<br>
+     * Array variant of {@link SofaLibrary#iauC2tcio}, returns rc2t.
+     */
+    public static void iauC2tcio(double[] rc2i, int rc2iOffset, double era, double[] rpom, int rpomOffset, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(216);
+        long rc2i$ = scratch.putDoubles(rc2i, rc2iOffset, 9);
+        long rpom$ = scratch.putDoubles(rpom, rpomOffset, 9);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2tcio(rc2i$, era, rpom$, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2tcio}, returns rc2t.
+     */
+    public static void iauC2tcio(double[] rc2i, double era, double[] rpom, double[] rc2t) {
+        iauC2tcio(rc2i, 0, era, rpom, 0, rc2t, 0);
+    }
+
+    /**
+     * Assemble the celestial to terrestrial matrix from equinox-based components (the celestial-to-true matrix, the Greenwich Apparent Sidereal Time and the polar motion matrix).<br>
+     * Array variant of {@link SofaLibrary#iauC2teqx}, returns rc2t.
+     */
+    public static void iauC2teqx(double[] rbpn, int rbpnOffset, double gst, double[] rpom, int rpomOffset, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(216);
+        long rbpn$ = scratch.putDoubles(rbpn, rbpnOffset, 9);
+        long rpom$ = scratch.putDoubles(rpom, rpomOffset, 9);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2teqx(rbpn$, gst, rpom$, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2teqx}, returns rc2t.
+     */
+    public static void iauC2teqx(double[] rbpn, double gst, double[] rpom, double[] rc2t) {
+        iauC2teqx(rbpn, 0, gst, rpom, 0, rc2t, 0);
+    }
+
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1, the nutation and the polar motion.  IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauC2tpe}, returns rc2t.
+     */
+    public static void iauC2tpe(double tta, double ttb, double uta, double utb, double dpsi, double deps, double xp, double yp, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2tpe(tta, ttb, uta, utb, dpsi, deps, xp, yp, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2tpe}, returns rc2t.
+     */
+    public static void iauC2tpe(double tta, double ttb, double uta, double utb, double dpsi, double deps, double xp, double yp, double[] rc2t) {
+        iauC2tpe(tta, ttb, uta, utb, dpsi, deps, xp, yp, rc2t, 0);
+    }
+
+    /**
+     * Form the celestial to terrestrial matrix given the date, the UT1, the CIP coordinates and the polar motion.  IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauC2txy}, returns rc2t.
+     */
+    public static void iauC2txy(double tta, double ttb, double uta, double utb, double x, double y, double xp, double yp, double[] rc2t, int rc2tOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rc2t$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauC2txy(tta, ttb, uta, utb, x, y, xp, yp, rc2t$);
+        scratch.getDoubles(rc2t$, rc2t, rc2tOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2txy}, returns rc2t.
+     */
+    public static void iauC2txy(double tta, double ttb, double uta, double utb, double x, double y, double xp, double yp, double[] rc2t) {
+        iauC2txy(tta, ttb, uta, utb, x, y, xp, yp, rc2t, 0);
+    }
+
+    /**
+     * Equation of the origins, given the classical NPB matrix and the quantity s.<br>
+     * Array variant of {@link SofaLibrary#iauEors}.
+     */
+    public static double iauEors(double[] rnpb, int rnpbOffset, double s) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rnpb$ = scratch.putDoubles(rnpb, rnpbOffset, 9);
+        return SofaLibrary.iauEors(rnpb$, s);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauEors}.
+     */
+    public static double iauEors(double[] rnpb, double s) {
+        return iauEors(rnpb, 0, s);
+    }
+
+    /**
+     * Form rotation matrix given the Fukushima-Williams angles.<br>
+     * Array variant of {@link SofaLibrary#iauFw2m}, returns r.
+     */
+    public static void iauFw2m(double gamb, double phib, double psi, double eps, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauFw2m(gamb, phib, psi, eps, r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauFw2m}, returns r.
+     */
+    public static void iauFw2m(double gamb, double phib, double psi, double eps, double[] r) {
+        iauFw2m(gamb, phib, psi, eps, r, 0);
+    }
+
+    /**
+     * CIP X,Y given Fukushima-Williams bias-precession-nutation angles.<br>
+     * Array variant of {@link SofaLibrary#iauFw2xy}, returns x, y.
+     */
+    public static void iauFw2xy(double gamb, double phib, double psi, double eps, double[] x, int xOffset, double[] y, int yOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauFw2xy(gamb, phib, psi, eps, x$, y$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauFw2xy}, returns x, y.
+     */
+    public static void iauFw2xy(double gamb, double phib, double psi, double eps, double[] x, double[] y) {
+        iauFw2xy(gamb, phib, psi, eps, x, 0, y, 0);
+    }
+
+    /**
+     * Form the matrix of nutation for a given date, IAU 2000A model.<br>
+     * Array variant of {@link SofaLibrary#iauNum00a}, returns rmatn.
+     */
+    public static void iauNum00a(double date1, double date2, double[] rmatn, int rmatnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauNum00a(date1, date2, rmatn$);
+        scratch.getDoubles(rmatn$, rmatn, rmatnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNum00a}, returns rmatn.
+     */
+    public static void iauNum00a(double date1, double date2, double[] rmatn) {
+        iauNum00a(date1, date2, rmatn, 0);
+    }
+
+    /**
+     * Form the matrix of nutation for a given date, IAU 2000B model.<br>
+     * Array variant of {@link SofaLibrary#iauNum00b}, returns rmatn.
+     */
+    public static void iauNum00b(double date1, double date2, double[] rmatn, int rmatnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauNum00b(date1, date2, rmatn$);
+        scratch.getDoubles(rmatn$, rmatn, rmatnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNum00b}, returns rmatn.
+     */
+    public static void iauNum00b(double date1, double date2, double[] rmatn) {
+        iauNum00b(date1, date2, rmatn, 0);
+    }
+
+    /**
+     * Form the matrix of nutation for a given date, IAU 2006/2000A model.<br>
+     * Array variant of {@link SofaLibrary#iauNum06a}, returns rmatn.
+     */
+    public static void iauNum06a(double date1, double date2, double[] rmatn, int rmatnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauNum06a(date1, date2, rmatn$);
+        scratch.getDoubles(rmatn$, rmatn, rmatnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNum06a}, returns rmatn.
+     */
+    public static void iauNum06a(double date1, double date2, double[] rmatn) {
+        iauNum06a(date1, date2, rmatn, 0);
+    }
+
+    /**
+     * Form the matrix of nutation.<br>
+     * Array variant of {@link SofaLibrary#iauNumat}, returns rmatn.
+     */
+    public static void iauNumat(double epsa, double dpsi, double deps, double[] rmatn, int rmatnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauNumat(epsa, dpsi, deps, rmatn$);
+        scratch.getDoubles(rmatn$, rmatn, rmatnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNumat}, returns rmatn.
+     */
+    public static void iauNumat(double epsa, double dpsi, double deps, double[] rmatn) {
+        iauNumat(epsa, dpsi, deps, rmatn, 0);
+    }
+
+    /**
+     * Nutation, IAU 2000A model (MHB2000 luni-solar and planetary nutation with free core nutation omitted).<br>
+     * Array variant of {@link SofaLibrary#iauNut00a}, returns dpsi, deps.
+     */
+    public static void iauNut00a(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauNut00a(date1, date2, dpsi$, deps$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNut00a}, returns dpsi, deps.
+     */
+    public static void iauNut00a(double date1, double date2, double[] dpsi, double[] deps) {
+        iauNut00a(date1, date2, dpsi, 0, deps, 0);
+    }
+
+    /**
+     * Nutation, IAU 2000B model.<br>
+     * Array variant of {@link SofaLibrary#iauNut00b}, returns dpsi, deps.
+     */
+    public static void iauNut00b(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauNut00b(date1, date2, dpsi$, deps$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNut00b}, returns dpsi, deps.
+     */
+    public static void iauNut00b(double date1, double date2, double[] dpsi, double[] deps) {
+        iauNut00b(date1, date2, dpsi, 0, deps, 0);
+    }
+
+    /**
+     * IAU 2000A nutation with adjustments to match the IAU 2006 precession.<br>
+     * Array variant of {@link SofaLibrary#iauNut06a}, returns dpsi, deps.
+     */
+    public static void iauNut06a(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauNut06a(date1, date2, dpsi$, deps$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNut06a}, returns dpsi, deps.
+     */
+    public static void iauNut06a(double date1, double date2, double[] dpsi, double[] deps) {
+        iauNut06a(date1, date2, dpsi, 0, deps, 0);
+    }
+
+    /**
+     * Nutation, IAU 1980 model.<br>
+     * Array variant of {@link SofaLibrary#iauNut80}, returns dpsi, deps.
+     */
+    public static void iauNut80(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauNut80(date1, date2, dpsi$, deps$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNut80}, returns dpsi, deps.
+     */
+    public static void iauNut80(double date1, double date2, double[] dpsi, double[] deps) {
+        iauNut80(date1, date2, dpsi, 0, deps, 0);
+    }
+
+    /**
+     * Form the matrix of nutation for a given date, IAU 1980 model.<br>
+     * Array variant of {@link SofaLibrary#iauNutm80}, returns rmatn.
+     */
+    public static void iauNutm80(double date1, double date2, double[] rmatn, int rmatnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauNutm80(date1, date2, rmatn$);
+        scratch.getDoubles(rmatn$, rmatn, rmatnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauNutm80}, returns rmatn.
+     */
+    public static void iauNutm80(double date1, double date2, double[] rmatn) {
+        iauNutm80(date1, date2, rmatn, 0);
+    }
+
+    /**
+     * Precession angles, IAU 2006, equinox based.<br>
+     * Array variant of {@link SofaLibrary#iauP06e}, returns eps0, psia, oma, bpa, bqa, pia, bpia, epsa, chia, za, zetaa, thetaa, pa, gam, phi, psi.
+     */
+    public static void iauP06e(double date1, double date2, double[] eps0, int eps0Offset, double[] psia, int psiaOffset, double[] oma, int omaOffset, double[] bpa, int bpaOffset, double[] bqa, int bqaOffset, double[] pia, int piaOffset, double[] bpia, int bpiaOffset, double[] epsa, int epsaOffset, double[] chia, int chiaOffset, double[] za, int zaOffset, double[] zetaa, int zetaaOffset, double[] thetaa, int thetaaOffset, double[] pa, int paOffset, double[] gam, int gamOffset, double[] phi, int phiOffset, double[] psi, int psiOffset) {
+        NativeScratch scratch = NativeScratch.get(128);
+        long eps0$ = scratch.reserveDoubles(1);
+        long psia$ = scratch.reserveDoubles(1);
+        long oma$ = scratch.reserveDoubles(1);
+        long bpa$ = scratch.reserveDoubles(1);
+        long bqa$ = scratch.reserveDoubles(1);
+        long pia$ = scratch.reserveDoubles(1);
+        long bpia$ = scratch.reserveDoubles(1);
+        long epsa$ = scratch.reserveDoubles(1);
+        long chia$ = scratch.reserveDoubles(1);
+        long za$ = scratch.reserveDoubles(1);
+        long zetaa$ = scratch.reserveDoubles(1);
+        long thetaa$ = scratch.reserveDoubles(1);
+        long pa$ = scratch.reserveDoubles(1);
+        long gam$ = scratch.reserveDoubles(1);
+        long phi$ = scratch.reserveDoubles(1);
+        long psi$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauP06e(date1, date2, eps0$, psia$, oma$, bpa$, bqa$, pia$, bpia$, epsa$, chia$, za$, zetaa$, thetaa$, pa$, gam$, phi$, psi$);
+        scratch.getDoubles(eps0$, eps0, eps0Offset, 1);
+        scratch.getDoubles(psia$, psia, psiaOffset, 1);
+        scratch.getDoubles(oma$, oma, omaOffset, 1);
+        scratch.getDoubles(bpa$, bpa, bpaOffset, 1);
+        scratch.getDoubles(bqa$, bqa, bqaOffset, 1);
+        scratch.getDoubles(pia$, pia, piaOffset, 1);
+        scratch.getDoubles(bpia$, bpia, bpiaOffset, 1);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(chia$, chia, chiaOffset, 1);
+        scratch.getDoubles(za$, za, zaOffset, 1);
+        scratch.getDoubles(zetaa$, zetaa, zetaaOffset, 1);
+        scratch.getDoubles(thetaa$, thetaa, thetaaOffset, 1);
+        scratch.getDoubles(pa$, pa, paOffset, 1);
+        scratch.getDoubles(gam$, gam, gamOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+        scratch.getDoubles(psi$, psi, psiOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauP06e}, returns eps0, psia, oma, bpa, bqa, pia, bpia, epsa, chia, za, zetaa, thetaa, pa, gam, phi, psi.
+     */
+    public static void iauP06e(double date1, double date2, double[] eps0, double[] psia, double[] oma, double[] bpa, double[] bqa, double[] pia, double[] bpia, double[] epsa, double[] chia, double[] za, double[] zetaa, double[] thetaa, double[] pa, double[] gam, double[] phi, double[] psi) {
+        iauP06e(date1, date2, eps0, 0, psia, 0, oma, 0, bpa, 0, bqa, 0, pia, 0, bpia, 0, epsa, 0, chia, 0, za, 0, zetaa, 0, thetaa, 0, pa, 0, gam, 0, phi, 0, psi, 0);
+    }
+
+    /**
+     * This function forms three Euler angles which implement general precession from epoch J2000.0, using the IAU 2006 model.  Frame bias (the offset between ICRS and mean J2000.0) is included.<br>
+     * Array variant of {@link SofaLibrary#iauPb06}, returns bzeta, bz, btheta.
+     */
+    public static void iauPb06(double date1, double date2, double[] bzeta, int bzetaOffset, double[] bz, int bzOffset, double[] btheta, int bthetaOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long bzeta$ = scratch.reserveDoubles(1);
+        long bz$ = scratch.reserveDoubles(1);
+        long btheta$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPb06(date1, date2, bzeta$, bz$, btheta$);
+        scratch.getDoubles(bzeta$, bzeta, bzetaOffset, 1);
+        scratch.getDoubles(bz$, bz, bzOffset, 1);
+        scratch.getDoubles(btheta$, btheta, bthetaOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPb06}, returns bzeta, bz, btheta.
+     */
+    public static void iauPb06(double date1, double date2, double[] bzeta, double[] bz, double[] btheta) {
+        iauPb06(date1, date2, bzeta, 0, bz, 0, btheta, 0);
+    }
+
+    /**
+     * Precession angles, IAU 2006 (Fukushima-Williams 4-angle formulation).<br>
+     * Array variant of {@link SofaLibrary#iauPfw06}, returns gamb, phib, psib, epsa.
+     */
+    public static void iauPfw06(double date1, double date2, double[] gamb, int gambOffset, double[] phib, int phibOffset, double[] psib, int psibOffset, double[] epsa, int epsaOffset) {
+        NativeScratch scratch = NativeScratch.get(32);
+        long gamb$ = scratch.reserveDoubles(1);
+        long phib$ = scratch.reserveDoubles(1);
+        long psib$ = scratch.reserveDoubles(1);
+        long epsa$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPfw06(date1, date2, gamb$, phib$, psib$, epsa$);
+        scratch.getDoubles(gamb$, gamb, gambOffset, 1);
+        scratch.getDoubles(phib$, phib, phibOffset, 1);
+        scratch.getDoubles(psib$, psib, psibOffset, 1);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPfw06}, returns gamb, phib, psib, epsa.
+     */
+    public static void iauPfw06(double date1, double date2, double[] gamb, double[] phib, double[] psib, double[] epsa) {
+        iauPfw06(date1, date2, gamb, 0, phib, 0, psib, 0, epsa, 0);
+    }
+
+    /**
+     * Precession matrix (including frame bias) from GCRS to a specified date, IAU 2000 model.<br>
+     * Array variant of {@link SofaLibrary#iauPmat00}, returns rbp.
+     */
+    public static void iauPmat00(double date1, double date2, double[] rbp, int rbpOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rbp$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPmat00(date1, date2, rbp$);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmat00}, returns rbp.
+     */
+    public static void iauPmat00(double date1, double date2, double[] rbp) {
+        iauPmat00(date1, date2, rbp, 0);
+    }
+
+    /**
+     * Precession matrix (including frame bias) from GCRS to a specified date, IAU 2006 model.<br>
+     * Array variant of {@link SofaLibrary#iauPmat06}, returns rbp.
+     */
+    public static void iauPmat06(double date1, double date2, double[] rbp, int rbpOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rbp$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPmat06(date1, date2, rbp$);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmat06}, returns rbp.
+     */
+    public static void iauPmat06(double date1, double date2, double[] rbp) {
+        iauPmat06(date1, date2, rbp, 0);
+    }
+
+    /**
+     * Precession matrix from J2000.0 to a specified date, IAU 1976 model.<br>
+     * Array variant of {@link SofaLibrary#iauPmat76}, returns rmatp.
+     */
+    public static void iauPmat76(double date1, double date2, double[] rmatp, int rmatpOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatp$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPmat76(date1, date2, rmatp$);
+        scratch.getDoubles(rmatp$, rmatp, rmatpOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmat76}, returns rmatp.
+     */
+    public static void iauPmat76(double date1, double date2, double[] rmatp) {
+        iauPmat76(date1, date2, rmatp, 0);
+    }
+
+    /**
+     * Precession-nutation, IAU 2000 model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Array variant of {@link SofaLibrary#iauPn00}, returns epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00(double date1, double date2, double dpsi, double deps, double[] epsa, int epsaOffset, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset, double[] rn, int rnOffset, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(368);
+        long epsa$ = scratch.reserveDoubles(1);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        long rn$ = scratch.reserveDoubles(9);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPn00(date1, date2, dpsi, deps, epsa$, rb$, rp$, rbp$, rn$, rbpn$);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+        scratch.getDoubles(rn$, rn, rnOffset, 9);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn00}, returns epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00(double date1, double date2, double dpsi, double deps, double[] epsa, double[] rb, double[] rp, double[] rbp, double[] rn, double[] rbpn) {
+        iauPn00(date1, date2, dpsi, deps, epsa, 0, rb, 0, rp, 0, rbp, 0, rn, 0, rbpn, 0);
+    }
+
+    /**
+     * Precession-nutation, IAU 2000A model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Array variant of {@link SofaLibrary#iauPn00a}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00a(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset, double[] epsa, int epsaOffset, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset, double[] rn, int rnOffset, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(384);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        long epsa$ = scratch.reserveDoubles(1);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        long rn$ = scratch.reserveDoubles(9);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPn00a(date1, date2, dpsi$, deps$, epsa$, rb$, rp$, rbp$, rn$, rbpn$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+        scratch.getDoubles(rn$, rn, rnOffset, 9);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn00a}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00a(double date1, double date2, double[] dpsi, double[] deps, double[] epsa, double[] rb, double[] rp, double[] rbp, double[] rn, double[] rbpn) {
+        iauPn00a(date1, date2, dpsi, 0, deps, 0, epsa, 0, rb, 0, rp, 0, rbp, 0, rn, 0, rbpn, 0);
+    }
+
+    /**
+     * Precession-nutation, IAU 2000B model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Array variant of {@link SofaLibrary#iauPn00b}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00b(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset, double[] epsa, int epsaOffset, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset, double[] rn, int rnOffset, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(384);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        long epsa$ = scratch.reserveDoubles(1);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        long rn$ = scratch.reserveDoubles(9);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPn00b(date1, date2, dpsi$, deps$, epsa$, rb$, rp$, rbp$, rn$, rbpn$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+        scratch.getDoubles(rn$, rn, rnOffset, 9);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn00b}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn00b(double date1, double date2, double[] dpsi, double[] deps, double[] epsa, double[] rb, double[] rp, double[] rbp, double[] rn, double[] rbpn) {
+        iauPn00b(date1, date2, dpsi, 0, deps, 0, epsa, 0, rb, 0, rp, 0, rbp, 0, rn, 0, rbpn, 0);
+    }
+
+    /**
+     * Precession-nutation, IAU 2006 model:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Array variant of {@link SofaLibrary#iauPn06}, returns epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn06(double date1, double date2, double dpsi, double deps, double[] epsa, int epsaOffset, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset, double[] rn, int rnOffset, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(368);
+        long epsa$ = scratch.reserveDoubles(1);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        long rn$ = scratch.reserveDoubles(9);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPn06(date1, date2, dpsi, deps, epsa$, rb$, rp$, rbp$, rn$, rbpn$);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+        scratch.getDoubles(rn$, rn, rnOffset, 9);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn06}, returns epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn06(double date1, double date2, double dpsi, double deps, double[] epsa, double[] rb, double[] rp, double[] rbp, double[] rn, double[] rbpn) {
+        iauPn06(date1, date2, dpsi, deps, epsa, 0, rb, 0, rp, 0, rbp, 0, rn, 0, rbpn, 0);
+    }
+
+    /**
+     * Precession-nutation, IAU 2006/2000A models:  a multi-purpose function, supporting classical (equinox-based) use directly and CIO-based use indirectly.<br>
+     * Array variant of {@link SofaLibrary#iauPn06a}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn06a(double date1, double date2, double[] dpsi, int dpsiOffset, double[] deps, int depsOffset, double[] epsa, int epsaOffset, double[] rb, int rbOffset, double[] rp, int rpOffset, double[] rbp, int rbpOffset, double[] rn, int rnOffset, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(384);
+        long dpsi$ = scratch.reserveDoubles(1);
+        long deps$ = scratch.reserveDoubles(1);
+        long epsa$ = scratch.reserveDoubles(1);
+        long rb$ = scratch.reserveDoubles(9);
+        long rp$ = scratch.reserveDoubles(9);
+        long rbp$ = scratch.reserveDoubles(9);
+        long rn$ = scratch.reserveDoubles(9);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPn06a(date1, date2, dpsi$, deps$, epsa$, rb$, rp$, rbp$, rn$, rbpn$);
+        scratch.getDoubles(dpsi$, dpsi, dpsiOffset, 1);
+        scratch.getDoubles(deps$, deps, depsOffset, 1);
+        scratch.getDoubles(epsa$, epsa, epsaOffset, 1);
+        scratch.getDoubles(rb$, rb, rbOffset, 9);
+        scratch.getDoubles(rp$, rp, rpOffset, 9);
+        scratch.getDoubles(rbp$, rbp, rbpOffset, 9);
+        scratch.getDoubles(rn$, rn, rnOffset, 9);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn06a}, returns dpsi, deps, epsa, rb, rp, rbp, rn, rbpn.
+     */
+    public static void iauPn06a(double date1, double date2, double[] dpsi, double[] deps, double[] epsa, double[] rb, double[] rp, double[] rbp, double[] rn, double[] rbpn) {
+        iauPn06a(date1, date2, dpsi, 0, deps, 0, epsa, 0, rb, 0, rp, 0, rbp, 0, rn, 0, rbpn, 0);
+    }
+
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), equinox-based, IAU 2000A model.<br>
+     * Array variant of {@link SofaLibrary#iauPnm00a}, returns rbpn.
+     */
+    public static void iauPnm00a(double date1, double date2, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPnm00a(date1, date2, rbpn$);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPnm00a}, returns rbpn.
+     */
+    public static void iauPnm00a(double date1, double date2, double[] rbpn) {
+        iauPnm00a(date1, date2, rbpn, 0);
+    }
+
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), equinox-based, IAU 2000B model.<br>
+     * Array variant of {@link SofaLibrary#iauPnm00b}, returns rbpn.
+     */
+    public static void iauPnm00b(double date1, double date2, double[] rbpn, int rbpnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rbpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPnm00b(date1, date2, rbpn$);
+        scratch.getDoubles(rbpn$, rbpn, rbpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPnm00b}, returns rbpn.
+     */
+    public static void iauPnm00b(double date1, double date2, double[] rbpn) {
+        iauPnm00b(date1, date2, rbpn, 0);
+    }
+
+    /**
+     * Form the matrix of precession-nutation for a given date (including frame bias), IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Array variant of {@link SofaLibrary#iauPnm06a}, returns rnpb.
+     */
+    public static void iauPnm06a(double date1, double date2, double[] rnpb, int rnpbOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rnpb$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPnm06a(date1, date2, rnpb$);
+        scratch.getDoubles(rnpb$, rnpb, rnpbOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPnm06a}, returns rnpb.
+     */
+    public static void iauPnm06a(double date1, double date2, double[] rnpb) {
+        iauPnm06a(date1, date2, rnpb, 0);
+    }
+
+    /**
+     * Form the matrix of precession/nutation for a given date, IAU 1976 precession model, IAU 1980 nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauPnm80}, returns rmatpn.
+     */
+    public static void iauPnm80(double date1, double date2, double[] rmatpn, int rmatpnOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rmatpn$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPnm80(date1, date2, rmatpn$);
+        scratch.getDoubles(rmatpn$, rmatpn, rmatpnOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPnm80}, returns rmatpn.
+     */
+    public static void iauPnm80(double date1, double date2, double[] rmatpn) {
+        iauPnm80(date1, date2, rmatpn, 0);
+    }
+
+    /**
+     * Form the matrix of polar motion for a given date, IAU 2000.<br>
+     * Array variant of {@link SofaLibrary#iauPom00}, returns rpom.
+     */
+    public static void iauPom00(double xp, double yp, double sp, double[] rpom, int rpomOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rpom$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauPom00(xp, yp, sp, rpom$);
+        scratch.getDoubles(rpom$, rpom, rpomOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPom00}, returns rpom.
+     */
+    public static void iauPom00(double xp, double yp, double sp, double[] rpom) {
+        iauPom00(xp, yp, sp, rpom, 0);
+    }
+
+    /**
+     * Precession-rate part of the IAU 2000 precession-nutation models (part of MHB2000).<br>
+     * Array variant of {@link SofaLibrary#iauPr00}, returns dpsipr, depspr.
+     */
+    public static void iauPr00(double date1, double date2, double[] dpsipr, int dpsiprOffset, double[] depspr, int depsprOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long dpsipr$ = scratch.reserveDoubles(1);
+        long depspr$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPr00(date1, date2, dpsipr$, depspr$);
+        scratch.getDoubles(dpsipr$, dpsipr, dpsiprOffset, 1);
+        scratch.getDoubles(depspr$, depspr, depsprOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPr00}, returns dpsipr, depspr.
+     */
+    public static void iauPr00(double date1, double date2, double[] dpsipr, double[] depspr) {
+        iauPr00(date1, date2, dpsipr, 0, depspr, 0);
+    }
+
+    /**
+     * IAU 1976 precession model.<br>
+     * Array variant of {@link SofaLibrary#iauPrec76}, returns zeta, z, theta.
+     */
+    public static void iauPrec76(double date01, double date02, double date11, double date12, double[] zeta, int zetaOffset, double[] z, int zOffset, double[] theta, int thetaOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long zeta$ = scratch.reserveDoubles(1);
+        long z$ = scratch.reserveDoubles(1);
+        long theta$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPrec76(date01, date02, date11, date12, zeta$, z$, theta$);
+        scratch.getDoubles(zeta$, zeta, zetaOffset, 1);
+        scratch.getDoubles(z$, z, zOffset, 1);
+        scratch.getDoubles(theta$, theta, thetaOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPrec76}, returns zeta, z, theta.
+     */
+    public static void iauPrec76(double date01, double date02, double date11, double date12, double[] zeta, double[] z, double[] theta) {
+        iauPrec76(date01, date02, date11, date12, zeta, 0, z, 0, theta, 0);
+    }
+
+    /**
+     * X,Y coordinates of celestial intermediate pole from series based on IAU 2006 precession and IAU 2000A nutation.<br>
+     * Array variant of {@link SofaLibrary#iauXy06}, returns x, y.
+     */
+    public static void iauXy06(double date1, double date2, double[] x, int xOffset, double[] y, int yOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauXy06(date1, date2, x$, y$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauXy06}, returns x, y.
+     */
+    public static void iauXy06(double date1, double date2, double[] x, double[] y) {
+        iauXy06(date1, date2, x, 0, y, 0);
+    }
+
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2000A precession-nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauXys00a}, returns x, y, s.
+     */
+    public static void iauXys00a(double date1, double date2, double[] x, int xOffset, double[] y, int yOffset, double[] s, int sOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        long s$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauXys00a(date1, date2, x$, y$, s$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+        scratch.getDoubles(s$, s, sOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauXys00a}, returns x, y, s.
+     */
+    public static void iauXys00a(double date1, double date2, double[] x, double[] y, double[] s) {
+        iauXys00a(date1, date2, x, 0, y, 0, s, 0);
+    }
+
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2000B precession-nutation model.<br>
+     * Array variant of {@link SofaLibrary#iauXys00b}, returns x, y, s.
+     */
+    public static void iauXys00b(double date1, double date2, double[] x, int xOffset, double[] y, int yOffset, double[] s, int sOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        long s$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauXys00b(date1, date2, x$, y$, s$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+        scratch.getDoubles(s$, s, sOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauXys00b}, returns x, y, s.
+     */
+    public static void iauXys00b(double date1, double date2, double[] x, double[] y, double[] s) {
+        iauXys00b(date1, date2, x, 0, y, 0, s, 0);
+    }
+
+    /**
+     * For a given TT date, compute the X,Y coordinates of the Celestial Intermediate Pole and the CIO locator s, using the IAU 2006 precession and IAU 2000A nutation models.<br>
+     * Array variant of {@link SofaLibrary#iauXys06a}, returns x, y, s.
+     */
+    public static void iauXys06a(double date1, double date2, double[] x, int xOffset, double[] y, int yOffset, double[] s, int sOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long x$ = scratch.reserveDoubles(1);
+        long y$ = scratch.reserveDoubles(1);
+        long s$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauXys06a(date1, date2, x$, y$, s$);
+        scratch.getDoubles(x$, x, xOffset, 1);
+        scratch.getDoubles(y$, y, yOffset, 1);
+        scratch.getDoubles(s$, s, sOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauXys06a}, returns x, y, s.
+     */
+    public static void iauXys06a(double date1, double date2, double[] x, double[] y, double[] s) {
+        iauXys06a(date1, date2, x, 0, y, 0, s, 0);
+    }
+
+    /**
+     * Greenwich apparent sidereal time, IAU 2006, given the NPB matrix.<br>
+     * Array variant of {@link SofaLibrary#iauGst06}.
+     */
+    public static double iauGst06(double uta, double utb, double tta, double ttb, double[] rnpb, int rnpbOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long rnpb$ = scratch.putDoubles(rnpb, rnpbOffset, 9);
+        return SofaLibrary.iauGst06(uta, utb, tta, ttb, rnpb$);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauGst06}.
+     */
+    public static double iauGst06(double uta, double utb, double tta, double ttb, double[] rnpb) {
+        return iauGst06(uta, utb, tta, ttb, rnpb, 0);
+    }
+
+    /**
+     * Convert star position+velocity vector to catalog coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauPvstar}, returns ra, dec, pmr, pmd, px, rv.
+     */
+    public static int iauPvstar(double[] pv, int pvOffset, double[] ra, int raOffset, double[] dec, int decOffset, double[] pmr, int pmrOffset, double[] pmd, int pmdOffset, double[] px, int pxOffset, double[] rv, int rvOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long ra$ = scratch.putDoubles(ra, raOffset, 1);
+        long dec$ = scratch.putDoubles(dec, decOffset, 1);
+        long pmr$ = scratch.putDoubles(pmr, pmrOffset, 1);
+        long pmd$ = scratch.putDoubles(pmd, pmdOffset, 1);
+        long px$ = scratch.putDoubles(px, pxOffset, 1);
+        long rv$ = scratch.putDoubles(rv, rvOffset, 1);
+        int result = SofaLibrary.iauPvstar(pv$, ra$, dec$, pmr$, pmd$, px$, rv$);
+        scratch.getDoubles(ra$, ra, raOffset, 1);
+        scratch.getDoubles(dec$, dec, decOffset, 1);
+        scratch.getDoubles(pmr$, pmr, pmrOffset, 1);
+        scratch.getDoubles(pmd$, pmd, pmdOffset, 1);
+        scratch.getDoubles(px$, px, pxOffset, 1);
+        scratch.getDoubles(rv$, rv, rvOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvstar}, returns ra, dec, pmr, pmd, px, rv.
+     */
+    public static int iauPvstar(double[] pv, double[] ra, double[] dec, double[] pmr, double[] pmd, double[] px, double[] rv) {
+        return iauPvstar(pv, 0, ra, 0, dec, 0, pmr, 0, pmd, 0, px, 0, rv, 0);
+    }
+
+    /**
+     * Convert star catalog coordinates to position+velocity vector.<br>
+     * Array variant of {@link SofaLibrary#iauStarpv}, returns pv.
+     */
+    public static int iauStarpv(double ra, double dec, double pmr, double pmd, double px, double rv, double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        int result = SofaLibrary.iauStarpv(ra, dec, pmr, pmd, px, rv, pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauStarpv}, returns pv.
+     */
+    public static int iauStarpv(double ra, double dec, double pmr, double pmd, double px, double rv, double[] pv) {
+        return iauStarpv(ra, dec, pmr, pmd, px, rv, pv, 0);
+    }
+
+    /**
+     * Transform FK5 (J2000.0) star data into the Hipparcos system.<br>
+     * Array variant of {@link SofaLibrary#iauFk52h}, returns rh, dh, drh, ddh, pxh, rvh.
+     */
+    public static void iauFk52h(double r5, double d5, double dr5, double dd5, double px5, double rv5, double[] rh, int rhOffset, double[] dh, int dhOffset, double[] drh, int drhOffset, double[] ddh, int ddhOffset, double[] pxh, int pxhOffset, double[] rvh, int rvhOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long rh$ = scratch.reserveDoubles(1);
+        long dh$ = scratch.reserveDoubles(1);
+        long drh$ = scratch.reserveDoubles(1);
+        long ddh$ = scratch.reserveDoubles(1);
+        long pxh$ = scratch.reserveDoubles(1);
+        long rvh$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauFk52h(r5, d5, dr5, dd5, px5, rv5, rh$, dh$, drh$, ddh$, pxh$, rvh$);
+        scratch.getDoubles(rh$, rh, rhOffset, 1);
+        scratch.getDoubles(dh$, dh, dhOffset, 1);
+        scratch.getDoubles(drh$, drh, drhOffset, 1);
+        scratch.getDoubles(ddh$, ddh, ddhOffset, 1);
+        scratch.getDoubles(pxh$, pxh, pxhOffset, 1);
+        scratch.getDoubles(rvh$, rvh, rvhOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauFk52h}, returns rh, dh, drh, ddh, pxh, rvh.
+     */
+    public static void iauFk52h(double r5, double d5, double dr5, double dd5, double px5, double rv5, double[] rh, double[] dh, double[] drh, double[] ddh, double[] pxh, double[] rvh) {
+        iauFk52h(r5, d5, dr5, dd5, px5, rv5, rh, 0, dh, 0, drh, 0, ddh, 0, pxh, 0, rvh, 0);
+    }
+
+    /**
+     * FK5 to Hipparcos rotation and spin.<br>
+     * Array variant of {@link SofaLibrary#iauFk5hip}, returns r5h, s5h.
+     */
+    public static void iauFk5hip(double[] r5h, int r5hOffset, double[] s5h, int s5hOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long r5h$ = scratch.reserveDoubles(9);
+        long s5h$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauFk5hip(r5h$, s5h$);
+        scratch.getDoubles(r5h$, r5h, r5hOffset, 9);
+        scratch.getDoubles(s5h$, s5h, s5hOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauFk5hip}, returns r5h, s5h.
+     */
+    public static void iauFk5hip(double[] r5h, double[] s5h) {
+        iauFk5hip(r5h, 0, s5h, 0);
+    }
+
+    /**
+     * Transform an FK5 (J2000.0) star position into the system of the Hipparcos catalogue, assuming zero Hipparcos proper motion.<br>
+     * Array variant of {@link SofaLibrary#iauFk5hz}, returns rh, dh.
+     */
+    public static void iauFk5hz(double r5, double d5, double date1, double date2, double[] rh, int rhOffset, double[] dh, int dhOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long rh$ = scratch.reserveDoubles(1);
+        long dh$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauFk5hz(r5, d5, date1, date2, rh$, dh$);
+        scratch.getDoubles(rh$, rh, rhOffset, 1);
+        scratch.getDoubles(dh$, dh, dhOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauFk5hz}, returns rh, dh.
+     */
+    public static void iauFk5hz(double r5, double d5, double date1, double date2, double[] rh, double[] dh) {
+        iauFk5hz(r5, d5, date1, date2, rh, 0, dh, 0);
+    }
+
+    /**
+     * Transform Hipparcos star data into the FK5 (J2000.0) system.<br>
+     * Array variant of {@link SofaLibrary#iauH2fk5}, returns r5, d5, dr5, dd5, px5, rv5.
+     */
+    public static void iauH2fk5(double rh, double dh, double drh, double ddh, double pxh, double rvh, double[] r5, int r5Offset, double[] d5, int d5Offset, double[] dr5, int dr5Offset, double[] dd5, int dd5Offset, double[] px5, int px5Offset, double[] rv5, int rv5Offset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long r5$ = scratch.reserveDoubles(1);
+        long d5$ = scratch.reserveDoubles(1);
+        long dr5$ = scratch.reserveDoubles(1);
+        long dd5$ = scratch.reserveDoubles(1);
+        long px5$ = scratch.reserveDoubles(1);
+        long rv5$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauH2fk5(rh, dh, drh, ddh, pxh, rvh, r5$, d5$, dr5$, dd5$, px5$, rv5$);
+        scratch.getDoubles(r5$, r5, r5Offset, 1);
+        scratch.getDoubles(d5$, d5, d5Offset, 1);
+        scratch.getDoubles(dr5$, dr5, dr5Offset, 1);
+        scratch.getDoubles(dd5$, dd5, dd5Offset, 1);
+        scratch.getDoubles(px5$, px5, px5Offset, 1);
+        scratch.getDoubles(rv5$, rv5, rv5Offset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauH2fk5}, returns r5, d5, dr5, dd5, px5, rv5.
+     */
+    public static void iauH2fk5(double rh, double dh, double drh, double ddh, double pxh, double rvh, double[] r5, double[] d5, double[] dr5, double[] dd5, double[] px5, double[] rv5) {
+        iauH2fk5(rh, dh, drh, ddh, pxh, rvh, r5, 0, d5, 0, dr5, 0, dd5, 0, px5, 0, rv5, 0);
+    }
+
+    /**
+     * Transform a Hipparcos star position into FK5 J2000.0, assuming zero Hipparcos proper motion.<br>
+     * Array variant of {@link SofaLibrary#iauHfk5z}, returns r5, d5, dr5, dd5.
+     */
+    public static void iauHfk5z(double rh, double dh, double date1, double date2, double[] r5, int r5Offset, double[] d5, int d5Offset, double[] dr5, int dr5Offset, double[] dd5, int dd5Offset) {
+        NativeScratch scratch = NativeScratch.get(32);
+        long r5$ = scratch.reserveDoubles(1);
+        long d5$ = scratch.reserveDoubles(1);
+        long dr5$ = scratch.reserveDoubles(1);
+        long dd5$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauHfk5z(rh, dh, date1, date2, r5$, d5$, dr5$, dd5$);
+        scratch.getDoubles(r5$, r5, r5Offset, 1);
+        scratch.getDoubles(d5$, d5, d5Offset, 1);
+        scratch.getDoubles(dr5$, dr5, dr5Offset, 1);
+        scratch.getDoubles(dd5$, dd5, dd5Offset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauHfk5z}, returns r5, d5, dr5, dd5.
+     */
+    public static void iauHfk5z(double rh, double dh, double date1, double date2, double[] r5, double[] d5, double[] dr5, double[] dd5) {
+        iauHfk5z(rh, dh, date1, date2, r5, 0, d5, 0, dr5, 0, dd5, 0);
+    }
+
+    /**
+     * Star proper motion:  update star catalog data for space motion.<br>
+     * Array variant of {@link SofaLibrary#iauStarpm}, returns ra2, dec2, pmr2, pmd2, px2, rv2.
+     */
+    public static int iauStarpm(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, double[] ra2, int ra2Offset, double[] dec2, int dec2Offset, double[] pmr2, int pmr2Offset, double[] pmd2, int pmd2Offset, double[] px2, int px2Offset, double[] rv2, int rv2Offset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long ra2$ = scratch.putDoubles(ra2, ra2Offset, 1);
+        long dec2$ = scratch.putDoubles(dec2, dec2Offset, 1);
+        long pmr2$ = scratch.putDoubles(pmr2, pmr2Offset, 1);
+        long pmd2$ = scratch.putDoubles(pmd2, pmd2Offset, 1);
+        long px2$ = scratch.putDoubles(px2, px2Offset, 1);
+        long rv2$ = scratch.putDoubles(rv2, rv2Offset, 1);
+        int result = SofaLibrary.iauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2$, dec2$, pmr2$, pmd2$, px2$, rv2$);
+        scratch.getDoubles(ra2$, ra2, ra2Offset, 1);
+        scratch.getDoubles(dec2$, dec2, dec2Offset, 1);
+        scratch.getDoubles(pmr2$, pmr2, pmr2Offset, 1);
+        scratch.getDoubles(pmd2$, pmd2, pmd2Offset, 1);
+        scratch.getDoubles(px2$, px2, px2Offset, 1);
+        scratch.getDoubles(rv2$, rv2, rv2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauStarpm}, returns ra2, dec2, pmr2, pmd2, px2, rv2.
+     */
+    public static int iauStarpm(double ra1, double dec1, double pmr1, double pmd1, double px1, double rv1, double ep1a, double ep1b, double ep2a, double ep2b, double[] ra2, double[] dec2, double[] pmr2, double[] pmd2, double[] px2, double[] rv2) {
+        return iauStarpm(ra1, dec1, pmr1, pmd1, px1, rv1, ep1a, ep1b, ep2a, ep2b, ra2, 0, dec2, 0, pmr2, 0, pmd2, 0, px2, 0, rv2, 0);
+    }
+
+    /**
+     * Earth reference ellipsoids.<br>
+     * Array variant of {@link SofaLibrary#iauEform}, returns a, f.
+     */
+    public static int iauEform(int n, double[] a, int aOffset, double[] f, int fOffset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long a$ = scratch.putDoubles(a, aOffset, 1);
+        long f$ = scratch.putDoubles(f, fOffset, 1);
+        int result = SofaLibrary.iauEform(n, a$, f$);
+        scratch.getDoubles(a$, a, aOffset, 1);
+        scratch.getDoubles(f$, f, fOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauEform}, returns a, f.
+     */
+    public static int iauEform(int n, double[] a, double[] f) {
+        return iauEform(n, a, 0, f, 0);
+    }
+
+    /**
+     * Transform geocentric coordinates to geodetic using the specified reference ellipsoid.<br>
+     * Array variant of {@link SofaLibrary#iauGc2gd}, returns elong, phi, height.
+     */
+    public static int iauGc2gd(int n, double[] xyz, int xyzOffset, double[] elong, int elongOffset, double[] phi, int phiOffset, double[] height, int heightOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long xyz$ = scratch.putDoubles(xyz, xyzOffset, 3);
+        long elong$ = scratch.putDoubles(elong, elongOffset, 1);
+        long phi$ = scratch.putDoubles(phi, phiOffset, 1);
+        long height$ = scratch.putDoubles(height, heightOffset, 1);
+        int result = SofaLibrary.iauGc2gd(n, xyz$, elong$, phi$, height$);
+        scratch.getDoubles(elong$, elong, elongOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+        scratch.getDoubles(height$, height, heightOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauGc2gd}, returns elong, phi, height.
+     */
+    public static int iauGc2gd(int n, double[] xyz, double[] elong, double[] phi, double[] height) {
+        return iauGc2gd(n, xyz, 0, elong, 0, phi, 0, height, 0);
+    }
+
+    /**
+     * Transform geocentric coordinates to geodetic for a reference ellipsoid of specified form.<br>
+     * Array variant of {@link SofaLibrary#iauGc2gde}, returns elong, phi, height.
+     */
+    public static int iauGc2gde(double a, double f, double[] xyz, int xyzOffset, double[] elong, int elongOffset, double[] phi, int phiOffset, double[] height, int heightOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long xyz$ = scratch.putDoubles(xyz, xyzOffset, 3);
+        long elong$ = scratch.putDoubles(elong, elongOffset, 1);
+        long phi$ = scratch.putDoubles(phi, phiOffset, 1);
+        long height$ = scratch.putDoubles(height, heightOffset, 1);
+        int result = SofaLibrary.iauGc2gde(a, f, xyz$, elong$, phi$, height$);
+        scratch.getDoubles(elong$, elong, elongOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+        scratch.getDoubles(height$, height, heightOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauGc2gde}, returns elong, phi, height.
+     */
+    public static int iauGc2gde(double a, double f, double[] xyz, double[] elong, double[] phi, double[] height) {
+        return iauGc2gde(a, f, xyz, 0, elong, 0, phi, 0, height, 0);
+    }
+
+    /**
+     * Transform geodetic coordinates to geocentric using the specified reference ellipsoid.<br>
+     * Array variant of {@link SofaLibrary#iauGd2gc}, returns xyz.
+     */
+    public static int iauGd2gc(int n, double elong, double phi, double height, double[] xyz, int xyzOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long xyz$ = scratch.putDoubles(xyz, xyzOffset, 3);
+        int result = SofaLibrary.iauGd2gc(n, elong, phi, height, xyz$);
+        scratch.getDoubles(xyz$, xyz, xyzOffset, 3);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauGd2gc}, returns xyz.
+     */
+    public static int iauGd2gc(int n, double elong, double phi, double height, double[] xyz) {
+        return iauGd2gc(n, elong, phi, height, xyz, 0);
+    }
+
+    /**
+     * Transform geodetic coordinates to geocentric for a reference ellipsoid of specified form.<br>
+     * Array variant of {@link SofaLibrary#iauGd2gce}, returns xyz.
+     */
+    public static int iauGd2gce(double a, double f, double elong, double phi, double height, double[] xyz, int xyzOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long xyz$ = scratch.putDoubles(xyz, xyzOffset, 3);
+        int result = SofaLibrary.iauGd2gce(a, f, elong, phi, height, xyz$);
+        scratch.getDoubles(xyz$, xyz, xyzOffset, 3);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauGd2gce}, returns xyz.
+     */
+    public static int iauGd2gce(double a, double f, double elong, double phi, double height, double[] xyz) {
+        return iauGd2gce(a, f, elong, phi, height, xyz, 0);
+    }
+
+    /**
+     * Format for output a 2-part Julian Date (or in the case of UTC a quasi-JD form that includes special provision for leap seconds).<br>
+     * Array variant of {@link SofaLibrary#iauD2dtf}, returns iy, im, id, ihmsf.
+     */
+    public static int iauD2dtf(String scale, int ndp, double d1, double d2, int[] iy, int iyOffset, int[] im, int imOffset, int[] id, int idOffset, int[] ihmsf, int ihmsfOffset) {
+        NativeScratch scratch = NativeScratch.get(NativeScratch.stringBytes(scale) + 40);
+        long scale$ = scratch.putString(scale);
+        long iy$ = scratch.putInts(iy, iyOffset, 1);
+        long im$ = scratch.putInts(im, imOffset, 1);
+        long id$ = scratch.putInts(id, idOffset, 1);
+        long ihmsf$ = scratch.putInts(ihmsf, ihmsfOffset, 4);
+        int result = SofaLibrary.iauD2dtf(scale$, ndp, d1, d2, iy$, im$, id$, ihmsf$);
+        scratch.getInts(iy$, iy, iyOffset, 1);
+        scratch.getInts(im$, im, imOffset, 1);
+        scratch.getInts(id$, id, idOffset, 1);
+        scratch.getInts(ihmsf$, ihmsf, ihmsfOffset, 4);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauD2dtf}, returns iy, im, id, ihmsf.
+     */
+    public static int iauD2dtf(String scale, int ndp, double d1, double d2, int[] iy, int[] im, int[] id, int[] ihmsf) {
+        return iauD2dtf(scale, ndp, d1, d2, iy, 0, im, 0, id, 0, ihmsf, 0);
+    }
+
+    /**
+     * For a given UTC date, calculate delta(AT) = TAI-UTC.<br>
+     * Array variant of {@link SofaLibrary#iauDat}, returns deltat.
+     */
+    public static int iauDat(int iy, int im, int id, double fd, double[] deltat, int deltatOffset) {
+        NativeScratch scratch = NativeScratch.get(8);
+        long deltat$ = scratch.putDoubles(deltat, deltatOffset, 1);
+        int result = SofaLibrary.iauDat(iy, im, id, fd, deltat$);
+        scratch.getDoubles(deltat$, deltat, deltatOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauDat}, returns deltat.
+     */
+    public static int iauDat(int iy, int im, int id, double fd, double[] deltat) {
+        return iauDat(iy, im, id, fd, deltat, 0);
+    }
+
+    /**
+     * Encode date and time fields into 2-part Julian Date (or in the case of UTC a quasi-JD form that includes special provision for leap seconds).<br>
+     * Array variant of {@link SofaLibrary#iauDtf2d}, returns d1, d2.
+     */
+    public static int iauDtf2d(String scale, int iy, int im, int id, int ihr, int imn, double sec, double[] d1, int d1Offset, double[] d2, int d2Offset) {
+        NativeScratch scratch = NativeScratch.get(NativeScratch.stringBytes(scale) + 16);
+        long scale$ = scratch.putString(scale);
+        long d1$ = scratch.putDoubles(d1, d1Offset, 1);
+        long d2$ = scratch.putDoubles(d2, d2Offset, 1);
+        int result = SofaLibrary.iauDtf2d(scale$, iy, im, id, ihr, imn, sec, d1$, d2$);
+        scratch.getDoubles(d1$, d1, d1Offset, 1);
+        scratch.getDoubles(d2$, d2, d2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauDtf2d}, returns d1, d2.
+     */
+    public static int iauDtf2d(String scale, int iy, int im, int id, int ihr, int imn, double sec, double[] d1, double[] d2) {
+        return iauDtf2d(scale, iy, im, id, ihr, imn, sec, d1, 0, d2, 0);
+    }
+
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Terrestrial Time, TT.<br>
+     * Array variant of {@link SofaLibrary#iauTaitt}, returns tt1, tt2.
+     */
+    public static int iauTaitt(double tai1, double tai2, double[] tt1, int tt1Offset, double[] tt2, int tt2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tt1$ = scratch.putDoubles(tt1, tt1Offset, 1);
+        long tt2$ = scratch.putDoubles(tt2, tt2Offset, 1);
+        int result = SofaLibrary.iauTaitt(tai1, tai2, tt1$, tt2$);
+        scratch.getDoubles(tt1$, tt1, tt1Offset, 1);
+        scratch.getDoubles(tt2$, tt2, tt2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTaitt}, returns tt1, tt2.
+     */
+    public static int iauTaitt(double tai1, double tai2, double[] tt1, double[] tt2) {
+        return iauTaitt(tai1, tai2, tt1, 0, tt2, 0);
+    }
+
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Universal Time, UT1.<br>
+     * Array variant of {@link SofaLibrary#iauTaiut1}, returns ut11, ut12.
+     */
+    public static int iauTaiut1(double tai1, double tai2, double dta, double[] ut11, int ut11Offset, double[] ut12, int ut12Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long ut11$ = scratch.putDoubles(ut11, ut11Offset, 1);
+        long ut12$ = scratch.putDoubles(ut12, ut12Offset, 1);
+        int result = SofaLibrary.iauTaiut1(tai1, tai2, dta, ut11$, ut12$);
+        scratch.getDoubles(ut11$, ut11, ut11Offset, 1);
+        scratch.getDoubles(ut12$, ut12, ut12Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTaiut1}, returns ut11, ut12.
+     */
+    public static int iauTaiut1(double tai1, double tai2, double dta, double[] ut11, double[] ut12) {
+        return iauTaiut1(tai1, tai2, dta, ut11, 0, ut12, 0);
+    }
+
+    /**
+     * Time scale transformation:  International Atomic Time, TAI, to Coordinated Universal Time, UTC.<br>
+     * Array variant of {@link SofaLibrary#iauTaiutc}, returns utc1, utc2.
+     */
+    public static int iauTaiutc(double tai1, double tai2, double[] utc1, int utc1Offset, double[] utc2, int utc2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long utc1$ = scratch.putDoubles(utc1, utc1Offset, 1);
+        long utc2$ = scratch.putDoubles(utc2, utc2Offset, 1);
+        int result = SofaLibrary.iauTaiutc(tai1, tai2, utc1$, utc2$);
+        scratch.getDoubles(utc1$, utc1, utc1Offset, 1);
+        scratch.getDoubles(utc2$, utc2, utc2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTaiutc}, returns utc1, utc2.
+     */
+    public static int iauTaiutc(double tai1, double tai2, double[] utc1, double[] utc2) {
+        return iauTaiutc(tai1, tai2, utc1, 0, utc2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Barycentric Coordinate Time, TCB, to Barycentric Dynamical Time, TDB.<br>
+     * Array variant of {@link SofaLibrary#iauTcbtdb}, returns tdb1, tdb2.
+     */
+    public static int iauTcbtdb(double tcb1, double tcb2, double[] tdb1, int tdb1Offset, double[] tdb2, int tdb2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tdb1$ = scratch.putDoubles(tdb1, tdb1Offset, 1);
+        long tdb2$ = scratch.putDoubles(tdb2, tdb2Offset, 1);
+        int result = SofaLibrary.iauTcbtdb(tcb1, tcb2, tdb1$, tdb2$);
+        scratch.getDoubles(tdb1$, tdb1, tdb1Offset, 1);
+        scratch.getDoubles(tdb2$, tdb2, tdb2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTcbtdb}, returns tdb1, tdb2.
+     */
+    public static int iauTcbtdb(double tcb1, double tcb2, double[] tdb1, double[] tdb2) {
+        return iauTcbtdb(tcb1, tcb2, tdb1, 0, tdb2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Geocentric Coordinate Time, TCG, to Terrestrial Time, TT.<br>
+     * Array variant of {@link SofaLibrary#iauTcgtt}, returns tt1, tt2.
+     */
+    public static int iauTcgtt(double tcg1, double tcg2, double[] tt1, int tt1Offset, double[] tt2, int tt2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tt1$ = scratch.putDoubles(tt1, tt1Offset, 1);
+        long tt2$ = scratch.putDoubles(tt2, tt2Offset, 1);
+        int result = SofaLibrary.iauTcgtt(tcg1, tcg2, tt1$, tt2$);
+        scratch.getDoubles(tt1$, tt1, tt1Offset, 1);
+        scratch.getDoubles(tt2$, tt2, tt2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTcgtt}, returns tt1, tt2.
+     */
+    public static int iauTcgtt(double tcg1, double tcg2, double[] tt1, double[] tt2) {
+        return iauTcgtt(tcg1, tcg2, tt1, 0, tt2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Barycentric Dynamical Time, TDB, to Barycentric Coordinate Time, TCB.<br>
+     * Array variant of {@link SofaLibrary#iauTdbtcb}, returns tcb1, tcb2.
+     */
+    public static int iauTdbtcb(double tdb1, double tdb2, double[] tcb1, int tcb1Offset, double[] tcb2, int tcb2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tcb1$ = scratch.putDoubles(tcb1, tcb1Offset, 1);
+        long tcb2$ = scratch.putDoubles(tcb2, tcb2Offset, 1);
+        int result = SofaLibrary.iauTdbtcb(tdb1, tdb2, tcb1$, tcb2$);
+        scratch.getDoubles(tcb1$, tcb1, tcb1Offset, 1);
+        scratch.getDoubles(tcb2$, tcb2, tcb2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTdbtcb}, returns tcb1, tcb2.
+     */
+    public static int iauTdbtcb(double tdb1, double tdb2, double[] tcb1, double[] tcb2) {
+        return iauTdbtcb(tdb1, tdb2, tcb1, 0, tcb2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Barycentric Dynamical Time, TDB, to Terrestrial Time, TT.<br>
+     * Array variant of {@link SofaLibrary#iauTdbtt}, returns tt1, tt2.
+     */
+    public static int iauTdbtt(double tdb1, double tdb2, double dtr, double[] tt1, int tt1Offset, double[] tt2, int tt2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tt1$ = scratch.putDoubles(tt1, tt1Offset, 1);
+        long tt2$ = scratch.putDoubles(tt2, tt2Offset, 1);
+        int result = SofaLibrary.iauTdbtt(tdb1, tdb2, dtr, tt1$, tt2$);
+        scratch.getDoubles(tt1$, tt1, tt1Offset, 1);
+        scratch.getDoubles(tt2$, tt2, tt2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTdbtt}, returns tt1, tt2.
+     */
+    public static int iauTdbtt(double tdb1, double tdb2, double dtr, double[] tt1, double[] tt2) {
+        return iauTdbtt(tdb1, tdb2, dtr, tt1, 0, tt2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to International Atomic Time, TAI.<br>
+     * Array variant of {@link SofaLibrary#iauTttai}, returns tai1, tai2.
+     */
+    public static int iauTttai(double tt1, double tt2, double[] tai1, int tai1Offset, double[] tai2, int tai2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tai1$ = scratch.putDoubles(tai1, tai1Offset, 1);
+        long tai2$ = scratch.putDoubles(tai2, tai2Offset, 1);
+        int result = SofaLibrary.iauTttai(tt1, tt2, tai1$, tai2$);
+        scratch.getDoubles(tai1$, tai1, tai1Offset, 1);
+        scratch.getDoubles(tai2$, tai2, tai2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTttai}, returns tai1, tai2.
+     */
+    public static int iauTttai(double tt1, double tt2, double[] tai1, double[] tai2) {
+        return iauTttai(tt1, tt2, tai1, 0, tai2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Geocentric Coordinate Time, TCG.<br>
+     * Array variant of {@link SofaLibrary#iauTttcg}, returns tcg1, tcg2.
+     */
+    public static int iauTttcg(double tt1, double tt2, double[] tcg1, int tcg1Offset, double[] tcg2, int tcg2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tcg1$ = scratch.putDoubles(tcg1, tcg1Offset, 1);
+        long tcg2$ = scratch.putDoubles(tcg2, tcg2Offset, 1);
+        int result = SofaLibrary.iauTttcg(tt1, tt2, tcg1$, tcg2$);
+        scratch.getDoubles(tcg1$, tcg1, tcg1Offset, 1);
+        scratch.getDoubles(tcg2$, tcg2, tcg2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTttcg}, returns tcg1, tcg2.
+     */
+    public static int iauTttcg(double tt1, double tt2, double[] tcg1, double[] tcg2) {
+        return iauTttcg(tt1, tt2, tcg1, 0, tcg2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Barycentric Dynamical Time, TDB.<br>
+     * Array variant of {@link SofaLibrary#iauTttdb}, returns tdb1, tdb2.
+     */
+    public static int iauTttdb(double tt1, double tt2, double dtr, double[] tdb1, int tdb1Offset, double[] tdb2, int tdb2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tdb1$ = scratch.putDoubles(tdb1, tdb1Offset, 1);
+        long tdb2$ = scratch.putDoubles(tdb2, tdb2Offset, 1);
+        int result = SofaLibrary.iauTttdb(tt1, tt2, dtr, tdb1$, tdb2$);
+        scratch.getDoubles(tdb1$, tdb1, tdb1Offset, 1);
+        scratch.getDoubles(tdb2$, tdb2, tdb2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTttdb}, returns tdb1, tdb2.
+     */
+    public static int iauTttdb(double tt1, double tt2, double dtr, double[] tdb1, double[] tdb2) {
+        return iauTttdb(tt1, tt2, dtr, tdb1, 0, tdb2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Terrestrial Time, TT, to Universal Time, UT1.<br>
+     * Array variant of {@link SofaLibrary#iauTtut1}, returns ut11, ut12.
+     */
+    public static int iauTtut1(double tt1, double tt2, double dt, double[] ut11, int ut11Offset, double[] ut12, int ut12Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long ut11$ = scratch.putDoubles(ut11, ut11Offset, 1);
+        long ut12$ = scratch.putDoubles(ut12, ut12Offset, 1);
+        int result = SofaLibrary.iauTtut1(tt1, tt2, dt, ut11$, ut12$);
+        scratch.getDoubles(ut11$, ut11, ut11Offset, 1);
+        scratch.getDoubles(ut12$, ut12, ut12Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTtut1}, returns ut11, ut12.
+     */
+    public static int iauTtut1(double tt1, double tt2, double dt, double[] ut11, double[] ut12) {
+        return iauTtut1(tt1, tt2, dt, ut11, 0, ut12, 0);
+    }
+
+    /**
+     * Time scale transformation:  Universal Time, UT1, to International Atomic Time, TAI.<br>
+     * Array variant of {@link SofaLibrary#iauUt1tai}, returns tai1, tai2.
+     */
+    public static int iauUt1tai(double ut11, double ut12, double dta, double[] tai1, int tai1Offset, double[] tai2, int tai2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tai1$ = scratch.putDoubles(tai1, tai1Offset, 1);
+        long tai2$ = scratch.putDoubles(tai2, tai2Offset, 1);
+        int result = SofaLibrary.iauUt1tai(ut11, ut12, dta, tai1$, tai2$);
+        scratch.getDoubles(tai1$, tai1, tai1Offset, 1);
+        scratch.getDoubles(tai2$, tai2, tai2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauUt1tai}, returns tai1, tai2.
+     */
+    public static int iauUt1tai(double ut11, double ut12, double dta, double[] tai1, double[] tai2) {
+        return iauUt1tai(ut11, ut12, dta, tai1, 0, tai2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Universal Time, UT1, to Terrestrial Time, TT.<br>
+     * Array variant of {@link SofaLibrary#iauUt1tt}, returns tt1, tt2.
+     */
+    public static int iauUt1tt(double ut11, double ut12, double dt, double[] tt1, int tt1Offset, double[] tt2, int tt2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tt1$ = scratch.putDoubles(tt1, tt1Offset, 1);
+        long tt2$ = scratch.putDoubles(tt2, tt2Offset, 1);
+        int result = SofaLibrary.iauUt1tt(ut11, ut12, dt, tt1$, tt2$);
+        scratch.getDoubles(tt1$, tt1, tt1Offset, 1);
+        scratch.getDoubles(tt2$, tt2, tt2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauUt1tt}, returns tt1, tt2.
+     */
+    public static int iauUt1tt(double ut11, double ut12, double dt, double[] tt1, double[] tt2) {
+        return iauUt1tt(ut11, ut12, dt, tt1, 0, tt2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Universal Time, UT1, to Coordinated Universal Time, UTC.<br>
+     * Array variant of {@link SofaLibrary#iauUt1utc}, returns utc1, utc2.
+     */
+    public static int iauUt1utc(double ut11, double ut12, double dut1, double[] utc1, int utc1Offset, double[] utc2, int utc2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long utc1$ = scratch.putDoubles(utc1, utc1Offset, 1);
+        long utc2$ = scratch.putDoubles(utc2, utc2Offset, 1);
+        int result = SofaLibrary.iauUt1utc(ut11, ut12, dut1, utc1$, utc2$);
+        scratch.getDoubles(utc1$, utc1, utc1Offset, 1);
+        scratch.getDoubles(utc2$, utc2, utc2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauUt1utc}, returns utc1, utc2.
+     */
+    public static int iauUt1utc(double ut11, double ut12, double dut1, double[] utc1, double[] utc2) {
+        return iauUt1utc(ut11, ut12, dut1, utc1, 0, utc2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Coordinated Universal Time, UTC, to International Atomic Time, TAI.<br>
+     * Array variant of {@link SofaLibrary#iauUtctai}, returns tai1, tai2.
+     */
+    public static int iauUtctai(double utc1, double utc2, double[] tai1, int tai1Offset, double[] tai2, int tai2Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long tai1$ = scratch.putDoubles(tai1, tai1Offset, 1);
+        long tai2$ = scratch.putDoubles(tai2, tai2Offset, 1);
+        int result = SofaLibrary.iauUtctai(utc1, utc2, tai1$, tai2$);
+        scratch.getDoubles(tai1$, tai1, tai1Offset, 1);
+        scratch.getDoubles(tai2$, tai2, tai2Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauUtctai}, returns tai1, tai2.
+     */
+    public static int iauUtctai(double utc1, double utc2, double[] tai1, double[] tai2) {
+        return iauUtctai(utc1, utc2, tai1, 0, tai2, 0);
+    }
+
+    /**
+     * Time scale transformation:  Coordinated Universal Time, UTC, to Universal Time, UT1.<br>
+     * Array variant of {@link SofaLibrary#iauUtcut1}, returns ut11, ut12.
+     */
+    public static int iauUtcut1(double utc1, double utc2, double dut1, double[] ut11, int ut11Offset, double[] ut12, int ut12Offset) {
+        NativeScratch scratch = NativeScratch.get(16);
+        long ut11$ = scratch.putDoubles(ut11, ut11Offset, 1);
+        long ut12$ = scratch.putDoubles(ut12, ut12Offset, 1);
+        int result = SofaLibrary.iauUtcut1(utc1, utc2, dut1, ut11$, ut12$);
+        scratch.getDoubles(ut11$, ut11, ut11Offset, 1);
+        scratch.getDoubles(ut12$, ut12, ut12Offset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauUtcut1}, returns ut11, ut12.
+     */
+    public static int iauUtcut1(double utc1, double utc2, double dut1, double[] ut11, double[] ut12) {
+        return iauUtcut1(utc1, utc2, dut1, ut11, 0, ut12, 0);
+    }
+
+    /**
+     * Decompose radians into degrees, arcminutes, arcseconds, fraction.<br>
+     * Array variant of {@link SofaLibrary#iauA2af}, returns sign, idmsf.
+     */
+    public static void iauA2af(int ndp, double angle, byte[] sign, int signOffset, int[] idmsf, int idmsfOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long sign$ = scratch.reserveBytes(1);
+        long idmsf$ = scratch.reserveInts(4);
+        SofaLibrary.iauA2af(ndp, angle, sign$, idmsf$);
+        scratch.getBytes(sign$, sign, signOffset, 1);
+        scratch.getInts(idmsf$, idmsf, idmsfOffset, 4);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauA2af}, returns sign, idmsf.
+     */
+    public static void iauA2af(int ndp, double angle, byte[] sign, int[] idmsf) {
+        iauA2af(ndp, angle, sign, 0, idmsf, 0);
+    }
+
+    /**
+     * Decompose radians into hours, minutes, seconds, fraction.<br>
+     * Array variant of {@link SofaLibrary#iauA2tf}, returns sign, ihmsf.
+     */
+    public static void iauA2tf(int ndp, double angle, byte[] sign, int signOffset, int[] ihmsf, int ihmsfOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long sign$ = scratch.reserveBytes(1);
+        long ihmsf$ = scratch.reserveInts(4);
+        SofaLibrary.iauA2tf(ndp, angle, sign$, ihmsf$);
+        scratch.getBytes(sign$, sign, signOffset, 1);
+        scratch.getInts(ihmsf$, ihmsf, ihmsfOffset, 4);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauA2tf}, returns sign, ihmsf.
+     */
+    public static void iauA2tf(int ndp, double angle, byte[] sign, int[] ihmsf) {
+        iauA2tf(ndp, angle, sign, 0, ihmsf, 0);
+    }
+
+    /**
+     * Convert degrees, arcminutes, arcseconds to radians.<br>
+     * Array variant of {@link SofaLibrary#iauAf2a}, returns rad.
+     */
+    public static int iauAf2a(byte s, int ideg, int iamin, double asec, double[] rad, int radOffset) {
+        NativeScratch scratch = NativeScratch.get(8);
+        long rad$ = scratch.putDoubles(rad, radOffset, 1);
+        int result = SofaLibrary.iauAf2a(s, ideg, iamin, asec, rad$);
+        scratch.getDoubles(rad$, rad, radOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauAf2a}, returns rad.
+     */
+    public static int iauAf2a(byte s, int ideg, int iamin, double asec, double[] rad) {
+        return iauAf2a(s, ideg, iamin, asec, rad, 0);
+    }
+
+    /**
+     * Decompose days to hours, minutes, seconds, fraction.<br>
+     * Array variant of {@link SofaLibrary#iauD2tf}, returns sign, ihmsf.
+     */
+    public static void iauD2tf(int ndp, double days, byte[] sign, int signOffset, int[] ihmsf, int ihmsfOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long sign$ = scratch.reserveBytes(1);
+        long ihmsf$ = scratch.reserveInts(4);
+        SofaLibrary.iauD2tf(ndp, days, sign$, ihmsf$);
+        scratch.getBytes(sign$, sign, signOffset, 1);
+        scratch.getInts(ihmsf$, ihmsf, ihmsfOffset, 4);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauD2tf}, returns sign, ihmsf.
+     */
+    public static void iauD2tf(int ndp, double days, byte[] sign, int[] ihmsf) {
+        iauD2tf(ndp, days, sign, 0, ihmsf, 0);
+    }
+
+    /**
+     * Convert hours, minutes, seconds to radians.<br>
+     * Array variant of {@link SofaLibrary#iauTf2a}, returns rad.
+     */
+    public static int iauTf2a(byte s, int ihour, int imin, double sec, double[] rad, int radOffset) {
+        NativeScratch scratch = NativeScratch.get(8);
+        long rad$ = scratch.putDoubles(rad, radOffset, 1);
+        int result = SofaLibrary.iauTf2a(s, ihour, imin, sec, rad$);
+        scratch.getDoubles(rad$, rad, radOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTf2a}, returns rad.
+     */
+    public static int iauTf2a(byte s, int ihour, int imin, double sec, double[] rad) {
+        return iauTf2a(s, ihour, imin, sec, rad, 0);
+    }
+
+    /**
+     * Convert hours, minutes, seconds to days.<br>
+     * Array variant of {@link SofaLibrary#iauTf2d}, returns days.
+     */
+    public static int iauTf2d(byte s, int ihour, int imin, double sec, double[] days, int daysOffset) {
+        NativeScratch scratch = NativeScratch.get(8);
+        long days$ = scratch.putDoubles(days, daysOffset, 1);
+        int result = SofaLibrary.iauTf2d(s, ihour, imin, sec, days$);
+        scratch.getDoubles(days$, days, daysOffset, 1);
+        return result;
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTf2d}, returns days.
+     */
+    public static int iauTf2d(byte s, int ihour, int imin, double sec, double[] days) {
+        return iauTf2d(s, ihour, imin, sec, days, 0);
+    }
+
+    /**
+     * Rotate an r-matrix about the x-axis.<br>
+     * Array variant of {@link SofaLibrary#iauRx}, returns r.
+     */
+    public static void iauRx(double phi, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        SofaLibrary.iauRx(phi, r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRx}, returns r.
+     */
+    public static void iauRx(double phi, double[] r) {
+        iauRx(phi, r, 0);
+    }
+
+    /**
+     * Rotate an r-matrix about the y-axis.<br>
+     * Array variant of {@link SofaLibrary#iauRy}, returns r.
+     */
+    public static void iauRy(double theta, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        SofaLibrary.iauRy(theta, r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRy}, returns r.
+     */
+    public static void iauRy(double theta, double[] r) {
+        iauRy(theta, r, 0);
+    }
+
+    /**
+     * Rotate an r-matrix about the z-axis.<br>
+     * Array variant of {@link SofaLibrary#iauRz}, returns r.
+     */
+    public static void iauRz(double psi, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        SofaLibrary.iauRz(psi, r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRz}, returns r.
+     */
+    public static void iauRz(double psi, double[] r) {
+        iauRz(psi, r, 0);
+    }
+
+    /**
+     * Copy a p-vector.<br>
+     * Array variant of {@link SofaLibrary#iauCp}, returns c.
+     */
+    public static void iauCp(double[] p, int pOffset, double[] c, int cOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long c$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauCp(p$, c$);
+        scratch.getDoubles(c$, c, cOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauCp}, returns c.
+     */
+    public static void iauCp(double[] p, double[] c) {
+        iauCp(p, 0, c, 0);
+    }
+
+    /**
+     * Copy a position/velocity vector.<br>
+     * Array variant of {@link SofaLibrary#iauCpv}, returns c.
+     */
+    public static void iauCpv(double[] pv, int pvOffset, double[] c, int cOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long c$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauCpv(pv$, c$);
+        scratch.getDoubles(c$, c, cOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauCpv}, returns c.
+     */
+    public static void iauCpv(double[] pv, double[] c) {
+        iauCpv(pv, 0, c, 0);
+    }
+
+    /**
+     * Copy an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauCr}, returns c.
+     */
+    public static void iauCr(double[] r, int rOffset, double[] c, int cOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long c$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauCr(r$, c$);
+        scratch.getDoubles(c$, c, cOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauCr}, returns c.
+     */
+    public static void iauCr(double[] r, double[] c) {
+        iauCr(r, 0, c, 0);
+    }
+
+    /**
+     * Extend a p-vector to a pv-vector by appending a zero velocity.<br>
+     * Array variant of {@link SofaLibrary#iauP2pv}, returns pv.
+     */
+    public static void iauP2pv(double[] p, int pOffset, double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long pv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauP2pv(p$, pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauP2pv}, returns pv.
+     */
+    public static void iauP2pv(double[] p, double[] pv) {
+        iauP2pv(p, 0, pv, 0);
+    }
+
+    /**
+     * Discard velocity component of a pv-vector.<br>
+     * Array variant of {@link SofaLibrary#iauPv2p}, returns p.
+     */
+    public static void iauPv2p(double[] pv, int pvOffset, double[] p, int pOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long p$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPv2p(pv$, p$);
+        scratch.getDoubles(p$, p, pOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPv2p}, returns p.
+     */
+    public static void iauPv2p(double[] pv, double[] p) {
+        iauPv2p(pv, 0, p, 0);
+    }
+
+    /**
+     * Initialize an r-matrix to the identity matrix.<br>
+     * Array variant of {@link SofaLibrary#iauIr}, returns r.
+     */
+    public static void iauIr(double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauIr(r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauIr}, returns r.
+     */
+    public static void iauIr(double[] r) {
+        iauIr(r, 0);
+    }
+
+    /**
+     * Zero a p-vector.<br>
+     * Array variant of {@link SofaLibrary#iauZp}, returns p.
+     */
+    public static void iauZp(double[] p, int pOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long p$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauZp(p$);
+        scratch.getDoubles(p$, p, pOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauZp}, returns p.
+     */
+    public static void iauZp(double[] p) {
+        iauZp(p, 0);
+    }
+
+    /**
+     * Zero a pv-vector.<br>
+     * Array variant of {@link SofaLibrary#iauZpv}, returns pv.
+     */
+    public static void iauZpv(double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauZpv(pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauZpv}, returns pv.
+     */
+    public static void iauZpv(double[] pv) {
+        iauZpv(pv, 0);
+    }
+
+    /**
+     * Initialize an r-matrix to the null matrix.<br>
+     * Array variant of {@link SofaLibrary#iauZr}, returns r.
+     */
+    public static void iauZr(double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long r$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauZr(r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauZr}, returns r.
+     */
+    public static void iauZr(double[] r) {
+        iauZr(r, 0);
+    }
+
+    /**
+     * Multiply two r-matrices.<br>
+     * Array variant of {@link SofaLibrary#iauRxr}, returns atb.
+     */
+    public static void iauRxr(double[] a, int aOffset, double[] b, int bOffset, double[] atb, int atbOffset) {
+        NativeScratch scratch = NativeScratch.get(216);
+        long a$ = scratch.putDoubles(a, aOffset, 9);
+        long b$ = scratch.putDoubles(b, bOffset, 9);
+        long atb$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauRxr(a$, b$, atb$);
+        scratch.getDoubles(atb$, atb, atbOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRxr}, returns atb.
+     */
+    public static void iauRxr(double[] a, double[] b, double[] atb) {
+        iauRxr(a, 0, b, 0, atb, 0);
+    }
+
+    /**
+     * Transpose an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauTr}, returns rt.
+     */
+    public static void iauTr(double[] r, int rOffset, double[] rt, int rtOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long rt$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauTr(r$, rt$);
+        scratch.getDoubles(rt$, rt, rtOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTr}, returns rt.
+     */
+    public static void iauTr(double[] r, double[] rt) {
+        iauTr(r, 0, rt, 0);
+    }
+
+    /**
+     * Multiply a p-vector by an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauRxp}, returns rp.
+     */
+    public static void iauRxp(double[] r, int rOffset, double[] p, int pOffset, double[] rp, int rpOffset) {
+        NativeScratch scratch = NativeScratch.get(120);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long rp$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauRxp(r$, p$, rp$);
+        scratch.getDoubles(rp$, rp, rpOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRxp}, returns rp.
+     */
+    public static void iauRxp(double[] r, double[] p, double[] rp) {
+        iauRxp(r, 0, p, 0, rp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauRxpv}, returns rpv.
+     */
+    public static void iauRxpv(double[] r, int rOffset, double[] pv, int pvOffset, double[] rpv, int rpvOffset) {
+        NativeScratch scratch = NativeScratch.get(168);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long rpv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauRxpv(r$, pv$, rpv$);
+        scratch.getDoubles(rpv$, rpv, rpvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRxpv}, returns rpv.
+     */
+    public static void iauRxpv(double[] r, double[] pv, double[] rpv) {
+        iauRxpv(r, 0, pv, 0, rpv, 0);
+    }
+
+    /**
+     * Multiply a p-vector by the transpose of an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauTrxp}, returns trp.
+     */
+    public static void iauTrxp(double[] r, int rOffset, double[] p, int pOffset, double[] trp, int trpOffset) {
+        NativeScratch scratch = NativeScratch.get(120);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long trp$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauTrxp(r$, p$, trp$);
+        scratch.getDoubles(trp$, trp, trpOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTrxp}, returns trp.
+     */
+    public static void iauTrxp(double[] r, double[] p, double[] trp) {
+        iauTrxp(r, 0, p, 0, trp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by the transpose of an r-matrix.<br>
+     * Array variant of {@link SofaLibrary#iauTrxpv}, returns trpv.
+     */
+    public static void iauTrxpv(double[] r, int rOffset, double[] pv, int pvOffset, double[] trpv, int trpvOffset) {
+        NativeScratch scratch = NativeScratch.get(168);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long trpv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauTrxpv(r$, pv$, trpv$);
+        scratch.getDoubles(trpv$, trpv, trpvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauTrxpv}, returns trpv.
+     */
+    public static void iauTrxpv(double[] r, double[] pv, double[] trpv) {
+        iauTrxpv(r, 0, pv, 0, trpv, 0);
+    }
+
+    /**
+     * Express an r-matrix as an r-vector.<br>
+     * Array variant of {@link SofaLibrary#iauRm2v}, returns w.
+     */
+    public static void iauRm2v(double[] r, int rOffset, double[] w, int wOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long r$ = scratch.putDoubles(r, rOffset, 9);
+        long w$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauRm2v(r$, w$);
+        scratch.getDoubles(w$, w, wOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRm2v}, returns w.
+     */
+    public static void iauRm2v(double[] r, double[] w) {
+        iauRm2v(r, 0, w, 0);
+    }
+
+    /**
+     * Form the r-matrix corresponding to a given r-vector.<br>
+     * Array variant of {@link SofaLibrary#iauRv2m}, returns r.
+     */
+    public static void iauRv2m(double[] w, int wOffset, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long w$ = scratch.putDoubles(w, wOffset, 3);
+        long r$ = scratch.reserveDoubles(9);
+        SofaLibrary.iauRv2m(w$, r$);
+        scratch.getDoubles(r$, r, rOffset, 9);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauRv2m}, returns r.
+     */
+    public static void iauRv2m(double[] w, double[] r) {
+        iauRv2m(w, 0, r, 0);
+    }
+
+    /**
+     * Position-angle from two p-vectors.<br>
+     * Array variant of {@link SofaLibrary#iauPap}.
+     */
+    public static double iauPap(double[] a, int aOffset, double[] b, int bOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        return SofaLibrary.iauPap(a$, b$);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPap}.
+     */
+    public static double iauPap(double[] a, double[] b) {
+        return iauPap(a, 0, b, 0);
+    }
+
+    /**
+     * Angular separation between two p-vectors.<br>
+     * Array variant of {@link SofaLibrary#iauSepp}.
+     */
+    public static double iauSepp(double[] a, int aOffset, double[] b, int bOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        return SofaLibrary.iauSepp(a$, b$);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauSepp}.
+     */
+    public static double iauSepp(double[] a, double[] b) {
+        return iauSepp(a, 0, b, 0);
+    }
+
+    /**
+     * P-vector to spherical coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauC2s}, returns theta, phi.
+     */
+    public static void iauC2s(double[] p, int pOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset) {
+        NativeScratch scratch = NativeScratch.get(40);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long theta$ = scratch.reserveDoubles(1);
+        long phi$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauC2s(p$, theta$, phi$);
+        scratch.getDoubles(theta$, theta, thetaOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauC2s}, returns theta, phi.
+     */
+    public static void iauC2s(double[] p, double[] theta, double[] phi) {
+        iauC2s(p, 0, theta, 0, phi, 0);
+    }
+
+    /**
+     * P-vector to spherical polar coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauP2s}, returns theta, phi, r.
+     */
+    public static void iauP2s(double[] p, int pOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset, double[] r, int rOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long theta$ = scratch.reserveDoubles(1);
+        long phi$ = scratch.reserveDoubles(1);
+        long r$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauP2s(p$, theta$, phi$, r$);
+        scratch.getDoubles(theta$, theta, thetaOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+        scratch.getDoubles(r$, r, rOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauP2s}, returns theta, phi, r.
+     */
+    public static void iauP2s(double[] p, double[] theta, double[] phi, double[] r) {
+        iauP2s(p, 0, theta, 0, phi, 0, r, 0);
+    }
+
+    /**
+     * Convert position/velocity from Cartesian to spherical coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauPv2s}, returns theta, phi, r, td, pd, rd.
+     */
+    public static void iauPv2s(double[] pv, int pvOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset, double[] r, int rOffset, double[] td, int tdOffset, double[] pd, int pdOffset, double[] rd, int rdOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long theta$ = scratch.reserveDoubles(1);
+        long phi$ = scratch.reserveDoubles(1);
+        long r$ = scratch.reserveDoubles(1);
+        long td$ = scratch.reserveDoubles(1);
+        long pd$ = scratch.reserveDoubles(1);
+        long rd$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPv2s(pv$, theta$, phi$, r$, td$, pd$, rd$);
+        scratch.getDoubles(theta$, theta, thetaOffset, 1);
+        scratch.getDoubles(phi$, phi, phiOffset, 1);
+        scratch.getDoubles(r$, r, rOffset, 1);
+        scratch.getDoubles(td$, td, tdOffset, 1);
+        scratch.getDoubles(pd$, pd, pdOffset, 1);
+        scratch.getDoubles(rd$, rd, rdOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPv2s}, returns theta, phi, r, td, pd, rd.
+     */
+    public static void iauPv2s(double[] pv, double[] theta, double[] phi, double[] r, double[] td, double[] pd, double[] rd) {
+        iauPv2s(pv, 0, theta, 0, phi, 0, r, 0, td, 0, pd, 0, rd, 0);
+    }
+
+    /**
+     * Convert spherical coordinates to Cartesian.<br>
+     * Array variant of {@link SofaLibrary#iauS2c}, returns c.
+     */
+    public static void iauS2c(double theta, double phi, double[] c, int cOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long c$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauS2c(theta, phi, c$);
+        scratch.getDoubles(c$, c, cOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauS2c}, returns c.
+     */
+    public static void iauS2c(double theta, double phi, double[] c) {
+        iauS2c(theta, phi, c, 0);
+    }
+
+    /**
+     * Convert spherical polar coordinates to p-vector.<br>
+     * Array variant of {@link SofaLibrary#iauS2p}, returns p.
+     */
+    public static void iauS2p(double theta, double phi, double r, double[] p, int pOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long p$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauS2p(theta, phi, r, p$);
+        scratch.getDoubles(p$, p, pOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauS2p}, returns p.
+     */
+    public static void iauS2p(double theta, double phi, double r, double[] p) {
+        iauS2p(theta, phi, r, p, 0);
+    }
+
+    /**
+     * Convert position/velocity from spherical to Cartesian coordinates.<br>
+     * Array variant of {@link SofaLibrary#iauS2pv}, returns pv.
+     */
+    public static void iauS2pv(double theta, double phi, double r, double td, double pd, double rd, double[] pv, int pvOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long pv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauS2pv(theta, phi, r, td, pd, rd, pv$);
+        scratch.getDoubles(pv$, pv, pvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauS2pv}, returns pv.
+     */
+    public static void iauS2pv(double theta, double phi, double r, double td, double pd, double rd, double[] pv) {
+        iauS2pv(theta, phi, r, td, pd, rd, pv, 0);
+    }
+
+    /**
+     * p-vector inner (=scalar=dot) product.<br>
+     * Array variant of {@link SofaLibrary#iauPdp}.
+     */
+    public static double iauPdp(double[] a, int aOffset, double[] b, int bOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        return SofaLibrary.iauPdp(a$, b$);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPdp}.
+     */
+    public static double iauPdp(double[] a, double[] b) {
+        return iauPdp(a, 0, b, 0);
+    }
+
+    /**
+     * Modulus of p-vector.<br>
+     * Array variant of {@link SofaLibrary#iauPm}.
+     */
+    public static double iauPm(double[] p, int pOffset) {
+        NativeScratch scratch = NativeScratch.get(24);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        return SofaLibrary.iauPm(p$);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPm}.
+     */
+    public static double iauPm(double[] p) {
+        return iauPm(p, 0);
+    }
+
+    /**
+     * P-vector subtraction.<br>
+     * Array variant of {@link SofaLibrary#iauPmp}, returns amb.
+     */
+    public static void iauPmp(double[] a, int aOffset, double[] b, int bOffset, double[] amb, int ambOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        long amb$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPmp(a$, b$, amb$);
+        scratch.getDoubles(amb$, amb, ambOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPmp}, returns amb.
+     */
+    public static void iauPmp(double[] a, double[] b, double[] amb) {
+        iauPmp(a, 0, b, 0, amb, 0);
+    }
+
+    /**
+     * Convert a p-vector into modulus and unit vector.<br>
+     * Array variant of {@link SofaLibrary#iauPn}, returns r, u.
+     */
+    public static void iauPn(double[] p, int pOffset, double[] r, int rOffset, double[] u, int uOffset) {
+        NativeScratch scratch = NativeScratch.get(56);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long r$ = scratch.reserveDoubles(1);
+        long u$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPn(p$, r$, u$);
+        scratch.getDoubles(r$, r, rOffset, 1);
+        scratch.getDoubles(u$, u, uOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPn}, returns r, u.
+     */
+    public static void iauPn(double[] p, double[] r, double[] u) {
+        iauPn(p, 0, r, 0, u, 0);
+    }
+
+    /**
+     * P-vector addition.<br>
+     * Array variant of {@link SofaLibrary#iauPpp}, returns apb.
+     */
+    public static void iauPpp(double[] a, int aOffset, double[] b, int bOffset, double[] apb, int apbOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        long apb$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPpp(a$, b$, apb$);
+        scratch.getDoubles(apb$, apb, apbOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPpp}, returns apb.
+     */
+    public static void iauPpp(double[] a, double[] b, double[] apb) {
+        iauPpp(a, 0, b, 0, apb, 0);
+    }
+
+    /**
+     * P-vector plus scaled p-vector.<br>
+     * Array variant of {@link SofaLibrary#iauPpsp}, returns apsb.
+     */
+    public static void iauPpsp(double[] a, int aOffset, double s, double[] b, int bOffset, double[] apsb, int apsbOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        long apsb$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPpsp(a$, s, b$, apsb$);
+        scratch.getDoubles(apsb$, apsb, apsbOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPpsp}, returns apsb.
+     */
+    public static void iauPpsp(double[] a, double s, double[] b, double[] apsb) {
+        iauPpsp(a, 0, s, b, 0, apsb, 0);
+    }
+
+    /**
+     * Inner (=scalar=dot) product of two pv-vectors.<br>
+     * Array variant of {@link SofaLibrary#iauPvdpv}, returns adb.
+     */
+    public static void iauPvdpv(double[] a, int aOffset, double[] b, int bOffset, double[] adb, int adbOffset) {
+        NativeScratch scratch = NativeScratch.get(112);
+        long a$ = scratch.putDoubles(a, aOffset, 6);
+        long b$ = scratch.putDoubles(b, bOffset, 6);
+        long adb$ = scratch.reserveDoubles(2);
+        SofaLibrary.iauPvdpv(a$, b$, adb$);
+        scratch.getDoubles(adb$, adb, adbOffset, 2);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvdpv}, returns adb.
+     */
+    public static void iauPvdpv(double[] a, double[] b, double[] adb) {
+        iauPvdpv(a, 0, b, 0, adb, 0);
+    }
+
+    /**
+     * Modulus of pv-vector.<br>
+     * Array variant of {@link SofaLibrary#iauPvm}, returns r, s.
+     */
+    public static void iauPvm(double[] pv, int pvOffset, double[] r, int rOffset, double[] s, int sOffset) {
+        NativeScratch scratch = NativeScratch.get(64);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long r$ = scratch.reserveDoubles(1);
+        long s$ = scratch.reserveDoubles(1);
+        SofaLibrary.iauPvm(pv$, r$, s$);
+        scratch.getDoubles(r$, r, rOffset, 1);
+        scratch.getDoubles(s$, s, sOffset, 1);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvm}, returns r, s.
+     */
+    public static void iauPvm(double[] pv, double[] r, double[] s) {
+        iauPvm(pv, 0, r, 0, s, 0);
+    }
+
+    /**
+     * Subtract one pv-vector from another.<br>
+     * Array variant of {@link SofaLibrary#iauPvmpv}, returns amb.
+     */
+    public static void iauPvmpv(double[] a, int aOffset, double[] b, int bOffset, double[] amb, int ambOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long a$ = scratch.putDoubles(a, aOffset, 6);
+        long b$ = scratch.putDoubles(b, bOffset, 6);
+        long amb$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauPvmpv(a$, b$, amb$);
+        scratch.getDoubles(amb$, amb, ambOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvmpv}, returns amb.
+     */
+    public static void iauPvmpv(double[] a, double[] b, double[] amb) {
+        iauPvmpv(a, 0, b, 0, amb, 0);
+    }
+
+    /**
+     * Add one pv-vector to another.<br>
+     * Array variant of {@link SofaLibrary#iauPvppv}, returns apb.
+     */
+    public static void iauPvppv(double[] a, int aOffset, double[] b, int bOffset, double[] apb, int apbOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long a$ = scratch.putDoubles(a, aOffset, 6);
+        long b$ = scratch.putDoubles(b, bOffset, 6);
+        long apb$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauPvppv(a$, b$, apb$);
+        scratch.getDoubles(apb$, apb, apbOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvppv}, returns apb.
+     */
+    public static void iauPvppv(double[] a, double[] b, double[] apb) {
+        iauPvppv(a, 0, b, 0, apb, 0);
+    }
+
+    /**
+     * Update a pv-vector.<br>
+     * Array variant of {@link SofaLibrary#iauPvu}, returns upv.
+     */
+    public static void iauPvu(double dt, double[] pv, int pvOffset, double[] upv, int upvOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long upv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauPvu(dt, pv$, upv$);
+        scratch.getDoubles(upv$, upv, upvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvu}, returns upv.
+     */
+    public static void iauPvu(double dt, double[] pv, double[] upv) {
+        iauPvu(dt, pv, 0, upv, 0);
+    }
+
+    /**
+     * Update a pv-vector, discarding the velocity component.<br>
+     * Array variant of {@link SofaLibrary#iauPvup}, returns p.
+     */
+    public static void iauPvup(double dt, double[] pv, int pvOffset, double[] p, int pOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long p$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPvup(dt, pv$, p$);
+        scratch.getDoubles(p$, p, pOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvup}, returns p.
+     */
+    public static void iauPvup(double dt, double[] pv, double[] p) {
+        iauPvup(dt, pv, 0, p, 0);
+    }
+
+    /**
+     * Outer (=vector=cross) product of two pv-vectors.<br>
+     * Array variant of {@link SofaLibrary#iauPvxpv}, returns axb.
+     */
+    public static void iauPvxpv(double[] a, int aOffset, double[] b, int bOffset, double[] axb, int axbOffset) {
+        NativeScratch scratch = NativeScratch.get(144);
+        long a$ = scratch.putDoubles(a, aOffset, 6);
+        long b$ = scratch.putDoubles(b, bOffset, 6);
+        long axb$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauPvxpv(a$, b$, axb$);
+        scratch.getDoubles(axb$, axb, axbOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPvxpv}, returns axb.
+     */
+    public static void iauPvxpv(double[] a, double[] b, double[] axb) {
+        iauPvxpv(a, 0, b, 0, axb, 0);
+    }
+
+    /**
+     * p-vector outer (=vector=cross) product.<br>
+     * Array variant of {@link SofaLibrary#iauPxp}, returns axb.
+     */
+    public static void iauPxp(double[] a, int aOffset, double[] b, int bOffset, double[] axb, int axbOffset) {
+        NativeScratch scratch = NativeScratch.get(72);
+        long a$ = scratch.putDoubles(a, aOffset, 3);
+        long b$ = scratch.putDoubles(b, bOffset, 3);
+        long axb$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauPxp(a$, b$, axb$);
+        scratch.getDoubles(axb$, axb, axbOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauPxp}, returns axb.
+     */
+    public static void iauPxp(double[] a, double[] b, double[] axb) {
+        iauPxp(a, 0, b, 0, axb, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by two scalars.<br>
+     * Array variant of {@link SofaLibrary#iauS2xpv}, returns spv.
+     */
+    public static void iauS2xpv(double s1, double s2, double[] pv, int pvOffset, double[] spv, int spvOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long spv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauS2xpv(s1, s2, pv$, spv$);
+        scratch.getDoubles(spv$, spv, spvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauS2xpv}, returns spv.
+     */
+    public static void iauS2xpv(double s1, double s2, double[] pv, double[] spv) {
+        iauS2xpv(s1, s2, pv, 0, spv, 0);
+    }
+
+    /**
+     * Multiply a p-vector by a scalar.<br>
+     * Array variant of {@link SofaLibrary#iauSxp}, returns sp.
+     */
+    public static void iauSxp(double s, double[] p, int pOffset, double[] sp, int spOffset) {
+        NativeScratch scratch = NativeScratch.get(48);
+        long p$ = scratch.putDoubles(p, pOffset, 3);
+        long sp$ = scratch.reserveDoubles(3);
+        SofaLibrary.iauSxp(s, p$, sp$);
+        scratch.getDoubles(sp$, sp, spOffset, 3);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauSxp}, returns sp.
+     */
+    public static void iauSxp(double s, double[] p, double[] sp) {
+        iauSxp(s, p, 0, sp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by a scalar.<br>
+     * Array variant of {@link SofaLibrary#iauSxpv}, returns spv.
+     */
+    public static void iauSxpv(double s, double[] pv, int pvOffset, double[] spv, int spvOffset) {
+        NativeScratch scratch = NativeScratch.get(96);
+        long pv$ = scratch.putDoubles(pv, pvOffset, 6);
+        long spv$ = scratch.reserveDoubles(6);
+        SofaLibrary.iauSxpv(s, pv$, spv$);
+        scratch.getDoubles(spv$, spv, spvOffset, 6);
+    }
+
+    /**
+     * Array variant of {@link SofaLibrary#iauSxpv}, returns spv.
+     */
+    public static void iauSxpv(double s, double[] pv, double[] spv) {
+        iauSxpv(s, pv, 0, spv, 0);
+    }
+
+}
@@ -0,0 +1,442 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Off-heap arena for batch calls: a single block of native memory, sliced into arrays of doubles, ints, two-part dates
+ * and fixed-stride records (pv-vectors, r-matrices) that are passed to the native library as they are:
+ * <pre>
+ * try (SofaBuffer buffer = new SofaBuffer(SofaBuffer.datesBytes(n) * 2 + SofaBuffer.intsBytes(n))) {
+ *     SofaBuffer.Dates utc = buffer.dates(n), tai = buffer.dates(n);
+ *     SofaBuffer.Ints status = buffer.ints(n);
+ *     for (int i = 0; i < n; i++)
+ *         utc.set(i, 2400000.5, mjd[i]);
+ *     BulkLibrary.bulkUtctai(utc, tai, status);                 // or bulkUtctai(n, utc.date1().pointer(), ...)
+ *     double tai2 = tai.date2().get(0);
+ * }
+ * </pre>
+ * Every view has the native {@link Doubles#pointer() pointer} (and {@link Doubles#address() address}) of its first
+ * element, created once with the view, so it can be given to any {@link BulkLibrary} function, or to the address
+ * variants of {@link SofaLibrary}, without copying the data to or from the Java heap. The elements are read and written
+ * through one direct {@link ByteBuffer} over the whole arena (no JNI call per element), and arrays can be copied in and
+ * out in bulk. The base {@link #address()} and {@link #capacity()} also allow wrapping the arena in other views of
+ * native memory, such as a java.lang.foreign MemorySegment for the sofa-panama bindings.<br>
+ * <br>
+ * Slices are allocated one after the other (8-byte aligned) until the arena is full, and all of them are freed
+ * together, by {@link #reset()} (the memory is reused by new slices) or {@link #close()} (the memory is released).
+ * Each view belongs to one generation of the arena: once the arena is reset or closed, using an older view (reading or
+ * writing its elements, or taking its pointer or address) throws an {@link IllegalStateException} rather than touching
+ * memory that is released or given to newer slices. Pointers taken before that are not checked. Allocating slices,
+ * {@link #reset()} and {@link #close()} are not thread-safe, but threads may read and write distinct elements of the
+ * views concurrently. The capacity is limited to {@link Integer#MAX_VALUE} bytes.
+ */
+public final class SofaBuffer implements AutoCloseable {
+
+    /** Doubles per pv-vector (position then velocity). */
+    public static final int PV = 6;
+    /** Doubles per r-matrix (row-major). */
+    public static final int R = 9;
+
+    private Pointer<Byte> memory;
+    private final ByteBuffer bytes;
+    private final long peer;
+    private final long capacity;
+    private long position;
+    /** Incremented by reset and close, invalidates the existing views */
+    private int generation;
+
+    /**
+     * Allocate an arena.
+     *
+     * @param capacity Size of the arena, bytes.
+     */
+    public SofaBuffer(long capacity) {
+        if (capacity <= 0 || capacity > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The capacity must be between 1 and " + Integer.MAX_VALUE + " bytes, not " + capacity);
+        this.memory   = Pointer.allocateBytes(capacity);
+        this.bytes    = memory.getByteBuffer().order(ByteOrder.nativeOrder());
+        this.peer     = memory.getPeer();
+        this.capacity = capacity;
+    }
+
+    /** Bytes taken in an arena by an array of n doubles. */
+    public static long doublesBytes(int n) {
+        return 8L * n;
+    }
+
+    /** Bytes taken in an arena by an array of n ints (8-byte aligned). */
+    public static long intsBytes(int n) {
+        return 8L * ((n + 1L) / 2);
+    }
+
+    /** Bytes taken in an arena by n two-part dates. */
+    public static long datesBytes(int n) {
+        return 16L * n;
+    }
+
+    /** Bytes taken in an arena by n records of stride doubles. */
+    public static long recordsBytes(int n, int stride) {
+        return 8L * n * stride;
+    }
+
+    /** A new array of n doubles (initially zero in a new arena). */
+    public Doubles doubles(int n) {
+        return new Doubles(this, slice(doublesBytes(n)), n);
+    }
+
+    /** A new array of n ints, e.g. for the status of a bulk function. */
+    public Ints ints(int n) {
+        return new Ints(this, slice(intsBytes(n)), n);
+    }
+
+    /** A new array of n two-part dates, as two arrays of doubles (structure-of-arrays, as the bulk functions). */
+    public Dates dates(int n) {
+        return new Dates(doubles(n), doubles(n));
+    }
+
+    /** A new array of n pv-vectors ({@value #PV} doubles each). */
+    public Records pvs(int n) {
+        return records(n, PV);
+    }
+
+    /** A new array of n r-matrices ({@value #R} doubles each). */
+    public Records matrices(int n) {
+        return records(n, R);
+    }
+
+    /** A new array of n records of stride doubles each (e.g. 3 for p-vectors). */
+    public Records records(int n, int stride) {
+        if (stride < 1)
+            throw new IllegalArgumentException("The stride must be positive, not " + stride);
+        return new Records(this, slice(recordsBytes(n, stride)), n, stride);
+    }
+
+    /** Reserve bytes at the end of the used part of the arena, returns their offset */
+    private int slice(long size) {
+        if (memory == null)
+            throw new IllegalStateException("The SofaBuffer is closed");
+        if (size < 0 || size > capacity - position)
+            throw new IllegalArgumentException("Cannot allocate " + size + " bytes, " + (capacity - position) + " of " + capacity + " remaining");
+        int offset = (int) position;
+        position += size;
+        return offset;
+    }
+
+    /**
+     * Free all slices, so that the memory is reused by new ones. The contents of the memory are not cleared.
+     */
+    public void reset() {
+        position = 0;
+        generation++;
+    }
+
+    /**
+     * Release the native memory. The arena and its views can no longer be used.
+     */
+    @Override
+    public void close() {
+        if (memory != null) {
+            memory.release();
+            memory = null;
+            generation++;
+        }
+    }
+
+    /** Native address of the arena. */
+    public long address() {
+        if (memory == null)
+            throw new IllegalStateException("The SofaBuffer is closed");
+        return peer;
+    }
+
+    /** Memory of the arena for a view of the given generation. */
+    private ByteBuffer bytes(int generation) {
+        if (memory == null)
+            throw new IllegalStateException("The SofaBuffer is closed");
+        if (generation != this.generation)
+            throw new IllegalStateException("The view was allocated before the SofaBuffer was reset");
+        return bytes;
+    }
+
+    /** Native address of the arena for a view of the given generation. */
+    private long peer(int generation) {
+        bytes(generation);
+        return peer;
+    }
+
+    /** Size of the arena, bytes. */
+    public long capacity() {
+        return capacity;
+    }
+
+    /** Bytes taken by the slices. */
+    public long used() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return "SofaBuffer{" + position + " of " + capacity + " bytes used}";
+    }
+
+    /** Contiguous array of doubles in an arena. */
+    public static final class Doubles {
+
+        private final SofaBuffer buffer;
+        private final int generation;
+        private final int offset;
+        private final int length;
+        private final Pointer<Double> pointer;
+
+        private Doubles(SofaBuffer buffer, int offset, int length) {
+            this.buffer     = buffer;
+            this.generation = buffer.generation;
+            this.offset     = offset;
+            this.length     = length;
+            this.pointer    = buffer.memory.offset(offset).as(Double.class);
+        }
+
+        /** Number of elements. */
+        public int length() {
+            return length;
+        }
+
+        /** Native pointer to the first element. */
+        public Pointer<Double> pointer() {
+            buffer.bytes(generation);
+            return pointer;
+        }
+
+        /** Native address of the first element. */
+        public long address() {
+            return buffer.peer(generation) + offset;
+        }
+
+        public double get(int i) {
+            return buffer.bytes(generation).getDouble(offset + 8 * check(i, length));
+        }
+
+        public void set(int i, double value) {
+            buffer.bytes(generation).putDouble(offset + 8 * check(i, length), value);
+        }
+
+        /** Copy count values, starting at values[from], into the elements starting at index. */
+        public void put(int index, double[] values, int from, int count) {
+            checkRange(index, count, length);
+            ByteBuffer bytes = buffer.bytes(generation);
+            int base = offset + 8 * index;
+            for (int i = 0; i < count; i++)
+                bytes.putDouble(base + 8 * i, values[from + i]);
+        }
+
+        /** Copy count elements, starting at index, into values[from] and onwards. */
+        public void get(int index, double[] values, int from, int count) {
+            checkRange(index, count, length);
+            ByteBuffer bytes = buffer.bytes(generation);
+            int base = offset + 8 * index;
+            for (int i = 0; i < count; i++)
+                values[from + i] = bytes.getDouble(base + 8 * i);
+        }
+
+        /** Copy values into the first elements. */
+        public void put(double[] values) {
+            put(0, values, 0, values.length);
+        }
+
+        /** All elements, as a new Java array. */
+        public double[] toArray() {
+            double[] values = new double[length];
+            get(0, values, 0, length);
+            return values;
+        }
+
+    }
+
+    /** Contiguous array of ints in an arena. */
+    public static final class Ints {
+
+        private final SofaBuffer buffer;
+        private final int generation;
+        private final int offset;
+        private final int length;
+        private final Pointer<Integer> pointer;
+
+        private Ints(SofaBuffer buffer, int offset, int length) {
+            this.buffer     = buffer;
+            this.generation = buffer.generation;
+            this.offset     = offset;
+            this.length     = length;
+            this.pointer    = buffer.memory.offset(offset).as(Integer.class);
+        }
+
+        /** Number of elements. */
+        public int length() {
+            return length;
+        }
+
+        /** Native pointer to the first element. */
+        public Pointer<Integer> pointer() {
+            buffer.bytes(generation);
+            return pointer;
+        }
+
+        /** Native address of the first element. */
+        public long address() {
+            return buffer.peer(generation) + offset;
+        }
+
+        public int get(int i) {
+            return buffer.bytes(generation).getInt(offset + 4 * check(i, length));
+        }
+
+        public void set(int i, int value) {
+            buffer.bytes(generation).putInt(offset + 4 * check(i, length), value);
+        }
+
+        /** All elements, as a new Java array. */
+        public int[] toArray() {
+            int[] values = new int[length];
+            ByteBuffer bytes = buffer.bytes(generation);
+            for (int i = 0; i < length; i++)
+                values[i] = bytes.getInt(offset + 4 * i);
+            return values;
+        }
+
+    }
+
+    /** Array of two-part dates in an arena, as one array of the first parts and one of the second parts. */
+    public static final class Dates {
+
+        private final Doubles date1;
+        private final Doubles date2;
+
+        private Dates(Doubles date1, Doubles date2) {
+            this.date1 = date1;
+            this.date2 = date2;
+        }
+
+        /** Number of dates. */
+        public int length() {
+            return date1.length;
+        }
+
+        /** First parts of the dates. */
+        public Doubles date1() {
+            return date1;
+        }
+
+        /** Second parts of the dates. */
+        public Doubles date2() {
+            return date2;
+        }
+
+        public void set(int i, double d1, double d2) {
+            date1.set(i, d1);
+            date2.set(i, d2);
+        }
+
+        /** The date as a single Julian Date (losing the precision of the two parts). */
+        public double get(int i) {
+            return date1.get(i) + date2.get(i);
+        }
+
+    }
+
+    /**
+     * Array of fixed-stride records of doubles in an arena, such as pv-vectors or r-matrices: element j of record i
+     * is at index i * stride + j.
+     */
+    public static final class Records {
+
+        private final SofaBuffer buffer;
+        private final int generation;
+        private final int offset;
+        private final int length;
+        private final int stride;
+        private final Pointer<Double> pointer;
+
+        private Records(SofaBuffer buffer, int offset, int length, int stride) {
+            this.buffer     = buffer;
+            this.generation = buffer.generation;
+            this.offset     = offset;
+            this.length     = length;
+            this.stride     = stride;
+            this.pointer    = buffer.memory.offset(offset).as(Double.class);
+        }
+
+        /** Number of records. */
+        public int length() {
+            return length;
+        }
+
+        /** Number of doubles per record. */
+        public int stride() {
+            return stride;
+        }
+
+        /** Native pointer to the first element of the first record. */
+        public Pointer<Double> pointer() {
+            buffer.bytes(generation);
+            return pointer;
+        }
+
+        /** Native address of the first element of the first record. */
+        public long address() {
+            return buffer.peer(generation) + offset;
+        }
+
+        /** Native address of element j of record i, e.g. to pass one pv-vector or r-matrix to {@link SofaLibrary}. */
+        public long address(int i, int j) {
+            return buffer.peer(generation) + offset + 8L * (check(i, length) * stride + check(j, stride));
+        }
+
+        public double get(int i, int j) {
+            return buffer.bytes(generation).getDouble(offset + 8 * (check(i, length) * stride + check(j, stride)));
+        }
+
+        public void set(int i, int j, double value) {
+            buffer.bytes(generation).putDouble(offset + 8 * (check(i, length) * stride + check(j, stride)), value);
+        }
+
+        /** Copy count records from values (stride doubles each, starting at values[from]) into the records starting at index. */
+        public void put(int index, double[] values, int from, int count) {
+            checkRange(index, count, length);
+            ByteBuffer bytes = buffer.bytes(generation);
+            int base = offset + 8 * index * stride;
+            for (int i = 0; i < count * stride; i++)
+                bytes.putDouble(base + 8 * i, values[from + i]);
+        }
+
+        /** Copy count records, starting at index, into values[from] and onwards (stride doubles each). */
+        public void get(int index, double[] values, int from, int count) {
+            checkRange(index, count, length);
+            ByteBuffer bytes = buffer.bytes(generation);
+            int base = offset + 8 * index * stride;
+            for (int i = 0; i < count * stride; i++)
+                values[from + i] = bytes.getDouble(base + 8 * i);
+        }
+
+        /** All records, as a new flat Java array. */
+        public double[] toArray() {
+            double[] values = new double[length * stride];
+            get(0, values, 0, length);
+            return values;
+        }
+
+    }
+
+    private static int check(int i, int length) {
+        if (i < 0 || i >= length)
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + length);
+        return i;
+    }
+
+    private static void checkRange(int index, int count, int length) {
+        if (index < 0 || count < 0 || index > length - count)
+            throw new IndexOutOfBoundsException("Range [" + index + ", " + index + " + " + count + ") out of bounds for length " + length);
+    }
+
+}
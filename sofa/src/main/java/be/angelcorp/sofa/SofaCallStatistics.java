@@ -0,0 +1,82 @@
+package be.angelcorp.sofa;
+
+/**
+ * Snapshot of the calls of one SOFA function, recorded by {@link SofaMetrics}. The percentiles are the highest
+ * latency of the histogram bucket that contains them (within 6.25%).
+ */
+public final class SofaCallStatistics {
+
+    private final String function;
+    private final long calls;
+    private final long nonZeroStatuses;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+
+    SofaCallStatistics(String function, long calls, long nonZeroStatuses, long totalNanos, long maxNanos,
+                       long p50Nanos, long p90Nanos, long p99Nanos) {
+        this.function        = function;
+        this.calls           = calls;
+        this.nonZeroStatuses = nonZeroStatuses;
+        this.totalNanos      = totalNanos;
+        this.maxNanos        = maxNanos;
+        this.p50Nanos        = p50Nanos;
+        this.p90Nanos        = p90Nanos;
+        this.p99Nanos        = p99Nanos;
+    }
+
+    /** Name of the SOFA function, e.g. "iauPnm06a". */
+    public String getFunction() {
+        return function;
+    }
+
+    /** Number of calls. */
+    public long getCalls() {
+        return calls;
+    }
+
+    /** Number of calls that returned a non-zero status (a warning or an error). */
+    public long getNonZeroStatuses() {
+        return nonZeroStatuses;
+    }
+
+    /** Total time spent in the function, nanoseconds. */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /** Mean latency, nanoseconds. */
+    public double getMeanNanos() {
+        return calls == 0 ? 0.0 : (double) totalNanos / calls;
+    }
+
+    /** Longest latency, nanoseconds. */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /** Median latency, nanoseconds. */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /** 90th percentile of the latency, nanoseconds. */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /** 99th percentile of the latency, nanoseconds. */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return function + ": " + calls + " calls (" + nonZeroStatuses + " non-zero statuses), mean "
+                + getMeanNanos() + " ns, p50 " + p50Nanos + " ns, p90 " + p90Nanos + " ns, p99 " + p99Nanos
+                + " ns, max " + maxNanos + " ns";
+    }
+
+}
@@ -0,0 +1,240 @@
+package be.angelcorp.sofa;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call counts, latency histograms and non-zero status counts of the SOFA functions called through
+ * {@link InstrumentedSofaLibrary}.<br>
+ * <br>
+ * Profilers attribute the time spent in a SOFA function to an opaque native frame. The instrumented facade has the
+ * signatures of {@link SofaLibrary}, so a service switches to it by changing its imports, and then measures every
+ * call when the JVM is started with <code>-D{@value #PROPERTY}=true</code>. The switch is a static final field: with
+ * the metrics disabled (the default) the JIT compiler removes the instrumentation, and nothing is registered.<br>
+ * <br>
+ * When enabled, the statistics are:
+ * <ul>
+ * <li>available from {@link #statistics()};</li>
+ * <li>registered as the MXBean {@value #OBJECT_NAME} in the platform MBean server (see {@link SofaMetricsMXBean});</li>
+ * <li>recorded as JFR events (be.angelcorp.sofa.Statistics, one per function that was called, every 10 seconds
+ * of a flight recording) when the JVM has JFR.</li>
+ * </ul>
+ * The latencies are kept in HdrHistogram-style histograms, with a bucket for every 1/16 of a power of two
+ * nanoseconds, so the percentiles have a relative error of at most 6.25%. The counters are
+ * {@link LongAdder}s and the histograms atomic arrays; recording a call takes no lock.
+ */
+public final class SofaMetrics {
+
+    /** System property that enables the metrics. */
+    public static final String PROPERTY = "sofa.metrics";
+
+    /** True if the instrumented functions record their calls, see {@link #PROPERTY}. */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    /** Object name of the MXBean. */
+    public static final String OBJECT_NAME = "be.angelcorp.sofa:type=SofaMetrics";
+
+    /** log2 of the sub-buckets per power of two (latencies below 2 * 2^SUB_BITS ns have a bucket each) */
+    private static final int SUB_BITS = 4;
+    /** Sub-buckets per power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Largest power of two kept apart, latencies of 2^40 ns (18 minutes) and more share the last bucket */
+    private static final int MAX_MAGNITUDE = 39;
+    /** Number of histogram buckets */
+    private static final int BUCKETS = 2 * SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BITS) * SUB_BUCKETS;
+
+    /** The recorded functions, by name */
+    private static final ConcurrentMap<String, Function> FUNCTIONS = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register the MXBean " + OBJECT_NAME, e);
+            }
+            try {
+                Class.forName("jdk.jfr.FlightRecorder");
+                SofaStatisticsEvent.register();
+            } catch (ClassNotFoundException | LinkageError e) {
+                // No JFR in this JVM
+            }
+        }
+    }
+
+    private SofaMetrics() {
+    }
+
+    /**
+     * The recorder of a SOFA function, used by {@link InstrumentedSofaLibrary}.
+     *
+     * @return The (shared) recorder of the function with the given name, or null if the metrics are disabled.
+     */
+    static Function function(String name) {
+        if (!ENABLED)
+            return null;
+        Function function = FUNCTIONS.get(name);
+        if (function == null) {
+            Function created = new Function(name);
+            function = FUNCTIONS.putIfAbsent(name, created);
+            if (function == null)
+                function = created;
+        }
+        return function;
+    }
+
+    /**
+     * The statistics of all functions that were called since the start (or the last {@link #reset()}).
+     */
+    public static List<SofaCallStatistics> statistics() {
+        List<SofaCallStatistics> statistics = new ArrayList<>();
+        for (Function function : FUNCTIONS.values()) {
+            SofaCallStatistics s = function.statistics();
+            if (s.getCalls() > 0)
+                statistics.add(s);
+        }
+        return statistics;
+    }
+
+    /**
+     * The statistics of one function, e.g. "iauPnm06a".
+     *
+     * @return The statistics, or null if the function was not recorded (or the metrics are disabled).
+     */
+    public static SofaCallStatistics statistics(String name) {
+        Function function = FUNCTIONS.get(name);
+        return function == null ? null : function.statistics();
+    }
+
+    /**
+     * Set all counts and histograms to zero. Calls that are recorded concurrently may be partially reset.
+     */
+    public static void reset() {
+        for (Function function : FUNCTIONS.values())
+            function.reset();
+    }
+
+    /** Histogram bucket of a latency, in nanoseconds */
+    static int bucket(long nanos) {
+        if (nanos < 2 * SUB_BUCKETS)
+            return (int) Math.max(nanos, 0L);
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+        if (magnitude > MAX_MAGNITUDE)
+            return BUCKETS - 1;
+        int sub = (int) (nanos >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (magnitude - SUB_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /** Largest latency of a histogram bucket, in nanoseconds */
+    static long highest(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS)
+            return bucket;
+        int magnitude = SUB_BITS + (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (SUB_BUCKETS + sub) << (magnitude - SUB_BITS);
+        return lowest + (1L << (magnitude - SUB_BITS)) - 1;
+    }
+
+    /**
+     * Counters and latency histogram of one SOFA function.
+     */
+    static final class Function {
+        private final String name;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nonZero = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        Function(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record a call that started at the given {@link System#nanoTime()} and ended now.
+         *
+         * @param status Status returned by the function (0 for functions without a status).
+         */
+        void record(long start, int status) {
+            long latency = System.nanoTime() - start;
+            calls.increment();
+            nanos.add(latency);
+            max.accumulate(latency);
+            histogram.incrementAndGet(bucket(latency));
+            if (status != 0)
+                nonZero.increment();
+        }
+
+        SofaCallStatistics statistics() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                total += counts[i];
+            }
+            return new SofaCallStatistics(name, calls.sum(), nonZero.sum(), nanos.sum(), max.get(),
+                    percentile(counts, total, 0.50), percentile(counts, total, 0.90), percentile(counts, total, 0.99));
+        }
+
+        void reset() {
+            calls.reset();
+            nonZero.reset();
+            nanos.reset();
+            max.reset();
+            for (int i = 0; i < BUCKETS; i++)
+                histogram.set(i, 0L);
+        }
+
+        /** Highest latency of the bucket where the cumulative count reaches the given fraction of the total */
+        private static long percentile(long[] counts, long total, double fraction) {
+            if (total == 0)
+                return 0;
+            long rank = (long) Math.ceil(fraction * total);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank)
+                    return highest(i);
+            }
+            return highest(counts.length - 1);
+        }
+    }
+
+    /** The registered MXBean */
+    private static final class MXBean implements SofaMetricsMXBean {
+        @Override
+        public List<SofaCallStatistics> getFunctions() {
+            return statistics();
+        }
+
+        @Override
+        public long getCalls() {
+            long calls = 0;
+            for (Function function : FUNCTIONS.values())
+                calls += function.calls.sum();
+            return calls;
+        }
+
+        @Override
+        public long getNonZeroStatuses() {
+            long nonZero = 0;
+            for (Function function : FUNCTIONS.values())
+                nonZero += function.nonZero.sum();
+            return nonZero;
+        }
+
+        @Override
+        public void reset() {
+            SofaMetrics.reset();
+        }
+    }
+
+}
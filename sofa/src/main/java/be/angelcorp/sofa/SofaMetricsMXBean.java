@@ -0,0 +1,23 @@
+package be.angelcorp.sofa;
+
+import java.util.List;
+
+/**
+ * Management interface of {@link SofaMetrics}, registered as {@value SofaMetrics#OBJECT_NAME} when the metrics are
+ * enabled.
+ */
+public interface SofaMetricsMXBean {
+
+    /** The statistics of every function that was called, see {@link SofaMetrics#statistics()}. */
+    List<SofaCallStatistics> getFunctions();
+
+    /** Total number of recorded calls, of all functions. */
+    long getCalls();
+
+    /** Total number of non-zero statuses returned, by all functions. */
+    long getNonZeroStatuses();
+
+    /** Set all counts and histograms to zero, see {@link SofaMetrics#reset()}. */
+    void reset();
+
+}
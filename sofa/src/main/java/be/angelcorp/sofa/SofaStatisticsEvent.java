@@ -0,0 +1,75 @@
+package be.angelcorp.sofa;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event with the {@link SofaMetrics} statistics of one SOFA function, emitted for every function that was called
+ * at the period of the recording settings (10 seconds by default). Only loaded when the metrics are enabled and the
+ * JVM has JFR.
+ */
+@Name("be.angelcorp.sofa.Statistics")
+@Label("SOFA Function Statistics")
+@Description("Calls and latencies of a SOFA function since the start of the JVM (or the last reset)")
+@Category({ "SOFA" })
+@Period("10 s")
+@StackTrace(false)
+final class SofaStatisticsEvent extends Event {
+
+    @Label("Function")
+    String function;
+
+    @Label("Calls")
+    long calls;
+
+    @Label("Non-zero Statuses")
+    long nonZeroStatuses;
+
+    @Label("Total Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long total;
+
+    @Label("Median")
+    @Timespan(Timespan.NANOSECONDS)
+    long p50;
+
+    @Label("90th Percentile")
+    @Timespan(Timespan.NANOSECONDS)
+    long p90;
+
+    @Label("99th Percentile")
+    @Timespan(Timespan.NANOSECONDS)
+    long p99;
+
+    @Label("Maximum")
+    @Timespan(Timespan.NANOSECONDS)
+    long max;
+
+    /** Add the periodic event to the flight recorder. */
+    static void register() {
+        FlightRecorder.addPeriodicEvent(SofaStatisticsEvent.class, SofaStatisticsEvent::emit);
+    }
+
+    private static void emit() {
+        for (SofaCallStatistics statistics : SofaMetrics.statistics()) {
+            SofaStatisticsEvent event = new SofaStatisticsEvent();
+            event.function        = statistics.getFunction();
+            event.calls           = statistics.getCalls();
+            event.nonZeroStatuses = statistics.getNonZeroStatuses();
+            event.total           = statistics.getTotalNanos();
+            event.p50             = statistics.getP50Nanos();
+            event.p90             = statistics.getP90Nanos();
+            event.p99             = statistics.getP99Nanos();
+            event.max             = statistics.getMaxNanos();
+            event.commit();
+        }
+    }
+
+}
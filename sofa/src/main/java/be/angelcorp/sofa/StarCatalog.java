@@ -0,0 +1,368 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+import org.bridj.PointerIO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Star catalog in a compact binary, columnar file, reduced directly from memory-mapped windows of the file.<br>
+ * <br>
+ * The file starts with a {@value #HEADER_SIZE} byte header, followed by the columns one after the other, each a
+ * contiguous block of one little-endian double per row. All header fields are little-endian as well:
+ * <pre>
+ * offset  type    field
+ *  0      int     magic number {@value #MAGIC} ("STC1")
+ *  4      int     number of columns
+ *  8      long    number of rows
+ * 16      double  epoch, first part of a 2-part Julian Date (TDB)
+ * 24      double  epoch, second part
+ * 32      -       reserved (zero) up to the first column
+ * </pre>
+ * Astrometric catalogs have the 6 columns of {@link SofaLibrary#iauPmsafe}, in the order {@link #RA}, {@link #DEC},
+ * {@link #PMR}, {@link #PMD}, {@link #PX} and {@link #RV}, in the units of SOFA (radians, radians/year, arcsec and
+ * km/s). The reductions write into another catalog with the same number of rows:
+ * <pre>
+ * try (StarCatalog source = StarCatalog.open(gaia);
+ *      StarCatalog target = StarCatalog.create(propagated, StarCatalog.ASTROMETRIC, source.rows(), 2460000.5, 0.0)) {
+ *     int bad = source.pmsafe(target);
+ * }
+ * </pre>
+ * The catalogs are processed in windows of {@link #window()} rows. Each column of a window is mapped into memory
+ * with {@link FileChannel#map}, and the native bulk function of {@link BulkLibrary} reads from and writes to the
+ * mapped pages directly: no rows are copied or parsed on the Java heap. Since the native code reads the doubles in
+ * the byte order of the platform, the reductions require a little-endian platform (as are all platforms of
+ * sofa-platform).
+ */
+public final class StarCatalog implements AutoCloseable {
+
+    /** Magic number at the start of every catalog file, "STC1". */
+    public static final int MAGIC = 0x53544331;
+    /** Size of the header in bytes, the first column starts at this offset. */
+    public static final int HEADER_SIZE = 64;
+
+    /** Number of columns of an astrometric catalog. */
+    public static final int ASTROMETRIC = 6;
+    /** Right ascension column (radians) */
+    public static final int RA  = 0;
+    /** Declination column (radians) */
+    public static final int DEC = 1;
+    /** Right ascension proper motion column (radians/year, dRA/dt) */
+    public static final int PMR = 2;
+    /** Declination proper motion column (radians/year) */
+    public static final int PMD = 3;
+    /** Parallax column (arcsec) */
+    public static final int PX  = 4;
+    /** Radial velocity column (km/s, +ve if receding) */
+    public static final int RV  = 5;
+
+    /** Default number of rows per mapped window (and native call). */
+    public static final int WINDOW = 1 << 20;
+
+    static {
+        // Pointer.pointerToBuffer initializes CommonPointerIOs, which fails in BridJ 0.7 unless PointerIO is initialized first
+        PointerIO.getByteInstance();
+    }
+
+    private final FileChannel channel;
+    private final boolean writable;
+    private final int columns;
+    private final long rows;
+    private final double epoch1;
+    private final double epoch2;
+    private int window = WINDOW;
+
+    private StarCatalog(FileChannel channel, boolean writable, int columns, long rows, double epoch1, double epoch2) {
+        this.channel  = channel;
+        this.writable = writable;
+        this.columns  = columns;
+        this.rows     = rows;
+        this.epoch1   = epoch1;
+        this.epoch2   = epoch2;
+    }
+
+    /**
+     * Create (or overwrite) a catalog file of the given size, with all columns zero. The catalog is writable.
+     *
+     * @param epoch1 Epoch of the catalog, first part of a 2-part Julian Date (TDB).
+     * @param epoch2 Epoch of the catalog, second part.
+     */
+    public static StarCatalog create(Path file, int columns, long rows, double epoch1, double epoch2) throws IOException {
+        if (columns < 1)
+            throw new IllegalArgumentException("A catalog needs at least one column, not " + columns);
+        if (rows < 0)
+            throw new IllegalArgumentException("The number of rows cannot be negative: " + rows);
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(columns).putLong(rows).putDouble(epoch1).putDouble(epoch2);
+            header.rewind();
+            channel.write(header, 0);
+
+            long size = HEADER_SIZE + 8L * columns * rows;
+            if (size > HEADER_SIZE)
+                channel.write(ByteBuffer.allocate(1), size - 1);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new StarCatalog(channel, true, columns, rows, epoch1, epoch2);
+    }
+
+    /**
+     * Open an existing catalog file, read-only.
+     */
+    public static StarCatalog open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    /**
+     * Open an existing catalog file.
+     *
+     * @param writable Open the file for reading and writing, so that it can be the target of a reduction.
+     * @throws IOException If the file is not a catalog, or is shorter than its header declares.
+     */
+    public static StarCatalog open(Path file, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // read the complete header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC)
+                throw new IOException("Not a star catalog: " + file);
+            int columns = header.getInt();
+            long rows   = header.getLong();
+            double epoch1 = header.getDouble();
+            double epoch2 = header.getDouble();
+            if (columns < 1 || rows < 0 || channel.size() < HEADER_SIZE + 8L * columns * rows)
+                throw new IOException("Truncated or corrupt star catalog: " + file);
+            return new StarCatalog(channel, writable, columns, rows, epoch1, epoch2);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Number of columns. */
+    public int columns() {
+        return columns;
+    }
+
+    /** Number of rows (stars). */
+    public long rows() {
+        return rows;
+    }
+
+    /** Epoch of the catalog, first part of a 2-part Julian Date (TDB). */
+    public double epoch1() {
+        return epoch1;
+    }
+
+    /** Epoch of the catalog, second part of a 2-part Julian Date (TDB). */
+    public double epoch2() {
+        return epoch2;
+    }
+
+    /** True if the catalog can be written to. */
+    public boolean writable() {
+        return writable;
+    }
+
+    /** Number of rows mapped and reduced per native call. */
+    public int window() {
+        return window;
+    }
+
+    /**
+     * Change the number of rows mapped and reduced per native call, see {@link #WINDOW}.
+     *
+     * @return This catalog.
+     */
+    public StarCatalog window(int rows) {
+        if (rows < 1)
+            throw new IllegalArgumentException("The window must hold at least one row, not " + rows);
+        this.window = rows;
+        return this;
+    }
+
+    /**
+     * Memory-mapped view of count rows of a column, from row from. The view is writable if the catalog is.
+     */
+    public DoubleBuffer column(int column, long from, int count) throws IOException {
+        return map(column, from, count).asDoubleBuffer();
+    }
+
+    /**
+     * Copy count rows of a column, from row from, into an array.
+     */
+    public void get(int column, long from, double[] values, int offset, int count) throws IOException {
+        column(column, from, count).get(values, offset, count);
+    }
+
+    /**
+     * Copy count values of an array into a column, from row from.
+     */
+    public void put(int column, long from, double[] values, int offset, int count) throws IOException {
+        if (!writable)
+            throw new IllegalStateException("The catalog is read-only");
+        column(column, from, count).put(values, offset, count);
+    }
+
+    /**
+     * Propagate every star of this astrometric catalog from the epoch of this catalog to the epoch of the target
+     * catalog, see {@link SofaLibrary#iauPmsafe}.
+     *
+     * @param target Writable astrometric catalog with the same number of rows, receives the propagated stars.
+     * @return Number of stars for which iauPmsafe returned a non-zero status.
+     */
+    public int pmsafe(StarCatalog target) throws IOException {
+        checkTarget(target, ASTROMETRIC, ASTROMETRIC);
+        int bad = 0;
+        for (long from = 0; from < rows; from += window) {
+            int count = (int) Math.min(window, rows - from);
+            MappedByteBuffer[] in  = map(this, ASTROMETRIC, from, count);
+            MappedByteBuffer[] out = map(target, ASTROMETRIC, from, count);
+            bad += BulkLibrary.bulkPmsafe(count,
+                    peer(in[RA]), peer(in[DEC]), peer(in[PMR]), peer(in[PMD]), peer(in[PX]), peer(in[RV]),
+                    epoch1, epoch2, target.epoch1, target.epoch2,
+                    peer(out[RA]), peer(out[DEC]), peer(out[PMR]), peer(out[PMD]), peer(out[PX]), peer(out[RV]), 0);
+            reachable(in, out);
+        }
+        return bad;
+    }
+
+    /**
+     * Quick ICRS to CIRS for every star of this astrometric catalog, see {@link SofaLibrary#iauAtciq}.
+     *
+     * @param astrom Star-independent astrometry parameters, {@link SofaArrays#ASTROM_SIZE} doubles in the layout of
+     *               {@link SofaArrays}.
+     * @param target Writable catalog of (at least) two columns with the same number of rows, receives the CIRS right
+     *               ascension (column 0) and declination (column 1).
+     */
+    public void atciq(double[] astrom, StarCatalog target) throws IOException {
+        checkTarget(target, ASTROMETRIC, 2);
+        checkAstrom(astrom);
+        Pointer<Double> parameters = Pointer.pointerToDoubles(astrom);
+        try {
+            for (long from = 0; from < rows; from += window) {
+                int count = (int) Math.min(window, rows - from);
+                MappedByteBuffer[] in  = map(this, ASTROMETRIC, from, count);
+                MappedByteBuffer[] out = map(target, 2, from, count);
+                BulkLibrary.bulkAtciq(count,
+                        peer(in[RA]), peer(in[DEC]), peer(in[PMR]), peer(in[PMD]), peer(in[PX]), peer(in[RV]),
+                        parameters.getPeer(), peer(out[0]), peer(out[1]));
+                reachable(in, out);
+            }
+        } finally {
+            parameters.release();
+        }
+    }
+
+    /**
+     * Quick ICRS to CIRS for every star of this catalog, using only the right ascension and declination (zero
+     * parallax and proper motion), see {@link SofaLibrary#iauAtciqz}.
+     *
+     * @param astrom Star-independent astrometry parameters, {@link SofaArrays#ASTROM_SIZE} doubles in the layout of
+     *               {@link SofaArrays}.
+     * @param target Writable catalog of (at least) two columns with the same number of rows, receives the CIRS right
+     *               ascension (column 0) and declination (column 1).
+     */
+    public void atciqz(double[] astrom, StarCatalog target) throws IOException {
+        checkTarget(target, 2, 2);
+        checkAstrom(astrom);
+        Pointer<Double> parameters = Pointer.pointerToDoubles(astrom);
+        try {
+            for (long from = 0; from < rows; from += window) {
+                int count = (int) Math.min(window, rows - from);
+                MappedByteBuffer[] in  = map(this, 2, from, count);
+                MappedByteBuffer[] out = map(target, 2, from, count);
+                BulkLibrary.bulkAtciqz(count, peer(in[RA]), peer(in[DEC]), parameters.getPeer(), peer(out[0]), peer(out[1]));
+                reachable(in, out);
+            }
+        } finally {
+            parameters.release();
+        }
+    }
+
+    /**
+     * Close the file. Views returned by {@link #column} stay valid until they are garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "StarCatalog[" + columns + " columns, " + rows + " rows, epoch " + epoch1 + " + " + epoch2 + "]";
+    }
+
+    private void checkTarget(StarCatalog target, int sourceColumns, int targetColumns) {
+        if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN)
+            throw new IllegalStateException("Catalog reductions require a little-endian platform");
+        if (columns < sourceColumns)
+            throw new IllegalArgumentException("The catalog needs " + sourceColumns + " columns, it has " + columns);
+        if (target.columns < targetColumns)
+            throw new IllegalArgumentException("The target needs " + targetColumns + " columns, it has " + target.columns);
+        if (target.rows != rows)
+            throw new IllegalArgumentException("The target has " + target.rows + " rows instead of " + rows);
+        if (!target.writable)
+            throw new IllegalArgumentException("The target catalog is read-only");
+    }
+
+    private static void checkAstrom(double[] astrom) {
+        if (astrom.length < SofaArrays.ASTROM_SIZE)
+            throw new IllegalArgumentException("The astrometry parameters need " + SofaArrays.ASTROM_SIZE + " doubles, not " + astrom.length);
+    }
+
+    /** Map count rows, from row from, of a column. */
+    private MappedByteBuffer map(int column, long from, int count) throws IOException {
+        if (column < 0 || column >= columns)
+            throw new IllegalArgumentException("Column " + column + " does not exist, the catalog has " + columns);
+        if (from < 0 || count < 0 || from + count > rows)
+            throw new IllegalArgumentException("Rows [" + from + ", " + (from + count) + ") are outside of the catalog (" + rows + " rows)");
+
+        long position = HEADER_SIZE + 8L * (column * rows + from);
+        MappedByteBuffer buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, position, 8L * count);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /** Map the same window of the first n columns of a catalog. */
+    private static MappedByteBuffer[] map(StarCatalog catalog, int n, long from, int count) throws IOException {
+        MappedByteBuffer[] buffers = new MappedByteBuffer[n];
+        for (int i = 0; i < n; i++)
+            buffers[i] = catalog.map(i, from, count);
+        return buffers;
+    }
+
+    /**
+     * Use the mapped windows after the native call that received their addresses, only to keep them reachable until
+     * the call returned: a buffer that is garbage collected is unmapped.
+     */
+    private static void reachable(MappedByteBuffer[] in, MappedByteBuffer[] out) {
+        for (MappedByteBuffer buffer : in)
+            buffer.rewind();
+        for (MappedByteBuffer buffer : out)
+            buffer.rewind();
+    }
+
+    /** Native address of a mapped buffer. */
+    private static long peer(MappedByteBuffer buffer) {
+        return Pointer.pointerToBuffer(buffer).getPeer();
+    }
+
+}
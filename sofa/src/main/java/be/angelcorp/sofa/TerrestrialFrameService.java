@@ -0,0 +1,259 @@
+package be.angelcorp.sofa;
+
+/**
+ * Celestial-to-terrestrial (GCRS to ITRS) matrices at UTC epochs, with the Earth orientation parameters of an
+ * {@link EopTable}:
+ * <pre>
+ * TerrestrialFrameService frames = new TerrestrialFrameService(EopTable.readFinals2000A(file));
+ * frames.rc2t(2453736.0, 0.25, rc2t, drc2t);          // one epoch
+ * frames.rc2t(utc1, utc2, rc2ts, null);               // a trajectory, 9 elements per epoch
+ * </pre>
+ * For every epoch, the service converts UTC to TT and (with the interpolated UT1-UTC) to UT1, and forms the matrix as
+ * the CIO based transformation of the IERS Conventions, with the SOFA routines:
+ * <ul>
+ * <li>the CIP coordinates X, Y and the CIO locator s of IAU 2006/2000A ({@link SofaLibrary#iauXys06a}, or a
+ * {@link CipTable}), with the celestial pole offsets dX, dY of the table added to X and Y, give the
+ * celestial-to-intermediate matrix ({@link SofaLibrary#iauC2ixys});</li>
+ * <li>the Earth rotation angle of UT1 ({@link SofaLibrary#iauEra00});</li>
+ * <li>the polar motion matrix ({@link SofaLibrary#iauPom00}) from the interpolated xp, yp and the TIO locator s'
+ * ({@link SofaLibrary#iauSp00});</li>
+ * <li>combined by {@link SofaLibrary#iauC2tcio}.</li>
+ * </ul>
+ * Without celestial pole offsets (dX = dY = 0) the matrix is that of {@link SofaLibrary#iauC2t06a}.<br>
+ * <br>
+ * The time derivatives are per SI second. The derivative of the polar motion matrix follows from the rates of xp,
+ * yp (the derivative of the interpolating polynomials) and s'. The derivative of the celestial-to-terrestrial matrix
+ * adds the rotation of the Earth, at the rate of ERA including the rate of UT1-UTC, and neglects the motion of the
+ * CIP in the GCRS, which is smaller by a factor 1e7.<br>
+ * <br>
+ * The matrices (and the interpolated parameters) of an epoch are cached: the cache is a direct-mapped table of
+ * immutable entries ({@link EpochCache}), keyed by the exact UTC epoch, and lock-free as in {@link PnMatrixCache}, so a
+ * service can be shared by any number of threads.
+ */
+public final class TerrestrialFrameService {
+
+    static {
+        NativeVariant.select();
+    }
+
+    /* Constants of sofam.h */
+    private static final double D2PI   = 6.283185307179586476925287;
+    private static final double DAS2R  = 4.848136811095359935899141e-6;
+    private static final double DJM0   = 2400000.5;
+    private static final double DJC    = 36525.0;
+    private static final double DAYSEC = 86400.0;
+
+    /** Rate of ERA (radians per second of UT1) */
+    private static final double ERA_RATE = D2PI * 1.00273781191135448 / DAYSEC;
+    /** Rate of the TIO locator s' of iauSp00 (radians per second) */
+    private static final double SP_RATE = -47e-6 * DAS2R / (DJC * DAYSEC);
+
+    /** Offsets of the matrices in a cached entry */
+    private static final int RC2T = 0, DRC2T = 9, RPOM = 18, DRPOM = 27;
+
+    private final EopTable eop;
+    private final CipTable cip;
+    private final EpochCache<Frame> frames;
+
+    /**
+     * Create a service that caches the matrices of 1024 epochs, and evaluates the CIP with iauXys06a.
+     *
+     * @param eop Earth orientation parameters.
+     */
+    public TerrestrialFrameService(EopTable eop) {
+        this(eop, 1024, null);
+    }
+
+    /**
+     * @param eop      Earth orientation parameters.
+     * @param capacity Maximum number of epochs cached (rounded up to a power of two).
+     * @param cip      Table of the CIP coordinates and the CIO locator, or null to compute them with iauXys06a.
+     */
+    public TerrestrialFrameService(EopTable eop, int capacity, CipTable cip) {
+        if (eop == null)
+            throw new IllegalArgumentException("The EOP table must not be null");
+        this.eop    = eop;
+        this.cip    = cip;
+        this.frames = new EpochCache<>(capacity, (utc1, utc2) -> new Frame(utc1, utc2, eop, cip));
+    }
+
+    /**
+     * The celestial-to-terrestrial matrix at a UTC epoch, and its time derivative.
+     *
+     * @param utc1  UTC as a 2-part quasi Julian Date (as {@link SofaLibrary#iauUtctai}).
+     * @param utc2  UTC as a 2-part quasi Julian Date.
+     * @param rc2t  Returned celestial-to-terrestrial matrix (row major, 9 elements).
+     * @param drc2t Returned time derivative of rc2t (per second), or null.
+     * @throws IllegalArgumentException If the epoch is outside of the EOP table (or of the CIP table).
+     */
+    public void rc2t(double utc1, double utc2, double[] rc2t, double[] drc2t) {
+        Frame frame = frames.exact(utc1, utc2);
+        System.arraycopy(frame.matrices, RC2T, rc2t, 0, 9);
+        if (drc2t != null)
+            System.arraycopy(frame.matrices, DRC2T, drc2t, 0, 9);
+    }
+
+    /**
+     * The polar motion matrix (TIRS to ITRS) at a UTC epoch, and its time derivative.
+     *
+     * @param utc1  UTC as a 2-part quasi Julian Date.
+     * @param utc2  UTC as a 2-part quasi Julian Date.
+     * @param rpom  Returned polar motion matrix (row major, 9 elements).
+     * @param drpom Returned time derivative of rpom (per second), or null.
+     * @throws IllegalArgumentException If the epoch is outside of the EOP table (or of the CIP table).
+     */
+    public void rpom(double utc1, double utc2, double[] rpom, double[] drpom) {
+        Frame frame = frames.exact(utc1, utc2);
+        System.arraycopy(frame.matrices, RPOM, rpom, 0, 9);
+        if (drpom != null)
+            System.arraycopy(frame.matrices, DRPOM, drpom, 0, 9);
+    }
+
+    /**
+     * The interpolated Earth orientation parameters at a UTC epoch, see {@link EopTable#interpolate}.
+     *
+     * @param values Returned values, at the indices of {@link EopTable} ({@value EopTable#VALUES} elements).
+     */
+    public void eop(double utc1, double utc2, double[] values) {
+        System.arraycopy(frames.exact(utc1, utc2).eop, 0, values, 0, EopTable.VALUES);
+    }
+
+    /**
+     * The celestial-to-terrestrial matrices of a trajectory, see {@link #rc2t(double, double, double[], double[])}.
+     *
+     * @param utc1  UTC of every epoch, as 2-part quasi Julian Dates.
+     * @param utc2  UTC of every epoch, as 2-part quasi Julian Dates.
+     * @param rc2t  Returned celestial-to-terrestrial matrix of every epoch (9 elements per epoch).
+     * @param drc2t Returned time derivative of each rc2t (per second, 9 elements per epoch), or null.
+     */
+    public void rc2t(double[] utc1, double[] utc2, double[] rc2t, double[] drc2t) {
+        int n = utc1.length;
+        if (utc2.length < n || rc2t.length < 9 * n || (drc2t != null && drc2t.length < 9 * n))
+            throw new IllegalArgumentException("Expected " + n + " epochs and " + 9 * n + " matrix elements");
+        for (int i = 0; i < n; i++) {
+            Frame frame = frames.exact(utc1[i], utc2[i]);
+            System.arraycopy(frame.matrices, RC2T, rc2t, 9 * i, 9);
+            if (drc2t != null)
+                System.arraycopy(frame.matrices, DRC2T, drc2t, 9 * i, 9);
+        }
+    }
+
+    /** The Earth orientation parameters of this service. */
+    public EopTable eopTable() {
+        return eop;
+    }
+
+    /** Number of epochs that were found in the cache. */
+    public long hits() {
+        return frames.hits();
+    }
+
+    /** Number of epochs that had to be computed. */
+    public long misses() {
+        return frames.misses();
+    }
+
+    /** The matrices of an epoch; immutable once published */
+    private static final class Frame {
+        final double[] eop = new double[EopTable.VALUES];
+        final double[] matrices = new double[36];
+
+        Frame(double utc1, double utc2, EopTable eopTable, CipTable cip) {
+            // Earth orientation parameters, with their rates
+            double[] rates = new double[EopTable.VALUES];
+            eopTable.interpolate((utc1 - DJM0) + utc2, eop, rates);
+
+            // TT, and UT1 = TAI + (UT1-TAI) as iauUtcut1
+            JulianDate tai = TimeScale.UTC.convert(JulianDate.of(utc1, utc2), TimeScale.TAI);
+            JulianDate tt  = TimeScale.TAI.convert(tai, TimeScale.TT);
+            double ut11 = tai.jd1(), ut12 = tai.jd2();
+            if (ut11 > ut12) ut12 += eop[EopTable.UT1_TAI] / DAYSEC; else ut11 += eop[EopTable.UT1_TAI] / DAYSEC;
+
+            // Celestial-to-intermediate matrix, with the celestial pole offsets
+            double[] xys = new double[3];
+            if (cip != null) {
+                cip.xys(tt.jd1(), tt.jd2(), xys);
+            } else {
+                double[] x = new double[1], y = new double[1], s = new double[1];
+                SofaArrays.iauXys06a(tt.jd1(), tt.jd2(), x, y, s);
+                xys[0] = x[0];
+                xys[1] = y[0];
+                xys[2] = s[0];
+            }
+            double[] rc2i = new double[9];
+            SofaArrays.iauC2ixys(xys[0] + eop[EopTable.DX], xys[1] + eop[EopTable.DY], xys[2], rc2i);
+
+            // Earth rotation angle and polar motion
+            double era = SiderealTime.era(ut11, ut12);
+            double sp  = SofaLibrary.iauSp00(tt.jd1(), tt.jd2());
+            SofaArrays.iauPom00(eop[EopTable.XP], eop[EopTable.YP], sp, matrices, RPOM);
+            SofaArrays.iauC2tcio(rc2i, 0, era, matrices, RPOM, matrices, RC2T);
+
+            // d(rpom)/dt, rpom = R1(-yp) R2(-xp) R3(sp)
+            dpom(eop[EopTable.XP], eop[EopTable.YP], sp, -rates[EopTable.XP], -rates[EopTable.YP], SP_RATE,
+                    matrices, DRPOM);
+
+            // d(rc2t)/dt = d(rpom)/dt R3(era) rc2i + rpom dR3(era)/dt rc2i
+            double w = ERA_RATE * (1.0 + rates[EopTable.UT1_TAI]);
+            double c = Math.cos(era), s = Math.sin(era);
+            double[] r  = new double[9];
+            double[] dr = new double[9];
+            for (int j = 0; j < 3; j++) {
+                r[j]      =  c * rc2i[j] + s * rc2i[3 + j];
+                r[3 + j]  = -s * rc2i[j] + c * rc2i[3 + j];
+                r[6 + j]  = rc2i[6 + j];
+                dr[j]     = w * (-s * rc2i[j] + c * rc2i[3 + j]);
+                dr[3 + j] = w * (-c * rc2i[j] - s * rc2i[3 + j]);
+            }
+            double[] a = new double[9], b = new double[9];
+            Vml.rxr(matrices, DRPOM, r, 0, a, 0);
+            Vml.rxr(matrices, RPOM, dr, 0, b, 0);
+            for (int j = 0; j < 9; j++)
+                matrices[DRC2T + j] = a[j] + b[j];
+        }
+    }
+
+    /**
+     * Derivative of R1(a1) R2(a2) R3(a3) (the rotation matrices of {@link Vml#rx}, {@link Vml#ry} and
+     * {@link Vml#rz}) with the rates of the angles, for the polar motion matrix with a1 = -yp, a2 = -xp and a3 = sp.
+     */
+    private static void dpom(double xp, double yp, double sp, double dxp, double dyp, double dsp, double[] d, int offset) {
+        double[] r1 = rotation(0, -yp), r2 = rotation(1, -xp), r3 = rotation(2, sp);
+        double[] d1 = derivative(0, -yp), d2 = derivative(1, -xp), d3 = derivative(2, sp);
+        double[] m = new double[9], t = new double[9], sum = new double[9];
+
+        Vml.rxr(d1, r2, m);
+        Vml.rxr(m, r3, t);
+        for (int j = 0; j < 9; j++) sum[j] += dyp * t[j];
+        Vml.rxr(r1, d2, m);
+        Vml.rxr(m, r3, t);
+        for (int j = 0; j < 9; j++) sum[j] += dxp * t[j];
+        Vml.rxr(r1, r2, m);
+        Vml.rxr(m, d3, t);
+        for (int j = 0; j < 9; j++) sum[j] += dsp * t[j];
+        System.arraycopy(sum, 0, d, offset, 9);
+    }
+
+    /** Rotation matrix about axis 0 (x), 1 (y) or 2 (z), as iauRx, iauRy and iauRz applied to the identity */
+    private static double[] rotation(int axis, double angle) {
+        double[] r = new double[9];
+        Vml.ir(r);
+        switch (axis) {
+            case 0:  Vml.rx(angle, r); break;
+            case 1:  Vml.ry(angle, r); break;
+            default: Vml.rz(angle, r); break;
+        }
+        return r;
+    }
+
+    /** Derivative of {@link #rotation} with respect to the angle */
+    private static double[] derivative(int axis, double angle) {
+        double c = Math.cos(angle), s = Math.sin(angle);
+        switch (axis) {
+            case 0:  return new double[]{ 0, 0, 0,   0, -s, c,   0, -c, -s };
+            case 1:  return new double[]{ -s, 0, -c,   0, 0, 0,   c, 0, -s };
+            default: return new double[]{ -s, c, 0,   -c, -s, 0,   0, 0, 0 };
+        }
+    }
+
+}
@@ -0,0 +1,263 @@
+package be.angelcorp.sofa;
+
+/**
+ * The time scales of the SOFA timescale routines, with conversions of {@link JulianDate}s between any two of them:
+ * <pre>
+ * JulianDate tdb = TimeScale.UTC.convert(JulianDate.of(2453750.5, 0.892100694), TimeScale.TDB);
+ * </pre>
+ * A conversion chains the SOFA routines along UTC - TAI - TT - TDB - TCB (with TCG next to TT), e.g. UTC to TDB runs
+ * iauUtctai, iauTaitt and iauTttdb. The steps are evaluated in Java (only TDB-TT is a native call, to iauDtdb) on
+ * the two parts as doubles, without {@link org.bridj.Pointer} outputs or intermediate objects. The only allocation
+ * is the returned JulianDate, which escape analysis removes when the caller only reads its parts.<br>
+ * <br>
+ * This class uses computations derived from the iauUtctai, iauTaiutc, iauTaitt, iauTttai, iauTttcg, iauTcgtt,
+ * iauTttdb, iauTdbtt, iauTdbtcb and iauTcbtdb routines of the IAU SOFA software collection (release 2013-12-02),
+ * and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the original in that
+ * the dates are passed as JulianDates instead of two doubles and output pointers; the results are those of the SOFA
+ * routines, bit for bit. The date split is preserved as in SOFA, and the differences with the original are:
+ * <ul>
+ * <li>TDB-TT is the geocentric value of {@link SofaLibrary#iauDtdb} (ut, elong, u and v zero) at the TT (or TDB)
+ * date, where iauTttdb and iauTdbtt take it as an argument.</li>
+ * <li>Delta(AT) is taken from {@link LeapSeconds}. Warnings (dubious or pre-1960 years) are not reported, and UTC
+ * dates outside the range of iauJd2cal throw an IllegalArgumentException instead of returning a status.</li>
+ * </ul>
+ */
+public enum TimeScale {
+
+    /** Coordinated Universal Time, with quasi-JD days (the day of a leap second has 86401 s). */
+    UTC,
+    /** International Atomic Time. */
+    TAI,
+    /** Terrestrial Time. */
+    TT,
+    /** Geocentric Coordinate Time. */
+    TCG,
+    /** Barycentric Dynamical Time. */
+    TDB,
+    /**
+     * Barycentric Coordinate Time. Like iauTdbtcb of SOFA release 2013-12-02, TDB to TCB is only correct for dates
+     * with the larger part first.
+     */
+    TCB;
+
+    static {
+        NativeVariant.select();
+    }
+
+    /** Seconds per day */
+    private static final double DAYSEC = 86400.0;
+    /** Julian Date of Modified Julian Date zero */
+    private static final double DJM0 = 2400000.5;
+    /** TT minus TAI (days) */
+    private static final double DTAT = 32.184 / DAYSEC;
+    /** 1977 Jan 1 00:00:32.184 TT, as MJD */
+    private static final double T77T = 43144.0 + DTAT;
+    /** 1977 Jan 1 00:00:32.184 TT, as two-part JD */
+    private static final double T77TD = DJM0 + 43144.0;
+    /** L_G = 1 - d(TT)/d(TCG) */
+    private static final double ELG = 6.969290134e-10;
+    /** TT to TCG rate */
+    private static final double ELGG = ELG / (1.0 - ELG);
+    /** L_B = 1 - d(TDB)/d(TCB) */
+    private static final double ELB = 1.550519768e-8;
+    /** TDB to TCB rate */
+    private static final double ELBB = ELB / (1.0 - ELB);
+    /** TDB (days) at TAI 1977 Jan 1.0 */
+    private static final double TDB0 = -6.55e-5 / DAYSEC;
+
+    /**
+     * Convert a date in this time scale to another time scale.
+     *
+     * @param date   Date in this time scale.
+     * @param target Time scale of the result.
+     * @return The date in the target time scale, split as the given date.
+     * @throws IllegalArgumentException When a UTC date is outside the range of the SOFA calendar routines.
+     */
+    public JulianDate convert(JulianDate date, TimeScale target) {
+        if (target == this)
+            return date;
+        double d1 = date.jd1(), d2 = date.jd2();
+
+        // Up towards TT, until the target is this scale or below it
+        TimeScale scale = this;
+        while (!scale.above(target)) {
+            if (scale.firstIsBig(d1, d2)) d2 = scale.up(d1, d2, false); else d1 = scale.up(d2, d1, true);
+            scale = scale.parent();
+        }
+        // Down to the target
+        while (scale != target) {
+            TimeScale next = target;
+            while (next.parent() != scale)
+                next = next.parent();
+            if (next.firstIsBig(d1, d2)) d2 = next.down(d1, d2, false); else d1 = next.down(d2, d1, true);
+            scale = next;
+        }
+        return JulianDate.of(d1, d2);
+    }
+
+    /** Next scale in the direction of TT, or null for TT */
+    private TimeScale parent() {
+        switch (this) {
+            case UTC: return TAI;
+            case TCB: return TDB;
+            case TT:  return null;
+            default:  return TT;
+        }
+    }
+
+    /** True if the given scale is this one or below it (away from TT) */
+    private boolean above(TimeScale scale) {
+        for (; scale != null; scale = scale.parent())
+            if (scale == this)
+                return true;
+        return false;
+    }
+
+    /*
+     * Every SOFA routine between this scale and its parent changes one part of the date and keeps the other: the
+     * second part if the first one is the larger, otherwise the first part. The conversion steps below return the
+     * changed part, given the kept part (other) and the part to change; swapped is true when the part to change is
+     * the first one.
+     */
+
+    /** If the second part is changed, for the SOFA routines between this scale and its parent */
+    private boolean firstIsBig(double d1, double d2) {
+        return this == UTC ? d1 >= d2 : d1 > d2;
+    }
+
+    /** Convert a part from this scale to its parent */
+    private double up(double other, double part, boolean swapped) {
+        switch (this) {
+            case UTC: return utctai(other, part);
+            case TCG: return part - ((other - DJM0) + (part - T77T)) * ELG;
+            case TDB: return part - dtr(other, part, swapped) / DAYSEC;
+            case TCB: return tcbtdb(other, part);
+            default:  return part + DTAT;
+        }
+    }
+
+    /** Convert a part from the parent to this scale */
+    private double down(double other, double part, boolean swapped) {
+        switch (this) {
+            case UTC: return taiutc(other, part);
+            case TCG: return part + ((other - DJM0) + (part - T77T)) * ELGG;
+            case TDB: return part + dtr(other, part, swapped) / DAYSEC;
+            case TCB: return tdbtcb(other, part, swapped);
+            default:  return part - DTAT;
+        }
+    }
+
+    /** TDB-TT of the date with the given parts */
+    private static double dtr(double other, double part, boolean swapped) {
+        return swapped ? dtr(part, other) : dtr(other, part);
+    }
+
+    /**
+     * Geocentric TDB-TT (seconds), see {@link SofaLibrary#iauDtdb}.
+     */
+    static double dtr(double tt1, double tt2) {
+        return SofaLibrary.iauDtdb(tt1, tt2, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    /** As iauTdbtcb, which has the opposite sign when swapped. */
+    private static double tdbtcb(double other, double part, boolean swapped) {
+        double d = T77TD - other;
+        double f = part - TDB0;
+        return swapped ? f + (d - (f - DTAT)) * ELBB : f - (d - (f - DTAT)) * ELBB;
+    }
+
+    /** As iauTcbtdb. */
+    private static double tcbtdb(double other, double part) {
+        double d = other - T77TD;
+        return part + TDB0 - (d + (part - DTAT)) * ELB;
+    }
+
+    /** As iauUtctai, for the UTC parts u1 &gt;= u2. */
+    private static double utctai(double u1, double u2) {
+        /* Today's Julian Day Number and fraction, as iauJd2cal. */
+        long jd = jd2cal(u1, u2);
+        double fd = fraction(u1, u2);
+        if (jd < -31738L)
+            throw new IllegalArgumentException("UTC dates before -4799 January 1 are not supported");
+
+        /* Get TAI-UTC at 0h today, 12h today (to detect drift) and 0h tomorrow (to detect jumps). */
+        double dat0  = dat(jd, 0.0);
+        double dat12 = dat(jd, 0.5);
+        double dat24 = dat(jd2cal(u1 + 1.5, u2 - fd), 0.0);
+
+        /* Separate TAI-UTC change into per-day (DLOD) and any jump (DLEAP). */
+        double dlod = 2.0 * (dat12 - dat0);
+        double dleap = dat24 - (dat0 + dlod);
+
+        /* Remove any scaling applied to spread leap into preceding day. */
+        fd *= (DAYSEC + dleap) / DAYSEC;
+
+        /* Scale from (pre-1972) UTC seconds to SI seconds. */
+        fd *= (DAYSEC + dlod) / DAYSEC;
+
+        /* Today's calendar date to 2-part JD (iauCal2jd). */
+        double z1 = DJM0, z2 = (double) (jd - 2400001L);
+
+        /* Assemble the TAI result, preserving the UTC split. */
+        double a2 = z1 - u1;
+        a2 += z2;
+        a2 += fd + dat0 / DAYSEC;
+        return a2;
+    }
+
+    /** As iauTaiutc, for the TAI parts a1 &gt;= a2. */
+    private static double taiutc(double a1, double a2) {
+        /* Initial guess for UTC, iterated (though in most cases just once is enough). The first part of the
+           guessed UTC and TAI is always a1. */
+        double u2 = a2;
+        for (int i = 0; i < 3; i++)
+            u2 += a2 - utctai(a1, u2);
+        return u2;
+    }
+
+    /**
+     * Julian Day Number of a two-part date, as iauJd2cal.
+     *
+     * @throws IllegalArgumentException If the date is outside the range of iauJd2cal.
+     */
+    private static long jd2cal(double dj1, double dj2) {
+        /* Verify date is acceptable. */
+        double dj = dj1 + dj2;
+        if (dj < -68569.5 || dj > 1e9)
+            throw new IllegalArgumentException("Julian Date " + dj + " is outside the supported range");
+
+        /* Copy the date, big then small, and re-align to midnight. */
+        double d1 = dj1 >= dj2 ? dj1 : dj2;
+        double d2 = (dj1 >= dj2 ? dj2 : dj1) - 0.5;
+
+        /* Separate day and fraction. */
+        double f1 = d1 % 1.0;
+        double f2 = d2 % 1.0;
+        double f = (f1 + f2) % 1.0;
+        if (f < 0.0) f += 1.0;
+        double d = Math.floor(d1 - f1) + Math.floor(d2 - f2) + Math.floor(f1 + f2 - f);
+        return (long) Math.floor(d) + 1L;
+    }
+
+    /** Fraction of the day (from midnight) of a two-part date (big part first), as iauJd2cal */
+    private static double fraction(double d1, double d2) {
+        double f = ((d1 % 1.0) + ((d2 - 0.5) % 1.0)) % 1.0;
+        return f < 0.0 ? f + 1.0 : f;
+    }
+
+    /** Delta(AT) at a fraction of a day, with the Gregorian calendar date of the Julian Day Number from iauJd2cal */
+    static double dat(long jd, double fd) {
+        long l = jd + 68569L;
+        long n = (4L * l) / 146097L;
+        l -= (146097L * n + 3L) / 4L;
+        long i = (4000L * (l + 1L)) / 1461001L;
+        l -= (1461L * i) / 4L - 31L;
+        long k = (80L * l) / 2447L;
+        int id = (int) (l - (2447L * k) / 80L);
+        l = k / 11L;
+        int im = (int) (k + 2L - 12L * l);
+        int iy = (int) (100L * (n - 49L) + i + l);
+        return LeapSeconds.delta(iy, im, id, fd);
+    }
+
+}
@@ -0,0 +1,959 @@
+package be.angelcorp.sofa;
+
+/**
+ * Pure-Java vector/matrix library: the VectorMatrix routines of SOFA (except the angle formatting routines) on
+ * primitive arrays.<br>
+ * <br>
+ * The arguments are laid out as in {@link SofaArrays}: a p-vector is 3 doubles, an r-matrix 9 doubles in row-major
+ * order and a pv-vector 6 doubles (position, then velocity), each starting at an offset in a Java array. The methods
+ * have the same signatures as their SofaArrays counterparts (without the iau prefix), so a call such as
+ * <code>SofaArrays.iauRxp(r, p, rp)</code> can be replaced by <code>Vml.rxp(r, p, rp)</code>. The native call of
+ * these routines costs much more than their arithmetic, the methods here are small enough to be inlined by the JIT
+ * into the calling loop.<br>
+ * <br>
+ * Every routine performs the same floating point operations in the same order as the C code, so the results are
+ * bit for bit identical to the native library wherever the C code only uses arithmetic, sqrt and fmod. Routines that
+ * call sin, cos or atan2 (rotations, rotation vectors, separations, position angles and spherical coordinates) use
+ * {@link Math}, which may differ from the C library by an ulp. The x86-64-v3 variant of the native library (see
+ * {@link NativeVariant}) may contract multiply-adds into fused instructions and then differs slightly as well.<br>
+ * <br>
+ * As in SOFA, a returned vector or matrix may be the same array region as a given one (for example
+ * <code>Vml.rxr(a, b, a)</code>).<br>
+ * <br>
+ * This class uses computations derived from the VectorMatrix routines of the IAU SOFA software collection (release
+ * 2013-12-02), and does not itself constitute software provided by and/or endorsed by SOFA. It differs from the
+ * original in that it operates on offsets in flat Java arrays.
+ */
+public final class Vml {
+
+    /* 2Pi and Pi, as in sofam.h */
+    private static final double D2PI = 6.283185307179586476925287;
+    private static final double DPI  = 3.141592653589793238462643;
+
+    private Vml() {
+    }
+
+    /* Operations on angles */
+
+    /**
+     * Normalize angle into the range 0 &lt;= a &lt; 2pi, see {@link SofaLibrary#iauAnp}.
+     */
+    public static double anp(double a) {
+        double w = a % D2PI;
+        if (w < 0) w += D2PI;
+        return w;
+    }
+
+    /**
+     * Normalize angle into the range -pi &lt;= a &lt; +pi, see {@link SofaLibrary#iauAnpm}.
+     */
+    public static double anpm(double a) {
+        double w = a % D2PI;
+        if (Math.abs(w) >= DPI) w -= (a < 0.0 ? -D2PI : D2PI);
+        return w;
+    }
+
+    /* Build rotations */
+
+    /**
+     * Rotate an r-matrix about the x-axis, see {@link SofaLibrary#iauRx}.
+     */
+    public static void rx(double phi, double[] r, int rOffset) {
+        double s = Math.sin(phi);
+        double c = Math.cos(phi);
+        double r10 = r[rOffset + 3], r11 = r[rOffset + 4], r12 = r[rOffset + 5];
+        double r20 = r[rOffset + 6], r21 = r[rOffset + 7], r22 = r[rOffset + 8];
+        r[rOffset + 3] =   c * r10 + s * r20;
+        r[rOffset + 4] =   c * r11 + s * r21;
+        r[rOffset + 5] =   c * r12 + s * r22;
+        r[rOffset + 6] = - s * r10 + c * r20;
+        r[rOffset + 7] = - s * r11 + c * r21;
+        r[rOffset + 8] = - s * r12 + c * r22;
+    }
+
+    /** See {@link #rx(double, double[], int)}. */
+    public static void rx(double phi, double[] r) {
+        rx(phi, r, 0);
+    }
+
+    /**
+     * Rotate an r-matrix about the y-axis, see {@link SofaLibrary#iauRy}.
+     */
+    public static void ry(double theta, double[] r, int rOffset) {
+        double s = Math.sin(theta);
+        double c = Math.cos(theta);
+        double r00 = r[rOffset],     r01 = r[rOffset + 1], r02 = r[rOffset + 2];
+        double r20 = r[rOffset + 6], r21 = r[rOffset + 7], r22 = r[rOffset + 8];
+        r[rOffset]     = c * r00 - s * r20;
+        r[rOffset + 1] = c * r01 - s * r21;
+        r[rOffset + 2] = c * r02 - s * r22;
+        r[rOffset + 6] = s * r00 + c * r20;
+        r[rOffset + 7] = s * r01 + c * r21;
+        r[rOffset + 8] = s * r02 + c * r22;
+    }
+
+    /** See {@link #ry(double, double[], int)}. */
+    public static void ry(double theta, double[] r) {
+        ry(theta, r, 0);
+    }
+
+    /**
+     * Rotate an r-matrix about the z-axis, see {@link SofaLibrary#iauRz}.
+     */
+    public static void rz(double psi, double[] r, int rOffset) {
+        double s = Math.sin(psi);
+        double c = Math.cos(psi);
+        double r00 = r[rOffset],     r01 = r[rOffset + 1], r02 = r[rOffset + 2];
+        double r10 = r[rOffset + 3], r11 = r[rOffset + 4], r12 = r[rOffset + 5];
+        r[rOffset]     =   c * r00 + s * r10;
+        r[rOffset + 1] =   c * r01 + s * r11;
+        r[rOffset + 2] =   c * r02 + s * r12;
+        r[rOffset + 3] = - s * r00 + c * r10;
+        r[rOffset + 4] = - s * r01 + c * r11;
+        r[rOffset + 5] = - s * r02 + c * r12;
+    }
+
+    /** See {@link #rz(double, double[], int)}. */
+    public static void rz(double psi, double[] r) {
+        rz(psi, r, 0);
+    }
+
+    /* Copy, extend and extract */
+
+    /**
+     * Copy a p-vector, see {@link SofaLibrary#iauCp}.
+     */
+    public static void cp(double[] p, int pOffset, double[] c, int cOffset) {
+        System.arraycopy(p, pOffset, c, cOffset, 3);
+    }
+
+    /** See {@link #cp(double[], int, double[], int)}. */
+    public static void cp(double[] p, double[] c) {
+        cp(p, 0, c, 0);
+    }
+
+    /**
+     * Copy a position/velocity vector, see {@link SofaLibrary#iauCpv}.
+     */
+    public static void cpv(double[] pv, int pvOffset, double[] c, int cOffset) {
+        System.arraycopy(pv, pvOffset, c, cOffset, 6);
+    }
+
+    /** See {@link #cpv(double[], int, double[], int)}. */
+    public static void cpv(double[] pv, double[] c) {
+        cpv(pv, 0, c, 0);
+    }
+
+    /**
+     * Copy an r-matrix, see {@link SofaLibrary#iauCr}.
+     */
+    public static void cr(double[] r, int rOffset, double[] c, int cOffset) {
+        System.arraycopy(r, rOffset, c, cOffset, 9);
+    }
+
+    /** See {@link #cr(double[], int, double[], int)}. */
+    public static void cr(double[] r, double[] c) {
+        cr(r, 0, c, 0);
+    }
+
+    /**
+     * Extend a p-vector to a pv-vector by appending a zero velocity, see {@link SofaLibrary#iauP2pv}.
+     */
+    public static void p2pv(double[] p, int pOffset, double[] pv, int pvOffset) {
+        System.arraycopy(p, pOffset, pv, pvOffset, 3);
+        pv[pvOffset + 3] = 0.0;
+        pv[pvOffset + 4] = 0.0;
+        pv[pvOffset + 5] = 0.0;
+    }
+
+    /** See {@link #p2pv(double[], int, double[], int)}. */
+    public static void p2pv(double[] p, double[] pv) {
+        p2pv(p, 0, pv, 0);
+    }
+
+    /**
+     * Discard velocity component of a pv-vector, see {@link SofaLibrary#iauPv2p}.
+     */
+    public static void pv2p(double[] pv, int pvOffset, double[] p, int pOffset) {
+        System.arraycopy(pv, pvOffset, p, pOffset, 3);
+    }
+
+    /** See {@link #pv2p(double[], int, double[], int)}. */
+    public static void pv2p(double[] pv, double[] p) {
+        pv2p(pv, 0, p, 0);
+    }
+
+    /* Initialization */
+
+    /**
+     * Initialize an r-matrix to the identity matrix, see {@link SofaLibrary#iauIr}.
+     */
+    public static void ir(double[] r, int rOffset) {
+        r[rOffset]     = 1.0;
+        r[rOffset + 1] = 0.0;
+        r[rOffset + 2] = 0.0;
+        r[rOffset + 3] = 0.0;
+        r[rOffset + 4] = 1.0;
+        r[rOffset + 5] = 0.0;
+        r[rOffset + 6] = 0.0;
+        r[rOffset + 7] = 0.0;
+        r[rOffset + 8] = 1.0;
+    }
+
+    /** See {@link #ir(double[], int)}. */
+    public static void ir(double[] r) {
+        ir(r, 0);
+    }
+
+    /**
+     * Zero a p-vector, see {@link SofaLibrary#iauZp}.
+     */
+    public static void zp(double[] p, int pOffset) {
+        p[pOffset]     = 0.0;
+        p[pOffset + 1] = 0.0;
+        p[pOffset + 2] = 0.0;
+    }
+
+    /** See {@link #zp(double[], int)}. */
+    public static void zp(double[] p) {
+        zp(p, 0);
+    }
+
+    /**
+     * Zero a pv-vector, see {@link SofaLibrary#iauZpv}.
+     */
+    public static void zpv(double[] pv, int pvOffset) {
+        zp(pv, pvOffset);
+        zp(pv, pvOffset + 3);
+    }
+
+    /** See {@link #zpv(double[], int)}. */
+    public static void zpv(double[] pv) {
+        zpv(pv, 0);
+    }
+
+    /**
+     * Initialize an r-matrix to the null matrix, see {@link SofaLibrary#iauZr}.
+     */
+    public static void zr(double[] r, int rOffset) {
+        zp(r, rOffset);
+        zp(r, rOffset + 3);
+        zp(r, rOffset + 6);
+    }
+
+    /** See {@link #zr(double[], int)}. */
+    public static void zr(double[] r) {
+        zr(r, 0);
+    }
+
+    /* Matrix operations */
+
+    /**
+     * Multiply two r-matrices, see {@link SofaLibrary#iauRxr}.
+     */
+    public static void rxr(double[] a, int aOffset, double[] b, int bOffset, double[] atb, int atbOffset) {
+        /* b is read first and each row of a just before it is replaced, so atb may be either of them */
+        double b00 = b[bOffset],     b01 = b[bOffset + 1], b02 = b[bOffset + 2];
+        double b10 = b[bOffset + 3], b11 = b[bOffset + 4], b12 = b[bOffset + 5];
+        double b20 = b[bOffset + 6], b21 = b[bOffset + 7], b22 = b[bOffset + 8];
+        rowxr(a, aOffset,     b00, b01, b02, b10, b11, b12, b20, b21, b22, atb, atbOffset);
+        rowxr(a, aOffset + 3, b00, b01, b02, b10, b11, b12, b20, b21, b22, atb, atbOffset + 3);
+        rowxr(a, aOffset + 6, b00, b01, b02, b10, b11, b12, b20, b21, b22, atb, atbOffset + 6);
+    }
+
+    /** One row of {@link #rxr}, kept separate so that both stay small enough to be inlined. */
+    private static void rowxr(double[] a, int aOffset, double b00, double b01, double b02, double b10, double b11,
+                              double b12, double b20, double b21, double b22, double[] atb, int atbOffset) {
+        double a0 = a[aOffset], a1 = a[aOffset + 1], a2 = a[aOffset + 2];
+        atb[atbOffset]     = 0.0 + a0 * b00 + a1 * b10 + a2 * b20;
+        atb[atbOffset + 1] = 0.0 + a0 * b01 + a1 * b11 + a2 * b21;
+        atb[atbOffset + 2] = 0.0 + a0 * b02 + a1 * b12 + a2 * b22;
+    }
+
+    /** See {@link #rxr(double[], int, double[], int, double[], int)}. */
+    public static void rxr(double[] a, double[] b, double[] atb) {
+        rxr(a, 0, b, 0, atb, 0);
+    }
+
+    /**
+     * Transpose an r-matrix, see {@link SofaLibrary#iauTr}.
+     */
+    public static void tr(double[] r, int rOffset, double[] rt, int rtOffset) {
+        double r01 = r[rOffset + 1], r02 = r[rOffset + 2], r10 = r[rOffset + 3];
+        double r12 = r[rOffset + 5], r20 = r[rOffset + 6], r21 = r[rOffset + 7];
+        rt[rtOffset]     = r[rOffset];
+        rt[rtOffset + 4] = r[rOffset + 4];
+        rt[rtOffset + 8] = r[rOffset + 8];
+        rt[rtOffset + 1] = r10;
+        rt[rtOffset + 2] = r20;
+        rt[rtOffset + 3] = r01;
+        rt[rtOffset + 5] = r21;
+        rt[rtOffset + 6] = r02;
+        rt[rtOffset + 7] = r12;
+    }
+
+    /** See {@link #tr(double[], int, double[], int)}. */
+    public static void tr(double[] r, double[] rt) {
+        tr(r, 0, rt, 0);
+    }
+
+    /* Matrix-vector products */
+
+    /**
+     * Multiply a p-vector by an r-matrix, see {@link SofaLibrary#iauRxp}.
+     */
+    public static void rxp(double[] r, int rOffset, double[] p, int pOffset, double[] rp, int rpOffset) {
+        double p0 = p[pOffset], p1 = p[pOffset + 1], p2 = p[pOffset + 2];
+        double w0 = 0.0 + r[rOffset]     * p0 + r[rOffset + 1] * p1 + r[rOffset + 2] * p2;
+        double w1 = 0.0 + r[rOffset + 3] * p0 + r[rOffset + 4] * p1 + r[rOffset + 5] * p2;
+        double w2 = 0.0 + r[rOffset + 6] * p0 + r[rOffset + 7] * p1 + r[rOffset + 8] * p2;
+        rp[rpOffset]     = w0;
+        rp[rpOffset + 1] = w1;
+        rp[rpOffset + 2] = w2;
+    }
+
+    /** See {@link #rxp(double[], int, double[], int, double[], int)}. */
+    public static void rxp(double[] r, double[] p, double[] rp) {
+        rxp(r, 0, p, 0, rp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by an r-matrix, see {@link SofaLibrary#iauRxpv}.
+     */
+    public static void rxpv(double[] r, int rOffset, double[] pv, int pvOffset, double[] rpv, int rpvOffset) {
+        double r00 = r[rOffset],     r01 = r[rOffset + 1], r02 = r[rOffset + 2];
+        double r10 = r[rOffset + 3], r11 = r[rOffset + 4], r12 = r[rOffset + 5];
+        double r20 = r[rOffset + 6], r21 = r[rOffset + 7], r22 = r[rOffset + 8];
+        double p0 = pv[pvOffset],     p1 = pv[pvOffset + 1], p2 = pv[pvOffset + 2];
+        double v0 = pv[pvOffset + 3], v1 = pv[pvOffset + 4], v2 = pv[pvOffset + 5];
+        rpv[rpvOffset]     = 0.0 + r00 * p0 + r01 * p1 + r02 * p2;
+        rpv[rpvOffset + 1] = 0.0 + r10 * p0 + r11 * p1 + r12 * p2;
+        rpv[rpvOffset + 2] = 0.0 + r20 * p0 + r21 * p1 + r22 * p2;
+        rpv[rpvOffset + 3] = 0.0 + r00 * v0 + r01 * v1 + r02 * v2;
+        rpv[rpvOffset + 4] = 0.0 + r10 * v0 + r11 * v1 + r12 * v2;
+        rpv[rpvOffset + 5] = 0.0 + r20 * v0 + r21 * v1 + r22 * v2;
+    }
+
+    /** See {@link #rxpv(double[], int, double[], int, double[], int)}. */
+    public static void rxpv(double[] r, double[] pv, double[] rpv) {
+        rxpv(r, 0, pv, 0, rpv, 0);
+    }
+
+    /**
+     * Multiply a p-vector by the transpose of an r-matrix, see {@link SofaLibrary#iauTrxp}.
+     */
+    public static void trxp(double[] r, int rOffset, double[] p, int pOffset, double[] trp, int trpOffset) {
+        double p0 = p[pOffset], p1 = p[pOffset + 1], p2 = p[pOffset + 2];
+        double w0 = 0.0 + r[rOffset]     * p0 + r[rOffset + 3] * p1 + r[rOffset + 6] * p2;
+        double w1 = 0.0 + r[rOffset + 1] * p0 + r[rOffset + 4] * p1 + r[rOffset + 7] * p2;
+        double w2 = 0.0 + r[rOffset + 2] * p0 + r[rOffset + 5] * p1 + r[rOffset + 8] * p2;
+        trp[trpOffset]     = w0;
+        trp[trpOffset + 1] = w1;
+        trp[trpOffset + 2] = w2;
+    }
+
+    /** See {@link #trxp(double[], int, double[], int, double[], int)}. */
+    public static void trxp(double[] r, double[] p, double[] trp) {
+        trxp(r, 0, p, 0, trp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by the transpose of an r-matrix, see {@link SofaLibrary#iauTrxpv}.
+     */
+    public static void trxpv(double[] r, int rOffset, double[] pv, int pvOffset, double[] trpv, int trpvOffset) {
+        double r00 = r[rOffset],     r01 = r[rOffset + 1], r02 = r[rOffset + 2];
+        double r10 = r[rOffset + 3], r11 = r[rOffset + 4], r12 = r[rOffset + 5];
+        double r20 = r[rOffset + 6], r21 = r[rOffset + 7], r22 = r[rOffset + 8];
+        double p0 = pv[pvOffset],     p1 = pv[pvOffset + 1], p2 = pv[pvOffset + 2];
+        double v0 = pv[pvOffset + 3], v1 = pv[pvOffset + 4], v2 = pv[pvOffset + 5];
+        trpv[trpvOffset]     = 0.0 + r00 * p0 + r10 * p1 + r20 * p2;
+        trpv[trpvOffset + 1] = 0.0 + r01 * p0 + r11 * p1 + r21 * p2;
+        trpv[trpvOffset + 2] = 0.0 + r02 * p0 + r12 * p1 + r22 * p2;
+        trpv[trpvOffset + 3] = 0.0 + r00 * v0 + r10 * v1 + r20 * v2;
+        trpv[trpvOffset + 4] = 0.0 + r01 * v0 + r11 * v1 + r21 * v2;
+        trpv[trpvOffset + 5] = 0.0 + r02 * v0 + r12 * v1 + r22 * v2;
+    }
+
+    /** See {@link #trxpv(double[], int, double[], int, double[], int)}. */
+    public static void trxpv(double[] r, double[] pv, double[] trpv) {
+        trxpv(r, 0, pv, 0, trpv, 0);
+    }
+
+    /* Rotation vectors */
+
+    /**
+     * Express an r-matrix as an r-vector, see {@link SofaLibrary#iauRm2v}.
+     */
+    public static void rm2v(double[] r, int rOffset, double[] w, int wOffset) {
+        double x = r[rOffset + 5] - r[rOffset + 7];
+        double y = r[rOffset + 6] - r[rOffset + 2];
+        double z = r[rOffset + 1] - r[rOffset + 3];
+        double s2 = Math.sqrt(x * x + y * y + z * z);
+        if (s2 != 0) {
+            double c2 = r[rOffset] + r[rOffset + 4] + r[rOffset + 8] - 1.0;
+            double phi = Math.atan2(s2, c2);
+            double f = phi / s2;
+            w[wOffset]     = x * f;
+            w[wOffset + 1] = y * f;
+            w[wOffset + 2] = z * f;
+        } else {
+            zp(w, wOffset);
+        }
+    }
+
+    /** See {@link #rm2v(double[], int, double[], int)}. */
+    public static void rm2v(double[] r, double[] w) {
+        rm2v(r, 0, w, 0);
+    }
+
+    /**
+     * Form the r-matrix corresponding to a given r-vector, see {@link SofaLibrary#iauRv2m}.
+     */
+    public static void rv2m(double[] w, int wOffset, double[] r, int rOffset) {
+        double x = w[wOffset], y = w[wOffset + 1], z = w[wOffset + 2];
+        double phi = Math.sqrt(x * x + y * y + z * z);
+        double s = Math.sin(phi);
+        double c = Math.cos(phi);
+        double f = 1.0 - c;
+        if (phi != 0.0) {
+            x /= phi;
+            y /= phi;
+            z /= phi;
+        }
+        r[rOffset]     = x * x * f + c;
+        r[rOffset + 1] = x * y * f + z * s;
+        r[rOffset + 2] = x * z * f - y * s;
+        r[rOffset + 3] = y * x * f - z * s;
+        r[rOffset + 4] = y * y * f + c;
+        r[rOffset + 5] = y * z * f + x * s;
+        r[rOffset + 6] = z * x * f + y * s;
+        r[rOffset + 7] = z * y * f - x * s;
+        r[rOffset + 8] = z * z * f + c;
+    }
+
+    /** See {@link #rv2m(double[], int, double[], int)}. */
+    public static void rv2m(double[] w, double[] r) {
+        rv2m(w, 0, r, 0);
+    }
+
+    /* Separation and position-angle */
+
+    /**
+     * Position-angle from two p-vectors, see {@link SofaLibrary#iauPap}.
+     */
+    public static double pap(double[] a, int aOffset, double[] b, int bOffset) {
+        double xa = a[aOffset], ya = a[aOffset + 1], za = a[aOffset + 2];
+        double am = Math.sqrt(xa * xa + ya * ya + za * za);
+        double bm = pm(b, bOffset);
+
+        double st, ct;
+        if ((am == 0.0) || (bm == 0.0)) {
+            st = 0.0;
+            ct = 1.0;
+        } else {
+            /* Direction of a, as iauPn */
+            double f = 1.0 / am;
+            double ux = f * xa, uy = f * ya, uz = f * za;
+
+            /* The "north" axis tangential from a (arbitrary length) */
+            double etax = -xa * za;
+            double etay = -ya * za;
+            double etaz =  xa * xa + ya * ya;
+
+            /* The "east" axis tangential from a (same length) */
+            double xix = etay * uz - etaz * uy;
+            double xiy = etaz * ux - etax * uz;
+            double xiz = etax * uy - etay * ux;
+
+            /* The vector from a to b */
+            double dx = b[bOffset] - xa, dy = b[bOffset + 1] - ya, dz = b[bOffset + 2] - za;
+
+            /* Resolve into components along the north and east axes */
+            st = dx * xix + dy * xiy + dz * xiz;
+            ct = dx * etax + dy * etay + dz * etaz;
+            if ((st == 0.0) && (ct == 0.0)) ct = 1.0;
+        }
+        return Math.atan2(st, ct);
+    }
+
+    /** See {@link #pap(double[], int, double[], int)}. */
+    public static double pap(double[] a, double[] b) {
+        return pap(a, 0, b, 0);
+    }
+
+    /**
+     * Position-angle from spherical coordinates, see {@link SofaLibrary#iauPas}.
+     */
+    public static double pas(double al, double ap, double bl, double bp) {
+        double dl = bl - al;
+        double y = Math.sin(dl) * Math.cos(bp);
+        double x = Math.sin(bp) * Math.cos(ap) - Math.cos(bp) * Math.sin(ap) * Math.cos(dl);
+        return ((x != 0.0) || (y != 0.0)) ? Math.atan2(y, x) : 0.0;
+    }
+
+    /**
+     * Angular separation between two p-vectors, see {@link SofaLibrary#iauSepp}.
+     */
+    public static double sepp(double[] a, int aOffset, double[] b, int bOffset) {
+        return sepp(a[aOffset], a[aOffset + 1], a[aOffset + 2], b[bOffset], b[bOffset + 1], b[bOffset + 2]);
+    }
+
+    /** See {@link #sepp(double[], int, double[], int)}. */
+    public static double sepp(double[] a, double[] b) {
+        return sepp(a, 0, b, 0);
+    }
+
+    private static double sepp(double xa, double ya, double za, double xb, double yb, double zb) {
+        /* Sine of angle between the vectors, multiplied by the two moduli */
+        double x = ya * zb - za * yb;
+        double y = za * xb - xa * zb;
+        double z = xa * yb - ya * xb;
+        double ss = Math.sqrt(x * x + y * y + z * z);
+
+        /* Cosine of the angle, multiplied by the two moduli */
+        double cs = xa * xb + ya * yb + za * zb;
+
+        return ((ss != 0.0) || (cs != 0.0)) ? Math.atan2(ss, cs) : 0.0;
+    }
+
+    /**
+     * Angular separation between two sets of spherical coordinates, see {@link SofaLibrary#iauSeps}.
+     */
+    public static double seps(double al, double ap, double bl, double bp) {
+        double cpa = Math.cos(ap);
+        double cpb = Math.cos(bp);
+        return sepp(Math.cos(al) * cpa, Math.sin(al) * cpa, Math.sin(ap),
+                    Math.cos(bl) * cpb, Math.sin(bl) * cpb, Math.sin(bp));
+    }
+
+    /* Spherical/Cartesian conversions */
+
+    /**
+     * P-vector to spherical coordinates, see {@link SofaLibrary#iauC2s}.
+     */
+    public static void c2s(double[] p, int pOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset) {
+        double x = p[pOffset], y = p[pOffset + 1], z = p[pOffset + 2];
+        double d2 = x * x + y * y;
+        theta[thetaOffset] = (d2 == 0.0) ? 0.0 : Math.atan2(y, x);
+        phi[phiOffset] = (z == 0.0) ? 0.0 : Math.atan2(z, Math.sqrt(d2));
+    }
+
+    /** See {@link #c2s(double[], int, double[], int, double[], int)}. */
+    public static void c2s(double[] p, double[] theta, double[] phi) {
+        c2s(p, 0, theta, 0, phi, 0);
+    }
+
+    /**
+     * P-vector to spherical polar coordinates, see {@link SofaLibrary#iauP2s}.
+     */
+    public static void p2s(double[] p, int pOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset, double[] r, int rOffset) {
+        double m = pm(p, pOffset);
+        c2s(p, pOffset, theta, thetaOffset, phi, phiOffset);
+        r[rOffset] = m;
+    }
+
+    /** See {@link #p2s(double[], int, double[], int, double[], int, double[], int)}. */
+    public static void p2s(double[] p, double[] theta, double[] phi, double[] r) {
+        p2s(p, 0, theta, 0, phi, 0, r, 0);
+    }
+
+    /**
+     * Convert position/velocity from Cartesian to spherical coordinates, see {@link SofaLibrary#iauPv2s}.
+     */
+    public static void pv2s(double[] pv, int pvOffset, double[] theta, int thetaOffset, double[] phi, int phiOffset,
+                            double[] r, int rOffset, double[] td, int tdOffset, double[] pd, int pdOffset, double[] rd, int rdOffset) {
+        double x  = pv[pvOffset],     y  = pv[pvOffset + 1], z  = pv[pvOffset + 2];
+        double xd = pv[pvOffset + 3], yd = pv[pvOffset + 4], zd = pv[pvOffset + 5];
+
+        /* Component of r in XY plane squared, modulus squared and modulus */
+        double rxy2 = x * x + y * y;
+        double r2 = rxy2 + z * z;
+        double rtrue = Math.sqrt(r2);
+
+        /* If null vector, move the origin along the direction of movement */
+        double rw = rtrue;
+        if (rtrue == 0.0) {
+            x = xd;
+            y = yd;
+            z = zd;
+            rxy2 = x * x + y * y;
+            r2 = rxy2 + z * z;
+            rw = Math.sqrt(r2);
+        }
+
+        /* Position and velocity in spherical coordinates */
+        double rxy = Math.sqrt(rxy2);
+        double xyp = x * xd + y * yd;
+        if (rxy2 != 0.0) {
+            theta[thetaOffset] = Math.atan2(y, x);
+            phi[phiOffset] = Math.atan2(z, rxy);
+            td[tdOffset] = (x * yd - y * xd) / rxy2;
+            pd[pdOffset] = (zd * rxy2 - z * xyp) / (r2 * rxy);
+        } else {
+            theta[thetaOffset] = 0.0;
+            phi[phiOffset] = (z != 0.0) ? Math.atan2(z, rxy) : 0.0;
+            td[tdOffset] = 0.0;
+            pd[pdOffset] = 0.0;
+        }
+        r[rOffset] = rtrue;
+        rd[rdOffset] = (rw != 0.0) ? (xyp + z * zd) / rw : 0.0;
+    }
+
+    /** See {@link #pv2s(double[], int, double[], int, double[], int, double[], int, double[], int, double[], int, double[], int)}. */
+    public static void pv2s(double[] pv, double[] theta, double[] phi, double[] r, double[] td, double[] pd, double[] rd) {
+        pv2s(pv, 0, theta, 0, phi, 0, r, 0, td, 0, pd, 0, rd, 0);
+    }
+
+    /**
+     * Convert spherical coordinates to Cartesian, see {@link SofaLibrary#iauS2c}.
+     */
+    public static void s2c(double theta, double phi, double[] c, int cOffset) {
+        double cp = Math.cos(phi);
+        c[cOffset]     = Math.cos(theta) * cp;
+        c[cOffset + 1] = Math.sin(theta) * cp;
+        c[cOffset + 2] = Math.sin(phi);
+    }
+
+    /** See {@link #s2c(double, double, double[], int)}. */
+    public static void s2c(double theta, double phi, double[] c) {
+        s2c(theta, phi, c, 0);
+    }
+
+    /**
+     * Convert spherical polar coordinates to p-vector, see {@link SofaLibrary#iauS2p}.
+     */
+    public static void s2p(double theta, double phi, double r, double[] p, int pOffset) {
+        double cp = Math.cos(phi);
+        p[pOffset]     = r * (Math.cos(theta) * cp);
+        p[pOffset + 1] = r * (Math.sin(theta) * cp);
+        p[pOffset + 2] = r * Math.sin(phi);
+    }
+
+    /** See {@link #s2p(double, double, double, double[], int)}. */
+    public static void s2p(double theta, double phi, double r, double[] p) {
+        s2p(theta, phi, r, p, 0);
+    }
+
+    /**
+     * Convert position/velocity from spherical to Cartesian coordinates, see {@link SofaLibrary#iauS2pv}.
+     */
+    public static void s2pv(double theta, double phi, double r, double td, double pd, double rd, double[] pv, int pvOffset) {
+        double st = Math.sin(theta);
+        double ct = Math.cos(theta);
+        double sp = Math.sin(phi);
+        double cp = Math.cos(phi);
+        double rcp = r * cp;
+        double x = rcp * ct;
+        double y = rcp * st;
+        double rpd = r * pd;
+        double w = rpd * sp - cp * rd;
+        pv[pvOffset]     = x;
+        pv[pvOffset + 1] = y;
+        pv[pvOffset + 2] = r * sp;
+        pv[pvOffset + 3] = -y * td - w * ct;
+        pv[pvOffset + 4] =  x * td - w * st;
+        pv[pvOffset + 5] = rpd * cp + sp * rd;
+    }
+
+    /** See {@link #s2pv(double, double, double, double, double, double, double[], int)}. */
+    public static void s2pv(double theta, double phi, double r, double td, double pd, double rd, double[] pv) {
+        s2pv(theta, phi, r, td, pd, rd, pv, 0);
+    }
+
+    /* Operations on vectors */
+
+    /**
+     * P-vector inner (=scalar=dot) product, see {@link SofaLibrary#iauPdp}.
+     */
+    public static double pdp(double[] a, int aOffset, double[] b, int bOffset) {
+        return a[aOffset]     * b[bOffset]
+             + a[aOffset + 1] * b[bOffset + 1]
+             + a[aOffset + 2] * b[bOffset + 2];
+    }
+
+    /** See {@link #pdp(double[], int, double[], int)}. */
+    public static double pdp(double[] a, double[] b) {
+        return pdp(a, 0, b, 0);
+    }
+
+    /**
+     * Modulus of p-vector, see {@link SofaLibrary#iauPm}.
+     */
+    public static double pm(double[] p, int pOffset) {
+        double x = p[pOffset], y = p[pOffset + 1], z = p[pOffset + 2];
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /** See {@link #pm(double[], int)}. */
+    public static double pm(double[] p) {
+        return pm(p, 0);
+    }
+
+    /**
+     * P-vector subtraction, see {@link SofaLibrary#iauPmp}.
+     */
+    public static void pmp(double[] a, int aOffset, double[] b, int bOffset, double[] amb, int ambOffset) {
+        double x = a[aOffset]     - b[bOffset];
+        double y = a[aOffset + 1] - b[bOffset + 1];
+        double z = a[aOffset + 2] - b[bOffset + 2];
+        amb[ambOffset]     = x;
+        amb[ambOffset + 1] = y;
+        amb[ambOffset + 2] = z;
+    }
+
+    /** See {@link #pmp(double[], int, double[], int, double[], int)}. */
+    public static void pmp(double[] a, double[] b, double[] amb) {
+        pmp(a, 0, b, 0, amb, 0);
+    }
+
+    /**
+     * Convert a p-vector into modulus and unit vector, see {@link SofaLibrary#iauPn}.
+     */
+    public static void pn(double[] p, int pOffset, double[] r, int rOffset, double[] u, int uOffset) {
+        double x = p[pOffset], y = p[pOffset + 1], z = p[pOffset + 2];
+        double w = Math.sqrt(x * x + y * y + z * z);
+        if (w == 0.0) {
+            zp(u, uOffset);
+        } else {
+            double f = 1.0 / w;
+            u[uOffset]     = f * x;
+            u[uOffset + 1] = f * y;
+            u[uOffset + 2] = f * z;
+        }
+        r[rOffset] = w;
+    }
+
+    /** See {@link #pn(double[], int, double[], int, double[], int)}. */
+    public static void pn(double[] p, double[] r, double[] u) {
+        pn(p, 0, r, 0, u, 0);
+    }
+
+    /**
+     * P-vector addition, see {@link SofaLibrary#iauPpp}.
+     */
+    public static void ppp(double[] a, int aOffset, double[] b, int bOffset, double[] apb, int apbOffset) {
+        double x = a[aOffset]     + b[bOffset];
+        double y = a[aOffset + 1] + b[bOffset + 1];
+        double z = a[aOffset + 2] + b[bOffset + 2];
+        apb[apbOffset]     = x;
+        apb[apbOffset + 1] = y;
+        apb[apbOffset + 2] = z;
+    }
+
+    /** See {@link #ppp(double[], int, double[], int, double[], int)}. */
+    public static void ppp(double[] a, double[] b, double[] apb) {
+        ppp(a, 0, b, 0, apb, 0);
+    }
+
+    /**
+     * P-vector plus scaled p-vector, see {@link SofaLibrary#iauPpsp}.
+     */
+    public static void ppsp(double[] a, int aOffset, double s, double[] b, int bOffset, double[] apsb, int apsbOffset) {
+        double x = a[aOffset]     + s * b[bOffset];
+        double y = a[aOffset + 1] + s * b[bOffset + 1];
+        double z = a[aOffset + 2] + s * b[bOffset + 2];
+        apsb[apsbOffset]     = x;
+        apsb[apsbOffset + 1] = y;
+        apsb[apsbOffset + 2] = z;
+    }
+
+    /** See {@link #ppsp(double[], int, double, double[], int, double[], int)}. */
+    public static void ppsp(double[] a, double s, double[] b, double[] apsb) {
+        ppsp(a, 0, s, b, 0, apsb, 0);
+    }
+
+    /**
+     * Inner (=scalar=dot) product of two pv-vectors, see {@link SofaLibrary#iauPvdpv}.
+     *
+     * @param adb Returned a . b (2 elements: value and rate of change).
+     */
+    public static void pvdpv(double[] a, int aOffset, double[] b, int bOffset, double[] adb, int adbOffset) {
+        double adb0 = pdp(a, aOffset, b, bOffset);
+        double adbd = pdp(a, aOffset, b, bOffset + 3);
+        double addb = pdp(a, aOffset + 3, b, bOffset);
+        adb[adbOffset]     = adb0;
+        adb[adbOffset + 1] = adbd + addb;
+    }
+
+    /** See {@link #pvdpv(double[], int, double[], int, double[], int)}. */
+    public static void pvdpv(double[] a, double[] b, double[] adb) {
+        pvdpv(a, 0, b, 0, adb, 0);
+    }
+
+    /**
+     * Modulus of pv-vector, see {@link SofaLibrary#iauPvm}.
+     */
+    public static void pvm(double[] pv, int pvOffset, double[] r, int rOffset, double[] s, int sOffset) {
+        double m = pm(pv, pvOffset);
+        double v = pm(pv, pvOffset + 3);
+        r[rOffset] = m;
+        s[sOffset] = v;
+    }
+
+    /** See {@link #pvm(double[], int, double[], int, double[], int)}. */
+    public static void pvm(double[] pv, double[] r, double[] s) {
+        pvm(pv, 0, r, 0, s, 0);
+    }
+
+    /**
+     * Subtract one pv-vector from another, see {@link SofaLibrary#iauPvmpv}.
+     */
+    public static void pvmpv(double[] a, int aOffset, double[] b, int bOffset, double[] amb, int ambOffset) {
+        double x  = a[aOffset]     - b[bOffset];
+        double y  = a[aOffset + 1] - b[bOffset + 1];
+        double z  = a[aOffset + 2] - b[bOffset + 2];
+        double xd = a[aOffset + 3] - b[bOffset + 3];
+        double yd = a[aOffset + 4] - b[bOffset + 4];
+        double zd = a[aOffset + 5] - b[bOffset + 5];
+        amb[ambOffset]     = x;
+        amb[ambOffset + 1] = y;
+        amb[ambOffset + 2] = z;
+        amb[ambOffset + 3] = xd;
+        amb[ambOffset + 4] = yd;
+        amb[ambOffset + 5] = zd;
+    }
+
+    /** See {@link #pvmpv(double[], int, double[], int, double[], int)}. */
+    public static void pvmpv(double[] a, double[] b, double[] amb) {
+        pvmpv(a, 0, b, 0, amb, 0);
+    }
+
+    /**
+     * Add one pv-vector to another, see {@link SofaLibrary#iauPvppv}.
+     */
+    public static void pvppv(double[] a, int aOffset, double[] b, int bOffset, double[] apb, int apbOffset) {
+        double x  = a[aOffset]     + b[bOffset];
+        double y  = a[aOffset + 1] + b[bOffset + 1];
+        double z  = a[aOffset + 2] + b[bOffset + 2];
+        double xd = a[aOffset + 3] + b[bOffset + 3];
+        double yd = a[aOffset + 4] + b[bOffset + 4];
+        double zd = a[aOffset + 5] + b[bOffset + 5];
+        apb[apbOffset]     = x;
+        apb[apbOffset + 1] = y;
+        apb[apbOffset + 2] = z;
+        apb[apbOffset + 3] = xd;
+        apb[apbOffset + 4] = yd;
+        apb[apbOffset + 5] = zd;
+    }
+
+    /** See {@link #pvppv(double[], int, double[], int, double[], int)}. */
+    public static void pvppv(double[] a, double[] b, double[] apb) {
+        pvppv(a, 0, b, 0, apb, 0);
+    }
+
+    /**
+     * Update a pv-vector, see {@link SofaLibrary#iauPvu}.
+     */
+    public static void pvu(double dt, double[] pv, int pvOffset, double[] upv, int upvOffset) {
+        double xd = pv[pvOffset + 3], yd = pv[pvOffset + 4], zd = pv[pvOffset + 5];
+        double x = pv[pvOffset]     + dt * xd;
+        double y = pv[pvOffset + 1] + dt * yd;
+        double z = pv[pvOffset + 2] + dt * zd;
+        upv[upvOffset]     = x;
+        upv[upvOffset + 1] = y;
+        upv[upvOffset + 2] = z;
+        upv[upvOffset + 3] = xd;
+        upv[upvOffset + 4] = yd;
+        upv[upvOffset + 5] = zd;
+    }
+
+    /** See {@link #pvu(double, double[], int, double[], int)}. */
+    public static void pvu(double dt, double[] pv, double[] upv) {
+        pvu(dt, pv, 0, upv, 0);
+    }
+
+    /**
+     * Update a pv-vector, discarding the velocity component, see {@link SofaLibrary#iauPvup}.
+     */
+    public static void pvup(double dt, double[] pv, int pvOffset, double[] p, int pOffset) {
+        double x = pv[pvOffset]     + dt * pv[pvOffset + 3];
+        double y = pv[pvOffset + 1] + dt * pv[pvOffset + 4];
+        double z = pv[pvOffset + 2] + dt * pv[pvOffset + 5];
+        p[pOffset]     = x;
+        p[pOffset + 1] = y;
+        p[pOffset + 2] = z;
+    }
+
+    /** See {@link #pvup(double, double[], int, double[], int)}. */
+    public static void pvup(double dt, double[] pv, double[] p) {
+        pvup(dt, pv, 0, p, 0);
+    }
+
+    /**
+     * Outer (=vector=cross) product of two pv-vectors, see {@link SofaLibrary#iauPvxpv}.
+     */
+    public static void pvxpv(double[] a, int aOffset, double[] b, int bOffset, double[] axb, int axbOffset) {
+        double xa  = a[aOffset],     ya  = a[aOffset + 1], za  = a[aOffset + 2];
+        double xad = a[aOffset + 3], yad = a[aOffset + 4], zad = a[aOffset + 5];
+        double xb  = b[bOffset],     yb  = b[bOffset + 1], zb  = b[bOffset + 2];
+        double xbd = b[bOffset + 3], ybd = b[bOffset + 4], zbd = b[bOffset + 5];
+        axb[axbOffset]     = ya * zb - za * yb;
+        axb[axbOffset + 1] = za * xb - xa * zb;
+        axb[axbOffset + 2] = xa * yb - ya * xb;
+        axb[axbOffset + 3] = (ya * zbd - za * ybd) + (yad * zb - zad * yb);
+        axb[axbOffset + 4] = (za * xbd - xa * zbd) + (zad * xb - xad * zb);
+        axb[axbOffset + 5] = (xa * ybd - ya * xbd) + (xad * yb - yad * xb);
+    }
+
+    /** See {@link #pvxpv(double[], int, double[], int, double[], int)}. */
+    public static void pvxpv(double[] a, double[] b, double[] axb) {
+        pvxpv(a, 0, b, 0, axb, 0);
+    }
+
+    /**
+     * P-vector outer (=vector=cross) product, see {@link SofaLibrary#iauPxp}.
+     */
+    public static void pxp(double[] a, int aOffset, double[] b, int bOffset, double[] axb, int axbOffset) {
+        double xa = a[aOffset], ya = a[aOffset + 1], za = a[aOffset + 2];
+        double xb = b[bOffset], yb = b[bOffset + 1], zb = b[bOffset + 2];
+        axb[axbOffset]     = ya * zb - za * yb;
+        axb[axbOffset + 1] = za * xb - xa * zb;
+        axb[axbOffset + 2] = xa * yb - ya * xb;
+    }
+
+    /** See {@link #pxp(double[], int, double[], int, double[], int)}. */
+    public static void pxp(double[] a, double[] b, double[] axb) {
+        pxp(a, 0, b, 0, axb, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by two scalars, see {@link SofaLibrary#iauS2xpv}.
+     */
+    public static void s2xpv(double s1, double s2, double[] pv, int pvOffset, double[] spv, int spvOffset) {
+        sxp(s1, pv, pvOffset, spv, spvOffset);
+        sxp(s2, pv, pvOffset + 3, spv, spvOffset + 3);
+    }
+
+    /** See {@link #s2xpv(double, double, double[], int, double[], int)}. */
+    public static void s2xpv(double s1, double s2, double[] pv, double[] spv) {
+        s2xpv(s1, s2, pv, 0, spv, 0);
+    }
+
+    /**
+     * Multiply a p-vector by a scalar, see {@link SofaLibrary#iauSxp}.
+     */
+    public static void sxp(double s, double[] p, int pOffset, double[] sp, int spOffset) {
+        double x = s * p[pOffset], y = s * p[pOffset + 1], z = s * p[pOffset + 2];
+        sp[spOffset]     = x;
+        sp[spOffset + 1] = y;
+        sp[spOffset + 2] = z;
+    }
+
+    /** See {@link #sxp(double, double[], int, double[], int)}. */
+    public static void sxp(double s, double[] p, double[] sp) {
+        sxp(s, p, 0, sp, 0);
+    }
+
+    /**
+     * Multiply a pv-vector by a scalar, see {@link SofaLibrary#iauSxpv}.
+     */
+    public static void sxpv(double s, double[] pv, int pvOffset, double[] spv, int spvOffset) {
+        s2xpv(s, s, pv, pvOffset, spv, spvOffset);
+    }
+
+    /** See {@link #sxpv(double, double[], int, double[], int)}. */
+    public static void sxpv(double s, double[] pv, double[] spv) {
+        sxpv(s, pv, 0, spv, 0);
+    }
+
+}
@@ -0,0 +1,36 @@
+/**
+ * Java bindings for the IAU SOFA library.<br>
+ * <br>
+ * <b>Thread safety</b><br>
+ * <br>
+ * All functions of {@link be.angelcorp.sofa.SofaLibrary}, {@link be.angelcorp.sofa.SofaArrays},
+ * {@link be.angelcorp.sofa.BulkLibrary} and {@link be.angelcorp.sofa.InstrumentedSofaLibrary} may be called
+ * concurrently from any number of threads, without external locking:
+ * <ul>
+ * <li>The SOFA routines and the bulk extensions are reentrant: they keep no state between calls, only read their
+ * (<code>static const</code>) tables, and write nothing but their own arguments. <code>TestConcurrency</code>
+ * checks the native sources for writable static storage, and runs the SOFA test vectors on many threads at once
+ * (4 by default, more with <code>-Dsofa.stress.threads</code>).</li>
+ * <li>The native library is loaded and bound once, in the static initializer of the binding classes, which the JVM
+ * runs exactly once before any thread can call them.</li>
+ * <li>{@link be.angelcorp.sofa.SofaArrays} and {@link be.angelcorp.sofa.CatalogReducer} copy their arguments
+ * through a native scratch block of the calling thread.</li>
+ * <li>{@link be.angelcorp.sofa.SofaMetrics} records the instrumented calls with lock-free counters.</li>
+ * </ul>
+ * Memory given to a function is, like in C, the caller's responsibility: a {@link org.bridj.Pointer},
+ * {@link be.angelcorp.sofa.iauASTROM} or {@link be.angelcorp.sofa.iauLDBODY} may be read by many threads at once
+ * (e.g. one iauASTROM shared by all threads reducing a catalog), but must not be written by one thread while
+ * another uses it.<br>
+ * <br>
+ * Of the other classes, {@link be.angelcorp.sofa.AstromContext} is confined to the thread that acquired it; a
+ * {@link be.angelcorp.sofa.SofaBuffer} must be sliced by one thread, but distinct elements of its views may be
+ * written concurrently;
+ * {@link be.angelcorp.sofa.PnMatrixCache}, {@link be.angelcorp.sofa.SiderealTime} and
+ * {@link be.angelcorp.sofa.TerrestrialFrameService} (lock-free), {@link be.angelcorp.sofa.AstromCache} (synchronized),
+ * {@link be.angelcorp.sofa.CatalogReducer} and the precomputed tables ({@link be.angelcorp.sofa.EarthEphemeris},
+ * {@link be.angelcorp.sofa.CipTable}, {@link be.angelcorp.sofa.EopTable}, {@link be.angelcorp.sofa.LeapSeconds},
+ * {@link be.angelcorp.sofa.Nutation2000A})
+ * are safe for concurrent use; and a
+ * {@link be.angelcorp.sofa.StarCatalog} can be read concurrently, but its window is not synchronized.
+ */
+package be.angelcorp.sofa;
@@ -0,0 +1,119 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link AstromCache} against the reference values of TestSofa (t_sofa_c.c) and the uncached functions.
+ */
+public class TestAstromCache {
+
+    private static final double UTC1 = 2456384.5;
+    private static final double UTC2 = 0.969254051;
+
+    private static int atco13(AstromCache cache, double utc2, double[] observed) {
+        return cache.atco13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, UTC1, utc2, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, observed);
+    }
+
+    @Test public void t_atco13() {
+        AstromCache cache = new AstromCache(4);
+        double[] observed = new double[6];
+
+        for (int i = 0; i < 3; i++) {
+            int j = atco13(cache, UTC2, observed);
+
+            assertEquals(0.09251774485358230653,  observed[0], 1e-12);
+            assertEquals(1.407661405256767021,    observed[1], 1e-12);
+            assertEquals(-0.09265154431403157925, observed[2], 1e-12);
+            assertEquals(0.1716626560075591655,   observed[3], 1e-12);
+            assertEquals(2.710260453503097719,    observed[4], 1e-12);
+            assertEquals(-0.003020548354802412839, observed[5], 1e-14);
+            assertEquals(0, j);
+        }
+        assertEquals(1, cache.misses());
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test public void t_atio13() {
+        AstromCache cache = new AstromCache(4);
+        double[] observed = new double[5];
+        int j = cache.atio13(2.710121572969038991, 0.1729371367218230438, UTC1, UTC2, 0.1550675, -0.527800806, -1.2345856,
+                2738.0, 2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, observed);
+
+        assertEquals(0.09233952224794989993,  observed[0], 1e-12);
+        assertEquals(1.407758704513722461,    observed[1], 1e-12);
+        assertEquals(-0.09247619879782006106, observed[2], 1e-12);
+        assertEquals(0.1717653435758265198,   observed[3], 1e-12);
+        assertEquals(2.710085107986886201,    observed[4], 1e-12);
+        assertEquals(0, j);
+    }
+
+    @Test public void t_atoc13() {
+        AstromCache cache = new AstromCache(4);
+        double[] rcdc = new double[2];
+        String[] types = { "R", "H", "A" };
+        double[][] observed = {
+                { 2.710085107986886201, 0.1717653435758265198 },
+                { -0.09247619879782006106, 0.1717653435758265198 },
+                { 0.09233952224794989993, 1.407758704513722461 } };
+
+        for (int i = 0; i < types.length; i++) {
+            int j = cache.atoc13(types[i], observed[i][0], observed[i][1], UTC1, UTC2, 0.1550675, -0.527800806, -1.2345856,
+                    2738.0, 2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, rcdc);
+
+            assertEquals(2.709956744661000609,  rcdc[0], 1e-12);
+            assertEquals(0.1741696500895398562, rcdc[1], 1e-12);
+            assertEquals(0, j);
+        }
+        assertEquals(1, cache.misses());
+    }
+
+    @Test public void t_atci13() {
+        AstromCache cache = new AstromCache(4);
+        double[] cirs = new double[3];
+        cache.atci13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, 2456165.5, 0.401182685, cirs);
+
+        assertEquals(2.710121572969038991,  cirs[0], 1e-12);
+        assertEquals(0.1729371367218230438, cirs[1], 1e-12);
+        assertEquals(-0.002900618712657375647, cirs[2], 1e-14);
+    }
+
+    @Test public void tolerance() {
+        // One context per second, compared with the uncached function over a minute of epochs
+        AstromCache cache = new AstromCache(100, 1.0);
+        double[] cached = new double[6];
+        double[] exact  = new double[6];
+        for (int i = 0; i < 600; i++) {
+            double utc2 = UTC2 + i * 0.1 / 86400.0;
+            atco13(cache, utc2, cached);
+            SofaArrays.iauAtco13(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, UTC1, utc2, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                    2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55,
+                    exact, 0, exact, 1, exact, 2, exact, 3, exact, 4, exact, 5);
+
+            // Within 10 microarcseconds (5e-11 rad)
+            for (int k = 0; k < 5; k++)
+                assertEquals(exact[k], cached[k], 5e-11);
+        }
+        assertEquals(61, cache.misses(), 1);
+    }
+
+    @Test public void evicts() {
+        AstromCache cache = new AstromCache(2);
+        double[] observed = new double[6];
+        atco13(cache, 0.1, observed);
+        atco13(cache, 0.2, observed);
+        atco13(cache, 0.1, observed);
+        // Evicts 0.2, the least recently used
+        atco13(cache, 0.3, observed);
+        atco13(cache, 0.1, observed);
+        atco13(cache, 0.2, observed);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.hits());
+        assertEquals(4, cache.misses());
+    }
+
+}
@@ -0,0 +1,138 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link AstromContext} against the reference values of TestSofa (t_sofa_c.c).
+ */
+public class TestAstromContext {
+
+    private static int apco13(AstromContext context) {
+        return context.apco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+    }
+
+    @Test public void t_apco13() {
+        try (AstromContext context = AstromContext.acquire()) {
+            int j = apco13(context);
+
+            double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+            context.get(astrom, 0);
+            assertEquals(13.25248468622475727, astrom[0], 1e-11);
+            assertEquals(2.617608909189066140, context.eral(), 1e-12);
+            assertEquals(-0.003020548354802412839, context.eo(), 1e-14);
+            assertEquals(0, j);
+
+            // The struct view reads the same memory
+            assertEquals(context.eral(), context.astrom().eral(), 0.0);
+        }
+    }
+
+    @Test public void t_atco13() {
+        // iauAtco13 is iauApco13 followed by iauAtciq and iauAtioq
+        try (AstromContext context = AstromContext.acquire()) {
+            apco13(context);
+            context.atciq(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0);
+            context.atioq(context.ri(), context.di());
+
+            assertEquals(0.09251774485358230653,  context.aob(), 1e-12);
+            assertEquals(1.407661405256767021,    context.zob(), 1e-12);
+            assertEquals(-0.09265154431403157925, context.hob(), 1e-12);
+            assertEquals(0.1716626560075591655,   context.dob(), 1e-12);
+            assertEquals(2.710260453503097719,    context.rob(), 1e-12);
+        }
+    }
+
+    @Test public void t_aper13() {
+        try (AstromContext context = AstromContext.acquire()) {
+            double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+            astrom[21] = 1.234;
+            context.set(astrom, 0);
+
+            context.aper13(2456165.5, 0.401182685);
+
+            assertEquals(3.316236661789694933, context.eral(), 1e-12);
+        }
+    }
+
+    @Test public void t_atci13() {
+        try (AstromContext context = AstromContext.acquire()) {
+            context.apci13(2456165.5, 0.401182685);
+            context.atciq(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0);
+
+            assertEquals(2.710121572969038991,  context.ri(), 1e-12);
+            assertEquals(0.1729371367218230438, context.di(), 1e-12);
+            assertEquals(-0.002900618712657375647, context.eo(), 1e-14);
+        }
+    }
+
+    @Test public void pooled() {
+        AstromContext first = AstromContext.acquire();
+        AstromContext second = AstromContext.acquire();
+        assertNotSame(first, second);
+        second.close();
+        first.close();
+
+        // Closing twice does not put the context in the pool twice
+        first.close();
+
+        try (AstromContext again = AstromContext.acquire();
+             AstromContext other = AstromContext.acquire()) {
+            assertSame(first, again);
+            assertSame(second, other);
+        }
+    }
+
+    @Test public void confined() throws InterruptedException {
+        AstromContext context = AstromContext.acquire();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                context.close();
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        context.close();
+
+        assertTrue(error.get() instanceof IllegalStateException);
+    }
+
+    @Test public void allocation_free() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported())
+            return;
+
+        try (AstromContext context = AstromContext.acquire()) {
+            apco13(context);
+            double sum = 0;
+            for (int i = 0; i < 10000; i++) {
+                context.atciq(2.71 + 1e-6 * i, 0.174, 1e-5, 5e-6, 0.1, 55.0);
+                context.atioq(context.ri(), context.di());
+                sum += context.zob();
+            }
+
+            long thread = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < 10000; i++) {
+                context.aper13(2456384.5, 0.969254051 + 1e-8 * i);
+                context.atciq(2.71 + 1e-6 * i, 0.174, 1e-5, 5e-6, 0.1, 55.0);
+                context.atioq(context.ri(), context.di());
+                sum += context.zob();
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            // Allow for some measurement noise, but certainly not a few bytes per call
+            assertEquals(0, allocated, 1024);
+            assertTrue(sum > 0);
+        }
+    }
+
+}
@@ -0,0 +1,234 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the bulk time scale and geodetic conversions with the single-element SOFA routines.
+ */
+public class TestBulkLibrary {
+
+    /** More epochs than fit in a single chunk, from 1955 (dubious year) to 2017 with the first one invalid */
+    private static double[][] utc() {
+        int n = BulkLibrary.CHUNK + 1000;
+        double[] utc1 = new double[n];
+        double[] utc2 = new double[n];
+        for (int i = 0; i < n; i++) {
+            utc1[i] = 2400000.5;
+            utc2[i] = 35000.0 + i * (23000.0 / n) + 0.123456789;
+        }
+        utc1[0] = -1e9;
+        return new double[][]{ utc1, utc2 };
+    }
+
+    @Test public void t_utctai() {
+        double[][] utc = utc();
+        int n = utc[0].length;
+        double[] tai1 = new double[n], tai2 = new double[n];
+        int[] status = new int[n];
+
+        int bad = BulkLibrary.bulkUtctai(utc[0], utc[1], tai1, tai2, status);
+
+        double[] e1 = new double[1], e2 = new double[1];
+        int expectedBad = 0;
+        for (int i = 0; i < n; i++) {
+            int j = SofaArrays.iauUtctai(utc[0][i], utc[1][i], e1, e2);
+            if (j != 0) expectedBad++;
+            assertEquals(j, status[i]);
+            if (j >= 0) {
+                assertEquals(e1[0], tai1[i], 0.0);
+                assertEquals(e2[0], tai2[i], 0.0);
+            }
+        }
+        assertEquals(expectedBad, bad);
+        assertEquals(-1, status[0]);
+        assertEquals(1,  status[1]);
+        assertEquals(0,  status[n - 1]);
+    }
+
+    @Test public void t_failedUnchanged() {
+        // A valid call leaves its results in the scratch block, which must not leak into the failed epochs of the next
+        double[] tai1 = new double[1], tai2 = new double[1], ut11 = new double[1], ut12 = new double[1];
+        assertEquals(0, BulkLibrary.bulkUtctai(new double[]{ 2453750.5 }, new double[]{ 0.892482639 }, tai1, tai2, new int[1]));
+        assertEquals(0, BulkLibrary.bulkUtcut1(new double[]{ 2453750.5 }, new double[]{ 0.892482639 }, new double[]{ 0.3341 }, ut11, ut12, new int[1]));
+
+        double[] out1 = { 42.0 }, out2 = { 42.0 };
+        int[] status = new int[1];
+        assertEquals(1, BulkLibrary.bulkUtctai(new double[]{ -1e10 }, new double[]{ 0.0 }, out1, out2, status));
+        assertEquals(-1, status[0]);
+        assertArrayEquals(new double[]{ 42.0, 42.0 }, new double[]{ out1[0], out2[0] }, 0.0);
+
+        assertEquals(0, BulkLibrary.bulkUtctdb(new double[]{ 2453750.5 }, new double[]{ 0.892482639 }, 0.0, 0.0, 0.0, 1e-9, tai1, tai2, new int[1]));
+        assertEquals(1, BulkLibrary.bulkUtctdb(new double[]{ -1e10 }, new double[]{ 0.0 }, 0.0, 0.0, 0.0, 1e-9, out1, out2, status));
+        assertEquals(-1, status[0]);
+        assertArrayEquals(new double[]{ 42.0, 42.0 }, new double[]{ out1[0], out2[0] }, 0.0);
+
+        assertEquals(1, BulkLibrary.bulkUtcut1(new double[]{ -1e10 }, new double[]{ 0.0 }, new double[]{ 0.3341 }, out1, out2, status));
+        assertEquals(-1, status[0]);
+        assertArrayEquals(new double[]{ 42.0, 42.0 }, new double[]{ out1[0], out2[0] }, 0.0);
+    }
+
+    @Test public void t_utcut1_ut1utc() {
+        double[][] utc = utc();
+        int n = utc[0].length;
+        double[] dut1 = new double[n];
+        for (int i = 0; i < n; i++)
+            dut1[i] = 0.3 * Math.sin(i * 1e-3);
+        double[] ut11 = new double[n], ut12 = new double[n];
+        int[] status = new int[n];
+
+        BulkLibrary.bulkUtcut1(utc[0], utc[1], dut1, ut11, ut12, status);
+
+        double[] e1 = new double[1], e2 = new double[1];
+        for (int i = 1; i < n; i += 97) {
+            assertEquals(SofaArrays.iauUtcut1(utc[0][i], utc[1][i], dut1[i], e1, e2), status[i]);
+            assertEquals(e1[0], ut11[i], 0.0);
+            assertEquals(e2[0], ut12[i], 0.0);
+        }
+
+        // Back to UTC, in place
+        double[] u1 = ut11.clone(), u2 = ut12.clone();
+        BulkLibrary.bulkUt1utc(ut11, ut12, dut1, ut11, ut12, status);
+        for (int i = 1; i < n; i += 97) {
+            assertEquals(SofaArrays.iauUt1utc(u1[i], u2[i], dut1[i], e1, e2), status[i]);
+            assertEquals(e1[0], ut11[i], 0.0);
+            assertEquals(e2[0], ut12[i], 0.0);
+        }
+    }
+
+    @Test public void t_utctdb() {
+        double[][] utc = utc();
+        int n = utc[0].length;
+        double elong = -1.0, u = 5500.0, v = 3000.0;
+        double[] tdb1 = new double[n], tdb2 = new double[n], fast1 = new double[n], fast2 = new double[n];
+        int[] status = new int[n];
+
+        int bad = BulkLibrary.bulkUtctdb(utc[0], utc[1], elong, u, v, 0.0, tdb1, tdb2, status);
+        BulkLibrary.bulkUtctdb(utc[0], utc[1], elong, u, v, 1e-6, fast1, fast2, new int[n]);
+
+        // UTC -> TAI -> TT -> TDB, with the UTC fraction of day as UT
+        double[] e1 = new double[1], e2 = new double[1], fd = new double[1];
+        int[] iy = new int[1], im = new int[1], id = new int[1];
+        int expectedBad = 0;
+        for (int i = 0; i < n; i++) {
+            int j = SofaArrays.iauUtctai(utc[0][i], utc[1][i], e1, e2);
+            if (j != 0) expectedBad++;
+            assertEquals(j, status[i]);
+            if (j < 0) continue;
+            SofaArrays.iauJd2cal(utc[0][i], utc[1][i], iy, im, id, fd);
+            SofaArrays.iauTaitt(e1[0], e2[0], e1, e2);
+            double dtr = SofaLibrary.iauDtdb(e1[0], e2[0], fd[0], elong, u, v);
+            SofaArrays.iauTttdb(e1[0], e2[0], dtr, e1, e2);
+            assertEquals(e1[0], tdb1[i], 0.0);
+            assertEquals(e2[0], tdb2[i], 0.0);
+            assertEquals(0.0, ((fast1[i] - e1[0]) + (fast2[i] - e2[0])) * 86400.0, 1e-6);
+        }
+        assertEquals(expectedBad, bad);
+        assertEquals(-1, status[0]);
+    }
+
+    @Test public void t_fastDtdb() {
+        for (int i = 0; i < 2000; i++) {
+            double date2 = -73000.0 + i * 73.0 + 0.3;
+            double ut = date2 - Math.floor(date2);
+            double exact = SofaLibrary.iauDtdb(2451545.0, date2, ut, 0.5, 6000.0, 1000.0);
+            assertEquals(exact, BulkLibrary.fastDtdb(2451545.0, date2, ut, 0.5, 6000.0, 1000.0, 0.0), 0.0);
+            for (double tol : new double[]{ 1e-9, 1e-8, 1e-7, 1e-6 })
+                assertEquals(exact, BulkLibrary.fastDtdb(2451545.0, date2, ut, 0.5, 6000.0, 1000.0, tol), tol);
+        }
+    }
+
+    @Test public void t_taitt_tttdb_pointers() {
+        int n = 3;
+        Pointer<Double>  d1     = Pointer.pointerToDoubles(2453750.5, 2453750.5, 2400000.5);
+        Pointer<Double>  d2     = Pointer.pointerToDoubles(0.892482639, 0.892855139, 53736.0);
+        Pointer<Double>  dtr    = Pointer.pointerToDoubles(-0.000201, -0.000201, 0.0);
+        Pointer<Double>  r1     = Pointer.allocateDoubles(n);
+        Pointer<Double>  r2     = Pointer.allocateDoubles(n);
+        Pointer<Integer> status = Pointer.allocateInts(n);
+
+        assertEquals(0, BulkLibrary.bulkTaitt(n, d1, d2, r1, r2, status));
+        assertEquals(2453750.5,   r1.get(0), 1e-6);
+        assertEquals(0.892855139, r2.get(0), 1e-12);
+
+        assertEquals(0, BulkLibrary.bulkTttdb(n, d1, d2, dtr, r1, r2, status));
+        assertEquals(2453750.5,   r1.get(1), 1e-6);
+        assertEquals(0.8928551366736111111, r2.get(1), 1e-12);
+        assertEquals(0, status.get(2).intValue());
+
+        Pointer.release(d1, d2, dtr, r1, r2, status);
+    }
+
+    /** More positions than fit in a single chunk, from the poles to outside the ellipsoid */
+    private static double[] positions(int n) {
+        double[] xyz = new double[3 * n];
+        for (int i = 0; i < n; i++) {
+            double lon = i * 0.7;
+            double lat = Math.asin(2.0 * i / (n - 1) - 1.0);
+            double r   = 6.3e6 + 1e4 * (i % 100);
+            xyz[3 * i]     = r * Math.cos(lat) * Math.cos(lon);
+            xyz[3 * i + 1] = r * Math.cos(lat) * Math.sin(lon);
+            xyz[3 * i + 2] = r * Math.sin(lat);
+        }
+        return xyz;
+    }
+
+    @Test public void t_gc2gd_gd2gc() {
+        int n = BulkLibrary.CHUNK + 1000;
+        double[] xyz = positions(n);
+        double[] x = new double[n], y = new double[n], z = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = xyz[3 * i];
+            y[i] = xyz[3 * i + 1];
+            z[i] = xyz[3 * i + 2];
+        }
+        double[] elong = new double[n], phi = new double[n], height = new double[n];
+        double[] elong2 = new double[n], phi2 = new double[n], height2 = new double[n];
+        double[] xyz2 = new double[3 * n];
+        int[] status = new int[n];
+
+        assertEquals(0, BulkLibrary.bulkGc2gd(2, x, y, z, elong, phi, height, status));
+        assertEquals(0, BulkLibrary.bulkGc2gd(2, xyz, elong2, phi2, height2, status));
+        double[] e = new double[1], p = new double[1], h = new double[1], v = new double[3];
+        for (int i = 0; i < n; i++) {
+            assertEquals(0, SofaArrays.iauGc2gd(2, new double[]{ x[i], y[i], z[i] }, e, p, h));
+            assertEquals(e[0], elong[i], 0.0);
+            assertEquals(p[0], phi[i], 0.0);
+            assertEquals(h[0], height[i], 0.0);
+            assertEquals(e[0], elong2[i], 0.0);
+            assertEquals(p[0], phi2[i], 0.0);
+            assertEquals(h[0], height2[i], 0.0);
+        }
+
+        assertEquals(0, BulkLibrary.bulkGd2gc(3, elong, phi, height, xyz2, status));
+        assertEquals(0, BulkLibrary.bulkGd2gc(3, elong, phi, height, x, y, z, status));
+        for (int i = 0; i < n; i++) {
+            assertEquals(0, SofaArrays.iauGd2gc(3, elong[i], phi[i], height[i], v));
+            for (int k = 0; k < 3; k++)
+                assertEquals(v[k], xyz2[3 * i + k], 0.0);
+            assertEquals(v[0], x[i], 0.0);
+            assertEquals(v[1], y[i], 0.0);
+            assertEquals(v[2], z[i], 0.0);
+        }
+
+        // General ellipsoid, and illegal ellipsoids
+        assertEquals(0, BulkLibrary.bulkGc2gde(6378136.0, 0.0033528, xyz, elong, phi, height, status));
+        assertEquals(0, SofaArrays.iauGc2gde(6378136.0, 0.0033528, new double[]{ xyz[30], xyz[31], xyz[32] }, e, p, h));
+        assertEquals(p[0], phi[10], 0.0);
+        Arrays.fill(phi, 42.0);
+        assertEquals(n, BulkLibrary.bulkGc2gde(6378136.0, 1.5, x, y, z, elong, phi, height, status));
+        assertEquals(-1, status[n - 1]);
+        assertEquals(42.0, phi[10], 0.0);
+        assertEquals(n, BulkLibrary.bulkGc2gd(4, xyz, elong, phi, height, status));
+        assertEquals(-1, status[0]);
+        assertEquals(-1e9, height[n - 1], 0.0);
+        assertEquals(n, BulkLibrary.bulkGd2gc(0, elong, phi, height, x, y, z, status));
+        assertEquals(0.0, x[5], 0.0);
+    }
+
+}
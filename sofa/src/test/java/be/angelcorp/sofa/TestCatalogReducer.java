@@ -0,0 +1,151 @@
+package be.angelcorp.sofa;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares {@link CatalogReducer} with the single-star SOFA routines, over a catalog of several chunks.
+ */
+public class TestCatalogReducer {
+
+    /** Several chunks, the last one partial */
+    private static final int STARS = 5 * 1000 + 123;
+
+    private static ForkJoinPool pool;
+    private static double[] astrom;
+    private static double[] rc, dc, pr, pd, px, rv;
+
+    @BeforeClass public static void catalog() {
+        pool = new ForkJoinPool(4);
+        astrom = new double[SofaArrays.ASTROM_SIZE];
+        SofaArrays.iauApco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, astrom, new double[1]);
+
+        Random random = new Random(42);
+        rc = new double[STARS]; dc = new double[STARS]; pr = new double[STARS];
+        pd = new double[STARS]; px = new double[STARS]; rv = new double[STARS];
+        for (int i = 0; i < STARS; i++) {
+            rc[i] = 2 * Math.PI * random.nextDouble();
+            dc[i] = Math.asin(2 * random.nextDouble() - 1);
+            pr[i] = 1e-5 * random.nextGaussian();
+            pd[i] = 1e-5 * random.nextGaussian();
+            px[i] = 0.1 * random.nextDouble();
+            rv[i] = 50.0 * random.nextGaussian();
+        }
+    }
+
+    @AfterClass public static void shutdown() {
+        pool.shutdown();
+    }
+
+    private static CatalogReducer reducer() {
+        return new CatalogReducer(astrom, 0, pool, 1000);
+    }
+
+    @Test public void atciq() {
+        double[] ri = new double[STARS], di = new double[STARS];
+        reducer().atciq(rc, dc, pr, pd, px, rv, ri, di);
+
+        double[] eri = new double[1], edi = new double[1];
+        for (int i = 0; i < STARS; i++) {
+            SofaArrays.iauAtciq(rc[i], dc[i], pr[i], pd[i], px[i], rv[i], astrom, eri, edi);
+            assertEquals(eri[0], ri[i], 0.0);
+            assertEquals(edi[0], di[i], 0.0);
+        }
+    }
+
+    @Test public void atciqz_aticq() {
+        double[] ri = new double[STARS], di = new double[STARS];
+        double[] rc2 = new double[STARS], dc2 = new double[STARS];
+        CatalogReducer reducer = reducer();
+        reducer.atciqz(rc, dc, ri, di);
+        reducer.aticq(ri, di, rc2, dc2);
+
+        double[] e1 = new double[1], e2 = new double[1];
+        for (int i = 0; i < STARS; i++) {
+            SofaArrays.iauAtciqz(rc[i], dc[i], astrom, e1, e2);
+            assertEquals(e1[0], ri[i], 0.0);
+            assertEquals(e2[0], di[i], 0.0);
+            SofaArrays.iauAticq(ri[i], di[i], astrom, e1, e2);
+            assertEquals(e1[0], rc2[i], 0.0);
+            assertEquals(e2[0], dc2[i], 0.0);
+        }
+    }
+
+    @Test public void atioq_atcoq() {
+        double[] ri = new double[STARS], di = new double[STARS];
+        double[] aob = new double[STARS], zob = new double[STARS], hob = new double[STARS];
+        double[] dob = new double[STARS], rob = new double[STARS];
+        double[] aob2 = new double[STARS], zob2 = new double[STARS];
+        CatalogReducer reducer = reducer();
+        reducer.atciq(rc, dc, pr, pd, px, rv, ri, di);
+        reducer.atioq(ri, di, aob, zob, hob, dob, rob);
+        reducer.atcoq(rc, dc, pr, pd, px, rv, aob2, zob2, null, null, null);
+
+        double[] e = new double[5];
+        for (int i = 0; i < STARS; i++) {
+            SofaArrays.iauAtioq(ri[i], di[i], astrom, 0, e, 0, e, 1, e, 2, e, 3, e, 4);
+            assertEquals(e[0], aob[i], 0.0);
+            assertEquals(e[1], zob[i], 0.0);
+            assertEquals(e[2], hob[i], 0.0);
+            assertEquals(e[3], dob[i], 0.0);
+            assertEquals(e[4], rob[i], 0.0);
+            assertEquals(e[0], aob2[i], 0.0);
+            assertEquals(e[1], zob2[i], 0.0);
+        }
+    }
+
+    @Test public void inPlace() {
+        double[] a = rc.clone(), b = dc.clone();
+        double[] ri = new double[STARS], di = new double[STARS];
+        CatalogReducer reducer = reducer();
+        reducer.atciqz(rc, dc, ri, di);
+        reducer.atciqz(a, b, a, b);
+        for (int i = 0; i < STARS; i++) {
+            assertEquals(ri[i], a[i], 0.0);
+            assertEquals(di[i], b[i], 0.0);
+        }
+    }
+
+    @Test public void context() {
+        try (AstromContext context = AstromContext.acquire()) {
+            context.apco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                    2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55);
+            CatalogReducer reducer = new CatalogReducer(context);
+
+            double[] copy = reducer.astrom();
+            for (int i = 0; i < SofaArrays.ASTROM_SIZE; i++)
+                assertEquals(astrom[i], copy[i], 0.0);
+
+            // Small catalogs run on the calling thread
+            double[] ri = new double[1], di = new double[1];
+            reducer.atciq(new double[]{ rc[7] }, new double[]{ dc[7] }, new double[]{ pr[7] }, new double[]{ pd[7] },
+                    new double[]{ px[7] }, new double[]{ rv[7] }, ri, di);
+            context.atciq(rc[7], dc[7], pr[7], pd[7], px[7], rv[7]);
+            assertEquals(context.ri(), ri[0], 0.0);
+            assertEquals(context.di(), di[0], 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void columnLengths() {
+        reducer().atciqz(rc, new double[10], new double[STARS], new double[STARS]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void requiredOutput() {
+        reducer().atioq(rc, dc, new double[STARS], null, null, null, null);
+    }
+
+    @Test public void empty() {
+        double[] none = new double[0];
+        reducer().atciqz(none, none, none, none);
+    }
+
+}
@@ -0,0 +1,103 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link CipTable} against iauXy06, iauS06 and iauC2ixys.
+ */
+public class TestCipTable {
+
+    /** One microarcsecond, radians */
+    private static final double UAS = 4.848136811095359935899141e-12;
+
+    /** 2006, TT */
+    private static final CipTable TABLE = CipTable.fit(2453736.5, 2453736.5 + 365.0, UAS);
+
+    @Test public void tolerance() {
+        assertTrue(TABLE.error() <= UAS);
+        assertTrue(TABLE.end() >= 2453736.5 + 365.0);
+    }
+
+    @Test public void randomEpochs() {
+        Random random = new Random(42);
+        double[] x = new double[1], y = new double[1];
+        double[] xys = new double[3];
+        for (int i = 0; i < 1000; i++) {
+            double date2 = 53736.0 + 365.0 * random.nextDouble();
+            SofaArrays.iauXy06(2400000.5, date2, x, y);
+            double s = SofaLibrary.iauS06(2400000.5, date2, x[0], y[0]);
+            TABLE.xys(2400000.5, date2, xys);
+
+            assertEquals(x[0], xys[0], UAS);
+            assertEquals(y[0], xys[1], UAS);
+            assertEquals(s,    xys[2], UAS);
+        }
+    }
+
+    @Test public void t_c2i06a() {
+        double[] xys  = new double[3];
+        double[] rc2i = new double[9];
+        double[] expected = new double[9];
+
+        // Same matrix as iauC2ixys for the interpolated X, Y and s
+        TABLE.xys(2400000.5, 53736.0, xys);
+        TABLE.c2i(2400000.5, 53736.0, rc2i);
+        SofaArrays.iauC2ixys(xys[0], xys[1], xys[2], expected);
+        for (int i = 0; i < 9; i++)
+            assertEquals(expected[i], rc2i[i], 1e-15);
+
+        // Reference values of TestSofa.t_c2i06a, iauC2i06a takes X and Y from the full matrix instead of the iauXy06
+        // series, which differ at the microarcsecond level
+        assertEquals(0.9999998323037159379,       rc2i[0], UAS);
+        assertEquals(0.5581121329587613787e-9,    rc2i[1], UAS);
+        assertEquals(-0.5791308487740529749e-3,   rc2i[2], UAS);
+        assertEquals(-0.2384253169452306581e-7,   rc2i[3], UAS);
+        assertEquals(0.9999999991917467827,       rc2i[4], UAS);
+        assertEquals(-0.4020579392895682558e-4,   rc2i[5], UAS);
+        assertEquals(0.5791308482835292617e-3,    rc2i[6], UAS);
+        assertEquals(0.4020580099454020310e-4,    rc2i[7], UAS);
+        assertEquals(0.9999998314954628695,       rc2i[8], UAS);
+    }
+
+    @Test public void serialization() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TABLE.write(out);
+        CipTable copy = CipTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(TABLE.start(),  copy.start(), 0.0);
+        assertEquals(TABLE.end(),    copy.end(), 0.0);
+        assertEquals(TABLE.degree(), copy.degree());
+        assertEquals(TABLE.error(),  copy.error(), 0.0);
+
+        double[] expected = new double[3], actual = new double[3];
+        TABLE.xys(2400000.5, 53800.123, expected);
+        copy.xys(2400000.5, 53800.123, actual);
+        assertArrayEquals(expected, actual, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outside() {
+        TABLE.xys(TABLE.end(), 1.0, new double[3]);
+    }
+
+    @Test public void standard() {
+        // Generated by the build, see the sofa pom
+        CipTable table = CipTable.standard();
+        assertTrue(table.error() <= UAS);
+
+        double[] x = new double[1], y = new double[1];
+        double[] xys = new double[3];
+        SofaArrays.iauXy06(2400000.5, 53736.0, x, y);
+        table.xys(2400000.5, 53736.0, xys);
+        assertEquals(x[0], xys[0], UAS);
+        assertEquals(y[0], xys[1], UAS);
+    }
+
+}
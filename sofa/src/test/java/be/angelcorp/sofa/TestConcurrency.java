@@ -0,0 +1,121 @@
+package be.angelcorp.sofa;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the concurrency model of the bindings (see the package documentation): the test vectors of t_sofa_c and
+ * of the array and bulk entry points give the same results when run on many threads at once, and the native
+ * sources have no writable static storage.
+ */
+public class TestConcurrency {
+
+    /** Threads running the vectors at once, 64 in the stress profile (-Pstress) */
+    private static final int THREADS = Integer.getInteger("sofa.stress.threads", 4);
+
+    /** Passes over the vectors per thread, 2 in the stress profile */
+    private static final int ROUNDS = Integer.getInteger("sofa.stress.rounds", 1);
+
+    /** Test classes without state, whose test methods can run concurrently on separate instances */
+    private static final Class<?>[] VECTORS = { TestSofa.class, TestSofaArrays.class, TestBulkLibrary.class, TestAstromContext.class };
+
+    @Test public void vectors() throws InterruptedException {
+        final List<Method> tests = new ArrayList<>();
+        for (Class<?> type : VECTORS)
+            for (Method method : type.getMethods())
+                if (method.isAnnotationPresent(Test.class))
+                    tests.add(method);
+        assertTrue(tests.size() > 200);
+
+        final ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            // Every thread runs all vectors in its own order, so different functions overlap
+            final List<Method> order = new ArrayList<>(tests);
+            Collections.shuffle(order, new Random(t));
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int round = 0; round < ROUNDS; round++)
+                        for (Method test : order)
+                            run(test);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }, "sofa-stress-" + t);
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " of " + THREADS + " threads failed");
+            error.initCause(failures.peek());
+            throw error;
+        }
+    }
+
+    private static void run(Method test) throws Throwable {
+        Class<? extends Throwable> expected = test.getAnnotation(Test.class).expected();
+        try {
+            test.invoke(test.getDeclaringClass().getDeclaredConstructor().newInstance());
+        } catch (InvocationTargetException e) {
+            if (!expected.isInstance(e.getCause()))
+                throw new AssertionError(test.getDeclaringClass().getSimpleName() + "." + test.getName(), e.getCause());
+            return;
+        }
+        if (expected != Test.None.class)
+            throw new AssertionError(test.getName() + " did not throw " + expected.getSimpleName());
+    }
+
+    /**
+     * Static or global variables that are not const, i.e. state shared between calls (comments stripped).
+     */
+    private static final Pattern SHARED_STATE = Pattern.compile(
+            "\\bstatic\\s+(?!const\\b)[^(;{]*[;=]|^(?!typedef|extern|static\\b)[A-Za-z_][\\w \\t*]*\\b\\w+[ \\t]*(\\[[^]]*]\\s*)*[;=]",
+            Pattern.MULTILINE);
+
+    @Test public void reentrantSources() throws IOException {
+        Path sources = Paths.get("..", "sofa-platform", "src", "main", "cpp");
+        Assume.assumeTrue(Files.isDirectory(sources));
+
+        List<String> shared = new ArrayList<>();
+        for (String dir : new String[]{ "src", "ext" }) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(sources.resolve(dir), "*.c")) {
+                for (Path file : files) {
+                    // The SOFA test program is not part of the library
+                    if (file.getFileName().toString().equals("t_sofa_c.c"))
+                        continue;
+                    String code = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1)
+                            .replaceAll("(?s)/\\*.*?\\*/", " ");
+                    Matcher matcher = SHARED_STATE.matcher(code);
+                    while (matcher.find())
+                        shared.add(file.getFileName() + ": " + matcher.group().trim());
+                }
+            }
+        }
+        assertEquals("Writable static storage makes the native functions non-reentrant", Collections.emptyList(), shared);
+    }
+
+}
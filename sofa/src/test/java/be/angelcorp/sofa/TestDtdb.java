@@ -0,0 +1,97 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares {@link Dtdb} with {@link SofaLibrary#iauDtdb}.
+ */
+public class TestDtdb {
+
+    /** Epochs from 1900 to 2100, MJD */
+    private static double[] epochs(double step) {
+        int n = (int) (73049.0 / step);
+        double[] mjd = new double[n];
+        for (int i = 0; i < n; i++)
+            mjd[i] = 15020.0 + i * step;
+        return mjd;
+    }
+
+    @Test public void full() {
+        assertEquals(787, Dtdb.FULL.terms());
+        assertEquals(0.0, Dtdb.FULL.bound(), 0.0);
+
+        // The example of TestSofa
+        assertEquals(-0.1280368005936998991e-2, Dtdb.FULL.dtdb(2448939.5, 0.123, 0.76543, 5.0123, 5525.242, 3190.0), 1e-15);
+
+        for (double mjd : epochs(97.3)) {
+            assertEquals(SofaLibrary.iauDtdb(2400000.5, mjd, 0.25, 0.0, 0.0, 0.0),
+                    Dtdb.FULL.dtdb(2400000.5, mjd, 0.25, 0.0, 0.0, 0.0), 1e-17);
+            assertEquals(SofaLibrary.iauDtdb(2400000.5, mjd, mjd % 1.0, 1.2, 5525.242, 3190.0),
+                    Dtdb.FULL.dtdb(2400000.5, mjd, mjd % 1.0, 1.2, 5525.242, 3190.0), 1e-17);
+        }
+        // Remote epochs
+        assertEquals(SofaLibrary.iauDtdb(2451545.0, 300000.5, 0.5, 0.0, 0.0, 0.0),
+                Dtdb.FULL.dtdb(2451545.0, 300000.5, 0.5, 0.0, 0.0, 0.0), 1e-16);
+    }
+
+    @Test public void truncated() {
+        double[] mjd = epochs(0.73);
+        for (Dtdb series : new Dtdb[]{ Dtdb.NANOSECONDS_10, Dtdb.MICROSECOND }) {
+            double max = 0.0;
+            for (double epoch : mjd) {
+                double ut = epoch % 1.0;
+                double expected = SofaLibrary.iauDtdb(2400000.5, epoch, ut, 0.3, 5525.242, 3190.0);
+                max = Math.max(max, Math.abs(series.dtdb(2400000.5, epoch, ut, 0.3, 5525.242, 3190.0) - expected));
+            }
+            assertTrue(series + ": " + max, max < series.tolerance());
+            assertTrue(series + ": " + max, max <= series.bound());
+        }
+        assertEquals(571, Dtdb.NANOSECONDS_10.terms());
+        assertEquals(151, Dtdb.MICROSECOND.terms());
+    }
+
+    /** Same terms, and the same results, as BulkLibrary.fastDtdb */
+    @Test public void fastDtdb() {
+        for (double tol : new double[]{ 0.0, 1e-9, 1e-8, 1e-7, 1e-6, 1e-5 }) {
+            for (double millennia : new double[]{ 0.05, 0.1, 0.5 }) {
+                Dtdb series = Dtdb.truncated(tol, millennia);
+                int terms = 0;
+                for (int nterms : BulkLibrary.fastDtdbTerms(millennia, tol))
+                    terms += nterms;
+                assertEquals(series.toString(), terms, series.terms());
+                assertTrue(series.toString(), series.bound() <= tol);
+
+                double date2 = millennia * 365250.0;
+                assertEquals(series.toString(), BulkLibrary.fastDtdb(2451545.0, date2, 0.3, 1.2, 5525.242, 3190.0, tol),
+                        series.dtdb(2451545.0, date2, 0.3, 1.2, 5525.242, 3190.0), 1e-15);
+            }
+        }
+    }
+
+    @Test public void epochs() {
+        double[] mjd = epochs(9.1);
+        int n = mjd.length;
+        double[] ut = new double[n], dtdb = new double[n];
+        for (int i = 0; i < n; i++)
+            ut[i] = (mjd[i] * 7.3) % 1.0;
+        for (Dtdb series : new Dtdb[]{ Dtdb.FULL, Dtdb.NANOSECONDS_10, Dtdb.MICROSECOND, Dtdb.truncated(1e-7, 0.5) }) {
+            for (double[] station : new double[][]{ { 0.0, 0.0, 0.0 }, { 5.0123, 5525.242, 3190.0 } }) {
+                series.dtdb(2400000.5, mjd, ut, station[0], station[1], station[2], dtdb);
+                double[] expected = new double[n];
+                for (int i = 0; i < n; i++)
+                    expected[i] = series.dtdb(2400000.5, mjd[i], ut[i], station[0], station[1], station[2]);
+                assertArrayEquals(series.toString(), expected, dtdb, 0.0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeTolerance() {
+        Dtdb.truncated(-1e-9, 0.1);
+    }
+
+}
@@ -0,0 +1,81 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks {@link EarthEphemeris} against iauEpv00.
+ */
+public class TestEarthEphemeris {
+
+    /** 2000-2010, TDB */
+    private static final EarthEphemeris EARTH = EarthEphemeris.fit(2451544.5, 2451544.5 + 3653.0, 8.0, 13);
+
+    @Test public void errorReport() {
+        // Below a cm in position, and a mm/s in velocity
+        assertTrue(EARTH.positionError() < 0.01 / 1.495978707e11);
+        assertTrue(EARTH.velocityError() < 1e-3 * 86400.0 / 1.495978707e11);
+        assertTrue(EARTH.worstEpoch() >= EARTH.start() && EARTH.worstEpoch() <= EARTH.end());
+        assertEquals(2451544.5 + 457 * 8.0, EARTH.end(), 0.0);
+    }
+
+    @Test public void randomEpochs() {
+        Random random = new Random(42);
+        double[] pvh = new double[6], pvb = new double[6];
+        double[] fh  = new double[6], fb  = new double[6];
+        for (int i = 0; i < 1000; i++) {
+            double date2 = 3653.0 * random.nextDouble() - 0.5;
+            SofaArrays.iauEpv00(2451545.0, date2, pvh, pvb);
+            EARTH.pv(2451545.0, date2, fh, fb);
+
+            for (int k = 0; k < 6; k++) {
+                // The reported errors are sampled, allow some margin between the samples
+                double tolerance = 2 * ((k < 3) ? EARTH.positionError() : EARTH.velocityError());
+                assertEquals(pvh[k], fh[k], tolerance);
+                assertEquals(pvb[k], fb[k], tolerance);
+            }
+        }
+    }
+
+    @Test public void bounds() {
+        double[] pvh = new double[6], pvb = new double[6];
+        EARTH.pv(EARTH.start(), 0.0, pvh, pvb);
+        EARTH.pv(EARTH.end(), 0.0, pvh, pvb);
+        try {
+            EARTH.pv(EARTH.end(), 1e-6, pvh, pvb);
+            fail("Epoch after the end of the ephemeris");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            EARTH.pv(EARTH.start(), -1e-6, pvh, pvb);
+            fail("Epoch before the start of the ephemeris");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test public void coefficients() {
+        EarthEphemeris copy = new EarthEphemeris(EARTH.start(), EARTH.span(), EARTH.degree(), EARTH.coefficients());
+        assertTrue(Double.isNaN(copy.positionError()));
+
+        double[] date2 = { 12.3, 456.7, 890.1 };
+        double[] pvh = new double[18], pvb = new double[18];
+        copy.pv(2451545.0, date2, pvh, pvb);
+
+        double[] fh = new double[6], fb = new double[6];
+        for (int i = 0; i < date2.length; i++) {
+            EARTH.pv(2451545.0, date2[i], fh, fb);
+            for (int k = 0; k < 6; k++) {
+                assertEquals(fh[k], pvh[6 * i + k], 0.0);
+                assertEquals(fb[k], pvb[6 * i + k], 0.0);
+            }
+        }
+
+        assertEquals(EARTH.positionError(), copy.check(4 * 14).positionError(), 0.0);
+    }
+
+}
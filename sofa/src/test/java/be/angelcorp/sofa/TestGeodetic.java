@@ -0,0 +1,97 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link Geodetic} against the native routines through {@link SofaArrays}.
+ */
+public class TestGeodetic {
+
+    private static final int SAMPLES = 2000;
+
+    private final Random random = new Random(42);
+
+    /** Random positions within 100 km of the surface, with a few on (and close to) the polar axis */
+    private double[] positions() {
+        double[] xyz = new double[3 * SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            double lon = (random.nextDouble() - 0.5) * 2.0 * Math.PI;
+            double lat = Math.asin(2.0 * random.nextDouble() - 1.0);
+            double r   = 6.3e6 + 2e5 * random.nextDouble();
+            xyz[3 * i]     = r * Math.cos(lat) * Math.cos(lon);
+            xyz[3 * i + 1] = r * Math.cos(lat) * Math.sin(lon);
+            xyz[3 * i + 2] = r * Math.sin(lat);
+        }
+        xyz[0] = 0.0;    xyz[1] = 0.0;  xyz[2] = -6.4e6;
+        xyz[3] = 1e-12;  xyz[4] = 0.0;  xyz[5] = 6.4e6;
+        return xyz;
+    }
+
+    @Test public void gc2gd() {
+        double[] xyz = positions();
+        double[] x = new double[SAMPLES], y = new double[SAMPLES], z = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            x[i] = xyz[3 * i];
+            y[i] = xyz[3 * i + 1];
+            z[i] = xyz[3 * i + 2];
+        }
+        double[] elong = new double[SAMPLES], phi = new double[SAMPLES], height = new double[SAMPLES];
+        double[] elong2 = new double[SAMPLES], phi2 = new double[SAMPLES], height2 = new double[SAMPLES];
+        double[] e = new double[1], p = new double[1], h = new double[1];
+
+        for (int n = Geodetic.WGS84; n <= Geodetic.WGS72; n++) {
+            assertEquals(0, Geodetic.gc2gd(n, x, y, z, elong, phi, height));
+            assertEquals(0, Geodetic.gc2gd(n, xyz, elong2, phi2, height2));
+            for (int i = 0; i < SAMPLES; i++) {
+                assertEquals(0, SofaArrays.iauGc2gd(n, xyz, 3 * i, e, 0, p, 0, h, 0));
+                assertEquals(e[0], elong[i], 1e-15);
+                assertEquals(p[0], phi[i], 1e-15);
+                assertEquals(h[0], height[i], 1e-8);
+                assertEquals(elong[i], elong2[i], 0.0);
+                assertEquals(phi[i], phi2[i], 0.0);
+                assertEquals(height[i], height2[i], 0.0);
+            }
+        }
+        assertEquals(-Math.PI / 2, phi[0], 0.0);
+
+        assertEquals(-1, Geodetic.gc2gd(0, x, y, z, elong, phi, height));
+        assertEquals(-1e9, phi[SAMPLES - 1], 0.0);
+        assertEquals(-1, Geodetic.gc2gde(6378136.0, 1.0, xyz, elong, phi, height));
+        assertEquals(-2, Geodetic.gc2gde(0.0, 0.0033528, xyz, elong, phi, height));
+    }
+
+    @Test public void gd2gc() {
+        double[] elong = new double[SAMPLES], phi = new double[SAMPLES], height = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            elong[i]  = (random.nextDouble() - 0.5) * 2.0 * Math.PI;
+            phi[i]    = (random.nextDouble() - 0.5) * Math.PI;
+            height[i] = (random.nextDouble() - 0.1) * 1e5;
+        }
+        double[] x = new double[SAMPLES], y = new double[SAMPLES], z = new double[SAMPLES];
+        double[] xyz = new double[3 * SAMPLES];
+        double[] v = new double[3];
+
+        for (int n = Geodetic.WGS84; n <= Geodetic.WGS72; n++) {
+            assertEquals(0, Geodetic.gd2gc(n, elong, phi, height, x, y, z));
+            assertEquals(0, Geodetic.gd2gc(n, elong, phi, height, xyz));
+            for (int i = 0; i < SAMPLES; i++) {
+                assertEquals(0, SofaArrays.iauGd2gc(n, elong[i], phi[i], height[i], v));
+                // 1e-15 relative to the radius of the Earth
+                assertEquals(v[0], x[i], 1e-8);
+                assertEquals(v[1], y[i], 1e-8);
+                assertEquals(v[2], z[i], 1e-8);
+                assertEquals(x[i], xyz[3 * i], 0.0);
+                assertEquals(y[i], xyz[3 * i + 1], 0.0);
+                assertEquals(z[i], xyz[3 * i + 2], 0.0);
+            }
+        }
+
+        assertEquals(SAMPLES, Geodetic.gd2gc(4, elong, phi, height, xyz));
+        assertEquals(0.0, xyz[3 * SAMPLES - 1], 0.0);
+    }
+
+}
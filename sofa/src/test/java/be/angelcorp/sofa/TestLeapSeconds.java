@@ -0,0 +1,67 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the indexed Delta(AT) lookups (Java and native) with iauDat.
+ */
+public class TestLeapSeconds {
+
+    private static void check(int iy, int im, int id, double fd, Pointer<Double> expected, Pointer<Double> indexed, double[] java) {
+        int j = SofaLibrary.iauDat(iy, im, id, fd, expected);
+        String date = iy + "-" + im + "-" + id + " + " + fd;
+
+        assertEquals(date, j, BulkLibrary.leapDat(iy, im, id, fd, indexed));
+        assertEquals(date, expected.get(), indexed.get(), 0.0);
+
+        assertEquals(date, j, LeapSeconds.dat(iy, im, id, fd, java));
+        assertEquals(date, expected.get(), java[0], 0.0);
+    }
+
+    @Test public void t_dat_every_day() {
+        Pointer<Double> expected = Pointer.allocateDouble();
+        Pointer<Double> indexed  = Pointer.allocateDouble();
+        double[] java = new double[1];
+
+        // Every day from 1959 to past the dubious year limit, at 0h and during the day
+        for (int iy = 1959; iy <= 2025; iy++)
+            for (int im = 1; im <= 12; im++)
+                for (int id = 1; id <= 31; id++) {
+                    check(iy, im, id, 0.0,  expected, indexed, java);
+                    check(iy, im, id, 0.73, expected, indexed, java);
+                }
+
+        Pointer.release(expected, indexed);
+    }
+
+    @Test public void t_dat_invalid() {
+        Pointer<Double> expected = Pointer.allocateDouble();
+        Pointer<Double> indexed  = Pointer.allocateDouble();
+        double[] java = new double[1];
+
+        check(2003, 6, 1, -0.1, expected, indexed, java);
+        check(2003, 6, 1,  1.1, expected, indexed, java);
+        check(-5000, 6, 1, 0.0, expected, indexed, java);
+        check(2003, 0, 1, 0.0,  expected, indexed, java);
+        check(2003, 13, 1, 0.0, expected, indexed, java);
+        check(2000, 2, 29, 0.0, expected, indexed, java);
+        check(1900, 2, 29, 0.0, expected, indexed, java);
+        check(1000, 1, 1, 0.0,  expected, indexed, java);
+
+        Pointer.release(expected, indexed);
+    }
+
+    @Test public void t_dat() {
+        double[] deltat = new double[1];
+
+        assertEquals(0, LeapSeconds.dat(2003, 6, 1, 0.0, deltat));
+        assertEquals(32.0, deltat[0], 0.0);
+
+        assertEquals(0, LeapSeconds.dat(2008, 1, 17, 0.0, deltat));
+        assertEquals(33.0, deltat[0], 0.0);
+    }
+
+}
@@ -0,0 +1,37 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the pure-Java {@link Nutation2000A} with the native iauNut00a.
+ */
+public class TestNutation2000A {
+
+    @Test public void t_nut00a() {
+        double[] dpsiDeps = new double[2];
+
+        Nutation2000A.nutation(2400000.5, 53736.0, dpsiDeps);
+
+        assertEquals(-0.9630909107115518431e-5, dpsiDeps[0], 1e-13);
+        assertEquals( 0.4063239174001678710e-4, dpsiDeps[1], 1e-13);
+    }
+
+    @Test public void t_nut00a_native() {
+        Pointer<Double> dpsi = Pointer.allocateDouble();
+        Pointer<Double> deps = Pointer.allocateDouble();
+        double[] dpsiDeps = new double[3];
+
+        // 1900 to 2100, in steps of a bit more than 100 days
+        for (double mjd = 15020.0; mjd < 88069.0; mjd += 101.37) {
+            SofaLibrary.iauNut00a(2400000.5, mjd, dpsi, deps);
+            Nutation2000A.nutation(2400000.5, mjd, dpsiDeps, 1);
+
+            assertEquals(dpsi.get(), dpsiDeps[1], 1e-15);
+            assertEquals(deps.get(), dpsiDeps[2], 1e-15);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares {@link PlanetEphemeris} with {@link SofaLibrary#iauPlan94}.
+ */
+public class TestPlanetEphemeris {
+
+    /** Epochs from 1000 to 3000, and a few remote ones */
+    private static double[] dates(int n) {
+        double[] dates = new double[n];
+        for (int i = 0; i < n; i++)
+            dates[i] = -365250.0 * 1.2 + i * (2.4 * 365250.0 / (n - 1)) + 0.37;
+        return dates;
+    }
+
+    /** Positions and velocities to the last few bits of their magnitude */
+    private static void assertPv(double[] expected, double[] actual, int offset) {
+        for (int k = 0; k < 6; k += 3) {
+            double scale = Math.sqrt(expected[k] * expected[k] + expected[k + 1] * expected[k + 1] + expected[k + 2] * expected[k + 2]);
+            for (int l = k; l < k + 3; l++)
+                assertEquals(expected[l], actual[offset + l], 1e-14 * scale);
+        }
+    }
+
+    @Test public void single() {
+        double[] expected = new double[6], actual = new double[7];
+        for (double date2 : dates(101)) {
+            for (int np = 1; np <= PlanetEphemeris.PLANETS; np++) {
+                int j = SofaArrays.iauPlan94(2451545.0, date2, np, expected);
+                assertEquals(j, PlanetEphemeris.pv(2451545.0, date2, np, actual, 1));
+                assertPv(expected, actual, 1);
+            }
+        }
+
+        // Illegal planets
+        Arrays.fill(actual, 1.0);
+        assertEquals(-1, PlanetEphemeris.pv(2400000.5, 43999.9, 0, actual, 0));
+        assertEquals(-1, PlanetEphemeris.pv(2400000.5, 43999.9, 9, actual, 1));
+        assertArrayEquals(new double[7], actual, 0.0);
+    }
+
+    @Test public void allPlanets() {
+        // The examples of TestSofa (Mercury, and the EMB at a remote date)
+        double[] pv = new double[PlanetEphemeris.PV];
+        assertEquals(0, PlanetEphemeris.pv(2400000.5, 43999.9, pv));
+        int off = 6 * (PlanetEphemeris.MERCURY - 1);
+        assertEquals(0.2945293959257430832,      pv[off],     1e-11);
+        assertEquals(-0.2452204176601049596,     pv[off + 1], 1e-11);
+        assertEquals(-0.1615427700571978153,     pv[off + 2], 1e-11);
+        assertEquals(0.1413867871404614441e-1,   pv[off + 3], 1e-11);
+        assertEquals(0.1946548301104706582e-1,   pv[off + 4], 1e-11);
+        assertEquals(0.8929809783898904786e-2,   pv[off + 5], 1e-11);
+
+        assertEquals(1, PlanetEphemeris.pv(2400000.5, -320000, pv));
+        off = 6 * (PlanetEphemeris.EMB - 1);
+        assertEquals(0.9308038666832975759,      pv[off],     1e-11);
+        assertEquals(0.3258319040261346000,      pv[off + 1], 1e-11);
+        assertEquals(0.1422794544481140560,      pv[off + 2], 1e-11);
+        assertEquals(-0.6429458958255170006e-2,  pv[off + 3], 1e-11);
+        assertEquals(0.1468570657704237764e-1,   pv[off + 4], 1e-11);
+        assertEquals(0.6406996426270981189e-2,   pv[off + 5], 1e-11);
+
+    }
+
+    @Test public void epochs() {
+        double[] dates = dates(1001);
+        int n = dates.length;
+        double[] pv = new double[PlanetEphemeris.PV * n], parallel = new double[PlanetEphemeris.PV * n];
+        int[] status = new int[PlanetEphemeris.PLANETS * n], parallelStatus = new int[PlanetEphemeris.PLANETS * n];
+
+        int warnings = PlanetEphemeris.pv(2451545.0, dates, pv, status);
+        assertEquals(warnings, PlanetEphemeris.pvParallel(2451545.0, dates, parallel, parallelStatus));
+        assertArrayEquals(pv, parallel, 0.0);
+        assertArrayEquals(status, parallelStatus);
+        assertEquals(warnings, PlanetEphemeris.pv(2451545.0, dates, pv, null));
+
+        double[] expected = new double[6];
+        int remote = 0;
+        for (int i = 0; i < n; i++) {
+            for (int np = 1; np <= PlanetEphemeris.PLANETS; np++) {
+                int j = SofaArrays.iauPlan94(2451545.0, dates[i], np, expected);
+                assertEquals(j, status[PlanetEphemeris.PLANETS * i + np - 1]);
+                if (j != 0) remote++;
+                assertPv(expected, pv, PlanetEphemeris.PV * i + 6 * (np - 1));
+            }
+        }
+        assertEquals(remote, warnings);
+        assertEquals(true, remote > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooSmall() {
+        PlanetEphemeris.pv(2451545.0, new double[3], new double[2 * PlanetEphemeris.PV], null);
+    }
+
+}
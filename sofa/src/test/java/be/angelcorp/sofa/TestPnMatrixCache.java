@@ -0,0 +1,112 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import static be.angelcorp.sofa.PnMatrixCache.Model;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link PnMatrixCache} against the uncached SOFA matrix functions.
+ */
+public class TestPnMatrixCache {
+
+    @Test public void exact() {
+        double[] expected = new double[9];
+        double[] actual   = new double[9];
+        for (Model model : Model.values()) {
+            PnMatrixCache cache = new PnMatrixCache(model, 4);
+            model.compute(2400000.5, 50123.9999, expected);
+            for (int i = 0; i < 3; i++) {
+                cache.matrix(2400000.5, 50123.9999, actual);
+                assertArrayEquals(model.toString(), expected, actual, 0.0);
+            }
+            assertEquals(1, cache.misses());
+            assertEquals(2, cache.hits());
+        }
+
+        // The reference values of t_sofa_c.c
+        PnMatrixCache cache = new PnMatrixCache(Model.IAU_2006_2000A, 4);
+        cache.matrix(2400000.5, 50123.9999, actual);
+        assertEquals(0.9999995832794205484,    actual[0], 1e-12);
+        assertEquals(0.8372382772630962111e-3,  actual[1], 1e-14);
+        assertEquals(-0.3639337469629464969e-3, actual[6], 1e-14);
+
+        double[] xy = new double[2];
+        double[] x = new double[1], y = new double[1];
+        new PnMatrixCache(Model.IAU_2000A, 4).xy(2400000.5, 50123.9999, xy);
+        SofaArrays.iauPnm00a(2400000.5, 50123.9999, expected);
+        SofaArrays.iauBpn2xy(expected, x, y);
+        assertEquals(x[0], xy[0], 0.0);
+        assertEquals(y[0], xy[1], 0.0);
+    }
+
+    /** xy reads the third row of the matrix, on every path of the cache */
+    @Test public void xy() {
+        double[] r = new double[9], xy = new double[2];
+        for (PnMatrixCache cache : new PnMatrixCache[]{ new PnMatrixCache(Model.C2I_2006_2000A, 16),
+                new PnMatrixCache(Model.C2I_2006_2000A, 16, 60.0), new PnMatrixCache(Model.C2I_2006_2000A, 16, 3600.0, true) }) {
+            for (int i = 0; i < 20; i++) {
+                double date2 = 53736.0 + i * 0.0137;
+                cache.matrix(2400000.5, date2, r);
+                cache.xy(2400000.5, date2, xy);
+                assertEquals(r[6], xy[0], 0.0);
+                assertEquals(r[7], xy[1], 0.0);
+            }
+        }
+    }
+
+    @Test public void quantized() {
+        // One matrix per second, compared with iauPnm06a over a minute of epochs
+        PnMatrixCache cache = new PnMatrixCache(Model.IAU_2006_2000A, 128, 1.0);
+        double[] cached = new double[9];
+        double[] exact  = new double[9];
+        for (int i = 0; i < 600; i++) {
+            double date2 = 0.3 + i * 0.1 / 86400.0;
+            cache.matrix(2456384.5, date2, cached);
+            SofaArrays.iauPnm06a(2456384.5, date2, exact);
+            // Within 0.01 milliarcseconds (5e-11 rad)
+            assertArrayEquals(exact, cached, 5e-11);
+        }
+        assertEquals(61, cache.misses(), 1);
+        assertEquals(600, cache.hits() + cache.misses());
+    }
+
+    @Test public void interpolated() {
+        // Nodes one hour apart, compared with iauC2i06a over two days
+        PnMatrixCache cache = new PnMatrixCache(Model.C2I_2006_2000A, 64, 3600.0, true);
+        double[] cached = new double[9];
+        double[] exact  = new double[9];
+        for (int i = 0; i < 500; i++) {
+            double date2 = 0.3 + i * 2.0 / 500;
+            cache.matrix(2456384.5, date2, cached);
+            SofaArrays.iauC2i06a(2456384.5, date2, exact);
+            // Within 10 microarcseconds (5e-11 rad)
+            assertArrayEquals(exact, cached, 5e-11);
+        }
+        assertEquals(49, cache.misses(), 1);
+    }
+
+    @Test public void bounded() {
+        PnMatrixCache cache = new PnMatrixCache(Model.IAU_2000B, 5, 60.0);
+        assertEquals(8, cache.capacity());
+        double[] r = new double[9];
+        for (int i = 0; i < 20; i++)
+            cache.matrix(2451545.0, (i + 0.5) / 1440.0, r);
+        assertEquals(8, cache.size());
+        // The last 8 minutes are cached, the first ones were replaced
+        cache.matrix(2451545.0, 19.5 / 1440.0, r);
+        cache.matrix(2451545.0, 0.5 / 1440.0, r);
+        assertEquals(1, cache.hits());
+        assertEquals(21, cache.misses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void interpolateExact() {
+        new PnMatrixCache(Model.IAU_2000A, 16, 0.0, true);
+    }
+
+}
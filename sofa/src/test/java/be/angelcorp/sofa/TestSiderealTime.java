@@ -0,0 +1,77 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static be.angelcorp.sofa.SiderealTime.Model;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks {@link SiderealTime} against the SOFA sidereal time functions.
+ */
+public class TestSiderealTime {
+
+    private final Random random = new Random(42);
+
+    @Test public void exact() {
+        SiderealTime gst06 = new SiderealTime(Model.IAU_2006_2000A, 16, 0.0);
+        SiderealTime gst00 = new SiderealTime(Model.IAU_2000A, 16, 0.0);
+        for (int i = 0; i < 500; i++) {
+            double uta = 2400000.5;
+            double utb = 30000.0 + 60000.0 * random.nextDouble();
+            double ttb = utb + 65.0 / 86400.0;
+            assertEquals(SofaLibrary.iauEra00(uta, utb), SiderealTime.era(uta, utb), 0.0);
+            assertEquals(SofaLibrary.iauEra00(utb, uta), SiderealTime.era(utb, uta), 0.0);
+            assertEquals(SofaLibrary.iauGmst06(uta, utb, uta, ttb), SiderealTime.gmst06(uta, utb, uta, ttb), 0.0);
+            assertEquals(SofaLibrary.iauGmst00(uta, utb, uta, ttb), SiderealTime.gmst00(uta, utb, uta, ttb), 0.0);
+            assertEquals(SofaLibrary.iauGst06a(uta, utb, uta, ttb), gst06.gst(uta, utb, uta, ttb), 0.0);
+            assertEquals(SofaLibrary.iauGst00a(uta, utb, uta, ttb), gst00.gst(uta, utb, uta, ttb), 0.0);
+        }
+
+        // The reference value of t_sofa_c.c
+        assertEquals(1.754166137675019159, gst06.gst(2453736.0, 0.5, 2453736.0, 0.5), 1e-12);
+    }
+
+    @Test public void interpolated() {
+        double[] quanta = { 600.0, 3600.0, 86400.0 };
+        double[] bounds = { 5e-12, 1e-10, 5e-8 };
+        for (Model model : Model.values()) {
+            for (int q = 0; q < quanta.length; q++) {
+                SiderealTime gst = new SiderealTime(model, 64, quanta[q]);
+                double max = 0.0;
+                for (int i = 0; i < 1000; i++) {
+                    double utb = 56000.0 + 30.0 * random.nextDouble() + 36525.0 * (random.nextInt(3) - 1);
+                    double ttb = utb + 65.0 / 86400.0;
+                    double exact = model == Model.IAU_2000A
+                            ? SofaLibrary.iauGst00a(2400000.5, utb, 2400000.5, ttb)
+                            : SofaLibrary.iauGst06a(2400000.5, utb, 2400000.5, ttb);
+                    max = Math.max(max, Math.abs(Vml.anpm(gst.gst(2400000.5, utb, 2400000.5, ttb) - exact)));
+                }
+                assertTrue(model + ", quantum " + quanta[q] + ": " + max, max < bounds[q]);
+            }
+        }
+    }
+
+    @Test public void grid() {
+        SiderealTime gst = new SiderealTime(Model.IAU_2006_2000A, 64, 3600.0);
+        double[] thetas = new double[1440];
+        gst.gst(2400000.5, 57000.25, 1.0 / 1440, 68.0, thetas);
+        double[] uta = new double[1440], utb = new double[1440], tta = new double[1440], ttb = new double[1440];
+        double[] expected = new double[1440];
+        for (int i = 0; i < thetas.length; i++) {
+            uta[i] = tta[i] = 2400000.5;
+            utb[i] = 57000.25 + i * (1.0 / 1440);
+            ttb[i] = utb[i] + 68.0 / 86400.0;
+        }
+        gst.gst(uta, utb, tta, ttb, expected);
+        for (int i = 0; i < thetas.length; i += 97)
+            assertEquals(SofaLibrary.iauGst06a(uta[i], utb[i], tta[i], ttb[i]), thetas[i], 1e-10);
+        for (int i = 0; i < thetas.length; i++)
+            assertEquals(expected[i], thetas[i], 0.0);
+        // The day of TT-shifted epochs touches 25 hours, plus the node after the last
+        assertEquals(26, gst.misses());
+    }
+
+}
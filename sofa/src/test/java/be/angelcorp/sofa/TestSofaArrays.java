@@ -0,0 +1,164 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static be.angelcorp.sofa.SofaArrays.*;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the primitive-array overloads in {@link SofaArrays} against the reference values of TestSofa (t_sofa_c.c).
+ */
+public class TestSofaArrays {
+
+    @Test public void t_taitt() {
+        double[] t1 = new double[1];
+        double[] t2 = new double[1];
+
+        int j = iauTaitt(2453750.5, 0.892482639, t1, t2);
+
+        assertEquals(2453750.5,   t1[0], 1e-6);
+        assertEquals(0.892855139, t2[0], 1e-12);
+        assertEquals(0, j);
+    }
+
+    @Test public void t_errorUnchanged() {
+        // A valid call leaves its results in the scratch block, which must not leak into the outputs of a failed call
+        double[] djm0 = new double[1], djm = new double[1];
+        assertEquals(0, iauCal2jd(2003, 6, 1, djm0, djm));
+
+        double[] d1 = { 42.0 }, d2 = { 42.0 };
+        assertEquals(-1, iauCal2jd(-5000, 6, 1, d1, d2));
+        assertEquals(42.0, d1[0], 0.0);
+        assertEquals(42.0, d2[0], 0.0);
+
+        int[] iy = { 42 }, im = { 42 }, id = { 42 };
+        double[] fd = { 42.0 };
+        assertEquals(-1, iauJd2cal(-1e10, 0.0, iy, im, id, fd));
+        assertEquals(42, iy[0]);
+        assertEquals(42, id[0]);
+        assertEquals(42.0, fd[0], 0.0);
+    }
+
+    @Test public void t_rxp_offsets() {
+        double[] r  = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+        double[] pv = { -1, 0.2, 1.5, 0.1, -1, -1, -1 };
+
+        // Multiply in place, the result overwrites p
+        iauRxp(r, 0, pv, 1, pv, 4);
+
+        assertEquals(0.2, pv[1], 0.0);
+        assertEquals(5.1, pv[4], 1e-12);
+        assertEquals(3.9, pv[5], 1e-12);
+        assertEquals(7.1, pv[6], 1e-12);
+        assertEquals(-1,  pv[0], 0.0);
+    }
+
+    @Test public void t_rxp_alias() {
+        double[] r = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+        double[] p = { 0.2, 1.5, 0.1 };
+
+        iauRxp(r, p, p);
+
+        assertEquals(5.1, p[0], 1e-12);
+        assertEquals(3.9, p[1], 1e-12);
+        assertEquals(7.1, p[2], 1e-12);
+    }
+
+    @Test public void t_a2af() {
+        int[]  idmsf = new int[4];
+        byte[] s     = new byte[1];
+
+        iauA2af(4, 2.345, s, idmsf);
+
+        assertEquals('+', s[0]);
+        assertEquals(134,  idmsf[0]);
+        assertEquals(21,   idmsf[1]);
+        assertEquals(30,   idmsf[2]);
+        assertEquals(9706, idmsf[3]);
+    }
+
+    @Test public void t_d2dtf() {
+        int[] iy = new int[1], im = new int[1], id = new int[1], ihmsf = new int[4];
+
+        int j = iauD2dtf("UTC", 5, 2400000.5, 49533.99999, iy, im, id, ihmsf);
+
+        assertEquals(1994,  iy[0]);
+        assertEquals(6,     im[0]);
+        assertEquals(30,    id[0]);
+        assertEquals(23,    ihmsf[0]);
+        assertEquals(59,    ihmsf[1]);
+        assertEquals(60,    ihmsf[2]);
+        assertEquals(13599, ihmsf[3]);
+        assertEquals(0, j);
+    }
+
+    @Test public void t_apco13() {
+        double[] astrom = new double[ASTROM_SIZE];
+        double[] eo     = new double[1];
+
+        int j = iauApco13(2456384.5, 0.969254051, 0.1550675, -0.527800806, -1.2345856, 2738.0,
+                2.47230737e-7, 1.82640464e-6, 731.0, 12.8, 0.59, 0.55, astrom, eo);
+
+        assertEquals(13.25248468622475727,    astrom[0],  1e-11); // pmt
+        assertEquals(-0.9741827107321449445,  astrom[1],  1e-12); // eb
+        assertEquals(0.9998233240914558422,   astrom[7],  1e-12); // em
+        assertEquals(0.9999991390295147999,   astrom[12], 1e-12); // bpn
+        assertEquals(-0.5278008060301974337,  astrom[21], 1e-12); // along
+        assertEquals(2.617608909189066140,    astrom[28], 1e-12); // eral
+        assertEquals(-0.2361408314943696227e-6, astrom[30], 1e-18); // refb
+        assertEquals(-0.003020548354802412839, eo[0], 1e-14);
+        assertEquals(0, j);
+    }
+
+    @Test public void t_aper13() {
+        double[] astrom = new double[ASTROM_SIZE];
+        astrom[21] = 1.234; // along
+
+        iauAper13(2456165.5, 0.401182685, astrom);
+
+        assertEquals(1.234, astrom[21], 0.0);
+        assertEquals(3.316236661789694933, astrom[28], 1e-12);
+    }
+
+    @Test public void t_atciqn() {
+        double[] astrom = new double[ASTROM_SIZE];
+        double[] eo     = new double[1];
+        iauApci13(2456165.5, 0.401182685, astrom, eo);
+
+        double[] b = {
+                0.00028574, 3e-10, -7.81014427, -5.60956681, -1.98079819, 0.0030723249, -0.00406995477, -0.00181335842,
+                0.00095435, 3e-9, 0.738098796, 4.63658692, 1.9693136, -0.00755816922, 0.00126913722, 0.000727999001,
+                1.0, 6e-6, -0.000712174377, -0.00230478303, -0.00105865966, 6.29235213e-6, -3.30888387e-7, -2.96486623e-7 };
+        double[] ri = new double[1];
+        double[] di = new double[1];
+
+        iauAtciqn(2.71, 0.174, 1e-5, 5e-6, 0.1, 55.0, astrom, 3, b, ri, di);
+
+        assertEquals(2.710122008105325582, ri[0], 1e-12);
+        assertEquals(0.1729371916491459122, di[0], 1e-12);
+    }
+
+    @Test public void t_rxp_allocation_free() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported())
+            return;
+
+        double[] r  = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+        double[] p  = { 0.2, 1.5, 0.1 };
+        double[] rp = new double[3];
+        for (int i = 0; i < 10000; i++)
+            iauRxp(r, p, rp);
+
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10000; i++)
+            iauRxp(r, p, rp);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Allow for some measurement noise, but certainly not a few bytes per call
+        assertEquals(0, allocated, 1024);
+    }
+
+}
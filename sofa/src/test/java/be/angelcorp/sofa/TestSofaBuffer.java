@@ -0,0 +1,182 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the slicing and views of {@link SofaBuffer}, and the bulk functions on its memory against the array variants.
+ */
+public class TestSofaBuffer {
+
+    @Test public void t_slices() {
+        try (SofaBuffer buffer = new SofaBuffer(1024)) {
+            SofaBuffer.Ints status = buffer.ints(3);
+            SofaBuffer.Doubles doubles = buffer.doubles(4);
+            SofaBuffer.Records pvs = buffer.pvs(2);
+            SofaBuffer.Dates dates = buffer.dates(5);
+
+            assertEquals(buffer.address(), status.address());
+            assertEquals(status.address() + 16, doubles.address());
+            assertEquals(doubles.address() + 32, pvs.address());
+            assertEquals(pvs.address() + 96, dates.date1().address());
+            assertEquals(dates.date1().address() + 40, dates.date2().address());
+            assertEquals(16 + 32 + 96 + 80, buffer.used());
+            assertEquals(buffer.used(), SofaBuffer.intsBytes(3) + SofaBuffer.doublesBytes(4)
+                    + SofaBuffer.recordsBytes(2, SofaBuffer.PV) + SofaBuffer.datesBytes(5));
+
+            status.set(2, -1);
+            doubles.put(new double[]{ 1, 2, 3, 4 });
+            pvs.put(0, new double[]{ 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 }, 0, 2);
+            dates.set(4, 2400000.5, 0.25);
+
+            assertArrayEquals(new int[]{ 0, 0, -1 }, status.toArray());
+            assertEquals(-1, status.pointer().get(2).intValue());
+            assertArrayEquals(new double[]{ 1, 2, 3, 4 }, doubles.toArray(), 0.0);
+            assertEquals(3.0, doubles.pointer().get(2), 0.0);
+            assertEquals(9.0, pvs.get(1, 3), 0.0);
+            assertEquals(9.0, pvs.pointer().get(9), 0.0);
+            assertEquals(pvs.address() + 8 * 9, pvs.address(1, 3));
+            assertEquals(0.25, dates.date2().get(4), 0.0);
+            assertEquals(2400000.75, dates.get(4), 0.0);
+
+            buffer.reset();
+            assertEquals(0, buffer.used());
+            assertEquals(-1, buffer.ints(3).get(2));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void t_full() {
+        try (SofaBuffer buffer = new SofaBuffer(64)) {
+            buffer.matrices(1);
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void t_bounds() {
+        try (SofaBuffer buffer = new SofaBuffer(64)) {
+            buffer.records(2, 3).get(0, 3);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void t_closed() {
+        SofaBuffer buffer = new SofaBuffer(64);
+        buffer.close();
+        buffer.doubles(1);
+    }
+
+    @Test public void t_useAfterClose() {
+        SofaBuffer buffer = new SofaBuffer(1024);
+        SofaBuffer.Dates utc = buffer.dates(4), tai = buffer.dates(4);
+        SofaBuffer.Records pv = buffer.pvs(4);
+        SofaBuffer.Ints status = buffer.ints(4);
+        buffer.close();
+        buffer.close();
+
+        assertIllegalState(() -> utc.date1().get(0));
+        assertIllegalState(() -> tai.date2().set(0, 1.0));
+        assertIllegalState(() -> utc.date1().put(new double[4]));
+        assertIllegalState(() -> status.toArray());
+        assertIllegalState(() -> pv.pointer());
+        assertIllegalState(() -> pv.address(0, 0));
+        assertIllegalState(buffer::address);
+        assertIllegalState(() -> BulkLibrary.bulkUtctai(utc, tai, status));
+        assertIllegalState(() -> BulkLibrary.bulkTaitt(utc, tai, status));
+        assertIllegalState(() -> BulkLibrary.bulkUtctdb(utc, 0.0, 0.0, 0.0, 0.0, tai, status));
+    }
+
+    @Test public void t_useAfterReset() {
+        try (SofaBuffer buffer = new SofaBuffer(1024)) {
+            SofaBuffer.Records pv = buffer.pvs(4);
+            SofaBuffer.Doubles elong = buffer.doubles(4), phi = buffer.doubles(4), height = buffer.doubles(4);
+            buffer.reset();
+            SofaBuffer.Doubles fresh = buffer.doubles(4);
+            fresh.set(0, 1.0);
+
+            assertIllegalState(() -> pv.get(0, 0));
+            assertIllegalState(() -> elong.set(0, 2.0));
+            assertIllegalState(() -> phi.address());
+            assertIllegalState(() -> BulkLibrary.bulkGc2gd(1, pv, elong, phi, height, null));
+            assertEquals(1.0, fresh.get(0), 0.0);
+        }
+    }
+
+    private static void assertIllegalState(Runnable use) {
+        try {
+            use.run();
+            fail("A view of a reset or closed SofaBuffer was used");
+        } catch (IllegalStateException expected) {
+            // the view is stale
+        }
+    }
+
+    @Test public void t_timeScales() {
+        int n = 1000;
+        double[] utc1 = new double[n], utc2 = new double[n];
+        for (int i = 0; i < n; i++) {
+            utc1[i] = 2400000.5;
+            utc2[i] = 41000.0 + i * 15.7 + 0.123456789;
+        }
+        utc1[0] = -1e9;
+
+        double[] tai1 = new double[n], tai2 = new double[n], tt1 = new double[n], tt2 = new double[n];
+        double[] tdb1 = new double[n], tdb2 = new double[n];
+        int[] status = new int[n], ttStatus = new int[n], tdbStatus = new int[n];
+        int bad = BulkLibrary.bulkUtctai(utc1, utc2, tai1, tai2, status);
+        BulkLibrary.bulkTaitt(tai1, tai2, tt1, tt2, ttStatus);
+        BulkLibrary.bulkUtctdb(utc1, utc2, 0.1, 5000.0, 3000.0, 1e-9, tdb1, tdb2, tdbStatus);
+
+        try (SofaBuffer buffer = new SofaBuffer(4 * SofaBuffer.datesBytes(n) + SofaBuffer.intsBytes(n))) {
+            SofaBuffer.Dates utc = buffer.dates(n), tai = buffer.dates(n), tt = buffer.dates(n), tdb = buffer.dates(n);
+            SofaBuffer.Ints s = buffer.ints(n);
+            utc.date1().put(utc1);
+            utc.date2().put(utc2);
+
+            assertEquals(bad, BulkLibrary.bulkUtctai(utc, tai, s));
+            assertArrayEquals(status, s.toArray());
+            for (int i = 0; i < n; i++) {
+                if (status[i] >= 0) {
+                    assertEquals(tai1[i], tai.date1().get(i), 0.0);
+                    assertEquals(tai2[i], tai.date2().get(i), 0.0);
+                }
+            }
+
+            BulkLibrary.bulkTaitt(tai, tt, s);
+            BulkLibrary.bulkUtctdb(utc, 0.1, 5000.0, 3000.0, 1e-9, tdb, s);
+            assertArrayEquals(tdbStatus, s.toArray());
+            for (int i = 1; i < n; i++) {
+                assertEquals(tt2[i], tt.date2().get(i), 0.0);
+                assertEquals(tdb2[i], tdb.date2().get(i), 0.0);
+            }
+        }
+    }
+
+    @Test public void t_gc2gdOnPv() {
+        int n = 50;
+        try (SofaBuffer buffer = new SofaBuffer(SofaBuffer.recordsBytes(n, SofaBuffer.PV) + 3 * SofaBuffer.doublesBytes(n) + SofaBuffer.intsBytes(n))) {
+            SofaBuffer.Records pv = buffer.pvs(n);
+            SofaBuffer.Doubles elong = buffer.doubles(n), phi = buffer.doubles(n), height = buffer.doubles(n);
+            SofaBuffer.Ints status = buffer.ints(n);
+            for (int i = 0; i < n; i++) {
+                pv.set(i, 0, 2e6 + 1e5 * i);
+                pv.set(i, 1, -3e6 + 2e4 * i);
+                pv.set(i, 2, 5e6 - 7e4 * i);
+                for (int j = 3; j < SofaBuffer.PV; j++)
+                    pv.set(i, j, 1e3 * j + i);
+            }
+
+            assertEquals(0, BulkLibrary.bulkGc2gd(1, pv, elong, phi, height, status));
+            double[] e = new double[1], p = new double[1], h = new double[1];
+            for (int i = 0; i < n; i++) {
+                assertEquals(0, SofaArrays.iauGc2gd(1, new double[]{ pv.get(i, 0), pv.get(i, 1), pv.get(i, 2) }, e, p, h));
+                assertEquals(e[0], elong.get(i), 0.0);
+                assertEquals(p[0], phi.get(i), 0.0);
+                assertEquals(h[0], height.get(i), 0.0);
+            }
+            assertEquals(0, BulkLibrary.bulkGc2gd(1, pv, elong, phi, height, null));
+        }
+    }
+
+}
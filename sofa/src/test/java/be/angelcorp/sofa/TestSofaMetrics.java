@@ -0,0 +1,110 @@
+package be.angelcorp.sofa;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bridj.Pointer;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link InstrumentedSofaLibrary} facade and the {@link SofaMetrics} it records (these tests run with the
+ * metrics enabled, in a separate surefire execution; see {@link TestSofaMetricsDisabled} for the default).
+ */
+public class TestSofaMetrics {
+
+    @Before
+    public void enabled() {
+        Assume.assumeTrue(SofaMetrics.ENABLED);
+    }
+
+    /** Calls of iauCal2jd, the first one with a bad year */
+    private static void cal2jd(int n) {
+        Pointer<Double> djm0 = Pointer.allocateDouble(), djm = Pointer.allocateDouble();
+        assertEquals(-1, InstrumentedSofaLibrary.iauCal2jd(-5000, 1, 1, djm0, djm));
+        for (int i = 1; i < n; i++)
+            assertEquals(0, InstrumentedSofaLibrary.iauCal2jd(2003, 6, 1, djm0, djm));
+        if (n > 1)
+            assertEquals(52791.0, djm.get(), 0.0);
+        Pointer.release(djm0, djm);
+    }
+
+    @Test public void facade() {
+        cal2jd(1);
+        SofaCallStatistics before = SofaMetrics.statistics("iauCal2jd");
+        cal2jd(100);
+        SofaCallStatistics after = SofaMetrics.statistics("iauCal2jd");
+
+        assertEquals(100, after.getCalls() - before.getCalls());
+        assertEquals(1, after.getNonZeroStatuses() - before.getNonZeroStatuses());
+        assertTrue(after.getTotalNanos() > before.getTotalNanos());
+        assertTrue(after.getP50Nanos() <= after.getP90Nanos() && after.getP90Nanos() <= after.getP99Nanos());
+        assertTrue(after.getMaxNanos() >= after.getP50Nanos() / 2);
+
+        // Functions without a status
+        double epb = InstrumentedSofaLibrary.iauEpb(2415019.8135, 30103.18648);
+        assertEquals(SofaLibrary.iauEpb(2415019.8135, 30103.18648), epb, 0.0);
+        assertTrue(SofaMetrics.statistics("iauEpb").getCalls() > 0);
+        assertEquals(0, SofaMetrics.statistics("iauEpb").getNonZeroStatuses());
+    }
+
+    @Test public void histogram() {
+        // Every bucket is the one of its highest latency and of the one after the previous bucket
+        long previous = -1;
+        for (int bucket = 0; bucket <= SofaMetrics.bucket(Long.MAX_VALUE); bucket++) {
+            long highest = SofaMetrics.highest(bucket);
+            assertEquals(bucket, SofaMetrics.bucket(previous + 1));
+            assertEquals(bucket, SofaMetrics.bucket(highest));
+            // Within 1/16
+            assertTrue(highest - previous <= Math.max(1, highest / 16));
+            previous = highest;
+        }
+        assertEquals(1L << 40, previous + 1);
+    }
+
+    @Test public void jmx() throws Exception {
+        cal2jd(10);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(SofaMetrics.OBJECT_NAME);
+        assertTrue((Long) server.getAttribute(name, "Calls") >= 10);
+        assertTrue((Long) server.getAttribute(name, "NonZeroStatuses") >= 1);
+
+        boolean found = false;
+        for (CompositeData function : (CompositeData[]) server.getAttribute(name, "Functions"))
+            if (function.get("function").equals("iauCal2jd"))
+                found = (Long) function.get("calls") >= 10 && (Long) function.get("p99Nanos") > 0;
+        assertTrue(found);
+    }
+
+    @Test public void jfr() throws Exception {
+        Path file = Files.createTempFile("sofa", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("be.angelcorp.sofa.Statistics").with("period", "endChunk");
+            recording.start();
+            cal2jd(10);
+            recording.stop();
+            recording.dump(file);
+
+            boolean found = false;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file))
+                if (event.getEventType().getName().equals("be.angelcorp.sofa.Statistics")
+                        && event.getString("function").equals("iauCal2jd"))
+                    found = event.getLong("calls") >= 10 && event.getLong("nonZeroStatuses") >= 1;
+            assertTrue(found);
+        } finally {
+            new File(file.toString()).delete();
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package be.angelcorp.sofa;
+
+import org.bridj.Pointer;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link InstrumentedSofaLibrary} facade with the {@link SofaMetrics} disabled, as in production by default
+ * (see {@link TestSofaMetrics} for the enabled metrics).
+ */
+public class TestSofaMetricsDisabled {
+
+    @Before
+    public void disabled() {
+        Assume.assumeFalse(SofaMetrics.ENABLED);
+    }
+
+    @Test public void facade() {
+        Pointer<Double> djm0 = Pointer.allocateDouble(), djm = Pointer.allocateDouble();
+        assertEquals(-1, InstrumentedSofaLibrary.iauCal2jd(-5000, 1, 1, djm0, djm));
+        assertEquals(0, InstrumentedSofaLibrary.iauCal2jd(2003, 6, 1, djm0, djm));
+        assertEquals(52791.0, djm.get(), 0.0);
+        Pointer.release(djm0, djm);
+        assertEquals(SofaLibrary.iauEpb(2415019.8135, 30103.18648), InstrumentedSofaLibrary.iauEpb(2415019.8135, 30103.18648), 0.0);
+
+        assertNull(SofaMetrics.function("iauCal2jd"));
+        assertNull(SofaMetrics.statistics("iauCal2jd"));
+        assertTrue(SofaMetrics.statistics().isEmpty());
+        SofaMetrics.reset();
+    }
+
+    @Test public void noMXBean() throws Exception {
+        InstrumentedSofaLibrary.iauEpb(2415019.8135, 30103.18648);
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(SofaMetrics.OBJECT_NAME)));
+    }
+
+}
@@ -0,0 +1,167 @@
+package be.angelcorp.sofa;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static be.angelcorp.sofa.StarCatalog.*;
+import static org.junit.Assert.*;
+
+/**
+ * Checks the {@link StarCatalog} file format, and compares its reductions with the single-star SOFA routines.
+ */
+public class TestStarCatalog {
+
+    /** Several windows of 1000 rows, the last one partial */
+    private static final int STARS = 2345;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    /** Random astrometric catalog at J2000.0, written with the given window size */
+    private Path catalog(int window) throws IOException {
+        Path file = folder.newFile().toPath();
+        Random random = new Random(42);
+        double[][] columns = new double[ASTROMETRIC][STARS];
+        for (int i = 0; i < STARS; i++) {
+            columns[RA][i]  = 2 * Math.PI * random.nextDouble();
+            columns[DEC][i] = Math.asin(2 * random.nextDouble() - 1);
+            columns[PMR][i] = 1e-7 * random.nextGaussian();
+            columns[PMD][i] = 1e-7 * random.nextGaussian();
+            columns[PX][i]  = 0.1 * random.nextDouble();
+            columns[RV][i]  = 50.0 * random.nextGaussian();
+        }
+        // A star without parallax gets a status of 1 from iauPmsafe
+        columns[PX][17] = 0.0;
+
+        try (StarCatalog catalog = StarCatalog.create(file, ASTROMETRIC, STARS, 2451545.0, 0.0)) {
+            catalog.window(window);
+            for (int c = 0; c < ASTROMETRIC; c++) {
+                catalog.put(c, 0, columns[c], 0, 1000);
+                catalog.put(c, 1000, columns[c], 1000, STARS - 1000);
+            }
+        }
+        return file;
+    }
+
+    @Test public void format() throws IOException {
+        Path file = catalog(1000);
+        assertEquals(HEADER_SIZE + 8L * ASTROMETRIC * STARS, Files.size(file));
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(MAGIC, bytes.getInt(0));
+        assertEquals(ASTROMETRIC, bytes.getInt(4));
+        assertEquals(STARS, bytes.getLong(8));
+        assertEquals(2451545.0, bytes.getDouble(16), 0.0);
+        assertEquals(0.0, bytes.getDouble(24), 0.0);
+
+        try (StarCatalog catalog = StarCatalog.open(file)) {
+            assertEquals(ASTROMETRIC, catalog.columns());
+            assertEquals(STARS, catalog.rows());
+            assertEquals(2451545.0, catalog.epoch1(), 0.0);
+            assertFalse(catalog.writable());
+
+            // Row 1500 of the declination column
+            double[] dec = new double[1];
+            catalog.get(DEC, 1500, dec, 0, 1);
+            assertEquals(bytes.getDouble(HEADER_SIZE + 8 * (DEC * STARS + 1500)), dec[0], 0.0);
+        }
+    }
+
+    @Test public void pmsafe() throws IOException {
+        Path file = catalog(1000);
+        Path out  = folder.newFile().toPath();
+        double ep2a = 2451545.0, ep2b = 8000.0;
+
+        try (StarCatalog source = StarCatalog.open(file).window(1000);
+             StarCatalog target = StarCatalog.create(out, ASTROMETRIC, STARS, ep2a, ep2b)) {
+            int bad = source.pmsafe(target);
+
+            double[][] in = read(source), result = read(target);
+            double[] e = new double[ASTROMETRIC];
+            int expectedBad = 0;
+            for (int i = 0; i < STARS; i++) {
+                int j = SofaArrays.iauPmsafe(in[RA][i], in[DEC][i], in[PMR][i], in[PMD][i], in[PX][i], in[RV][i],
+                        2451545.0, 0.0, ep2a, ep2b, e, 0, e, 1, e, 2, e, 3, e, 4, e, 5);
+                if (j != 0) expectedBad++;
+                for (int c = 0; c < ASTROMETRIC; c++)
+                    assertEquals(e[c], result[c][i], 0.0);
+            }
+            assertEquals(expectedBad, bad);
+            assertTrue(bad >= 1);
+        }
+    }
+
+    @Test public void atciq_atciqz() throws IOException {
+        double[] astrom = new double[SofaArrays.ASTROM_SIZE];
+        SofaArrays.iauApci13(2456165.5, 0.401182685, astrom, new double[1]);
+
+        Path file = catalog(1000);
+        try (StarCatalog source = StarCatalog.open(file).window(700);
+             StarCatalog full   = StarCatalog.create(folder.newFile().toPath(), 2, STARS, 0.0, 0.0);
+             StarCatalog zero   = StarCatalog.create(folder.newFile().toPath(), 2, STARS, 0.0, 0.0)) {
+            source.atciq(astrom, full);
+            source.atciqz(astrom, zero);
+
+            double[][] in = read(source), ciq = read(full), ciqz = read(zero);
+            double[] ri = new double[1], di = new double[1];
+            for (int i = 0; i < STARS; i++) {
+                SofaArrays.iauAtciq(in[RA][i], in[DEC][i], in[PMR][i], in[PMD][i], in[PX][i], in[RV][i], astrom, ri, di);
+                assertEquals(ri[0], ciq[0][i], 0.0);
+                assertEquals(di[0], ciq[1][i], 0.0);
+                SofaArrays.iauAtciqz(in[RA][i], in[DEC][i], astrom, ri, di);
+                assertEquals(ri[0], ciqz[0][i], 0.0);
+                assertEquals(di[0], ciqz[1][i], 0.0);
+            }
+        }
+    }
+
+    @Test public void shortAstrom() throws IOException {
+        double[] astrom = new double[SofaArrays.ASTROM_SIZE - 1];
+        Path file = catalog(1000);
+        try (StarCatalog source = StarCatalog.open(file);
+             StarCatalog target = StarCatalog.create(folder.newFile().toPath(), 2, STARS, 0.0, 0.0)) {
+            try {
+                source.atciq(astrom, target);
+                fail("atciq accepted " + astrom.length + " astrometry parameters");
+            } catch (IllegalArgumentException expected) {
+                // too short for an iauASTROM
+            }
+            try {
+                source.atciqz(astrom, target);
+                fail("atciqz accepted " + astrom.length + " astrometry parameters");
+            } catch (IllegalArgumentException expected) {
+                // too short for an iauASTROM
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void readOnlyTarget() throws IOException {
+        Path file = catalog(1000);
+        try (StarCatalog source = StarCatalog.open(file); StarCatalog target = StarCatalog.open(file)) {
+            source.pmsafe(target);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void notACatalog() throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[100]);
+        StarCatalog.open(file).close();
+    }
+
+    private static double[][] read(StarCatalog catalog) throws IOException {
+        double[][] columns = new double[catalog.columns()][STARS];
+        for (int c = 0; c < catalog.columns(); c++)
+            catalog.get(c, 0, columns[c], 0, STARS);
+        return columns;
+    }
+
+}
@@ -0,0 +1,221 @@
+package be.angelcorp.sofa;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link EopTable} and {@link TerrestrialFrameService} on synthetic IERS files around the leap second of
+ * 2012 July 1 (MJD 56109), against the SOFA routines.
+ */
+public class TestTerrestrialFrameService {
+
+    private static final double DAS2R = 4.848136811095359935899141e-6;
+    private static final int FIRST = 56080, DAYS = 60;
+
+    private static Path directory;
+    private static EopTable finals;
+
+    /** Smooth synthetic parameters: xp, yp (arcsec), UT1-TAI (s), dX, dY (mas) */
+    private static double[] truth(double mjd) {
+        double t = mjd - FIRST;
+        return new double[]{
+                0.1 + 0.05 * Math.sin(t / 60.0),
+                0.3 + 0.04 * Math.cos(t / 70.0),
+                -34.4 - 0.0012 * t + 0.0003 * Math.sin(t / 5.0),
+                0.2 * Math.sin(t / 40.0),
+                -0.1 + 0.1 * Math.cos(t / 50.0) };
+    }
+
+    /** TAI-UTC on a day */
+    private static double dat(int mjd) {
+        int[] iy = new int[1], im = new int[1], id = new int[1];
+        double[] fd = new double[1], dat = new double[1];
+        SofaArrays.iauJd2cal(2400000.5, mjd, iy, im, id, fd);
+        SofaArrays.iauDat(iy[0], im[0], id[0], 0.0, dat);
+        return dat[0];
+    }
+
+    @BeforeClass public static void files() throws IOException {
+        directory = Files.createTempDirectory("eop");
+        List<String> finals2000A = new ArrayList<>(), c04 = new ArrayList<>(), c20 = new ArrayList<>();
+        c04.add("  EOP (IERS) 14 C04 TIME SERIES  consistent with ITRF 2014");
+        c20.add("# EOP 20 C04");
+        for (int mjd = FIRST; mjd < FIRST + DAYS; mjd++) {
+            double[] v = truth(mjd);
+            double dut1 = v[2] + dat(mjd);
+            char[] line = new char[187];
+            Arrays.fill(line, ' ');
+            put(line, 1, "120701");
+            put(line, 8, String.format(Locale.ROOT, "%8.2f", (double) mjd));
+            put(line, 17, "I");
+            put(line, 19, String.format(Locale.ROOT, "%9.6f%9.6f", v[0], 0.0001));
+            put(line, 38, String.format(Locale.ROOT, "%9.6f%9.6f", v[1], 0.0001));
+            put(line, 58, "I");
+            put(line, 59, String.format(Locale.ROOT, "%10.7f%10.7f", dut1, 0.00001));
+            put(line, 96, "I");
+            put(line, 98, String.format(Locale.ROOT, "%9.3f", v[3]));
+            put(line, 117, String.format(Locale.ROOT, "%9.3f", v[4]));
+            finals2000A.add(new String(line));
+            c04.add(String.format(Locale.ROOT, "2012   7   1%7d%11.6f%11.6f%12.7f%12.7f%11.6f%11.6f%11.6f%11.6f",
+                    mjd, v[0], v[1], dut1, 0.001, v[3] / 1000, v[4] / 1000, 0.00003, 0.00003));
+            c20.add(String.format(Locale.ROOT, "2012  7  1  0 %9.2f %10.6f %10.6f %11.7f %10.6f %10.6f %10.6f %10.6f %11.7f",
+                    (double) mjd, v[0], v[1], dut1, v[3] / 1000, v[4] / 1000, 0.0, 0.0, 0.001));
+        }
+        // A prediction without polar motion ends the table
+        finals2000A.add(String.format(Locale.ROOT, "120901 %8.2f", (double) (FIRST + DAYS)));
+        Files.write(directory.resolve("finals2000A.all"), finals2000A, StandardCharsets.US_ASCII);
+        Files.write(directory.resolve("eopc04_14.txt"), c04, StandardCharsets.US_ASCII);
+        Files.write(directory.resolve("eopc04_20.txt"), c20, StandardCharsets.US_ASCII);
+        finals = EopTable.readFinals2000A(directory.resolve("finals2000A.all"));
+    }
+
+    /** Put a field at a 1-based column */
+    private static void put(char[] line, int column, String value) {
+        value.getChars(0, value.length(), line, column - 1);
+    }
+
+    @AfterClass public static void clean() throws IOException {
+        for (String file : new String[]{ "finals2000A.all", "eopc04_14.txt", "eopc04_20.txt" })
+            Files.deleteIfExists(directory.resolve(file));
+        Files.deleteIfExists(directory);
+    }
+
+    @Test public void read() throws IOException {
+        assertEquals(FIRST, finals.firstMjd(), 0.0);
+        assertEquals(DAYS, finals.days());
+
+        double[] expected = new double[EopTable.VALUES], actual = new double[EopTable.VALUES];
+        for (String file : new String[]{ "eopc04_14.txt", "eopc04_20.txt" }) {
+            EopTable c04 = EopTable.readC04(directory.resolve(file));
+            assertEquals(FIRST + DAYS - 1, c04.lastMjd(), 0.0);
+            for (double mjd = FIRST; mjd <= c04.lastMjd(); mjd += 0.7) {
+                finals.interpolate(mjd, expected, null);
+                c04.interpolate(mjd, actual, null);
+                assertArrayEquals(file, expected, actual, 1e-15);
+            }
+        }
+
+        // The values of the days
+        for (int mjd = FIRST; mjd < FIRST + DAYS; mjd++) {
+            double[] v = truth(mjd);
+            finals.interpolate(mjd, actual, null);
+            assertEquals(v[0] * DAS2R, actual[EopTable.XP], 1e-6 * DAS2R);
+            assertEquals(v[1] * DAS2R, actual[EopTable.YP], 1e-6 * DAS2R);
+            assertEquals(v[2] + dat(mjd), actual[EopTable.DUT1], 1e-7);
+            assertEquals(v[2], actual[EopTable.UT1_TAI], 1e-7);
+            assertEquals(v[3] * DAS2R / 1000, actual[EopTable.DX], 1e-3 * DAS2R / 1000);
+        }
+    }
+
+    @Test public void interpolate() {
+        double[] values = new double[EopTable.VALUES], rates = new double[EopTable.VALUES];
+        for (double mjd = FIRST + 0.5; mjd < FIRST + DAYS - 1; mjd += 0.25) {
+            double[] v = truth(mjd);
+            finals.interpolate(mjd, values, rates);
+            assertEquals(v[0] * DAS2R, values[EopTable.XP], 1e-6 * DAS2R);
+            assertEquals(v[4] * DAS2R / 1000, values[EopTable.DY], 1e-3 * DAS2R / 1000);
+            // Continuous UT1-TAI across the leap second, and UT1-UTC jumping by one second
+            assertEquals(v[2], values[EopTable.UT1_TAI], 1e-6);
+            assertEquals(v[2] + dat((int) Math.floor(mjd)), values[EopTable.DUT1], 1e-6);
+
+            double h = 0.01;
+            double[] v1 = truth(mjd - h), v2 = truth(mjd + h);
+            assertEquals((v2[0] - v1[0]) * DAS2R / (2 * h * 86400), rates[EopTable.XP], 1e-6 * DAS2R / 86400);
+            assertEquals((v2[2] - v1[2]) / (2 * h * 86400), rates[EopTable.DUT1], 1e-6 / 86400);
+        }
+        assertEquals(dat(56109) - dat(56108), 1.0, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outside() {
+        finals.interpolate(FIRST + DAYS, new double[EopTable.VALUES], null);
+    }
+
+    @Test public void rc2t() {
+        TerrestrialFrameService frames = new TerrestrialFrameService(finals);
+        double[] eop = new double[EopTable.VALUES];
+        double[] rc2t = new double[9], drc2t = new double[9], rpom = new double[9], drpom = new double[9];
+        double[] tai1 = new double[1], tai2 = new double[1], tt1 = new double[1], tt2 = new double[1];
+        double[] ut11 = new double[1], ut12 = new double[1];
+        double[] x = new double[1], y = new double[1], s = new double[1];
+        double[] rc2i = new double[9], expected = new double[9], pom = new double[9];
+        for (int i = 0; i < 50; i++) {
+            double utc1 = 2400000.5, utc2 = FIRST + 2 + i * 1.1 + 0.123;
+            frames.rc2t(utc1, utc2, rc2t, drc2t);
+            frames.rpom(utc1, utc2, rpom, drpom);
+            frames.eop(utc1, utc2, eop);
+
+            // The IERS Conventions with the SOFA routines
+            SofaArrays.iauUtctai(utc1, utc2, tai1, tai2);
+            SofaArrays.iauTaitt(tai1[0], tai2[0], tt1, tt2);
+            SofaArrays.iauUtcut1(utc1, utc2, eop[EopTable.DUT1], ut11, ut12);
+            SofaArrays.iauXys06a(tt1[0], tt2[0], x, y, s);
+            SofaArrays.iauC2ixys(x[0] + eop[EopTable.DX], y[0] + eop[EopTable.DY], s[0], rc2i);
+            SofaArrays.iauPom00(eop[EopTable.XP], eop[EopTable.YP], SofaLibrary.iauSp00(tt1[0], tt2[0]), pom);
+            SofaArrays.iauC2tcio(rc2i, SofaLibrary.iauEra00(ut11[0], ut12[0]), pom, expected);
+            assertArrayEquals(expected, rc2t, 1e-15);
+            assertArrayEquals(pom, rpom, 0.0);
+
+            // Without the offsets, iauC2t06a
+            SofaArrays.iauC2t06a(tt1[0], tt2[0], ut11[0], ut12[0], eop[EopTable.XP], eop[EopTable.YP], expected);
+            SofaArrays.iauXys06a(tt1[0], tt2[0], x, y, s);
+            SofaArrays.iauC2ixys(x[0], y[0], s[0], rc2i);
+            SofaArrays.iauC2tcio(rc2i, SofaLibrary.iauEra00(ut11[0], ut12[0]), pom, rc2i);
+            assertArrayEquals(expected, rc2i, 0.0);
+
+            // Derivatives, against central differences (a second of UTC is longer on the day of the leap second)
+            int day = (int) Math.floor(utc2);
+            double second = (86400 + dat(day + 1) - dat(day)) / 86400;
+            double[] r1 = new double[9], r2 = new double[9];
+            frames.rc2t(utc1, utc2 - 1.0 / 86400, r1, null);
+            frames.rc2t(utc1, utc2 + 1.0 / 86400, r2, null);
+            for (int k = 0; k < 9; k++)
+                assertEquals((r2[k] - r1[k]) / (2 * second), drc2t[k], 1e-10);
+            frames.rpom(utc1, utc2 - 0.01, r1, null);
+            frames.rpom(utc1, utc2 + 0.01, r2, null);
+            for (int k = 0; k < 9; k++)
+                assertEquals((r2[k] - r1[k]) / (0.02 * 86400 * second), drpom[k], 1e-19);
+        }
+    }
+
+    @Test public void trajectory() {
+        TerrestrialFrameService frames = new TerrestrialFrameService(finals, 256, CipTable.standard());
+        int n = 100;
+        double[] utc1 = new double[n], utc2 = new double[n];
+        for (int i = 0; i < n; i++) {
+            utc1[i] = 2456109.5;
+            utc2[i] = -0.5 + i / 100.0;
+        }
+        double[] rc2t = new double[9 * n], drc2t = new double[9 * n];
+        frames.rc2t(utc1, utc2, rc2t, drc2t);
+        assertEquals(n, frames.misses());
+        long computed = frames.misses();
+
+        double[] r = new double[9], dr = new double[9];
+        for (int i = 0; i < n; i++) {
+            frames.rc2t(utc1[i], utc2[i], r, dr);
+            assertArrayEquals(Arrays.copyOfRange(rc2t, 9 * i, 9 * i + 9), r, 0.0);
+            assertArrayEquals(Arrays.copyOfRange(drc2t, 9 * i, 9 * i + 9), dr, 0.0);
+        }
+        assertEquals(n, frames.hits() + frames.misses() - computed);
+        assertEquals(true, frames.hits() > 0);
+
+        // The CIP table is within a microarcsecond of iauXys06a
+        new TerrestrialFrameService(finals).rc2t(utc1[n - 1], utc2[n - 1], r, null);
+        assertArrayEquals(r, Arrays.copyOfRange(rc2t, 9 * (n - 1), 9 * n), 1e-11);
+    }
+
+}
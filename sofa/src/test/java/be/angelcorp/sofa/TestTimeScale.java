@@ -0,0 +1,137 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static be.angelcorp.sofa.TimeScale.*;
+import static org.junit.Assert.*;
+
+/**
+ * Compares the {@link TimeScale} conversions of {@link JulianDate}s bit for bit with the native SOFA routines.
+ */
+public class TestTimeScale {
+
+    /** Dates in 1960-2030 (pre-1972 drift, leap second days and the current era), split in the SOFA styles */
+    private static List<JulianDate> dates() {
+        List<JulianDate> dates = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            double jd = 2436934.5 + random.nextDouble() * 25500.0;
+            double day = Math.floor(jd - 0.5) + 0.5;
+            dates.add(JulianDate.of(day, jd - day));
+            dates.add(JulianDate.of(jd - day, day));
+            dates.add(JulianDate.ofMjd(jd - 2400000.5));
+        }
+        // The leap second at the end of 2012 June 30, and the following midnight
+        dates.add(JulianDate.of(2456109.5, 0.999994));
+        dates.add(JulianDate.of(2456109.5, 1.0));
+        dates.add(JulianDate.of(2456110.5, 0.0));
+        return dates;
+    }
+
+    @Test public void steps() {
+        double[] a = new double[1], b = new double[1];
+        for (JulianDate d : dates()) {
+            double d1 = d.jd1(), d2 = d.jd2();
+
+            SofaArrays.iauUtctai(d1, d2, a, b);
+            assertDate(a, b, UTC.convert(d, TAI));
+            SofaArrays.iauTaiutc(d1, d2, a, b);
+            assertDate(a, b, TAI.convert(d, UTC));
+            SofaArrays.iauTaitt(d1, d2, a, b);
+            assertDate(a, b, TAI.convert(d, TT));
+            SofaArrays.iauTttai(d1, d2, a, b);
+            assertDate(a, b, TT.convert(d, TAI));
+            SofaArrays.iauTttcg(d1, d2, a, b);
+            assertDate(a, b, TT.convert(d, TCG));
+            SofaArrays.iauTcgtt(d1, d2, a, b);
+            assertDate(a, b, TCG.convert(d, TT));
+            SofaArrays.iauTttdb(d1, d2, dtr(d1, d2), a, b);
+            assertDate(a, b, TT.convert(d, TDB));
+            SofaArrays.iauTdbtt(d1, d2, dtr(d1, d2), a, b);
+            assertDate(a, b, TDB.convert(d, TT));
+            SofaArrays.iauTdbtcb(d1, d2, a, b);
+            assertDate(a, b, TDB.convert(d, TCB));
+            SofaArrays.iauTcbtdb(d1, d2, a, b);
+            assertDate(a, b, TCB.convert(d, TDB));
+        }
+    }
+
+    @Test public void chains() {
+        double[] a = new double[1], b = new double[1];
+        for (JulianDate d : dates()) {
+            // UTC -> TAI -> TT -> TDB
+            SofaArrays.iauUtctai(d.jd1(), d.jd2(), a, b);
+            SofaArrays.iauTaitt(a[0], b[0], a, b);
+            SofaArrays.iauTttdb(a[0], b[0], dtr(a[0], b[0]), a, b);
+            assertDate(a, b, UTC.convert(d, TDB));
+
+            // TCB -> TDB -> TT -> TAI -> UTC
+            SofaArrays.iauTcbtdb(d.jd1(), d.jd2(), a, b);
+            SofaArrays.iauTdbtt(a[0], b[0], dtr(a[0], b[0]), a, b);
+            SofaArrays.iauTttai(a[0], b[0], a, b);
+            SofaArrays.iauTaiutc(a[0], b[0], a, b);
+            assertDate(a, b, TCB.convert(d, UTC));
+
+            // TCG -> TT -> TDB -> TCB
+            SofaArrays.iauTcgtt(d.jd1(), d.jd2(), a, b);
+            SofaArrays.iauTttdb(a[0], b[0], dtr(a[0], b[0]), a, b);
+            SofaArrays.iauTdbtcb(a[0], b[0], a, b);
+            assertDate(a, b, TCG.convert(d, TCB));
+        }
+    }
+
+    @Test public void roundTrips() {
+        for (JulianDate d : dates())
+            for (TimeScale from : TimeScale.values())
+                for (TimeScale to : TimeScale.values()) {
+                    // iauTdbtcb of this SOFA release has the wrong sign with the smaller part first
+                    boolean tcb = (from == TCB || to == TCB) && from != to;
+                    if (tcb && Math.abs(d.jd1()) < Math.abs(d.jd2()))
+                        continue;
+                    JulianDate back = to.convert(from.convert(d, to), from);
+                    // Within 1 microsecond, and the split is preserved
+                    assertEquals(from + " " + to + " " + d, 0.0, back.secondsSince(d), 1e-6);
+                    assertEquals(Math.abs(d.jd1()) >= Math.abs(d.jd2()), Math.abs(back.jd1()) >= Math.abs(back.jd2()));
+                }
+        JulianDate d = JulianDate.of(2453750.5, 0.892482639);
+        assertSame(d, TT.convert(d, TT));
+    }
+
+    @Test public void julianDate() {
+        JulianDate d = JulianDate.of(2451545.0, -1421.3);
+        assertEquals(2451545.0 - 1421.3, d.jd(), 0.0);
+        assertEquals(51544.5 - 1421.3, d.mjd(), 1e-10);
+        assertEquals(-1421.3 / 36525.0, d.centuriesSinceJ2000(), 0.0);
+
+        // Offsets are added to the small part
+        JulianDate later = d.plusSeconds(86400.0 * 0.25);
+        assertEquals(2451545.0, later.jd1(), 0.0);
+        assertEquals(-1421.05, later.jd2(), 1e-12);
+        assertEquals(0.25, later.daysSince(d), 1e-12);
+        assertEquals(0.25, JulianDate.of(0.0, 2451545.0).plusDays(0.25).jd1(), 0.0);
+
+        assertEquals(JulianDate.of(2451545.0, 0.0), JulianDate.J2000);
+        assertEquals(JulianDate.J2000.hashCode(), JulianDate.of(2451545.0, 0.0).hashCode());
+        assertNotEquals(JulianDate.of(0.0, 2451545.0), JulianDate.J2000);
+        assertEquals(0.0, JulianDate.of(0.0, 2451545.0).daysSince(JulianDate.J2000), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfRange() {
+        UTC.convert(JulianDate.of(-1e6, 0.0), TAI);
+    }
+
+    private static double dtr(double d1, double d2) {
+        return SofaLibrary.iauDtdb(d1, d2, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    private static void assertDate(double[] jd1, double[] jd2, JulianDate actual) {
+        assertEquals(Double.doubleToLongBits(jd1[0]), Double.doubleToLongBits(actual.jd1()));
+        assertEquals(Double.doubleToLongBits(jd2[0]), Double.doubleToLongBits(actual.jd2()));
+    }
+
+}
@@ -0,0 +1,278 @@
+package be.angelcorp.sofa;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks {@link Vml} against the native routines through {@link SofaArrays}: bit for bit for the routines without
+ * trigonometric functions, within a few ulp for the others.
+ */
+public class TestVml {
+
+    private static final int SAMPLES = 2000;
+
+    /** Tolerance for the routines that use sin, cos or atan2, for arguments of order 1 */
+    private static final double TRIG = 1e-15;
+
+    private final Random random = new Random(42);
+
+    @Test public void matrices() {
+        double[] a = new double[9], b = new double[9], p = new double[3], pv = new double[6];
+        double[] expected = new double[9], actual = new double[9];
+        for (int i = 0; i < SAMPLES; i++) {
+            fill(a); fill(b); fill(p); fill(pv);
+
+            SofaArrays.iauRxr(a, b, expected);
+            Vml.rxr(a, b, actual);
+            assertBits(expected, actual, 9);
+
+            SofaArrays.iauTr(a, expected);
+            Vml.tr(a, actual);
+            assertBits(expected, actual, 9);
+
+            SofaArrays.iauRxp(a, p, expected);
+            Vml.rxp(a, p, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauTrxp(a, p, expected);
+            Vml.trxp(a, p, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauRxpv(a, pv, expected);
+            Vml.rxpv(a, pv, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauTrxpv(a, pv, expected);
+            Vml.trxpv(a, pv, actual);
+            assertBits(expected, actual, 6);
+        }
+    }
+
+    @Test public void vectors() {
+        double[] a = new double[6], b = new double[6];
+        double[] expected = new double[6], actual = new double[6];
+        double[] r = new double[1], s = new double[1];
+        for (int i = 0; i < SAMPLES; i++) {
+            fill(a); fill(b);
+            double scalar = random.nextGaussian();
+
+            assertBits(SofaArrays.iauPdp(a, b), Vml.pdp(a, b));
+            assertBits(SofaArrays.iauPm(a), Vml.pm(a));
+            assertBits(SofaLibrary.iauAnp(scalar * 100), Vml.anp(scalar * 100));
+            assertBits(SofaLibrary.iauAnpm(scalar * 100), Vml.anpm(scalar * 100));
+
+            SofaArrays.iauPmp(a, b, expected);
+            Vml.pmp(a, b, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPpp(a, b, expected);
+            Vml.ppp(a, b, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPpsp(a, scalar, b, expected);
+            Vml.ppsp(a, scalar, b, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPxp(a, b, expected);
+            Vml.pxp(a, b, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauSxp(scalar, a, expected);
+            Vml.sxp(scalar, a, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPn(a, r, expected);
+            Vml.pn(a, s, actual);
+            assertBits(r[0], s[0]);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPvdpv(a, b, expected);
+            Vml.pvdpv(a, b, actual);
+            assertBits(expected, actual, 2);
+
+            SofaArrays.iauPvm(a, 0, expected, 0, expected, 1);
+            Vml.pvm(a, 0, actual, 0, actual, 1);
+            assertBits(expected, actual, 2);
+
+            SofaArrays.iauPvmpv(a, b, expected);
+            Vml.pvmpv(a, b, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauPvppv(a, b, expected);
+            Vml.pvppv(a, b, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauPvu(scalar, a, expected);
+            Vml.pvu(scalar, a, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauPvup(scalar, a, expected);
+            Vml.pvup(scalar, a, actual);
+            assertBits(expected, actual, 3);
+
+            SofaArrays.iauPvxpv(a, b, expected);
+            Vml.pvxpv(a, b, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauS2xpv(scalar, 2 * scalar, a, expected);
+            Vml.s2xpv(scalar, 2 * scalar, a, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauSxpv(scalar, a, expected);
+            Vml.sxpv(scalar, a, actual);
+            assertBits(expected, actual, 6);
+
+            SofaArrays.iauPv2s(a, 0, expected, 0, expected, 1, expected, 2, expected, 3, expected, 4, expected, 5);
+            Vml.pv2s(a, 0, actual, 0, actual, 1, actual, 2, actual, 3, actual, 4, actual, 5);
+            assertEquals(expected[0], actual[0], TRIG);
+            assertEquals(expected[1], actual[1], TRIG);
+            assertBits(expected, actual, 2, 4);
+        }
+    }
+
+    @Test public void trigonometric() {
+        double[] a = new double[9], b = new double[9];
+        double[] expected = new double[9], actual = new double[9];
+        for (int i = 0; i < SAMPLES; i++) {
+            unit(a); unit(b);
+            double t = random.nextGaussian(), u = random.nextGaussian();
+
+            System.arraycopy(a, 0, expected, 0, 9);
+            System.arraycopy(a, 0, actual, 0, 9);
+            SofaArrays.iauRx(t, expected);
+            Vml.rx(t, actual);
+            assertClose(expected, actual, 9);
+            SofaArrays.iauRy(u, expected);
+            Vml.ry(u, actual);
+            assertClose(expected, actual, 9);
+            SofaArrays.iauRz(t, expected);
+            Vml.rz(t, actual);
+            assertClose(expected, actual, 9);
+
+            SofaArrays.iauRv2m(a, expected);
+            Vml.rv2m(a, actual);
+            assertClose(expected, actual, 9);
+
+            SofaArrays.iauRm2v(expected, b);
+            Vml.rm2v(expected, actual);
+            assertClose(b, actual, 3);
+
+            assertEquals(SofaArrays.iauPap(a, b), Vml.pap(a, b), TRIG);
+            assertEquals(SofaArrays.iauSepp(a, b), Vml.sepp(a, b), TRIG);
+            assertEquals(SofaLibrary.iauPas(t, u, a[0], a[1]), Vml.pas(t, u, a[0], a[1]), TRIG);
+            assertEquals(SofaLibrary.iauSeps(t, u, a[0], a[1]), Vml.seps(t, u, a[0], a[1]), TRIG);
+
+            SofaArrays.iauC2s(a, 0, expected, 0, expected, 1);
+            Vml.c2s(a, 0, actual, 0, actual, 1);
+            assertClose(expected, actual, 2);
+
+            SofaArrays.iauP2s(a, 0, expected, 0, expected, 1, expected, 2);
+            Vml.p2s(a, 0, actual, 0, actual, 1, actual, 2);
+            assertClose(expected, actual, 2);
+            assertBits(expected[2], actual[2]);
+
+            SofaArrays.iauS2c(t, u, expected);
+            Vml.s2c(t, u, actual);
+            assertClose(expected, actual, 3);
+
+            SofaArrays.iauS2p(t, u, a[2], expected);
+            Vml.s2p(t, u, a[2], actual);
+            assertClose(expected, actual, 3);
+
+            SofaArrays.iauS2pv(t, u, a[0], a[1], a[2], a[3], expected);
+            Vml.s2pv(t, u, a[0], a[1], a[2], a[3], actual);
+            assertClose(expected, actual, 6);
+        }
+    }
+
+    @Test public void nullVectors() {
+        double[] zero = new double[6];
+        double[] r = { -1.0 }, u = { -1.0, -1.0, -1.0 };
+
+        Vml.pn(zero, r, u);
+        assertBits(new double[] { 0.0, 0.0, 0.0 }, u, 3);
+        assertBits(0.0, r[0]);
+
+        assertBits(0.0, Vml.sepp(zero, zero));
+        assertBits(0.0, Vml.pap(zero, new double[] { 1.0, 2.0, 3.0 }));
+
+        double[] identity = new double[9], w = { -1.0, -1.0, -1.0 };
+        Vml.ir(identity);
+        Vml.rm2v(identity, w);
+        assertBits(new double[] { 0.0, 0.0, 0.0 }, w, 3);
+
+        // A null position moves the origin along the velocity
+        double[] pv = { 0.0, 0.0, 0.0, 1.0, 2.0, 3.0 };
+        double[] expected = new double[6], actual = new double[6];
+        SofaArrays.iauPv2s(pv, 0, expected, 0, expected, 1, expected, 2, expected, 3, expected, 4, expected, 5);
+        Vml.pv2s(pv, 0, actual, 0, actual, 1, actual, 2, actual, 3, actual, 4, actual, 5);
+        assertClose(expected, actual, 6);
+    }
+
+    @Test public void alias() {
+        double[] a = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+        double[] b = { 1.0, 2.0, 2.0, 4.0, 1.0, 1.0, 3.0, 0.0, 1.0 };
+        double[] expected = new double[9];
+
+        SofaArrays.iauRxr(a, b, expected);
+        Vml.rxr(a, b, a);
+        assertBits(expected, a, 9);
+
+        SofaArrays.iauRxr(b, b, expected);
+        Vml.rxr(b, b, b);
+        assertBits(expected, b, 9);
+
+        double[] pv = { 0.2, 1.5, 0.1, 1.1, -0.4, 0.5 };
+        SofaArrays.iauPvxpv(pv, b, expected);
+        Vml.pvxpv(pv, b, pv);
+        assertBits(expected, pv, 6);
+    }
+
+    @Test public void offsets() {
+        double[] r  = { 2.0, 3.0, 2.0, 3.0, 2.0, 3.0, 3.0, 4.0, 5.0 };
+        double[] pv = { -1, 0.2, 1.5, 0.1, -1, -1, -1 };
+
+        // Same reference values as TestSofaArrays.t_rxp_offsets
+        Vml.rxp(r, 0, pv, 1, pv, 4);
+
+        assertEquals(0.2, pv[1], 0.0);
+        assertEquals(5.1, pv[4], 1e-12);
+        assertEquals(3.9, pv[5], 1e-12);
+        assertEquals(7.1, pv[6], 1e-12);
+        assertEquals(-1,  pv[0], 0.0);
+    }
+
+    /** Random values over several orders of magnitude, with some exact zeros */
+    private void fill(double[] values) {
+        for (int i = 0; i < values.length; i++)
+            values[i] = random.nextInt(20) == 0 ? 0.0 : random.nextGaussian() * Math.pow(10, random.nextInt(7) - 3);
+    }
+
+    /** Random values of order 1 */
+    private void unit(double[] values) {
+        for (int i = 0; i < values.length; i++)
+            values[i] = random.nextGaussian();
+    }
+
+    private static void assertBits(double expected, double actual) {
+        assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+    }
+
+    private static void assertBits(double[] expected, double[] actual, int n) {
+        assertBits(expected, actual, 0, n);
+    }
+
+    private static void assertBits(double[] expected, double[] actual, int offset, int n) {
+        for (int i = offset; i < offset + n; i++)
+            assertBits(expected[i], actual[i]);
+    }
+
+    private static void assertClose(double[] expected, double[] actual, int n) {
+        for (int i = 0; i < n; i++)
+            assertEquals(expected[i], actual[i], TRIG * Math.max(1.0, Math.abs(expected[i])));
+    }
+
+}